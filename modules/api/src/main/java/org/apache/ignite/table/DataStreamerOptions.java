@@ -32,6 +32,10 @@ public class DataStreamerOptions {
 
     private final int retryLimit;
 
+    private final boolean bulkLoad;
+
+    private final boolean adaptiveBatching;
+
     /**
      * Constructor.
      *
@@ -39,12 +43,23 @@ public class DataStreamerOptions {
      * @param perPartitionParallelOperations Per partition parallel operations.
      * @param autoFlushInterval Auto flush interval.
      * @param retryLimit Retry limit.
+     * @param bulkLoad Bulk load mode.
+     * @param adaptiveBatching Adaptive batching.
      */
-    private DataStreamerOptions(int pageSize, int perPartitionParallelOperations, int autoFlushInterval, int retryLimit) {
+    private DataStreamerOptions(
+            int pageSize,
+            int perPartitionParallelOperations,
+            int autoFlushInterval,
+            int retryLimit,
+            boolean bulkLoad,
+            boolean adaptiveBatching
+    ) {
         this.pageSize = pageSize;
         this.perPartitionParallelOperations = perPartitionParallelOperations;
         this.autoFlushInterval = autoFlushInterval;
         this.retryLimit = retryLimit;
+        this.bulkLoad = bulkLoad;
+        this.adaptiveBatching = adaptiveBatching;
     }
 
     /**
@@ -94,6 +109,24 @@ public class DataStreamerOptions {
         return retryLimit;
     }
 
+    /**
+     * Gets a value indicating whether the bulk load mode is enabled. See {@link Builder#bulkLoad(boolean)}.
+     *
+     * @return Whether the bulk load mode is enabled.
+     */
+    public boolean bulkLoad() {
+        return bulkLoad;
+    }
+
+    /**
+     * Gets a value indicating whether adaptive batching is enabled. See {@link Builder#adaptiveBatching(boolean)}.
+     *
+     * @return Whether adaptive batching is enabled.
+     */
+    public boolean adaptiveBatching() {
+        return adaptiveBatching;
+    }
+
     /**
      * Builder.
      */
@@ -106,6 +139,10 @@ public class DataStreamerOptions {
 
         private int retryLimit = 16;
 
+        private boolean bulkLoad;
+
+        private boolean adaptiveBatching;
+
         /**
          * Sets the page size (the number of entries that will be sent to the cluster in one network call).
          *
@@ -164,13 +201,51 @@ public class DataStreamerOptions {
             return this;
         }
 
+        /**
+         * Sets the bulk load mode. In this mode, every page locks its partition of the table exclusively instead of locking individual
+         * rows, which makes loading considerably cheaper, but blocks other transactions that access the same partitions while a page is
+         * being written. Intended for initial loads into tables that are not used by other transactions yet.
+         *
+         * <p>The mode has no effect when a receiver is used.
+         *
+         * @param bulkLoad Whether the bulk load mode is enabled.
+         * @return This builder instance.
+         */
+        public Builder bulkLoad(boolean bulkLoad) {
+            this.bulkLoad = bulkLoad;
+
+            return this;
+        }
+
+        /**
+         * Sets the adaptive batching mode. In this mode, the streamer tunes the page size and the number of parallel operations of
+         * every partition based on the observed round-trip time: it shrinks them when the cluster responds slower (for example, when it
+         * is overloaded and rejects requests that have to be retried) and grows them back when the responses are fast again.
+         * {@link #pageSize(int)} and {@link #perPartitionParallelOperations(int)} are the upper limits in this mode.
+         *
+         * @param adaptiveBatching Whether adaptive batching is enabled.
+         * @return This builder instance.
+         */
+        public Builder adaptiveBatching(boolean adaptiveBatching) {
+            this.adaptiveBatching = adaptiveBatching;
+
+            return this;
+        }
+
         /**
          * Builds the options.
          *
          * @return Data streamer options.
          */
         public DataStreamerOptions build() {
-            return new DataStreamerOptions(pageSize, perPartitionParallelOperations, autoFlushInterval, retryLimit);
+            return new DataStreamerOptions(
+                    pageSize,
+                    perPartitionParallelOperations,
+                    autoFlushInterval,
+                    retryLimit,
+                    bulkLoad,
+                    adaptiveBatching
+            );
         }
     }
 }
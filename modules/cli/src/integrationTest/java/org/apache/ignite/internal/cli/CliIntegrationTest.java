@@ -88,6 +88,7 @@ public abstract class CliIntegrationTest extends ClusterPerClassIntegrationTest
             new MetricSource().name("index.builder").enabled(true),
             new MetricSource().name("raft.snapshots").enabled(true),
             new MetricSource().name("messaging").enabled(true),
+            new MetricSource().name("network.compression").enabled(true),
             new MetricSource().name("log.storage").enabled(true),
             new MetricSource().name(THREAD_POOLS_METRICS_SOURCE_NAME + "striped.messaging.inbound.default").enabled(true),
             new MetricSource().name(THREAD_POOLS_METRICS_SOURCE_NAME + "striped.messaging.inbound.deploymentunits").enabled(true),
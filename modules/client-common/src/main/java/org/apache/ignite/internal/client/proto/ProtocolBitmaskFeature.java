@@ -112,7 +112,12 @@ public enum ProtocolBitmaskFeature {
     /**
      * Send discard requests to directly mapped partitions.
      */
-    TX_DIRECT_MAPPING_SEND_DISCARD(17);
+    TX_DIRECT_MAPPING_SEND_DISCARD(17),
+
+    /**
+     * Streamer batch send requests carry the bulk load flag.
+     */
+    STREAMER_BULK_LOAD(18);
 
     private static final EnumSet<ProtocolBitmaskFeature> ALL_FEATURES_AS_ENUM_SET =
             EnumSet.allOf(ProtocolBitmaskFeature.class);
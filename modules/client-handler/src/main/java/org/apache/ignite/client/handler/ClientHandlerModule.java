@@ -102,7 +102,8 @@ public class ClientHandlerModule implements IgniteComponent, PlatformComputeTran
             ProtocolBitmaskFeature.COMPUTE_OBSERVABLE_TS,
             ProtocolBitmaskFeature.TX_DIRECT_MAPPING_SEND_REMOTE_WRITES,
             ProtocolBitmaskFeature.SQL_PARTITION_AWARENESS_TABLE_NAME,
-            ProtocolBitmaskFeature.TX_DIRECT_MAPPING_SEND_DISCARD
+            ProtocolBitmaskFeature.TX_DIRECT_MAPPING_SEND_DISCARD,
+            ProtocolBitmaskFeature.STREAMER_BULK_LOAD
     ));
 
     /** Connection id generator.
@@ -330,6 +331,7 @@ public class ClientHandlerModule implements IgniteComponent, PlatformComputeTran
      * @return Channel future.
      */
     private CompletableFuture<Channel> startEndpoint(ClientConnectorView configuration) {
+        // Shares the event loops, and therefore the transport (NIO, epoll or io_uring), with the cluster network.
         ServerBootstrap bootstrap = bootstrapFactory.createServerBootstrap();
         CompletableFuture<Channel> result = new CompletableFuture<>();
 
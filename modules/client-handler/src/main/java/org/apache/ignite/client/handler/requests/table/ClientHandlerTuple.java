@@ -22,6 +22,7 @@ import java.util.List;
 import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
 import org.apache.ignite.internal.client.table.MutableTupleBinaryTupleAdapter;
 import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.DefaultValueProvider;
 import org.apache.ignite.internal.schema.SchemaAware;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.lang.util.IgniteNameUtils;
@@ -38,6 +39,12 @@ class ClientHandlerTuple extends MutableTupleBinaryTupleAdapter implements Schem
 
     private final boolean keyOnly;
 
+    /**
+     * Binary tuple to expose even though some of its columns are not set, because the defaults of all of them are {@code null} and the
+     * tuple can be used as is; {@code null} otherwise.
+     */
+    private final @Nullable BinaryTupleReader nullDefaultsTuple;
+
     /**
      * Constructor.
      *
@@ -53,6 +60,16 @@ class ClientHandlerTuple extends MutableTupleBinaryTupleAdapter implements Schem
 
         this.schema = schema;
         this.keyOnly = keyOnly;
+
+        nullDefaultsTuple = noValueSet != null && !noValueSet.isEmpty() && unsetColumnsDefaultToNull(noValueSet) ? tuple : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable BinaryTupleReader binaryTuple() {
+        BinaryTupleReader tuple = super.binaryTuple();
+
+        return tuple != null ? tuple : nullDefaultsTuple;
     }
 
     /** {@inheritDoc} */
@@ -120,6 +137,18 @@ class ClientHandlerTuple extends MutableTupleBinaryTupleAdapter implements Schem
         return ClientTableCommon.getDecimalScale(column(binaryTupleIndex).type());
     }
 
+    private boolean unsetColumnsDefaultToNull(BitSet noValueSet) {
+        for (int i = noValueSet.nextSetBit(0); i >= 0; i = noValueSet.nextSetBit(i + 1)) {
+            DefaultValueProvider defaultValueProvider = column(i).defaultValueProvider();
+
+            if (defaultValueProvider.type() != DefaultValueProvider.Type.CONSTANT || defaultValueProvider.get() != null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private Column column(int binaryTupleIndex) {
         List<Column> columns = keyOnly ? schema.keyColumns() : schema.columns();
         return columns.get(binaryTupleIndex);
@@ -39,11 +39,13 @@ public class ClientStreamerBatchSendRequest {
      *
      * @param in        Unpacker.
      * @param tables    Ignite tables.
+     * @param bulkLoadSupported Whether the request carries the bulk load flag.
      * @return Future.
      */
     public static CompletableFuture<ResponseWriter> process(
             ClientMessageUnpacker in,
-            IgniteTables tables
+            IgniteTables tables,
+            boolean bulkLoadSupported
     ) {
         int tableId = in.unpackInt();
         int partition = in.unpackInt();
@@ -60,6 +62,8 @@ public class ClientStreamerBatchSendRequest {
             tupleBytes[i] = in.readBinary();
         }
 
+        boolean bulkLoad = bulkLoadSupported && in.unpackBoolean();
+
         return readTableAsync(tableId, tables)
                 .thenCompose(table -> readSchema(schemaId, table)
                         .thenCompose(schema -> {
@@ -72,7 +76,7 @@ public class ClientStreamerBatchSendRequest {
 
                             RecordBinaryViewImpl recordView = (RecordBinaryViewImpl) table.recordView();
 
-                            return recordView.updateAll(partition, tuples, deleted)
+                            return recordView.updateAll(partition, tuples, deleted, bulkLoad)
                                     .thenApply(unused ->
                                             out -> out.packInt(table.schemaView().lastKnownSchemaVersion()));
                         }));
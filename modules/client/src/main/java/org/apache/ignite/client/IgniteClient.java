@@ -118,6 +118,8 @@ public interface IgniteClient extends Ignite, AutoCloseable {
 
         long backgroundReResolveAddressesInterval = DFLT_BACKGROUND_RE_RESOLVE_ADDRESSES_INTERVAL;
 
+        private @Nullable NearCacheConfiguration nearCache;
+
         /**
          * Sets the addresses of Ignite server nodes within a cluster. An address can be an IP address or a hostname, with or without port.
          * If port is not set then Ignite will use the default one - see {@link IgniteClientConfiguration#DFLT_PORT}.
@@ -431,6 +433,20 @@ public interface IgniteClient extends Ignite, AutoCloseable {
             return this;
         }
 
+        /**
+         * Sets the near cache configuration. Default is {@code null}, which means that the near cache is disabled.
+         *
+         * <p>See {@link NearCacheConfiguration} for details.
+         *
+         * @param nearCache Near cache configuration.
+         * @return This instance.
+         */
+        public Builder nearCache(@Nullable NearCacheConfiguration nearCache) {
+            this.nearCache = nearCache;
+
+            return this;
+        }
+
         /**
          * Builds the client.
          *
@@ -462,7 +478,9 @@ public interface IgniteClient extends Ignite, AutoCloseable {
                     operationTimeout,
                     sqlPartitionAwarenessMetadataCacheSize,
                     name,
-                    backgroundReResolveAddressesInterval
+                    backgroundReResolveAddressesInterval,
+                    null,
+                    nearCache
             );
 
             return TcpIgniteClient.startAsync(cfg);
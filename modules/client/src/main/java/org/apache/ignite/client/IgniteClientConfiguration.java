@@ -237,4 +237,11 @@ public interface IgniteClientConfiguration {
      * @return Background re-resolve interval, in milliseconds.
      */
     long backgroundReResolveAddressesInterval();
+
+    /**
+     * Gets the near cache configuration. Default is {@code null}, which means that the near cache is disabled.
+     *
+     * @return Near cache configuration.
+     */
+    @Nullable NearCacheConfiguration nearCache();
 }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.ignite.table.QualifiedName;
+
+/**
+ * Client near cache configuration.
+ *
+ * <p>The near cache keeps the results of {@code get} operations performed outside of explicit transactions by the key-value and record
+ * views of the specified tables, so that repeated lookups of the same keys (for example, in read-mostly reference tables) do not go over
+ * the network. The cache of a table is invalidated when a write operation on the table is performed by the same client, and when a
+ * transaction of this client that wrote to the table is committed. Changes made by other clients or by SQL become visible after the
+ * cached entry expires, see {@link Builder#expireAfterWrite(long)}.
+ *
+ * <p>Views with custom mappers use the near cache only when both the key and the value are mapped to a single column of an immutable
+ * type (for example, {@code KeyValueView<Long, String>}). Cached objects are returned to every caller, while POJOs and arrays could be
+ * modified by one of them, and arbitrary key classes are not guaranteed to implement {@code equals} and {@code hashCode}.
+ */
+public final class NearCacheConfiguration {
+    /** Default maximum number of entries per table. */
+    public static final long DFLT_MAX_ENTRIES = 10_000;
+
+    /** Default entry expiration time, in milliseconds. */
+    public static final long DFLT_EXPIRE_AFTER_WRITE = 1_000;
+
+    private final Set<QualifiedName> tables;
+
+    private final long maxEntries;
+
+    private final long expireAfterWrite;
+
+    private NearCacheConfiguration(Set<QualifiedName> tables, long maxEntries, long expireAfterWrite) {
+        this.tables = tables;
+        this.maxEntries = maxEntries;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return Builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the tables to cache.
+     *
+     * @return Table names.
+     */
+    public Set<QualifiedName> tables() {
+        return tables;
+    }
+
+    /**
+     * Gets the maximum number of cached entries per table.
+     *
+     * @return Maximum number of entries.
+     */
+    public long maxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Gets the time after which a cached entry expires, in milliseconds. This is the upper bound of the staleness of the values returned
+     * from the cache.
+     *
+     * @return Expiration time, in milliseconds.
+     */
+    public long expireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    /**
+     * Builder.
+     */
+    public static class Builder {
+        private final Set<QualifiedName> tables = new HashSet<>();
+
+        private long maxEntries = DFLT_MAX_ENTRIES;
+
+        private long expireAfterWrite = DFLT_EXPIRE_AFTER_WRITE;
+
+        /**
+         * Adds the tables to cache.
+         *
+         * @param tableNames Simple or canonical table names.
+         * @return This builder instance.
+         */
+        public Builder tables(String... tableNames) {
+            for (String tableName : tableNames) {
+                tables.add(QualifiedName.parse(tableName));
+            }
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached entries per table. When the limit is reached, the entries that are less likely to be used again
+         * are evicted.
+         *
+         * @param maxEntries Maximum number of entries.
+         * @return This builder instance.
+         */
+        public Builder maxEntries(long maxEntries) {
+            if (maxEntries <= 0) {
+                throw new IllegalArgumentException("Max entries must be positive: " + maxEntries);
+            }
+
+            this.maxEntries = maxEntries;
+
+            return this;
+        }
+
+        /**
+         * Sets the time after which a cached entry expires, in milliseconds. This is the upper bound of the staleness of the values
+         * returned from the cache.
+         *
+         * @param expireAfterWrite Expiration time, in milliseconds.
+         * @return This builder instance.
+         */
+        public Builder expireAfterWrite(long expireAfterWrite) {
+            if (expireAfterWrite <= 0) {
+                throw new IllegalArgumentException("Expire after write must be positive: " + expireAfterWrite);
+            }
+
+            this.expireAfterWrite = expireAfterWrite;
+
+            return this;
+        }
+
+        /**
+         * Builds the configuration.
+         *
+         * @return Near cache configuration.
+         */
+        public NearCacheConfiguration build() {
+            return new NearCacheConfiguration(Set.copyOf(tables), maxEntries, expireAfterWrite);
+        }
+    }
+}
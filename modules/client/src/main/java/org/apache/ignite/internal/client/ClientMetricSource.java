@@ -438,6 +438,165 @@ public class ClientMetricSource extends AbstractMetricSource<ClientMetricSource.
         }
     }
 
+    /**
+     * Gets streamer flow control increases.
+     */
+    public long streamerFlowControlIncreases() {
+        Holder h = holder();
+
+        return h == null ? 0 : h.streamerFlowControlIncreases.value();
+    }
+
+    /**
+     * Adds streamer flow control increases.
+     *
+     * @param increases Flow control increases.
+     */
+    @Override
+    public void streamerFlowControlIncreasesAdd(long increases) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.streamerFlowControlIncreases.add(increases);
+        }
+    }
+
+    /**
+     * Gets streamer flow control decreases.
+     */
+    public long streamerFlowControlDecreases() {
+        Holder h = holder();
+
+        return h == null ? 0 : h.streamerFlowControlDecreases.value();
+    }
+
+    /**
+     * Adds streamer flow control decreases.
+     *
+     * @param decreases Flow control decreases.
+     */
+    @Override
+    public void streamerFlowControlDecreasesAdd(long decreases) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.streamerFlowControlDecreases.add(decreases);
+        }
+    }
+
+    /**
+     * Gets streamer in-flight items limit.
+     */
+    public long streamerItemsInFlightLimit() {
+        Holder h = holder();
+
+        return h == null ? 0 : h.streamerItemsInFlightLimit.value();
+    }
+
+    /**
+     * Adds streamer in-flight items limit.
+     *
+     * @param items In-flight items limit change.
+     */
+    @Override
+    public void streamerItemsInFlightLimitAdd(long items) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.streamerItemsInFlightLimit.add(items);
+        }
+    }
+
+    /**
+     * Gets near cache hits.
+     *
+     * @return Near cache hits.
+     */
+    public long nearCacheHits() {
+        Holder h = holder();
+
+        return h == null ? 0 : h.nearCacheHits.value();
+    }
+
+    /**
+     * Increments near cache hits.
+     */
+    public void nearCacheHitsIncrement() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.nearCacheHits.increment();
+        }
+    }
+
+    /**
+     * Gets near cache misses.
+     *
+     * @return Near cache misses.
+     */
+    public long nearCacheMisses() {
+        Holder h = holder();
+
+        return h == null ? 0 : h.nearCacheMisses.value();
+    }
+
+    /**
+     * Increments near cache misses.
+     */
+    public void nearCacheMissesIncrement() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.nearCacheMisses.increment();
+        }
+    }
+
+    /**
+     * Gets near cache invalidations.
+     *
+     * @return Near cache invalidations.
+     */
+    public long nearCacheInvalidations() {
+        Holder h = holder();
+
+        return h == null ? 0 : h.nearCacheInvalidations.value();
+    }
+
+    /**
+     * Increments near cache invalidations.
+     */
+    public void nearCacheInvalidationsIncrement() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.nearCacheInvalidations.increment();
+        }
+    }
+
+    /**
+     * Gets total age of the entries returned by near cache hits.
+     *
+     * @return Total age in milliseconds.
+     */
+    public long nearCacheHitAgeTotal() {
+        Holder h = holder();
+
+        return h == null ? 0 : h.nearCacheHitAgeTotal.value();
+    }
+
+    /**
+     * Adds to the total age of the entries returned by near cache hits.
+     *
+     * @param ageMillis Entry age in milliseconds.
+     */
+    public void nearCacheHitAgeTotalAdd(long ageMillis) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.nearCacheHitAgeTotal.add(ageMillis);
+        }
+    }
+
     @Override
     protected Holder createHolder() {
         return new Holder();
@@ -495,6 +654,27 @@ public class ClientMetricSource extends AbstractMetricSource<ClientMetricSource.
         private final AtomicLongMetric streamerItemsQueued = new AtomicLongMetric(
                 "StreamerItemsQueued", "Total number of queued data streamer items (rows)");
 
+        private final AtomicLongMetric streamerFlowControlIncreases = new AtomicLongMetric(
+                "StreamerFlowControlIncreases",
+                "Total number of page size or parallel operations increases made by adaptive data streamers");
+
+        private final AtomicLongMetric streamerFlowControlDecreases = new AtomicLongMetric(
+                "StreamerFlowControlDecreases",
+                "Total number of page size and parallel operations decreases made by adaptive data streamers due to congestion");
+
+        private final AtomicLongMetric streamerItemsInFlightLimit = new AtomicLongMetric(
+                "StreamerItemsInFlightLimit", "Current limit of in-flight items (rows) of adaptive data streamers");
+
+        private final AtomicLongMetric nearCacheHits = new AtomicLongMetric("NearCacheHits", "Total near cache hits");
+
+        private final AtomicLongMetric nearCacheMisses = new AtomicLongMetric("NearCacheMisses", "Total near cache misses");
+
+        private final AtomicLongMetric nearCacheInvalidations = new AtomicLongMetric(
+                "NearCacheInvalidations", "Total near cache invalidations caused by writes of this client");
+
+        private final AtomicLongMetric nearCacheHitAgeTotal = new AtomicLongMetric(
+                "NearCacheHitAgeTotal", "Total age in milliseconds of the entries returned by near cache hits");
+
         final List<Metric> metrics = List.of(
                 connectionsActive,
                 connectionsEstablished,
@@ -512,7 +692,14 @@ public class ClientMetricSource extends AbstractMetricSource<ClientMetricSource.
                 streamerBatchesSent,
                 streamerItemsSent,
                 streamerBatchesActive,
-                streamerItemsQueued
+                streamerItemsQueued,
+                streamerFlowControlIncreases,
+                streamerFlowControlDecreases,
+                streamerItemsInFlightLimit,
+                nearCacheHits,
+                nearCacheMisses,
+                nearCacheInvalidations,
+                nearCacheHitAgeTotal
         );
 
         @Override
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.ignite.client.NearCacheConfiguration;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Near cache of a single table, see {@link NearCacheConfiguration}.
+ *
+ * <p>Entries are keyed by the view kind (different views of the same table map keys and values differently) and the user key.
+ * Invalidation bumps the epoch, so that a value loaded concurrently with a write is not put into the cache after the write completes.
+ */
+public class ClientNearCache {
+    private final Cache<CacheKey, CacheEntry> cache;
+
+    private final ClientMetricSource metrics;
+
+    /** Incremented on every invalidation, guarded by {@code this}. */
+    private long epoch;
+
+    /**
+     * Constructor.
+     *
+     * @param cfg Near cache configuration.
+     * @param metrics Metrics.
+     */
+    ClientNearCache(NearCacheConfiguration cfg, ClientMetricSource metrics) {
+        this.metrics = metrics;
+
+        cache = Caffeine.newBuilder()
+                .maximumSize(cfg.maxEntries())
+                .expireAfterWrite(cfg.expireAfterWrite(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Gets the cached value or loads it.
+     *
+     * @param viewKind View kind, must implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     * @param key Key, must implement {@link Object#equals(Object)} and {@link Object#hashCode()} and must not be modified afterwards.
+     * @param loader Loads the value when it is not cached.
+     * @param <T> Value type.
+     * @return Future that will be completed with the value.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getAsync(Object viewKind, Object key, Supplier<CompletableFuture<T>> loader) {
+        CacheKey cacheKey = new CacheKey(viewKind, key);
+        CacheEntry entry = cache.getIfPresent(cacheKey);
+
+        if (entry != null) {
+            metrics.nearCacheHitsIncrement();
+            metrics.nearCacheHitAgeTotalAdd(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.loadedNanos));
+
+            return completedFuture((T) entry.value);
+        }
+
+        metrics.nearCacheMissesIncrement();
+
+        long loadEpoch = epoch();
+        long loadedNanos = System.nanoTime();
+
+        return loader.get().thenApply(value -> {
+            synchronized (this) {
+                if (epoch == loadEpoch) {
+                    cache.put(cacheKey, new CacheEntry(value, loadedNanos));
+                }
+            }
+
+            return value;
+        });
+    }
+
+    /**
+     * Removes all the entries from the cache.
+     */
+    public void invalidate() {
+        synchronized (this) {
+            epoch++;
+
+            cache.invalidateAll();
+        }
+
+        metrics.nearCacheInvalidationsIncrement();
+    }
+
+    private synchronized long epoch() {
+        return epoch;
+    }
+
+    private static class CacheKey {
+        private final Object viewKind;
+
+        private final Object key;
+
+        CacheKey(Object viewKind, Object key) {
+            this.viewKind = viewKind;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            CacheKey other = (CacheKey) o;
+
+            return viewKind.equals(other.viewKind) && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(viewKind, key);
+        }
+    }
+
+    private static class CacheEntry {
+        private final @Nullable Object value;
+
+        /** {@link System#nanoTime()} when the value was requested from the server. */
+        private final long loadedNanos;
+
+        CacheEntry(@Nullable Object value, long loadedNanos) {
+            this.value = value;
+            this.loadedNanos = loadedNanos;
+        }
+    }
+}
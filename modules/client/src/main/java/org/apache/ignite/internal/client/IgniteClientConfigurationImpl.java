@@ -21,6 +21,7 @@ import java.util.concurrent.Executor;
 import org.apache.ignite.client.IgniteClientAddressFinder;
 import org.apache.ignite.client.IgniteClientAuthenticator;
 import org.apache.ignite.client.IgniteClientConfiguration;
+import org.apache.ignite.client.NearCacheConfiguration;
 import org.apache.ignite.client.RetryPolicy;
 import org.apache.ignite.client.SslConfiguration;
 import org.apache.ignite.lang.LoggerFactory;
@@ -73,6 +74,8 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
 
     private final long backgroundReResolveAddressesInterval;
 
+    private final @Nullable NearCacheConfiguration nearCache;
+
     /**
      * Constructor.
      *
@@ -93,8 +96,8 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
      * @param name Client name.
      * @param backgroundReResolveAddressesInterval Background re-resolve addresses interval.
      * @param addressResolver Address resolver.
+     * @param nearCache Near cache configuration.
      */
-    @VisibleForTesting
     public IgniteClientConfigurationImpl(
             @Nullable IgniteClientAddressFinder addressFinder,
             String[] addresses,
@@ -112,7 +115,8 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
             int sqlPartitionAwarenessMetadataCacheSize,
             @Nullable String name,
             long backgroundReResolveAddressesInterval,
-            @Nullable InetAddressResolver addressResolver
+            @Nullable InetAddressResolver addressResolver,
+            @Nullable NearCacheConfiguration nearCache
     ) {
         this.addressFinder = addressFinder;
 
@@ -134,6 +138,70 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
         this.name = name;
         this.backgroundReResolveAddressesInterval = backgroundReResolveAddressesInterval;
         this.addressResolver = addressResolver;
+        this.nearCache = nearCache;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param addressFinder Address finder.
+     * @param addresses Addresses.
+     * @param connectTimeout Socket connect timeout.
+     * @param backgroundReconnectInterval Background reconnect interval.
+     * @param asyncContinuationExecutor Async continuation executor.
+     * @param heartbeatInterval Heartbeat message interval.
+     * @param heartbeatTimeout Heartbeat message timeout.
+     * @param retryPolicy Retry policy.
+     * @param loggerFactory Logger factory which will be used to create a logger instance for this this particular client when
+     *         needed.
+     * @param metricsEnabled Whether metrics are enabled.
+     * @param authenticator Authenticator.
+     * @param operationTimeout Operation timeout.
+     * @param sqlPartitionAwarenessMetadataCacheSize Size of the cache to store partition awareness metadata.
+     * @param name Client name.
+     * @param backgroundReResolveAddressesInterval Background re-resolve addresses interval.
+     * @param addressResolver Address resolver.
+     */
+    @VisibleForTesting
+    public IgniteClientConfigurationImpl(
+            @Nullable IgniteClientAddressFinder addressFinder,
+            String[] addresses,
+            long connectTimeout,
+            long backgroundReconnectInterval,
+            @Nullable Executor asyncContinuationExecutor,
+            long heartbeatInterval,
+            long heartbeatTimeout,
+            @Nullable RetryPolicy retryPolicy,
+            @Nullable LoggerFactory loggerFactory,
+            @Nullable SslConfiguration sslConfiguration,
+            boolean metricsEnabled,
+            @Nullable IgniteClientAuthenticator authenticator,
+            long operationTimeout,
+            int sqlPartitionAwarenessMetadataCacheSize,
+            @Nullable String name,
+            long backgroundReResolveAddressesInterval,
+            @Nullable InetAddressResolver addressResolver
+    ) {
+        this(
+                addressFinder,
+                addresses,
+                connectTimeout,
+                backgroundReconnectInterval,
+                asyncContinuationExecutor,
+                heartbeatInterval,
+                heartbeatTimeout,
+                retryPolicy,
+                loggerFactory,
+                sslConfiguration,
+                metricsEnabled,
+                authenticator,
+                operationTimeout,
+                sqlPartitionAwarenessMetadataCacheSize,
+                name,
+                backgroundReResolveAddressesInterval,
+                addressResolver,
+                null
+        );
     }
 
     /**
@@ -286,6 +354,11 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
         return backgroundReResolveAddressesInterval;
     }
 
+    @Override
+    public @Nullable NearCacheConfiguration nearCache() {
+        return nearCache;
+    }
+
     /**
      * Gets custom address resolver.
      *
@@ -62,6 +62,7 @@ import java.util.stream.Collectors;
 import org.apache.ignite.client.ClientOperationType;
 import org.apache.ignite.client.IgniteClientConfiguration;
 import org.apache.ignite.client.IgniteClientConnectionException;
+import org.apache.ignite.client.NearCacheConfiguration;
 import org.apache.ignite.client.RetryLimitPolicy;
 import org.apache.ignite.client.RetryPolicy;
 import org.apache.ignite.client.RetryPolicyContext;
@@ -75,6 +76,7 @@ import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.table.QualifiedName;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -128,6 +130,9 @@ public final class ReliableChannel implements AutoCloseable {
     /** Observable timestamp, or causality token. Sent by the server with every response, and required by some requests. */
     private final HybridTimestampTracker observableTimeTracker;
 
+    /** Near caches by table id. */
+    private final Map<Integer, ClientNearCache> nearCaches = new ConcurrentHashMap<>();
+
     /** Cluster id from the first handshake. */
     private final AtomicReference<UUID> clusterId = new AtomicReference<>();
 
@@ -249,6 +254,23 @@ public final class ReliableChannel implements AutoCloseable {
         return clientCfg;
     }
 
+    /**
+     * Gets the near cache of the table.
+     *
+     * @param tableId Table id.
+     * @param tableName Table name.
+     * @return Near cache, or {@code null} when the table is not configured for near caching.
+     */
+    public @Nullable ClientNearCache nearCache(int tableId, QualifiedName tableName) {
+        NearCacheConfiguration nearCacheCfg = clientCfg.nearCache();
+
+        if (nearCacheCfg == null || !nearCacheCfg.tables().contains(tableName)) {
+            return null;
+        }
+
+        return nearCaches.computeIfAbsent(tableId, id -> new ClientNearCache(nearCacheCfg, metrics));
+    }
+
     public HybridTimestampTracker observableTimestamp() {
         return observableTimeTracker;
     }
@@ -20,8 +20,14 @@ package org.apache.ignite.internal.client.io.netty;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
 import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
 import java.net.InetSocketAddress;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.internal.client.ClientMetricSource;
 import org.apache.ignite.internal.client.io.ClientConnection;
 import org.apache.ignite.internal.client.io.ClientConnectionStateHandler;
@@ -31,6 +37,9 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Netty client connection.
+ *
+ * <p>Outgoing messages are queued and written by a single event loop task, followed by a single flush. When many threads send requests
+ * concurrently, this results in one task submission and one socket write per event loop tick instead of one per request.
  */
 public class NettyClientConnection implements ClientConnection {
     /** Connection attribute. */
@@ -51,6 +60,15 @@ public class NettyClientConnection implements ClientConnection {
     /** Metrics. */
     private final ClientMetricSource metrics;
 
+    /** Messages waiting to be written by the event loop. */
+    private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    /** Whether {@link #writePendingTask} is scheduled and did not start draining {@link #pendingWrites} yet. */
+    private final AtomicBoolean writePendingScheduled = new AtomicBoolean();
+
+    /** Event loop task that writes the pending messages. */
+    private final Runnable writePendingTask = this::writePending;
+
     /**
      * Constructor.
      *
@@ -81,12 +99,22 @@ public class NettyClientConnection implements ClientConnection {
     public ChannelFuture send(ByteBuf msg) throws IgniteException {
         int bytes = msg.readableBytes();
 
-        // writeAndFlush releases pooled buffer.
-        ChannelFuture fut = channel.writeAndFlush(msg);
+        ChannelPromise promise = channel.newPromise();
+        pendingWrites.add(new PendingWrite(msg, promise));
+
+        if (writePendingScheduled.compareAndSet(false, true)) {
+            try {
+                channel.eventLoop().execute(writePendingTask);
+            } catch (RejectedExecutionException e) {
+                // Event loop is shut down, the channel is closed.
+                writePendingScheduled.set(false);
+                failPending(e);
+            }
+        }
 
         metrics.bytesSentAdd(bytes);
 
-        return fut;
+        return promise;
     }
 
     /** {@inheritDoc} */
@@ -107,6 +135,36 @@ public class NettyClientConnection implements ClientConnection {
         channel.close();
     }
 
+    /**
+     * Writes the pending messages and flushes the channel. Runs in the event loop.
+     */
+    private void writePending() {
+        // Reset the flag before draining: messages added after this point are either drained below or scheduled with another task.
+        writePendingScheduled.set(false);
+
+        boolean written = false;
+        PendingWrite write;
+
+        while ((write = pendingWrites.poll()) != null) {
+            // write releases pooled buffer.
+            channel.write(write.msg, write.promise);
+            written = true;
+        }
+
+        if (written) {
+            channel.flush();
+        }
+    }
+
+    private void failPending(Throwable cause) {
+        PendingWrite write;
+
+        while ((write = pendingWrites.poll()) != null) {
+            ReferenceCountUtil.release(write.msg);
+            write.promise.tryFailure(cause);
+        }
+    }
+
     /**
      * Handles incoming message.
      *
@@ -126,4 +184,15 @@ public class NettyClientConnection implements ClientConnection {
     void onDisconnected(@Nullable Throwable e) {
         stateHnd.onDisconnected(e);
     }
+
+    private static class PendingWrite {
+        private final ByteBuf msg;
+
+        private final ChannelPromise promise;
+
+        PendingWrite(ByteBuf msg, ChannelPromise promise) {
+            this.msg = msg;
+            this.promise = promise;
+        }
+    }
 }
@@ -23,8 +23,10 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import org.apache.ignite.client.RetryLimitPolicy;
 import org.apache.ignite.internal.client.ClientUtils;
+import org.apache.ignite.internal.client.PayloadOutputChannel;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
 import org.apache.ignite.internal.client.proto.StreamerReceiverSerializer;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.streamer.StreamerBatchSender;
@@ -42,6 +44,19 @@ import org.jetbrains.annotations.Nullable;
  * Client data streamer.
  */
 class ClientDataStreamer {
+    /**
+     * Writes the bulk load flag of a {@link ClientOp#STREAMER_BATCH_SEND} request. Servers that do not support the flag load the data
+     * in the regular mode.
+     *
+     * @param out Output channel.
+     * @param options Streamer options.
+     */
+    static void writeBulkLoad(PayloadOutputChannel out, DataStreamerOptions options) {
+        if (out.clientChannel().protocolContext().isFeatureSupported(ProtocolBitmaskFeature.STREAMER_BULK_LOAD)) {
+            out.out().packBoolean(options.bulkLoad());
+        }
+    }
+
     static <T> CompletableFuture<Void> streamData(
             Publisher<DataStreamerItem<T>> publisher,
             DataStreamerOptions options,
@@ -137,8 +152,12 @@ class ClientDataStreamer {
             ClientTable tbl) {
         IgniteLogger log = ClientUtils.logger(tbl.channel().configuration(), StreamerSubscriber.class);
         StreamerOptions streamerOpts = streamerOptions(options);
+        // Streamed rows bypass the regular write operations, invalidate the near cache when each batch is applied.
+        StreamerBatchSender<V, Integer, R> invalidatingSender = (partition, batch, deleted) ->
+                batchSender.sendAsync(partition, batch, deleted).whenComplete((res, err) -> tbl.invalidateNearCache());
+
         StreamerSubscriber<T, E, V, R, Integer> subscriber = new StreamerSubscriber<>(
-                batchSender,
+                invalidatingSender,
                 resultSubscriber,
                 keyFunc,
                 payloadFunc,
@@ -170,6 +189,11 @@ class ClientDataStreamer {
             public int autoFlushInterval() {
                 return options.autoFlushInterval();
             }
+
+            @Override
+            public boolean adaptiveBatching() {
+                return options.adaptiveBatching();
+            }
         };
     }
 }
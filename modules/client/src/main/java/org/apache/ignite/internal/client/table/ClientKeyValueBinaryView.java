@@ -39,6 +39,7 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import org.apache.ignite.client.RetryLimitPolicy;
+import org.apache.ignite.internal.client.ClientNearCache;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.sql.ClientSql;
 import org.apache.ignite.internal.lang.IgniteBiTuple;
@@ -88,6 +89,18 @@ public class ClientKeyValueBinaryView extends AbstractClientView<Entry<Tuple, Tu
     public CompletableFuture<Tuple> getAsync(@Nullable Transaction tx, Tuple key) {
         Objects.requireNonNull(key, "key");
 
+        ClientNearCache nearCache = tbl.nearCache(tx);
+
+        if (nearCache != null) {
+            // Cached tuples are copied in both directions, because the user can modify them.
+            return nearCache.getAsync(ClientKeyValueBinaryView.class, Tuple.copy(key), () -> doGet(null, key))
+                    .thenApply(val -> val == null ? null : Tuple.copy(val));
+        }
+
+        return doGet(tx, key);
+    }
+
+    private CompletableFuture<Tuple> doGet(@Nullable Transaction tx, Tuple key) {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w, n) -> ser.writeTuple(tx, key, s, w, n, true),
@@ -577,7 +590,10 @@ public class ClientKeyValueBinaryView extends AbstractClientView<Entry<Tuple, Tu
         // The batch may go to a different node when a direct connection is not available.
         StreamerBatchSender<Entry<Tuple, Tuple>, Integer, Void> batchSender = (partition, items, deleted) -> tbl.doSchemaOutOpAsync(
                 ClientOp.STREAMER_BATCH_SEND,
-                (s, w, n) -> ser.writeStreamerKvTuples(partition, items, deleted, s, w),
+                (s, w, n) -> {
+                    ser.writeStreamerKvTuples(partition, items, deleted, s, w);
+                    ClientDataStreamer.writeBulkLoad(w, opts);
+                },
                 r -> null,
                 PartitionAwarenessProvider.of(partition),
                 new RetryLimitPolicy().retryLimit(opts.retryLimit()),
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.client.table;
 
+import static org.apache.ignite.internal.client.table.ClientTable.isNearCacheable;
 import static org.apache.ignite.internal.client.table.ClientTupleSerializer.getColocationHash;
 import static org.apache.ignite.internal.client.table.ClientTupleSerializer.getPartitionAwarenessProvider;
 import static org.apache.ignite.internal.client.tx.DirectTxUtils.writeTx;
@@ -48,6 +49,7 @@ import java.util.function.Function;
 import org.apache.ignite.client.RetryLimitPolicy;
 import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
 import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
+import org.apache.ignite.internal.client.ClientNearCache;
 import org.apache.ignite.internal.client.PayloadInputChannel;
 import org.apache.ignite.internal.client.PayloadOutputChannel;
 import org.apache.ignite.internal.client.WriteContext;
@@ -118,6 +120,16 @@ public class ClientKeyValueView<K, V> extends AbstractClientView<Entry<K, V>> im
     }
 
     private CompletableFuture<V> doGet(@Nullable Transaction tx, K key, String altMethod) {
+        ClientNearCache nearCache = isNearCacheable(keySer.mapper()) && isNearCacheable(valSer.mapper()) ? tbl.nearCache(tx) : null;
+
+        if (nearCache != null) {
+            // Null means row does not exist, NullableValue.NULL means row exists, but mapped value column is null.
+            Object viewKind = List.of(ClientKeyValueView.class, keySer.mapper().targetType(), valSer.mapper().targetType());
+
+            return nearCache.getAsync(viewKind, key, () -> doGetNullable(null, key))
+                    .thenApply(val -> val == null ? null : throwIfNull(val.get(), altMethod));
+        }
+
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w, n) -> keySer.writeRec(tx, key, s, w, n, TuplePart.KEY),
@@ -765,6 +777,8 @@ public class ClientKeyValueView<K, V> extends AbstractClientView<Entry<K, V>> im
 
                         w.out().packBinaryTuple(builder, noValueSet);
                     }
+
+                    ClientDataStreamer.writeBulkLoad(w, opts);
                 },
                 r -> null,
                 PartitionAwarenessProvider.of(partition),
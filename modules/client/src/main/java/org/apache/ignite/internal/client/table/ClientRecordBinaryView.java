@@ -35,6 +35,7 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import org.apache.ignite.client.RetryLimitPolicy;
+import org.apache.ignite.internal.client.ClientNearCache;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.sql.ClientSql;
 import org.apache.ignite.internal.streamer.StreamerBatchSender;
@@ -76,6 +77,18 @@ public class ClientRecordBinaryView extends AbstractClientView<Tuple> implements
     public CompletableFuture<Tuple> getAsync(@Nullable Transaction tx, Tuple keyRec) {
         Objects.requireNonNull(keyRec);
 
+        ClientNearCache nearCache = tbl.nearCache(tx);
+
+        if (nearCache != null) {
+            // Cached tuples are copied in both directions, because the user can modify them.
+            return nearCache.getAsync(ClientRecordBinaryView.class, Tuple.copy(keyRec), () -> doGet(null, keyRec))
+                    .thenApply(rec -> rec == null ? null : Tuple.copy(rec));
+        }
+
+        return doGet(tx, keyRec);
+    }
+
+    private CompletableFuture<Tuple> doGet(@Nullable Transaction tx, Tuple keyRec) {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w, n) -> ser.writeTuple(tx, keyRec, s, w, n, true),
@@ -507,7 +520,10 @@ public class ClientRecordBinaryView extends AbstractClientView<Tuple> implements
         // The batch may go to a different node when a direct connection is not available.
         StreamerBatchSender<Tuple, Integer, Void> batchSender = (partitionId, items, deleted) -> tbl.doSchemaOutOpAsync(
                 ClientOp.STREAMER_BATCH_SEND,
-                (s, w, n) -> ser.writeStreamerTuples(partitionId, items, deleted, s, w),
+                (s, w, n) -> {
+                    ser.writeStreamerTuples(partitionId, items, deleted, s, w);
+                    ClientDataStreamer.writeBulkLoad(w, opts);
+                },
                 r -> null,
                 PartitionAwarenessProvider.of(partitionId),
                 new RetryLimitPolicy().retryLimit(opts.retryLimit()),
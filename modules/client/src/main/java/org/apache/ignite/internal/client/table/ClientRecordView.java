@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.client.table;
 
+import static org.apache.ignite.internal.client.table.ClientTable.isNearCacheable;
 import static org.apache.ignite.internal.client.table.ClientTupleSerializer.getColocationHash;
 import static org.apache.ignite.internal.client.table.ClientTupleSerializer.getPartitionAwarenessProvider;
 import static org.apache.ignite.internal.util.CompletableFutures.emptyListCompletedFuture;
@@ -36,6 +37,7 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import org.apache.ignite.client.RetryLimitPolicy;
+import org.apache.ignite.internal.client.ClientNearCache;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.proto.TuplePart;
 import org.apache.ignite.internal.client.sql.ClientSql;
@@ -84,6 +86,16 @@ public class ClientRecordView<R> extends AbstractClientView<R> implements Record
     public CompletableFuture<R> getAsync(@Nullable Transaction tx, R keyRec) {
         Objects.requireNonNull(keyRec);
 
+        ClientNearCache nearCache = isNearCacheable(ser.mapper()) ? tbl.nearCache(tx) : null;
+
+        if (nearCache != null) {
+            return nearCache.getAsync(List.of(ClientRecordView.class, ser.mapper().targetType()), keyRec, () -> doGet(null, keyRec));
+        }
+
+        return doGet(tx, keyRec);
+    }
+
+    private CompletableFuture<R> doGet(@Nullable Transaction tx, R keyRec) {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w, n) -> ser.writeRec(tx, keyRec, s, w, n, TuplePart.KEY, true),
@@ -514,7 +526,10 @@ public class ClientRecordView<R> extends AbstractClientView<R> implements Record
         // The batch may go to a different node when a direct connection is not available.
         StreamerBatchSender<R, Integer, Void> batchSender = (partition, items, deleted) -> tbl.doSchemaOutOpAsync(
                 ClientOp.STREAMER_BATCH_SEND,
-                (s, w, n) -> ser.writeStreamerRecs(partition, items, deleted, s, w),
+                (s, w, n) -> {
+                    ser.writeStreamerRecs(partition, items, deleted, s, w);
+                    ClientDataStreamer.writeBulkLoad(w, opts);
+                },
                 r -> null,
                 PartitionAwarenessProvider.of(partition),
                 new RetryLimitPolicy().retryLimit(opts.retryLimit()),
@@ -41,6 +41,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.apache.ignite.client.RetryPolicy;
+import org.apache.ignite.internal.client.ClientNearCache;
 import org.apache.ignite.internal.client.ClientSchemaVersionMismatchException;
 import org.apache.ignite.internal.client.ClientUtils;
 import org.apache.ignite.internal.client.PartitionMapping;
@@ -73,6 +74,7 @@ import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Table;
 import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.mapper.Mapper;
+import org.apache.ignite.table.mapper.OneColumnMapper;
 import org.apache.ignite.table.partition.PartitionDistribution;
 import org.apache.ignite.table.partition.PartitionManager;
 import org.apache.ignite.tx.Transaction;
@@ -113,6 +115,9 @@ public class ClientTable implements Table {
 
     private final ClientPartitionManager clientPartitionManager;
 
+    /** Near cache, {@code null} when the table is not configured for near caching. */
+    private final @Nullable ClientNearCache nearCache;
+
     /**
      * Constructor.
      *
@@ -140,6 +145,7 @@ public class ClientTable implements Table {
         this.log = ClientUtils.logger(ch.configuration(), ClientTable.class);
         this.sql = new ClientSql(ch, marshallers, sqlPartitionAwarenessMetadataCacheSize);
         clientPartitionManager = new ClientPartitionManager(this);
+        nearCache = ch.nearCache(id, name);
     }
 
     /**
@@ -412,6 +418,37 @@ public class ClientTable implements Table {
                 tx);
     }
 
+    /**
+     * Gets the near cache to be used by an operation.
+     * Explicit transactions always go to the server to keep their isolation guarantees.
+     *
+     * @param tx Transaction.
+     * @return Near cache, or {@code null} when the table is not configured for near caching or the transaction is explicit.
+     */
+    @Nullable ClientNearCache nearCache(@Nullable Transaction tx) {
+        return tx == null ? nearCache : null;
+    }
+
+    /**
+     * Checks whether the objects produced by the mapper can be kept in the near cache. A cached object is returned to every caller,
+     * so only single-column mappings to immutable types are allowed: POJOs and arrays could be modified by one of the callers.
+     *
+     * @param mapper Mapper.
+     * @return {@code true} if the mapped objects can be cached.
+     */
+    static boolean isNearCacheable(Mapper<?> mapper) {
+        return mapper instanceof OneColumnMapper && !mapper.targetType().isArray();
+    }
+
+    /**
+     * Invalidates the near cache, if configured.
+     */
+    void invalidateNearCache() {
+        if (nearCache != null) {
+            nearCache.invalidate();
+        }
+    }
+
     /**
      * Performs a schema-based operation.
      *
@@ -465,6 +502,13 @@ public class ClientTable implements Table {
     ) {
         CompletableFuture<T> fut = new CompletableFuture<>();
 
+        if (nearCache != null && ClientOp.isWrite(opCode)) {
+            // Invalidate before the request to drop the values cached so far, and after the response to drop the values
+            // loaded concurrently with the write.
+            nearCache.invalidate();
+            fut.whenComplete((res, err) -> nearCache.invalidate());
+        }
+
         CompletableFuture<ClientSchema> schemaFut = getSchema(schemaVersionOverride == null ? latestSchemaVer : schemaVersionOverride);
         CompletableFuture<List<String>> partitionsFut = getPartitionAssignment();
 
@@ -494,6 +538,10 @@ public class ClientTable implements Table {
                     });
 
                     return txStartFut.thenCompose(tx0 -> {
+                        if (tx0 != null && nearCache != null && ClientOp.isWrite(opCode)) {
+                            tx0.addNearCache(nearCache);
+                        }
+
                         return ch.serviceAsync(
                                 opCode,
                                 w -> writer.accept(schema, w, ctx),
@@ -33,12 +33,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.client.ClientChannel;
+import org.apache.ignite.internal.client.ClientNearCache;
 import org.apache.ignite.internal.client.PartitionMapping;
 import org.apache.ignite.internal.client.PayloadOutputChannel;
 import org.apache.ignite.internal.client.ReliableChannel;
@@ -116,6 +118,10 @@ public class ClientTransaction implements Transaction {
 
     private final ReliableChannel reliableChannel;
 
+    /** Near caches of the tables written by the transaction. */
+    @IgniteToStringExclude
+    private final Set<ClientNearCache> nearCaches = ConcurrentHashMap.newKeySet();
+
     /**
      * Constructor.
      *
@@ -344,7 +350,10 @@ public class ClientTransaction implements Transaction {
                     packEnlisted(w);
                 }
             }, r -> (Void) null);
-        }).thenCompose(identity());
+        }).thenCompose(identity())
+                // Implicit reads could have cached the old values while the transaction was running. The outcome of a failed commit is
+                // not always known, so invalidate in any case.
+                .whenComplete((res, e) -> invalidateNearCaches());
 
         mainFinishFut.handle((res, e) -> {
             if (e != null) {
@@ -583,6 +592,21 @@ public class ClientTransaction implements Transaction {
         }
     }
 
+    /**
+     * Registers the near cache of a table written by the transaction. The cache is invalidated when the transaction is committed.
+     *
+     * @param nearCache Near cache.
+     */
+    public void addNearCache(ClientNearCache nearCache) {
+        nearCaches.add(nearCache);
+    }
+
+    private void invalidateNearCaches() {
+        for (ClientNearCache nearCache : nearCaches) {
+            nearCache.invalidate();
+        }
+    }
+
     @TestOnly
     public int enlistedCount() {
         return enlisted.size();
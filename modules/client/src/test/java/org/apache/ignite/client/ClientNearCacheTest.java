@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.ignite.client.fakes.FakeIgniteTables;
+import org.apache.ignite.internal.client.ClientMetricSource;
+import org.apache.ignite.internal.client.TcpIgniteClient;
+import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Table;
+import org.apache.ignite.table.Tuple;
+import org.apache.ignite.table.mapper.Mapper;
+import org.apache.ignite.tx.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the client near cache.
+ */
+public class ClientNearCacheTest extends AbstractClientTableTest {
+    private IgniteClient nearCacheClient;
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        if (nearCacheClient != null) {
+            nearCacheClient.close();
+        }
+    }
+
+    @Test
+    public void testRepeatedGetIsServedFromCache() {
+        RecordView<Tuple> view = nearCacheTable(60_000).recordView();
+        RecordView<Tuple> serverView = server.tables().table(DEFAULT_TABLE).recordView();
+
+        serverView.upsert(null, tuple(DEFAULT_ID, "John"));
+        assertEquals("John", view.get(null, defaultTupleKey()).stringValue("name"));
+
+        // Change made bypassing the client is not visible until the entry expires.
+        serverView.upsert(null, tuple(DEFAULT_ID, "Jane"));
+        assertEquals("John", view.get(null, defaultTupleKey()).stringValue("name"));
+
+        assertEquals(1, metrics().nearCacheMisses());
+        assertEquals(1, metrics().nearCacheHits());
+    }
+
+    @Test
+    public void testMissingRowIsCached() {
+        KeyValueView<Tuple, Tuple> view = nearCacheTable(60_000).keyValueView();
+
+        assertNull(view.get(null, tupleKey(1)));
+        assertNull(view.get(null, tupleKey(1)));
+
+        assertEquals(1, metrics().nearCacheMisses());
+        assertEquals(1, metrics().nearCacheHits());
+    }
+
+    @Test
+    public void testWriteInvalidatesCache() {
+        Table table = nearCacheTable(60_000);
+        KeyValueView<Tuple, Tuple> view = table.keyValueView();
+
+        view.put(null, defaultTupleKey(), tupleVal("John"));
+        assertEquals("John", view.get(null, defaultTupleKey()).stringValue("name"));
+
+        table.recordView().upsert(null, tuple(DEFAULT_ID, "Jane"));
+        assertEquals("Jane", view.get(null, defaultTupleKey()).stringValue("name"));
+
+        assertEquals(0, metrics().nearCacheHits());
+        assertTrue(metrics().nearCacheInvalidations() > 0);
+    }
+
+    @Test
+    public void testCachedTupleCanNotBeModifiedByCaller() {
+        KeyValueView<Tuple, Tuple> view = nearCacheTable(60_000).keyValueView();
+
+        view.put(null, defaultTupleKey(), tupleVal("John"));
+        view.get(null, defaultTupleKey()).set("name", "Jane");
+
+        assertEquals("John", view.get(null, defaultTupleKey()).stringValue("name"));
+    }
+
+    @Test
+    public void testMappedViewWithSingleColumnKey() {
+        Table table = nearCacheTable(60_000);
+        KeyValueView<Long, String> view = table.keyValueView(Mapper.of(Long.class), Mapper.of(String.class));
+
+        server.tables().table(DEFAULT_TABLE).recordView().upsert(null, tuple(DEFAULT_ID, "John"));
+
+        assertEquals("John", view.get(null, DEFAULT_ID));
+        assertEquals("John", view.get(null, DEFAULT_ID));
+
+        assertEquals(1, metrics().nearCacheHits());
+    }
+
+    @Test
+    public void testMappedPojoValueIsNotCached() {
+        Table table = nearCacheTable(60_000);
+        KeyValueView<Long, PersonValPojo> view = table.keyValueView(Mapper.of(Long.class), Mapper.of(PersonValPojo.class));
+
+        server.tables().table(DEFAULT_TABLE).recordView().upsert(null, tuple(DEFAULT_ID, "John"));
+
+        view.get(null, DEFAULT_ID).name = "Jane";
+        assertEquals("John", view.get(null, DEFAULT_ID).name);
+
+        assertEquals(0, metrics().nearCacheMisses());
+        assertEquals(0, metrics().nearCacheHits());
+    }
+
+    @Test
+    public void testExplicitTransactionBypassesCache() {
+        Table table = nearCacheTable(60_000);
+        RecordView<Tuple> view = table.recordView();
+
+        view.upsert(null, tuple(DEFAULT_ID, "John"));
+        view.get(null, defaultTupleKey());
+
+        Transaction tx = nearCacheClient.transactions().begin();
+        view.get(tx, defaultTupleKey());
+        tx.rollback();
+
+        assertEquals(1, metrics().nearCacheMisses());
+        assertEquals(0, metrics().nearCacheHits());
+    }
+
+    @Test
+    public void testCommitInvalidatesCache() {
+        RecordView<Tuple> view = nearCacheTable(60_000).recordView();
+        RecordView<Tuple> serverView = server.tables().table(DEFAULT_TABLE).recordView();
+
+        view.upsert(null, tuple(DEFAULT_ID, "John"));
+
+        Transaction tx = nearCacheClient.transactions().begin();
+        view.upsert(tx, tuple(DEFAULT_ID, "Jane"));
+
+        // The fake server has no MVCC: restore the committed value to let an implicit read cache it before the commit.
+        serverView.upsert(null, tuple(DEFAULT_ID, "John"));
+        assertEquals("John", view.get(null, defaultTupleKey()).stringValue("name"));
+
+        serverView.upsert(null, tuple(DEFAULT_ID, "Jane"));
+        tx.commit();
+
+        assertEquals("Jane", view.get(null, defaultTupleKey()).stringValue("name"));
+        assertEquals(0, metrics().nearCacheHits());
+    }
+
+    @Test
+    public void testEntryExpires() throws InterruptedException {
+        RecordView<Tuple> view = nearCacheTable(50).recordView();
+        RecordView<Tuple> serverView = server.tables().table(DEFAULT_TABLE).recordView();
+
+        serverView.upsert(null, tuple(DEFAULT_ID, "John"));
+        assertEquals("John", view.get(null, defaultTupleKey()).stringValue("name"));
+
+        serverView.upsert(null, tuple(DEFAULT_ID, "Jane"));
+
+        assertTrue(waitForCondition(() -> "Jane".equals(view.get(null, defaultTupleKey()).stringValue("name")), 5_000));
+    }
+
+    private Table nearCacheTable(long expireAfterWrite) {
+        if (server.tables().table(DEFAULT_TABLE) == null) {
+            ((FakeIgniteTables) server.tables()).createTable(DEFAULT_TABLE);
+        }
+
+        NearCacheConfiguration nearCacheCfg = NearCacheConfiguration.builder()
+                .tables(DEFAULT_TABLE)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+
+        nearCacheClient = IgniteClient.builder()
+                .addresses("127.0.0.1:" + serverPort)
+                .nearCache(nearCacheCfg)
+                .metricsEnabled(true)
+                .build();
+
+        return nearCacheClient.tables().table(DEFAULT_TABLE);
+    }
+
+    private ClientMetricSource metrics() {
+        return ((TcpIgniteClient) nearCacheClient).metrics();
+    }
+}
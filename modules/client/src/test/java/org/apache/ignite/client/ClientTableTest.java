@@ -28,10 +28,12 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.apache.ignite.client.fakes.FakeIgniteTables;
@@ -60,6 +62,31 @@ public class ClientTableTest extends AbstractClientTableTest {
                 ex.getMessage());
     }
 
+    @Test
+    public void testConcurrentAsyncRequestsFromManyThreads() throws Exception {
+        RecordView<Tuple> table = defaultTable().recordView();
+        AtomicLong idGen = new AtomicLong();
+
+        IgniteTestUtils.runMultiThreaded(() -> {
+            List<CompletableFuture<Tuple>> futs = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++) {
+                long id = idGen.incrementAndGet();
+
+                table.upsert(null, tuple(id, "name-" + id));
+                futs.add(table.getAsync(null, tuple(id)));
+            }
+
+            for (CompletableFuture<Tuple> fut : futs) {
+                Tuple res = fut.join();
+
+                assertEquals("name-" + res.longValue("id"), res.stringValue("name"));
+            }
+
+            return null;
+        }, 8, "client-test-thread");
+    }
+
     @Test
     public void testUpsertGet() {
         var table = defaultTable().recordView();
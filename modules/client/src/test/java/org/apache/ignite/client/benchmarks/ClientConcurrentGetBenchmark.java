@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client.benchmarks;
+
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.ResourceLeakDetector.Level;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.client.TestServer;
+import org.apache.ignite.client.fakes.FakeIgnite;
+import org.apache.ignite.client.fakes.FakeIgniteTables;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Many small async gets from many threads over a single connection - measures request pipelining and write coalescing.
+ */
+@State(Scope.Benchmark)
+public class ClientConcurrentGetBenchmark {
+    private static final String DEFAULT_TABLE = "default_test_table";
+
+    /** Number of async requests in flight per benchmark thread. */
+    private static final int PIPELINE_DEPTH = 64;
+
+    private TestServer testServer;
+
+    private IgniteClient client;
+
+    private RecordView<Tuple> recordView;
+
+    private Tuple key;
+
+    /**
+     * Init.
+     */
+    @Setup
+    public void init() {
+        FakeIgnite ignite = new FakeIgnite("server-1");
+        ((FakeIgniteTables) ignite.tables()).createTable(DEFAULT_TABLE);
+
+        testServer = new TestServer(1000, ignite);
+
+        client = IgniteClient.builder()
+                .addresses("127.0.0.1:" + testServer.port())
+                .build();
+
+        key = Tuple.create().set("id", 1L);
+
+        recordView = client.tables().table(DEFAULT_TABLE).recordView();
+        recordView.upsert(null, Tuple.create().set("id", 1L).set("name", "John"));
+    }
+
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        client.close();
+        testServer.close();
+    }
+
+    /**
+     * Async get benchmark.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_DEPTH)
+    public void getAsync() {
+        CompletableFuture<?>[] futs = new CompletableFuture[PIPELINE_DEPTH];
+
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            futs[i] = recordView.getAsync(null, key);
+        }
+
+        CompletableFuture.allOf(futs).join();
+    }
+
+    /**
+     * Runner.
+     *
+     * @param args Arguments.
+     * @throws RunnerException Exception.
+     */
+    public static void main(String[] args) throws RunnerException {
+        ResourceLeakDetector.setLevel(Level.DISABLED);
+
+        Options opt = new OptionsBuilder()
+                .include(ClientConcurrentGetBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(5))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.seconds(5))
+                .threads(16)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -237,6 +237,11 @@ public class FakeInternalTable implements InternalTable, StreamerReceiverRunner
         return nullCompletedFuture();
     }
 
+    @Override
+    public CompletableFuture<Void> updateAll(Collection<BinaryRowEx> rows, @Nullable BitSet deleted, int partition, boolean bulkLoad) {
+        return updateAll(rows, deleted, partition);
+    }
+
     @Override
     public CompletableFuture<BinaryRow> getAndUpsert(BinaryRowEx row,
             @Nullable InternalTransaction tx) {
@@ -43,6 +43,12 @@ public final class IgniteSystemProperties {
     /** Skip storage update in a benchmark. */
     public static final String IGNITE_SKIP_STORAGE_UPDATE_IN_BENCHMARK = "IGNITE_SKIP_STORAGE_UPDATE_IN_BENCHMARK";
 
+    /**
+     * Number of threads used to apply Raft commands of different tables of a zone partition in parallel. {@code 0} (the default) means
+     * that commands are applied sequentially on the Raft thread.
+     */
+    public static final String PARALLEL_RAFT_APPLY_THREADS = "IGNITE_PARALLEL_RAFT_APPLY_THREADS";
+
     // TODO https://issues.apache.org/jira/browse/IGNITE-22522 Remove this feature flag.
     /**
      * Enables zone based replication (aka colocation) feature.
@@ -22,10 +22,12 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import org.jetbrains.annotations.Nullable;
 
 class StreamerBuffer<T> {
-    private final int capacity;
+    /** Capacity, can change over time. */
+    private final IntSupplier capacity;
 
     private final Function<List<T>, CompletableFuture<?>> flusher;
 
@@ -39,10 +41,10 @@ class StreamerBuffer<T> {
 
     private CompletableFuture<?> flushFut;
 
-    StreamerBuffer(int capacity, Function<List<T>, CompletableFuture<?>> flusher) {
+    StreamerBuffer(IntSupplier capacity, Function<List<T>, CompletableFuture<?>> flusher) {
         this.capacity = capacity;
         this.flusher = flusher;
-        buf = new ArrayList<>(capacity);
+        buf = new ArrayList<>(capacity.getAsInt());
     }
 
     /**
@@ -60,9 +62,9 @@ class StreamerBuffer<T> {
 
             buf.add(item);
 
-            if (buf.size() >= capacity) {
+            if (buf.size() >= capacity.getAsInt()) {
                 bufToFlush = buf;
-                buf = new ArrayList<>(capacity);
+                buf = new ArrayList<>(capacity.getAsInt());
                 lastFlushNanos = System.nanoTime();
             }
         }
@@ -105,7 +107,7 @@ class StreamerBuffer<T> {
             }
 
             bufToFlush = buf;
-            buf = new ArrayList<>(capacity);
+            buf = new ArrayList<>(capacity.getAsInt());
             lastFlushNanos = System.nanoTime();
         }
 
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import java.util.function.IntConsumer;
+
+/**
+ * AIMD (additive increase, multiplicative decrease) flow controller of a single streamer partition.
+ *
+ * <p>Tunes the page size and the number of pages in flight within the limits set by {@link StreamerOptions}, starting from those limits.
+ * A batch whose round trip exceeds the smoothed round-trip time {@link #RTT_SPIKE_FACTOR} times halves both values. Any other batch grows
+ * the page size by a fixed step or, once the page size is at its limit, the in-flight window by one page. Retries performed by the batch
+ * sender when the cluster rejects a batch are a part of its round trip, so rejections are treated as spikes as well.
+ *
+ * <p>Only a batch sent after the last decrease may trigger the next one, so that one congestion episode halves the values once.
+ */
+class StreamerFlowController {
+    /** Round-trip time to smoothed round-trip time ratio that is considered a congestion signal. */
+    static final int RTT_SPIKE_FACTOR = 2;
+
+    /** Number of additive steps it takes the page size to grow from its minimum to its limit. */
+    static final int PAGE_SIZE_STEPS = 32;
+
+    /** Weight of a new sample in the smoothed round-trip time, as a power of two (1/8, same as TCP). */
+    private static final int RTT_SMOOTHING_SHIFT = 3;
+
+    private final int maxPageSize;
+
+    private final int maxParallelOperations;
+
+    /** Page size step, also the minimum page size. */
+    private final int pageSizeStep;
+
+    private final StreamerMetricSink metrics;
+
+    /** Receives the changes of {@link #itemsInFlightLimit()}. */
+    private final IntConsumer itemsInFlightLimitListener;
+
+    private volatile int pageSize;
+
+    private volatile int parallelOperations;
+
+    private long smoothedRttNanos;
+
+    private boolean decreased;
+
+    private long lastDecreaseNanos;
+
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param options Streamer options, page size and parallel operations of which are used as limits.
+     * @param metrics Metrics.
+     * @param itemsInFlightLimitListener Receives the changes of {@link #itemsInFlightLimit()}, including the initial value.
+     */
+    StreamerFlowController(StreamerOptions options, StreamerMetricSink metrics, IntConsumer itemsInFlightLimitListener) {
+        this.maxPageSize = options.pageSize();
+        this.maxParallelOperations = options.perPartitionParallelOperations();
+        this.pageSizeStep = Math.max(1, maxPageSize / PAGE_SIZE_STEPS);
+        this.metrics = metrics;
+        this.itemsInFlightLimitListener = itemsInFlightLimitListener;
+
+        pageSize = maxPageSize;
+        parallelOperations = maxParallelOperations;
+
+        onItemsInFlightLimitChanged(itemsInFlightLimit());
+    }
+
+    /**
+     * Gets the current page size.
+     *
+     * @return Page size.
+     */
+    int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Gets the current number of pages that may be in flight.
+     *
+     * @return Parallel operations.
+     */
+    int parallelOperations() {
+        return parallelOperations;
+    }
+
+    /**
+     * Gets the current number of items that may be in flight.
+     *
+     * @return Items in flight limit.
+     */
+    int itemsInFlightLimit() {
+        return pageSize * parallelOperations;
+    }
+
+    /**
+     * Handles a successfully sent batch.
+     *
+     * @param sentNanos {@link System#nanoTime()} when the batch was sent.
+     * @param completedNanos {@link System#nanoTime()} when the batch was completed.
+     */
+    synchronized void onBatchCompleted(long sentNanos, long completedNanos) {
+        if (closed) {
+            return;
+        }
+
+        long rttNanos = completedNanos - sentNanos;
+        int oldLimit = itemsInFlightLimit();
+
+        if (smoothedRttNanos > 0 && rttNanos > smoothedRttNanos * RTT_SPIKE_FACTOR) {
+            if (!decreased || sentNanos - lastDecreaseNanos >= 0) {
+                pageSize = Math.max(pageSizeStep, pageSize / 2);
+                parallelOperations = Math.max(1, parallelOperations / 2);
+
+                decreased = true;
+                lastDecreaseNanos = completedNanos;
+
+                metrics.streamerFlowControlDecreasesAdd(1);
+            }
+        } else if (pageSize < maxPageSize) {
+            pageSize = Math.min(maxPageSize, pageSize + pageSizeStep);
+
+            metrics.streamerFlowControlIncreasesAdd(1);
+        } else if (parallelOperations < maxParallelOperations) {
+            parallelOperations++;
+
+            metrics.streamerFlowControlIncreasesAdd(1);
+        }
+
+        // Spikes are included, otherwise a permanent latency increase would keep halving the values down to the minimum.
+        smoothedRttNanos = smoothedRttNanos == 0
+                ? Math.max(1, rttNanos)
+                : smoothedRttNanos + ((rttNanos - smoothedRttNanos) >> RTT_SMOOTHING_SHIFT);
+
+        int newLimit = itemsInFlightLimit();
+
+        if (newLimit != oldLimit) {
+            onItemsInFlightLimitChanged(newLimit - oldLimit);
+        }
+    }
+
+    /**
+     * Closes the controller, withdrawing its {@link #itemsInFlightLimit()}.
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        onItemsInFlightLimitChanged(-itemsInFlightLimit());
+    }
+
+    private void onItemsInFlightLimitChanged(int delta) {
+        itemsInFlightLimitListener.accept(delta);
+        metrics.streamerItemsInFlightLimitAdd(delta);
+    }
+}
@@ -48,4 +48,25 @@ public interface StreamerMetricSink {
      * @param items Queued items.
      */
     void streamerItemsQueuedAdd(long items);
+
+    /**
+     * Adds adaptive streamer flow control increases (page size or in-flight window grown).
+     *
+     * @param increases Flow control increases.
+     */
+    void streamerFlowControlIncreasesAdd(long increases);
+
+    /**
+     * Adds adaptive streamer flow control decreases (page size and in-flight window shrunk on congestion).
+     *
+     * @param decreases Flow control decreases.
+     */
+    void streamerFlowControlDecreasesAdd(long decreases);
+
+    /**
+     * Adds adaptive streamer in-flight items limit.
+     *
+     * @param items In-flight items limit change.
+     */
+    void streamerItemsInFlightLimitAdd(long items);
 }
@@ -42,4 +42,12 @@ public interface StreamerOptions {
      * @return Auto flush interval.
      */
     int autoFlushInterval();
+
+    /**
+     * Gets a value indicating whether the page size and the number of parallel operations are tuned adaptively, with
+     * {@link #pageSize()} and {@link #perPartitionParallelOperations()} being the upper limits.
+     *
+     * @return Whether adaptive batching is enabled.
+     */
+    boolean adaptiveBatching();
 }
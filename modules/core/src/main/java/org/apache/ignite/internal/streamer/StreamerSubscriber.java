@@ -36,6 +36,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.table.DataStreamerException;
 import org.jetbrains.annotations.Nullable;
@@ -76,6 +77,12 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
 
     private final ConcurrentMap<P, CompletableFuture<Collection<R>>> pendingRequests = new ConcurrentHashMap<>();
 
+    /** Per-partition flow controllers, used when {@link StreamerOptions#adaptiveBatching()} is enabled. */
+    private final ConcurrentMap<P, StreamerFlowController> flowControllers = new ConcurrentHashMap<>();
+
+    /** Sum of {@link StreamerFlowController#itemsInFlightLimit()} of all partitions. */
+    private final AtomicInteger adaptiveItemsInFlightLimit = new AtomicInteger();
+
     private final IgniteLogger log;
 
     private final StreamerMetricSink metrics;
@@ -175,7 +182,7 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
 
         StreamerBuffer<E> buf = buffers.computeIfAbsent(
                 partition,
-                p -> new StreamerBuffer<>(options.pageSize(), items -> enlistBatch(p, items)));
+                p -> new StreamerBuffer<>(bufferCapacity(p), items -> enlistBatch(p, items)));
 
         synchronized (this) {
             if (closed) {
@@ -211,6 +218,18 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
         return completionFut;
     }
 
+    private IntSupplier bufferCapacity(P partition) {
+        if (!options.adaptiveBatching()) {
+            return options::pageSize;
+        }
+
+        StreamerFlowController flowController = flowControllers.computeIfAbsent(
+                partition,
+                p -> new StreamerFlowController(options, metrics, adaptiveItemsInFlightLimit::addAndGet));
+
+        return flowController::pageSize;
+    }
+
     private CompletableFuture<Collection<R>> enlistBatch(P partition, List<E> batch) {
         int batchSize = batch.size();
         assert batchSize > 0 : "Batch size must be positive.";
@@ -243,6 +262,8 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
                 deleted.set(items.size() - 1, deleteFunc.apply(e));
             }
 
+            long sentNanos = System.nanoTime();
+
             return batchSender.sendAsync(partition, items, deleted).whenComplete((res, err) -> {
                 if (err != null) {
                     // Retry is handled by the sender (RetryPolicy in ReliableChannel on the client, sendWithRetry on the server).
@@ -259,6 +280,12 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
                     this.metrics.streamerItemsSentAdd(batchSize);
                     this.metrics.streamerItemsQueuedAdd(-batchSize);
 
+                    StreamerFlowController flowController = flowControllers.get(partition);
+
+                    if (flowController != null) {
+                        flowController.onBatchCompleted(sentNanos, System.nanoTime());
+                    }
+
                     inFlightItemCount.addAndGet(-batchSize);
                     requestMore();
 
@@ -338,6 +365,8 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
             var futs = pendingRequests.values().toArray(new CompletableFuture[0]);
 
             CompletableFuture.allOf(futs).whenCompleteAsync((v, e) -> {
+                closeFlowControllers();
+
                 if (e != null) {
                     completeWithError(e);
                 } else {
@@ -352,10 +381,17 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
             // Collect failed/non-delivered items from failed requests and pending buffers.
             var futs = pendingRequests.values().toArray(new CompletableFuture[0]);
 
-            CompletableFuture.allOf(futs).whenCompleteAsync((v, e) -> completeWithError(throwable), flushExecutor);
+            CompletableFuture.allOf(futs).whenCompleteAsync((v, e) -> {
+                closeFlowControllers();
+                completeWithError(throwable);
+            }, flushExecutor);
         }
     }
 
+    private void closeFlowControllers() {
+        flowControllers.values().forEach(StreamerFlowController::close);
+    }
+
     private void completeWithError(Throwable throwable) {
         buffers.values().forEach(buf -> buf.forEach(failedItems::add));
         DataStreamerException streamerErr = new DataStreamerException(failedItems, throwable);
@@ -378,8 +414,11 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
 
             // This method controls backpressure. We won't get more items than we requested.
             // The idea is to have perPartitionParallelOperations batches in flight for every connection.
+            // With adaptive batching, page size and the number of batches are tuned per partition by the flow controllers.
             var pending = pendingItemCount.get();
-            var desiredInFlight = Math.max(1, buffers.size()) * options.pageSize() * options.perPartitionParallelOperations();
+            var desiredInFlight = options.adaptiveBatching()
+                    ? adaptiveDesiredInFlight()
+                    : Math.max(1, buffers.size()) * options.pageSize() * options.perPartitionParallelOperations();
             var inFlight = inFlightItemCount.get();
             toRequest = desiredInFlight - inFlight - pending;
 
@@ -400,6 +439,13 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
         }
     }
 
+    private int adaptiveDesiredInFlight() {
+        int limit = adaptiveItemsInFlightLimit.get();
+
+        // No partitions are known before the first item arrives, use the limit of a single partition.
+        return limit > 0 ? limit : options.pageSize() * options.perPartitionParallelOperations();
+    }
+
     private synchronized void initFlushTimer() {
         if (closed) {
             return;
@@ -445,6 +491,21 @@ public class StreamerSubscriber<T, E, V, R, P> implements Subscriber<E> {
             public void streamerItemsQueuedAdd(long items) {
                 // No-op.
             }
+
+            @Override
+            public void streamerFlowControlIncreasesAdd(long increases) {
+                // No-op.
+            }
+
+            @Override
+            public void streamerFlowControlDecreasesAdd(long decreases) {
+                // No-op.
+            }
+
+            @Override
+            public void streamerItemsInFlightLimitAdd(long items) {
+                // No-op.
+            }
         };
     }
 
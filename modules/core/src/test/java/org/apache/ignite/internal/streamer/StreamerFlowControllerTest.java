@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StreamerFlowController}.
+ */
+class StreamerFlowControllerTest extends BaseIgniteAbstractTest {
+    private static final int PAGE_SIZE = 320;
+
+    private static final int PARALLEL_OPS = 4;
+
+    private static final long RTT = 1_000;
+
+    private final Metrics metrics = new Metrics();
+
+    private final AtomicInteger itemsInFlightLimit = new AtomicInteger();
+
+    private StreamerFlowController controller;
+
+    /** Current fake {@link System#nanoTime()}. */
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        controller = new StreamerFlowController(new Options(), metrics, itemsInFlightLimit::addAndGet);
+    }
+
+    @Test
+    void startsWithConfiguredLimits() {
+        assertThat(controller.pageSize(), is(PAGE_SIZE));
+        assertThat(controller.parallelOperations(), is(PARALLEL_OPS));
+        assertThat(itemsInFlightLimit.get(), is(PAGE_SIZE * PARALLEL_OPS));
+        assertThat(metrics.itemsInFlightLimit.intValue(), is(PAGE_SIZE * PARALLEL_OPS));
+    }
+
+    @Test
+    void halvesLimitsOnRttSpike() {
+        batch(RTT);
+        batch(RTT * (StreamerFlowController.RTT_SPIKE_FACTOR + 1));
+
+        assertThat(controller.pageSize(), is(PAGE_SIZE / 2));
+        assertThat(controller.parallelOperations(), is(PARALLEL_OPS / 2));
+        assertThat(metrics.decreases.intValue(), is(1));
+        assertThat(itemsInFlightLimit.get(), is(PAGE_SIZE * PARALLEL_OPS / 4));
+        assertThat(metrics.itemsInFlightLimit.intValue(), is(PAGE_SIZE * PARALLEL_OPS / 4));
+    }
+
+    @Test
+    void decreasesOncePerCongestionEpisode() {
+        batch(RTT);
+
+        // Two slow batches that were in flight at the same time.
+        long sent = now;
+        now += RTT * 10;
+        controller.onBatchCompleted(sent, now);
+        controller.onBatchCompleted(sent, now);
+
+        assertThat(metrics.decreases.intValue(), is(1));
+        assertThat(controller.pageSize(), is(PAGE_SIZE / 2));
+    }
+
+    @Test
+    void growsPageSizeThenParallelOperationsAdditively() {
+        batch(RTT);
+        batch(RTT * 10);
+
+        int step = PAGE_SIZE / StreamerFlowController.PAGE_SIZE_STEPS;
+
+        batch(RTT);
+
+        assertThat(controller.pageSize(), is(PAGE_SIZE / 2 + step));
+        assertThat(controller.parallelOperations(), is(PARALLEL_OPS / 2));
+
+        while (controller.pageSize() < PAGE_SIZE) {
+            batch(RTT);
+        }
+
+        batch(RTT);
+
+        assertThat(controller.parallelOperations(), is(PARALLEL_OPS / 2 + 1));
+
+        for (int i = 0; i < PARALLEL_OPS; i++) {
+            batch(RTT);
+        }
+
+        assertThat(controller.pageSize(), is(PAGE_SIZE));
+        assertThat(controller.parallelOperations(), is(PARALLEL_OPS));
+        assertThat(itemsInFlightLimit.get(), is(PAGE_SIZE * PARALLEL_OPS));
+    }
+
+    @Test
+    void doesNotGoBelowMinimum() {
+        batch(RTT);
+
+        for (int i = 0; i < 20; i++) {
+            batch(RTT * (1L << (i + 2)));
+        }
+
+        assertThat(controller.pageSize(), is(PAGE_SIZE / StreamerFlowController.PAGE_SIZE_STEPS));
+        assertThat(controller.parallelOperations(), is(1));
+    }
+
+    @Test
+    void closeWithdrawsLimit() {
+        batch(RTT);
+        batch(RTT * 10);
+
+        controller.close();
+
+        assertThat(itemsInFlightLimit.get(), is(0));
+        assertThat(metrics.itemsInFlightLimit.intValue(), is(0));
+
+        // Late completions are ignored.
+        batch(RTT);
+
+        assertThat(itemsInFlightLimit.get(), is(0));
+    }
+
+    private void batch(long rtt) {
+        long sent = now;
+        now += rtt;
+
+        controller.onBatchCompleted(sent, now);
+    }
+
+    private static class Options implements StreamerOptions {
+        @Override
+        public int pageSize() {
+            return PAGE_SIZE;
+        }
+
+        @Override
+        public int perPartitionParallelOperations() {
+            return PARALLEL_OPS;
+        }
+
+        @Override
+        public int autoFlushInterval() {
+            return 0;
+        }
+
+        @Override
+        public boolean adaptiveBatching() {
+            return true;
+        }
+    }
+
+    private static class Metrics implements StreamerMetricSink {
+        private final LongAdder increases = new LongAdder();
+        private final LongAdder decreases = new LongAdder();
+        private final LongAdder itemsInFlightLimit = new LongAdder();
+
+        @Override
+        public void streamerBatchesSentAdd(long batches) {
+            // No-op.
+        }
+
+        @Override
+        public void streamerItemsSentAdd(long items) {
+            // No-op.
+        }
+
+        @Override
+        public void streamerBatchesActiveAdd(long batches) {
+            // No-op.
+        }
+
+        @Override
+        public void streamerItemsQueuedAdd(long items) {
+            // No-op.
+        }
+
+        @Override
+        public void streamerFlowControlIncreasesAdd(long increases) {
+            this.increases.add(increases);
+        }
+
+        @Override
+        public void streamerFlowControlDecreasesAdd(long decreases) {
+            this.decreases.add(decreases);
+        }
+
+        @Override
+        public void streamerItemsInFlightLimitAdd(long items) {
+            itemsInFlightLimit.add(items);
+        }
+    }
+}
@@ -81,6 +81,21 @@ class StreamerSubscriberTest extends BaseIgniteAbstractTest {
         public void streamerItemsQueuedAdd(long items) {
             itemsQueued.add(items);
         }
+
+        @Override
+        public void streamerFlowControlIncreasesAdd(long increases) {
+            // No-op.
+        }
+
+        @Override
+        public void streamerFlowControlDecreasesAdd(long decreases) {
+            // No-op.
+        }
+
+        @Override
+        public void streamerItemsInFlightLimitAdd(long items) {
+            // No-op.
+        }
     }
 
     private static class Options implements StreamerOptions {
@@ -108,6 +123,11 @@ class StreamerSubscriberTest extends BaseIgniteAbstractTest {
         public int autoFlushInterval() {
             return autoFlushInterval;
         }
+
+        @Override
+        public boolean adaptiveBatching() {
+            return false;
+        }
     }
 
     /**
@@ -181,6 +181,7 @@ public class DefaultMessagingService extends AbstractMessagingService {
 
         this.connectionManager = connectionManager;
         connectionManager.addListener(this::handleMessageFromNetwork);
+        connectionManager.outboundTrafficListener(metrics);
 
         outboundExecutor = new CriticalSingleThreadExecutor(
                 IgniteMessageServiceThreadFactory.create(nodeName, "MessagingService-outbound", LOG, NOTHING_ALLOWED)
@@ -737,6 +738,9 @@ public class DefaultMessagingService extends AbstractMessagingService {
 
         metricManager.registerSource(metricSource);
         metricManager.enable(metricSource);
+
+        metricManager.registerSource(connectionManager.compressionMetricSource());
+        metricManager.enable(connectionManager.compressionMetricSource());
     }
 
     /**
@@ -744,6 +748,7 @@ public class DefaultMessagingService extends AbstractMessagingService {
      */
     public void stop() throws Exception {
         metricManager.unregisterSource(metricSource);
+        metricManager.unregisterSource(connectionManager.compressionMetricSource());
 
         var exception = new NodeStoppingException();
 
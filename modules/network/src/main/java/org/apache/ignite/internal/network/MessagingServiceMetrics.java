@@ -17,9 +17,16 @@
 
 package org.apache.ignite.internal.network;
 
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.network.netty.OutboundTrafficListener;
+
+class MessagingServiceMetrics implements OutboundTrafficListener {
+    /** Histogram buckets of the message send latency, in microseconds. */
+    private static final long[] SEND_LATENCY_BUCKETS_MICROS = {10, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 50_000, 100_000};
 
-class MessagingServiceMetrics {
     private final AtomicLongMetric messageHandlingFailures;
 
     private final AtomicLongMetric messageRecipientNotFound;
@@ -28,6 +35,12 @@ class MessagingServiceMetrics {
 
     private final AtomicLongMetric slowResponses;
 
+    private final LongAdderMetric outboundFlushes;
+
+    private final LongAdderMetric outboundMessages;
+
+    private final DistributionMetric sendLatency;
+
     MessagingServiceMetrics(MessagingServiceMetricSource source) {
         messageHandlingFailures = source.addMetric(new AtomicLongMetric(
                 "messageHandlingFailures",
@@ -48,6 +61,22 @@ class MessagingServiceMetrics {
                 "slowResponses",
                 "Total number of responses that took long to generate (> 100ms)."
         ));
+
+        outboundFlushes = source.addMetric(new LongAdderMetric(
+                "outboundFlushes",
+                "Total number of flushes of the outbound network channels, each one results in at least one write system call."
+        ));
+
+        outboundMessages = source.addMetric(new LongAdderMetric(
+                "outboundMessages",
+                "Total number of messages written to the outbound network channels."
+        ));
+
+        sendLatency = source.addMetric(new DistributionMetric(
+                "sendLatency",
+                "Distribution of the time between passing a message to a network channel and writing it to the socket, in microseconds.",
+                SEND_LATENCY_BUCKETS_MICROS
+        ));
     }
 
     void incrementMessageHandlingFailures() {
@@ -65,4 +94,15 @@ class MessagingServiceMetrics {
     void incrementSlowResponses() {
         slowResponses.increment();
     }
+
+    @Override
+    public void onFlush(int messages) {
+        outboundFlushes.increment();
+        outboundMessages.add(messages);
+    }
+
+    @Override
+    public void onMessageSent(long latencyNanos) {
+        sendLatency.add(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
 }
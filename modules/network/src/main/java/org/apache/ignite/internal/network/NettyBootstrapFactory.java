@@ -26,8 +26,6 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.EventExecutor;
 import java.util.ArrayList;
 import java.util.List;
@@ -39,8 +37,8 @@ import org.apache.ignite.internal.network.configuration.NetworkConfiguration;
 import org.apache.ignite.internal.network.configuration.NetworkView;
 import org.apache.ignite.internal.network.configuration.OutboundView;
 import org.apache.ignite.internal.network.handshake.HandshakeEventLoopSwitcher;
-import org.apache.ignite.internal.network.netty.NamedNioEventLoopGroup;
 import org.apache.ignite.internal.network.netty.NamedNioEventLoopGroup.NetworkThread;
+import org.apache.ignite.internal.network.netty.NettyTransport;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -53,6 +51,9 @@ public class NettyBootstrapFactory implements IgniteComponent {
     /** Prefix for event loop group names. */
     private final String eventLoopGroupNamePrefix;
 
+    /** Transport used for the network I/O. */
+    private NettyTransport transport;
+
     /** Boss socket channel handler event loop group (this group accepts connections). */
     private EventLoopGroup bossGroup;
 
@@ -85,18 +86,23 @@ public class NettyBootstrapFactory implements IgniteComponent {
         Bootstrap outboundBootstrap = new Bootstrap();
 
         outboundBootstrap.group(workerGroup)
-                .channel(NioSocketChannel.class)
+                .channel(transport.socketChannelClass())
                 // See createServerBootstrap for netty configuration details.
                 .option(ChannelOption.SO_KEEPALIVE, outboundConfiguration.soKeepAlive())
                 .option(ChannelOption.SO_LINGER, outboundConfiguration.soLinger())
                 .option(ChannelOption.TCP_NODELAY, outboundConfiguration.tcpNoDelay());
 
+        transport.configure(outboundBootstrap);
+
         return outboundBootstrap;
     }
 
     /**
      * Creates bootstrap for inbound server connections.
      *
+     * <p>Besides the cluster connections, the bootstrap is used by the client connector, so both use the {@link NettyTransport}
+     * of this factory.
+     *
      * @return Bootstrap.
      */
     public ServerBootstrap createServerBootstrap() {
@@ -104,7 +110,7 @@ public class NettyBootstrapFactory implements IgniteComponent {
         ServerBootstrap serverBootstrap = new ServerBootstrap();
 
         serverBootstrap.group(bossGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(transport.serverSocketChannelClass())
                 /*
                  * The maximum queue length for incoming connection indications (a request to connect) is set
                  * to the backlog parameter. If a connection indication arrives when the queue is full,
@@ -136,6 +142,8 @@ public class NettyBootstrapFactory implements IgniteComponent {
                  */
                 .childOption(ChannelOption.TCP_NODELAY, serverConfiguration.tcpNoDelay());
 
+        transport.configure(serverBootstrap);
+
         return serverBootstrap;
     }
 
@@ -149,8 +157,10 @@ public class NettyBootstrapFactory implements IgniteComponent {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> startAsync(ComponentContext componentContext) {
-        bossGroup = NamedNioEventLoopGroup.create(eventLoopGroupNamePrefix + "-network-accept");
-        workerGroup = NamedNioEventLoopGroup.create(eventLoopGroupNamePrefix + "-network-worker");
+        transport = NettyTransport.fromSystemProperties();
+
+        bossGroup = transport.createEventLoopGroup(eventLoopGroupNamePrefix + "-network-accept");
+        workerGroup = transport.createEventLoopGroup(eventLoopGroupNamePrefix + "-network-worker");
 
         this.handshakeEventLoopSwitcher = new HandshakeEventLoopSwitcher(eventLoopsAt(workerGroup));
 
@@ -201,6 +211,14 @@ public class NettyBootstrapFactory implements IgniteComponent {
         return nullCompletedFuture();
     }
 
+    /**
+     * Returns transport used for the network I/O.
+     */
+    @TestOnly
+    public NettyTransport transport() {
+        return transport;
+    }
+
     /**
      * Returns worker event loop group.
      */
@@ -37,6 +37,7 @@ import org.apache.ignite.internal.network.message.value.ShortValueMessage;
 import org.apache.ignite.internal.network.message.value.StringValueMessage;
 import org.apache.ignite.internal.network.message.value.UuidValueMessage;
 import org.apache.ignite.internal.network.recovery.message.AcknowledgementMessage;
+import org.apache.ignite.internal.network.recovery.message.HandshakeCompressionMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeRejectedMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeStartMessage;
@@ -113,6 +114,11 @@ public class NetworkMessageTypes {
      */
     public static final short PROBE_MESSAGE = 12;
 
+    /**
+     * Type for {@link HandshakeCompressionMessage}.
+     */
+    public static final short HANDSHAKE_COMPRESSION = 13;
+
     /**
      * Message types that contain a single value of a certain type.
      */
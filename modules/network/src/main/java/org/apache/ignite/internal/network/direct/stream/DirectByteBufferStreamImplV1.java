@@ -1425,6 +1425,13 @@ public class DirectByteBufferStreamImplV1 implements DirectByteBufferStream {
         return arr != null ? BitSet.valueOf(arr) : null;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned buffer wraps a heap array owned by the deserialized message and never aliases the network buffer it was read from.
+     * Message handlers are free to retain such buffers past the handler invocation (for example, row payloads end up in lock keys
+     * and replication commands), so slices of pooled network buffers must not be exposed here.
+     */
     @Override
     public ByteBuffer readByteBuffer() {
         byte[] bytes;
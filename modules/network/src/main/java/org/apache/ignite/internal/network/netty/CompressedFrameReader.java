@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.network.netty.CompressedFrameWriter.HEADER_SIZE;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.nio.ByteBuffer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads frames of the compressed stream written by {@link CompressedFrameWriter} and accumulates the decompressed data.
+ */
+class CompressedFrameReader {
+    /** Upper bound of the frame length, frames are much smaller in practice; used to detect a corrupted stream early. */
+    private static final int MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+
+    private final NetworkCompressionMetricSource metricSource;
+
+    /** Decompressed data that hasn't been consumed yet. */
+    private @Nullable ByteBuf decompressed;
+
+    CompressedFrameReader(NetworkCompressionMetricSource metricSource) {
+        this.metricSource = metricSource;
+    }
+
+    /**
+     * Reads all the complete frames from the buffer. Incomplete frame is left in the buffer.
+     *
+     * @param allocator Buffer allocator.
+     * @param in Compressed stream.
+     * @return Decompressed data, including the data decompressed earlier that was not consumed. The buffer is owned by the reader.
+     */
+    ByteBuf read(ByteBufAllocator allocator, ByteBuf in) {
+        while (in.readableBytes() >= HEADER_SIZE) {
+            int index = in.readerIndex();
+
+            byte algorithmId = in.getByte(index);
+            int length = in.getInt(index + 1);
+            int decompressedLength = in.getInt(index + 5);
+
+            CompressionAlgorithm algorithm = CompressionAlgorithm.fromId(algorithmId);
+
+            if (algorithm == null || length < 0 || length > MAX_FRAME_LENGTH || decompressedLength < 0
+                    || decompressedLength > MAX_FRAME_LENGTH || (algorithm == CompressionAlgorithm.NONE && length != decompressedLength)) {
+                throw new CorruptedFrameException("Invalid compressed frame header [algorithm=" + algorithmId + ", length=" + length
+                        + ", decompressedLength=" + decompressedLength + ']');
+            }
+
+            if (in.readableBytes() < HEADER_SIZE + length) {
+                break;
+            }
+
+            in.skipBytes(HEADER_SIZE);
+
+            ByteBuf dst = ensureWritable(allocator, decompressedLength);
+
+            if (algorithm == CompressionAlgorithm.NONE) {
+                dst.writeBytes(in, length);
+            } else {
+                decompress(allocator, algorithm, in, length, dst, decompressedLength);
+            }
+        }
+
+        return decompressed == null ? Unpooled.EMPTY_BUFFER : decompressed;
+    }
+
+    private void decompress(
+            ByteBufAllocator allocator,
+            CompressionAlgorithm algorithm,
+            ByteBuf in,
+            int length,
+            ByteBuf dst,
+            int decompressedLength
+    ) {
+        ByteBuf copy = null;
+
+        try {
+            ByteBuffer src;
+
+            if (in.isDirect() && in.nioBufferCount() == 1) {
+                src = in.nioBuffer(in.readerIndex(), length);
+            } else {
+                copy = allocator.directBuffer(length);
+                copy.writeBytes(in, in.readerIndex(), length);
+
+                src = copy.nioBuffer();
+            }
+
+            long start = System.nanoTime();
+
+            algorithm.decompress(src, dst.nioBuffer(dst.writerIndex(), decompressedLength));
+
+            metricSource.onDecompressed(length, decompressedLength, System.nanoTime() - start);
+        } finally {
+            if (copy != null) {
+                copy.release();
+            }
+        }
+
+        in.skipBytes(length);
+        dst.writerIndex(dst.writerIndex() + decompressedLength);
+    }
+
+    private ByteBuf ensureWritable(ByteBufAllocator allocator, int length) {
+        if (decompressed == null) {
+            decompressed = allocator.directBuffer(Math.max(length, INITIAL_CAPACITY));
+        } else {
+            decompressed.discardSomeReadBytes();
+            decompressed.ensureWritable(length);
+        }
+
+        return decompressed;
+    }
+
+    /** Releases the accumulated data. */
+    void release() {
+        if (decompressed != null) {
+            decompressed.release();
+
+            decompressed = null;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Turns chunks of the outgoing data into frames of the compressed stream, see {@link NetworkCompression}.
+ *
+ * <p>Frame format: algorithm ID (1 byte), length of the payload (4 bytes), decompressed length of the payload (4 bytes), payload.
+ * Payload of a {@link CompressionAlgorithm#NONE} frame is the data as is.
+ */
+class CompressedFrameWriter {
+    /** Length of the frame header. */
+    static final int HEADER_SIZE = 9;
+
+    private final CompressionAlgorithm algorithm;
+
+    private final int threshold;
+
+    private final NetworkCompressionMetricSource metricSource;
+
+    CompressedFrameWriter(CompressionAlgorithm algorithm, int threshold, NetworkCompressionMetricSource metricSource) {
+        assert algorithm != CompressionAlgorithm.NONE;
+
+        this.algorithm = algorithm;
+        this.threshold = threshold;
+        this.metricSource = metricSource;
+    }
+
+    /**
+     * Turns a chunk into a frame.
+     *
+     * @param allocator Buffer allocator.
+     * @param chunk Direct buffer that starts with {@link #HEADER_SIZE} bytes reserved for the header, followed by the data.
+     * @return Frame: either the same buffer with the header filled in, or a new buffer with the compressed data (the chunk is released
+     *         in this case).
+     */
+    ByteBuf frame(ByteBufAllocator allocator, ByteBuf chunk) {
+        int length = chunk.readableBytes() - HEADER_SIZE;
+
+        if (length >= threshold) {
+            ByteBuf frame = compress(allocator, chunk, length);
+
+            if (frame != null) {
+                chunk.release();
+
+                return frame;
+            }
+        }
+
+        writeHeader(chunk, chunk.readerIndex(), CompressionAlgorithm.NONE, length, length);
+
+        return chunk;
+    }
+
+    private @Nullable ByteBuf compress(ByteBufAllocator allocator, ByteBuf chunk, int length) {
+        int maxCompressedLength = algorithm.maxCompressedLength(length);
+
+        ByteBuf frame = allocator.directBuffer(HEADER_SIZE + maxCompressedLength);
+
+        try {
+            long start = System.nanoTime();
+
+            int compressedLength = algorithm.compress(
+                    chunk.nioBuffer(chunk.readerIndex() + HEADER_SIZE, length),
+                    frame.nioBuffer(HEADER_SIZE, maxCompressedLength)
+            );
+
+            metricSource.onCompressed(length, Math.min(compressedLength, length), System.nanoTime() - start);
+
+            if (compressedLength >= length) {
+                frame.release();
+
+                return null;
+            }
+
+            writeHeader(frame, 0, algorithm, compressedLength, length);
+
+            return frame.writerIndex(HEADER_SIZE + compressedLength);
+        } catch (Throwable e) {
+            frame.release();
+
+            throw e;
+        }
+    }
+
+    private static void writeHeader(ByteBuf buf, int index, CompressionAlgorithm algorithm, int length, int decompressedLength) {
+        buf.setByte(index, algorithm.id());
+        buf.setInt(index + 1, length);
+        buf.setInt(index + 5, decompressedLength);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import com.github.luben.zstd.Zstd;
+import java.nio.ByteBuffer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compression algorithm of the network traffic between the cluster nodes.
+ *
+ * <p>Compression and decompression methods take direct buffers; the data is read from the source buffer between its position and
+ * limit and is written to the destination buffer starting at its position. Positions of the buffers are not changed.
+ */
+public enum CompressionAlgorithm {
+    /** No compression. */
+    NONE(0) {
+        @Override
+        boolean available() {
+            return true;
+        }
+
+        @Override
+        int maxCompressedLength(int length) {
+            return length;
+        }
+
+        @Override
+        int compress(ByteBuffer src, ByteBuffer dst) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        void decompress(ByteBuffer src, ByteBuffer dst) {
+            throw new UnsupportedOperationException();
+        }
+    },
+
+    /** LZ4: very fast, moderate compression ratio. */
+    LZ4(1) {
+        @Override
+        boolean available() {
+            return true;
+        }
+
+        @Override
+        int maxCompressedLength(int length) {
+            return Lz4Holder.COMPRESSOR.maxCompressedLength(length);
+        }
+
+        @Override
+        int compress(ByteBuffer src, ByteBuffer dst) {
+            return Lz4Holder.COMPRESSOR.compress(src, src.position(), src.remaining(), dst, dst.position(), dst.remaining());
+        }
+
+        @Override
+        void decompress(ByteBuffer src, ByteBuffer dst) {
+            int length = Lz4Holder.DECOMPRESSOR.decompress(src, src.position(), src.remaining(), dst, dst.position(), dst.remaining());
+
+            if (length != dst.remaining()) {
+                throw new IllegalStateException("Unexpected decompressed length [expected=" + dst.remaining() + ", actual=" + length + ']');
+            }
+        }
+    },
+
+    /** Zstandard: better compression ratio than LZ4 at the price of more CPU. Requires the native library. */
+    ZSTD(2) {
+        @Override
+        boolean available() {
+            return ZstdHolder.AVAILABLE;
+        }
+
+        @Override
+        int maxCompressedLength(int length) {
+            return (int) Zstd.compressBound(length);
+        }
+
+        @Override
+        int compress(ByteBuffer src, ByteBuffer dst) {
+            long length = Zstd.compressDirectByteBuffer(
+                    dst, dst.position(), dst.remaining(),
+                    src, src.position(), src.remaining(),
+                    ZSTD_LEVEL
+            );
+
+            if (Zstd.isError(length)) {
+                throw new IllegalStateException("Failed to compress data: " + Zstd.getErrorName(length));
+            }
+
+            return (int) length;
+        }
+
+        @Override
+        void decompress(ByteBuffer src, ByteBuffer dst) {
+            long length = Zstd.decompressDirectByteBuffer(
+                    dst, dst.position(), dst.remaining(),
+                    src, src.position(), src.remaining()
+            );
+
+            if (Zstd.isError(length)) {
+                throw new IllegalStateException("Failed to decompress data: " + Zstd.getErrorName(length));
+            }
+
+            if (length != dst.remaining()) {
+                throw new IllegalStateException("Unexpected decompressed length [expected=" + dst.remaining() + ", actual=" + length + ']');
+            }
+        }
+    };
+
+    /** Zstd compression level, the fastest one is chosen as the network is rarely slow enough to justify higher levels. */
+    private static final int ZSTD_LEVEL = 1;
+
+    private static final CompressionAlgorithm[] VALUES = values();
+
+    private final byte id;
+
+    CompressionAlgorithm(int id) {
+        this.id = (byte) id;
+    }
+
+    /** Returns the algorithm ID that is used on the wire. */
+    public byte id() {
+        return id;
+    }
+
+    /**
+     * Returns the algorithm by its wire ID.
+     *
+     * @param id Algorithm ID.
+     * @return Algorithm or {@code null} if the ID is unknown.
+     */
+    public static @Nullable CompressionAlgorithm fromId(byte id) {
+        return id >= 0 && id < VALUES.length ? VALUES[id] : null;
+    }
+
+    /** Returns {@code true} if the algorithm may be used in the current environment. */
+    abstract boolean available();
+
+    /** Returns the maximum length of the compressed representation of the data of the given length. */
+    abstract int maxCompressedLength(int length);
+
+    /**
+     * Compresses the data.
+     *
+     * @param src Direct buffer with the data.
+     * @param dst Direct buffer with at least {@link #maxCompressedLength} bytes remaining.
+     * @return Length of the compressed data.
+     */
+    abstract int compress(ByteBuffer src, ByteBuffer dst);
+
+    /**
+     * Decompresses the data.
+     *
+     * @param src Direct buffer with the compressed data.
+     * @param dst Direct buffer with exactly the decompressed length remaining.
+     */
+    abstract void decompress(ByteBuffer src, ByteBuffer dst);
+
+    /** Lazily initialized LZ4 codec. */
+    private static class Lz4Holder {
+        private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+        private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+    }
+
+    /** Lazily checks the availability of the Zstd native library. */
+    private static class ZstdHolder {
+        private static final IgniteLogger LOG = Loggers.forClass(CompressionAlgorithm.class);
+
+        private static final boolean AVAILABLE = checkAvailable();
+
+        private static boolean checkAvailable() {
+            try {
+                Zstd.compressBound(1);
+
+                return true;
+            } catch (Throwable e) {
+                LOG.info("Zstd network compression is not available: {}", e.getMessage());
+
+                return false;
+            }
+        }
+    }
+}
@@ -145,6 +145,12 @@ public class ConnectionManager implements ChannelCreationListener {
     /** Failure processor. */
     protected final FailureProcessor failureProcessor;
 
+    /** Compression of the network traffic. */
+    private final NetworkCompression compression = NetworkCompression.fromSystemProperties();
+
+    /** Listener of the outgoing traffic of the senders. */
+    private volatile OutboundTrafficListener outboundTrafficListener = OutboundTrafficListener.NO_OP;
+
     /** Constructor. */
     public ConnectionManager(
             NetworkView networkConfiguration,
@@ -179,7 +185,8 @@ public class ConnectionManager implements ChannelCreationListener {
                 this::onMessage,
                 serializationService,
                 bootstrapFactory,
-                ssl.enabled() ? SslContextProvider.createServerSslContext(ssl) : null
+                ssl.enabled() ? SslContextProvider.createServerSslContext(ssl) : null,
+                compression
         );
 
         // We don't just use Executors#newSingleThreadExecutor() here because the maintenance thread will
@@ -345,6 +352,8 @@ public class ConnectionManager implements ChannelCreationListener {
      */
     @Override
     public void handshakeFinished(NettySender channel) {
+        channel.trafficListener(outboundTrafficListener);
+
         ConnectorKey<UUID> key = new ConnectorKey<>(channel.launchId(), channelTypeRegistry.get(channel.channelId()));
         NettySender oldChannel = channels.put(key, channel);
 
@@ -398,7 +407,8 @@ public class ConnectionManager implements ChannelCreationListener {
                 serializationService,
                 newRecoveryInitiatorHandshakeManager(channelType.id(), localNode),
                 this::onMessage,
-                clientSslContext
+                clientSslContext,
+                compression
         );
 
         client.start(clientBootstrap).whenComplete((sender, throwable) -> {
@@ -460,6 +470,24 @@ public class ConnectionManager implements ChannelCreationListener {
         return allOf(disposeFutures.toArray(CompletableFuture[]::new));
     }
 
+    /**
+     * Sets the listener of the outgoing traffic of the senders created after this call.
+     *
+     * @param listener Listener.
+     */
+    public void outboundTrafficListener(OutboundTrafficListener listener) {
+        this.outboundTrafficListener = listener;
+    }
+
+    /**
+     * Returns the metric source of the network traffic compression.
+     *
+     * @return Compression metric source.
+     */
+    public NetworkCompressionMetricSource compressionMetricSource() {
+        return compression.metricSource();
+    }
+
     /**
      * Returns {@code true} if the connection manager is stopped or is being stopped, {@code false} otherwise.
      *
@@ -52,6 +52,9 @@ public class InboundDecoder extends ByteToMessageDecoder {
     /** Message group type, for partially read message headers. */
     private static final AttributeKey<Short> GROUP_TYPE_KEY = AttributeKey.valueOf("GROUP_TYPE");
 
+    /** Compressed frame reader channel attribute key, set once the remote node switches compression on. */
+    private static final AttributeKey<CompressedFrameReader> FRAME_READER_KEY = AttributeKey.valueOf("FRAME_READER");
+
     private final MessageFormat messageFormat;
 
     /** Serialization service. */
@@ -70,6 +73,37 @@ public class InboundDecoder extends ByteToMessageDecoder {
     /** {@inheritDoc} */
     @Override
     public void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        Attribute<CompressedFrameReader> frameReaderAttr = ctx.channel().attr(FRAME_READER_KEY);
+        CompressedFrameReader frameReader = frameReaderAttr.get();
+
+        if (frameReader == null) {
+            decodeMessages(ctx, in, out);
+
+            frameReader = frameReaderAttr.get();
+
+            // Compression was not switched on by one of the decoded messages.
+            if (frameReader == null) {
+                return;
+            }
+        }
+
+        decodeMessages(ctx, frameReader.read(ctx.alloc(), in), out);
+    }
+
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) {
+        CompressedFrameReader frameReader = ctx.channel().attr(FRAME_READER_KEY).getAndSet(null);
+
+        if (frameReader != null) {
+            frameReader.release();
+        }
+    }
+
+    /**
+     * Decodes messages from the buffer. Stops right after a message that switches compression on, because the data that follows is
+     * compressed.
+     */
+    private void decodeMessages(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
         ByteBuffer buffer = in.nioBuffer();
 
         Attribute<MessageReader> readerAttr = ctx.channel().attr(READER_KEY);
@@ -142,6 +176,10 @@ public class InboundDecoder extends ByteToMessageDecoder {
                         onClassDescriptorMessage((ClassDescriptorListMessage) message);
                     } else {
                         out.add(message);
+
+                        if (switchCompression(ctx, message)) {
+                            break;
+                        }
                     }
                 } else {
                     deserializerAttr.set(deserializer);
@@ -172,6 +210,18 @@ public class InboundDecoder extends ByteToMessageDecoder {
         return readBytes;
     }
 
+    private static boolean switchCompression(ChannelHandlerContext ctx, NetworkMessage message) {
+        Attribute<CompressedFrameReader> frameReaderAttr = ctx.channel().attr(FRAME_READER_KEY);
+
+        if (frameReaderAttr.get() != null || NetworkCompression.switchesTo(message) == null) {
+            return false;
+        }
+
+        frameReaderAttr.set(new CompressedFrameReader(NetworkCompression.of(ctx.channel()).metricSource()));
+
+        return true;
+    }
+
     private void onClassDescriptorMessage(ClassDescriptorListMessage msg) {
         serializationService.mergeDescriptors(msg.messages());
     }
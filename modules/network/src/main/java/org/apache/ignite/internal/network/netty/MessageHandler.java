@@ -23,6 +23,7 @@ import java.util.function.Consumer;
 import org.apache.ignite.internal.network.InternalClusterNode;
 import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.network.recovery.message.AcknowledgementMessage;
+import org.apache.ignite.internal.network.recovery.message.HandshakeCompressionMessage;
 import org.apache.ignite.internal.network.recovery.message.ProbeMessage;
 import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
 
@@ -77,6 +78,8 @@ public class MessageHandler extends ChannelInboundHandlerAdapter {
     }
 
     private static boolean notPayloadMessage(NetworkMessage message) {
-        return message instanceof AcknowledgementMessage || message instanceof ProbeMessage;
+        return message instanceof AcknowledgementMessage
+                || message instanceof ProbeMessage
+                || message instanceof HandshakeCompressionMessage;
     }
 }
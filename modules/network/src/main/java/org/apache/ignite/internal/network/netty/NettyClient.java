@@ -77,6 +77,9 @@ public class NettyClient {
     /** {@code null} if SSL is not {@link SslConfigurationSchema#enabled}. */
     private final @Nullable SslContext sslContext;
 
+    /** Network compression. */
+    private final NetworkCompression compression;
+
     /**
      * Constructor with SSL configuration.
      *
@@ -85,19 +88,22 @@ public class NettyClient {
      * @param manager Client handshake manager.
      * @param messageListener Message listener.
      * @param sslContext Client SSL context, {@code null} if SSL is not {@link SslConfigurationSchema#enabled}.
+     * @param compression Network compression.
      */
     public NettyClient(
             InetSocketAddress address,
             SerializationService serializationService,
             HandshakeManager manager,
             Consumer<InNetworkObject> messageListener,
-            @Nullable SslContext sslContext
+            @Nullable SslContext sslContext,
+            NetworkCompression compression
     ) {
         this.address = address;
         this.serializationService = serializationService;
         this.handshakeManager = manager;
         this.messageListener = messageListener;
         this.sslContext = sslContext;
+        this.compression = compression;
     }
 
     /**
@@ -124,9 +130,11 @@ public class NettyClient {
                     var sessionSerializationService = new PerSessionSerializationService(serializationService);
 
                     if (sslContext != null) {
-                        PipelineUtils.setup(ch.pipeline(), sessionSerializationService, handshakeManager, messageListener, sslContext);
+                        PipelineUtils.setup(
+                                ch.pipeline(), sessionSerializationService, handshakeManager, messageListener, compression, sslContext
+                        );
                     } else {
-                        PipelineUtils.setup(ch.pipeline(), sessionSerializationService, handshakeManager, messageListener);
+                        PipelineUtils.setup(ch.pipeline(), sessionSerializationService, handshakeManager, messageListener, compression);
                     }
                 }
             });
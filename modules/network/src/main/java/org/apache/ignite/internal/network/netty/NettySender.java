@@ -21,10 +21,17 @@ import static org.apache.ignite.internal.network.netty.NettyUtils.toCompletableF
 import static org.apache.ignite.internal.util.CompletableFutures.isCompletedSuccessfully;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.handler.stream.ChunkedInput;
 import java.nio.channels.ClosedChannelException;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.NettyBootstrapFactory;
@@ -33,14 +40,36 @@ import org.apache.ignite.internal.network.direct.DirectMessageWriter;
 import org.apache.ignite.internal.network.recovery.RecoveryDescriptor;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
  * Wrapper for a Netty {@link Channel}, that uses {@link ChunkedInput} and {@link DirectMessageWriter} to send data.
+ *
+ * <p>By default every message is written and flushed separately. In the write coalescing mode (see {@link WriteCoalescing}) the
+ * messages are put to a queue, which is drained by a single event loop task: the messages are written one after another, and the
+ * channel is flushed once the queue is empty (or after every {@link WriteCoalescing#batchSize()} messages). This saves event loop
+ * wakeups, tasks and flushes when many small messages are sent. The messages are written in the order of {@link #send} calls, so
+ * the ordering guarantees of {@link OutboundRecoveryHandler} are preserved.
  */
 public class NettySender {
     private static final IgniteLogger LOG = Loggers.forClass(NettySender.class);
 
+    /** Name of the system property that enables the write coalescing mode. */
+    public static final String WRITE_COALESCING = "IGNITE_NETWORK_WRITE_COALESCING";
+
+    /** Name of the system property that defines the maximum number of messages written to a channel between two flushes. */
+    public static final String WRITE_BATCH_SIZE = "IGNITE_NETWORK_WRITE_BATCH_SIZE";
+
+    /**
+     * Name of the system property that defines the maximum delay of a flush (in microseconds) when the channel is under load. Zero
+     * means that the channel is flushed as soon as there are no more messages to write.
+     */
+    public static final String FLUSH_DELAY_MICROS = "IGNITE_NETWORK_FLUSH_DELAY_MICROS";
+
+    /** Write coalescing settings defined by the system properties. */
+    private static final WriteCoalescing DEFAULT_WRITE_COALESCING = WriteCoalescing.fromSystemProperties();
+
     /** Netty channel. */
     private final Channel channel;
 
@@ -55,6 +84,25 @@ public class NettySender {
     @IgniteToStringExclude
     private final RecoveryDescriptor recoveryDescriptor;
 
+    @IgniteToStringExclude
+    private final WriteCoalescing writeCoalescing;
+
+    /** Messages waiting to be written, {@code null} if write coalescing is disabled. */
+    @IgniteToStringExclude
+    private final @Nullable Queue<PendingMessage> pendingMessages;
+
+    /** Whether the task draining {@link #pendingMessages} is scheduled or running. */
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    /** Number of messages written since the last flush. Only accessed in the channel event loop. */
+    private int unflushedMessages;
+
+    /** Whether a delayed flush is scheduled. Only accessed in the channel event loop. */
+    private boolean flushScheduled;
+
+    @IgniteToStringExclude
+    private volatile OutboundTrafficListener trafficListener = OutboundTrafficListener.NO_OP;
+
     /**
      * Constructor.
      *
@@ -65,11 +113,43 @@ public class NettySender {
      * @param recoveryDescriptor Descriptor corresponding to the current logical connection.
      */
     public NettySender(Channel channel, UUID launchId, String consistentId, short channelId, RecoveryDescriptor recoveryDescriptor) {
+        this(channel, launchId, consistentId, channelId, recoveryDescriptor, DEFAULT_WRITE_COALESCING);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param channel Netty channel.
+     * @param launchId Launch id of the remote node.
+     * @param consistentId Consistent id of the remote node.
+     * @param channelId channel identifier.
+     * @param recoveryDescriptor Descriptor corresponding to the current logical connection.
+     * @param writeCoalescing Write coalescing settings.
+     */
+    public NettySender(
+            Channel channel,
+            UUID launchId,
+            String consistentId,
+            short channelId,
+            RecoveryDescriptor recoveryDescriptor,
+            WriteCoalescing writeCoalescing
+    ) {
         this.channel = channel;
         this.launchId = launchId;
         this.consistentId = consistentId;
         this.channelId = channelId;
         this.recoveryDescriptor = recoveryDescriptor;
+        this.writeCoalescing = writeCoalescing;
+        this.pendingMessages = writeCoalescing.enabled() ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    /**
+     * Sets the listener of the outgoing traffic.
+     *
+     * @param trafficListener Listener.
+     */
+    public void trafficListener(OutboundTrafficListener trafficListener) {
+        this.trafficListener = trafficListener;
     }
 
     /**
@@ -100,17 +180,165 @@ public class NettySender {
      * @return Future of the send operation (that gets completed when the message gets acknowledged by the receiver).
      */
     public CompletableFuture<Void> send(OutNetworkObject obj, Runnable triggerChannelRecreation) {
+        if (pendingMessages != null) {
+            return enqueue(obj, triggerChannelRecreation);
+        }
+
+        OutboundTrafficListener listener = trafficListener;
+
+        // Don't read the clock when nobody listens to the traffic.
+        long startNanos = listener == OutboundTrafficListener.NO_OP ? 0 : System.nanoTime();
+
         if (!obj.networkMessage().needAck()) {
             // We don't care that the caller might get an exception like ClosedChannelException or that the message
             // will be lost if the channel is closed as it does not require to be acked.
-            return toCompletableFuture(channel.writeAndFlush(obj));
+            ChannelFuture writeFuture = channel.writeAndFlush(obj);
+
+            onWriteAndFlush(writeFuture, listener, startNanos);
+
+            return toCompletableFuture(writeFuture);
         }
 
         // Write in event loop to make sure that, if a ClosedSocketException happens, we recover from it without exiting the event loop.
         // We need this to avoid message reordering due to switching from old channel to a new one.
         // Also, we ALWAYS execute the writes on the event loop (by adding them to the event loop queue) even if we are on
         // the event loop thread, to avoid another reordering.
-        return toCompletableFuture(channel.eventLoop().submit(() -> writeWithRecovery(obj, channel, triggerChannelRecreation), null));
+        return toCompletableFuture(channel.eventLoop().submit(() -> {
+            ChannelFuture writeFuture = writeWithRecovery(obj, channel, triggerChannelRecreation, true);
+
+            onWriteAndFlush(writeFuture, listener, startNanos);
+        }, null));
+    }
+
+    private static void onWriteAndFlush(ChannelFuture writeFuture, OutboundTrafficListener listener, long startNanos) {
+        if (listener != OutboundTrafficListener.NO_OP) {
+            listener.onFlush(1);
+
+            writeFuture.addListener(f -> listener.onMessageSent(System.nanoTime() - startNanos));
+        }
+    }
+
+    private CompletableFuture<Void> enqueue(OutNetworkObject obj, Runnable triggerChannelRecreation) {
+        assert pendingMessages != null;
+
+        var pendingMessage = new PendingMessage(obj, triggerChannelRecreation);
+
+        pendingMessages.add(pendingMessage);
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                // Always go through the event loop queue, even if we are in the event loop thread, to avoid reordering.
+                channel.eventLoop().execute(this::drainPendingMessages);
+            } catch (RejectedExecutionException e) {
+                drainScheduled.set(false);
+
+                failPendingMessages(e);
+            }
+        }
+
+        return pendingMessage.future;
+    }
+
+    /** Writes all pending messages. Called in the channel event loop. */
+    private void drainPendingMessages() {
+        assert pendingMessages != null;
+
+        int batchSize = writeCoalescing.batchSize();
+        int written = 0;
+
+        do {
+            PendingMessage pendingMessage;
+
+            while ((pendingMessage = pendingMessages.poll()) != null) {
+                write(pendingMessage);
+
+                written++;
+
+                if (++unflushedMessages >= batchSize) {
+                    flush();
+                }
+            }
+
+            drainScheduled.set(false);
+
+            // Re-check the queue, as a message might have been added after it was found empty, but before the flag was reset.
+        } while (!pendingMessages.isEmpty() && drainScheduled.compareAndSet(false, true));
+
+        if (unflushedMessages == 0) {
+            return;
+        }
+
+        long flushDelayNanos = writeCoalescing.flushDelayNanos();
+
+        // More than one message in a single drain means that the messages are sent faster than they are written. In this case it's
+        // worth delaying the flush a bit to make the batch bigger; otherwise the flush is done right away to minimize the latency.
+        if (flushDelayNanos > 0 && written > 1) {
+            if (!flushScheduled) {
+                flushScheduled = true;
+
+                channel.eventLoop().schedule(this::delayedFlush, flushDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        } else {
+            flush();
+        }
+    }
+
+    private void write(PendingMessage pendingMessage) {
+        OutNetworkObject obj = pendingMessage.obj;
+
+        try {
+            ChannelFuture writeFuture;
+
+            if (obj.networkMessage().needAck()) {
+                writeFuture = writeWithRecovery(obj, channel, pendingMessage.triggerChannelRecreation, false);
+
+                pendingMessage.future.complete(null);
+            } else {
+                writeFuture = channel.write(obj);
+
+                writeFuture.addListener(f -> {
+                    if (f.isSuccess()) {
+                        pendingMessage.future.complete(null);
+                    } else {
+                        pendingMessage.future.completeExceptionally(f.cause());
+                    }
+                });
+            }
+
+            OutboundTrafficListener listener = trafficListener;
+
+            if (listener != OutboundTrafficListener.NO_OP) {
+                writeFuture.addListener(f -> listener.onMessageSent(System.nanoTime() - pendingMessage.startNanos));
+            }
+        } catch (Throwable e) {
+            pendingMessage.future.completeExceptionally(e);
+        }
+    }
+
+    private void delayedFlush() {
+        flushScheduled = false;
+
+        if (unflushedMessages > 0) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        trafficListener.onFlush(unflushedMessages);
+
+        unflushedMessages = 0;
+
+        channel.flush();
+    }
+
+    private void failPendingMessages(Throwable cause) {
+        assert pendingMessages != null;
+
+        PendingMessage pendingMessage;
+
+        while ((pendingMessage = pendingMessages.poll()) != null) {
+            pendingMessage.future.completeExceptionally(cause);
+        }
     }
 
     private void chainRecoverSendAfterChannelClosure(
@@ -162,14 +390,16 @@ public class NettySender {
 
             // The message is already added to unacked message queue, or it will be added by the send, or by the continuation handling
             // ClosedSocketException that we recursively chain.
-            writeWithRecovery(obj, holderChannel, triggerChannelRecreation);
+            writeWithRecovery(obj, holderChannel, triggerChannelRecreation, true);
         }
     }
 
-    private void writeWithRecovery(OutNetworkObject obj, Channel channel, Runnable triggerChannelRecreation) {
-        CompletableFuture<Void> writeFuture = toCompletableFuture(channel.writeAndFlush(obj));
+    private ChannelFuture writeWithRecovery(OutNetworkObject obj, Channel channel, Runnable triggerChannelRecreation, boolean flush) {
+        ChannelFuture channelFuture = flush ? channel.writeAndFlush(obj) : channel.write(obj);
+
+        chainRecoverSendAfterChannelClosure(toCompletableFuture(channelFuture), obj, channel, triggerChannelRecreation);
 
-        chainRecoverSendAfterChannelClosure(writeFuture, obj, channel, triggerChannelRecreation);
+        return channelFuture;
     }
 
     /**
@@ -239,4 +469,80 @@ public class NettySender {
     public String toString() {
         return S.toString(this);
     }
+
+    /** Message waiting to be written in the write coalescing mode. */
+    private static class PendingMessage {
+        private final OutNetworkObject obj;
+
+        private final Runnable triggerChannelRecreation;
+
+        private final long startNanos = System.nanoTime();
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingMessage(OutNetworkObject obj, Runnable triggerChannelRecreation) {
+            this.obj = obj;
+            this.triggerChannelRecreation = triggerChannelRecreation;
+        }
+    }
+
+    /** Write coalescing settings. */
+    public static class WriteCoalescing {
+        /** Settings with write coalescing disabled. */
+        public static final WriteCoalescing DISABLED = new WriteCoalescing(false, 1, 0);
+
+        /** Default maximum number of messages written between two flushes. */
+        public static final int DEFAULT_BATCH_SIZE = 64;
+
+        private final boolean enabled;
+
+        private final int batchSize;
+
+        private final long flushDelayNanos;
+
+        /**
+         * Constructor.
+         *
+         * @param enabled Whether write coalescing is enabled.
+         * @param batchSize Maximum number of messages written between two flushes.
+         * @param flushDelayNanos Maximum delay of a flush when the channel is under load, zero to flush as soon as there are no more
+         *     messages to write.
+         */
+        public WriteCoalescing(boolean enabled, int batchSize, long flushDelayNanos) {
+            assert batchSize > 0 : batchSize;
+            assert flushDelayNanos >= 0 : flushDelayNanos;
+
+            this.enabled = enabled;
+            this.batchSize = batchSize;
+            this.flushDelayNanos = flushDelayNanos;
+        }
+
+        /**
+         * Creates the settings defined by the system properties.
+         *
+         * @return Settings.
+         */
+        public static WriteCoalescing fromSystemProperties() {
+            return new WriteCoalescing(
+                    IgniteSystemProperties.getBoolean(WRITE_COALESCING, false),
+                    Math.max(IgniteSystemProperties.getInteger(WRITE_BATCH_SIZE, DEFAULT_BATCH_SIZE), 1),
+                    TimeUnit.MICROSECONDS.toNanos(Math.max(IgniteSystemProperties.getLong(FLUSH_DELAY_MICROS, 0), 0))
+            );
+        }
+
+        /** Returns {@code true} if write coalescing is enabled. */
+        public boolean enabled() {
+            return enabled;
+        }
+
+        /** Returns the maximum number of messages written between two flushes. */
+        public int batchSize() {
+            return batchSize;
+        }
+
+        /** Returns the maximum delay of a flush when the channel is under load, in nanoseconds. */
+        public long flushDelayNanos() {
+            return flushDelayNanos;
+        }
+    }
 }
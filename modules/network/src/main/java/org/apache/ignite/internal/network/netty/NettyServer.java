@@ -93,6 +93,9 @@ public class NettyServer {
     /** {@code null} if SSL is not {@link SslConfigurationSchema#enabled}. */
     private final @Nullable SslContext sslContext;
 
+    /** Network compression. */
+    private final NetworkCompression compression;
+
     /** Guarded by {@link #startStopLock}. */
     private final Set<SocketChannel> acceptedChannels = new HashSet<>();
 
@@ -105,6 +108,7 @@ public class NettyServer {
      * @param serializationService Serialization service.
      * @param bootstrapFactory Netty bootstrap factory.
      * @param sslContext Server SSL context, {@code null} if SSL is not {@link SslConfigurationSchema#enabled}.
+     * @param compression Network compression.
      */
     public NettyServer(
             InetSocketAddress bindAddress,
@@ -112,7 +116,8 @@ public class NettyServer {
             Consumer<InNetworkObject> messageListener,
             SerializationService serializationService,
             NettyBootstrapFactory bootstrapFactory,
-            @Nullable SslContext sslContext
+            @Nullable SslContext sslContext,
+            NetworkCompression compression
     ) {
         this.bindAddress = bindAddress;
         this.handshakeManager = handshakeManager;
@@ -120,6 +125,7 @@ public class NettyServer {
         this.serializationService = serializationService;
         this.bootstrapFactory = bootstrapFactory;
         this.sslContext = sslContext;
+        this.compression = compression;
     }
 
     /**
@@ -150,9 +156,9 @@ public class NettyServer {
                     HandshakeManager manager = handshakeManager.get();
 
                     if (sslContext != null) {
-                        PipelineUtils.setup(ch.pipeline(), sessionSerializationService, manager, messageListener, sslContext);
+                        PipelineUtils.setup(ch.pipeline(), sessionSerializationService, manager, messageListener, compression, sslContext);
                     } else {
-                        PipelineUtils.setup(ch.pipeline(), sessionSerializationService, manager, messageListener);
+                        PipelineUtils.setup(ch.pipeline(), sessionSerializationService, manager, messageListener, compression);
                     }
                 }
             });
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.network.netty;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.uring.IoUring;
+import io.netty.channel.uring.IoUringChannelOption;
+import io.netty.channel.uring.IoUringIoHandler;
+import io.netty.channel.uring.IoUringServerSocketChannel;
+import io.netty.channel.uring.IoUringSocketChannel;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+
+/**
+ * Netty transport used for the network I/O between the cluster nodes.
+ *
+ * <p>Besides the portable NIO transport, the native Linux transports (epoll and io_uring) are supported. Native transports avoid the
+ * selector overhead of NIO, produce less garbage and support Linux-specific socket options, such as {@code TCP_QUICKACK} and
+ * busy polling. The epoll transport always works in the edge-triggered mode. If the requested native transport is not available
+ * (e.g. on a non-Linux OS, or the kernel is too old for io_uring), the next best one is used, down to NIO.
+ *
+ * <p>The transport is chosen with the {@value #TRANSPORT} system property. It applies to every server and client bootstrap created by
+ * {@link org.apache.ignite.internal.network.NettyBootstrapFactory}, so the thin client connector uses the same transport as the
+ * cluster connections: the connector shares the event loops of the factory, and a channel can only be registered with event loops
+ * of its own transport.
+ */
+public final class NettyTransport {
+    private static final IgniteLogger LOG = Loggers.forClass(NettyTransport.class);
+
+    /** Name of the system property that defines the {@link Type transport} of both the cluster and the client connections. */
+    public static final String TRANSPORT = "IGNITE_NETWORK_TRANSPORT";
+
+    /** Name of the system property that enables {@code TCP_QUICKACK} for the native transports. */
+    public static final String TCP_QUICKACK = "IGNITE_NETWORK_TCP_QUICKACK";
+
+    /**
+     * Name of the system property that defines the busy poll timeout ({@code SO_BUSY_POLL}) in microseconds for the epoll transport.
+     * Zero disables busy polling.
+     */
+    public static final String BUSY_POLL_MICROS = "IGNITE_NETWORK_BUSY_POLL_MICROS";
+
+    /** Transport type. */
+    public enum Type {
+        /** Portable transport based on Java NIO. */
+        NIO,
+
+        /** Native Linux epoll transport. */
+        EPOLL,
+
+        /** Native Linux io_uring transport. Falls back to epoll if io_uring is not supported by the kernel. */
+        IO_URING,
+
+        /** The best available transport: epoll if available, NIO otherwise. */
+        AUTO
+    }
+
+    private final Type type;
+
+    private final boolean tcpQuickAck;
+
+    private final int busyPollMicros;
+
+    private NettyTransport(Type type, boolean tcpQuickAck, int busyPollMicros) {
+        assert type != Type.AUTO;
+
+        this.type = type;
+        this.tcpQuickAck = tcpQuickAck;
+        this.busyPollMicros = busyPollMicros;
+    }
+
+    /**
+     * Creates the transport defined by the system properties.
+     *
+     * @return Transport.
+     */
+    public static NettyTransport fromSystemProperties() {
+        return create(
+                IgniteSystemProperties.getEnum(TRANSPORT, Type.NIO),
+                IgniteSystemProperties.getBoolean(TCP_QUICKACK, false),
+                Math.max(IgniteSystemProperties.getInteger(BUSY_POLL_MICROS, 0), 0)
+        );
+    }
+
+    /**
+     * Creates a transport of the given type, or of the best available one if the given transport is not available.
+     *
+     * @param requested Requested transport type.
+     * @param tcpQuickAck Whether to enable {@code TCP_QUICKACK} for the native transports.
+     * @param busyPollMicros Busy poll timeout in microseconds for the epoll transport, zero disables busy polling.
+     * @return Transport.
+     */
+    public static NettyTransport create(Type requested, boolean tcpQuickAck, int busyPollMicros) {
+        Type actual = resolve(requested);
+
+        if (actual != requested && requested != Type.AUTO) {
+            LOG.warn("Requested network transport is not available, falling back [requested={}, actual={}]", requested, actual);
+        } else {
+            LOG.info("Using network transport [transport={}]", actual);
+        }
+
+        return new NettyTransport(actual, tcpQuickAck, busyPollMicros);
+    }
+
+    private static Type resolve(Type requested) {
+        switch (requested) {
+            case NIO:
+                return Type.NIO;
+
+            case IO_URING:
+                if (IoUring.isAvailable()) {
+                    return Type.IO_URING;
+                }
+
+                LOG.debug("io_uring transport is not available", IoUring.unavailabilityCause());
+
+                return resolve(Type.EPOLL);
+
+            case EPOLL:
+            case AUTO:
+                if (Epoll.isAvailable()) {
+                    return Type.EPOLL;
+                }
+
+                if (requested == Type.EPOLL) {
+                    LOG.debug("Epoll transport is not available", Epoll.unavailabilityCause());
+                }
+
+                return Type.NIO;
+
+            default:
+                throw new AssertionError("Unknown transport: " + requested);
+        }
+    }
+
+    /** Returns the type of this transport. */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Creates an event loop group of {@link NamedNioEventLoopGroup.NetworkThread network threads} compatible with this transport.
+     *
+     * @param namePrefix Tread name prefix.
+     * @return Event loop group.
+     */
+    public EventLoopGroup createEventLoopGroup(String namePrefix) {
+        if (type == Type.NIO) {
+            return NamedNioEventLoopGroup.create(namePrefix);
+        }
+
+        IoHandlerFactory ioHandlerFactory = type == Type.EPOLL ? EpollIoHandler.newFactory() : IoUringIoHandler.newFactory();
+
+        return new MultiThreadIoEventLoopGroup(0, NamedNioEventLoopGroup.threadFactory(namePrefix), ioHandlerFactory);
+    }
+
+    /** Returns class of the client socket channels. */
+    public Class<? extends SocketChannel> socketChannelClass() {
+        switch (type) {
+            case EPOLL:
+                return EpollSocketChannel.class;
+            case IO_URING:
+                return IoUringSocketChannel.class;
+            default:
+                return NioSocketChannel.class;
+        }
+    }
+
+    /** Returns class of the server socket channels. */
+    public Class<? extends ServerChannel> serverSocketChannelClass() {
+        switch (type) {
+            case EPOLL:
+                return EpollServerSocketChannel.class;
+            case IO_URING:
+                return IoUringServerSocketChannel.class;
+            default:
+                return NioServerSocketChannel.class;
+        }
+    }
+
+    /**
+     * Applies transport-specific options to the outbound bootstrap.
+     *
+     * @param bootstrap Bootstrap.
+     */
+    public void configure(Bootstrap bootstrap) {
+        if (type == Type.EPOLL) {
+            bootstrap.option(EpollChannelOption.TCP_QUICKACK, tcpQuickAck);
+
+            if (busyPollMicros > 0) {
+                bootstrap.option(EpollChannelOption.SO_BUSY_POLL, busyPollMicros);
+            }
+        } else if (type == Type.IO_URING) {
+            bootstrap.option(IoUringChannelOption.TCP_QUICKACK, tcpQuickAck);
+        }
+    }
+
+    /**
+     * Applies transport-specific options to the channels accepted by the server bootstrap.
+     *
+     * @param bootstrap Server bootstrap.
+     */
+    public void configure(ServerBootstrap bootstrap) {
+        if (type == Type.EPOLL) {
+            bootstrap.childOption(EpollChannelOption.TCP_QUICKACK, tcpQuickAck);
+
+            if (busyPollMicros > 0) {
+                bootstrap.childOption(EpollChannelOption.SO_BUSY_POLL, busyPollMicros);
+            }
+        } else if (type == Type.IO_URING) {
+            bootstrap.childOption(IoUringChannelOption.TCP_QUICKACK, tcpQuickAck);
+        }
+    }
+}
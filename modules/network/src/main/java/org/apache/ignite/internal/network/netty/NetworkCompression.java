@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.recovery.message.HandshakeCompressionMessage;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compression of the network traffic between the cluster nodes.
+ *
+ * <p>Compression is negotiated during the handshake independently for each direction of a connection, with
+ * {@link HandshakeCompressionMessage}s that are only sent to the nodes supporting them (see {@link #negotiationSupported(String)}), so
+ * the handshake with the older nodes is not changed. The negotiation is started by the initiator, and only if it has compression
+ * enabled, so with compression off the handshake is not changed either:
+ * <ol>
+ *     <li>the initiator advertises the algorithms it is able to decompress right before the {@code HandshakeStartResponseMessage};</li>
+ *     <li>the acceptor, if it got the advertisement, replies with the algorithms it is able to decompress and the algorithm chosen for
+ *     its outgoing data right before the {@code HandshakeFinishMessage};</li>
+ *     <li>the initiator, having received the reply, announces the algorithm chosen for its outgoing data (unless it's {@code NONE}).</li>
+ * </ol>
+ *
+ * <p>All the data that a node sends after the message that announced a compression algorithm is split into frames, each of which is
+ * either compressed or stored as is (if it's smaller than the threshold, or if compression didn't reduce its size). As the switch
+ * happens at a message boundary known to both sides, no additional synchronization is needed.
+ *
+ * <p>Compression is configured with the following system properties:
+ * <ul>
+ *     <li>{@value #COMPRESSION} - algorithm used for the outgoing data ({@code NONE}, {@code LZ4} or {@code ZSTD}), the default is
+ *     {@code NONE}. Incoming compressed data is accepted regardless of this setting;</li>
+ *     <li>{@value #COMPRESSION_THRESHOLD} - minimal length of a frame (in bytes) that is compressed;</li>
+ *     <li>{@value #COMPRESSION_CHANNELS} - comma-separated list of IDs of the channel types that are compressed, all channel types are
+ *     compressed if empty.</li>
+ * </ul>
+ */
+public final class NetworkCompression {
+    private static final IgniteLogger LOG = Loggers.forClass(NetworkCompression.class);
+
+    /** Name of the system property that defines the compression algorithm of the outgoing data. */
+    public static final String COMPRESSION = "IGNITE_NETWORK_COMPRESSION";
+
+    /** Name of the system property that defines the minimal length of a compressed frame. */
+    public static final String COMPRESSION_THRESHOLD = "IGNITE_NETWORK_COMPRESSION_THRESHOLD";
+
+    /** Name of the system property that defines the IDs of the compressed channel types. */
+    public static final String COMPRESSION_CHANNELS = "IGNITE_NETWORK_COMPRESSION_CHANNELS";
+
+    /** Default minimal length of a compressed frame: compressing smaller frames rarely pays off. */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    /** Compression that never compresses the outgoing data. */
+    public static final NetworkCompression DISABLED = new NetworkCompression(CompressionAlgorithm.NONE, DEFAULT_THRESHOLD, null);
+
+    /** Bit mask of the algorithms this node is able to decompress. */
+    private static final int SUPPORTED_ALGORITHMS = supportedAlgorithmsMask();
+
+    /** First product version that supports compression negotiation. */
+    private static final IgniteProductVersion NEGOTIATION_SINCE = IgniteProductVersion.fromString("3.2.0");
+
+    private static final AttributeKey<NetworkCompression> COMPRESSION_KEY = AttributeKey.valueOf("NETWORK_COMPRESSION");
+
+    private final CompressionAlgorithm algorithm;
+
+    private final int threshold;
+
+    /** IDs of the compressed channel types, {@code null} if all channel types are compressed. */
+    private final @Nullable Set<Short> channelTypeIds;
+
+    private final NetworkCompressionMetricSource metricSource = new NetworkCompressionMetricSource();
+
+    private NetworkCompression(CompressionAlgorithm algorithm, int threshold, @Nullable Set<Short> channelTypeIds) {
+        this.algorithm = algorithm;
+        this.threshold = threshold;
+        this.channelTypeIds = channelTypeIds;
+    }
+
+    /**
+     * Creates the compression defined by the system properties.
+     *
+     * @return Compression.
+     */
+    public static NetworkCompression fromSystemProperties() {
+        Set<Short> channelTypeIds = null;
+
+        String channels = IgniteSystemProperties.getString(COMPRESSION_CHANNELS, "").trim();
+
+        if (!channels.isEmpty()) {
+            channelTypeIds = new HashSet<>();
+
+            for (String id : channels.split(",")) {
+                channelTypeIds.add(Short.parseShort(id.trim()));
+            }
+        }
+
+        return create(
+                IgniteSystemProperties.getEnum(COMPRESSION, CompressionAlgorithm.NONE),
+                Math.max(IgniteSystemProperties.getInteger(COMPRESSION_THRESHOLD, DEFAULT_THRESHOLD), 0),
+                channelTypeIds
+        );
+    }
+
+    /**
+     * Creates the compression.
+     *
+     * @param algorithm Compression algorithm of the outgoing data. If it's not available, the outgoing data is not compressed.
+     * @param threshold Minimal length of a compressed frame.
+     * @param channelTypeIds IDs of the compressed channel types, {@code null} to compress all channel types.
+     * @return Compression.
+     */
+    public static NetworkCompression create(CompressionAlgorithm algorithm, int threshold, @Nullable Set<Short> channelTypeIds) {
+        if (!algorithm.available()) {
+            LOG.warn("Requested network compression is not available, compression is disabled [algorithm={}]", algorithm);
+
+            algorithm = CompressionAlgorithm.NONE;
+        } else if (algorithm != CompressionAlgorithm.NONE) {
+            LOG.info("Using network compression [algorithm={}, threshold={}, channelTypes={}]",
+                    algorithm, threshold, channelTypeIds == null ? "all" : channelTypeIds);
+        }
+
+        return new NetworkCompression(algorithm, threshold, channelTypeIds == null ? null : Set.copyOf(channelTypeIds));
+    }
+
+    /** Returns the compression algorithm of the outgoing data. */
+    public CompressionAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /** Returns the minimal length of a compressed frame. */
+    public int threshold() {
+        return threshold;
+    }
+
+    /** Returns the compression metric source. */
+    public NetworkCompressionMetricSource metricSource() {
+        return metricSource;
+    }
+
+    /** Returns the bit mask of the algorithms this node is able to decompress, to be advertised during the handshake. */
+    public static int supportedAlgorithms() {
+        return SUPPORTED_ALGORITHMS;
+    }
+
+    /**
+     * Returns whether a node of the given product version supports compression negotiation, that is, whether it's safe to send it a
+     * {@link HandshakeCompressionMessage}.
+     *
+     * @param productVersion Product version of the remote node.
+     * @return Whether compression negotiation is supported.
+     */
+    public static boolean negotiationSupported(String productVersion) {
+        try {
+            return IgniteProductVersion.fromString(productVersion).compareTo(NEGOTIATION_SINCE) >= 0;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Chooses the compression algorithm of the outgoing data of a connection.
+     *
+     * @param channelTypeId ID of the channel type of the connection.
+     * @param remoteSupportedAlgorithms Bit mask of the algorithms the remote node is able to decompress.
+     * @return Compression algorithm.
+     */
+    public CompressionAlgorithm negotiate(short channelTypeId, int remoteSupportedAlgorithms) {
+        if (algorithm == CompressionAlgorithm.NONE
+                || (channelTypeIds != null && !channelTypeIds.contains(channelTypeId))
+                || (remoteSupportedAlgorithms & (1 << algorithm.id())) == 0) {
+            return CompressionAlgorithm.NONE;
+        }
+
+        return algorithm;
+    }
+
+    /** Binds the compression to the channel, so that the handshake managers and the codecs can find it. */
+    void attach(Channel channel) {
+        channel.attr(COMPRESSION_KEY).set(this);
+    }
+
+    /**
+     * Returns the compression bound to the channel.
+     *
+     * @param channel Channel.
+     * @return Compression, {@link #DISABLED} if no compression is bound to the channel.
+     */
+    public static NetworkCompression of(Channel channel) {
+        NetworkCompression compression = channel.attr(COMPRESSION_KEY).get();
+
+        return compression == null ? DISABLED : compression;
+    }
+
+    /**
+     * Returns the compression algorithm that the sender of the message uses for all the data that follows the message.
+     *
+     * @param message Message.
+     * @return Compression algorithm or {@code null} if the message doesn't switch compression on.
+     */
+    static @Nullable CompressionAlgorithm switchesTo(NetworkMessage message) {
+        if (!(message instanceof HandshakeCompressionMessage)) {
+            return null;
+        }
+
+        byte id = ((HandshakeCompressionMessage) message).compressionAlgorithm();
+
+        if (id == CompressionAlgorithm.NONE.id()) {
+            return null;
+        }
+
+        CompressionAlgorithm algorithm = CompressionAlgorithm.fromId(id);
+
+        if (algorithm == null) {
+            throw new IllegalStateException("Unknown compression algorithm: " + id);
+        }
+
+        return algorithm;
+    }
+
+    private static int supportedAlgorithmsMask() {
+        int mask = 0;
+
+        for (CompressionAlgorithm algorithm : CompressionAlgorithm.values()) {
+            if (algorithm != CompressionAlgorithm.NONE && algorithm.available()) {
+                mask |= 1 << algorithm.id();
+            }
+        }
+
+        return mask;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metrics of the network traffic compression: how many bytes the compression saves and how much CPU time it takes.
+ */
+public class NetworkCompressionMetricSource extends AbstractMetricSource<NetworkCompressionMetricSource.Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "network.compression";
+
+    /** Constructor. */
+    public NetworkCompressionMetricSource() {
+        super(SOURCE_NAME, "Network traffic compression metrics.");
+    }
+
+    /**
+     * Records an attempt to compress a frame.
+     *
+     * @param uncompressedBytes Length of the data.
+     * @param sentBytes Length of the data that was actually sent: either compressed, or the original one if compression didn't help.
+     * @param nanos Time spent on the compression.
+     */
+    void onCompressed(int uncompressedBytes, int sentBytes, long nanos) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.bytesBeforeCompression.add(uncompressedBytes);
+            h.bytesAfterCompression.add(sentBytes);
+            h.compressionTime.add(nanos);
+
+            if (sentBytes >= uncompressedBytes) {
+                h.incompressibleFrames.increment();
+            }
+        }
+    }
+
+    /**
+     * Records decompression of a frame.
+     *
+     * @param compressedBytes Length of the compressed data.
+     * @param uncompressedBytes Length of the decompressed data.
+     * @param nanos Time spent on the decompression.
+     */
+    void onDecompressed(int compressedBytes, int uncompressedBytes, long nanos) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.bytesBeforeDecompression.add(compressedBytes);
+            h.bytesAfterDecompression.add(uncompressedBytes);
+            h.decompressionTime.add(nanos);
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric bytesBeforeCompression = new LongAdderMetric(
+                "BytesBeforeCompression",
+                "Total length of the outgoing data that was eligible for compression."
+        );
+
+        private final LongAdderMetric bytesAfterCompression = new LongAdderMetric(
+                "BytesAfterCompression",
+                "Total length of the outgoing data that was eligible for compression, as it was sent."
+        );
+
+        private final LongGauge bytesSaved = new LongGauge(
+                "BytesSaved",
+                "Total number of outgoing bytes saved by the compression.",
+                () -> bytesBeforeCompression.value() - bytesAfterCompression.value()
+        );
+
+        private final LongAdderMetric compressionTime = new LongAdderMetric(
+                "CompressionTime",
+                "Total time spent on the compression of the outgoing data, in nanoseconds."
+        );
+
+        private final LongAdderMetric incompressibleFrames = new LongAdderMetric(
+                "IncompressibleFrames",
+                "Total number of outgoing frames that were sent uncompressed because the compression didn't reduce their size."
+        );
+
+        private final LongAdderMetric bytesBeforeDecompression = new LongAdderMetric(
+                "BytesBeforeDecompression",
+                "Total length of the compressed incoming data."
+        );
+
+        private final LongAdderMetric bytesAfterDecompression = new LongAdderMetric(
+                "BytesAfterDecompression",
+                "Total length of the compressed incoming data after decompression."
+        );
+
+        private final LongAdderMetric decompressionTime = new LongAdderMetric(
+                "DecompressionTime",
+                "Total time spent on the decompression of the incoming data, in nanoseconds."
+        );
+
+        private final List<Metric> metrics = List.of(
+                bytesBeforeCompression,
+                bytesAfterCompression,
+                bytesSaved,
+                compressionTime,
+                incompressibleFrames,
+                bytesBeforeDecompression,
+                bytesAfterDecompression,
+                decompressionTime
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.ignite.internal.network.serialization.MessageFormat;
 import org.apache.ignite.internal.network.serialization.MessageSerializer;
 import org.apache.ignite.internal.network.serialization.MessageWriter;
 import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * An encoder for the outbound messages that uses the provided {@link MessageFormat}.
@@ -53,6 +54,9 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
     /** Message writer channel attribute key. */
     private static final AttributeKey<MessageWriter> WRITER_KEY = AttributeKey.valueOf("WRITER");
 
+    /** Compressed frame writer channel attribute key, set once this node switches compression on. */
+    private static final AttributeKey<CompressedFrameWriter> FRAME_WRITER_KEY = AttributeKey.valueOf("FRAME_WRITER");
+
     private final MessageFormat messageFormat;
 
     /** Serialization registry. */
@@ -79,7 +83,18 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
             writerAttr.set(writer);
         }
 
-        out.add(new NetworkMessageChunkedInput(msg, serializationService, writer));
+        Attribute<CompressedFrameWriter> frameWriterAttr = ctx.channel().attr(FRAME_WRITER_KEY);
+
+        out.add(new NetworkMessageChunkedInput(msg, serializationService, writer, frameWriterAttr.get()));
+
+        // Messages are encoded in the order they are written, so all the messages after this one will be compressed.
+        CompressionAlgorithm compressionAlgorithm = NetworkCompression.switchesTo(msg.networkMessage());
+
+        if (compressionAlgorithm != null && frameWriterAttr.get() == null) {
+            NetworkCompression compression = NetworkCompression.of(ctx.channel());
+
+            frameWriterAttr.set(new CompressedFrameWriter(compressionAlgorithm, compression.threshold(), compression.metricSource()));
+        }
     }
 
     /**
@@ -97,6 +112,9 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
         /** Message writer. */
         private final MessageWriter writer;
 
+        /** Compressed frame writer, {@code null} if the message is sent uncompressed. */
+        private final @Nullable CompressedFrameWriter frameWriter;
+
         private final ClassDescriptorListMessage descriptors;
         private final PerSessionSerializationService serializationService;
 
@@ -109,11 +127,14 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
          *
          * @param outObject            Out network object.
          * @param serializationService Serialization service.
+         * @param writer Message writer.
+         * @param frameWriter Compressed frame writer, {@code null} if the message is sent uncompressed.
          */
         private NetworkMessageChunkedInput(
                 OutNetworkObject outObject,
                 PerSessionSerializationService serializationService,
-                MessageWriter writer
+                MessageWriter writer,
+                @Nullable CompressedFrameWriter frameWriter
         ) {
             this.serializationService = serializationService;
             this.msg = outObject.networkMessage();
@@ -144,6 +165,7 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
 
             this.serializer = serializationService.createMessageSerializer(msg.groupType(), msg.messageType());
             this.writer = writer;
+            this.frameWriter = frameWriter;
         }
 
         @Override
@@ -164,10 +186,15 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
 
         @Override
         public ByteBuf readChunk(ByteBufAllocator allocator) {
-            ByteBuf buffer = allocator.ioBuffer(IO_BUFFER_CAPACITY);
+            // Compressed frames need direct buffers and some room for the frame header.
+            int headerSize = frameWriter == null ? 0 : CompressedFrameWriter.HEADER_SIZE;
+
+            ByteBuf buffer = frameWriter == null
+                    ? allocator.ioBuffer(IO_BUFFER_CAPACITY)
+                    : allocator.directBuffer(IO_BUFFER_CAPACITY + headerSize);
             int capacity = buffer.capacity();
 
-            ByteBuffer byteBuffer = buffer.internalNioBuffer(0, capacity);
+            ByteBuffer byteBuffer = buffer.internalNioBuffer(headerSize, capacity - headerSize);
 
             int initialPosition = byteBuffer.position();
 
@@ -195,12 +222,12 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
                 }
             }
 
-            buffer.writerIndex(byteBuffer.position() - initialPosition);
+            buffer.writerIndex(headerSize + byteBuffer.position() - initialPosition);
 
             // Do not hold a reference, might help GC to do its job better.
             writer.setBuffer(EMPTY_BYTE_BUFFER);
 
-            return buffer;
+            return frameWriter == null ? buffer : frameWriter.frame(allocator, buffer);
         }
 
         @Override
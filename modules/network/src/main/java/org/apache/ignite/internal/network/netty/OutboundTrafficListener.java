@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+/**
+ * Listener of the outgoing traffic of the {@link NettySender}s, used to collect the metrics.
+ *
+ * <p>Methods are called in the network threads, so they must be fast and must not block.
+ */
+public interface OutboundTrafficListener {
+    /** Listener that does nothing. */
+    OutboundTrafficListener NO_OP = new OutboundTrafficListener() {
+        @Override
+        public void onFlush(int messages) {
+            // No-op.
+        }
+
+        @Override
+        public void onMessageSent(long latencyNanos) {
+            // No-op.
+        }
+    };
+
+    /**
+     * Called when a sender flushes its channel. Every flush results in at least one write system call.
+     *
+     * @param messages Number of messages written since the previous flush.
+     */
+    void onFlush(int messages);
+
+    /**
+     * Called when a message has been written to the socket.
+     *
+     * @param latencyNanos Time since the message was passed to the sender, in nanoseconds.
+     */
+    void onMessageSent(long latencyNanos);
+}
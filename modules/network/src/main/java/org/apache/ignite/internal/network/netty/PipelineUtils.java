@@ -41,13 +41,15 @@ public class PipelineUtils {
      * @param serializationService Serialization service.
      * @param handshakeManager Handshake manager.
      * @param messageListener Message listener.
+     * @param compression Network compression.
      * @param sslContext Netty SSL context.
      */
     public static void setup(ChannelPipeline pipeline, PerSessionSerializationService serializationService,
-            HandshakeManager handshakeManager, Consumer<InNetworkObject> messageListener, SslContext sslContext) {
+            HandshakeManager handshakeManager, Consumer<InNetworkObject> messageListener, NetworkCompression compression,
+            SslContext sslContext) {
         pipeline.addFirst("ssl", sslContext.newHandler(pipeline.channel().alloc()));
 
-        setup(pipeline, serializationService, handshakeManager, messageListener);
+        setup(pipeline, serializationService, handshakeManager, messageListener, compression);
     }
 
     /**
@@ -57,11 +59,15 @@ public class PipelineUtils {
      * @param serializationService Serialization service.
      * @param handshakeManager Handshake manager.
      * @param messageListener Message listener.
+     * @param compression Network compression.
      */
     public static void setup(ChannelPipeline pipeline, PerSessionSerializationService serializationService,
-            HandshakeManager handshakeManager, Consumer<InNetworkObject> messageListener) {
+            HandshakeManager handshakeManager, Consumer<InNetworkObject> messageListener, NetworkCompression compression) {
         MessageFormat messageFormat = new NaiveMessageFormat();
 
+        // Compression is negotiated by the handshake managers and applied by the encoder and the decoder, which find it in the channel.
+        compression.attach(pipeline.channel());
+
         // Consolidate flushes to bigger ones (improves throughput with smaller messages at the price of the latency).
         pipeline.addLast(new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
 
@@ -45,11 +45,14 @@ import org.apache.ignite.internal.network.handshake.HandshakeException;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.netty.ChannelCreationListener;
 import org.apache.ignite.internal.network.netty.ChannelKey;
+import org.apache.ignite.internal.network.netty.CompressionAlgorithm;
 import org.apache.ignite.internal.network.netty.HandshakeHandler;
 import org.apache.ignite.internal.network.netty.MessageHandler;
 import org.apache.ignite.internal.network.netty.NettySender;
 import org.apache.ignite.internal.network.netty.NettyUtils;
+import org.apache.ignite.internal.network.netty.NetworkCompression;
 import org.apache.ignite.internal.network.netty.PipelineUtils;
+import org.apache.ignite.internal.network.recovery.message.HandshakeCompressionMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeRejectedMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeRejectionReason;
@@ -80,6 +83,12 @@ public class RecoveryAcceptorHandshakeManager implements HandshakeManager {
 
     private short remoteChannelId;
 
+    /** Bit mask of the compression algorithms the remote node is able to decompress. */
+    private int remoteSupportedCompressionAlgorithms;
+
+    /** Whether the remote node has advertised its supported compression algorithms, that is, whether it negotiates compression. */
+    private boolean remoteNegotiatesCompression;
+
     /** Netty pipeline channel handler context. */
     private ChannelHandlerContext ctx;
 
@@ -236,6 +245,15 @@ public class RecoveryAcceptorHandshakeManager implements HandshakeManager {
             return;
         }
 
+        if (message instanceof HandshakeCompressionMessage) {
+            // The first one precedes the HandshakeStartResponseMessage, the second one (if any) only switches the decoder, which is
+            // done by the decoder itself.
+            remoteSupportedCompressionAlgorithms = ((HandshakeCompressionMessage) message).supportedCompressionAlgorithms();
+            remoteNegotiatesCompression = true;
+
+            return;
+        }
+
         // If we are here it means that we acquired the descriptor, we already handled a HandshakeStartresponseMessage and now we are
         // getting unacked messages from another side and acks for our unacked messages that we sent there (if any).
 
@@ -407,6 +425,19 @@ public class RecoveryAcceptorHandshakeManager implements HandshakeManager {
     private void handshake(RecoveryDescriptor descriptor) {
         PipelineUtils.afterHandshake(ctx.pipeline(), descriptor, createMessageHandler(), messageFactory);
 
+        if (remoteNegotiatesCompression) {
+            // All the data sent after this message, including the HandshakeFinishMessage, is compressed with the chosen algorithm.
+            CompressionAlgorithm algorithm = NetworkCompression.of(channel)
+                    .negotiate(remoteChannelId, remoteSupportedCompressionAlgorithms);
+
+            HandshakeCompressionMessage compressionMessage = messageFactory.handshakeCompressionMessage()
+                    .supportedCompressionAlgorithms(NetworkCompression.supportedAlgorithms())
+                    .compressionAlgorithm(algorithm.id())
+                    .build();
+
+            channel.write(new OutNetworkObject(compressionMessage, emptyList()));
+        }
+
         HandshakeFinishMessage response = messageFactory.handshakeFinishMessage()
                 .receivedCount(descriptor.receivedCount())
                 .build();
@@ -51,10 +51,13 @@ import org.apache.ignite.internal.network.handshake.HandshakeException;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.netty.ChannelCreationListener;
 import org.apache.ignite.internal.network.netty.ChannelKey;
+import org.apache.ignite.internal.network.netty.CompressionAlgorithm;
 import org.apache.ignite.internal.network.netty.HandshakeHandler;
 import org.apache.ignite.internal.network.netty.MessageHandler;
 import org.apache.ignite.internal.network.netty.NettySender;
+import org.apache.ignite.internal.network.netty.NetworkCompression;
 import org.apache.ignite.internal.network.netty.PipelineUtils;
+import org.apache.ignite.internal.network.recovery.message.HandshakeCompressionMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeRejectedMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeRejectionReason;
@@ -105,6 +108,9 @@ public class RecoveryInitiatorHandshakeManager implements HandshakeManager {
     /** Remote node. */
     private InternalClusterNode remoteNode;
 
+    /** Whether the remote node supports compression negotiation. */
+    private boolean remoteNegotiatesCompression;
+
     /** Netty pipeline channel handler context. */
     private ChannelHandlerContext ctx;
 
@@ -226,6 +232,12 @@ public class RecoveryInitiatorHandshakeManager implements HandshakeManager {
             return;
         }
 
+        if (message instanceof HandshakeCompressionMessage) {
+            onHandshakeCompressionMessage((HandshakeCompressionMessage) message);
+
+            return;
+        }
+
         assert recoveryDescriptor != null : "Wrong initiator handshake flow, message is " + message;
         assert recoveryDescriptor.holderChannel() == channel : "Expected " + channel + " but was " + recoveryDescriptor.holderChannel()
                 + ", message is " + message;
@@ -269,12 +281,25 @@ public class RecoveryInitiatorHandshakeManager implements HandshakeManager {
         ctx.fireChannelRead(message);
     }
 
+    private void onHandshakeCompressionMessage(HandshakeCompressionMessage message) {
+        // The acceptor sends it right before the HandshakeFinishMessage, so the announcement precedes any data this node sends after
+        // the handshake.
+        CompressionAlgorithm algorithm = NetworkCompression.of(channel).negotiate(connectionId, message.supportedCompressionAlgorithms());
+
+        if (algorithm != CompressionAlgorithm.NONE) {
+            channel.writeAndFlush(new OutNetworkObject(compressionMessage(algorithm), emptyList()));
+        }
+    }
+
     private void onHandshakeStartMessage(HandshakeStartMessage handshakeStartMessage) {
         if (possiblyRejectHandshakeStart(handshakeStartMessage)) {
             return;
         }
 
         this.remoteNode = handshakeStartMessage.serverNode().asClusterNode();
+        // With compression off the handshake stays the same as with the nodes that don't support compression negotiation.
+        this.remoteNegotiatesCompression = NetworkCompression.of(channel).algorithm() != CompressionAlgorithm.NONE
+                && NetworkCompression.negotiationSupported(handshakeStartMessage.productVersion());
 
         ChannelKey channelKey = new ChannelKey(remoteNode.name(), remoteNode.id(), connectionId);
         handshakeEventLoopSwitcher.switchEventLoopIfNeeded(channel, channelKey).thenRun(() -> proceedAfterSavingIds(handshakeStartMessage));
@@ -494,6 +519,12 @@ public class RecoveryInitiatorHandshakeManager implements HandshakeManager {
 
         HandshakeStartResponseMessage response = createHandshakeStartResponseMessage(descriptor);
 
+        if (remoteNegotiatesCompression) {
+            // Advertise the algorithms this node is able to decompress, the acceptor replies with its own ones. The outgoing data is
+            // not compressed yet, as the algorithms supported by the acceptor are not known.
+            ctx.channel().write(new OutNetworkObject(compressionMessage(CompressionAlgorithm.NONE), emptyList()));
+        }
+
         ChannelFuture sendFuture = ctx.channel().writeAndFlush(new OutNetworkObject(response, emptyList()));
 
         toCompletableFuture(sendFuture).whenComplete((unused, throwable) -> {
@@ -505,6 +536,13 @@ public class RecoveryInitiatorHandshakeManager implements HandshakeManager {
         });
     }
 
+    private static HandshakeCompressionMessage compressionMessage(CompressionAlgorithm algorithm) {
+        return MESSAGE_FACTORY.handshakeCompressionMessage()
+                .supportedCompressionAlgorithms(NetworkCompression.supportedAlgorithms())
+                .compressionAlgorithm(algorithm.id())
+                .build();
+    }
+
     protected HandshakeStartResponseMessage createHandshakeStartResponseMessage(RecoveryDescriptor descriptor) {
         return MESSAGE_FACTORY.handshakeStartResponseMessage()
                 .clientNode(clusterNodeToMessage(localNode))
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.recovery.message;
+
+import static org.apache.ignite.internal.network.NetworkMessageTypes.HANDSHAKE_COMPRESSION;
+
+import org.apache.ignite.internal.network.annotations.Transferable;
+
+/**
+ * Network compression negotiation message, see {@code NetworkCompression}.
+ *
+ * <p>It is only sent to the nodes that are known to support it, so the handshake with the older nodes doesn't change: the initiator
+ * sends it right before the {@link HandshakeStartResponseMessage} if it has compression enabled and the acceptor's product version
+ * supports compression negotiation, the acceptor replies with it right before the {@link HandshakeFinishMessage} if it has received
+ * one, and the initiator sends it one more time when it chooses to compress its outgoing data.
+ */
+@Transferable(HANDSHAKE_COMPRESSION)
+public interface HandshakeCompressionMessage extends InternalMessage {
+    /** Bit mask of the network compression algorithms the sender is able to decompress. */
+    int supportedCompressionAlgorithms();
+
+    /** ID of the compression algorithm that the sender uses for all the data it sends after this message. */
+    byte compressionAlgorithm();
+}
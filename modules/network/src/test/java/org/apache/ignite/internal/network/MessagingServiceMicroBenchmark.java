@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.network;
+
+import static org.apache.ignite.internal.network.utils.ClusterServiceTestUtils.clusterService;
+import static org.apache.ignite.internal.network.utils.ClusterServiceTestUtils.findLocalAddresses;
+import static org.apache.ignite.internal.network.utils.ClusterServiceTestUtils.waitForTopology;
+import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.network.messages.TestMessage;
+import org.apache.ignite.internal.network.messages.TestMessageTypes;
+import org.apache.ignite.internal.network.messages.TestMessagesFactory;
+import org.apache.ignite.internal.network.netty.NettyTransport;
+import org.apache.ignite.network.NetworkAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A micro-benchmark of the message rate between two {@link DefaultMessagingService}s running over different
+ * {@link NettyTransport transports}.
+ */
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MessagingServiceMicroBenchmark {
+    private static final int PORT = 3344;
+
+    /** Number of messages sent by a single benchmark invocation. */
+    private static final int BATCH = 1_000;
+
+    @Param({"NIO", "EPOLL", "IO_URING"})
+    private String transport;
+
+    @Param({"16", "1024"})
+    private int payloadSize;
+
+    private ClusterService sender;
+
+    private ClusterService receiver;
+
+    private InternalClusterNode receiverNode;
+
+    private TestMessage message;
+
+    private final Semaphore received = new Semaphore(0);
+
+    /** Starts the nodes. */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        System.setProperty(NettyTransport.TRANSPORT, transport);
+
+        List<NetworkAddress> addresses = findLocalAddresses(PORT, PORT + 2);
+        StaticNodeFinder nodeFinder = new StaticNodeFinder(addresses);
+
+        sender = clusterService("sender", PORT, nodeFinder);
+        receiver = clusterService("receiver", PORT + 1, nodeFinder);
+
+        sender.startAsync(new ComponentContext()).get(10, TimeUnit.SECONDS);
+        receiver.startAsync(new ComponentContext()).get(10, TimeUnit.SECONDS);
+
+        if (!waitForTopology(sender, 2, 10_000)) {
+            throw new IllegalStateException("Nodes have not discovered each other");
+        }
+
+        receiver.messagingService().addMessageHandler(TestMessageTypes.class, (msg, from, correlationId) -> received.release());
+
+        receiverNode = receiver.topologyService().localMember();
+
+        message = new TestMessagesFactory().testMessage().msg("x".repeat(payloadSize)).build();
+    }
+
+    /** Stops the nodes. */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        closeAll(
+                sender == null ? null : () -> sender.stopAsync(new ComponentContext()).get(10, TimeUnit.SECONDS),
+                receiver == null ? null : () -> receiver.stopAsync(new ComponentContext()).get(10, TimeUnit.SECONDS)
+        );
+
+        System.clearProperty(NettyTransport.TRANSPORT);
+    }
+
+    /** Sends a batch of messages and waits for all of them to be received. */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void send() throws InterruptedException {
+        MessagingService messagingService = sender.messagingService();
+
+        for (int i = 0; i < BATCH; i++) {
+            messagingService.send(receiverNode, message);
+        }
+
+        received.acquire(BATCH);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options build = new OptionsBuilder()
+                .include(MessagingServiceMicroBenchmark.class.getName() + ".*")
+                .build();
+
+        new Runner(build).run();
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.network.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.getFieldValue;
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.AbstractScheduledEventExecutor;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.internal.failure.NoOpFailureManager;
+import org.apache.ignite.internal.network.ClusterIdSupplier;
+import org.apache.ignite.internal.network.ClusterNodeImpl;
+import org.apache.ignite.internal.network.ConstantClusterIdSupplier;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.NetworkMessagesFactory;
+import org.apache.ignite.internal.network.OutNetworkObject;
+import org.apache.ignite.internal.network.TopologyService;
+import org.apache.ignite.internal.network.handshake.HandshakeManager;
+import org.apache.ignite.internal.network.handshake.NoOpHandshakeEventLoopSwitcher;
+import org.apache.ignite.internal.network.messages.TestMessage;
+import org.apache.ignite.internal.network.messages.TestMessagesFactory;
+import org.apache.ignite.internal.network.recovery.AllIdsAreFresh;
+import org.apache.ignite.internal.network.recovery.DefaultRecoveryDescriptorProvider;
+import org.apache.ignite.internal.network.recovery.RecoveryAcceptorHandshakeManager;
+import org.apache.ignite.internal.network.recovery.RecoveryDescriptorProvider;
+import org.apache.ignite.internal.network.recovery.RecoveryInitiatorHandshakeManager;
+import org.apache.ignite.internal.network.recovery.message.AcknowledgementMessage;
+import org.apache.ignite.internal.network.recovery.message.HandshakeCompressionMessage;
+import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
+import org.apache.ignite.internal.network.recovery.message.HandshakeRejectedMessage;
+import org.apache.ignite.internal.network.recovery.message.HandshakeRejectionReason;
+import org.apache.ignite.internal.network.recovery.message.HandshakeStartMessage;
+import org.apache.ignite.internal.network.recovery.message.HandshakeStartResponseMessage;
+import org.apache.ignite.internal.network.recovery.message.ProbeMessage;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorFactory;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
+import org.apache.ignite.internal.network.serialization.MessageSerializationRegistry;
+import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
+import org.apache.ignite.internal.network.serialization.SerializationService;
+import org.apache.ignite.internal.network.serialization.UserObjectSerializationContext;
+import org.apache.ignite.internal.network.serialization.marshal.DefaultUserObjectMarshaller;
+import org.apache.ignite.internal.properties.IgniteProductVersion;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.testframework.IgniteTestUtils;
+import org.apache.ignite.internal.version.DefaultIgniteProductVersionSource;
+import org.apache.ignite.internal.version.IgniteProductVersionSource;
+import org.apache.ignite.network.NetworkAddress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests the compression negotiation between the nodes that support it and the nodes that don't: the latter must get exactly the
+ * handshake they know.
+ */
+public class CompressionNegotiationHandshakeTest extends BaseIgniteAbstractTest {
+    private static final short CONNECTION_ID = 1337;
+
+    private static final String INITIATOR = "initiator";
+    private static final String ACCEPTOR = "acceptor";
+
+    private static final int PORT = 1000;
+
+    /** Product version that doesn't support compression negotiation. */
+    private static final IgniteProductVersion OLD_VERSION = IgniteProductVersion.fromString("3.1.0");
+
+    private static final MessageSerializationRegistry MESSAGE_REGISTRY = defaultSerializationRegistry();
+
+    private static final TestMessagesFactory TEST_MESSAGES_FACTORY = new TestMessagesFactory();
+
+    /** Payload resent by the acceptor right after the handshake, compressed well if compression is on. */
+    private static final String PAYLOAD = "compressible ".repeat(1000);
+
+    private final ClusterIdSupplier clusterIdSupplier = new ConstantClusterIdSupplier(UUID.randomUUID());
+
+    private final TopologyService topologyService = mock(TopologyService.class);
+
+    private final IgniteProductVersionSource currentVersion = new DefaultIgniteProductVersionSource();
+
+    private final IgniteProductVersionSource oldVersion = new IgniteProductVersionSource() {
+        @Override
+        public String productName() {
+            return currentVersion.productName();
+        }
+
+        @Override
+        public IgniteProductVersion productVersion() {
+            return OLD_VERSION;
+        }
+    };
+
+    @ParameterizedTest
+    @CsvSource({
+            "3.0.0, false",
+            "3.1.0, false",
+            "3.1.5, false",
+            "3.2.0, true",
+            "3.2.0-SNAPSHOT, true",
+            "3.2.1, true",
+            "3.10.0, true",
+            "not-a-version, false"
+    })
+    public void negotiationIsSupportedSinceVersion(String productVersion, boolean supported) {
+        assertEquals(supported, NetworkCompression.negotiationSupported(productVersion));
+    }
+
+    @Test
+    public void bothNodesNegotiateCompression() throws Exception {
+        Connection connection = new Connection(
+                currentVersion, compression(CompressionAlgorithm.LZ4),
+                currentVersion, compression(CompressionAlgorithm.LZ4)
+        );
+
+        connection.handshake();
+
+        assertThat(connection.acceptorReceived, hasItem(instanceOf(HandshakeCompressionMessage.class)));
+        assertThat(connection.initiatorReceived, hasItem(instanceOf(HandshakeCompressionMessage.class)));
+
+        connection.checkPayloadReceived();
+        assertThat(connection.acceptorSentBytes.get(), lessThan((long) PAYLOAD.length()));
+    }
+
+    /**
+     * Both nodes run a version without compression negotiation, which is what a node with the change sees when it connects to an older
+     * node: the handshake must not contain a {@link HandshakeCompressionMessage} even though compression is on.
+     */
+    @Test
+    public void oldRemoteVersionGetsOldHandshake() throws Exception {
+        Connection connection = new Connection(
+                oldVersion, compression(CompressionAlgorithm.LZ4),
+                oldVersion, compression(CompressionAlgorithm.LZ4)
+        );
+
+        connection.handshake();
+
+        assertThat(connection.acceptorReceived, contains(
+                instanceOf(ProbeMessage.class),
+                instanceOf(HandshakeStartResponseMessage.class),
+                instanceOf(AcknowledgementMessage.class)
+        ));
+        assertThat(connection.initiatorReceived, contains(
+                instanceOf(HandshakeStartMessage.class),
+                instanceOf(HandshakeFinishMessage.class),
+                instanceOf(TestMessage.class)
+        ));
+
+        connection.checkPayloadReceived();
+        assertThat(connection.acceptorSentBytes.get(), greaterThan((long) PAYLOAD.length()));
+    }
+
+    /** A node with the change rejects an older node with the messages the older node is able to read. */
+    @Test
+    public void versionMismatchIsRejectedWithoutCompressionMessage() throws Exception {
+        Connection connection = new Connection(
+                currentVersion, compression(CompressionAlgorithm.LZ4),
+                oldVersion, compression(CompressionAlgorithm.LZ4)
+        );
+
+        connection.exchangeAll();
+
+        assertThat(connection.acceptorReceived, contains(instanceOf(ProbeMessage.class), instanceOf(HandshakeRejectedMessage.class)));
+        assertThat(connection.initiatorReceived, contains(instanceOf(HandshakeStartMessage.class)));
+
+        assertTrue(connection.initiatorHandshakeManager.localHandshakeFuture().isCompletedExceptionally());
+        assertTrue(connection.acceptorHandshakeManager.localHandshakeFuture().isCompletedExceptionally());
+
+        HandshakeRejectedMessage rejection = (HandshakeRejectedMessage) connection.acceptorReceived.get(1);
+        assertEquals(HandshakeRejectionReason.VERSION_MISMATCH, rejection.reason());
+    }
+
+    /** An initiator with compression off sends exactly what an initiator without compression support sends. */
+    @Test
+    public void initiatorWithCompressionOffUsesOldHandshake() throws Exception {
+        Connection connection = new Connection(
+                currentVersion, NetworkCompression.DISABLED,
+                currentVersion, compression(CompressionAlgorithm.LZ4)
+        );
+
+        connection.handshake();
+
+        assertThat(connection.acceptorReceived, not(hasItem(instanceOf(HandshakeCompressionMessage.class))));
+        assertThat(connection.initiatorReceived, not(hasItem(instanceOf(HandshakeCompressionMessage.class))));
+
+        connection.checkPayloadReceived();
+        assertThat(connection.acceptorSentBytes.get(), greaterThan((long) PAYLOAD.length()));
+    }
+
+    /** An acceptor with compression off still lets the initiator compress its outgoing data. */
+    @Test
+    public void acceptorWithCompressionOffAcceptsCompressedData() throws Exception {
+        Connection connection = new Connection(
+                currentVersion, compression(CompressionAlgorithm.LZ4),
+                currentVersion, NetworkCompression.DISABLED
+        );
+
+        connection.handshake();
+
+        assertThat(connection.acceptorReceived, hasItem(instanceOf(HandshakeCompressionMessage.class)));
+        assertThat(connection.initiatorReceived, hasItem(instanceOf(HandshakeCompressionMessage.class)));
+
+        connection.checkPayloadReceived();
+        assertThat(connection.acceptorSentBytes.get(), greaterThan((long) PAYLOAD.length()));
+
+        long initiatorSentBytes = connection.initiatorSentBytes.get();
+
+        TestMessage message = TEST_MESSAGES_FACTORY.testMessage().msg(PAYLOAD).build();
+
+        connection.initiatorChannel.writeAndFlush(new OutNetworkObject(message, List.of()));
+        connection.exchangeAll();
+
+        assertThat(connection.initiatorSentBytes.get() - initiatorSentBytes, lessThan((long) PAYLOAD.length()));
+        assertEquals(PAYLOAD, connection.acceptorPayload.get().msg());
+    }
+
+    private static NetworkCompression compression(CompressionAlgorithm algorithm) {
+        return NetworkCompression.create(algorithm, 0, null);
+    }
+
+    /** Pair of channels connected to each other, with a handshake manager on each side. */
+    private class Connection {
+        final EmbeddedChannel initiatorChannel = new EmbeddedChannel(false, false);
+        final EmbeddedChannel acceptorChannel = new EmbeddedChannel(false, false);
+
+        final RecoveryInitiatorHandshakeManager initiatorHandshakeManager;
+        final RecoveryAcceptorHandshakeManager acceptorHandshakeManager;
+
+        /** Messages received by each side, in the order of arrival. */
+        final List<NetworkMessage> initiatorReceived = new CopyOnWriteArrayList<>();
+        final List<NetworkMessage> acceptorReceived = new CopyOnWriteArrayList<>();
+
+        final AtomicLong initiatorSentBytes = new AtomicLong();
+        final AtomicLong acceptorSentBytes = new AtomicLong();
+
+        final AtomicReference<TestMessage> initiatorPayload = new AtomicReference<>();
+        final AtomicReference<TestMessage> acceptorPayload = new AtomicReference<>();
+
+        Connection(
+                IgniteProductVersionSource initiatorVersion,
+                NetworkCompression initiatorCompression,
+                IgniteProductVersionSource acceptorVersion,
+                NetworkCompression acceptorCompression
+        ) throws Exception {
+            UUID initiatorLaunchId = UUID.randomUUID();
+
+            RecoveryDescriptorProvider initiatorRecovery = new DefaultRecoveryDescriptorProvider();
+            RecoveryDescriptorProvider acceptorRecovery = new DefaultRecoveryDescriptorProvider();
+
+            acceptorRecovery.getRecoveryDescriptor(INITIATOR, initiatorLaunchId, CONNECTION_ID)
+                    .add(new OutNetworkObject(TEST_MESSAGES_FACTORY.testMessage().msg(PAYLOAD).build(), List.of()));
+
+            initiatorHandshakeManager = new RecoveryInitiatorHandshakeManager(
+                    new ClusterNodeImpl(initiatorLaunchId, INITIATOR, new NetworkAddress("initiator-host", PORT)),
+                    CONNECTION_ID,
+                    initiatorRecovery,
+                    new NoOpHandshakeEventLoopSwitcher(),
+                    new AllIdsAreFresh(),
+                    clusterIdSupplier,
+                    channel -> {},
+                    () -> false,
+                    initiatorVersion,
+                    topologyService,
+                    new NoOpFailureManager()
+            );
+
+            acceptorHandshakeManager = new RecoveryAcceptorHandshakeManager(
+                    new ClusterNodeImpl(UUID.randomUUID(), ACCEPTOR, new NetworkAddress("acceptor-host", PORT)),
+                    new NetworkMessagesFactory(),
+                    acceptorRecovery,
+                    new NoOpHandshakeEventLoopSwitcher(),
+                    new AllIdsAreFresh(),
+                    clusterIdSupplier,
+                    channel -> {},
+                    () -> false,
+                    acceptorVersion,
+                    topologyService,
+                    new NoOpFailureManager()
+            );
+
+            setupChannel(initiatorChannel, initiatorHandshakeManager, initiatorCompression, initiatorReceived, initiatorSentBytes,
+                    initiatorPayload);
+            setupChannel(acceptorChannel, acceptorHandshakeManager, acceptorCompression, acceptorReceived, acceptorSentBytes,
+                    acceptorPayload);
+        }
+
+        /** Runs the handshake and checks that both sides have completed it. */
+        void handshake() {
+            exchangeAll();
+
+            assertTrue(initiatorHandshakeManager.localHandshakeFuture().isDone());
+            assertFalse(initiatorHandshakeManager.localHandshakeFuture().isCompletedExceptionally());
+            assertTrue(acceptorHandshakeManager.localHandshakeFuture().isDone());
+            assertFalse(acceptorHandshakeManager.localHandshakeFuture().isCompletedExceptionally());
+        }
+
+        /** Checks that the message resent by the acceptor after the handshake has been received intact. */
+        void checkPayloadReceived() {
+            TestMessage payload = initiatorPayload.get();
+
+            assertInstanceOf(TestMessage.class, payload);
+            assertEquals(PAYLOAD, payload.msg());
+        }
+
+        /** Passes the data between the channels until neither of them has anything to send. */
+        void exchangeAll() {
+            boolean transferred;
+
+            do {
+                runPendingTasks();
+
+                transferred = transfer(initiatorChannel, acceptorChannel) | transfer(acceptorChannel, initiatorChannel);
+            } while (transferred);
+        }
+
+        private boolean transfer(EmbeddedChannel from, EmbeddedChannel to) {
+            boolean transferred = false;
+
+            ByteBuf buffer;
+
+            while ((buffer = from.readOutbound()) != null) {
+                // No need to release buffer because inbound buffers are released by InboundDecoder
+                to.writeInbound(buffer);
+
+                transferred = true;
+            }
+
+            return transferred;
+        }
+
+        private void runPendingTasks() {
+            Queue<?> initiatorQueue = scheduledTasks(initiatorChannel);
+            Queue<?> acceptorQueue = scheduledTasks(acceptorChannel);
+
+            try {
+                assertTrue(IgniteTestUtils.waitForCondition(() -> {
+                    initiatorChannel.runPendingTasks();
+                    acceptorChannel.runPendingTasks();
+
+                    return nullOrEmpty(initiatorQueue) && nullOrEmpty(acceptorQueue);
+                }, 10_000));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void setupChannel(
+                EmbeddedChannel channel,
+                HandshakeManager handshakeManager,
+                NetworkCompression compression,
+                List<NetworkMessage> received,
+                AtomicLong sentBytes,
+                AtomicReference<TestMessage> payload
+        ) throws Exception {
+            var serializationService = new SerializationService(MESSAGE_REGISTRY, createUserObjectSerializationContext());
+
+            PipelineUtils.setup(
+                    channel.pipeline(),
+                    new PerSessionSerializationService(serializationService),
+                    handshakeManager,
+                    inObject -> payload.set((TestMessage) inObject.message()),
+                    compression
+            );
+
+            // Records the messages as they come out of the decoder, and the bytes as they go to the wire.
+            channel.pipeline().addAfter(InboundDecoder.NAME, "received-messages-recorder", new ChannelInboundHandlerAdapter() {
+                @Override
+                public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                    received.add((NetworkMessage) msg);
+
+                    ctx.fireChannelRead(msg);
+                }
+            });
+
+            channel.pipeline().addFirst("sent-bytes-recorder", new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                    if (msg instanceof ByteBuf) {
+                        sentBytes.addAndGet(((ByteBuf) msg).readableBytes());
+                    }
+
+                    ctx.write(msg, promise);
+                }
+            });
+
+            channel.register();
+        }
+    }
+
+    private static Queue<?> scheduledTasks(EmbeddedChannel channel) {
+        return getFieldValue(channel.eventLoop(), AbstractScheduledEventExecutor.class, "scheduledTaskQueue");
+    }
+
+    private static UserObjectSerializationContext createUserObjectSerializationContext() {
+        var userObjectDescriptorRegistry = new ClassDescriptorRegistry();
+        var userObjectDescriptorFactory = new ClassDescriptorFactory(userObjectDescriptorRegistry);
+
+        var userObjectMarshaller = new DefaultUserObjectMarshaller(userObjectDescriptorRegistry, userObjectDescriptorFactory);
+
+        return new UserObjectSerializationContext(userObjectDescriptorRegistry, userObjectDescriptorFactory, userObjectMarshaller);
+    }
+}
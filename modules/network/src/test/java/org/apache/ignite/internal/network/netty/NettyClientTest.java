@@ -175,7 +175,8 @@ public class NettyClientTest extends BaseIgniteAbstractTest {
                 null,
                 new MockInitiatorHandshakeManager(channel),
                 (message) -> {},
-                null
+                null,
+                NetworkCompression.DISABLED
         );
 
         client.start(bootstrap);
@@ -199,7 +200,8 @@ public class NettyClientTest extends BaseIgniteAbstractTest {
                 null,
                 new MockInitiatorHandshakeManager(future.channel()),
                 (message) -> {},
-                null
+                null,
+                NetworkCompression.DISABLED
         );
 
         Bootstrap bootstrap = mockBootstrap();
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.network.OutNetworkObject;
+import org.apache.ignite.internal.network.messages.TestMessagesFactory;
+import org.apache.ignite.internal.network.netty.NettySender.WriteCoalescing;
+import org.apache.ignite.internal.network.recovery.RecoveryDescriptor;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the write coalescing mode of the {@link NettySender}.
+ */
+public class NettySenderTest extends BaseIgniteAbstractTest {
+    private static final TestMessagesFactory TEST_MESSAGES_FACTORY = new TestMessagesFactory();
+
+    private final List<Integer> flushedBatches = new ArrayList<>();
+
+    private int channelFlushes;
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            channelFlushes++;
+
+            ctx.flush();
+        }
+    });
+
+    @Test
+    public void testWritesAreFlushedOnceQueueIsDrained() {
+        NettySender sender = createSender(new WriteCoalescing(true, 64, 0));
+
+        List<OutNetworkObject> messages = messages(3);
+        List<CompletableFuture<Void>> futures = sendAll(sender, messages);
+
+        assertNull(channel.readOutbound());
+
+        channel.runPendingTasks();
+
+        assertReceived(messages);
+        assertEquals(1, channelFlushes);
+        assertThat(flushedBatches, contains(3));
+
+        futures.forEach(future -> assertThat(future, willCompleteSuccessfully()));
+    }
+
+    @Test
+    public void testChannelIsFlushedAfterBatchSizeMessages() {
+        NettySender sender = createSender(new WriteCoalescing(true, 2, 0));
+
+        List<OutNetworkObject> messages = messages(5);
+        sendAll(sender, messages);
+
+        channel.runPendingTasks();
+
+        assertReceived(messages);
+        assertEquals(3, channelFlushes);
+        assertThat(flushedBatches, contains(2, 2, 1));
+    }
+
+    @Test
+    public void testFlushIsDelayedUnderLoad() {
+        NettySender sender = createSender(new WriteCoalescing(true, 64, TimeUnit.MILLISECONDS.toNanos(10)));
+
+        // A single message is flushed right away.
+        List<OutNetworkObject> single = messages(1);
+        sendAll(sender, single);
+
+        channel.runPendingTasks();
+
+        assertReceived(single);
+
+        // Several messages in a row indicate load, so the flush is delayed.
+        List<OutNetworkObject> burst = messages(3);
+        sendAll(sender, burst);
+
+        channel.runPendingTasks();
+
+        assertNull(channel.readOutbound());
+
+        channel.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+
+        assertReceived(burst);
+        assertThat(flushedBatches, contains(1, 3));
+    }
+
+    @Test
+    public void testWritesAreNotCoalescedWhenDisabled() {
+        NettySender sender = createSender(WriteCoalescing.DISABLED);
+
+        List<OutNetworkObject> messages = messages(3);
+        sendAll(sender, messages);
+
+        channel.runPendingTasks();
+
+        assertReceived(messages);
+        assertEquals(3, channelFlushes);
+    }
+
+    private NettySender createSender(WriteCoalescing writeCoalescing) {
+        var sender = new NettySender(channel, new UUID(0, 0), "", (short) 0, mock(RecoveryDescriptor.class), writeCoalescing);
+
+        sender.trafficListener(new OutboundTrafficListener() {
+            @Override
+            public void onFlush(int messages) {
+                flushedBatches.add(messages);
+            }
+
+            @Override
+            public void onMessageSent(long latencyNanos) {
+                // No-op.
+            }
+        });
+
+        return sender;
+    }
+
+    private static List<OutNetworkObject> messages(int count) {
+        var messages = new ArrayList<OutNetworkObject>(count);
+
+        for (int i = 0; i < count; i++) {
+            messages.add(new OutNetworkObject(TEST_MESSAGES_FACTORY.testMessage().msg("msg-" + i).build(), List.of()));
+        }
+
+        return messages;
+    }
+
+    private static List<CompletableFuture<Void>> sendAll(NettySender sender, List<OutNetworkObject> messages) {
+        var futures = new ArrayList<CompletableFuture<Void>>(messages.size());
+
+        for (OutNetworkObject message : messages) {
+            futures.add(sender.send(message, () -> {}));
+        }
+
+        return futures;
+    }
+
+    private void assertReceived(List<OutNetworkObject> messages) {
+        for (OutNetworkObject message : messages) {
+            assertSame(message, channel.readOutbound());
+        }
+
+        assertNull(channel.readOutbound());
+    }
+}
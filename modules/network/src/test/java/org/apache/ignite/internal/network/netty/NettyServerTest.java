@@ -238,7 +238,8 @@ public class NettyServerTest extends BaseIgniteAbstractTest {
                 (message) -> {},
                 new SerializationService(registry, mock(UserObjectSerializationContext.class)),
                 bootstrapFactory,
-                null
+                null,
+                NetworkCompression.DISABLED
         );
 
         server.start().get(3, TimeUnit.SECONDS);
@@ -335,7 +336,8 @@ public class NettyServerTest extends BaseIgniteAbstractTest {
                 (message) -> {},
                 new SerializationService(registry, mock(UserObjectSerializationContext.class)),
                 bootstrapFactory,
-                null
+                null,
+                NetworkCompression.DISABLED
         );
 
         try {
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.network.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.uring.IoUring;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.network.netty.NamedNioEventLoopGroup.NetworkThread;
+import org.apache.ignite.internal.network.netty.NettyTransport.Type;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests for {@link NettyTransport}.
+ */
+public class NettyTransportTest extends BaseIgniteAbstractTest {
+    @Test
+    public void nioIsAlwaysAvailable() {
+        NettyTransport transport = NettyTransport.create(Type.NIO, true, 50);
+
+        assertEquals(Type.NIO, transport.type());
+        assertEquals(NioSocketChannel.class, transport.socketChannelClass());
+        assertEquals(NioServerSocketChannel.class, transport.serverSocketChannelClass());
+    }
+
+    @Test
+    public void autoPrefersEpoll() {
+        NettyTransport transport = NettyTransport.create(Type.AUTO, false, 0);
+
+        if (Epoll.isAvailable()) {
+            assertEquals(Type.EPOLL, transport.type());
+            assertEquals(EpollSocketChannel.class, transport.socketChannelClass());
+        } else {
+            assertEquals(Type.NIO, transport.type());
+        }
+    }
+
+    @Test
+    public void nativeTransportsFallBack() {
+        Type expectedEpoll = Epoll.isAvailable() ? Type.EPOLL : Type.NIO;
+
+        assertEquals(expectedEpoll, NettyTransport.create(Type.EPOLL, false, 0).type());
+        assertEquals(IoUring.isAvailable() ? Type.IO_URING : expectedEpoll, NettyTransport.create(Type.IO_URING, false, 0).type());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Type.class)
+    public void eventLoopGroupUsesNetworkThreads(Type type) throws Exception {
+        NettyTransport transport = NettyTransport.create(type, false, 0);
+
+        EventLoopGroup group = transport.createEventLoopGroup("test-transport");
+
+        try {
+            CompletableFuture<Thread> thread = new CompletableFuture<>();
+
+            group.execute(() -> thread.complete(Thread.currentThread()));
+
+            assertThat(thread.get(10, TimeUnit.SECONDS), instanceOf(NetworkThread.class));
+            assertThat(thread.get().getName(), startsWith("test-transport-"));
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).sync();
+        }
+    }
+}
@@ -20,6 +20,9 @@ package org.apache.ignite.internal.network.netty;
 import static org.apache.ignite.internal.network.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.getFieldValue;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -72,6 +75,7 @@ import org.apache.ignite.network.NetworkAddress;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 /**
@@ -210,6 +214,91 @@ public class RecoveryHandshakeTest extends BaseIgniteAbstractTest {
         assertFalse(initiatorSideChannel.finish());
     }
 
+    @ParameterizedTest
+    @EnumSource(value = CompressionAlgorithm.class, names = {"LZ4", "ZSTD"})
+    public void testHandshakeWithCompression(CompressionAlgorithm algorithm) throws Exception {
+        RecoveryDescriptorProvider initiatorRecovery = createRecoveryDescriptorProvider();
+        RecoveryDescriptorProvider acceptorRecovery = createRecoveryDescriptorProvider();
+
+        EmbeddedChannel initiatorSideChannel = createUnregisteredChannel();
+        EmbeddedChannel acceptorSideChannel = createUnregisteredChannel();
+
+        UUID initiatorLaunchId = UUID.randomUUID();
+        RecoveryDescriptor acceptorRecoveryDescriptor = acceptorRecovery.getRecoveryDescriptor(
+                INITIATOR,
+                initiatorLaunchId,
+                CONNECTION_ID
+        );
+
+        String payload = "compressible ".repeat(1000);
+        acceptorRecoveryDescriptor.add(new OutNetworkObject(
+                TEST_MESSAGES_FACTORY.testMessage().msg(payload).build(),
+                Collections.emptyList()
+        ));
+
+        RecoveryInitiatorHandshakeManager initiatorHandshakeManager = createRecoveryInitiatorHandshakeManager(
+                INITIATOR,
+                initiatorLaunchId,
+                initiatorRecovery
+        );
+        RecoveryAcceptorHandshakeManager acceptorHandshakeManager = createRecoveryAcceptorHandshakeManager(
+                acceptorRecovery
+        );
+
+        NetworkCompression compression = NetworkCompression.create(algorithm, 0, null);
+
+        var messageCaptor = new AtomicReference<TestMessage>();
+        setupChannel(initiatorSideChannel, initiatorHandshakeManager, (inObject) -> {
+            messageCaptor.set(assertInstanceOf(TestMessage.class, inObject.message()));
+        }, compression);
+
+        setupChannel(acceptorSideChannel, acceptorHandshakeManager, noMessageListener, compression);
+
+        // Probe and HandshakeStartMessage.
+        exchangeInitiatorToAcceptor(acceptorSideChannel, initiatorSideChannel);
+        exchangeAcceptorToInitiator(acceptorSideChannel, initiatorSideChannel);
+
+        // HandshakeCompressionMessage with the algorithms supported by the initiator, and HandshakeStartResponseMessage.
+        exchangeInitiatorToAcceptor(acceptorSideChannel, initiatorSideChannel);
+        exchangeInitiatorToAcceptor(acceptorSideChannel, initiatorSideChannel);
+
+        // HandshakeCompressionMessage with the algorithm chosen by the acceptor, and HandshakeFinishMessage.
+        exchangeAcceptorToInitiator(acceptorSideChannel, initiatorSideChannel);
+        exchangeAcceptorToInitiator(acceptorSideChannel, initiatorSideChannel);
+
+        // HandshakeCompressionMessage with the algorithm chosen by the initiator.
+        exchangeInitiatorToAcceptor(acceptorSideChannel, initiatorSideChannel);
+
+        assertNull(initiatorSideChannel.readOutbound());
+
+        // The resent message follows the handshake finish message, so it must be compressed.
+        runPendingTasks(acceptorSideChannel, initiatorSideChannel);
+
+        ByteBuf frame = acceptorSideChannel.readOutbound();
+        assertEquals(algorithm.id(), frame.getByte(frame.readerIndex()));
+        assertThat(frame.readableBytes(), lessThan(payload.length()));
+
+        initiatorSideChannel.writeInbound(frame);
+
+        assertNull(acceptorSideChannel.readOutbound());
+
+        TestMessage receivedMessage = messageCaptor.get();
+        assertNotNull(receivedMessage);
+        assertEquals(payload, receivedMessage.msg());
+
+        // The acknowledgement goes in the opposite direction, which is compressed as well.
+        exchangeInitiatorToAcceptor(acceptorSideChannel, initiatorSideChannel);
+
+        checkHandshakeCompleted(acceptorHandshakeManager);
+        checkHandshakeCompleted(initiatorHandshakeManager);
+
+        checkPipelineAfterHandshake(acceptorSideChannel);
+        checkPipelineAfterHandshake(initiatorSideChannel);
+
+        assertFalse(acceptorSideChannel.finish());
+        assertFalse(initiatorSideChannel.finish());
+    }
+
     @Test
     public void testHandshakeWithUnacknowledgedInitiatorMessage() throws Exception {
         RecoveryDescriptorProvider initiatorRecovery = createRecoveryDescriptorProvider();
@@ -721,10 +810,21 @@ public class RecoveryHandshakeTest extends BaseIgniteAbstractTest {
 
     private void setupChannel(EmbeddedChannel channel, HandshakeManager handshakeManager, Consumer<InNetworkObject> messageListener)
             throws Exception {
+        setupChannel(channel, handshakeManager, messageListener, NetworkCompression.DISABLED);
+    }
+
+    private void setupChannel(
+            EmbeddedChannel channel,
+            HandshakeManager handshakeManager,
+            Consumer<InNetworkObject> messageListener,
+            NetworkCompression compression
+    ) throws Exception {
         var serializationService = new SerializationService(MESSAGE_REGISTRY, createUserObjectSerializationContext());
         var sessionSerializationService = new PerSessionSerializationService(serializationService);
 
-        PipelineUtils.setup(channel.pipeline(), sessionSerializationService, handshakeManager, messageListener);
+        PipelineUtils.setup(
+                channel.pipeline(), sessionSerializationService, handshakeManager, messageListener, compression
+        );
 
         channel.register();
     }
@@ -233,6 +233,18 @@ public abstract class BplusIo<L> extends PageIo {
      */
     public abstract int getMaxCount(int pageSize);
 
+    /**
+     * Returns max items count for the given page. Pages with items of variable size may hold fewer items than {@link #getMaxCount(int)},
+     * so this method is used to check if one more item can be inserted into the page without a split.
+     *
+     * @param pageAddr Page address.
+     * @param pageSize Page size without encryption overhead.
+     */
+    @SuppressWarnings("PMD.UnusedFormalParameter") // pageAddr is used by subclass overrides
+    public int getMaxCount(long pageAddr, int pageSize) {
+        return getMaxCount(pageSize);
+    }
+
     /**
      * Store the needed info about the row in the page. Leaf and inner pages can store different info.
      *
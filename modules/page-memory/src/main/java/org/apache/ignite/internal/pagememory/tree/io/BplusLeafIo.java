@@ -23,6 +23,9 @@ import static org.apache.ignite.internal.pagememory.util.PageUtils.copyMemory;
  * Abstract IO routines for B+Tree leaf pages.
  */
 public abstract class BplusLeafIo<L> extends BplusIo<L> {
+    /** Offset of the first item on the page. */
+    private final int itemsOff;
+
     /**
      * Constructor.
      *
@@ -31,16 +34,32 @@ public abstract class BplusLeafIo<L> extends BplusIo<L> {
      * @param itemSize Single item size on page.
      */
     protected BplusLeafIo(int type, int ver, int itemSize) {
+        this(type, ver, itemSize, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param type Page type.
+     * @param ver Page format version.
+     * @param itemSize Single item size on page.
+     * @param headerExtSize Size of the implementation specific page header that is placed between the common header and the items.
+     */
+    protected BplusLeafIo(int type, int ver, int itemSize, int headerExtSize) {
         super(type, ver, true, true, itemSize);
+
+        assert headerExtSize >= 0 : headerExtSize;
+
+        itemsOff = ITEMS_OFF + headerExtSize;
     }
 
     @Override
     public int getMaxCount(int pageSize) {
-        return (pageSize - ITEMS_OFF) / getItemSize();
+        return (pageSize - itemsOff) / getItemSize();
     }
 
     @Override
-    public final void copyItems(
+    public void copyItems(
             long srcPageAddr,
             long dstPageAddr,
             int srcIdx,
@@ -59,6 +78,6 @@ public abstract class BplusLeafIo<L> extends BplusIo<L> {
     public final int offset(int idx) {
         assert idx >= 0 : idx;
 
-        return ITEMS_OFF + idx * getItemSize();
+        return itemsOff + idx * getItemSize();
     }
 }
@@ -17,6 +17,12 @@
 
 package org.apache.ignite.internal.partition.replicator;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.PARALLEL_RAFT_APPLY_THREADS;
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.internal.thread.ThreadOperation.STORAGE_READ;
+import static org.apache.ignite.internal.thread.ThreadOperation.STORAGE_WRITE;
+import static org.apache.ignite.internal.thread.ThreadOperation.TX_STATE_STORAGE_ACCESS;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.internal.util.CompletableFutures.trueCompletedFuture;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
@@ -28,6 +34,8 @@ import java.util.concurrent.Executor;
 import org.apache.ignite.internal.catalog.CatalogService;
 import org.apache.ignite.internal.close.ManuallyCloseable;
 import org.apache.ignite.internal.failure.FailureProcessor;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.TopologyService;
 import org.apache.ignite.internal.partition.replicator.raft.ZonePartitionRaftListener;
 import org.apache.ignite.internal.partition.replicator.raft.snapshot.LogStorageAccessImpl;
@@ -38,6 +46,8 @@ import org.apache.ignite.internal.partition.replicator.raft.snapshot.metrics.Raf
 import org.apache.ignite.internal.partition.replicator.raft.snapshot.outgoing.OutgoingSnapshotsManager;
 import org.apache.ignite.internal.replicator.ReplicaManager;
 import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.apache.ignite.internal.thread.StripedThreadPoolExecutor;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.storage.state.ThreadAssertingTxStateStorage;
 import org.apache.ignite.internal.tx.storage.state.TxStatePartitionStorage;
@@ -45,6 +55,7 @@ import org.apache.ignite.internal.tx.storage.state.TxStateStorage;
 import org.apache.ignite.internal.tx.storage.state.rocksdb.TxStateRocksDbSharedStorage;
 import org.apache.ignite.internal.tx.storage.state.rocksdb.TxStateRocksDbStorage;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.PendingComparableValuesTracker;
 import org.apache.ignite.internal.util.SafeTimeValuesTracker;
 import org.apache.ignite.internal.worker.ThreadAssertions;
@@ -55,6 +66,8 @@ import org.jetbrains.annotations.TestOnly;
  * Manages resources of distribution zones; that is, allows creation of underlying storages and closes them on node stop.
  */
 public class ZoneResourcesManager implements ManuallyCloseable {
+    private static final IgniteLogger LOG = Loggers.forClass(ZoneResourcesManager.class);
+
     private final TxStateRocksDbSharedStorage sharedTxStateStorage;
 
     private final TxManager txManager;
@@ -78,6 +91,12 @@ public class ZoneResourcesManager implements ManuallyCloseable {
 
     private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
 
+    /** Number of threads of {@link #parallelApplyExecutor}, {@code 0} if parallel apply of Raft commands is disabled. */
+    private final int parallelApplyThreads = getInteger(PARALLEL_RAFT_APPLY_THREADS, 0);
+
+    /** Executor shared by zone partition Raft listeners to apply commands of different tables in parallel, created on first use. */
+    private @Nullable StripedThreadPoolExecutor parallelApplyExecutor;
+
     ZoneResourcesManager(
             TxStateRocksDbSharedStorage sharedTxStateStorage,
             TxManager txManager,
@@ -119,7 +138,8 @@ public class ZoneResourcesManager implements ManuallyCloseable {
                 safeTimeTracker,
                 storageIndexTracker,
                 outgoingSnapshotsManager,
-                partitionOperationsExecutor
+                partitionOperationsExecutor,
+                parallelApplyExecutor()
         );
 
         var snapshotStorage = new PartitionSnapshotStorage(
@@ -178,6 +198,34 @@ public class ZoneResourcesManager implements ManuallyCloseable {
         }
 
         resourcesByZoneId.clear();
+
+        synchronized (this) {
+            IgniteUtils.shutdownAndAwaitTermination(parallelApplyExecutor, 10, SECONDS);
+        }
+    }
+
+    private synchronized @Nullable StripedThreadPoolExecutor parallelApplyExecutor() {
+        if (parallelApplyThreads <= 0) {
+            return null;
+        }
+
+        if (parallelApplyExecutor == null) {
+            parallelApplyExecutor = new StripedThreadPoolExecutor(
+                    parallelApplyThreads,
+                    IgniteThreadFactory.create(
+                            topologyService.localMember().name(),
+                            "partition-parallel-apply",
+                            LOG,
+                            STORAGE_READ,
+                            STORAGE_WRITE,
+                            TX_STATE_STORAGE_ACCESS
+                    ),
+                    false,
+                    0
+            );
+        }
+
+        return parallelApplyExecutor;
     }
 
     void destroyZonePartitionResources(ZonePartitionId zonePartitionId) {
@@ -38,6 +38,14 @@ public interface ReadWriteMultiRowReplicaRequest extends MultipleRowReplicaReque
     @Nullable
     BitSet deleted();
 
+    /**
+     * Whether the request is a part of a bulk load: the table partition is locked exclusively once instead of locking every row and
+     * index key. Only taken into account for {@link RequestType#RW_UPSERT_ALL} requests of implicit transactions.
+     *
+     * @return {@code true} if the request is a part of a bulk load.
+     */
+    boolean bulkLoad();
+
     @Override
     default boolean isWrite() {
         return requestType() != RW_GET_ALL;
@@ -21,11 +21,17 @@ import static java.lang.Math.max;
 import static org.apache.ignite.internal.partition.replicator.raft.CommandResult.EMPTY_APPLIED_RESULT;
 import static org.apache.ignite.internal.partition.replicator.raft.CommandResult.EMPTY_NOT_APPLIED_RESULT;
 import static org.apache.ignite.internal.tx.message.TxMessageGroup.VACUUM_TX_STATE_COMMAND;
+import static org.apache.ignite.internal.util.ExceptionUtils.sneakyThrow;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -55,6 +61,7 @@ import org.apache.ignite.internal.replicator.command.SafeTimePropagatingCommand;
 import org.apache.ignite.internal.replicator.command.SafeTimeSyncCommand;
 import org.apache.ignite.internal.replicator.message.PrimaryReplicaChangeCommand;
 import org.apache.ignite.internal.storage.lease.LeaseInfo;
+import org.apache.ignite.internal.thread.StripedThreadPoolExecutor;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.message.TxMessageGroup;
 import org.apache.ignite.internal.tx.storage.state.TxStatePartitionStorage;
@@ -71,6 +78,9 @@ import org.jetbrains.annotations.TestOnly;
 public class ZonePartitionRaftListener implements RaftGroupListener {
     private static final IgniteLogger LOG = Loggers.forClass(ZonePartitionRaftListener.class);
 
+    /** Maximum number of table aware commands that are applied in parallel at once. */
+    private static final int MAX_PARALLEL_APPLY_BATCH_SIZE = 512;
+
     private final SafeTimeValuesTracker safeTimeTracker;
 
     private final PendingComparableValuesTracker<Long, Void> storageIndexTracker;
@@ -111,6 +121,12 @@ public class ZonePartitionRaftListener implements RaftGroupListener {
 
     private final RaftGroupConfigurationConverter raftGroupConfigurationConverter = new RaftGroupConfigurationConverter();
 
+    /**
+     * Executor used to apply commands of different tables in parallel, striped by table ID. {@code null} if all commands are applied
+     * sequentially on the Raft thread.
+     */
+    private final @Nullable StripedThreadPoolExecutor parallelApplyExecutor;
+
     /** Constructor. */
     public ZonePartitionRaftListener(
             ZonePartitionId zonePartitionId,
@@ -121,6 +137,35 @@ public class ZonePartitionRaftListener implements RaftGroupListener {
             PartitionsSnapshots partitionsSnapshots,
             Executor partitionOperationsExecutor
     ) {
+        this(
+                zonePartitionId,
+                txStatePartitionStorage,
+                txManager,
+                safeTimeTracker,
+                storageIndexTracker,
+                partitionsSnapshots,
+                partitionOperationsExecutor,
+                null
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param parallelApplyExecutor Executor used to apply commands of different tables in parallel, {@code null} to apply all commands
+     *      sequentially on the Raft thread.
+     */
+    public ZonePartitionRaftListener(
+            ZonePartitionId zonePartitionId,
+            TxStatePartitionStorage txStatePartitionStorage,
+            TxManager txManager,
+            SafeTimeValuesTracker safeTimeTracker,
+            PendingComparableValuesTracker<Long, Void> storageIndexTracker,
+            PartitionsSnapshots partitionsSnapshots,
+            Executor partitionOperationsExecutor,
+            @Nullable StripedThreadPoolExecutor parallelApplyExecutor
+    ) {
+        this.parallelApplyExecutor = parallelApplyExecutor;
         this.safeTimeTracker = safeTimeTracker;
         this.storageIndexTracker = storageIndexTracker;
         this.partitionsSnapshots = partitionsSnapshots;
@@ -157,21 +202,142 @@ public class ZonePartitionRaftListener implements RaftGroupListener {
 
     @Override
     public void onWrite(Iterator<CommandClosure<WriteCommand>> iterator) {
-        iterator.forEachRemaining(clo -> {
+        if (parallelApplyExecutor == null) {
+            iterator.forEachRemaining(this::processWriteCommandOrFail);
+
+            return;
+        }
+
+        var batch = new ArrayList<CommandClosure<WriteCommand>>();
+
+        while (iterator.hasNext()) {
+            CommandClosure<WriteCommand> clo = iterator.next();
+
+            if (clo.command() instanceof TableAwareCommand) {
+                batch.add(clo);
+
+                if (batch.size() == MAX_PARALLEL_APPLY_BATCH_SIZE) {
+                    processTableAwareCommandsInParallel(batch, parallelApplyExecutor);
+
+                    batch.clear();
+                }
+            } else {
+                // Commands that are not bound to a single table act as barriers: all preceding commands must be applied first.
+                processTableAwareCommandsInParallel(batch, parallelApplyExecutor);
+
+                batch.clear();
+
+                processWriteCommandOrFail(clo);
+            }
+        }
+
+        processTableAwareCommandsInParallel(batch, parallelApplyExecutor);
+    }
+
+    private void processWriteCommandOrFail(CommandClosure<WriteCommand> clo) {
+        try {
+            processWriteCommand(clo);
+        } catch (Throwable t) {
+            failWriteCommand(clo, t);
+        }
+    }
+
+    private static void failWriteCommand(CommandClosure<WriteCommand> clo, Throwable t) {
+        clo.result(t);
+
+        LOG.error(
+                "Failed to process write command [commandIndex={}, commandTerm={}, command={}]",
+                t,
+                clo.index(), clo.term(), clo.command()
+        );
+
+        throw sneakyThrow(t);
+    }
+
+    /**
+     * Applies a batch of consecutive table aware commands. Commands of the same table are applied sequentially in the log order, because
+     * every table storage tracks its own last applied index, while commands of different tables are applied in parallel. Trackers,
+     * last applied index and term are advanced, and closures are completed, in the log order once the whole batch has been applied.
+     *
+     * @param batch Consecutive table aware commands.
+     * @param executor Executor to apply the commands on.
+     */
+    private void processTableAwareCommandsInParallel(List<CommandClosure<WriteCommand>> batch, StripedThreadPoolExecutor executor) {
+        if (batch.size() <= 1) {
+            batch.forEach(this::processWriteCommandOrFail);
+
+            return;
+        }
+
+        var results = new CommandResult[batch.size()];
+        var errors = new Throwable[batch.size()];
+
+        int appliedCount = 0;
+
+        synchronized (tableProcessorsStateLock) {
+            partitionSnapshots().acquireReadLock();
+
             try {
-                processWriteCommand(clo);
-            } catch (Throwable t) {
-                clo.result(t);
-
-                LOG.error(
-                        "Failed to process write command [commandIndex={}, commandTerm={}, command={}]",
-                        t,
-                        clo.index(), clo.term(), clo.command()
-                );
+                var positionsByTableId = new Int2ObjectOpenHashMap<IntList>();
+
+                for (int i = 0; i < batch.size(); i++) {
+                    int tableId = ((TableAwareCommand) batch.get(i).command()).tableId();
+
+                    positionsByTableId.computeIfAbsent(tableId, id -> new IntArrayList()).add(i);
+                }
+
+                var futures = new CompletableFuture<?>[positionsByTableId.size()];
+                int futureIdx = 0;
+
+                for (Int2ObjectMap.Entry<IntList> e : positionsByTableId.int2ObjectEntrySet()) {
+                    int tableId = e.getIntKey();
+                    IntList positions = e.getValue();
+
+                    futures[futureIdx++] = executor.submit(() -> {
+                        for (int i = 0; i < positions.size(); i++) {
+                            int pos = positions.getInt(i);
+                            CommandClosure<WriteCommand> clo = batch.get(pos);
+
+                            try {
+                                results[pos] = processTableAwareCommand(
+                                        tableId,
+                                        clo.command(),
+                                        clo.index(),
+                                        clo.term(),
+                                        clo.safeTimestamp()
+                                );
+                            } catch (Throwable t) {
+                                errors[pos] = t;
+
+                                // Following commands of the table must not be applied on top of the failed one.
+                                break;
+                            }
+                        }
+                    }, tableId);
+                }
 
-                throw t;
+                CompletableFuture.allOf(futures).join();
+
+                // The first command without a result is the failed one, as commands are only skipped after a failure in the same table.
+                while (appliedCount < batch.size() && results[appliedCount] != null) {
+                    CommandClosure<WriteCommand> clo = batch.get(appliedCount);
+
+                    onCommandProcessed(clo.command(), clo.index(), clo.term(), clo.safeTimestamp(), results[appliedCount]);
+
+                    appliedCount++;
+                }
+            } finally {
+                partitionSnapshots().releaseReadLock();
             }
-        });
+        }
+
+        for (int i = 0; i < appliedCount; i++) {
+            batch.get(i).result(results[i].result());
+        }
+
+        if (appliedCount < batch.size()) {
+            failWriteCommand(batch.get(appliedCount), errors[appliedCount]);
+        }
     }
 
     private void processWriteCommand(CommandClosure<WriteCommand> clo) {
@@ -237,25 +403,7 @@ public class ZonePartitionRaftListener implements RaftGroupListener {
                     }
                 }
 
-                if (result.wasApplied()) {
-                    // Adjust safe time before completing update to reduce waiting.
-                    if (safeTimestamp != null) {
-                        try {
-                            safeTimeTracker.update(safeTimestamp, commandIndex, commandTerm, command);
-                        } catch (TrackerClosedException ignored) {
-                            // Ignored.
-                        }
-                    }
-
-                    try {
-                        storageIndexTracker.update(commandIndex, null);
-                    } catch (TrackerClosedException ignored) {
-                        // Ignored.
-                    }
-                }
-
-                lastAppliedIndex = max(lastAppliedIndex, commandIndex);
-                lastAppliedTerm = max(lastAppliedTerm, commandTerm);
+                onCommandProcessed(command, commandIndex, commandTerm, safeTimestamp, result);
             } finally {
                 partitionSnapshots().releaseReadLock();
             }
@@ -266,6 +414,38 @@ public class ZonePartitionRaftListener implements RaftGroupListener {
         clo.result(result.result());
     }
 
+    /**
+     * Advances the trackers and last applied index and term after a command has been processed. Must be called under
+     * {@link #tableProcessorsStateLock} in the log order.
+     */
+    private void onCommandProcessed(
+            WriteCommand command,
+            long commandIndex,
+            long commandTerm,
+            @Nullable HybridTimestamp safeTimestamp,
+            CommandResult result
+    ) {
+        if (result.wasApplied()) {
+            // Adjust safe time before completing update to reduce waiting.
+            if (safeTimestamp != null) {
+                try {
+                    safeTimeTracker.update(safeTimestamp, commandIndex, commandTerm, command);
+                } catch (TrackerClosedException ignored) {
+                    // Ignored.
+                }
+            }
+
+            try {
+                storageIndexTracker.update(commandIndex, null);
+            } catch (TrackerClosedException ignored) {
+                // Ignored.
+            }
+        }
+
+        lastAppliedIndex = max(lastAppliedIndex, commandIndex);
+        lastAppliedTerm = max(lastAppliedTerm, commandTerm);
+    }
+
     /**
      * Redirects the command to all raft table processors to process.
      *
@@ -26,6 +26,7 @@ import org.apache.ignite.internal.partition.replicator.raft.snapshot.outgoing.Pa
 import org.apache.ignite.internal.raft.RaftGroupConfiguration;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.AbortResult;
+import org.apache.ignite.internal.storage.AddWriteEntry;
 import org.apache.ignite.internal.storage.AddWriteCommittedResult;
 import org.apache.ignite.internal.storage.AddWriteResult;
 import org.apache.ignite.internal.storage.CommitResult;
@@ -43,8 +44,8 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Provides access to MV (multi-version) data of a table partition.
  *
- * <p>Methods writing to MV storage ({@link #addWrite(RowId, BinaryRow, UUID, int, int)}, {@link #abortWrite}
- * and {@link #commitWrite}) and TX data storage MUST be invoked under a lock acquired using
+ * <p>Methods writing to MV storage ({@link #addWrite(RowId, BinaryRow, UUID, int, int)}, {@link #addWriteAll},
+ * {@link #abortWrite} and {@link #commitWrite}) and TX data storage MUST be invoked under a lock acquired using
  * {@link PartitionSnapshots#acquireReadLock()}.
  *
  * <p>Each MvPartitionStorage instance represents exactly one partition. All RowIds within a partition are sorted consistently with the
@@ -153,6 +154,16 @@ public interface PartitionDataStorage extends ManuallyCloseable {
             int commitPartitionId
     ) throws StorageException;
 
+    /**
+     * Creates (or replaces) uncommitted versions for a batch of rows, see {@link #addWrite} for the semantics of a single entry.
+     *
+     * @param entries Write intents sorted by row ID, without duplicate row IDs.
+     * @return Results of adding the write intents, in the same order as the entries.
+     * @throws StorageException If failed to write data to the storage.
+     * @see MvPartitionStorage#addWriteAll
+     */
+    List<AddWriteResult> addWriteAll(List<AddWriteEntry> entries) throws StorageException;
+
     /**
      * Creates a committed version.
      *
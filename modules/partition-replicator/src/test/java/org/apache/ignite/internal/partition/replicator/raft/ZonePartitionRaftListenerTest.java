@@ -22,16 +22,19 @@ import static java.util.Collections.singletonMap;
 import static java.util.UUID.randomUUID;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.ignite.internal.partition.replicator.raft.CommandResult.EMPTY_APPLIED_RESULT;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
@@ -95,6 +98,8 @@ import org.apache.ignite.internal.table.distributed.raft.snapshot.SnapshotAwareP
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
 import org.apache.ignite.internal.testframework.InjectExecutorService;
+import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.apache.ignite.internal.thread.StripedThreadPoolExecutor;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxMeta;
 import org.apache.ignite.internal.tx.TxState;
@@ -102,6 +107,7 @@ import org.apache.ignite.internal.tx.UpdateCommandResult;
 import org.apache.ignite.internal.tx.storage.state.TxStatePartitionStorage;
 import org.apache.ignite.internal.tx.storage.state.test.TestTxStatePartitionStorage;
 import org.apache.ignite.internal.tx.test.TestTransactionIds;
+import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.PendingComparableValuesTracker;
 import org.apache.ignite.internal.util.SafeTimeValuesTracker;
 import org.apache.ignite.internal.versioned.VersionedSerialization;
@@ -178,6 +184,10 @@ class ZonePartitionRaftListenerTest extends BaseIgniteAbstractTest {
     }
 
     private ZonePartitionRaftListener createListener() {
+        return createListener(null);
+    }
+
+    private ZonePartitionRaftListener createListener(@Nullable StripedThreadPoolExecutor parallelApplyExecutor) {
         return new ZonePartitionRaftListener(
                 new ZonePartitionId(ZONE_ID, PARTITION_ID),
                 txStatePartitionStorage,
@@ -185,7 +195,8 @@ class ZonePartitionRaftListenerTest extends BaseIgniteAbstractTest {
                 safeTimeTracker,
                 storageIndexTracker,
                 outgoingSnapshotsManager,
-                executor
+                executor,
+                parallelApplyExecutor
         );
     }
 
@@ -703,6 +714,98 @@ class ZonePartitionRaftListenerTest extends BaseIgniteAbstractTest {
         inOrder.verify(partitionSnapshots).releaseReadLock();
     }
 
+    @Test
+    void appliesCommandsOfDifferentTablesInParallel(
+            @Mock RaftTableProcessor tableProcessor1,
+            @Mock RaftTableProcessor tableProcessor2
+    ) {
+        var parallelApplyExecutor = new StripedThreadPoolExecutor(2, IgniteThreadFactory.create("test", "parallel-apply", log), false, 0);
+
+        try {
+            listener = createListener(parallelApplyExecutor);
+
+            listener.addTableProcessor(TABLE_ID, tableProcessor1);
+            listener.addTableProcessor(TABLE_ID + 1, tableProcessor2);
+
+            when(tableProcessor1.processCommand(any(), anyLong(), anyLong(), any())).thenReturn(EMPTY_APPLIED_RESULT);
+            when(tableProcessor2.processCommand(any(), anyLong(), anyLong(), any())).thenReturn(EMPTY_APPLIED_RESULT);
+
+            List<CommandClosure<WriteCommand>> closures = List.of(
+                    writeCommandClosure(1, 1, tableAwareCommand(TABLE_ID), null, null),
+                    writeCommandClosure(2, 1, tableAwareCommand(TABLE_ID + 1), null, null),
+                    writeCommandClosure(3, 1, tableAwareCommand(TABLE_ID), null, null),
+                    writeCommandClosure(4, 1, safeTimeSyncCommand(), null, null),
+                    writeCommandClosure(5, 1, tableAwareCommand(TABLE_ID + 1), null, null)
+            );
+
+            listener.onWrite(closures.iterator());
+
+            InOrder closuresOrder = inOrder(closures.toArray());
+
+            for (CommandClosure<WriteCommand> closure : closures) {
+                closuresOrder.verify(closure).result(any());
+            }
+
+            InOrder table1Order = inOrder(tableProcessor1);
+
+            table1Order.verify(tableProcessor1).processCommand(any(), eq(1L), anyLong(), any());
+            table1Order.verify(tableProcessor1).processCommand(any(), eq(3L), anyLong(), any());
+
+            InOrder table2Order = inOrder(tableProcessor2);
+
+            table2Order.verify(tableProcessor2).processCommand(any(), eq(2L), anyLong(), any());
+            table2Order.verify(tableProcessor2).processCommand(any(), eq(5L), anyLong(), any());
+
+            assertThat(storageIndexTracker.current(), is(5L));
+        } finally {
+            IgniteUtils.shutdownAndAwaitTermination(parallelApplyExecutor, 10, SECONDS);
+        }
+    }
+
+    @Test
+    void doesNotCompleteCommandsFollowingFailedOneOnParallelApply(
+            @Mock RaftTableProcessor tableProcessor1,
+            @Mock RaftTableProcessor tableProcessor2
+    ) {
+        var parallelApplyExecutor = new StripedThreadPoolExecutor(2, IgniteThreadFactory.create("test", "parallel-apply", log), false, 0);
+
+        try {
+            listener = createListener(parallelApplyExecutor);
+
+            listener.addTableProcessor(TABLE_ID, tableProcessor1);
+            listener.addTableProcessor(TABLE_ID + 1, tableProcessor2);
+
+            var error = new RuntimeException("Test error");
+
+            when(tableProcessor1.processCommand(any(), anyLong(), anyLong(), any())).thenReturn(EMPTY_APPLIED_RESULT);
+            when(tableProcessor2.processCommand(any(), anyLong(), anyLong(), any())).thenThrow(error);
+
+            List<CommandClosure<WriteCommand>> closures = List.of(
+                    writeCommandClosure(1, 1, tableAwareCommand(TABLE_ID), null, null),
+                    writeCommandClosure(2, 1, tableAwareCommand(TABLE_ID + 1), null, null),
+                    writeCommandClosure(3, 1, tableAwareCommand(TABLE_ID), null, null)
+            );
+
+            assertThrows(RuntimeException.class, () -> listener.onWrite(closures.iterator()));
+
+            verify(closures.get(0)).result(any());
+            verify(closures.get(1)).result(error);
+            verify(closures.get(2), never()).result(any());
+
+            assertThat(storageIndexTracker.current(), is(1L));
+        } finally {
+            IgniteUtils.shutdownAndAwaitTermination(parallelApplyExecutor, 10, SECONDS);
+        }
+    }
+
+    private static UpdateCommandV2 tableAwareCommand(int tableId) {
+        UpdateCommandV2 command = mock(UpdateCommandV2.class);
+
+        when(command.tableId()).thenReturn(tableId);
+
+        return command;
+    }
+
     private static SafeTimeSyncCommand safeTimeSyncCommand() {
         return new ReplicaMessagesFactory()
                 .safeTimeSyncCommand()
@@ -18,9 +18,11 @@
 package org.apache.ignite.internal.raft.configuration;
 
 import static org.apache.ignite.internal.util.Constants.KiB;
+import static org.apache.ignite.internal.util.Constants.MiB;
 
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
 import org.apache.ignite.configuration.validation.Range;
 
 /** Configuration of the Raft log storage. */
@@ -32,6 +34,16 @@ public class LogStorageConfigurationSchema {
 
     public static final int UNSPECIFIED_MAX_LOG_ENTRY_SIZE = -1;
 
+    public static final long DEFAULT_GROUP_COMMIT_DELAY_MICROS = 0;
+
+    public static final int DEFAULT_GROUP_COMMIT_BATCH_BYTES = MiB;
+
+    public static final String NO_ENTRY_COMPRESSION = "NONE";
+
+    public static final String LZ4_ENTRY_COMPRESSION = "LZ4";
+
+    public static final int DEFAULT_ENTRY_COMPRESSION_THRESHOLD_BYTES = KiB;
+
     /**
      * Maximum size of the log storage checkpoint queue.
      */
@@ -52,6 +64,37 @@ public class LogStorageConfigurationSchema {
     @Value(hasDefault = true)
     public int maxLogEntrySizeBytes = UNSPECIFIED_MAX_LOG_ENTRY_SIZE;
 
+    /**
+     * Maximum time in microseconds an fsync of the log may be delayed to coalesce concurrent writes of different Raft groups into a single
+     * fsync. Only used when fsync is enabled. {@code 0} means that an fsync is executed as soon as possible, coalescing only the writes
+     * that happen to be pending at that moment.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public long groupCommitDelayMicros = DEFAULT_GROUP_COMMIT_DELAY_MICROS;
+
+    /**
+     * Number of unsynced bytes that triggers a delayed fsync of the log without waiting for {@link #groupCommitDelayMicros} to expire.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 1)
+    public int groupCommitBatchBytes = DEFAULT_GROUP_COMMIT_BATCH_BYTES;
+
+    /**
+     * Compression applied to log entries before they are written to segment files: {@code NONE} or {@code LZ4}. Entries written with
+     * compression enabled remain readable after it is disabled.
+     */
+    @Value(hasDefault = true)
+    @OneOf({NO_ENTRY_COMPRESSION, LZ4_ENTRY_COMPRESSION})
+    public String entryCompression = NO_ENTRY_COMPRESSION;
+
+    /**
+     * Minimum size of an encoded log entry in bytes for it to be compressed. Smaller entries are always written as is.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public int entryCompressionThresholdBytes = DEFAULT_ENTRY_COMPRESSION_THRESHOLD_BYTES;
+
     /**
      * Computes the default maximum log entry size based on the segment file size.
      *
@@ -54,6 +54,9 @@ public interface RaftGroupListener {
      *
      * <p>At this point the next step is to fix the problem and restart the raft node.
      *
+     * <p>A listener may obtain next closures before the results of the previous ones are set (for example, to apply independent commands
+     * in parallel), but the results must be set in the iteration order and before this method returns.
+     *
      * @param iterator Write command iterator.
      */
     void onWrite(Iterator<CommandClosure<WriteCommand>> iterator);
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.stream.LongStream;
 import org.apache.ignite.internal.metrics.AtomicIntMetric;
 import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
 import org.apache.ignite.internal.metrics.Metric;
 import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.metrics.MetricSource;
@@ -37,6 +38,12 @@ public class RaftMetricSource implements MetricSource {
 
     public static final String RAFT_GROUP_LEADERS = "groups.localLeadersCount";
 
+    public static final String READ_INDEX_LATENCY = "readIndex.Latency";
+
+    public static final String LEASE_READS = "readIndex.LeaseReads";
+
+    public static final String LEASE_EXPIRED_READS = "readIndex.LeaseExpiredReads";
+
     private static final VarHandle ENABLED;
 
     static {
@@ -60,6 +67,22 @@ public class RaftMetricSource implements MetricSource {
 
     private final AtomicIntMetric leadersCount = new AtomicIntMetric(RAFT_GROUP_LEADERS, "");
 
+    private final DistributionMetric readIndexLatency = new DistributionMetric(
+            READ_INDEX_LATENCY,
+            "The histogram of the time in milliseconds from a read index request to the moment the applied index catches up with it",
+            new long[] {1L, 2L, 5L, 10L, 20L, 50L, 100L, 200L, 500L, 1000L}
+    );
+
+    private final LongAdderMetric leaseReads = new LongAdderMetric(
+            LEASE_READS,
+            "Number of read index requests confirmed by the leader lease, without a round trip to the quorum"
+    );
+
+    private final LongAdderMetric leaseExpiredReads = new LongAdderMetric(
+            LEASE_EXPIRED_READS,
+            "Number of read index requests of lease based groups that fell back to a quorum round because the leader lease had expired"
+    );
+
     /**
      * Constructor.
      *
@@ -81,6 +104,29 @@ public class RaftMetricSource implements MetricSource {
         leadersCount.decrement();
     }
 
+    /**
+     * Records the latency of a completed read index request.
+     *
+     * @param latencyMs Time from the request to the moment the applied index caught up with the read index.
+     */
+    public void onReadIndex(long latencyMs) {
+        readIndexLatency.add(latencyMs);
+    }
+
+    /**
+     * Records a read index request confirmed by a valid leader lease.
+     */
+    public void onLeaseRead() {
+        leaseReads.increment();
+    }
+
+    /**
+     * Records a read index request of a lease based group that required a quorum round because the leader lease had expired.
+     */
+    public void onLeaseExpiredRead() {
+        leaseExpiredReads.increment();
+    }
+
     @Override
     public String name() {
         return SOURCE_NAME;
@@ -159,6 +205,10 @@ public class RaftMetricSource implements MetricSource {
 
         metrics.put(RAFT_GROUP_LEADERS, leadersCount);
 
+        metrics.put(READ_INDEX_LATENCY, readIndexLatency);
+        metrics.put(LEASE_READS, leaseReads);
+        metrics.put(LEASE_EXPIRED_READS, leaseExpiredReads);
+
         return metrics;
     }
 
@@ -91,6 +91,9 @@ public class Loza implements RaftManager {
     /** Name of the system property to configure is {@link NodeOptions#getSnapshotIntervalSecs()}. */
     private static final String RAFT_SNAPSHOT_INTERVAL_SECS_PROPERTY_NAME = "raftSnapshotIntervalSecs";
 
+    /** Name of the system property that enables coalescing of AppendEntries requests carrying log entries. */
+    private static final String RAFT_COALESCE_APPEND_ENTRIES_PROPERTY_NAME = "raftCoalesceAppendEntries";
+
     /** Logger. */
     private static final IgniteLogger LOG = Loggers.forClass(Loza.class);
 
@@ -177,6 +180,7 @@ public class Loza implements RaftManager {
         options.setCommandsMarshaller(new ThreadLocalOptimizedMarshaller(clusterNetSvc.serializationRegistry()));
 
         setSnapshotIntervalSecs(options, systemLocalConfiguration);
+        setCoalesceAppendEntries(options, systemLocalConfiguration);
 
         this.opts = options;
 
@@ -346,8 +350,11 @@ public class Loza implements RaftManager {
         }
 
         try {
+            // System groups (the Meta Storage and the CMG) are on the critical path of DDL, placement and rebalance, their reads
+            // are confirmed by the leader lease.
             RaftGroupOptions raftGroupOptions = RaftGroupOptions.defaults()
-                    .setSystemGroup(true);
+                    .setSystemGroup(true)
+                    .leaseBasedReads(true);
 
             groupOptionsConfigurer.configure(raftGroupOptions);
 
@@ -747,4 +754,16 @@ public class Loza implements RaftManager {
             LOG.warn("Failed to set NodeOptions.getSnapshotIntervalSecs, default value will be used", e);
         }
     }
+
+    private static void setCoalesceAppendEntries(NodeOptions options, SystemLocalConfiguration systemLocalConfiguration) {
+        SystemPropertyConfiguration systemPropertyConfig = systemLocalConfiguration
+                .properties()
+                .get(RAFT_COALESCE_APPEND_ENTRIES_PROPERTY_NAME);
+
+        if (systemPropertyConfig == null) {
+            return;
+        }
+
+        options.getRaftOptions().setCoalesceAppendEntries(Boolean.parseBoolean(systemPropertyConfig.propertyValue().value()));
+    }
 }
@@ -65,6 +65,11 @@ public class RaftGroupOptions {
      */
     private boolean isSystemGroup = false;
 
+    /**
+     * Whether read-only requests are confirmed by the leader lease instead of a heartbeat round to the quorum.
+     */
+    private boolean leaseBasedReads = false;
+
     private @Nullable SafeTimeValidator safeTimeValidator;
 
     /**
@@ -90,6 +95,30 @@ public class RaftGroupOptions {
         return this;
     }
 
+    /**
+     * Returns whether read-only requests are confirmed by the leader lease.
+     *
+     * @return {@code true} if lease based reads are enabled.
+     */
+    public boolean leaseBasedReads() {
+        return leaseBasedReads;
+    }
+
+    /**
+     * Sets whether read-only requests are confirmed by the leader lease. While the lease is valid, the leader serves a read index
+     * request without a heartbeat round to the quorum, once its applied index catches up with the commit index. When the lease
+     * has expired, the request falls back to the quorum round. The lease relies on the clock rates of the peers not drifting apart
+     * by more than the gap between the lease timeout and the election timeout.
+     *
+     * @param leaseBasedReads {@code true} to enable lease based reads.
+     * @return This object.
+     */
+    public RaftGroupOptions leaseBasedReads(boolean leaseBasedReads) {
+        this.leaseBasedReads = leaseBasedReads;
+
+        return this;
+    }
+
     /**
      * Returns default options as defined by classic Raft (so stores are persistent).
      *
@@ -101,6 +101,7 @@ import org.apache.ignite.raft.jraft.entity.LogId;
 import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.error.RaftError;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.ReadOnlyOption;
 import org.apache.ignite.raft.jraft.rpc.impl.ActionRequestInterceptor;
 import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcClient;
 import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcServer;
@@ -485,6 +486,10 @@ public class JraftServerImpl implements RaftServer {
 
             nodeOptions.setSystemGroup(groupOptions.isSystemGroup());
 
+            if (groupOptions.leaseBasedReads()) {
+                nodeOptions.getRaftOptions().setReadOnlyOptions(ReadOnlyOption.ReadOnlyLeaseBased);
+            }
+
             // When a new election starts on a node, it has local physical time higher than last generated safe ts
             // because we wait out the clock skew.
             nodeOptions.setElectionTimeoutMs(Math.max(nodeOptions.getElectionTimeoutMs(), groupOptions.maxClockSkew()));
@@ -889,7 +894,7 @@ public class JraftServerImpl implements RaftServer {
                     iterWrapper.done.run(st);
                 }
 
-                iter.setErrorAndRollback(1, st);
+                iter.setErrorAndRollback(iterWrapper.rollbackCount(), st);
 
                 failureManager.process(new FailureContext(FailureType.CRITICAL_ERROR, err));
             }
@@ -990,6 +995,13 @@ public class JraftServerImpl implements RaftServer {
         }
     }
 
+    /**
+     * Adapter of the JRaft iterator to the {@link RaftGroupListener#onWrite} one.
+     *
+     * <p>Listeners are allowed to read ahead: if {@link #hasNext()} or {@link #next()} is called before the result of the previously
+     * returned closure is set, that closure is detached from the JRaft iterator, which moves on to the next entry. Results of detached
+     * closures must be set in the log order before {@link RaftGroupListener#onWrite} returns.
+     */
     private static class WriteCommandIterator implements java.util.Iterator<CommandClosure<WriteCommand>> {
         private final Iterator iter;
 
@@ -997,18 +1009,29 @@ public class JraftServerImpl implements RaftServer {
 
         private @Nullable Closure done;
 
+        /** Closure returned by the last {@link #next()} call, the JRaft iterator is positioned at its entry until its result is set. */
+        private @Nullable CommandClosure<WriteCommand> current;
+
+        /** Index of the last entry whose closure result has been set. */
+        private long lastResultIndex;
+
         private WriteCommandIterator(Iterator iter, Marshaller marshaller) {
             this.iter = iter;
             this.marshaller = marshaller;
+            this.lastResultIndex = iter.getIndex() - 1;
         }
 
         @Override
         public boolean hasNext() {
+            detachCurrent();
+
             return iter.hasNext();
         }
 
         @Override
         public CommandClosure<WriteCommand> next() {
+            detachCurrent();
+
             done = iter.done(); // Save for later error processing.
 
             @Nullable CommandClosure<WriteCommand> localDone = (CommandClosure<WriteCommand>) done;
@@ -1021,7 +1044,7 @@ public class JraftServerImpl implements RaftServer {
             long commandIndex = iter.getIndex();
             long commandTerm = iter.getTerm();
 
-            return new CommandClosure<>() {
+            current = new CommandClosure<>() {
                 @Override
                 public long index() {
                     return commandIndex;
@@ -1048,9 +1071,41 @@ public class JraftServerImpl implements RaftServer {
                         localDone.result(res);
                     }
 
-                    iter.next();
+                    onResult(this);
                 }
             };
+
+            return current;
+        }
+
+        private void detachCurrent() {
+            if (current != null) {
+                current = null;
+
+                iter.next();
+            }
+        }
+
+        private void onResult(CommandClosure<WriteCommand> clo) {
+            lastResultIndex = clo.index();
+
+            if (clo == current) {
+                current = null;
+
+                iter.next();
+            }
+        }
+
+        /**
+         * Returns the number of entries to roll back on a listener error, so that the JRaft iterator ends at the first entry whose result
+         * is not set. The entry the JRaft iterator is positioned at is counted only if it's a data entry, that is, if {@link #hasNext()}
+         * would return {@code true} for it.
+         */
+        private long rollbackCount() {
+            long count = iter.getIndex() - lastResultIndex - (iter.hasNext() ? 0 : 1);
+
+            // JRaft requires a positive number, so if the results of all the read entries have been set, the last of them is rolled back.
+            return Math.max(count, 1);
         }
     }
 }
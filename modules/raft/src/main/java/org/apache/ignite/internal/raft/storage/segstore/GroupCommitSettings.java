@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.segstore;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings of the group commit, i.e. of the way fsyncs of concurrent writes to a synchronous {@link SegmentFile} are coalesced.
+ *
+ * <p>A writer that needs its data to be synced either joins an fsync that is already in progress or becomes the one that executes the
+ * next fsync on behalf of all writers that have completed their writes by then. Before executing the fsync, such writer may wait for
+ * up to {@link #commitDelayNanos()} for more writes to accumulate, unless at least {@link #commitBatchBytes()} are already pending.
+ */
+class GroupCommitSettings {
+    /** Settings that execute an fsync as soon as possible, coalescing only the writes that happen to be pending at that moment. */
+    static final GroupCommitSettings NO_DELAY = new GroupCommitSettings(0, 0, new SegstoreMetricSource());
+
+    private final long commitDelayNanos;
+
+    private final int commitBatchBytes;
+
+    private final SegstoreMetricSource metricSource;
+
+    /**
+     * Constructor.
+     *
+     * @param commitDelayMicros Maximum time in microseconds an fsync may be delayed to accumulate more writes.
+     * @param commitBatchBytes Number of pending bytes that triggers an fsync without waiting for the delay to expire.
+     * @param metricSource Metric source to report fsync statistics to.
+     */
+    GroupCommitSettings(long commitDelayMicros, int commitBatchBytes, SegstoreMetricSource metricSource) {
+        this.commitDelayNanos = TimeUnit.MICROSECONDS.toNanos(commitDelayMicros);
+        this.commitBatchBytes = commitBatchBytes;
+        this.metricSource = metricSource;
+    }
+
+    long commitDelayNanos() {
+        return commitDelayNanos;
+    }
+
+    int commitBatchBytes() {
+        return commitBatchBytes;
+    }
+
+    SegstoreMetricSource metricSource() {
+        return metricSource;
+    }
+}
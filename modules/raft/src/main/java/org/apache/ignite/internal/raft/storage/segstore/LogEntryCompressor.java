@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.segstore;
+
+import java.nio.ByteBuffer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.entity.codec.LogEntryEncoder;
+import org.apache.ignite.raft.jraft.entity.codec.v1.LogEntryV1CodecFactory;
+import org.apache.ignite.raft.jraft.entity.codec.v2.LogEntryV2CodecFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * LZ4 compression of encoded log entries stored in segment files.
+ *
+ * <p>Binary representation of a compressed entry is as follows:
+ * <pre>
+ * +----------------+-------------------------------+-----------+
+ * | Magic (1 byte) | Decompressed length (4 bytes) | LZ4 block |
+ * +----------------+-------------------------------+-----------+
+ * </pre>
+ *
+ * <p>The magic byte differs from the ones used by the log entry codecs, so compressed and uncompressed entries can be stored side by
+ * side and an entry is only decompressed if it starts with {@link #LZ4_MAGIC}.
+ *
+ * <p>Compressing incompressible data is a waste of CPU, so before a large entry is encoded, a sample of its data is compressed, and the
+ * entry is stored as is if the sample doesn't shrink enough.
+ */
+class LogEntryCompressor {
+    /** First byte of a compressed log entry. */
+    static final byte LZ4_MAGIC = (byte) 0x4C;
+
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    /** Size of the sample of the entry data that is compressed to check whether the entry is worth compressing. */
+    static final int SAMPLE_SIZE = 4 * 1024;
+
+    /** Maximum compressed size of the sample for the entry to be compressed: compression must save at least 1/16 of it. */
+    private static final int MAX_COMPRESSED_SAMPLE_SIZE = SAMPLE_SIZE - SAMPLE_SIZE / 16;
+
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+    private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4_FACTORY.safeDecompressor();
+
+    static {
+        assert LZ4_MAGIC != LogEntryV1CodecFactory.MAGIC && LZ4_MAGIC != LogEntryV2CodecFactory.MAGIC;
+    }
+
+    private final LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+
+    private final int thresholdBytes;
+
+    private final SegstoreMetricSource metricSource;
+
+    /**
+     * Constructor.
+     *
+     * @param thresholdBytes Minimum size of an encoded entry for it to be compressed.
+     * @param metricSource Metric source to report compression statistics to.
+     */
+    LogEntryCompressor(int thresholdBytes, SegstoreMetricSource metricSource) {
+        this.thresholdBytes = thresholdBytes;
+        this.metricSource = metricSource;
+    }
+
+    /**
+     * Encodes the given entry and compresses it if that reduces its size.
+     *
+     * @param entry Log entry.
+     * @param encoder Log entry encoder.
+     * @param entrySize Size of the encoded entry.
+     * @return Buffer containing either the compressed entry or, if compression doesn't reduce its size, the encoded one. {@code null} if
+     *         the entry is too small or its data doesn't look compressible, in which case the entry has not been encoded and must be
+     *         written as is.
+     */
+    @Nullable ByteBuffer compress(LogEntry entry, LogEntryEncoder encoder, int entrySize) {
+        if (entrySize < thresholdBytes) {
+            return null;
+        }
+
+        if (!looksCompressible(entry.getData())) {
+            metricSource.onEntryCompressed(entrySize, entrySize);
+
+            return null;
+        }
+
+        // Codecs expect the same byte order as the one used by the segment files.
+        ByteBuffer src = ByteBuffer.allocate(entrySize).order(SegmentFile.BYTE_ORDER);
+
+        encoder.encode(src, entry);
+
+        byte[] dst = new byte[HEADER_SIZE + compressor.maxCompressedLength(entrySize)];
+
+        int compressedSize = compressor.compress(src.array(), 0, entrySize, dst, HEADER_SIZE, dst.length - HEADER_SIZE);
+
+        int totalSize = HEADER_SIZE + compressedSize;
+
+        metricSource.onEntryCompressed(entrySize, Math.min(entrySize, totalSize));
+
+        if (totalSize >= entrySize) {
+            // Reuse the encoded entry, so that it's not encoded twice.
+            return src.position(0);
+        }
+
+        return ByteBuffer.wrap(dst, 0, totalSize)
+                .order(SegmentFile.BYTE_ORDER)
+                .put(LZ4_MAGIC)
+                .putInt(entrySize)
+                .position(0);
+    }
+
+    /**
+     * Compresses a sample of the entry data, if the data is large enough for that to be cheaper than compressing the whole entry, and
+     * checks whether it shrinks enough.
+     */
+    private boolean looksCompressible(@Nullable ByteBuffer data) {
+        if (data == null || data.remaining() < 2 * SAMPLE_SIZE) {
+            return true;
+        }
+
+        ByteBuffer dst = ByteBuffer.allocate(compressor.maxCompressedLength(SAMPLE_SIZE));
+
+        int compressedSize = compressor.compress(data, data.position(), SAMPLE_SIZE, dst, 0, dst.capacity());
+
+        return compressedSize <= MAX_COMPRESSED_SAMPLE_SIZE;
+    }
+
+    /**
+     * Returns the encoded log entry, decompressing it if it has been stored compressed.
+     */
+    static byte[] decompressIfNeeded(byte[] entryBytes) {
+        if (entryBytes.length == 0 || entryBytes[0] != LZ4_MAGIC) {
+            return entryBytes;
+        }
+
+        int decompressedSize = ByteBuffer.wrap(entryBytes, 1, Integer.BYTES).order(SegmentFile.BYTE_ORDER).getInt();
+
+        byte[] result = new byte[decompressedSize];
+
+        int actualSize = DECOMPRESSOR.decompress(entryBytes, HEADER_SIZE, entryBytes.length - HEADER_SIZE, result, 0);
+
+        if (actualSize != decompressedSize) {
+            throw new IllegalStateException("Decompressed entry size mismatch, expected: " + decompressedSize + ", actual: " + actualSize);
+        }
+
+        return result;
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.raft.storage.segstore;
 
 import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -28,16 +29,19 @@ import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.ignite.internal.close.ManuallyCloseable;
+import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * This class represents an append-only memory-mapped segment file.
  *
- * <p>This implementation is thread-safe in terms of concurrent writes.
+ * <p>This implementation is thread-safe in terms of concurrent writes. In the synchronous mode, fsyncs of concurrent writes are coalesced
+ * according to the {@link GroupCommitSettings}.
  */
 class SegmentFile implements ManuallyCloseable {
     /**
@@ -77,20 +81,44 @@ class SegmentFile implements ManuallyCloseable {
     /** Position in the buffer <b>up to which</b> all written bytes have been synced. */
     private volatile int syncPosition;
 
+    /** Number of writes that have been completed, but not necessarily synced yet. Used for statistics only. */
+    private final AtomicInteger unsyncedWrites = new AtomicInteger();
+
     /** Lock used to atomically execute fsync. */
     private final Object syncLock = new Object();
 
-    private SegmentFile(FileChannel channel, Path path, boolean isSync) throws IOException {
+    /**
+     * Flag indicating that some thread is executing an fsync on behalf of all pending writes.
+     *
+     * <p>Must always be accessed under the {@link #syncLock}.
+     */
+    private boolean syncInProgress;
+
+    /**
+     * Flag indicating that the fsync that is currently in progress must not be delayed any longer.
+     *
+     * <p>Must always be accessed under the {@link #syncLock}.
+     */
+    private boolean syncUrgent;
+
+    private final GroupCommitSettings groupCommitSettings;
+
+    private SegmentFile(FileChannel channel, Path path, boolean isSync, GroupCommitSettings groupCommitSettings) throws IOException {
         buffer = channel.map(MapMode.READ_WRITE, 0, channel.size());
 
         assert buffer.limit() > 0 : "File " + path + " is empty.";
 
         this.path = path;
         this.isSync = isSync;
+        this.groupCommitSettings = groupCommitSettings;
         this.fileProperties = fileProperties(path);
     }
 
     static SegmentFile createNew(Path path, long fileSize, boolean isSync) throws IOException {
+        return createNew(path, fileSize, isSync, GroupCommitSettings.NO_DELAY);
+    }
+
+    static SegmentFile createNew(Path path, long fileSize, boolean isSync, GroupCommitSettings groupCommitSettings) throws IOException {
         if (fileSize < 0) {
             throw new IllegalArgumentException("File size is negative: " + fileSize);
         }
@@ -105,13 +133,17 @@ class SegmentFile implements ManuallyCloseable {
         try (var file = new RandomAccessFile(path.toFile(), "rw")) {
             file.setLength(fileSize);
 
-            return new SegmentFile(file.getChannel(), path, isSync);
+            return new SegmentFile(file.getChannel(), path, isSync, groupCommitSettings);
         }
     }
 
     static SegmentFile openExisting(Path path, boolean isSync) throws IOException {
+        return openExisting(path, isSync, GroupCommitSettings.NO_DELAY);
+    }
+
+    static SegmentFile openExisting(Path path, boolean isSync, GroupCommitSettings groupCommitSettings) throws IOException {
         try (var channel = FileChannel.open(path, READ, WRITE)) {
-            return new SegmentFile(channel, path, isSync);
+            return new SegmentFile(channel, path, isSync, groupCommitSettings);
         }
     }
 
@@ -160,18 +192,23 @@ class SegmentFile implements ManuallyCloseable {
 
         @Override
         public void close() {
-            if (isSync) {
-                // Wait for all previous writes to complete.
-                while (lastWritePosition != pos) {
-                    Thread.onSpinWait();
-                }
+            try {
+                if (isSync) {
+                    // Wait for all previous writes to complete.
+                    while (lastWritePosition != pos) {
+                        Thread.onSpinWait();
+                    }
 
-                lastWritePosition = slice.limit();
+                    unsyncedWrites.incrementAndGet();
 
-                sync(slice.limit());
-            }
+                    lastWritePosition = slice.limit();
 
-            numWriters.decrementAndGet();
+                    // May throw if the thread gets interrupted, the writer must be released anyway, otherwise closing the file hangs.
+                    sync(slice.limit(), true);
+                }
+            } finally {
+                numWriters.decrementAndGet();
+            }
         }
     }
 
@@ -251,28 +288,118 @@ class SegmentFile implements ManuallyCloseable {
     }
 
     void sync() {
-        sync(lastWritePosition);
+        sync(lastWritePosition, false);
     }
 
-    private void sync(int upToPosition) {
+    /**
+     * Makes sure that all bytes up to the given position are synced to the underlying storage.
+     *
+     * <p>Only one thread at a time executes an fsync and it syncs everything that has been written by the moment, so that concurrent
+     * writers waiting for their data to become durable are served by a single fsync (group commit).
+     *
+     * @param upToPosition Position up to which the data must be synced.
+     * @param allowDelay Whether the fsync may be delayed according to the {@link GroupCommitSettings} to accumulate more writes.
+     */
+    private void sync(int upToPosition, boolean allowDelay) {
         if (upToPosition <= syncPosition) {
             return;
         }
 
         synchronized (syncLock) {
-            int syncPosition = this.syncPosition;
+            while (syncInProgress) {
+                if (upToPosition <= syncPosition) {
+                    return;
+                }
+
+                if (!allowDelay || lastWritePosition - syncPosition >= groupCommitSettings.commitBatchBytes()) {
+                    // Wake up the thread that might be delaying the fsync.
+                    syncUrgent = true;
+
+                    syncLock.notifyAll();
+                }
+
+                try {
+                    syncLock.wait();
+                } catch (InterruptedException e) {
+                    throw interrupted(e);
+                }
+            }
 
             if (upToPosition <= syncPosition) {
                 return;
             }
 
-            //noinspection AccessToStaticFieldLockedOnInstance
-            SYNCER.force(buffer, syncPosition, upToPosition - syncPosition);
+            syncInProgress = true;
+            syncUrgent = false;
+        }
 
-            this.syncPosition = upToPosition;
+        int syncPosition = this.syncPosition;
+        int newSyncPosition = syncPosition;
+
+        try {
+            if (allowDelay) {
+                awaitGroupCommitBatch(syncPosition);
+            }
+
+            // Written data is published in order, so everything up to the last write position can be synced.
+            int targetPosition = Math.max(upToPosition, lastWritePosition);
+
+            int writes = unsyncedWrites.getAndSet(0);
+
+            long start = System.nanoTime();
+
+            SYNCER.force(buffer, syncPosition, targetPosition - syncPosition);
+
+            groupCommitSettings.metricSource().onSync(targetPosition - syncPosition, writes, System.nanoTime() - start);
+
+            newSyncPosition = targetPosition;
+        } finally {
+            synchronized (syncLock) {
+                this.syncPosition = newSyncPosition;
+
+                syncInProgress = false;
+
+                syncLock.notifyAll();
+            }
         }
     }
 
+    /**
+     * Waits for the configured group commit delay to expire, or for the configured amount of bytes to be written since the last fsync,
+     * whichever happens first. The wait is also interrupted if a writer requests an fsync that must not be delayed.
+     */
+    private void awaitGroupCommitBatch(int syncPosition) {
+        long delayNanos = groupCommitSettings.commitDelayNanos();
+
+        if (delayNanos <= 0) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + delayNanos;
+
+        synchronized (syncLock) {
+            while (!syncUrgent && lastWritePosition - syncPosition < groupCommitSettings.commitBatchBytes()) {
+                long remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0) {
+                    return;
+                }
+
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(syncLock, remaining);
+                } catch (InterruptedException e) {
+                    throw interrupted(e);
+                }
+            }
+        }
+    }
+
+    private static IgniteInternalException interrupted(InterruptedException e) {
+        Thread.currentThread().interrupt();
+
+        return new IgniteInternalException(INTERNAL_ERR, "Interrupted while waiting for fsync.", e);
+    }
+
     private @Nullable ByteBuffer reserveBytes(int size) {
         while (true) {
             int pos = bufferPosition.get();
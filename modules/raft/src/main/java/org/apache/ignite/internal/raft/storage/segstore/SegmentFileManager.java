@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.raft.storage.segstore;
 
 import static java.lang.Math.toIntExact;
+import static org.apache.ignite.internal.raft.configuration.LogStorageConfigurationSchema.LZ4_ENTRY_COMPRESSION;
 import static org.apache.ignite.internal.raft.configuration.LogStorageConfigurationSchema.UNSPECIFIED_MAX_LOG_ENTRY_SIZE;
 import static org.apache.ignite.internal.raft.configuration.LogStorageConfigurationSchema.computeDefaultMaxLogEntrySizeBytes;
 import static org.apache.ignite.internal.raft.storage.segstore.SegmentInfo.MISSING_SEGMENT_FILE_OFFSET;
@@ -40,6 +41,7 @@ import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.raft.configuration.LogStorageConfiguration;
 import org.apache.ignite.internal.raft.configuration.LogStorageView;
 import org.apache.ignite.internal.raft.configuration.RaftConfiguration;
@@ -84,6 +86,9 @@ import org.jetbrains.annotations.TestOnly;
  * <p>Log Entry Index and Term are stored as variable-length integers (varints), hence the non-fixed size in bytes. They are treated as
  * a part of the payload, so payload length includes their size as well.
  *
+ * <p>If log entry compression is enabled, the encoded log entry may be replaced with its compressed form, see {@link LogEntryCompressor}.
+ * Payload length and hash always describe the bytes that are actually stored in the file.
+ *
  * <p>In addition to regular Raft log entries, payload can also represent a special type of entry which are written when Raft suffix
  * is truncated. Such entries are identified by having a payload length of 0, followed by 8 bytes of the last log index kept after the
  * truncation.
@@ -98,7 +103,15 @@ class SegmentFileManager implements ManuallyCloseable {
 
     static final int MAGIC_NUMBER = 0x56E0B526;
 
-    static final int FORMAT_VERSION = 1;
+    /**
+     * Version of the segment file format.
+     *
+     * <ol>
+     *     <li>Initial version.</li>
+     *     <li>Log entries may be stored compressed, see {@link LogEntryCompressor}.</li>
+     * </ol>
+     */
+    static final int FORMAT_VERSION = 2;
 
     /**
      * Byte sequence that is written at the beginning of every segment file.
@@ -139,6 +152,15 @@ class SegmentFileManager implements ManuallyCloseable {
 
     private final boolean isSync;
 
+    private final GroupCommitSettings groupCommitSettings;
+
+    private final MetricManager metricManager;
+
+    private final SegstoreMetricSource metricSource = new SegstoreMetricSource();
+
+    /** Log entry compressor or {@code null} if compression is disabled. */
+    private final @Nullable LogEntryCompressor entryCompressor;
+
     /** Lock used to block threads while a rollover is in progress. */
     private final Object rolloverLock = new Object();
 
@@ -161,10 +183,12 @@ class SegmentFileManager implements ManuallyCloseable {
             FailureProcessor failureProcessor,
             GroupInfoProvider groupInfoProvider,
             RaftConfiguration raftConfiguration,
-            LogStorageConfiguration storageConfiguration
+            LogStorageConfiguration storageConfiguration,
+            MetricManager metricManager
     ) throws IOException {
         this.segmentFilesDir = baseDir.resolve("segments");
         this.stripes = stripes;
+        this.metricManager = metricManager;
         this.isSync = raftConfiguration.fsync().value();
 
         Files.createDirectories(segmentFilesDir);
@@ -175,6 +199,16 @@ class SegmentFileManager implements ManuallyCloseable {
 
         maxLogEntrySize = maxLogEntrySize(logStorageView);
 
+        groupCommitSettings = new GroupCommitSettings(
+                logStorageView.groupCommitDelayMicros(),
+                logStorageView.groupCommitBatchBytes(),
+                metricSource
+        );
+
+        entryCompressor = LZ4_ENTRY_COMPRESSION.equalsIgnoreCase(logStorageView.entryCompression())
+                ? new LogEntryCompressor(logStorageView.entryCompressionThresholdBytes(), metricSource)
+                : null;
+
         indexFileManager = new IndexFileManager(baseDir);
 
         checkpointer = new RaftLogCheckpointer(
@@ -234,6 +268,9 @@ class SegmentFileManager implements ManuallyCloseable {
         indexFileManager.start();
 
         checkpointer.start();
+
+        metricManager.registerSource(metricSource);
+        metricManager.enable(metricSource);
     }
 
     Path segmentFilesDir() {
@@ -244,6 +281,11 @@ class SegmentFileManager implements ManuallyCloseable {
         return indexFileManager.indexFilesDir();
     }
 
+    /** Returns the metric source of this storage. */
+    SegstoreMetricSource metricSource() {
+        return metricSource;
+    }
+
     @TestOnly
     IndexFileManager indexFileManager() {
         return indexFileManager;
@@ -257,7 +299,7 @@ class SegmentFileManager implements ManuallyCloseable {
     private SegmentFileWithMemtable allocateNewSegmentFile(int fileOrdinal) throws IOException {
         Path path = segmentFilesDir.resolve(SegmentFile.fileName(new FileProperties(fileOrdinal)));
 
-        SegmentFile segmentFile = SegmentFile.createNew(path, segmentFileSize, isSync);
+        SegmentFile segmentFile = SegmentFile.createNew(path, segmentFileSize, isSync, groupCommitSettings);
 
         writeHeader(segmentFile);
 
@@ -270,7 +312,7 @@ class SegmentFileManager implements ManuallyCloseable {
      * possibly incomplete segment file.
      */
     private SegmentFileWithMemtable recoverLatestSegmentFile(Path segmentFilePath) throws IOException {
-        SegmentFile segmentFile = SegmentFile.openExisting(segmentFilePath, isSync);
+        SegmentFile segmentFile = SegmentFile.openExisting(segmentFilePath, isSync, groupCommitSettings);
 
         var memTable = new StripedMemTable(stripes);
 
@@ -287,7 +329,7 @@ class SegmentFileManager implements ManuallyCloseable {
      * never happen during this method's invocation), not to validate storage integrity.
      */
     private SegmentFileWithMemtable recoverSegmentFile(Path segmentFilePath) throws IOException {
-        SegmentFile segmentFile = SegmentFile.openExisting(segmentFilePath, isSync);
+        SegmentFile segmentFile = SegmentFile.openExisting(segmentFilePath, isSync, groupCommitSettings);
 
         var memTable = new SingleThreadMemTable();
 
@@ -301,8 +343,11 @@ class SegmentFileManager implements ManuallyCloseable {
     }
 
     void appendEntry(long groupId, LogEntry entry, LogEntryEncoder encoder) throws IOException {
-        int segmentEntrySize = SegmentPayload.size(entry, encoder);
+        int entrySize = encoder.size(entry);
+
+        int segmentEntrySize = SegmentPayload.size(entry.getId(), entrySize);
 
+        // The limit applies to the uncompressed entry, so that whether an entry is accepted doesn't depend on compression.
         if (segmentEntrySize > maxLogEntrySize) {
             throw new IllegalArgumentException(String.format(
                     "Segment entry is too big (%d bytes), maximum allowed segment entry size: %d bytes.",
@@ -310,12 +355,22 @@ class SegmentFileManager implements ManuallyCloseable {
             ));
         }
 
+        ByteBuffer encodedEntry = entryCompressor == null ? null : entryCompressor.compress(entry, encoder, entrySize);
+
+        if (encodedEntry != null) {
+            segmentEntrySize = SegmentPayload.size(entry.getId(), encodedEntry.remaining());
+        }
+
         try (WriteBufferWithMemtable writeBufferWithMemtable = reserveBytesWithRollover(segmentEntrySize)) {
             ByteBuffer segmentBuffer = writeBufferWithMemtable.buffer();
 
             int segmentOffset = segmentBuffer.position();
 
-            SegmentPayload.writeTo(segmentBuffer, groupId, segmentEntrySize, entry, encoder);
+            if (encodedEntry == null) {
+                SegmentPayload.writeTo(segmentBuffer, groupId, segmentEntrySize, entry, encoder);
+            } else {
+                SegmentPayload.writeTo(segmentBuffer, groupId, segmentEntrySize, entry.getId(), encodedEntry);
+            }
 
             // Append to memtable before write buffer is released to avoid races with checkpoint on rollover.
             writeBufferWithMemtable.memtable().appendSegmentFileOffset(groupId, entry.getId().getIndex(), segmentOffset);
@@ -538,6 +593,8 @@ class SegmentFileManager implements ManuallyCloseable {
             rolloverLock.notifyAll();
         }
 
+        metricManager.unregisterSource(metricSource);
+
         checkpointer.stop();
     }
 
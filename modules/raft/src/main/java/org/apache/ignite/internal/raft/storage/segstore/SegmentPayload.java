@@ -89,6 +89,29 @@ class SegmentPayload {
         writeCrc(buffer, recordSize);
     }
 
+    /**
+     * Same as {@link #writeTo(ByteBuffer, long, int, LogEntry, LogEntryEncoder)}, but writes an already encoded (and possibly
+     * compressed) entry.
+     *
+     * @see LogEntryCompressor
+     */
+    static void writeTo(ByteBuffer buffer, long groupId, int segmentEntrySize, LogId logId, ByteBuffer encodedEntry) {
+        int originalPos = buffer.position();
+
+        buffer
+                .putLong(groupId)
+                .putInt(segmentEntrySize - fixedOverheadSize());
+
+        VarlenEncoder.writeLong(logId.getIndex(), buffer);
+        VarlenEncoder.writeLong(logId.getTerm(), buffer);
+
+        buffer.put(encodedEntry);
+
+        int recordSize = buffer.position() - originalPos;
+
+        writeCrc(buffer, recordSize);
+    }
+
     static void writeTruncateSuffixRecordTo(ByteBuffer buffer, long groupId, long lastLogIndexKept) {
         buffer
                 .putLong(groupId)
@@ -160,14 +183,14 @@ class SegmentPayload {
         // Move the position as if we have read the whole payload.
         buffer.position(buffer.position() + CRC_SIZE_BYTES);
 
-        return logEntryDecoder.decode(entryBytes);
+        return logEntryDecoder.decode(LogEntryCompressor.decompressIfNeeded(entryBytes));
     }
 
     static int size(LogEntry logEntry, LogEntryEncoder logEntryEncoder) {
-        int entrySize = logEntryEncoder.size(logEntry);
-
-        LogId logId = logEntry.getId();
+        return size(logEntry.getId(), logEntryEncoder.size(logEntry));
+    }
 
+    static int size(LogId logId, int entrySize) {
         return fixedOverheadSize() + VarlenEncoder.sizeInBytes(logId.getIndex()) + VarlenEncoder.sizeInBytes(logId.getTerm()) + entrySize;
     }
 
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.segstore;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metrics of the segment file based Raft log storage.
+ */
+class SegstoreMetricSource extends AbstractMetricSource<SegstoreMetricSource.Holder> {
+    /** Source name. */
+    static final String SOURCE_NAME = "raft.log.segstore";
+
+    /** Constructor. */
+    SegstoreMetricSource() {
+        super(SOURCE_NAME, "Segment file Raft log storage metrics.");
+    }
+
+    /**
+     * Records an fsync of a segment file.
+     *
+     * @param bytes Number of bytes synced.
+     * @param writes Number of writes that have been made durable by the fsync.
+     * @param nanos Duration of the fsync.
+     */
+    void onSync(int bytes, int writes, long nanos) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.syncs.increment();
+            h.syncBatchBytes.add(bytes);
+            h.syncBatchWrites.add(writes);
+            h.syncDuration.add(TimeUnit.NANOSECONDS.toMicros(nanos));
+        }
+    }
+
+    /**
+     * Records an attempt to compress a log entry.
+     *
+     * @param entryBytes Size of the encoded entry.
+     * @param storedBytes Size of the entry as it is stored: either compressed, or the original one if compression didn't help.
+     */
+    void onEntryCompressed(int entryBytes, int storedBytes) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.bytesBeforeCompression.add(entryBytes);
+            h.bytesAfterCompression.add(storedBytes);
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric syncs = new LongAdderMetric(
+                "SyncCount",
+                "Total number of segment file fsyncs."
+        );
+
+        private final DistributionMetric syncBatchBytes = new DistributionMetric(
+                "SyncBatchBytes",
+                "Histogram of the number of bytes made durable by a single segment file fsync.",
+                new long[] {4096, 16384, 65536, 262144, 1048576, 4194304, 16777216}
+        );
+
+        private final DistributionMetric syncBatchWrites = new DistributionMetric(
+                "SyncBatchWrites",
+                "Histogram of the number of log writes made durable by a single segment file fsync.",
+                new long[] {1, 2, 4, 8, 16, 32, 64, 128, 256}
+        );
+
+        private final DistributionMetric syncDuration = new DistributionMetric(
+                "SyncDuration",
+                "Histogram of the segment file fsync duration in microseconds.",
+                new long[] {100, 250, 500, 1000, 2500, 5000, 10000, 50000, 100000}
+        );
+
+        private final LongAdderMetric bytesBeforeCompression = new LongAdderMetric(
+                "EntryBytesBeforeCompression",
+                "Total size of the log entries that were eligible for compression."
+        );
+
+        private final LongAdderMetric bytesAfterCompression = new LongAdderMetric(
+                "EntryBytesAfterCompression",
+                "Total size of the log entries that were eligible for compression, as they were stored."
+        );
+
+        private final List<Metric> metrics = List.of(
+                syncs,
+                syncBatchBytes,
+                syncBatchWrites,
+                syncDuration,
+                bytesBeforeCompression,
+                bytesAfterCompression
+        );
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return metrics;
+        }
+    }
+}
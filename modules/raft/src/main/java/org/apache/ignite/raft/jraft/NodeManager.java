@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiPredicate;
@@ -37,12 +38,15 @@ import org.apache.ignite.internal.network.ClusterService;
 import org.apache.ignite.raft.jraft.core.Scheduler;
 import org.apache.ignite.raft.jraft.entity.NodeId;
 import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.RemotingException;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
 import org.apache.ignite.raft.jraft.rpc.CoalescedHeartbeatRequestBuilder;
 import org.apache.ignite.raft.jraft.rpc.InvokeCallback;
 import org.apache.ignite.raft.jraft.rpc.Message;
 import org.apache.ignite.raft.jraft.rpc.RpcClient;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesResponse;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatResponse;
 import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcClient;
 import org.apache.ignite.raft.jraft.util.OnlyForTest;
@@ -58,6 +62,7 @@ public class NodeManager implements Lifecycle<NodeOptions> {
     private final ConcurrentMap<NodeId, Node> nodeMap = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, List<Node>> groupMap = new ConcurrentHashMap<>();
     private final ConcurrentMap<PeerId, Queue<Object[]>> coalesced = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PeerId, CoalescedEntries> coalescedEntries = new ConcurrentHashMap<>();
 
     /** Node options. */
     private NodeOptions options;
@@ -95,6 +100,13 @@ public class NodeManager implements Lifecycle<NodeOptions> {
         rpcClient.shutdown();
     }
 
+    /**
+     * Returns the options this manager was initialized with.
+     */
+    public NodeOptions getOptions() {
+        return options;
+    }
+
     public void blockMessages(BiPredicate<Message, PeerId> predicate) {
         this.blockPred = predicate;
     }
@@ -224,6 +236,16 @@ public class NodeManager implements Lifecycle<NodeOptions> {
                 }
             }
 
+            for (PeerId remote : coalescedEntries.keySet()) {
+                if (remote.getConsistentId().equals(peerId.getConsistentId())) {
+                    CoalescedEntries entries = coalescedEntries.remove(remote);
+
+                    if (entries != null) {
+                        failEntries(entries, new RemotingException("Node has been removed [peer=" + peerId + ']'));
+                    }
+                }
+            }
+
             List<Node> nodes = this.groupMap.get(node.getGroupId());
 
             if (nodes != null) {
@@ -267,4 +289,173 @@ public class NodeManager implements Lifecycle<NodeOptions> {
     public ConcurrentMap<PeerId, Queue<Object[]>> getCoalesced() {
         return coalesced;
     }
+
+    /**
+     * Enqueues an AppendEntries request carrying log entries to be sent to the given peer together with the requests of
+     * other groups. Unlike heartbeats, the requests are not delayed until the next tick: a flush is scheduled right away
+     * and takes everything enqueued by the time it runs, so requests are only batched while a previous flush is pending.
+     *
+     * <p>The returned future times out on its own after {@code timeoutMs} if it is positive, regardless of the other requests
+     * of the batch.
+     *
+     * @param to Target peer.
+     * @param request The request.
+     * @param timeoutMs Request timeout.
+     * @return Future that is completed with the response to the request.
+     */
+    public CompletableFuture<Message> enqueueEntries(PeerId to, AppendEntriesRequest request, int timeoutMs) {
+        CompletableFuture<Message> fut = new CompletableFuture<>();
+
+        if (timeoutMs > 0) {
+            fut.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        CoalescedEntries entries = coalescedEntries.computeIfAbsent(to, k -> new CoalescedEntries());
+
+        entries.queue.add(new Object[]{request, fut, timeoutMs});
+
+        scheduleEntriesFlush(to, entries);
+
+        return fut;
+    }
+
+    private void scheduleEntriesFlush(PeerId peer, CoalescedEntries entries) {
+        if (!entries.queue.isEmpty() && entries.flushScheduled.compareAndSet(false, true)) {
+            try {
+                // All flushes for a peer run in the same thread, which keeps the per-group order of the requests.
+                options.getStripedExecutor().execute(peer.hashCode(), () -> flushEntries(peer, entries));
+            } catch (RejectedExecutionException e) {
+                entries.flushScheduled.set(false);
+
+                failEntries(entries, e);
+            }
+        }
+    }
+
+    private static void failEntries(CoalescedEntries entries, Throwable err) {
+        Object[] req;
+
+        while ((req = entries.queue.poll()) != null) {
+            ((CompletableFuture<Message>) req[1]).completeExceptionally(err);
+        }
+    }
+
+    private void flushEntries(PeerId peer, CoalescedEntries entries) {
+        try {
+            ArrayList<AppendEntriesRequest> list = new ArrayList<>();
+            List<CompletableFuture<Message>> futs = new ArrayList<>();
+
+            long bodySize = 0;
+            int minTimeoutMs = 0;
+            int maxTimeoutMs = 0;
+
+            Object[] req;
+
+            // The first request is always taken, so a batch is never empty even if the request alone exceeds the limit.
+            while ((req = entries.queue.peek()) != null) {
+                var msg = (AppendEntriesRequest) req[0];
+
+                int size = msg.data() == null ? 0 : msg.data().capacity();
+
+                if (!list.isEmpty() && bodySize + size > options.getRaftOptions().getMaxBodySize()) {
+                    break;
+                }
+
+                entries.queue.poll();
+
+                list.add(msg);
+                futs.add((CompletableFuture<Message>) req[1]);
+
+                bodySize += size;
+
+                int timeoutMs = (int) req[2];
+
+                if (timeoutMs > 0) {
+                    minTimeoutMs = minTimeoutMs == 0 ? timeoutMs : Math.min(minTimeoutMs, timeoutMs);
+                }
+
+                maxTimeoutMs = Math.max(maxTimeoutMs, timeoutMs);
+            }
+
+            if (!list.isEmpty()) {
+                sendEntries(peer, list, futs, minTimeoutMs, maxTimeoutMs);
+            }
+        } finally {
+            entries.flushScheduled.set(false);
+
+            scheduleEntriesFlush(peer, entries);
+        }
+    }
+
+    /**
+     * Sends a batch of requests. The follower answers the batch by a half of the smallest timeout of the requests, answering
+     * those that are not processed by then with an error, so a stuck group does not hold back the other groups of the batch.
+     */
+    private void sendEntries(
+            PeerId peer,
+            List<AppendEntriesRequest> list,
+            List<CompletableFuture<Message>> futs,
+            int minTimeoutMs,
+            int maxTimeoutMs
+    ) {
+        CoalescedAppendEntriesRequest request = messagesFactory.coalescedAppendEntriesRequest()
+                .messages(list)
+                .timeoutMs(minTimeoutMs)
+                .build();
+
+        try {
+            rpcClient.invokeAsync(peer, request, null, new InvokeCallback() {
+                @Override
+                public void complete(Object result, Throwable err) {
+                    if (err != null) {
+                        for (CompletableFuture<Message> fut : futs) {
+                            fut.completeExceptionally(err);
+                        }
+
+                        return;
+                    }
+
+                    if (!(result instanceof CoalescedAppendEntriesResponse)) {
+                        // The whole batch has failed on the remote side, the error applies to every request.
+                        for (CompletableFuture<Message> fut : futs) {
+                            fut.complete((Message) result);
+                        }
+
+                        return;
+                    }
+
+                    CoalescedAppendEntriesResponse resp = (CoalescedAppendEntriesResponse) result;
+
+                    assert resp.messages().size() == futs.size();
+
+                    int i = 0;
+                    for (Message message : resp.messages()) {
+                        futs.get(i++).complete(message); // Future completion will trigger callbacks.
+                    }
+                }
+
+                @Override
+                public Executor executor() {
+                    return options.getStripedExecutor().next();
+                }
+            }, maxTimeoutMs);
+        } catch (Exception e) {
+            LOG.error("Failed to send coalesced append entries message to remote node [remote={}].", e, peer);
+
+            for (CompletableFuture<Message> fut : futs) {
+                fut.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * AppendEntries requests carrying log entries that wait to be sent to a peer.
+     */
+    private static class CoalescedEntries {
+        /** Queue of {@code [request, future, timeoutMs]} triples. */
+        final Queue<Object[]> queue = new ConcurrentLinkedQueue<>();
+
+        /** Whether a flush of the queue is scheduled. */
+        final AtomicBoolean flushScheduled = new AtomicBoolean();
+    }
 }
@@ -178,6 +178,12 @@ public class RaftMessageGroup {
 
         /** */
         public static final short COALESCED_HEARTBEAT_RESPONSE = 3016;
+
+        /** */
+        public static final short COALESCED_APPEND_ENTRIES_REQUEST = 3017;
+
+        /** */
+        public static final short COALESCED_APPEND_ENTRIES_RESPONSE = 3018;
     }
 
     /**
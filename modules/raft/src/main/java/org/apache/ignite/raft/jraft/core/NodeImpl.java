@@ -2129,9 +2129,16 @@ public class NodeImpl implements Node, RaftServerService {
         }
 
         ReadOnlyOption readOnlyOpt = this.raftOptions.getReadOnlyOptions();
-        if (readOnlyOpt == ReadOnlyOption.ReadOnlyLeaseBased && !isLeaderLeaseValid()) {
-            // If leader lease timeout, we must change option to ReadOnlySafe
-            readOnlyOpt = ReadOnlyOption.ReadOnlySafe;
+        if (readOnlyOpt == ReadOnlyOption.ReadOnlyLeaseBased) {
+            if (isLeaderLeaseValid()) {
+                this.options.getRaftMetrics().onLeaseRead();
+            }
+            else {
+                // If leader lease timeout, we must change option to ReadOnlySafe
+                readOnlyOpt = ReadOnlyOption.ReadOnlySafe;
+
+                this.options.getRaftMetrics().onLeaseExpiredRead();
+            }
         }
 
         switch (readOnlyOpt) {
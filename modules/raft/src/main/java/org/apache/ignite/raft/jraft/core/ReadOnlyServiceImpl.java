@@ -33,6 +33,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.sources.RaftMetricSource;
 import org.apache.ignite.raft.jraft.FSMCaller;
 import org.apache.ignite.raft.jraft.FSMCaller.LastAppliedLogIndexListener;
 import org.apache.ignite.raft.jraft.ReadOnlyService;
@@ -56,6 +57,7 @@ import org.apache.ignite.raft.jraft.util.Bytes;
 import org.apache.ignite.raft.jraft.util.DisruptorMetricSet;
 import org.apache.ignite.raft.jraft.util.OnlyForTest;
 import org.apache.ignite.raft.jraft.util.Utils;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Read-only service implementation.
@@ -80,6 +82,8 @@ public class ReadOnlyServiceImpl implements ReadOnlyService, LastAppliedLogIndex
 
     private NodeMetrics nodeMetrics;
 
+    private @Nullable RaftMetricSource raftMetrics;
+
     private volatile RaftException error;
 
     // <logIndex, statusList>
@@ -268,6 +272,7 @@ public class ReadOnlyServiceImpl implements ReadOnlyService, LastAppliedLogIndex
     public boolean init(final ReadOnlyServiceOptions opts) {
         this.node = opts.getNode();
         this.nodeMetrics = this.node.getNodeMetrics();
+        this.raftMetrics = this.node.getOptions().getRaftMetrics();
         this.fsmCaller = opts.getFsmCaller();
         this.raftOptions = opts.getRaftOptions();
 
@@ -456,6 +461,9 @@ public class ReadOnlyServiceImpl implements ReadOnlyService, LastAppliedLogIndex
             final ReadIndexClosure done = task.getDone(); // stack copy
             if (done != null) {
                 this.nodeMetrics.recordLatency("read-index", nowMs - task.getStartTimeMs());
+                if (this.raftMetrics != null) {
+                    this.raftMetrics.onReadIndex(nowMs - task.getStartTimeMs());
+                }
                 done.setResult(task.getIndex(), task.getRequestContext().get());
                 done.run(Status.OK());
             }
@@ -95,6 +95,13 @@ public class RaftOptions implements Copiable<RaftOptions> {
      * The maximum replicator pipeline in-flight requests/responses, only valid when enable replicator pipeline.
      */
     private int maxReplicatorInflightMsgs = 256;
+
+    /**
+     * Whether to coalesce AppendEntries requests of non-system groups that target the same peer into a single network
+     * message. Heartbeats are always coalesced, this option extends coalescing to the requests carrying log entries.
+     */
+    private boolean coalesceAppendEntries = false;
+
     /**
      * Internal disruptor buffers size for Node/FSMCaller/LogManager etc.
      */
@@ -208,6 +215,14 @@ public class RaftOptions implements Copiable<RaftOptions> {
         this.replicatorPipeline = replicatorPipeline;
     }
 
+    public boolean isCoalesceAppendEntries() {
+        return this.coalesceAppendEntries;
+    }
+
+    public void setCoalesceAppendEntries(final boolean coalesceAppendEntries) {
+        this.coalesceAppendEntries = coalesceAppendEntries;
+    }
+
     public int getMaxReplicatorInflightMsgs() {
         return this.maxReplicatorInflightMsgs;
     }
@@ -351,6 +366,7 @@ public class RaftOptions implements Copiable<RaftOptions> {
         raftOptions.setOpenStatistics(this.openStatistics);
         raftOptions.setReplicatorPipeline(this.replicatorPipeline);
         raftOptions.setMaxReplicatorInflightMsgs(this.maxReplicatorInflightMsgs);
+        raftOptions.setCoalesceAppendEntries(this.coalesceAppendEntries);
         raftOptions.setDisruptorBufferSize(this.disruptorBufferSize);
         raftOptions.setDisruptorPublishEventWaitTimeoutSecs(this.disruptorPublishEventWaitTimeoutSecs);
         raftOptions.setEnableLogEntryChecksum(this.enableLogEntryChecksum);
@@ -369,7 +385,8 @@ public class RaftOptions implements Copiable<RaftOptions> {
             + this.maxElectionDelayMs + ", electionHeartbeatFactor=" + this.electionHeartbeatFactor
             + ", applyBatch=" + this.applyBatch + ", sync=" + this.sync + ", syncMeta=" + this.syncMeta
             + ", openStatistics=" + this.openStatistics + ", replicatorPipeline=" + this.replicatorPipeline
-            + ", maxReplicatorInflightMsgs=" + this.maxReplicatorInflightMsgs + ", disruptorBufferSize="
+            + ", maxReplicatorInflightMsgs=" + this.maxReplicatorInflightMsgs
+            + ", coalesceAppendEntries=" + this.coalesceAppendEntries + ", disruptorBufferSize="
             + this.disruptorBufferSize + ", disruptorPublishEventWaitTimeoutSecs="
             + this.disruptorPublishEventWaitTimeoutSecs + ", enableLogEntryChecksum=" + this.enableLogEntryChecksum
             + ", readOnlyOptions=" + this.readOnlyOptions + ", maxApplyQueueByteSize=" + this.maxApplyQueueByteSize + '}';
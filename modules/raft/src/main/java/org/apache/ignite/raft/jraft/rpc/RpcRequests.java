@@ -255,4 +255,24 @@ public final class RpcRequests {
     public interface CoalescedHeartbeatResponse extends Message {
         Collection<Message> messages();
     }
+
+    /**
+     * AppendEntries requests carrying log entries, sent by the leaders of different groups to the same peer in a single
+     * network message.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_APPEND_ENTRIES_REQUEST)
+    public interface CoalescedAppendEntriesRequest extends Message {
+        Collection<AppendEntriesRequest> messages();
+
+        /** The smallest timeout of the requests of the batch, in milliseconds. Zero means no timeout. */
+        int timeoutMs();
+    }
+
+    /**
+     * Responses to the requests of a {@link CoalescedAppendEntriesRequest}, in the same order.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_APPEND_ENTRIES_RESPONSE)
+    public interface CoalescedAppendEntriesResponse extends Message {
+        Collection<Message> messages();
+    }
 }
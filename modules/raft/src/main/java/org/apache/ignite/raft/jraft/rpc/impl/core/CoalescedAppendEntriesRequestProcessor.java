@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.ignite.internal.network.InternalClusterNode;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.raft.jraft.NodeManager;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RaftRpcFactory;
+import org.apache.ignite.raft.jraft.rpc.RpcContext;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestClosure;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesRequest;
+
+/**
+ * Coalesced append entries request processor.
+ *
+ * <p>Every request of the batch is dispatched to {@link AppendEntriesRequestProcessor}, the same way as if it was received
+ * on its own, so the pipelining and the interception of the requests are preserved. The batch is answered once all of its
+ * requests are answered, or at the deadline of the batch, whichever comes first. At the deadline the requests that are still
+ * being processed are answered with {@link RaftError#ETIMEDOUT}, so a group that is stuck does not hold back the responses of
+ * the other groups of the batch. The deadline is a half of {@link CoalescedAppendEntriesRequest#timeoutMs()}, which leaves
+ * the other half for the response to reach the leader before the requests time out there.
+ */
+public class CoalescedAppendEntriesRequestProcessor extends RpcRequestProcessor<CoalescedAppendEntriesRequest> {
+    private final AppendEntriesRequestProcessor appendEntriesRequestProcessor;
+
+    /**
+     * Batches from the same leader node are processed in one thread. Otherwise a later batch could dispatch its requests
+     * before an earlier one and reorder the requests of a group.
+     */
+    private final ExecutorSelector executorSelector = (reqClass, req, nodeManager) -> {
+        Iterator<AppendEntriesRequest> it = ((CoalescedAppendEntriesRequest) req).messages().iterator();
+
+        PeerId leader = it.hasNext() ? PeerId.parsePeer(it.next().serverId()) : null;
+
+        if (leader == null || nodeManager.getOptions() == null) {
+            return executor();
+        }
+
+        return nodeManager.getOptions().getStripedExecutor().select(leader.getConsistentId().hashCode());
+    };
+
+    /**
+     * Constructor.
+     *
+     * @param executor Executor.
+     * @param msgFactory Message factory.
+     * @param appendEntriesRequestProcessor Processor of the individual requests.
+     */
+    public CoalescedAppendEntriesRequestProcessor(
+            Executor executor,
+            RaftMessagesFactory msgFactory,
+            AppendEntriesRequestProcessor appendEntriesRequestProcessor
+    ) {
+        super(executor, msgFactory);
+
+        this.appendEntriesRequestProcessor = appendEntriesRequestProcessor;
+    }
+
+    @Override
+    public Message processRequest(CoalescedAppendEntriesRequest request, RpcRequestClosure done) {
+        List<AppendEntriesRequest> messages = new ArrayList<>(request.messages());
+
+        var responses = new Responses(done, messages.size());
+
+        if (messages.isEmpty()) {
+            return responses.build();
+        }
+
+        NodeManager nodeManager = done.getRpcCtx().getNodeManager();
+        NodeOptions options = nodeManager.getOptions();
+
+        if (options != null && request.timeoutMs() > 0) {
+            responses.deadline = options.getScheduler().schedule(responses::onDeadline, request.timeoutMs() / 2, TimeUnit.MILLISECONDS);
+        }
+
+        ExecutorSelector selector = appendEntriesRequestProcessor.executorSelector();
+
+        for (int i = 0; i < messages.size(); i++) {
+            AppendEntriesRequest message = messages.get(i);
+            RpcContext ctx = new ItemRpcContext(done.getRpcCtx(), responses, i);
+
+            Executor executor = selector.select(AppendEntriesRequest.class.getName(), message, nodeManager);
+
+            executor.execute(() -> appendEntriesRequestProcessor.handleRequest(ctx, message));
+        }
+
+        return null;
+    }
+
+    @Override
+    public String interest() {
+        return CoalescedAppendEntriesRequest.class.getName();
+    }
+
+    @Override
+    public ExecutorSelector executorSelector() {
+        return executorSelector;
+    }
+
+    /**
+     * Collects the responses to the requests of a batch and sends the batch response once all of them are collected or the
+     * deadline of the batch is reached. Responses that come after the batch response is sent are dropped.
+     */
+    private class Responses {
+        private final RpcRequestClosure done;
+
+        private final AtomicReferenceArray<Message> messages;
+
+        private final AtomicInteger remaining;
+
+        private final AtomicBoolean sent = new AtomicBoolean();
+
+        /** Deadline task, {@code null} if the batch has no deadline. */
+        private volatile ScheduledFuture<?> deadline;
+
+        Responses(RpcRequestClosure done, int size) {
+            this.done = done;
+            this.messages = new AtomicReferenceArray<>(size);
+            this.remaining = new AtomicInteger(size);
+        }
+
+        void onResponse(int idx, Message msg) {
+            messages.set(idx, msg);
+
+            if (remaining.decrementAndGet() == 0) {
+                send();
+            }
+        }
+
+        void onDeadline() {
+            send();
+        }
+
+        private void send() {
+            if (!sent.compareAndSet(false, true)) {
+                return;
+            }
+
+            ScheduledFuture<?> deadline = this.deadline;
+
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+
+            done.sendResponse(build());
+        }
+
+        Message build() {
+            List<Message> list = new ArrayList<>(messages.length());
+
+            for (int i = 0; i < messages.length(); i++) {
+                Message msg = messages.get(i);
+
+                if (msg == null) {
+                    msg = RaftRpcFactory.DEFAULT.newResponse(msgFactory(), RaftError.ETIMEDOUT,
+                            "Request is not processed before the deadline");
+                }
+
+                list.add(msg);
+            }
+
+            return msgFactory().coalescedAppendEntriesResponse()
+                    .messages(list)
+                    .build();
+        }
+    }
+
+    /**
+     * Context of a single request of a batch, which routes the response of the request to the batch response.
+     */
+    private static class ItemRpcContext implements RpcContext {
+        private final RpcContext parent;
+
+        private final Responses responses;
+
+        private final int idx;
+
+        ItemRpcContext(RpcContext parent, Responses responses, int idx) {
+            this.parent = parent;
+            this.responses = responses;
+            this.idx = idx;
+        }
+
+        @Override
+        public NodeManager getNodeManager() {
+            return parent.getNodeManager();
+        }
+
+        @Override
+        public void sendResponse(Object responseObj) {
+            responses.onResponse(idx, (Message) responseObj);
+        }
+
+        @Override
+        public void sendResponseAsync(Object responseObj) {
+            sendResponse(responseObj);
+        }
+
+        @Override
+        public NetworkAddress getRemoteAddress() {
+            return parent.getRemoteAddress();
+        }
+
+        @Override
+        public InternalClusterNode getSender() {
+            return parent.getSender();
+        }
+
+        @Override
+        public String getLocalConsistentId() {
+            return parent.getLocalConsistentId();
+        }
+    }
+}
@@ -108,12 +108,60 @@ public class DefaultRaftClientService extends AbstractClientService implements R
                 return sendHeartbeat(peerId, request, timeoutMs, done, executor);
             }
 
+            if (!nodeOptions.isSystemGroup() && nodeOptions.getRaftOptions().isCoalesceAppendEntries()) {
+                return sendCoalescedEntries(peerId, request, timeoutMs, done, executor);
+            }
+
             return invokeWithDone(peerId, request, done, timeoutMs, executor);
         }
 
         return onConnectionFail(executor, request, done, peerId);
     }
 
+    /**
+     * Accumulates append entries requests carrying log entries to send them to the peer in a batch request together with the
+     * requests of other raft groups.
+     *
+     * @param peerId Remote peer id.
+     * @param request Request.
+     * @param timeoutMs Timeout.
+     * @param done Done callback.
+     * @param executor Executor where the done callback is executed.
+     * @return A future with response.
+     */
+    private Future<Message> sendCoalescedEntries(
+            PeerId peerId,
+            AppendEntriesRequest request,
+            int timeoutMs,
+            RpcResponseClosure<AppendEntriesResponse> done,
+            Executor executor
+    ) {
+        NodeManager nodeManager = this.nodeOptions.getNodeManager();
+
+        return invokeWithDone(
+                peerId,
+                request,
+                null,
+                done,
+                timeoutMs,
+                executor,
+                (peerId1, request1, ctx, callback, timeoutMs1) ->
+                        nodeManager.enqueueEntries(peerId, (AppendEntriesRequest) request1, (int) timeoutMs1)
+                                .whenComplete((res, err) -> {
+                                    if (err instanceof ExecutionException) {
+                                        err = new RemotingException(err);
+                                    } else if (err instanceof TimeoutException) { // Translate timeout exception.
+                                        err = new InvokeTimeoutException();
+                                    }
+
+                                    Throwable finalErr = err;
+
+                                    // Avoid deadlocks if a closure has completed in the same thread.
+                                    Utils.runInThread(callback.executor(), () -> callback.complete(res, finalErr));
+                                })
+        );
+    }
+
     /**
      * Accumulates heartbeat messages to send them into the batch request.
      *
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.apache.ignite.internal.failure.FailureManager;
+import org.apache.ignite.internal.raft.server.impl.JraftServerImpl.DelegatingStateMachine;
+import org.apache.ignite.internal.raft.service.CommandClosure;
+import org.apache.ignite.internal.raft.service.RaftGroupListener;
+import org.apache.ignite.internal.replicator.ZonePartitionId;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.raft.jraft.Closure;
+import org.apache.ignite.raft.jraft.StateMachine;
+import org.apache.ignite.raft.jraft.Status;
+import org.apache.ignite.raft.jraft.core.IteratorImpl;
+import org.apache.ignite.raft.jraft.core.IteratorWrapper;
+import org.apache.ignite.raft.jraft.entity.EnumOutter.EntryType;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.storage.LogManager;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the write commands processing in {@link DelegatingStateMachine} with a real JRaft iterator, for listeners that read ahead.
+ */
+public class DelegatingStateMachineTest extends BaseIgniteAbstractTest {
+    private static final int ENTRIES = 5;
+
+    private final List<TestClosure> closures = new ArrayList<>();
+
+    private IteratorImpl iterImpl;
+
+    @BeforeEach
+    void setUp() {
+        LogManager logManager = mock(LogManager.class);
+
+        for (int i = 1; i <= ENTRIES; i++) {
+            LogEntry entry = new LogEntry(EntryType.ENTRY_TYPE_DATA);
+
+            entry.getId().setIndex(i);
+            entry.getId().setTerm(1);
+            entry.setData(ByteBuffer.allocate(0));
+
+            when(logManager.getEntry(i)).thenReturn(entry);
+
+            closures.add(new TestClosure());
+        }
+
+        iterImpl = new IteratorImpl(
+                mock(StateMachine.class),
+                logManager,
+                new ArrayList<>(closures),
+                1,
+                0,
+                ENTRIES,
+                new AtomicLong(),
+                new NodeOptions()
+        );
+    }
+
+    @Test
+    void readAheadResultsInLogOrder() {
+        applyWith(iterator -> {
+            List<CommandClosure<WriteCommand>> batch = new ArrayList<>();
+
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+            }
+
+            assertEquals(ENTRIES, batch.size());
+
+            for (CommandClosure<WriteCommand> clo : batch) {
+                clo.result(clo.index());
+            }
+        });
+
+        assertFalse(iterImpl.hasError());
+        assertEquals(ENTRIES + 1, iterImpl.getIndex());
+
+        for (int i = 0; i < ENTRIES; i++) {
+            assertEquals(i + 1L, closures.get(i).result);
+        }
+    }
+
+    @Test
+    void failureInDetachedBatchRollsBackToFirstPendingEntry() {
+        applyWith(iterator -> {
+            List<CommandClosure<WriteCommand>> batch = new ArrayList<>();
+
+            // The whole log is read ahead, so the JRaft iterator has moved past the last entry.
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+            }
+
+            batch.get(0).result(null);
+            batch.get(1).result(null);
+
+            throw new RuntimeException("Expected");
+        });
+
+        assertTrue(iterImpl.hasError());
+
+        // The entries from the third one are not applied.
+        assertEquals(3, iterImpl.getIndex());
+    }
+
+    @Test
+    void failureInAttachedBatchRollsBackToFirstPendingEntry() {
+        applyWith(iterator -> {
+            List<CommandClosure<WriteCommand>> batch = new ArrayList<>();
+
+            // The JRaft iterator stays at the entry of the last closure.
+            for (int i = 0; i < 3; i++) {
+                batch.add(iterator.next());
+            }
+
+            batch.get(0).result(null);
+
+            throw new RuntimeException("Expected");
+        });
+
+        assertTrue(iterImpl.hasError());
+
+        // The entries from the second one are not applied.
+        assertEquals(2, iterImpl.getIndex());
+    }
+
+    @Test
+    void failureAfterAllResultsAreSet() {
+        applyWith(iterator -> {
+            iterator.next().result(null);
+
+            throw new RuntimeException("Expected");
+        });
+
+        assertTrue(iterImpl.hasError());
+
+        // The iterator is at the next data entry, nothing is rolled back.
+        assertEquals(2, iterImpl.getIndex());
+        assertNull(closures.get(1).result);
+    }
+
+    private void applyWith(Consumer<Iterator<CommandClosure<WriteCommand>>> onWrite) {
+        DelegatingStateMachine sm = new DelegatingStateMachine(
+                new RaftNodeId(new ZonePartitionId(0, 0), new Peer("test")),
+                new TestListener(onWrite),
+                mock(NodeOptions.class),
+                mock(FailureManager.class)
+        );
+
+        sm.onApply(new IteratorWrapper(iterImpl, () -> false));
+    }
+
+    private static class TestClosure implements Closure, CommandClosure<WriteCommand> {
+        private final WriteCommand command = mock(WriteCommand.class);
+
+        private @Nullable Serializable result;
+
+        @Override
+        public WriteCommand command() {
+            return command;
+        }
+
+        @Override
+        public void result(@Nullable Serializable res) {
+            result = res;
+        }
+
+        @Override
+        public void run(Status status) {
+            // No-op.
+        }
+    }
+
+    private static class TestListener implements RaftGroupListener {
+        private final Consumer<Iterator<CommandClosure<WriteCommand>>> onWrite;
+
+        private TestListener(Consumer<Iterator<CommandClosure<WriteCommand>>> onWrite) {
+            this.onWrite = onWrite;
+        }
+
+        @Override
+        public void onRead(Iterator<CommandClosure<ReadCommand>> iterator) {
+            // No-op.
+        }
+
+        @Override
+        public void onWrite(Iterator<CommandClosure<WriteCommand>> iterator) {
+            onWrite.accept(iterator);
+        }
+
+        @Override
+        public void onSnapshotSave(Path path, Consumer<Throwable> doneClo) {
+            // No-op.
+        }
+
+        @Override
+        public boolean onSnapshotLoad(Path path) {
+            return true;
+        }
+
+        @Override
+        public void onShutdown() {
+            // No-op.
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.segstore;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.randomBytes;
+import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.failure.NoOpFailureManager;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
+import org.apache.ignite.internal.raft.configuration.LogStorageConfiguration;
+import org.apache.ignite.internal.raft.configuration.RaftConfiguration;
+import org.apache.ignite.internal.testframework.IgniteAbstractTest;
+import org.apache.ignite.raft.jraft.entity.EnumOutter.EntryType;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.entity.LogId;
+import org.apache.ignite.raft.jraft.entity.codec.LogEntryDecoder;
+import org.apache.ignite.raft.jraft.entity.codec.LogEntryEncoder;
+import org.apache.ignite.raft.jraft.entity.codec.v2.LogEntryV2CodecFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ConfigurationExtension.class)
+class LogEntryCompressorTest extends IgniteAbstractTest {
+    private static final String NODE_NAME = "test";
+
+    private static final int THRESHOLD = 256;
+
+    private final LogEntryEncoder encoder = LogEntryV2CodecFactory.getInstance().encoder();
+
+    private final LogEntryDecoder decoder = LogEntryV2CodecFactory.getInstance().decoder();
+
+    @InjectConfiguration
+    private RaftConfiguration raftConfiguration;
+
+    @InjectConfiguration("mock: {"
+            + "segmentFileSizeBytes = 1048576, "
+            + "entryCompression = LZ4, "
+            + "entryCompressionThresholdBytes = " + THRESHOLD
+            + "}")
+    private LogStorageConfiguration storageConfiguration;
+
+    private SegmentFileManager fileManager;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeAllManually(fileManager);
+    }
+
+    @Test
+    void testCompressDecompress() {
+        var compressor = new LogEntryCompressor(THRESHOLD, new SegstoreMetricSource());
+
+        LogEntry entry = createLogEntry(1, compressibleData(THRESHOLD * 4));
+
+        ByteBuffer compressed = compressor.compress(entry, encoder, encoder.size(entry));
+
+        assertThat(compressed, is(notNullValue()));
+        assertThat(compressed.remaining(), is(lessThan(encoder.size(entry))));
+
+        byte[] compressedBytes = new byte[compressed.remaining()];
+
+        compressed.get(compressedBytes);
+
+        assertThat(decoder.decode(LogEntryCompressor.decompressIfNeeded(compressedBytes)), is(entry));
+    }
+
+    @Test
+    void testSmallAndIncompressibleEntriesAreNotCompressed() {
+        var compressor = new LogEntryCompressor(THRESHOLD, new SegstoreMetricSource());
+
+        LogEntry smallEntry = createLogEntry(1, compressibleData(THRESHOLD / 2));
+
+        assertThat(compressor.compress(smallEntry, encoder, encoder.size(smallEntry)), is(nullValue()));
+
+        // The entry is compressed as a whole and doesn't shrink, so the encoded entry is returned to not encode it again.
+        LogEntry incompressibleEntry = createLogEntry(2, randomBytes(ThreadLocalRandom.current(), THRESHOLD * 4));
+
+        ByteBuffer encodedEntry = compressor.compress(incompressibleEntry, encoder, encoder.size(incompressibleEntry));
+
+        assertThat(encodedEntry, is(ByteBuffer.wrap(encoder.encode(incompressibleEntry))));
+
+        byte[] encoded = encoder.encode(createLogEntry(3, compressibleData(THRESHOLD / 2)));
+
+        assertThat(LogEntryCompressor.decompressIfNeeded(encoded), is(encoded));
+    }
+
+    @Test
+    void testLargeIncompressibleEntriesAreNotEncoded() {
+        var compressor = new LogEntryCompressor(THRESHOLD, new SegstoreMetricSource());
+
+        // The sample of the data doesn't shrink, so neither the entry is encoded, nor compression is attempted.
+        LogEntry entry = createLogEntry(1, randomBytes(ThreadLocalRandom.current(), LogEntryCompressor.SAMPLE_SIZE * 4));
+
+        assertThat(compressor.compress(entry, encoder, encoder.size(entry)), is(nullValue()));
+
+        // A compressible sample lets the whole entry be compressed.
+        byte[] data = randomBytes(ThreadLocalRandom.current(), LogEntryCompressor.SAMPLE_SIZE * 4);
+
+        Arrays.fill(data, 0, LogEntryCompressor.SAMPLE_SIZE * 2, (byte) 42);
+
+        entry = createLogEntry(2, data);
+
+        ByteBuffer compressed = compressor.compress(entry, encoder, encoder.size(entry));
+
+        assertThat(compressed, is(notNullValue()));
+        assertThat(compressed.remaining(), is(lessThan(encoder.size(entry))));
+    }
+
+    @Test
+    void testMaxEntrySizeAppliesToUncompressedEntry() throws Exception {
+        fileManager = startFileManager();
+
+        // The entry compresses to a tiny fraction of the segment file, but is larger than it before compression.
+        LogEntry entry = createLogEntry(1, compressibleData(1024 * 1024));
+
+        assertThrows(IllegalArgumentException.class, () -> fileManager.appendEntry(1, entry, encoder));
+    }
+
+    @Test
+    void testReadCompressedEntriesAfterRestart() throws Exception {
+        fileManager = startFileManager();
+
+        int numEntries = 100;
+
+        var entries = new LogEntry[numEntries];
+
+        for (int i = 0; i < numEntries; i++) {
+            // Mix compressed and uncompressed entries.
+            entries[i] = createLogEntry(i, compressibleData(i % 2 == 0 ? THRESHOLD * 4 : THRESHOLD / 2));
+
+            fileManager.appendEntry(1, entries[i], encoder);
+        }
+
+        for (LogEntry entry : entries) {
+            assertThat(fileManager.getEntry(1, entry.getId().getIndex(), decoder), is(entry));
+        }
+
+        fileManager.close();
+
+        fileManager = startFileManager();
+
+        for (LogEntry entry : entries) {
+            assertThat(fileManager.getEntry(1, entry.getId().getIndex(), decoder), is(entry));
+        }
+    }
+
+    private SegmentFileManager startFileManager() throws IOException {
+        var manager = new SegmentFileManager(
+                NODE_NAME,
+                workDir,
+                1,
+                new NoOpFailureManager(),
+                GroupInfoProvider.NO_OP,
+                raftConfiguration,
+                storageConfiguration,
+                new NoOpMetricManager()
+        );
+
+        manager.start();
+
+        return manager;
+    }
+
+    private static byte[] compressibleData(int size) {
+        var data = new byte[size];
+
+        Arrays.fill(data, (byte) 42);
+
+        return data;
+    }
+
+    private static LogEntry createLogEntry(long logIndex, byte[] data) {
+        var entry = new LogEntry(EntryType.ENTRY_TYPE_DATA);
+
+        entry.setId(new LogId(logIndex, 1));
+        entry.setData(ByteBuffer.wrap(data));
+
+        return entry;
+    }
+}
@@ -45,6 +45,7 @@ import org.apache.ignite.internal.configuration.testframework.ConfigurationExten
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.NoOpFailureManager;
 import org.apache.ignite.internal.lang.RunnableX;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.raft.configuration.LogStorageConfiguration;
 import org.apache.ignite.internal.raft.configuration.RaftConfiguration;
 import org.apache.ignite.internal.raft.storage.segstore.GroupInfoProvider.GroupInfo;
@@ -101,7 +102,8 @@ class RaftLogGarbageCollectorTest extends IgniteAbstractTest {
                 new NoOpFailureManager(),
                 groupInfoProvider,
                 raftConfiguration,
-                storageConfiguration
+                storageConfiguration,
+                new NoOpMetricManager()
         );
 
         fileManager.start();
@@ -426,7 +428,8 @@ class RaftLogGarbageCollectorTest extends IgniteAbstractTest {
                 new NoOpFailureManager(),
                 groupInfoProvider,
                 raftConfiguration,
-                storageConfiguration
+                storageConfiguration,
+                new NoOpMetricManager()
         );
 
         fileManager.start();
@@ -482,7 +485,8 @@ class RaftLogGarbageCollectorTest extends IgniteAbstractTest {
                 new NoOpFailureManager(),
                 groupInfoProvider,
                 raftConfiguration,
-                storageConfiguration
+                storageConfiguration,
+                new NoOpMetricManager()
         );
 
         fileManager.garbageCollector().cleanupLeftoverFiles();
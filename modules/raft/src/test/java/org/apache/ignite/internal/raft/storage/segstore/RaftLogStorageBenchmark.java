@@ -0,0 +1,534 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.segstore;
+
+import static org.apache.ignite.internal.util.Constants.KiB;
+import static org.apache.ignite.internal.util.Constants.MiB;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import org.apache.ignite.configuration.ConfigurationValue;
+import org.apache.ignite.internal.failure.NoOpFailureManager;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
+import org.apache.ignite.internal.raft.configuration.LogStorageConfiguration;
+import org.apache.ignite.internal.raft.configuration.LogStorageConfigurationSchema;
+import org.apache.ignite.internal.raft.configuration.LogStorageView;
+import org.apache.ignite.internal.raft.configuration.RaftConfiguration;
+import org.apache.ignite.internal.raft.storage.LogStorageManager;
+import org.apache.ignite.internal.raft.storage.impl.DefaultLogStorageManager;
+import org.apache.ignite.internal.raft.storage.logit.LogitLogStorageManager;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.raft.jraft.conf.ConfigurationManager;
+import org.apache.ignite.raft.jraft.entity.EnumOutter.EntryType;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.entity.LogId;
+import org.apache.ignite.raft.jraft.entity.codec.DefaultLogEntryCodecFactory;
+import org.apache.ignite.raft.jraft.option.LogStorageOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.storage.LogStorage;
+import org.apache.ignite.raft.jraft.storage.logit.option.StoreOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Load benchmark comparing Raft log storage implementations: RocksDB based shared storage, Logit and segment file based storage.
+ *
+ * <p>Every benchmark thread owns a disjoint subset of {@link #groups} Raft groups and drives them the way a Raft node does: appends
+ * batches of entries, reads recently appended entries, truncates the log prefix to keep at most {@link #retainedEntries} entries
+ * per group, truncates the log suffix (as happens on leader change) and resets the log (as happens on snapshot installation).
+ *
+ * <p>Besides the throughput and the latency percentiles reported by JMH, the trial teardown logs the number of fsyncs (if the storage
+ * tracks them) and the write amplification: the number of bytes the process has written to the disk divided by the number of bytes
+ * of appended log entries. The former is taken from {@code /proc/self/io}, if available, otherwise the on-disk size of the storage is
+ * used as an approximation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(8)
+public class RaftLogStorageBenchmark {
+    private static final IgniteLogger LOG = Loggers.forClass(RaftLogStorageBenchmark.class);
+
+    private static final String NODE_NAME = "bench";
+
+    /** Maximum size of an entry payload across all {@link EntrySizes}. */
+    private static final int MAX_ENTRY_SIZE = 128 * KiB;
+
+    /** Random bytes that entry payloads are sliced from. */
+    private static final byte[] PAYLOAD = new byte[MAX_ENTRY_SIZE];
+
+    static {
+        new Random(0).nextBytes(PAYLOAD);
+    }
+
+    @Param({"SEGSTORE", "ROCKSDB", "LOGIT"})
+    public Backend backend;
+
+    /** Number of Raft groups, must not be less than the number of benchmark threads. */
+    @Param("64")
+    public int groups;
+
+    @Param("MIXED")
+    public EntrySizes entrySizes;
+
+    /** Number of entries appended by a single {@link LogStorage#appendEntries} call. */
+    @Param("16")
+    public int batchSize;
+
+    @Param("true")
+    public boolean fsync;
+
+    /** Number of entries kept in every group's log, older entries are removed by prefix truncation. */
+    @Param("10000")
+    public int retainedEntries;
+
+    private Path workDir;
+
+    private Storages storages;
+
+    private final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final LongAdder appendedBytes = new LongAdder();
+
+    private long writtenBytesAtStart;
+
+    /** Supported log storage implementations. */
+    public enum Backend {
+        SEGSTORE {
+            @Override
+            Storages create(Path workDir, int groups, boolean fsync, int stripes) throws IOException {
+                RaftConfiguration raftConfiguration = mock(RaftConfiguration.class);
+                @SuppressWarnings("unchecked")
+                ConfigurationValue<Boolean> fsyncValue = mock(ConfigurationValue.class);
+
+                when(fsyncValue.value()).thenReturn(fsync);
+                when(raftConfiguration.fsync()).thenReturn(fsyncValue);
+
+                LogStorageConfiguration storageConfiguration = mock(LogStorageConfiguration.class);
+                LogStorageView storageView = mock(LogStorageView.class);
+
+                when(storageView.segmentFileSizeBytes()).thenReturn(256L * MiB);
+                when(storageView.maxCheckpointQueueSize()).thenReturn(LogStorageConfigurationSchema.DEFAULT_MAX_CHECKPOINT_QUEUE_SIZE);
+                when(storageView.maxLogEntrySizeBytes()).thenReturn(LogStorageConfigurationSchema.UNSPECIFIED_MAX_LOG_ENTRY_SIZE);
+                when(storageView.groupCommitDelayMicros()).thenReturn(LogStorageConfigurationSchema.DEFAULT_GROUP_COMMIT_DELAY_MICROS);
+                when(storageView.groupCommitBatchBytes()).thenReturn(LogStorageConfigurationSchema.DEFAULT_GROUP_COMMIT_BATCH_BYTES);
+                when(storageView.entryCompression()).thenReturn(LogStorageConfigurationSchema.NO_ENTRY_COMPRESSION);
+                when(storageView.entryCompressionThresholdBytes())
+                        .thenReturn(LogStorageConfigurationSchema.DEFAULT_ENTRY_COMPRESSION_THRESHOLD_BYTES);
+                when(storageConfiguration.value()).thenReturn(storageView);
+
+                var fileManager = new SegmentFileManager(
+                        NODE_NAME,
+                        workDir,
+                        stripes,
+                        new NoOpFailureManager(),
+                        GroupInfoProvider.NO_OP,
+                        raftConfiguration,
+                        storageConfiguration,
+                        new NoOpMetricManager()
+                );
+
+                MetricSet metrics = fileManager.metricSource().enable();
+
+                fileManager.start();
+
+                var logStorages = new LogStorage[groups];
+
+                for (int i = 0; i < groups; i++) {
+                    logStorages[i] = initLogStorage(new SegstoreLogStorage(i + 1, fileManager));
+                }
+
+                return new Storages(logStorages) {
+                    @Override
+                    long syncCount() {
+                        return metrics.<LongMetric>get("SyncCount").value();
+                    }
+
+                    @Override
+                    void close() throws Exception {
+                        super.close();
+
+                        fileManager.close();
+                    }
+                };
+            }
+        },
+
+        ROCKSDB {
+            @Override
+            Storages create(Path workDir, int groups, boolean fsync, int stripes) throws Exception {
+                return managerStorages(new DefaultLogStorageManager(NODE_NAME, NODE_NAME, workDir, fsync), groups, fsync);
+            }
+        },
+
+        LOGIT {
+            @Override
+            Storages create(Path workDir, int groups, boolean fsync, int stripes) throws Exception {
+                return managerStorages(new LogitLogStorageManager(NODE_NAME, new StoreOptions(), workDir), groups, fsync);
+            }
+        };
+
+        abstract Storages create(Path workDir, int groups, boolean fsync, int stripes) throws Exception;
+    }
+
+    /** Distributions of the entry payload sizes. */
+    public enum EntrySizes {
+        /** Small commands, e.g. single row updates: 64-256 bytes. */
+        SMALL {
+            @Override
+            int next(Random random) {
+                return 64 + random.nextInt(192);
+            }
+        },
+
+        /** Mostly small commands with a tail of multi-row batches: 70% of 64-512 bytes, 25% of 1-8 KiB, 5% of 32-128 KiB. */
+        MIXED {
+            @Override
+            int next(Random random) {
+                int p = random.nextInt(100);
+
+                if (p < 70) {
+                    return 64 + random.nextInt(448);
+                } else if (p < 95) {
+                    return KiB + random.nextInt(7 * KiB);
+                } else {
+                    return 32 * KiB + random.nextInt(96 * KiB);
+                }
+            }
+        },
+
+        /** Large batched commands, e.g. the ones produced by the data streamer: 16-64 KiB. */
+        LARGE {
+            @Override
+            int next(Random random) {
+                return 16 * KiB + random.nextInt(48 * KiB);
+            }
+        };
+
+        abstract int next(Random random);
+    }
+
+    /** Log storages of all groups. */
+    abstract static class Storages {
+        private final LogStorage[] logStorages;
+
+        Storages(LogStorage[] logStorages) {
+            this.logStorages = logStorages;
+        }
+
+        LogStorage get(int group) {
+            return logStorages[group];
+        }
+
+        /** Returns the number of fsyncs executed so far or {@code -1} if the storage does not track it. */
+        long syncCount() {
+            return -1;
+        }
+
+        void close() throws Exception {
+            for (LogStorage logStorage : logStorages) {
+                logStorage.shutdown();
+            }
+        }
+    }
+
+    /** Per-thread state: the groups owned by the thread and their log indices. */
+    @State(Scope.Thread)
+    public static class GroupCursor {
+        private final Random random = new Random(ThreadLocalRandom.current().nextLong());
+
+        private final List<LogEntry> batch = new ArrayList<>();
+
+        private LogStorage[] ownedStorages;
+
+        /** Index of the next entry to append, per owned group. */
+        private long[] nextIndex;
+
+        private int nextGroup;
+
+        /** Setup method. */
+        @Setup(Level.Trial)
+        public void setUp(RaftLogStorageBenchmark benchmark, BenchmarkParams params) {
+            int threadIndex = benchmark.threadCounter.getAndIncrement();
+            int threads = params.getThreads();
+
+            if (benchmark.groups < threads) {
+                throw new IllegalArgumentException("Number of groups must not be less than the number of threads.");
+            }
+
+            var owned = new ArrayList<LogStorage>();
+
+            for (int g = threadIndex; g < benchmark.groups; g += threads) {
+                owned.add(benchmark.storages.get(g));
+            }
+
+            ownedStorages = owned.toArray(LogStorage[]::new);
+            nextIndex = new long[ownedStorages.length];
+
+            for (int i = 0; i < ownedStorages.length; i++) {
+                nextIndex[i] = ownedStorages[i].getLastLogIndex() + 1;
+            }
+
+            // Pre-fill the logs, so that there is something to read from the very beginning.
+            for (int i = 0; i < ownedStorages.length; i++) {
+                for (int j = 0; j < benchmark.retainedEntries; j += benchmark.batchSize) {
+                    appendBatch(benchmark, i);
+                }
+            }
+        }
+
+        private int nextGroup() {
+            int group = nextGroup;
+
+            nextGroup = (group + 1) % ownedStorages.length;
+
+            return group;
+        }
+
+        void appendBatch(RaftLogStorageBenchmark benchmark, int group) {
+            LogStorage storage = ownedStorages[group];
+
+            long index = nextIndex[group];
+
+            long bytes = 0;
+
+            batch.clear();
+
+            for (int i = 0; i < benchmark.batchSize; i++) {
+                int size = benchmark.entrySizes.next(random);
+
+                var entry = new LogEntry(EntryType.ENTRY_TYPE_DATA);
+
+                entry.setId(new LogId(index++, 1));
+                entry.setData(ByteBuffer.wrap(PAYLOAD, 0, size));
+
+                batch.add(entry);
+
+                bytes += size;
+            }
+
+            storage.appendEntries(batch);
+
+            nextIndex[group] = index;
+
+            benchmark.appendedBytes.add(bytes);
+
+            long firstIndexToKeep = index - benchmark.retainedEntries;
+
+            // Truncate in chunks instead of after every batch, as the Raft log manager does after snapshots.
+            if (firstIndexToKeep - storage.getFirstLogIndex() >= benchmark.retainedEntries / 10) {
+                storage.truncatePrefix(firstIndexToKeep);
+            }
+        }
+
+        @SuppressWarnings("UnusedReturnValue")
+        LogEntry readRecent() {
+            LogStorage storage = ownedStorages[random.nextInt(ownedStorages.length)];
+
+            long first = storage.getFirstLogIndex();
+            long last = storage.getLastLogIndex();
+
+            return storage.getEntry(first + (long) (random.nextDouble() * (last - first + 1)));
+        }
+    }
+
+    /** Setup method. */
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkParams params) throws Exception {
+        workDir = Files.createTempDirectory("raft-log-storage-benchmark");
+
+        storages = backend.create(workDir, groups, fsync, params.getThreads());
+
+        writtenBytesAtStart = processWrittenBytes();
+    }
+
+    /** Logs the storage statistics and closes the storage. */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try {
+            long appended = appendedBytes.sum();
+
+            long written = processWrittenBytes();
+
+            String writeAmplification = written >= 0
+                    ? String.format("%.2f", (double) (written - writtenBytesAtStart) / appended)
+                    : String.format("%.2f (on-disk size)", (double) directorySize(workDir) / appended);
+
+            long syncCount = storages.syncCount();
+
+            LOG.info("Storage statistics [backend={}, appendedBytes={}, fsyncCount={}, writeAmplification={}]",
+                    backend, appended, syncCount >= 0 ? syncCount : "n/a", writeAmplification);
+        } finally {
+            storages.close();
+
+            IgniteUtils.deleteIfExists(workDir);
+        }
+    }
+
+    /** Appends a batch of entries to the next group. */
+    @Benchmark
+    public void append(GroupCursor cursor) {
+        cursor.appendBatch(this, cursor.nextGroup());
+    }
+
+    /** Reads a random retained entry of a random group. */
+    @Benchmark
+    public LogEntry readRecent(GroupCursor cursor) {
+        return cursor.readRecent();
+    }
+
+    /** Appends a batch of entries to the next group and then discards half of it, as happens when a new leader overwrites the log. */
+    @Benchmark
+    public void appendAndTruncateSuffix(GroupCursor cursor) {
+        int group = cursor.nextGroup();
+
+        cursor.appendBatch(this, group);
+
+        long lastIndexKept = cursor.nextIndex[group] - 1 - batchSize / 2;
+
+        cursor.ownedStorages[group].truncateSuffix(lastIndexKept);
+
+        cursor.nextIndex[group] = lastIndexKept + 1;
+    }
+
+    /** Resets the log of the next group past its retained entries, as happens on snapshot installation, and appends a batch. */
+    @Benchmark
+    public void resetAndAppend(GroupCursor cursor) {
+        int group = cursor.nextGroup();
+
+        // After a reset, the log consists of a single entry with the given index.
+        long resetIndex = cursor.nextIndex[group] + retainedEntries;
+
+        cursor.ownedStorages[group].reset(resetIndex);
+
+        cursor.nextIndex[group] = resetIndex + 1;
+
+        cursor.appendBatch(this, group);
+    }
+
+    private static Storages managerStorages(LogStorageManager manager, int groups, boolean fsync) throws Exception {
+        manager.startAsync(new ComponentContext()).get(10, TimeUnit.SECONDS);
+
+        var raftOptions = new RaftOptions();
+
+        raftOptions.setSync(fsync);
+
+        var logStorages = new LogStorage[groups];
+
+        for (int i = 0; i < groups; i++) {
+            logStorages[i] = initLogStorage(manager.createLogStorage("group-" + i, raftOptions));
+        }
+
+        return new Storages(logStorages) {
+            @Override
+            void close() throws Exception {
+                super.close();
+
+                manager.stopAsync(new ComponentContext()).get(10, TimeUnit.SECONDS);
+            }
+        };
+    }
+
+    private static LogStorage initLogStorage(LogStorage logStorage) {
+        var options = new LogStorageOptions();
+
+        options.setConfigurationManager(new ConfigurationManager());
+        options.setLogEntryCodecFactory(DefaultLogEntryCodecFactory.getInstance());
+
+        logStorage.init(options);
+
+        return logStorage;
+    }
+
+    /** Returns the number of bytes this process has caused to be written to the storage or {@code -1} if not available. */
+    private static long processWrittenBytes() {
+        Path io = Paths.get("/proc/self/io");
+
+        if (!Files.isReadable(io)) {
+            return -1;
+        }
+
+        try (Stream<String> lines = Files.lines(io)) {
+            return lines
+                    .filter(line -> line.startsWith("write_bytes:"))
+                    .mapToLong(line -> Long.parseLong(line.substring("write_bytes:".length()).trim()))
+                    .findFirst()
+                    .orElse(-1);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static long directorySize(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws RunnerException If failed.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(RaftLogStorageBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
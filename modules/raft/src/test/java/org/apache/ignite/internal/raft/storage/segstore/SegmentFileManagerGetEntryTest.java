@@ -44,6 +44,7 @@ import org.apache.ignite.internal.configuration.testframework.ConfigurationExten
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.NoOpFailureManager;
 import org.apache.ignite.internal.lang.RunnableX;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.raft.configuration.LogStorageConfiguration;
 import org.apache.ignite.internal.raft.configuration.RaftConfiguration;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
@@ -89,7 +90,8 @@ class SegmentFileManagerGetEntryTest extends IgniteAbstractTest {
                 new NoOpFailureManager(),
                 groupId -> null,
                 raftConfiguration,
-                storageConfiguration
+                storageConfiguration,
+                new NoOpMetricManager()
         );
 
         fileManager.start();
@@ -69,6 +69,10 @@ import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.failure.NoOpFailureManager;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.RunnableX;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
+import org.apache.ignite.internal.metrics.TestMetricManager;
 import org.apache.ignite.internal.raft.configuration.LogStorageConfiguration;
 import org.apache.ignite.internal.raft.configuration.RaftConfiguration;
 import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
@@ -114,6 +118,10 @@ class SegmentFileManagerTest extends IgniteAbstractTest {
     }
 
     private SegmentFileManager createFileManager() throws IOException {
+        return createFileManager(new NoOpMetricManager());
+    }
+
+    private SegmentFileManager createFileManager(MetricManager metricManager) throws IOException {
         return new SegmentFileManager(
                 NODE_NAME,
                 workDir,
@@ -121,7 +129,8 @@ class SegmentFileManagerTest extends IgniteAbstractTest {
                 failureManager,
                 GroupInfoProvider.NO_OP,
                 raftConfiguration,
-                storageConfiguration
+                storageConfiguration,
+                metricManager
         );
     }
 
@@ -130,6 +139,27 @@ class SegmentFileManagerTest extends IgniteAbstractTest {
         closeAllManually(fileManager);
     }
 
+    @Test
+    void metricSourceIsRegisteredWhileStarted() throws Exception {
+        closeAllManually(fileManager);
+
+        var metricManager = new TestMetricManager();
+
+        fileManager = createFileManager(metricManager);
+
+        assertThat(metricManager.metricSources(), is(empty()));
+
+        fileManager.start();
+
+        LongMetric syncCount = metricManager.metric(SegstoreMetricSource.SOURCE_NAME, "SyncCount");
+
+        assertThat(syncCount, is(notNullValue()));
+
+        fileManager.close();
+
+        assertThat(metricManager.metricSources(), is(empty()));
+    }
+
     @Test
     void segmentFileIsInitializedAfterStart() throws IOException {
         Path segmentFile = findSoleSegmentFile();
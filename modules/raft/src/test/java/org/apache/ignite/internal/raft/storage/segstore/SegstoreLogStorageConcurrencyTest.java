@@ -29,6 +29,7 @@ import org.apache.ignite.internal.configuration.testframework.ConfigurationExten
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.NoOpFailureManager;
 import org.apache.ignite.internal.lang.RunnableX;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.raft.configuration.LogStorageConfiguration;
 import org.apache.ignite.internal.raft.configuration.RaftConfiguration;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
@@ -63,7 +64,8 @@ class SegstoreLogStorageConcurrencyTest extends IgniteAbstractTest {
                 new NoOpFailureManager(),
                 GroupInfoProvider.NO_OP,
                 raftConfiguration,
-                storageConfiguration
+                storageConfiguration,
+                new NoOpMetricManager()
         );
 
         segmentFileManager.start();
@@ -25,6 +25,7 @@ import java.io.IOException;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.failure.NoOpFailureManager;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.raft.configuration.LogStorageConfiguration;
 import org.apache.ignite.internal.raft.configuration.RaftConfiguration;
 import org.apache.ignite.raft.jraft.storage.LogStorage;
@@ -66,7 +67,8 @@ class SegstoreLogStorageTest extends BaseLogStorageTest {
                     new NoOpFailureManager(),
                     GroupInfoProvider.NO_OP,
                     raftConfiguration,
-                    storageConfiguration
+                    storageConfiguration,
+                    new NoOpMetricManager()
             );
 
             segmentFileManager.start();
@@ -22,12 +22,19 @@ import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.RunnableX;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.raft.storage.segstore.SegmentFile.WriteBuffer;
 import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
@@ -125,4 +132,58 @@ class SyncSegmentFileTest extends IgniteAbstractTest {
         assertThat(file.lastWritePosition(), is(size));
         assertThat(file.syncPosition(), is(size));
     }
+
+    @Test
+    void testGroupCommitCoalescesConcurrentWrites() throws Exception {
+        int chunkSize = 32;
+
+        int numThreads = 4;
+
+        var metricSource = new SegstoreMetricSource();
+
+        MetricSet metricSet = metricSource.enable();
+
+        closeAllManually(file);
+
+        // The delay is much longer than the race timeout, so the writes can only complete once the batch threshold is reached.
+        var settings = new GroupCommitSettings(TimeUnit.MINUTES.toMicros(1), chunkSize * numThreads, metricSource);
+
+        file = SegmentFile.createNew(workDir.resolve(SegmentFile.fileName(new FileProperties(1))), size, true, settings);
+
+        RunnableX writer = () -> {
+            try (WriteBuffer ignored = file.reserve(chunkSize)) {
+                // No-op.
+            }
+        };
+
+        runRace(nCopies(numThreads, writer).toArray(RunnableX[]::new));
+
+        assertThat(file.syncPosition(), is(chunkSize * numThreads));
+
+        assertThat(metricSet.<LongMetric>get("SyncCount").value(), is(1L));
+    }
+
+    @Test
+    void testInterruptedWriterDoesNotBlockClose() throws Exception {
+        closeAllManually(file);
+
+        var settings = new GroupCommitSettings(TimeUnit.MINUTES.toMicros(1), size, new SegstoreMetricSource());
+
+        file = SegmentFile.createNew(workDir.resolve(SegmentFile.fileName(new FileProperties(1))), size, true, settings);
+
+        WriteBuffer writeBuffer = file.reserve(10);
+
+        assertThat(writeBuffer, is(notNullValue()));
+
+        // The writer gets interrupted while it waits for the group commit batch.
+        Thread.currentThread().interrupt();
+
+        try {
+            assertThrows(IgniteInternalException.class, writeBuffer::close);
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> file.close());
+    }
 }
@@ -28,6 +28,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.sources.RaftMetricSource;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.raft.jraft.FSMCaller;
@@ -81,6 +84,8 @@ public class ReadOnlyServiceTest extends BaseIgniteAbstractTest {
 
     private Scheduler scheduler;
 
+    private RaftMetricSource raftMetrics;
+
     @BeforeEach
     public void setup() {
         this.readOnlyServiceImpl = new ReadOnlyServiceImpl();
@@ -108,6 +113,8 @@ public class ReadOnlyServiceTest extends BaseIgniteAbstractTest {
         Scheduler scheduler = JRaftUtils.createScheduler(nodeOptions);
         this.scheduler = scheduler;
         nodeOptions.setScheduler(scheduler);
+        raftMetrics = new RaftMetricSource(1, 1);
+        nodeOptions.setRaftMetrics(raftMetrics);
         Mockito.when(this.node.getNodeMetrics()).thenReturn(new NodeMetrics(false));
         Mockito.when(this.node.getGroupId()).thenReturn("test");
         Mockito.when(this.node.getOptions()).thenReturn(nodeOptions);
@@ -193,6 +200,39 @@ public class ReadOnlyServiceTest extends BaseIgniteAbstractTest {
         latch.await();
     }
 
+    @Test
+    public void testReadIndexLatencyIsRecorded() throws Exception {
+        MetricSet metricSet = raftMetrics.enable();
+
+        assertNotNull(metricSet);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        this.readOnlyServiceImpl.addRequest(TestUtils.getRandomBytes(), new ReadIndexClosure() {
+
+            @Override
+            public void run(final Status status, final long index, final byte[] reqCtx) {
+                assertTrue(status.isOk());
+                latch.countDown();
+            }
+        });
+        this.readOnlyServiceImpl.flush();
+
+        final ArgumentCaptor<RpcResponseClosure> closureCaptor = ArgumentCaptor.forClass(RpcResponseClosure.class);
+
+        Mockito.verify(this.node).handleReadIndexRequest(Mockito.any(), closureCaptor.capture());
+
+        final RpcResponseClosure closure = closureCaptor.getValue();
+
+        closure.setResponse(msgFactory.readIndexResponse().index(1).success(true).build());
+        closure.run(Status.OK());
+        this.readOnlyServiceImpl.onApplied(2);
+        latch.await();
+
+        DistributionMetric latency = metricSet.get(RaftMetricSource.READ_INDEX_LATENCY);
+
+        assertEquals(1, Arrays.stream(latency.value()).sum());
+    }
+
     @Test
     public void testAddRequestOnResponseFailure() throws Exception {
         Mockito.lenient().when(this.fsmCaller.getLastAppliedIndex()).thenReturn(2L);
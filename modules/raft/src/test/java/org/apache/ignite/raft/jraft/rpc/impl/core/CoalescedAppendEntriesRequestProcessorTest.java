@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.raft.jraft.Node;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.core.Scheduler;
+import org.apache.ignite.raft.jraft.entity.NodeId;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RaftServerService;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestClosure;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedAppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.ErrorResponse;
+import org.apache.ignite.raft.jraft.test.MockAsyncContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CoalescedAppendEntriesRequestProcessorTest extends BaseIgniteAbstractTest {
+    private final RaftMessagesFactory msgFactory = new RaftMessagesFactory();
+
+    private final String groupId = "test";
+
+    private final String peerIdStr = "localhost:8081";
+
+    private final String serverId = "localhost:8082";
+
+    @Mock(extraInterfaces = {RaftServerService.class})
+    private Node node;
+
+    private MockAsyncContext asyncContext;
+
+    private CoalescedAppendEntriesRequestProcessor processor;
+
+    @BeforeEach
+    public void setup() {
+        RaftOptions raftOptions = new RaftOptions();
+        raftOptions.setReplicatorPipeline(false);
+
+        lenient().when(node.getRaftOptions()).thenReturn(raftOptions);
+        when(node.getGroupId()).thenReturn(groupId);
+        when(node.getNodeId()).thenReturn(new NodeId(groupId, PeerId.parsePeer(peerIdStr)));
+
+        asyncContext = new MockAsyncContext();
+        asyncContext.getNodeManager().add(node);
+
+        // Direct executors make the dispatch of the batch requests synchronous.
+        var appendEntriesRequestProcessor = new AppendEntriesRequestProcessor(Runnable::run, msgFactory);
+
+        processor = new CoalescedAppendEntriesRequestProcessor(Runnable::run, msgFactory, appendEntriesRequestProcessor);
+    }
+
+    @Test
+    public void testResponsesAreSentInRequestOrderOnceAllAreReady() {
+        AppendEntriesRequest request = createRequest(groupId);
+        AppendEntriesRequest unknownGroupRequest = createRequest("unknown");
+
+        AtomicReference<RpcRequestClosure> doneRef = new AtomicReference<>();
+
+        when(((RaftServerService) node).handleAppendEntriesRequest(eq(request), any())).thenAnswer(invocation -> {
+            doneRef.set(invocation.getArgument(1));
+
+            // Entries are appended asynchronously, the response is sent by the closure.
+            return null;
+        });
+
+        List<AppendEntriesRequest> messages = new ArrayList<>();
+        messages.add(request);
+        messages.add(unknownGroupRequest);
+
+        processor.handleRequest(asyncContext, msgFactory.coalescedAppendEntriesRequest().messages(messages).build());
+
+        // The response to the second request is ready, but the first one is still being processed.
+        assertNull(asyncContext.getResponseObject());
+
+        AppendEntriesResponse response = msgFactory.appendEntriesResponse()
+                .success(true)
+                .term(1)
+                .lastLogIndex(10)
+                .build();
+
+        doneRef.get().sendResponse(response);
+
+        CoalescedAppendEntriesResponse coalescedResponse = asyncContext.as(CoalescedAppendEntriesResponse.class);
+
+        List<Message> responses = new ArrayList<>(coalescedResponse.messages());
+
+        assertEquals(2, responses.size());
+        assertSame(response, responses.get(0));
+
+        ErrorResponse errorResponse = assertInstanceOf(ErrorResponse.class, responses.get(1));
+        assertEquals(RaftError.ENOENT.getNumber(), errorResponse.errorCode());
+    }
+
+    @Test
+    public void testStalledRequestDoesNotHoldBackBatch(@Mock Scheduler scheduler) {
+        var nodeOptions = new NodeOptions();
+        nodeOptions.setScheduler(scheduler);
+
+        asyncContext.getNodeManager().init(nodeOptions);
+
+        AppendEntriesRequest stalledRequest = createRequest(groupId);
+        AppendEntriesRequest unknownGroupRequest = createRequest("unknown");
+
+        AtomicReference<RpcRequestClosure> doneRef = new AtomicReference<>();
+
+        when(((RaftServerService) node).handleAppendEntriesRequest(eq(stalledRequest), any())).thenAnswer(invocation -> {
+            doneRef.set(invocation.getArgument(1));
+
+            // The group never answers before the deadline.
+            return null;
+        });
+
+        List<AppendEntriesRequest> messages = new ArrayList<>();
+        messages.add(stalledRequest);
+        messages.add(unknownGroupRequest);
+
+        processor.handleRequest(
+                asyncContext,
+                msgFactory.coalescedAppendEntriesRequest().messages(messages).timeoutMs(500).build()
+        );
+
+        assertNull(asyncContext.getResponseObject());
+
+        // The batch is answered by a half of its timeout.
+        ArgumentCaptor<Runnable> deadline = ArgumentCaptor.forClass(Runnable.class);
+
+        verify(scheduler).schedule(deadline.capture(), eq(250L), eq(TimeUnit.MILLISECONDS));
+
+        deadline.getValue().run();
+
+        CoalescedAppendEntriesResponse coalescedResponse = asyncContext.as(CoalescedAppendEntriesResponse.class);
+
+        List<Message> responses = new ArrayList<>(coalescedResponse.messages());
+
+        assertEquals(2, responses.size());
+        assertEquals(RaftError.ETIMEDOUT.getNumber(), assertInstanceOf(ErrorResponse.class, responses.get(0)).errorCode());
+        assertEquals(RaftError.ENOENT.getNumber(), assertInstanceOf(ErrorResponse.class, responses.get(1)).errorCode());
+
+        // A late response of the stalled group is dropped.
+        doneRef.get().sendResponse(msgFactory.appendEntriesResponse().success(true).term(1).lastLogIndex(10).build());
+
+        assertSame(coalescedResponse, asyncContext.getResponseObject());
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        processor.handleRequest(asyncContext, msgFactory.coalescedAppendEntriesRequest().messages(new ArrayList<>()).build());
+
+        assertEquals(0, asyncContext.as(CoalescedAppendEntriesResponse.class).messages().size());
+    }
+
+    private AppendEntriesRequest createRequest(String groupId) {
+        return msgFactory.appendEntriesRequest()
+                .committedIndex(0)
+                .groupId(groupId)
+                .peerId(peerIdStr)
+                .serverId(serverId)
+                .prevLogIndex(0)
+                .term(0)
+                .prevLogTerm(0)
+                .data(ByteBuffer.wrap(new byte[] {1}))
+                .build();
+    }
+}
@@ -26,10 +26,14 @@ import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.TestHybridClock;
 import org.apache.ignite.internal.hlc.HybridClock;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.tx.DeadlockPreventionPolicy;
 import org.apache.ignite.internal.tx.LockKey;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.LockMode;
+import org.apache.ignite.internal.tx.impl.DeadlockPreventionPolicyImpl;
+import org.apache.ignite.internal.tx.impl.DeadlockPreventionPolicyImpl.TxIdComparators;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
 import org.apache.ignite.internal.tx.impl.TransactionIdGenerator;
 import org.apache.ignite.internal.tx.impl.VolatileTxStateMetaStorage;
 import org.apache.ignite.internal.tx.impl.WaitDieDeadlockPreventionPolicy;
@@ -64,8 +68,8 @@ public class LockManagerBenchmark {
     @Setup
     public void setUp() {
         VolatileTxStateMetaStorage txStateVolatileStorage = VolatileTxStateMetaStorage.createStarted();
-        lockManager = new HeapLockManager(DEFAULT_SLOTS, txStateVolatileStorage);
-        lockManager.start(new WaitDieDeadlockPreventionPolicy());
+        lockManager = implementation.create(txStateVolatileStorage);
+        lockManager.start(policy.create());
         generator = new TransactionIdGenerator(0);
         clock = new TestHybridClock(() -> 0L);
     }
@@ -86,6 +90,18 @@ public class LockManagerBenchmark {
     @Param({"200"})
     private int concTxns;
 
+    /**
+     * Lock manager implementation.
+     */
+    @Param({"HEAP", "STRIPED"})
+    private Implementation implementation;
+
+    /**
+     * Deadlock prevention policy.
+     */
+    @Param({"WAIT_DIE", "NO_WAIT", "TIMEOUT", "REVERSED"})
+    private Policy policy;
+
     /**
      * Take and release some locks.
      */
@@ -108,6 +124,28 @@ public class LockManagerBenchmark {
         }
     }
 
+    /**
+     * Take and release shared locks on the same key, this makes every transaction a waiter in the same key queue.
+     */
+    @Benchmark
+    @Warmup(iterations = 1, time = 3)
+    @Measurement(iterations = 1, time = 10)
+    public void sharedLockCommit() {
+        List<UUID> ids = new ArrayList<>(concTxns);
+
+        LockKey key = new LockKey(0, new RowId(0, new UUID(0, 0)));
+
+        for (int i = 0; i < concTxns; i++) {
+            UUID txId = generator.transactionIdFor(clock.now());
+            ids.add(txId);
+            lockManager.acquire(txId, key, LockMode.S).join();
+        }
+
+        for (UUID id : ids) {
+            lockManager.releaseAll(id);
+        }
+    }
+
     /**
      * Benchmark's entry point.
      */
@@ -122,4 +160,56 @@ public class LockManagerBenchmark {
 
         new Runner(opt).run();
     }
+
+    /**
+     * Benchmarked lock manager implementations.
+     */
+    public enum Implementation {
+        HEAP {
+            @Override
+            LockManager create(VolatileTxStateMetaStorage txStateVolatileStorage) {
+                return new HeapLockManager(DEFAULT_SLOTS, txStateVolatileStorage);
+            }
+        },
+        STRIPED {
+            @Override
+            LockManager create(VolatileTxStateMetaStorage txStateVolatileStorage) {
+                return new StripedLockManager(DEFAULT_SLOTS, txStateVolatileStorage);
+            }
+        };
+
+        abstract LockManager create(VolatileTxStateMetaStorage txStateVolatileStorage);
+    }
+
+    /**
+     * Benchmarked deadlock prevention policies.
+     */
+    public enum Policy {
+        WAIT_DIE {
+            @Override
+            DeadlockPreventionPolicy create() {
+                return new WaitDieDeadlockPreventionPolicy();
+            }
+        },
+        NO_WAIT {
+            @Override
+            DeadlockPreventionPolicy create() {
+                return new DeadlockPreventionPolicyImpl(TxIdComparators.NONE, 0);
+            }
+        },
+        TIMEOUT {
+            @Override
+            DeadlockPreventionPolicy create() {
+                return new DeadlockPreventionPolicyImpl(TxIdComparators.NONE, 200);
+            }
+        },
+        REVERSED {
+            @Override
+            DeadlockPreventionPolicy create() {
+                return new DeadlockPreventionPolicyImpl(TxIdComparators.REVERSED, 0);
+            }
+        };
+
+        abstract DeadlockPreventionPolicy create();
+    }
 }
@@ -146,6 +146,36 @@ public abstract class ItAbstractDataStreamerTest extends ClusterPerClassIntegrat
         assertEquals("bar", view.get(null, tupleKey(2)).stringValue("name"));
     }
 
+    @Test
+    public void testBulkLoadRecordBinaryView() {
+        RecordView<Tuple> view = defaultTable().recordView();
+        view.upsert(null, tuple(2, "_"));
+        view.upsert(null, tuple(3, "baz"));
+
+        CompletableFuture<Void> streamerFut;
+
+        try (var publisher = new SubmissionPublisher<DataStreamerItem<Tuple>>()) {
+            var options = DataStreamerOptions.builder().pageSize(2).bulkLoad(true).build();
+            streamerFut = view.streamData(publisher, options);
+
+            for (int i = 4; i < 100; i++) {
+                publisher.submit(DataStreamerItem.of(tuple(i, "foo-" + i)));
+            }
+
+            publisher.submit(DataStreamerItem.of(tuple(2, "bar")));
+            publisher.submit(DataStreamerItem.removed(tupleKey(3)));
+        }
+
+        streamerFut.orTimeout(STREAMER_TIMEOUT_SECONDS, TimeUnit.SECONDS).join();
+
+        for (int i = 4; i < 100; i++) {
+            assertEquals("foo-" + i, view.get(null, tupleKey(i)).stringValue("name"));
+        }
+
+        assertEquals("bar", view.get(null, tupleKey(2)).stringValue("name"));
+        assertNull(view.get(null, tupleKey(3)));
+    }
+
     @Test
     public void testBasicStreamingRecordPojoView() {
         RecordView<PersonPojo> view = defaultTable().recordView(PersonPojo.class);
@@ -284,8 +284,8 @@ import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
 import org.apache.ignite.internal.tx.configuration.TransactionExtensionConfiguration;
-import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.IgniteTransactionsImpl;
+import org.apache.ignite.internal.tx.impl.LockManagers;
 import org.apache.ignite.internal.tx.impl.PublicApiThreadingIgniteTransactions;
 import org.apache.ignite.internal.tx.impl.RemotelyTriggeredResourceRegistry;
 import org.apache.ignite.internal.tx.impl.ResourceVacuumManager;
@@ -1069,7 +1069,7 @@ public class IgniteImpl implements Ignite {
         TransactionInflights transactionInflights =
                 new TransactionInflights(placementDriverMgr.placementDriver(), clockService, txStateVolatileStorage);
 
-        LockManager lockMgr = new HeapLockManager(systemConfiguration, txStateVolatileStorage);
+        LockManager lockMgr = LockManagers.create(systemConfiguration, txStateVolatileStorage);
 
         // TODO: IGNITE-19344 - use nodeId that is validated on join (and probably generated differently).
         txManager = new TxManagerImpl(
@@ -33,4 +33,31 @@ public interface RowAccessor<RowT> {
 
     /** Return columns count contained in the incoming row. */
     int columnsCount(RowT row);
+
+    /**
+     * Reads the specified field of an integral type as {@code long}. The field must not be {@code null}.
+     *
+     * <p>Implementations that store values in a binary form should override this method to read the value without boxing.
+     */
+    default long getLong(int field, RowT row) {
+        return ((Number) get(field, row)).longValue();
+    }
+
+    /**
+     * Reads the specified field of a floating point type as {@code double}. The field must not be {@code null}.
+     *
+     * <p>Implementations that store values in a binary form should override this method to read the value without boxing.
+     */
+    default double getDouble(int field, RowT row) {
+        return ((Number) get(field, row)).doubleValue();
+    }
+
+    /**
+     * Reads the specified field of the boolean type. The field must not be {@code null}.
+     *
+     * <p>Implementations that store values in a binary form should override this method to read the value without boxing.
+     */
+    default boolean getBoolean(int field, RowT row) {
+        return (Boolean) get(field, row);
+    }
 }
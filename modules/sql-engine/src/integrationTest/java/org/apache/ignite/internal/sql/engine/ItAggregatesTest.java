@@ -36,6 +36,7 @@ import org.apache.ignite.internal.lang.IgniteStringFormatter;
 import org.apache.ignite.internal.sql.BaseSqlIntegrationTest;
 import org.apache.ignite.internal.sql.engine.hint.IgniteHint;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeSystem;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.HintUtils;
 import org.apache.ignite.internal.sql.engine.util.QueryChecker;
 import org.apache.ignite.internal.testframework.WithSystemProperty;
@@ -59,6 +60,11 @@ public class ItAggregatesTest extends BaseSqlIntegrationTest {
 
     private static final int ROWS = 103;
 
+    /** Rules to disable to get a map aggregate on top of a table scan, which is computed by the scan itself. */
+    private static final String[] SCAN_AGGREGATION_DISABLED_RULES = {
+            "MapReduceSortAggregateConverterRule", "ColocatedHashAggregateConverterRule", "ColocatedSortAggregateConverterRule"
+    };
+
     // most commonly used values
     private static final BigDecimal ONE_WITH_SCALE_16 = new BigDecimal("1").setScale(16, RoundingMode.UNNECESSARY);
     private static final BigDecimal ONE_AND_HALF_WITH_SCALE_16 = new BigDecimal("1.5").setScale(16, RoundingMode.UNNECESSARY);
@@ -825,6 +831,106 @@ public class ItAggregatesTest extends BaseSqlIntegrationTest {
                 .check();
     }
 
+    @Test
+    @WithSystemProperty(key = Commons.SCAN_AGGREGATION_ENABLED, value = "true")
+    void testScanAggregationOnEmptyTable() {
+        sql("CREATE TABLE scan_agg_empty (id INT PRIMARY KEY, grp INT, val INT) ZONE TEST_ZONE");
+
+        try {
+            assertQuery("SELECT COUNT(*), COUNT(val), SUM(val), MIN(val), MAX(val) FROM scan_agg_empty")
+                    .disableRules(SCAN_AGGREGATION_DISABLED_RULES)
+                    .returns(0L, 0L, null, null, null)
+                    .check();
+
+            assertQuery("SELECT grp, COUNT(*), SUM(val) FROM scan_agg_empty GROUP BY grp")
+                    .disableRules(SCAN_AGGREGATION_DISABLED_RULES)
+                    .returnNothing()
+                    .check();
+        } finally {
+            sql("DROP TABLE scan_agg_empty");
+        }
+    }
+
+    @Test
+    @WithSystemProperty(key = Commons.SCAN_AGGREGATION_ENABLED, value = "true")
+    void testScanAggregationWithNulls() {
+        sql("CREATE TABLE scan_agg_nulls (id INT PRIMARY KEY, grp INT, val INT) ZONE TEST_ZONE");
+
+        try {
+            sql("INSERT INTO scan_agg_nulls VALUES (1, 1, 10), (2, 1, NULL), (3, NULL, 5), (4, NULL, NULL), (5, 2, NULL)");
+
+            assertQuery("SELECT COUNT(*), COUNT(val), SUM(val), MIN(val), MAX(val) FROM scan_agg_nulls")
+                    .disableRules(SCAN_AGGREGATION_DISABLED_RULES)
+                    .returns(5L, 2L, 15L, 5, 10)
+                    .check();
+
+            // NULL is a group of its own, and a group of NULL values only has NULL aggregates.
+            assertQuery("SELECT grp, COUNT(*), COUNT(val), SUM(val), MIN(val), MAX(val) FROM scan_agg_nulls GROUP BY grp")
+                    .disableRules(SCAN_AGGREGATION_DISABLED_RULES)
+                    .returns(1, 2L, 1L, 10L, 10, 10)
+                    .returns(2, 1L, 0L, null, null, null)
+                    .returns(null, 2L, 1L, 5L, 5, 5)
+                    .check();
+        } finally {
+            sql("DROP TABLE scan_agg_nulls");
+        }
+    }
+
+    @Test
+    @WithSystemProperty(key = Commons.SCAN_AGGREGATION_ENABLED, value = "true")
+    void testScanAggregationSumDoesNotOverflow() {
+        sql("CREATE TABLE scan_agg_sum (id INT PRIMARY KEY, grp INT, int_val INT, bigint_val BIGINT) ZONE TEST_ZONE");
+
+        try {
+            int rows = 50;
+
+            for (int i = 0; i < rows; i++) {
+                sql("INSERT INTO scan_agg_sum VALUES (?, ?, ?, ?)", i, i % 2, Integer.MAX_VALUE, Long.MAX_VALUE);
+            }
+
+            long intSum = (long) Integer.MAX_VALUE * rows;
+            BigDecimal bigintSum = BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(rows));
+
+            // Sums of INT values are BIGINT, sums of BIGINT values are DECIMAL: neither of them overflows.
+            assertQuery("SELECT SUM(int_val), SUM(bigint_val) FROM scan_agg_sum")
+                    .disableRules(SCAN_AGGREGATION_DISABLED_RULES)
+                    .returns(intSum, bigintSum)
+                    .check();
+
+            BigDecimal two = BigDecimal.valueOf(2);
+
+            assertQuery("SELECT grp, SUM(int_val), SUM(bigint_val) FROM scan_agg_sum GROUP BY grp")
+                    .disableRules(SCAN_AGGREGATION_DISABLED_RULES)
+                    .returns(0, intSum / 2, bigintSum.divide(two))
+                    .returns(1, intSum / 2, bigintSum.divide(two))
+                    .check();
+        } finally {
+            sql("DROP TABLE scan_agg_sum");
+        }
+    }
+
+    /** Partial aggregates of every partition must be merged, including the groups that are present in several partitions. */
+    @Test
+    @WithSystemProperty(key = Commons.SCAN_AGGREGATION_ENABLED, value = "true")
+    void testScanAggregationOverMultiplePartitions() {
+        assertQuery("SELECT COUNT(*), SUM(val0), SUM(val1), MIN(id), MAX(id) FROM test")
+                .disableRules(SCAN_AGGREGATION_DISABLED_RULES)
+                .matches(QueryChecker.matches(".*ReduceHashAggregate.*Exchange.*MapHashAggregate.*TableScan.*"))
+                .returns((long) ROWS, (long) ROWS, 2L * ROWS, 0, ROWS - 1)
+                .check();
+
+        QueryChecker checker = assertQuery("SELECT grp0, COUNT(*), SUM(val0), MIN(id), MAX(id) FROM test GROUP BY grp0")
+                .disableRules(SCAN_AGGREGATION_DISABLED_RULES);
+
+        for (int grp = 0; grp <= (ROWS - 1) / 10; grp++) {
+            long count = Math.min(10, ROWS - grp * 10);
+
+            checker.returns(grp, count, count, grp * 10, (int) (grp * 10 + count - 1));
+        }
+
+        checker.check();
+    }
+
     private static Stream<Arguments> rulesForGroupingSets() {
         List<Object[]> rules = Arrays.asList(
                 // Use map/reduce aggregates for grouping sets
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine;
+
+import static org.apache.ignite.internal.TestWrappers.unwrapIgniteImpl;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.ignite.internal.app.IgniteImpl;
+import org.apache.ignite.internal.hlc.HybridTimestampTracker;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.BaseSqlIntegrationTest;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.QueryChecker;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
+import org.apache.ignite.internal.testframework.WithSystemProperty;
+import org.apache.ignite.table.KeyValueView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the query result cache: a session must always read its own writes, even if another session has cached the result of the
+ * same query before the write.
+ */
+@WithSystemProperty(key = Commons.RESULT_CACHE_SIZE, value = "10000000")
+public class ItSqlResultCacheTest extends BaseSqlIntegrationTest {
+    private static final String QUERY = "SELECT SUM(val) FROM t";
+
+    @Override
+    protected int initialNodes() {
+        return 1;
+    }
+
+    @BeforeEach
+    void createTable() {
+        sql("CREATE TABLE t (id INT PRIMARY KEY, val INT)");
+        sql("INSERT INTO t VALUES (1, 1), (2, 2)");
+
+        // The results are cached only once the modification counters of the tables are known.
+        gatherStatistics();
+
+        // The first session caches the result, and the second one, which has observed nothing yet, is served from the cache.
+        assertQuery(newSession(), QUERY).returns(3L).check();
+
+        long hits = metric("Hits");
+
+        assertQuery(newSession(), QUERY).returns(3L).check();
+
+        assertEquals(hits + 1, metric("Hits"));
+    }
+
+    @AfterEach
+    void dropTable() {
+        sql("DROP TABLE IF EXISTS t");
+    }
+
+    @Test
+    void readAfterSqlWriteIsNotServedFromCache() {
+        HybridTimestampTracker session = newSession();
+
+        long hits = metric("Hits");
+
+        assertQuery(session, "UPDATE t SET val = val + 10 WHERE id = 1").returns(1L).check();
+        assertQuery(session, QUERY).returns(13L).check();
+
+        // The modification has invalidated the cached result for the other sessions too.
+        assertQuery(newSession(), QUERY).returns(13L).check();
+
+        assertEquals(hits, metric("Hits"));
+    }
+
+    @Test
+    void readAfterKeyValueWriteIsNotServedFromCache() {
+        // The write bypasses the SQL engine, so the cached result is still valid, but the session that has made the write has
+        // observed a later time than the result was read at.
+        KeyValueView<Integer, Integer> view = CLUSTER.aliveNode().tables().table("T").keyValueView(Integer.class, Integer.class);
+
+        long hits = metric("Hits");
+
+        view.put(null, 1, 11);
+
+        assertQuery(QUERY).returns(13L).check();
+
+        assertEquals(hits, metric("Hits"));
+    }
+
+    private static HybridTimestampTracker newSession() {
+        return HybridTimestampTracker.atomicTracker(null);
+    }
+
+    private static QueryChecker assertQuery(HybridTimestampTracker session, String qry) {
+        IgniteImpl node = unwrapIgniteImpl(CLUSTER.aliveNode());
+
+        return queryCheckerFactory.create(node.name(), node.queryEngine(), session, null, qry);
+    }
+
+    private static long metric(String name) {
+        MetricSet metrics = unwrapIgniteImpl(CLUSTER.aliveNode()).metricManager().metricSnapshot().metrics()
+                .get(SqlResultCacheMetricSource.NAME);
+
+        return metrics.<LongMetric>get(name).value();
+    }
+}
@@ -55,6 +55,8 @@ public final class SqlOperationContext {
     private final @Nullable Long topologyVersion;
     private final @Nullable AtomicReference<QueryTransactionWrapper> retryTxHolder;
 
+    private volatile @Nullable QueryTransactionWrapper usedTx;
+
     /**
      * Private constructor, used by a builder.
      */
@@ -173,11 +175,18 @@ public final class SqlOperationContext {
      * Notifies context that transaction was used for query execution.
      */
     public void notifyTxUsed(QueryTransactionWrapper tx) {
+        usedTx = tx;
+
         if (txUsedListener != null) {
             txUsedListener.accept(tx);
         }
     }
 
+    /** Returns the transaction used for query execution, or {@code null} if the execution hasn't started a transaction yet. */
+    public @Nullable QueryTransactionWrapper usedTx() {
+        return usedTx;
+    }
+
     /**
      * Notifies the context that an error has occurred.
      */
@@ -67,6 +67,7 @@ import org.apache.ignite.internal.sql.engine.api.kill.OperationKillHandler;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeServiceImpl;
 import org.apache.ignite.internal.sql.engine.exec.ExecutableTableRegistryImpl;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionDependencyResolverImpl;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionServiceImpl;
 import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistryImpl;
@@ -74,6 +75,8 @@ import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler;
 import org.apache.ignite.internal.sql.engine.exec.TransactionalOperationTracker;
+import org.apache.ignite.internal.sql.engine.exec.cache.CachingExecutionService;
+import org.apache.ignite.internal.sql.engine.exec.cache.QueryResultCache;
 import org.apache.ignite.internal.sql.engine.exec.ddl.DdlCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactoryImpl;
@@ -99,9 +102,12 @@ import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatisticsExchange;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatisticsViewProvider;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManager;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticUpdateManager;
+import org.apache.ignite.internal.sql.engine.statistic.SqlTableSampler;
 import org.apache.ignite.internal.sql.engine.statistic.StatisticAggregatorImpl;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContextImpl;
@@ -110,6 +116,7 @@ import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
 import org.apache.ignite.internal.sql.metrics.SqlClientMetricSource;
 import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
 import org.apache.ignite.internal.systemview.api.SystemView;
 import org.apache.ignite.internal.systemview.api.SystemViewManager;
 import org.apache.ignite.internal.systemview.api.SystemViewProvider;
@@ -120,6 +127,7 @@ import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.impl.TransactionInflights;
 import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.CancellationToken;
 import org.apache.ignite.sql.SqlException;
 import org.jetbrains.annotations.Nullable;
@@ -147,6 +155,13 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
     private final SqlQueriesViewProvider queriesViewProvider = new SqlQueriesViewProvider();
 
+    private final ColumnStatisticsViewProvider columnStatisticsViewProvider;
+
+    private final SqlResultCacheMetricSource resultCacheMetricSource = new SqlResultCacheMetricSource();
+
+    /** Cache of read-only query results, {@code null} if disabled. */
+    private final @Nullable QueryResultCache resultCache;
+
     private final List<LifecycleAware> services = new ArrayList<>();
 
     private final ClusterService clusterSrvc;
@@ -257,14 +272,28 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 () -> logicalTopologyService.localLogicalTopology().nodes(),
                 clusterSrvc.messagingService()
         );
-        sqlStatisticManager = new SqlStatisticManagerImpl(
+        SqlStatisticManagerImpl statisticManager = new SqlStatisticManagerImpl(
                 tableManager, 
                 catalogManager, 
                 lowWaterMark,
                 commonScheduler,
                 statAggregator,
-                clusterCfg.statistics().autoRefresh().staleRowsCheckIntervalSeconds()
+                clusterCfg.statistics().autoRefresh().staleRowsCheckIntervalSeconds(),
+                new SqlTableSampler(this),
+                new ColumnStatisticsExchange(
+                        () -> clusterSrvc.topologyService().localMember().name(),
+                        () -> logicalTopologyService.localLogicalTopology().nodes(),
+                        clusterSrvc.messagingService()
+                )
         );
+        sqlStatisticManager = statisticManager;
+        columnStatisticsViewProvider = new ColumnStatisticsViewProvider(statisticManager::columnStatistics);
+
+        long resultCacheSize = Commons.resultCacheSize();
+        resultCache = resultCacheSize > 0
+                ? new QueryResultCache(resultCacheSize, statisticManager::modificationCounter, lowWaterMark::getLowWatermark,
+                        resultCacheMetricSource)
+                : null;
         sqlSchemaManager = new SqlSchemaManagerImpl(
                 catalogManager,
                 sqlStatisticManager,
@@ -283,6 +312,9 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         InternalClusterNode localNode = clusterSrvc.topologyService().localMember();
         String nodeName = localNode.name();
 
+        // Spill files left by the previous run of the node are of no use.
+        IgniteUtils.deleteIfExists(Commons.spillDirectory(nodeName));
+
         taskExecutor = registerService(new QueryTaskExecutorImpl(
                 nodeName,
                 nodeCfg.execution().threadCount().value(),
@@ -395,6 +427,15 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 SqlPlanToTxSchemaVersionValidator.create(schemaSyncService, catalogManager)
         ));
 
+        ExecutionService queryExecutionSrvc = executionSrvc;
+
+        if (resultCache != null) {
+            metricManager.registerSource(resultCacheMetricSource);
+            metricManager.enable(resultCacheMetricSource);
+
+            queryExecutionSrvc = registerService(new CachingExecutionService(executionSrvc, resultCache));
+        }
+
         queryExecutor = registerService(new QueryExecutor(
                 clusterSrvc.topologyService().localMember().name(),
                 CACHE_FACTORY,
@@ -406,7 +447,7 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 schemaSyncService,
                 prepareSvc,
                 catalogManager,
-                executionSrvc,
+                queryExecutionSrvc,
                 txTracker,
                 new QueryIdGenerator(nodeName.hashCode()),
                 eventLog,
@@ -451,6 +492,10 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
             // Calling unregisterSource after closeAll ensures that
             // we are collecting metrics for queries interrupted during node termination,
             metricManager.unregisterSource(SqlQueryMetricSource.NAME);
+
+            if (resultCache != null) {
+                metricManager.unregisterSource(SqlResultCacheMetricSource.NAME);
+            }
         }
 
         return nullCompletedFuture();
@@ -632,7 +677,11 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
     @Override
     public List<SystemView<?>> systemViews() {
-        return queriesViewProvider.getViews();
+        List<SystemView<?>> views = new ArrayList<>(queriesViewProvider.getViews());
+
+        views.add(columnStatisticsViewProvider.getView());
+
+        return views;
     }
 
     @Override
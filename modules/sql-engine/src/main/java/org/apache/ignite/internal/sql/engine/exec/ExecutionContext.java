@@ -46,6 +46,8 @@ import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.exec.rel.Node;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryQuota;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPruningColumns;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPruningMetadata;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
@@ -116,6 +118,10 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
 
     private final @Nullable Long topologyVersion;
 
+    private final QueryMemoryQuota memoryQuota;
+
+    private @Nullable SpillManager spillManager;
+
     /**
      * Constructor.
      *
@@ -169,6 +175,9 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
         this.currentUser = username;
         this.topologyVersion = topologyVersion;
 
+        long quota = Commons.queryMemoryQuota();
+        this.memoryQuota = quota > 0 ? new QueryMemoryQuota(quota) : QueryMemoryQuota.UNLIMITED;
+
         assert this.inBufSize > 0 : this.inBufSize;
 
         Instant nowUtc = Instant.now(clock);
@@ -279,6 +288,25 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
         return inBufSize;
     }
 
+    /**
+     * Gets memory quota of the fragment. Memory-intensive execution nodes reserve memory from it and spill their state to disk
+     * once the quota is exhausted. The quota is not shared with the other fragments of the query.
+     */
+    public QueryMemoryQuota memoryQuota() {
+        return memoryQuota;
+    }
+
+    /**
+     * Gets manager of temporary files used by execution nodes which spill their state to disk.
+     */
+    public SpillManager spillManager() {
+        if (spillManager == null) {
+            spillManager = new SpillManager(Commons.spillDirectory(localNode.name()), queryId() + "-" + fragmentId());
+        }
+
+        return spillManager;
+    }
+
     /** {@inheritDoc} */
     @Override
     public SchemaPlus getRootSchema() {
@@ -41,7 +41,9 @@ import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.Minus;
 import org.apache.calcite.rel.core.Spool;
@@ -73,11 +75,14 @@ import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.sql.engine.exec.exp.func.TableFunction;
 import org.apache.ignite.internal.sql.engine.exec.exp.func.TableFunctionRegistry;
+import org.apache.ignite.internal.sql.engine.exec.exp.vector.VectorizedCalc;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ColocationGroup;
+import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractSetOpNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.CorrelatedNestedLoopJoinNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.DataSourceScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.FilterNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.GraceHashJoinNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.HashAggregateNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.HashJoinNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
@@ -95,9 +100,11 @@ import org.apache.ignite.internal.sql.engine.exec.rel.ProjectNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.ScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.SortAggregateNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.SortNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.TableScanAggregateNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.TableScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.TableSpoolNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.UnionAllNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.VectorizedCalcNode;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.sql.engine.rel.IgniteCorrelatedNestedLoopJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
@@ -163,6 +170,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
             JoinRelType.INNER, JoinRelType.LEFT, JoinRelType.FULL, JoinRelType.RIGHT
     );
 
+    /** Aggregate functions that can be computed by {@link TableScanAggregateNode}. */
+    private static final EnumSet<SqlKind> SCAN_AGGREGATE_FUNCTIONS = EnumSet.of(
+            SqlKind.COUNT, SqlKind.SUM, SqlKind.SUM0, SqlKind.MIN, SqlKind.MAX
+    );
+
     private static final Comparator<IntPair> CONDITION_PAIRS_COMPARATOR = Comparator.comparingInt(
                     (IntPair l) -> Math.max(l.source, l.target)).thenComparingInt(l -> Math.min(l.source, l.target));
 
@@ -185,6 +197,10 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
     private @Nullable List<RexNode> projectionToFuse;
 
+    private final boolean vectorizedExecution;
+
+    private final boolean scanAggregation;
+
     /**
      * Constructor.
      *
@@ -208,6 +224,8 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         this.tableFunctionRegistry = tableFunctionRegistry;
 
         expressionFactory = ctx.expressionFactory();
+        vectorizedExecution = Commons.vectorizedExecutionEnabled();
+        scanAggregation = Commons.scanAggregationEnabled();
         destinationFactory = new DestinationFactory<>(ctx.rowAccessor(), resolvedDependencies);
     }
 
@@ -237,10 +255,20 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
     /** {@inheritDoc} */
     @Override
     public Node<RowT> visit(IgniteFilter rel) {
-        SqlPredicate sqlPredicate = expressionFactory.predicate(rel.getCondition(), rel.getRowType());
-        Predicate<RowT> pred = row -> sqlPredicate.test(ctx, row);
+        VectorizedCalc<RowT> calc = vectorizedExecution
+                ? createVectorizedCalc(rel.getRowType(), rel.getCondition(), null, rel.getRowType(), null)
+                : null;
+
+        AbstractNode<RowT> node;
 
-        FilterNode<RowT> node = new FilterNode<>(ctx, pred);
+        if (calc != null) {
+            node = new VectorizedCalcNode<>(ctx, calc);
+        } else {
+            SqlPredicate sqlPredicate = expressionFactory.predicate(rel.getCondition(), rel.getRowType());
+            Predicate<RowT> pred = row -> sqlPredicate.test(ctx, row);
+
+            node = new FilterNode<>(ctx, pred);
+        }
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -283,7 +311,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         SqlProjection sqlProjection = expressionFactory.project(rel.getProjects(), rel.getInput().getRowType());
         Function<RowT, RowT> prj = row -> sqlProjection.project(ctx, row);
 
-        ProjectNode<RowT> node = new ProjectNode<>(ctx, prj);
+        VectorizedCalc<RowT> calc = vectorizedExecution
+                ? createVectorizedCalc(rel.getInput().getRowType(), null, rel.getProjects(), rel.getRowType(), prj)
+                : null;
+
+        AbstractNode<RowT> node = calc != null ? new VectorizedCalcNode<>(ctx, calc) : new ProjectNode<>(ctx, prj);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -340,7 +372,21 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
             nonEquiCondition = (left, right) -> nonEquiPredicate.test(ctx, left, right);
         }
 
-        Node<RowT> node = HashJoinNode.create(ctx, joinProjection, leftType, rightType, joinType, rel.analyzeCondition(), nonEquiCondition);
+        JoinInfo joinInfo = rel.analyzeCondition();
+        BiPredicate<RowT, RowT> nonEquiCondition0 = nonEquiCondition;
+
+        Node<RowT> node;
+        if (ctx.memoryQuota().unlimited()) {
+            node = HashJoinNode.create(ctx, joinProjection, leftType, rightType, joinType, joinInfo, nonEquiCondition);
+        } else {
+            node = new GraceHashJoinNode<>(
+                    ctx,
+                    () -> HashJoinNode.create(ctx, joinProjection, leftType, rightType, joinType, joinInfo, nonEquiCondition0),
+                    joinInfo,
+                    ctx.rowFactoryFactory().create(convertStructuredType(leftType)),
+                    ctx.rowFactoryFactory().create(convertStructuredType(rightType))
+            );
+        }
 
         Node<RowT> leftInput = visit(rel.getLeft());
         Node<RowT> rightInput = visit(rel.getRight());
@@ -572,6 +618,15 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         PartitionProvider<RowT> partitionProvider = ctx.getPartitionProvider(rel.sourceId(), group, tbl);
 
+        VectorizedCalc<RowT> calc = vectorizedExecution && (condition != null || projects != null)
+                ? createVectorizedCalc(rowType, condition, projects, rel.getRowType(), prj)
+                : null;
+
+        if (calc != null) {
+            filters = null;
+            prj = null;
+        }
+
         return new TableScanNode<>(
                 ctx,
                 rowFactory,
@@ -580,6 +635,7 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 partitionProvider,
                 filters,
                 prj,
+                calc,
                 requiredColumns
         );
     }
@@ -677,7 +733,8 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 ctx,
                 (r1, r2) -> sqlComparator.compare(ctx, r1, r2),
                 offset,
-                fetch
+                fetch,
+                spillRowFactory(rel.getInput().getRowType())
         );
 
         Node<RowT> input = visit(rel.getInput());
@@ -865,7 +922,9 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(
+                ctx, type, rel.getGroupSets(), accumulators, rowFactory, spillRowFactory(rel.getInput().getRowType())
+        );
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -893,7 +952,17 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory);
+        if (scanAggregation && rel.getInput() instanceof IgniteTableScan && scanAggregateSupported(rel)) {
+            Node<RowT> node = scanAggregate((IgniteTableScan) rel.getInput(), rel.getGroupSet(), accumulators, rowFactory);
+
+            if (node != null) {
+                return node;
+            }
+        }
+
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(
+                ctx, type, rel.getGroupSets(), accumulators, rowFactory, spillRowFactory(rel.getInput().getRowType())
+        );
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -902,6 +971,76 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         return node;
     }
 
+    /**
+     * Checks whether the given map aggregate can be computed right in the scan of its input.
+     */
+    private static boolean scanAggregateSupported(IgniteMapHashAggregate rel) {
+        IgniteTableScan scan = (IgniteTableScan) rel.getInput();
+
+        if (scan.projects() != null || rel.getGroupSets().size() != 1) {
+            return false;
+        }
+
+        for (AggregateCall call : rel.getAggCallList()) {
+            if (call.isDistinct() || call.hasFilter() || !SCAN_AGGREGATE_FUNCTIONS.contains(call.getAggregation().getKind())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a table scan that computes partial aggregates of the scanned rows.
+     *
+     * @return Scan node, or {@code null} if the table is not scanned on the local node.
+     */
+    private @Nullable Node<RowT> scanAggregate(
+            IgniteTableScan rel,
+            ImmutableBitSet grpFields,
+            List<AccumulatorWrapper<RowT>> accumulators,
+            RowFactory<RowT> outputRowFactory
+    ) {
+        RexNode condition = rel.condition();
+        ImmutableIntList requiredColumns = rel.requiredColumns();
+
+        IgniteTable tbl = rel.getTable().unwrapOrThrow(IgniteTable.class);
+        ScannableTable scannableTable = resolvedDependencies.scannableTable(tbl.id());
+
+        RelDataType rowType = tbl.getRowType(ctx.getTypeFactory(), requiredColumns);
+
+        Predicate<RowT> filters = null;
+        if (condition != null) {
+            SqlPredicate sqlPredicate = expressionFactory.predicate(condition, rowType);
+            filters = row -> sqlPredicate.test(ctx, row);
+        }
+
+        ColocationGroup group = ctx.group(rel.sourceId());
+
+        assert group != null;
+
+        if (!group.nodeNames().contains(ctx.localNode().name())) {
+            return null;
+        }
+
+        RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
+
+        PartitionProvider<RowT> partitionProvider = ctx.getPartitionProvider(rel.sourceId(), group, tbl);
+
+        return new TableScanAggregateNode<>(
+                ctx,
+                rowFactory,
+                tbl,
+                scannableTable,
+                partitionProvider,
+                filters,
+                requiredColumns,
+                grpFields,
+                accumulators,
+                outputRowFactory
+        );
+    }
+
     /** {@inheritDoc} */
     @Override
     public Node<RowT> visit(IgniteReduceHashAggregate rel) {
@@ -920,7 +1059,9 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(
+                ctx, type, rel.getGroupSets(), accumulators, rowFactory, spillRowFactory(rel.getInput().getRowType())
+        );
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -1117,6 +1258,28 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         return BinaryTupleSchema.create(elements);
     }
 
+    private @Nullable VectorizedCalc<RowT> createVectorizedCalc(
+            RelDataType inputRowType,
+            @Nullable RexNode condition,
+            @Nullable List<RexNode> projects,
+            RelDataType outputRowType,
+            @Nullable Function<RowT, RowT> rowProjection
+    ) {
+        RowFactory<RowT> outputRowFactory = projects == null
+                ? null
+                : ctx.rowFactoryFactory().create(convertStructuredType(outputRowType));
+
+        return VectorizedCalc.create(
+                ctx.rowAccessor(),
+                inputRowType,
+                condition,
+                projects,
+                outputRowFactory,
+                rowProjection,
+                ctx.bufferSize()
+        );
+    }
+
     private static boolean canFuseProjectionInto(RelNode rel) {
         if (rel instanceof Join) {
             Join join = (Join) rel;
@@ -1127,6 +1290,15 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         return false;
     }
 
+    /** Returns a factory to restore rows of the given type spilled to disk, or {@code null} if the memory quota is unlimited. */
+    private @Nullable RowFactory<RowT> spillRowFactory(RelDataType rowType) {
+        if (ctx.memoryQuota().unlimited()) {
+            return null;
+        }
+
+        return ctx.rowFactoryFactory().create(convertStructuredType(rowType));
+    }
+
     private @Nullable SqlJoinProjection createJoinProjection(Join rel, RelDataType outType, int leftRowSize) {
         SqlJoinProjection joinProjection = null;
         if (projectionToFuse != null) {
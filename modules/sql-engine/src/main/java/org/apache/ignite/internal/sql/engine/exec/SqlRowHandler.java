@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.exec;
 
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.internal.sql.engine.util.Commons.readValue;
+import static org.apache.ignite.sql.ColumnType.BOOLEAN;
 import static org.apache.ignite.sql.ColumnType.NULL;
 
 import java.math.BigDecimal;
@@ -80,6 +81,24 @@ public class SqlRowHandler implements RowHandler<RowWrapper>, RowFactoryFactory<
         return row.isNull(field);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long getLong(int field, RowWrapper row) {
+        return row.getLong(field);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble(int field, RowWrapper row) {
+        return row.getDouble(field);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean getBoolean(int field, RowWrapper row) {
+        return row.getBoolean(field);
+    }
+
     @Override
     public int columnsCount(RowWrapper row) {
         return row.columnsCount();
@@ -168,6 +187,18 @@ public class SqlRowHandler implements RowHandler<RowWrapper>, RowFactoryFactory<
 
         abstract boolean isNull(int field);
 
+        long getLong(int field) {
+            return ((Number) get(field)).longValue();
+        }
+
+        double getDouble(int field) {
+            return ((Number) get(field)).doubleValue();
+        }
+
+        boolean getBoolean(int field) {
+            return (Boolean) get(field);
+        }
+
         abstract BinaryTuple toBinaryTuple();
     }
 
@@ -376,6 +407,45 @@ public class SqlRowHandler implements RowHandler<RowWrapper>, RowFactoryFactory<
             return tuple.hasNullValue(field);
         }
 
+        @Override
+        long getLong(int field) {
+            NativeType nativeType = rowType.fields().get(field).type();
+
+            switch (nativeType.spec()) {
+                case INT8:
+                    return tuple.byteValue(field);
+                case INT16:
+                    return tuple.shortValue(field);
+                case INT32:
+                    return tuple.intValue(field);
+                case INT64:
+                    return tuple.longValue(field);
+                default:
+                    return super.getLong(field);
+            }
+        }
+
+        @Override
+        double getDouble(int field) {
+            NativeType nativeType = rowType.fields().get(field).type();
+
+            switch (nativeType.spec()) {
+                case FLOAT:
+                    return tuple.floatValue(field);
+                case DOUBLE:
+                    return tuple.doubleValue(field);
+                default:
+                    return super.getDouble(field);
+            }
+        }
+
+        @Override
+        boolean getBoolean(int field) {
+            NativeType nativeType = rowType.fields().get(field).type();
+
+            return nativeType.spec() == BOOLEAN ? tuple.booleanValue(field) : super.getBoolean(field);
+        }
+
         @Override
         BinaryTuple toBinaryTuple() {
             if (tuple instanceof BinaryTuple) {
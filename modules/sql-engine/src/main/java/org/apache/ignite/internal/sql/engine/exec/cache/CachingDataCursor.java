@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.exec.AsyncDataCursor;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cursor that remembers rows fetched from the delegate and hands them over to the result consumer once the delegate is exhausted.
+ *
+ * <p>Rows are no longer collected as soon as their estimated size exceeds the limit, or the cursor is closed before all the rows
+ * have been fetched.
+ */
+class CachingDataCursor implements AsyncDataCursor<InternalSqlRow> {
+    /** Consumer of the complete result. */
+    @FunctionalInterface
+    interface ResultConsumer {
+        void accept(List<InternalSqlRow> rows, long sizeBytes);
+    }
+
+    private final AsyncDataCursor<InternalSqlRow> delegate;
+
+    private final long maxBytes;
+
+    private final ResultConsumer consumer;
+
+    /** Collected rows, or {@code null} if the result is not going to be cached. Batches are requested sequentially. */
+    private @Nullable List<InternalSqlRow> rows = new ArrayList<>();
+
+    private long sizeBytes;
+
+    CachingDataCursor(AsyncDataCursor<InternalSqlRow> delegate, long maxBytes, ResultConsumer consumer) {
+        this.delegate = delegate;
+        this.maxBytes = maxBytes;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public CompletableFuture<BatchedResult<InternalSqlRow>> requestNextAsync(int rows) {
+        return delegate.requestNextAsync(rows).thenApply(batch -> {
+            collect(batch);
+
+            return batch;
+        });
+    }
+
+    private synchronized void collect(BatchedResult<InternalSqlRow> batch) {
+        if (rows == null) {
+            return;
+        }
+
+        for (InternalSqlRow row : batch.items()) {
+            sizeBytes += RowSizeEstimator.estimate(row);
+
+            if (sizeBytes > maxBytes) {
+                rows = null;
+
+                return;
+            }
+
+            rows.add(row);
+        }
+
+        if (!batch.hasMore()) {
+            List<InternalSqlRow> result = rows;
+
+            rows = null;
+
+            consumer.accept(List.copyOf(result), sizeBytes);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+        synchronized (this) {
+            rows = null;
+        }
+
+        return delegate.closeAsync();
+    }
+
+    @Override
+    public CompletableFuture<Void> onClose() {
+        return delegate.onClose();
+    }
+
+    @Override
+    public CompletableFuture<Void> onFirstPageReady() {
+        return delegate.onFirstPageReady();
+    }
+
+    @Override
+    public CompletableFuture<Void> cancelAsync(CancellationReason reason) {
+        synchronized (this) {
+            rows = null;
+        }
+
+        return delegate.cancelAsync(reason);
+    }
+}
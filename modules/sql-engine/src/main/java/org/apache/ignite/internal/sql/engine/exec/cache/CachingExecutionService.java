@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.SqlOperationContext;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.apache.ignite.internal.sql.engine.exec.AsyncDataCursor;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionService;
+import org.apache.ignite.internal.sql.engine.prepare.DdlPlan;
+import org.apache.ignite.internal.sql.engine.prepare.IgniteRelShuttle;
+import org.apache.ignite.internal.sql.engine.prepare.KeyValueModifyPlan;
+import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
+import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
+import org.apache.ignite.internal.sql.engine.rel.IgniteIndexScan;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.IgniteSystemViewScan;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableModify;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
+import org.apache.ignite.internal.sql.engine.tx.QueryTransactionWrapper;
+import org.apache.ignite.internal.sql.engine.util.IteratorToDataCursorAdapter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Execution service that serves results of read-only queries from {@link QueryResultCache}.
+ *
+ * <p>Only queries running in an implicit transaction are eligible for caching. The plan must read from user tables only and must
+ * not contain non-deterministic or dynamic functions, like {@code RAND()} or {@code CURRENT_TIMESTAMP}. All other plans are passed
+ * to the delegate as is.
+ *
+ * <p>DML plans invalidate the cached results read from the tables they modify.
+ */
+public class CachingExecutionService implements ExecutionService {
+    private final ExecutionService delegate;
+
+    private final QueryResultCache cache;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate Execution service to run the queries with. Its lifecycle is not managed by this service.
+     * @param cache Result cache.
+     */
+    public CachingExecutionService(ExecutionService delegate, QueryResultCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public CompletableFuture<AsyncDataCursor<InternalSqlRow>> executePlan(QueryPlan plan, SqlOperationContext operationContext) {
+        if (plan.type() == SqlQueryType.DML) {
+            return executeDml(plan, operationContext);
+        }
+
+        if (plan.type() != SqlQueryType.QUERY || !(plan instanceof MultiStepPlan) || !implicitTransaction(operationContext)) {
+            return delegate.executePlan(plan, operationContext);
+        }
+
+        MultiStepPlan multiStepPlan = (MultiStepPlan) plan;
+        int[] tableIds = cacheableSources(multiStepPlan.getRel());
+
+        if (tableIds == null) {
+            return delegate.executePlan(plan, operationContext);
+        }
+
+        ResultCacheKey key = new ResultCacheKey(multiStepPlan.id(), multiStepPlan.catalogVersion(), operationContext.parameters(),
+                operationContext.timeZoneId());
+
+        QueryTransactionContext txContext = operationContext.txContext();
+
+        assert txContext != null;
+
+        HybridTimestamp observableTime = txContext.observableTime();
+
+        List<InternalSqlRow> rows = cache.get(key, observableTime);
+
+        if (rows != null) {
+            return completedFuture(new IteratorToDataCursorAdapter<>(rows.iterator()));
+        }
+
+        long[] counters = cache.modificationCounters(tableIds);
+
+        if (counters == null) {
+            return delegate.executePlan(plan, operationContext);
+        }
+
+        return delegate.executePlan(plan, operationContext).thenApply(cursor -> new CachingDataCursor(
+                cursor,
+                cache.maxEntryBytes(),
+                (result, sizeBytes) -> {
+                    HybridTimestamp readTimestamp = readTimestamp(operationContext);
+
+                    if (readTimestamp != null) {
+                        cache.put(key, result, sizeBytes, tableIds, counters, readTimestamp);
+                    }
+                }
+        ));
+    }
+
+    private CompletableFuture<AsyncDataCursor<InternalSqlRow>> executeDml(QueryPlan plan, SqlOperationContext operationContext) {
+        int[] tableIds = modifiedTables(plan);
+
+        if (tableIds.length == 0) {
+            return delegate.executePlan(plan, operationContext);
+        }
+
+        cache.invalidate(tableIds);
+
+        return delegate.executePlan(plan, operationContext).thenApply(cursor -> {
+            // The queries that have run concurrently with the modification might have cached the results without it.
+            cursor.onClose().whenComplete((none, err) -> cache.invalidate(tableIds));
+
+            return cursor;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<AsyncDataCursor<InternalSqlRow>>> executeDdlBatch(
+            List<DdlPlan> batch,
+            Consumer<HybridTimestamp> activationTimeListener
+    ) {
+        return delegate.executeDdlBatch(batch, activationTimeListener);
+    }
+
+    @Override
+    public void start() {
+        // No-op.
+    }
+
+    @Override
+    public void stop() {
+        cache.clear();
+    }
+
+    private static @Nullable HybridTimestamp readTimestamp(SqlOperationContext operationContext) {
+        QueryTransactionWrapper tx = operationContext.usedTx();
+
+        return tx == null ? null : tx.unwrap().readTimestamp();
+    }
+
+    private static boolean implicitTransaction(SqlOperationContext operationContext) {
+        QueryTransactionContext txContext = operationContext.txContext();
+
+        return txContext != null && txContext.explicitTx() == null && operationContext.retryTx() == null;
+    }
+
+    /** Returns ids of the tables the DML plan modifies. */
+    static int[] modifiedTables(QueryPlan plan) {
+        if (plan instanceof KeyValueModifyPlan) {
+            return new int[]{((KeyValueModifyPlan) plan).getRel().getTable().unwrapOrThrow(IgniteTable.class).id()};
+        }
+
+        if (!(plan instanceof MultiStepPlan)) {
+            return new int[0];
+        }
+
+        IntSet tables = new IntOpenHashSet();
+
+        new IgniteRelShuttle() {
+            @Override
+            public IgniteRel visit(IgniteTableModify rel) {
+                tables.add(rel.getTable().unwrapOrThrow(IgniteTable.class).id());
+
+                return processNode(rel);
+            }
+        }.visit(((MultiStepPlan) plan).getRel());
+
+        return tables.toIntArray();
+    }
+
+    /**
+     * Returns ids of the tables the plan reads from, or {@code null} if the result of the plan can't be cached.
+     */
+    static int @Nullable [] cacheableSources(IgniteRel root) {
+        IntSet tables = new IntOpenHashSet();
+        boolean[] cacheable = {true};
+
+        RexShuttle functionChecker = new RexShuttle() {
+            @Override
+            public RexNode visitCall(RexCall call) {
+                if (!call.getOperator().isDeterministic() || call.getOperator().isDynamicFunction()) {
+                    cacheable[0] = false;
+                }
+
+                return super.visitCall(call);
+            }
+        };
+
+        IgniteRelShuttle shuttle = new IgniteRelShuttle() {
+            @Override
+            public IgniteRel visit(IgniteTableScan rel) {
+                tables.add(rel.getTable().unwrapOrThrow(IgniteTable.class).id());
+
+                return processNode(rel);
+            }
+
+            @Override
+            public IgniteRel visit(IgniteIndexScan rel) {
+                tables.add(rel.getTable().unwrapOrThrow(IgniteTable.class).id());
+
+                return processNode(rel);
+            }
+
+            @Override
+            public IgniteRel visit(IgniteSystemViewScan rel) {
+                cacheable[0] = false;
+
+                return rel;
+            }
+
+            @Override
+            protected IgniteRel processNode(IgniteRel rel) {
+                rel.accept(functionChecker);
+
+                return super.processNode(rel);
+            }
+        };
+
+        shuttle.visit(root);
+
+        return cacheable[0] ? tables.toIntArray() : null;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.cache;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+/**
+ * Memory-bounded LRU cache of results of read-only queries.
+ *
+ * <p>Every result remembers the modification counters of the tables it was read from, and the timestamp it was read at. The result
+ * is considered valid as long as none of the counters has changed and the timestamp is above the low watermark. Modification counters
+ * are refreshed by the statistic manager periodically, and are bumped right away by the modifications executed on this node (see
+ * {@link #invalidate}), thus a cached result may lag behind the latest data committed through other nodes for up to the statistics
+ * refresh interval. That's why the cache is disabled by default.
+ *
+ * <p>A result is never returned to a session that has observed a time later than the one the result was read at, so a session
+ * always reads its own writes.
+ */
+public class QueryResultCache {
+    /** Maximal size of a single result relative to the memory limit of the cache. */
+    private static final double MAX_ENTRY_FRACTION = 0.1;
+
+    /** Value of modification counter of the table which statistics are not known yet. */
+    public static final long UNKNOWN_COUNTER = Long.MIN_VALUE;
+
+    private final long maxBytes;
+
+    private final IntToLongFunction modificationCounters;
+
+    private final Supplier<@Nullable HybridTimestamp> lowWatermark;
+
+    private final SqlResultCacheMetricSource metricSource;
+
+    /** Entries in the access order, so the first one is the least recently used. Guarded by {@code this}. */
+    private final LinkedHashMap<ResultCacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Guarded by {@code this}. */
+    private long usedBytes;
+
+    /** Number of modifications of every table executed on this node. Guarded by {@code this}. */
+    private final Int2LongMap localModifications = new Int2LongOpenHashMap();
+
+    /**
+     * Constructor.
+     *
+     * @param maxBytes Memory limit of the cache.
+     * @param modificationCounters Function returning modification counter of a table by its id, or {@link #UNKNOWN_COUNTER}.
+     * @param lowWatermark Supplier of the current low watermark.
+     * @param metricSource Metric source to record cache events to.
+     */
+    public QueryResultCache(
+            long maxBytes,
+            IntToLongFunction modificationCounters,
+            Supplier<@Nullable HybridTimestamp> lowWatermark,
+            SqlResultCacheMetricSource metricSource
+    ) {
+        assert maxBytes > 0 : maxBytes;
+
+        this.maxBytes = maxBytes;
+        this.modificationCounters = modificationCounters;
+        this.lowWatermark = lowWatermark;
+        this.metricSource = metricSource;
+    }
+
+    /** Returns maximal size of a single result which can be put into the cache. */
+    public long maxEntryBytes() {
+        return (long) (maxBytes * MAX_ENTRY_FRACTION);
+    }
+
+    /**
+     * Returns a valid result for the given key, if any.
+     *
+     * @param key Key.
+     * @param observableTime Latest time observed by the session, or {@code null} if it has observed nothing yet. A result read at an
+     *         earlier time is not returned, even if it's still valid.
+     * @return Rows of the result, or {@code null} if there is no suitable result in the cache.
+     */
+    public @Nullable List<InternalSqlRow> get(ResultCacheKey key, @Nullable HybridTimestamp observableTime) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+
+            if (entry != null) {
+                if (!isValid(entry)) {
+                    removeEntry(key, entry);
+
+                    metricSource.recordInvalidation();
+                } else if (observableTime == null || entry.readTimestamp.compareTo(observableTime) >= 0) {
+                    metricSource.recordHit();
+
+                    return entry.rows;
+                }
+            }
+        }
+
+        metricSource.recordMiss();
+
+        return null;
+    }
+
+    /**
+     * Takes a snapshot of modification counters of the given tables, to be passed to {@link #put} once the result is read.
+     *
+     * @param tableIds Ids of the tables a query reads from.
+     * @return Counters in the order of the given tables, or {@code null} if the counter of some table is unknown.
+     */
+    public long @Nullable [] modificationCounters(int[] tableIds) {
+        long[] counters = new long[tableIds.length];
+
+        for (int i = 0; i < tableIds.length; i++) {
+            counters[i] = modificationCounter(tableIds[i]);
+
+            if (counters[i] == UNKNOWN_COUNTER) {
+                return null;
+            }
+        }
+
+        return counters;
+    }
+
+    /**
+     * Puts a result into the cache, evicting the least recently used results if the memory limit is exceeded.
+     *
+     * @param key Key.
+     * @param rows Rows of the result.
+     * @param sizeBytes Estimated size of the rows.
+     * @param tableIds Ids of the tables the result was read from.
+     * @param counters Modification counters of the tables taken before the query was started.
+     * @param readTimestamp Timestamp the result was read at, or any earlier one.
+     */
+    public void put(
+            ResultCacheKey key,
+            List<InternalSqlRow> rows,
+            long sizeBytes,
+            int[] tableIds,
+            long[] counters,
+            HybridTimestamp readTimestamp
+    ) {
+        if (sizeBytes > maxEntryBytes()) {
+            return;
+        }
+
+        Entry entry = new Entry(rows, sizeBytes, tableIds, counters, readTimestamp);
+
+        // The tables could have been modified while the query was running.
+        if (!isValid(entry)) {
+            return;
+        }
+
+        synchronized (this) {
+            Entry prev = entries.put(key, entry);
+
+            if (prev != null) {
+                usedBytes -= prev.sizeBytes;
+            }
+
+            usedBytes += sizeBytes;
+
+            Iterator<Map.Entry<ResultCacheKey, Entry>> it = entries.entrySet().iterator();
+
+            while (usedBytes > maxBytes && it.hasNext()) {
+                Map.Entry<ResultCacheKey, Entry> eldest = it.next();
+
+                it.remove();
+
+                usedBytes -= eldest.getValue().sizeBytes;
+
+                metricSource.recordEviction();
+            }
+        }
+    }
+
+    /**
+     * Invalidates the results read from the given tables, to be called when the tables are modified on this node. It's called both
+     * before and after the modification, because the results read while it's running may or may not reflect it.
+     *
+     * <p>The results are not removed right away, but are no longer valid and are removed when looked up or evicted.
+     *
+     * @param tableIds Ids of the modified tables.
+     */
+    public synchronized void invalidate(int[] tableIds) {
+        for (int tableId : tableIds) {
+            localModifications.put(tableId, localModifications.get(tableId) + 1);
+        }
+    }
+
+    /** Removes all the results from the cache. */
+    public synchronized void clear() {
+        entries.clear();
+
+        usedBytes = 0;
+    }
+
+    /** Returns number of results in the cache. */
+    @TestOnly
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Returns estimated size of all the results in the cache. */
+    @TestOnly
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    private boolean isValid(Entry entry) {
+        HybridTimestamp lwm = lowWatermark.get();
+
+        if (lwm != null && entry.readTimestamp.compareTo(lwm) <= 0) {
+            return false;
+        }
+
+        for (int i = 0; i < entry.tableIds.length; i++) {
+            if (modificationCounter(entry.tableIds[i]) != entry.counters[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** Returns the modification counter of a table, which changes whenever the table is known to be modified. */
+    private long modificationCounter(int tableId) {
+        long counter = modificationCounters.applyAsLong(tableId);
+
+        if (counter == UNKNOWN_COUNTER) {
+            return UNKNOWN_COUNTER;
+        }
+
+        // Both counters only grow, so the sum changes whenever either of them does.
+        synchronized (this) {
+            return counter + localModifications.get(tableId);
+        }
+    }
+
+    private void removeEntry(ResultCacheKey key, Entry entry) {
+        assert Thread.holdsLock(this);
+
+        entries.remove(key);
+
+        usedBytes -= entry.sizeBytes;
+    }
+
+    private static class Entry {
+        private final List<InternalSqlRow> rows;
+
+        private final long sizeBytes;
+
+        private final int[] tableIds;
+
+        private final long[] counters;
+
+        private final HybridTimestamp readTimestamp;
+
+        private Entry(List<InternalSqlRow> rows, long sizeBytes, int[] tableIds, long[] counters, HybridTimestamp readTimestamp) {
+            this.rows = rows;
+            this.sizeBytes = sizeBytes;
+            this.tableIds = tableIds;
+            this.counters = counters;
+            this.readTimestamp = readTimestamp;
+        }
+    }
+}
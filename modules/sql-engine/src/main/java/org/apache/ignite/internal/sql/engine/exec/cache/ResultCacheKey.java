@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.cache;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import org.apache.ignite.internal.sql.engine.prepare.PlanId;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Key of a query result in {@link QueryResultCache}.
+ *
+ * <p>Time zone is a part of the key, because the results of the same plan may differ for different time zones.
+ */
+public final class ResultCacheKey {
+    private final PlanId planId;
+
+    private final int catalogVersion;
+
+    private final Object[] params;
+
+    private final ZoneId timeZoneId;
+
+    private final int hash;
+
+    /** Constructor. */
+    public ResultCacheKey(PlanId planId, int catalogVersion, Object[] params, ZoneId timeZoneId) {
+        this.planId = planId;
+        this.catalogVersion = catalogVersion;
+        this.params = params;
+        this.timeZoneId = timeZoneId;
+        this.hash = 31 * (31 * (31 * planId.hashCode() + catalogVersion) + Arrays.deepHashCode(params)) + timeZoneId.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ResultCacheKey that = (ResultCacheKey) o;
+
+        return catalogVersion == that.catalogVersion
+                && planId.equals(that.planId)
+                && timeZoneId.equals(that.timeZoneId)
+                && Arrays.deepEquals(params, that.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(ResultCacheKey.class, this);
+    }
+}
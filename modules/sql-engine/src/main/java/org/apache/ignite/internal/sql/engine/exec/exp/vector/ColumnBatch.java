@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.vector;
+
+import java.util.List;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowAccessor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A batch of rows in columnar form. Only the columns required by vector expressions are loaded.
+ */
+public final class ColumnBatch {
+    private final ColumnVector[] columns;
+
+    private final int[] loadedColumns;
+
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param columnTypes Types of the columns of a row, {@code null} for the columns that are not loaded.
+     * @param capacity Initial capacity.
+     */
+    ColumnBatch(@Nullable VectorType[] columnTypes, int capacity) {
+        columns = new ColumnVector[columnTypes.length];
+
+        int loaded = 0;
+
+        for (int i = 0; i < columnTypes.length; i++) {
+            if (columnTypes[i] != null) {
+                columns[i] = new ColumnVector(columnTypes[i], capacity);
+
+                loaded++;
+            }
+        }
+
+        loadedColumns = new int[loaded];
+
+        for (int i = 0, j = 0; i < columnTypes.length; i++) {
+            if (columnTypes[i] != null) {
+                loadedColumns[j++] = i;
+            }
+        }
+    }
+
+    /** Returns the number of rows in the batch. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the column with the given index.
+     *
+     * @param idx Column index.
+     * @return Column vector.
+     */
+    public ColumnVector column(int idx) {
+        ColumnVector column = columns[idx];
+
+        assert column != null : "Column is not loaded: " + idx;
+
+        return column;
+    }
+
+    /**
+     * Replaces the content of the batch with the given rows.
+     *
+     * @param rows Rows.
+     * @param accessor Row accessor.
+     */
+    <RowT> void load(List<RowT> rows, RowAccessor<RowT> accessor) {
+        size = rows.size();
+
+        for (int idx : loadedColumns) {
+            ColumnVector column = columns[idx];
+
+            column.ensureCapacity(size);
+
+            // Values are read with the primitive accessors, so loading a batch doesn't box them.
+            switch (column.type()) {
+                case LONG:
+                    for (int pos = 0; pos < size; pos++) {
+                        RowT row = rows.get(pos);
+
+                        boolean isNull = accessor.isNull(idx, row);
+
+                        column.nulls[pos] = isNull;
+
+                        if (!isNull) {
+                            column.longs[pos] = accessor.getLong(idx, row);
+                        }
+                    }
+                    break;
+                case DOUBLE:
+                    for (int pos = 0; pos < size; pos++) {
+                        RowT row = rows.get(pos);
+
+                        boolean isNull = accessor.isNull(idx, row);
+
+                        column.nulls[pos] = isNull;
+
+                        if (!isNull) {
+                            column.doubles[pos] = accessor.getDouble(idx, row);
+                        }
+                    }
+                    break;
+                case BOOLEAN:
+                    for (int pos = 0; pos < size; pos++) {
+                        RowT row = rows.get(pos);
+
+                        boolean isNull = accessor.isNull(idx, row);
+
+                        column.nulls[pos] = isNull;
+
+                        if (!isNull) {
+                            column.booleans[pos] = accessor.getBoolean(idx, row);
+                        }
+                    }
+                    break;
+                default:
+                    throw new AssertionError("Unexpected type: " + column.type());
+            }
+        }
+    }
+}
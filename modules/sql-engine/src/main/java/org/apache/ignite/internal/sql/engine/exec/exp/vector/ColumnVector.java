@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.vector;
+
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A column of a {@link ColumnBatch}, values are stored in a primitive array chosen by the {@link VectorType}.
+ *
+ * <p>A value at a position is only defined if its null flag is not set.
+ */
+public final class ColumnVector {
+    private final VectorType type;
+
+    long[] longs;
+
+    double[] doubles;
+
+    boolean[] booleans;
+
+    boolean[] nulls;
+
+    /**
+     * Constructor.
+     *
+     * @param type Vector type.
+     * @param capacity Initial capacity.
+     */
+    ColumnVector(VectorType type, int capacity) {
+        this.type = type;
+
+        allocate(capacity);
+    }
+
+    /** Returns the type of the vector. */
+    public VectorType type() {
+        return type;
+    }
+
+    /** Returns the number of values the vector can hold. */
+    public int capacity() {
+        return nulls.length;
+    }
+
+    /** Returns {@code true} if the value at the given position is {@code null}. */
+    public boolean isNull(int pos) {
+        return nulls[pos];
+    }
+
+    /** Returns the value at the given position of a {@link VectorType#LONG} vector. */
+    public long getLong(int pos) {
+        return longs[pos];
+    }
+
+    /** Returns the value at the given position of a {@link VectorType#DOUBLE} vector. */
+    public double getDouble(int pos) {
+        return doubles[pos];
+    }
+
+    /** Returns the value at the given position of a {@link VectorType#BOOLEAN} vector. */
+    public boolean getBoolean(int pos) {
+        return booleans[pos];
+    }
+
+    /**
+     * Returns the value at the given position boxed according to the SQL type.
+     *
+     * @param pos Position.
+     * @param typeName SQL type of the value.
+     * @return Value, or {@code null}.
+     */
+    public @Nullable Object get(int pos, SqlTypeName typeName) {
+        if (nulls[pos]) {
+            return null;
+        }
+
+        switch (typeName) {
+            case TINYINT:
+                return (byte) longs[pos];
+            case SMALLINT:
+                return (short) longs[pos];
+            case INTEGER:
+                return (int) longs[pos];
+            case BIGINT:
+                return longs[pos];
+            case REAL:
+            case FLOAT:
+                return (float) doubles[pos];
+            case DOUBLE:
+                return doubles[pos];
+            case BOOLEAN:
+                return booleans[pos];
+            default:
+                throw new AssertionError("Unexpected type: " + typeName);
+        }
+    }
+
+    /**
+     * Grows the vector to hold at least the given number of values. Content is not preserved.
+     *
+     * @param capacity Required capacity.
+     */
+    void ensureCapacity(int capacity) {
+        if (nulls.length < capacity) {
+            allocate(Math.max(capacity, nulls.length * 2));
+        }
+    }
+
+    private void allocate(int capacity) {
+        nulls = new boolean[capacity];
+
+        switch (type) {
+            case LONG:
+                longs = new long[capacity];
+                break;
+            case DOUBLE:
+                doubles = new double[capacity];
+                break;
+            case BOOLEAN:
+                booleans = new boolean[capacity];
+                break;
+            default:
+                throw new AssertionError("Unexpected type: " + type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnVector [type=" + type + ", capacity=" + capacity() + ']';
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.vector;
+
+/**
+ * An expression that is evaluated for a batch of rows at once.
+ *
+ * @see VectorExpressionCompiler
+ */
+public interface VectorExpression {
+    /** Returns the type of the result vector. */
+    VectorType type();
+
+    /**
+     * Evaluates the expression for the selected rows of the batch.
+     *
+     * <p>The result vector is owned by the expression (or the batch) and is only valid until the next evaluation. Values are
+     * defined at the selected positions only.
+     *
+     * @param batch Batch.
+     * @param sel Positions of the rows to evaluate the expression for, in ascending order.
+     * @param selSize Number of selected positions.
+     * @return Result vector.
+     */
+    ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize);
+}
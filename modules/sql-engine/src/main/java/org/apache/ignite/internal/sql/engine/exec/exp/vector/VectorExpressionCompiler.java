@@ -0,0 +1,799 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.vector;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.sql.engine.util.IgniteMath;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compiles row expressions to {@link VectorExpression vector expressions}.
+ *
+ * <p>Only a subset of expressions is supported: references to input columns of numeric and boolean types, non-null numeric and
+ * boolean literals, comparisons, {@code AND}, {@code OR}, {@code NOT}, {@code IS [NOT] NULL}, overflow checked {@code +}, {@code -},
+ * {@code *} and widening casts. The results are the same as the results of the expressions generated for row-at-a-time execution,
+ * {@link #compile(RexNode)} returns {@code null} for anything else, and the caller is expected to fall back to the row mode.
+ */
+public final class VectorExpressionCompiler {
+    private final RelDataType inputRowType;
+
+    /** Types of the input columns referenced by the compiled expressions. */
+    private final @Nullable VectorType[] columnTypes;
+
+    /**
+     * Constructor.
+     *
+     * @param inputRowType Type of the input rows.
+     */
+    public VectorExpressionCompiler(RelDataType inputRowType) {
+        this.inputRowType = inputRowType;
+
+        columnTypes = new VectorType[inputRowType.getFieldCount()];
+    }
+
+    /**
+     * Compiles an expression.
+     *
+     * @param node Expression.
+     * @return Vector expression, or {@code null} if the expression is not supported.
+     */
+    public @Nullable VectorExpression compile(RexNode node) {
+        @Nullable VectorType[] referenced = new VectorType[columnTypes.length];
+
+        VectorExpression expr = compile(node, referenced);
+
+        if (expr != null) {
+            for (int i = 0; i < referenced.length; i++) {
+                if (referenced[i] != null) {
+                    columnTypes[i] = referenced[i];
+                }
+            }
+        }
+
+        return expr;
+    }
+
+    /**
+     * Creates a batch that loads all the columns referenced by the expressions compiled so far.
+     *
+     * @param capacity Initial capacity.
+     * @return Column batch.
+     */
+    public ColumnBatch createBatch(int capacity) {
+        return new ColumnBatch(columnTypes.clone(), capacity);
+    }
+
+    /**
+     * Checks whether the given type can be a result of a vector expression.
+     *
+     * @param type Type.
+     * @return {@code true} if the type is supported.
+     */
+    public static boolean supported(RelDataType type) {
+        return VectorType.of(type.getSqlTypeName()) != null;
+    }
+
+    private @Nullable VectorExpression compile(RexNode node, @Nullable VectorType[] referenced) {
+        if (!supported(node.getType())) {
+            return null;
+        }
+
+        if (node instanceof RexInputRef) {
+            int idx = ((RexInputRef) node).getIndex();
+
+            VectorType type = VectorType.of(inputRowType.getFieldList().get(idx).getType().getSqlTypeName());
+
+            if (type == null) {
+                return null;
+            }
+
+            referenced[idx] = type;
+
+            return new InputRef(idx, type);
+        }
+
+        if (node instanceof RexLiteral) {
+            return literal((RexLiteral) node);
+        }
+
+        if (!(node instanceof RexCall)) {
+            return null;
+        }
+
+        RexCall call = (RexCall) node;
+        List<RexNode> operands = call.getOperands();
+
+        switch (call.getKind()) {
+            case EQUALS:
+            case NOT_EQUALS:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return comparison(call.getKind(), operands.get(0), operands.get(1), referenced);
+
+            case AND:
+            case OR: {
+                VectorExpression res = compile(operands.get(0), referenced);
+
+                for (int i = 1; i < operands.size() && res != null; i++) {
+                    VectorExpression next = compile(operands.get(i), referenced);
+
+                    res = next == null ? null : new Logical(call.getKind() == SqlKind.AND, res, next);
+                }
+
+                return res;
+            }
+
+            case NOT: {
+                VectorExpression operand = compile(operands.get(0), referenced);
+
+                return operand == null ? null : new Not(operand);
+            }
+
+            case IS_NULL:
+            case IS_NOT_NULL: {
+                VectorExpression operand = compile(operands.get(0), referenced);
+
+                return operand == null ? null : new IsNull(operand, call.getKind() == SqlKind.IS_NOT_NULL);
+            }
+
+            case PLUS:
+            case MINUS:
+            case TIMES:
+                return operands.size() == 2
+                        ? arithmetic(call.getKind(), call.getType().getSqlTypeName(), operands.get(0), operands.get(1), referenced)
+                        : null;
+
+            case CAST:
+                return cast(operands.get(0), call.getType().getSqlTypeName(), referenced);
+
+            default:
+                return null;
+        }
+    }
+
+    private static @Nullable VectorExpression literal(RexLiteral literal) {
+        if (literal.isNull()) {
+            return null;
+        }
+
+        SqlTypeName typeName = literal.getType().getSqlTypeName();
+
+        switch (typeName) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+                return new Literal(VectorType.LONG, literal.getValueAs(BigDecimal.class).longValueExact(), 0, false);
+            case REAL:
+            case FLOAT:
+                return new Literal(VectorType.DOUBLE, 0, literal.getValueAs(BigDecimal.class).floatValue(), false);
+            case DOUBLE:
+                return new Literal(VectorType.DOUBLE, 0, literal.getValueAs(BigDecimal.class).doubleValue(), false);
+            case BOOLEAN:
+                return new Literal(VectorType.BOOLEAN, 0, 0, literal.getValueAs(Boolean.class));
+            default:
+                return null;
+        }
+    }
+
+    private @Nullable VectorExpression comparison(SqlKind kind, RexNode left, RexNode right, @Nullable VectorType[] referenced) {
+        SqlTypeName leftType = left.getType().getSqlTypeName();
+        SqlTypeName rightType = right.getType().getSqlTypeName();
+
+        if (!numeric(leftType) || !numeric(rightType)) {
+            return null;
+        }
+
+        // Float values are compared with exact numerics with float precision.
+        if (isFloat(leftType) && exact(rightType) || exact(leftType) && isFloat(rightType)) {
+            return null;
+        }
+
+        VectorExpression leftExpr = compile(left, referenced);
+        VectorExpression rightExpr = compile(right, referenced);
+
+        if (leftExpr == null || rightExpr == null) {
+            return null;
+        }
+
+        if (leftExpr.type() != rightExpr.type()) {
+            leftExpr = toDouble(leftExpr, false);
+            rightExpr = toDouble(rightExpr, false);
+        }
+
+        return new Comparison(kind, leftExpr, rightExpr);
+    }
+
+    private @Nullable VectorExpression arithmetic(
+            SqlKind kind,
+            SqlTypeName resultType,
+            RexNode left,
+            RexNode right,
+            @Nullable VectorType[] referenced
+    ) {
+        SqlTypeName leftType = left.getType().getSqlTypeName();
+        SqlTypeName rightType = right.getType().getSqlTypeName();
+
+        if (exact(resultType)) {
+            // Operands must fit the result type to get the same overflow checks.
+            if (!exact(leftType) || !exact(rightType) || rank(leftType) > rank(resultType) || rank(rightType) > rank(resultType)) {
+                return null;
+            }
+        } else if (resultType != SqlTypeName.DOUBLE || !numeric(leftType) || !numeric(rightType)) {
+            return null;
+        }
+
+        VectorExpression leftExpr = compile(left, referenced);
+        VectorExpression rightExpr = compile(right, referenced);
+
+        if (leftExpr == null || rightExpr == null) {
+            return null;
+        }
+
+        if (resultType == SqlTypeName.DOUBLE) {
+            return new DoubleArithmetic(doubleOperator(kind), toDouble(leftExpr, false), toDouble(rightExpr, false));
+        }
+
+        return new LongArithmetic(longOperator(kind, resultType), leftExpr, rightExpr);
+    }
+
+    private @Nullable VectorExpression cast(RexNode operand, SqlTypeName targetType, @Nullable VectorType[] referenced) {
+        SqlTypeName sourceType = operand.getType().getSqlTypeName();
+
+        boolean supported;
+
+        if (sourceType == targetType) {
+            supported = true;
+        } else if (exact(sourceType)) {
+            supported = exact(targetType) ? rank(sourceType) <= rank(targetType) : numeric(targetType);
+        } else {
+            // Float to double is the only lossless cast between approximate numerics.
+            supported = isFloat(sourceType) && targetType == SqlTypeName.DOUBLE;
+        }
+
+        if (!supported) {
+            return null;
+        }
+
+        VectorExpression expr = compile(operand, referenced);
+
+        if (expr == null || !exact(sourceType) || exact(targetType)) {
+            // Values are stored in the same way.
+            return expr;
+        }
+
+        return toDouble(expr, isFloat(targetType));
+    }
+
+    private static VectorExpression toDouble(VectorExpression expr, boolean toFloat) {
+        return expr.type() == VectorType.LONG ? new LongToDouble(expr, toFloat) : expr;
+    }
+
+    private static LongBinaryOperator longOperator(SqlKind kind, SqlTypeName type) {
+        switch (type) {
+            case TINYINT:
+                return kind == SqlKind.PLUS ? (x, y) -> IgniteMath.addExact((byte) x, (byte) y)
+                        : kind == SqlKind.MINUS ? (x, y) -> IgniteMath.subtractExact((byte) x, (byte) y)
+                        : (x, y) -> IgniteMath.multiplyExact((byte) x, (byte) y);
+            case SMALLINT:
+                return kind == SqlKind.PLUS ? (x, y) -> IgniteMath.addExact((short) x, (short) y)
+                        : kind == SqlKind.MINUS ? (x, y) -> IgniteMath.subtractExact((short) x, (short) y)
+                        : (x, y) -> IgniteMath.multiplyExact((short) x, (short) y);
+            case INTEGER:
+                return kind == SqlKind.PLUS ? (x, y) -> IgniteMath.addExact((int) x, (int) y)
+                        : kind == SqlKind.MINUS ? (x, y) -> IgniteMath.subtractExact((int) x, (int) y)
+                        : (x, y) -> IgniteMath.multiplyExact((int) x, (int) y);
+            case BIGINT:
+                return kind == SqlKind.PLUS ? IgniteMath::addExact
+                        : kind == SqlKind.MINUS ? IgniteMath::subtractExact
+                        : IgniteMath::multiplyExact;
+            default:
+                throw new AssertionError("Unexpected type: " + type);
+        }
+    }
+
+    private static DoubleBinaryOperator doubleOperator(SqlKind kind) {
+        switch (kind) {
+            case PLUS:
+                return (x, y) -> x + y;
+            case MINUS:
+                return (x, y) -> x - y;
+            case TIMES:
+                return (x, y) -> x * y;
+            default:
+                throw new AssertionError("Unexpected operator: " + kind);
+        }
+    }
+
+    private static boolean numeric(SqlTypeName typeName) {
+        return VectorType.of(typeName) == VectorType.LONG || VectorType.of(typeName) == VectorType.DOUBLE;
+    }
+
+    private static boolean exact(SqlTypeName typeName) {
+        return VectorType.of(typeName) == VectorType.LONG;
+    }
+
+    private static boolean isFloat(SqlTypeName typeName) {
+        return typeName == SqlTypeName.REAL || typeName == SqlTypeName.FLOAT;
+    }
+
+    private static int rank(SqlTypeName typeName) {
+        switch (typeName) {
+            case TINYINT:
+                return 1;
+            case SMALLINT:
+                return 2;
+            case INTEGER:
+                return 3;
+            case BIGINT:
+                return 4;
+            default:
+                throw new AssertionError("Unexpected type: " + typeName);
+        }
+    }
+
+    /** Reference to an input column, returns the column vector of the batch. */
+    private static final class InputRef implements VectorExpression {
+        private final int idx;
+
+        private final VectorType type;
+
+        InputRef(int idx, VectorType type) {
+            this.idx = idx;
+            this.type = type;
+        }
+
+        @Override
+        public VectorType type() {
+            return type;
+        }
+
+        @Override
+        public ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize) {
+            return batch.column(idx);
+        }
+    }
+
+    /** Base class for expressions that own their result vectors. */
+    private abstract static class AbstractExpression implements VectorExpression {
+        private final VectorType type;
+
+        private final ColumnVector out;
+
+        AbstractExpression(VectorType type) {
+            this.type = type;
+
+            out = new ColumnVector(type, 0);
+        }
+
+        @Override
+        public VectorType type() {
+            return type;
+        }
+
+        /** Returns the result vector that can hold values for all the rows of the batch. */
+        ColumnVector out(ColumnBatch batch) {
+            out.ensureCapacity(batch.size());
+
+            return out;
+        }
+    }
+
+    /** Non-null literal. */
+    private static final class Literal extends AbstractExpression {
+        private final long longValue;
+
+        private final double doubleValue;
+
+        private final boolean booleanValue;
+
+        Literal(VectorType type, long longValue, double doubleValue, boolean booleanValue) {
+            super(type);
+
+            this.longValue = longValue;
+            this.doubleValue = doubleValue;
+            this.booleanValue = booleanValue;
+        }
+
+        @Override
+        public ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize) {
+            ColumnVector out = out(batch);
+
+            for (int i = 0; i < selSize; i++) {
+                out.nulls[sel[i]] = false;
+            }
+
+            switch (type()) {
+                case LONG:
+                    for (int i = 0; i < selSize; i++) {
+                        out.longs[sel[i]] = longValue;
+                    }
+                    break;
+                case DOUBLE:
+                    for (int i = 0; i < selSize; i++) {
+                        out.doubles[sel[i]] = doubleValue;
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < selSize; i++) {
+                        out.booleans[sel[i]] = booleanValue;
+                    }
+            }
+
+            return out;
+        }
+    }
+
+    /** Conversion of exact numerics to double or float values. */
+    private static final class LongToDouble extends AbstractExpression {
+        private final VectorExpression operand;
+
+        private final boolean toFloat;
+
+        LongToDouble(VectorExpression operand, boolean toFloat) {
+            super(VectorType.DOUBLE);
+
+            this.operand = operand;
+            this.toFloat = toFloat;
+        }
+
+        @Override
+        public ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize) {
+            ColumnVector in = operand.evaluate(batch, sel, selSize);
+            ColumnVector out = out(batch);
+
+            for (int i = 0; i < selSize; i++) {
+                int pos = sel[i];
+
+                out.nulls[pos] = in.nulls[pos];
+                out.doubles[pos] = toFloat ? (float) in.longs[pos] : (double) in.longs[pos];
+            }
+
+            return out;
+        }
+    }
+
+    /** Comparison of two numeric operands of the same vector type. */
+    private static final class Comparison extends AbstractExpression {
+        private final SqlKind kind;
+
+        private final VectorExpression left;
+
+        private final VectorExpression right;
+
+        Comparison(SqlKind kind, VectorExpression left, VectorExpression right) {
+            super(VectorType.BOOLEAN);
+
+            assert left.type() == right.type() : left.type() + " " + right.type();
+
+            this.kind = kind;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize) {
+            ColumnVector l = left.evaluate(batch, sel, selSize);
+            ColumnVector r = right.evaluate(batch, sel, selSize);
+            ColumnVector out = out(batch);
+
+            for (int i = 0; i < selSize; i++) {
+                int pos = sel[i];
+
+                out.nulls[pos] = l.nulls[pos] || r.nulls[pos];
+            }
+
+            if (left.type() == VectorType.LONG) {
+                compareLongs(l.longs, r.longs, out.booleans, sel, selSize);
+            } else {
+                compareDoubles(l.doubles, r.doubles, out.booleans, sel, selSize);
+            }
+
+            return out;
+        }
+
+        private void compareLongs(long[] a, long[] b, boolean[] res, int[] sel, int selSize) {
+            switch (kind) {
+                case EQUALS:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] == b[pos];
+                    }
+                    break;
+                case NOT_EQUALS:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] != b[pos];
+                    }
+                    break;
+                case LESS_THAN:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] < b[pos];
+                    }
+                    break;
+                case LESS_THAN_OR_EQUAL:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] <= b[pos];
+                    }
+                    break;
+                case GREATER_THAN:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] > b[pos];
+                    }
+                    break;
+                case GREATER_THAN_OR_EQUAL:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] >= b[pos];
+                    }
+                    break;
+                default:
+                    throw new AssertionError("Unexpected operator: " + kind);
+            }
+        }
+
+        private void compareDoubles(double[] a, double[] b, boolean[] res, int[] sel, int selSize) {
+            switch (kind) {
+                case EQUALS:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] == b[pos];
+                    }
+                    break;
+                case NOT_EQUALS:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] != b[pos];
+                    }
+                    break;
+                case LESS_THAN:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] < b[pos];
+                    }
+                    break;
+                case LESS_THAN_OR_EQUAL:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] <= b[pos];
+                    }
+                    break;
+                case GREATER_THAN:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] > b[pos];
+                    }
+                    break;
+                case GREATER_THAN_OR_EQUAL:
+                    for (int i = 0; i < selSize; i++) {
+                        int pos = sel[i];
+                        res[pos] = a[pos] >= b[pos];
+                    }
+                    break;
+                default:
+                    throw new AssertionError("Unexpected operator: " + kind);
+            }
+        }
+    }
+
+    /** Overflow checked arithmetic on exact numerics. */
+    private static final class LongArithmetic extends AbstractExpression {
+        private final LongBinaryOperator operator;
+
+        private final VectorExpression left;
+
+        private final VectorExpression right;
+
+        LongArithmetic(LongBinaryOperator operator, VectorExpression left, VectorExpression right) {
+            super(VectorType.LONG);
+
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize) {
+            ColumnVector l = left.evaluate(batch, sel, selSize);
+            ColumnVector r = right.evaluate(batch, sel, selSize);
+            ColumnVector out = out(batch);
+
+            for (int i = 0; i < selSize; i++) {
+                int pos = sel[i];
+
+                boolean isNull = l.nulls[pos] || r.nulls[pos];
+
+                out.nulls[pos] = isNull;
+
+                // Values at null positions are undefined and must not trigger overflow errors.
+                if (!isNull) {
+                    out.longs[pos] = operator.applyAsLong(l.longs[pos], r.longs[pos]);
+                }
+            }
+
+            return out;
+        }
+    }
+
+    /** Arithmetic on double values. */
+    private static final class DoubleArithmetic extends AbstractExpression {
+        private final DoubleBinaryOperator operator;
+
+        private final VectorExpression left;
+
+        private final VectorExpression right;
+
+        DoubleArithmetic(DoubleBinaryOperator operator, VectorExpression left, VectorExpression right) {
+            super(VectorType.DOUBLE);
+
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize) {
+            ColumnVector l = left.evaluate(batch, sel, selSize);
+            ColumnVector r = right.evaluate(batch, sel, selSize);
+            ColumnVector out = out(batch);
+
+            for (int i = 0; i < selSize; i++) {
+                int pos = sel[i];
+
+                out.nulls[pos] = l.nulls[pos] || r.nulls[pos];
+                out.doubles[pos] = operator.applyAsDouble(l.doubles[pos], r.doubles[pos]);
+            }
+
+            return out;
+        }
+    }
+
+    /**
+     * {@code AND} or {@code OR} with three-valued logic. The right operand is only evaluated for the rows where the left one
+     * doesn't determine the result, so it is never evaluated for more rows than in the row mode.
+     */
+    private static final class Logical extends AbstractExpression {
+        private final boolean and;
+
+        private final VectorExpression left;
+
+        private final VectorExpression right;
+
+        private int[] sub = new int[0];
+
+        Logical(boolean and, VectorExpression left, VectorExpression right) {
+            super(VectorType.BOOLEAN);
+
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize) {
+            ColumnVector l = left.evaluate(batch, sel, selSize);
+
+            if (sub.length < batch.size()) {
+                sub = new int[batch.size()];
+            }
+
+            // The result is known if the left operand is FALSE for AND, or TRUE for OR.
+            boolean known = !and;
+
+            int subSize = 0;
+
+            for (int i = 0; i < selSize; i++) {
+                int pos = sel[i];
+
+                if (l.nulls[pos] || l.booleans[pos] != known) {
+                    sub[subSize++] = pos;
+                }
+            }
+
+            ColumnVector r = subSize == 0 ? null : right.evaluate(batch, sub, subSize);
+            ColumnVector out = out(batch);
+
+            for (int i = 0; i < selSize; i++) {
+                int pos = sel[i];
+
+                if (!l.nulls[pos] && l.booleans[pos] == known) {
+                    out.nulls[pos] = false;
+                    out.booleans[pos] = known;
+                } else if (!r.nulls[pos] && r.booleans[pos] == known) {
+                    out.nulls[pos] = false;
+                    out.booleans[pos] = known;
+                } else {
+                    out.nulls[pos] = l.nulls[pos] || r.nulls[pos];
+                    out.booleans[pos] = !known;
+                }
+            }
+
+            return out;
+        }
+    }
+
+    /** {@code NOT}. */
+    private static final class Not extends AbstractExpression {
+        private final VectorExpression operand;
+
+        Not(VectorExpression operand) {
+            super(VectorType.BOOLEAN);
+
+            this.operand = operand;
+        }
+
+        @Override
+        public ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize) {
+            ColumnVector in = operand.evaluate(batch, sel, selSize);
+            ColumnVector out = out(batch);
+
+            for (int i = 0; i < selSize; i++) {
+                int pos = sel[i];
+
+                out.nulls[pos] = in.nulls[pos];
+                out.booleans[pos] = !in.booleans[pos];
+            }
+
+            return out;
+        }
+    }
+
+    /** {@code IS NULL} and {@code IS NOT NULL}. */
+    private static final class IsNull extends AbstractExpression {
+        private final VectorExpression operand;
+
+        private final boolean negate;
+
+        IsNull(VectorExpression operand, boolean negate) {
+            super(VectorType.BOOLEAN);
+
+            this.operand = operand;
+            this.negate = negate;
+        }
+
+        @Override
+        public ColumnVector evaluate(ColumnBatch batch, int[] sel, int selSize) {
+            ColumnVector in = operand.evaluate(batch, sel, selSize);
+            ColumnVector out = out(batch);
+
+            for (int i = 0; i < selSize; i++) {
+                int pos = sel[i];
+
+                out.nulls[pos] = false;
+                out.booleans[pos] = in.nulls[pos] != negate;
+            }
+
+            return out;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.vector;
+
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Physical representation of the values of a {@link ColumnVector}.
+ */
+public enum VectorType {
+    /** Exact numerics: TINYINT, SMALLINT, INTEGER and BIGINT. */
+    LONG,
+
+    /** Approximate numerics: REAL, FLOAT and DOUBLE. */
+    DOUBLE,
+
+    /** BOOLEAN. */
+    BOOLEAN;
+
+    /**
+     * Returns a vector type for the given SQL type.
+     *
+     * @param typeName SQL type name.
+     * @return Vector type or {@code null} if values of the given type can't be stored in a vector.
+     */
+    public static @Nullable VectorType of(SqlTypeName typeName) {
+        switch (typeName) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+                return LONG;
+            case REAL:
+            case FLOAT:
+            case DOUBLE:
+                return DOUBLE;
+            case BOOLEAN:
+                return BOOLEAN;
+            default:
+                return null;
+        }
+    }
+}
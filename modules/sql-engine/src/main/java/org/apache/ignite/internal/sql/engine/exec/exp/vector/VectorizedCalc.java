@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.vector;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowAccessor;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory.RowBuilder;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Filter and projection that are evaluated for a batch of rows at once.
+ *
+ * <p>Rows are loaded to a {@link ColumnBatch}, the filter produces a selection vector, and projections are evaluated for the
+ * selected rows only. If the projection can't be vectorized while the filter can, the projection is applied to the selected rows
+ * one by one.
+ */
+public final class VectorizedCalc<RowT> {
+    private final RowAccessor<RowT> accessor;
+
+    private final @Nullable VectorExpression condition;
+
+    /** Vectorized projection, {@code null} if there is no projection or it is applied in the row mode. */
+    private final @Nullable Projection projection;
+
+    /** Builder of the output rows of the vectorized projection, reused for all the rows. */
+    private final @Nullable RowBuilder<RowT> rowBuilder;
+
+    private final @Nullable Function<RowT, RowT> rowProjection;
+
+    private final ColumnBatch batch;
+
+    private int[] sel = new int[0];
+
+    private VectorizedCalc(
+            RowAccessor<RowT> accessor,
+            @Nullable VectorExpression condition,
+            @Nullable Projection projection,
+            @Nullable RowBuilder<RowT> rowBuilder,
+            @Nullable Function<RowT, RowT> rowProjection,
+            ColumnBatch batch
+    ) {
+        this.accessor = accessor;
+        this.condition = condition;
+        this.projection = projection;
+        this.rowBuilder = rowBuilder;
+        this.rowProjection = rowProjection;
+        this.batch = batch;
+    }
+
+    /**
+     * Creates a vectorized calc.
+     *
+     * @param accessor Accessor of the input rows.
+     * @param inputRowType Type of the input rows.
+     * @param condition Filter condition, or {@code null} if there is no filter.
+     * @param projects Projection expressions, or {@code null} if there is no projection.
+     * @param rowFactory Factory of the output rows, required if there is a projection.
+     * @param rowProjection Row mode projection, required if there is a projection.
+     * @param batchSize Expected number of rows in a batch.
+     * @return Vectorized calc, or {@code null} if the expressions can't be vectorized and the row mode should be used.
+     */
+    public static <RowT> @Nullable VectorizedCalc<RowT> create(
+            RowAccessor<RowT> accessor,
+            RelDataType inputRowType,
+            @Nullable RexNode condition,
+            @Nullable List<RexNode> projects,
+            @Nullable RowFactory<RowT> rowFactory,
+            @Nullable Function<RowT, RowT> rowProjection,
+            int batchSize
+    ) {
+        assert projects == null || (rowFactory != null && rowProjection != null);
+
+        VectorExpressionCompiler compiler = new VectorExpressionCompiler(inputRowType);
+
+        VectorExpression conditionExpr = null;
+
+        if (condition != null) {
+            conditionExpr = compiler.compile(condition);
+
+            if (conditionExpr == null) {
+                return null;
+            }
+        }
+
+        // Check the projection first to not load the columns that are only referenced by a projection that can't be vectorized.
+        Projection projection = projects == null || projection(new VectorExpressionCompiler(inputRowType), projects) == null
+                ? null
+                : projection(compiler, projects);
+
+        if (projects != null && projection == null && conditionExpr == null) {
+            return null;
+        }
+
+        return new VectorizedCalc<>(
+                accessor,
+                conditionExpr,
+                projection,
+                projection == null ? null : rowFactory.rowBuilder(),
+                projection == null ? rowProjection : null,
+                compiler.createBatch(batchSize)
+        );
+    }
+
+    private static @Nullable Projection projection(VectorExpressionCompiler compiler, List<RexNode> projects) {
+        int[] inputRefs = new int[projects.size()];
+        VectorExpression[] exprs = new VectorExpression[projects.size()];
+        SqlTypeName[] types = new SqlTypeName[projects.size()];
+
+        boolean vectorized = false;
+
+        for (int i = 0; i < projects.size(); i++) {
+            RexNode project = projects.get(i);
+
+            if (project instanceof RexInputRef) {
+                // Values of any type are copied from the input row as is.
+                inputRefs[i] = ((RexInputRef) project).getIndex();
+            } else {
+                exprs[i] = compiler.compile(project);
+
+                if (exprs[i] == null) {
+                    return null;
+                }
+
+                inputRefs[i] = -1;
+                types[i] = project.getType().getSqlTypeName();
+
+                vectorized = true;
+            }
+        }
+
+        // A projection that only reorders columns gains nothing from vectorization.
+        return vectorized ? new Projection(inputRefs, exprs, types) : null;
+    }
+
+    /** Returns {@code true} if the calc filters out rows. */
+    public boolean hasFilter() {
+        return condition != null;
+    }
+
+    /**
+     * Filters and projects a batch of rows.
+     *
+     * @param rows Input rows.
+     * @param out Collection to add the output rows to.
+     * @return Number of output rows.
+     */
+    public int process(List<RowT> rows, Collection<RowT> out) {
+        int size = rows.size();
+
+        if (size == 0) {
+            return 0;
+        }
+
+        batch.load(rows, accessor);
+
+        if (sel.length < size) {
+            sel = new int[size];
+        }
+
+        for (int i = 0; i < size; i++) {
+            sel[i] = i;
+        }
+
+        int selSize = size;
+
+        if (condition != null) {
+            ColumnVector res = condition.evaluate(batch, sel, selSize);
+
+            selSize = 0;
+
+            // Compacting in place is safe because the write index never passes the read index.
+            for (int i = 0; i < size; i++) {
+                int pos = sel[i];
+
+                if (!res.nulls[pos] && res.booleans[pos]) {
+                    sel[selSize++] = pos;
+                }
+            }
+        }
+
+        if (projection != null) {
+            projection.project(batch, accessor, rowBuilder, rows, sel, selSize, out);
+        } else if (rowProjection != null) {
+            for (int i = 0; i < selSize; i++) {
+                out.add(rowProjection.apply(rows.get(sel[i])));
+            }
+        } else {
+            for (int i = 0; i < selSize; i++) {
+                out.add(rows.get(sel[i]));
+            }
+        }
+
+        return selSize;
+    }
+
+    /** Vectorized projection. */
+    private static final class Projection {
+        /** Input column index for every output column that is copied from the input row, {@code -1} for the computed ones. */
+        private final int[] inputRefs;
+
+        private final @Nullable VectorExpression[] exprs;
+
+        private final @Nullable SqlTypeName[] types;
+
+        private final ColumnVector[] results;
+
+        Projection(int[] inputRefs, @Nullable VectorExpression[] exprs, @Nullable SqlTypeName[] types) {
+            this.inputRefs = inputRefs;
+            this.exprs = exprs;
+            this.types = types;
+
+            results = new ColumnVector[exprs.length];
+        }
+
+        <RowT> void project(
+                ColumnBatch batch,
+                RowAccessor<RowT> accessor,
+                RowBuilder<RowT> rowBuilder,
+                List<RowT> rows,
+                int[] sel,
+                int selSize,
+                Collection<RowT> out
+        ) {
+            if (selSize == 0) {
+                return;
+            }
+
+            for (int j = 0; j < exprs.length; j++) {
+                if (exprs[j] != null) {
+                    results[j] = exprs[j].evaluate(batch, sel, selSize);
+                }
+            }
+
+            for (int i = 0; i < selSize; i++) {
+                int pos = sel[i];
+                RowT row = rows.get(pos);
+
+                for (int j = 0; j < exprs.length; j++) {
+                    rowBuilder.addField(inputRefs[j] >= 0 ? accessor.get(inputRefs[j], row) : results[j].get(pos, types[j]));
+                }
+
+                out.add(rowBuilder.buildAndReset());
+            }
+        }
+    }
+}
@@ -0,0 +1,495 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash join which is able to spill its inputs to disk (grace hash join).
+ *
+ * <p>The node materializes the right input in memory, reserving memory from the {@link ExecutionContext#memoryQuota() memory
+ * quota} of the query. If the whole right input fits into the quota, the node simply delegates to a regular {@link HashJoinNode}
+ * which streams the left input through. Otherwise, both inputs are hash-partitioned by the join key and written to disk, and
+ * then every pair of partitions is joined by a separate {@link HashJoinNode}. Since rows with equal join keys always end up in
+ * partitions with the same index, the result is the same for every join type supported by the hash join.
+ */
+public class GraceHashJoinNode<RowT> extends AbstractNode<RowT> {
+    /** Number of bits of the join key hash used to choose a partition. */
+    private static final int PARTITION_BITS = 4;
+
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+
+    private final Supplier<HashJoinNode<RowT>> joinFactory;
+
+    private final int[] leftKeys;
+
+    private final int[] rightKeys;
+
+    private final RowFactory<RowT> leftRowFactory;
+
+    private final RowFactory<RowT> rightRowFactory;
+
+    private int requested;
+
+    private int waitingLeft;
+
+    private int waitingRight;
+
+    /** Right rows kept in memory until either the right input is over or the memory quota is exhausted. */
+    private final List<RowT> rightRows = new ArrayList<>();
+
+    /** Amount of memory reserved for {@link #rightRows}. */
+    private long reserved;
+
+    private @Nullable List<SpillFile<RowT>> leftPartitions;
+
+    private @Nullable List<SpillFile<RowT>> rightPartitions;
+
+    /** Index of the next pair of partitions to join. */
+    private int nextPartition;
+
+    /** Join of the current pair of partitions, or the join of the whole inputs if nothing was spilled. */
+    private @Nullable HashJoinNode<RowT> join;
+
+    /** Passes the left input to {@link #join} if nothing was spilled. */
+    private @Nullable LeftInput leftInput;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param joinFactory Factory of the hash join nodes used to join the inputs, or pairs of partitions of the inputs.
+     * @param joinInfo Join info.
+     * @param leftRowFactory Factory of the left rows used to restore rows spilled to disk.
+     * @param rightRowFactory Factory of the right rows used to restore rows spilled to disk.
+     */
+    public GraceHashJoinNode(
+            ExecutionContext<RowT> ctx,
+            Supplier<HashJoinNode<RowT>> joinFactory,
+            JoinInfo joinInfo,
+            RowFactory<RowT> leftRowFactory,
+            RowFactory<RowT> rightRowFactory
+    ) {
+        super(ctx);
+
+        this.joinFactory = joinFactory;
+        this.leftKeys = joinInfo.leftKeys.toIntArray();
+        this.rightKeys = joinInfo.rightKeys.toIntArray();
+        this.leftRowFactory = leftRowFactory;
+        this.rightRowFactory = rightRowFactory;
+
+        assert leftKeys.length == rightKeys.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert !nullOrEmpty(sources()) && sources().size() == 2;
+        assert rowsCnt > 0 && requested == 0;
+
+        onRequestReceived();
+
+        requested = rowsCnt;
+
+        if (join != null) {
+            join.request(rowsCnt);
+        } else if (waitingRight == 0) {
+            rightSource().request(waitingRight = inBufSize);
+        } else if (waitingRight == NOT_WAITING && waitingLeft == NOT_WAITING && !hasPendingPartitions()) {
+            requested = 0;
+            downstream().end();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        requested = 0;
+        waitingLeft = 0;
+        waitingRight = 0;
+
+        releaseResources();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        releaseResources();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        if (idx == 0) {
+            return new Downstream<>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushLeft(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endLeft();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    GraceHashJoinNode.this.onError(e);
+                }
+            };
+        } else if (idx == 1) {
+            return new Downstream<>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushRight(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endRight();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    GraceHashJoinNode.this.onError(e);
+                }
+            };
+        }
+
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    protected void dumpDebugInfo0(IgniteStringBuilder buf) {
+        buf.app("class=").app(getClass().getSimpleName())
+                .app(", requested=").app(requested)
+                .app(", waitingLeft=").app(waitingLeft)
+                .app(", waitingRight=").app(waitingRight)
+                .app(", spilled=").app(rightPartitions != null);
+    }
+
+    private void pushRight(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        onRowReceived();
+
+        waitingRight--;
+
+        if (rightPartitions != null) {
+            write(rightPartitions, rightRowFactory, rightKeys, row);
+        } else {
+            long size = RowSizeEstimator.estimate(context().rowAccessor(), row);
+
+            if (context().memoryQuota().tryReserve(size)) {
+                reserved += size;
+
+                rightRows.add(row);
+            } else {
+                spillRight();
+
+                write(rightPartitions, rightRowFactory, rightKeys, row);
+            }
+        }
+
+        if (waitingRight == 0) {
+            rightSource().request(waitingRight = inBufSize);
+        }
+    }
+
+    private void endRight() throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        waitingRight = NOT_WAITING;
+
+        if (rightPartitions == null) {
+            // The whole right input fits into memory, so just stream the left input through the regular hash join.
+            leftInput = new LeftInput(context());
+
+            startJoin(leftInput, new ScanNode<>(context(), rightRows));
+        } else {
+            rightPartitions.forEach(GraceHashJoinNode::finishWrite);
+
+            leftPartitions = createPartitions();
+
+            leftSource().request(waitingLeft = inBufSize);
+        }
+    }
+
+    private void pushLeft(RowT row) throws Exception {
+        assert downstream() != null;
+
+        onRowReceived();
+
+        if (leftInput != null) {
+            leftInput.downstream().push(row);
+
+            return;
+        }
+
+        assert waitingLeft > 0;
+
+        waitingLeft--;
+
+        write(leftPartitions, leftRowFactory, leftKeys, row);
+
+        if (waitingLeft == 0) {
+            leftSource().request(waitingLeft = inBufSize);
+        }
+    }
+
+    private void endLeft() throws Exception {
+        assert downstream() != null;
+
+        if (leftInput != null) {
+            leftInput.downstream().end();
+
+            return;
+        }
+
+        assert waitingLeft > 0;
+
+        waitingLeft = NOT_WAITING;
+
+        leftPartitions.forEach(GraceHashJoinNode::finishWrite);
+
+        joinNextPartition();
+    }
+
+    /** Moves rows kept in memory to disk, switching the node to the partitioned mode. */
+    private void spillRight() {
+        rightPartitions = createPartitions();
+
+        for (RowT row : rightRows) {
+            write(rightPartitions, rightRowFactory, rightKeys, row);
+        }
+
+        rightRows.clear();
+
+        context().memoryQuota().release(reserved);
+        reserved = 0;
+    }
+
+    private void joinNextPartition() throws Exception {
+        closeJoin();
+
+        while (hasPendingPartitions()) {
+            int idx = nextPartition++;
+
+            SpillFile<RowT> left = leftPartitions.get(idx);
+            SpillFile<RowT> right = rightPartitions.get(idx);
+
+            if (left == null && right == null) {
+                continue;
+            }
+
+            startJoin(
+                    new ScanNode<>(context(), left == null ? List.of() : left),
+                    new ScanNode<>(context(), right == null ? List.of() : right)
+            );
+
+            return;
+        }
+
+        if (requested > 0) {
+            requested = 0;
+            downstream().end();
+        }
+    }
+
+    private void startJoin(Node<RowT> left, Node<RowT> right) throws Exception {
+        HashJoinNode<RowT> join0 = joinFactory.get();
+
+        join0.register(List.of(left, right));
+        join0.onRegister(new Downstream<>() {
+            /** {@inheritDoc} */
+            @Override
+            public void push(RowT row) throws Exception {
+                requested--;
+
+                downstream().push(row);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void end() throws Exception {
+                if (leftInput != null) {
+                    requested = 0;
+                    downstream().end();
+                } else {
+                    execute(GraceHashJoinNode.this::joinNextPartition);
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onError(Throwable e) {
+                GraceHashJoinNode.this.onError(e);
+            }
+        });
+
+        join = join0;
+
+        if (requested > 0) {
+            join0.request(requested);
+        }
+    }
+
+    private boolean hasPendingPartitions() {
+        return leftPartitions != null && nextPartition < PARTITIONS;
+    }
+
+    private void write(List<SpillFile<RowT>> partitions, RowFactory<RowT> factory, int[] keys, RowT row) {
+        int idx = partition(row, keys);
+
+        SpillFile<RowT> part = partitions.get(idx);
+
+        if (part == null) {
+            part = context().spillManager().createFile(context().rowAccessor(), factory);
+
+            partitions.set(idx, part);
+        }
+
+        part.write(row);
+    }
+
+    /** Chooses a partition for the row. Must be consistent with the equality of join keys used by {@link HashJoinNode}. */
+    private int partition(RowT row, int[] keys) {
+        RowHandler<RowT> handler = context().rowAccessor();
+
+        int hash = 0;
+
+        for (int key : keys) {
+            hash += Objects.hashCode(handler.get(key, row));
+        }
+
+        return (hash * 0x9E3779B9) >>> (Integer.SIZE - PARTITION_BITS);
+    }
+
+    private void closeJoin() {
+        if (join != null) {
+            Commons.closeQuiet(join);
+
+            join = null;
+        }
+    }
+
+    private void releaseResources() {
+        closeJoin();
+
+        leftInput = null;
+        nextPartition = 0;
+
+        closePartitions(leftPartitions);
+        closePartitions(rightPartitions);
+
+        leftPartitions = null;
+        rightPartitions = null;
+
+        rightRows.clear();
+
+        context().memoryQuota().release(reserved);
+        reserved = 0;
+    }
+
+    private Node<RowT> leftSource() {
+        return sources().get(0);
+    }
+
+    private Node<RowT> rightSource() {
+        return sources().get(1);
+    }
+
+    private static <RowT> List<SpillFile<RowT>> createPartitions() {
+        List<SpillFile<RowT>> partitions = new ArrayList<>(PARTITIONS);
+
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions.add(null);
+        }
+
+        return partitions;
+    }
+
+    private static void finishWrite(@Nullable SpillFile<?> file) {
+        if (file != null) {
+            file.finishWrite();
+        }
+    }
+
+    private static void closePartitions(@Nullable List<? extends SpillFile<?>> partitions) {
+        if (partitions != null) {
+            partitions.forEach(Commons::closeQuiet);
+        }
+    }
+
+    /** Source of the left input of the hash join, which passes through the rows of the left input of this node. */
+    private class LeftInput extends AbstractNode<RowT> {
+        private LeftInput(ExecutionContext<RowT> ctx) {
+            super(ctx);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(int rowsCnt) throws Exception {
+            onRequestReceived();
+
+            leftSource().request(rowsCnt);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void register(List<Node<RowT>> sources) {
+            throw new UnsupportedOperationException();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void rewindInternal() {
+            // No-op.
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Downstream<RowT> requestDownstream(int idx) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -40,12 +40,30 @@ import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorsState;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateRow;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryQuota;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * HashAggregateNode.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
+ *
+ * <p>Every new group reserves memory from the {@link ExecutionContext#memoryQuota() memory quota} of the query. Once the quota
+ * is exhausted, input rows that don't belong to any of the groups kept in memory are hash-partitioned by the group key and
+ * written to disk. When the input is over, the groups kept in memory are emitted first, and then the spilled partitions are
+ * aggregated one by one.
  */
 public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Number of bits of the group key hash used to choose a spill partition. */
+    private static final int SPILL_PARTITION_BITS = 4;
+
+    private static final int SPILL_PARTITIONS = 1 << SPILL_PARTITION_BITS;
+
+    /** Estimated size of the state of a single accumulator. */
+    private static final int ACCUMULATOR_STATE_SIZE = 32;
+
     private final AggregateType type;
 
     private final RowFactory<RowT> rowFactory;
@@ -57,6 +75,9 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
     private final List<AccumulatorWrapper<RowT>> accs;
 
+    /** Factory to restore spilled input rows. {@code null} if spilling is disabled. */
+    private final @Nullable RowFactory<RowT> inputRowFactory;
+
     private int requested;
 
     private int waiting;
@@ -71,10 +92,24 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
     public HashAggregateNode(
             ExecutionContext<RowT> ctx, AggregateType type, List<ImmutableBitSet> grpSets,
             List<AccumulatorWrapper<RowT>> accumulators, RowFactory<RowT> rowFactory) {
+        this(ctx, type, grpSets, accumulators, rowFactory, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param inputRowFactory Factory of the input rows used to restore rows spilled to disk. If {@code null}, or if the memory
+     *         quota of the query is unlimited, then all the groups are kept in memory.
+     */
+    public HashAggregateNode(
+            ExecutionContext<RowT> ctx, AggregateType type, List<ImmutableBitSet> grpSets,
+            List<AccumulatorWrapper<RowT>> accumulators, RowFactory<RowT> rowFactory, @Nullable RowFactory<RowT> inputRowFactory) {
         super(ctx);
 
         this.type = type;
         this.rowFactory = rowFactory;
+        this.inputRowFactory = ctx.memoryQuota().unlimited() ? null : inputRowFactory;
 
         assert grpSets.size() <= Byte.MAX_VALUE : "Too many grouping sets";
 
@@ -151,6 +186,14 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         groupings.forEach(Grouping::reset);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        groupings.forEach(Grouping::releaseSpilled);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected Downstream<RowT> requestDownstream(int idx) {
@@ -226,6 +269,15 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         private final Map<GroupKey, AggregateRow<RowT>> groups = new HashMap<>();
 
+        /** Spilled input rows partitioned by the group key. {@code null} until the grouping spills. */
+        private @Nullable List<SpillFile<RowT>> partitions;
+
+        /** Index of the next spilled partition to aggregate. */
+        private int nextPartition;
+
+        /** Amount of memory reserved for the groups kept in memory. */
+        private long reserved;
+
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
             this.grpFields = grpFields;
@@ -242,9 +294,23 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         private void reset() {
             groups.clear();
 
+            releaseSpilled();
+
             init();
         }
 
+        private void releaseSpilled() {
+            if (partitions != null) {
+                partitions.forEach(Commons::closeQuiet);
+
+                partitions = null;
+                nextPartition = 0;
+            }
+
+            context().memoryQuota().release(reserved);
+            reserved = 0;
+        }
+
         private void add(RowT row) {
             RowHandler<RowT> handler = context().rowAccessor();
 
@@ -260,10 +326,117 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
             GroupKey grpKey = b.build();
 
-            AggregateRow<RowT> aggRow = groups.computeIfAbsent(grpKey, k -> create());
+            if (inputRowFactory == null) {
+                AggregateRow<RowT> aggRow = groups.computeIfAbsent(grpKey, k -> create());
+                aggRow.update(accs, grpFields, row);
+
+                return;
+            }
+
+            AggregateRow<RowT> aggRow = groups.get(grpKey);
+
+            if (aggRow == null) {
+                long size = groupSize(row);
+
+                if (!context().memoryQuota().tryReserve(size)) {
+                    spill(grpKey, row);
+
+                    return;
+                }
+
+                reserved += size;
+
+                aggRow = create();
+                groups.put(grpKey, aggRow);
+            }
+
             aggRow.update(accs, grpFields, row);
         }
 
+        private void spill(GroupKey grpKey, RowT row) {
+            if (partitions == null) {
+                partitions = new ArrayList<>(SPILL_PARTITIONS);
+
+                for (int i = 0; i < SPILL_PARTITIONS; i++) {
+                    partitions.add(null);
+                }
+            }
+
+            int idx = (grpKey.hashCode() * 0x9E3779B9) >>> (Integer.SIZE - SPILL_PARTITION_BITS);
+
+            SpillFile<RowT> part = partitions.get(idx);
+
+            if (part == null) {
+                part = context().spillManager().createFile(context().rowAccessor(), inputRowFactory);
+
+                partitions.set(idx, part);
+            }
+
+            part.write(row);
+        }
+
+        /**
+         * Aggregates the next non-empty spilled partition, if any. The partition is aggregated in memory regardless of the quota.
+         */
+        private void loadNextPartition() {
+            assert groups.isEmpty();
+
+            QueryMemoryQuota quota = context().memoryQuota();
+
+            quota.release(reserved);
+            reserved = 0;
+
+            RowHandler<RowT> handler = context().rowAccessor();
+
+            while (groups.isEmpty() && hasPendingPartitions()) {
+                SpillFile<RowT> part = partitions.get(nextPartition);
+
+                partitions.set(nextPartition++, null);
+
+                if (part == null) {
+                    continue;
+                }
+
+                try {
+                    part.finishWrite();
+
+                    for (RowT row : part) {
+                        GroupKey.Builder b = GroupKey.builder(grpFields.cardinality());
+
+                        for (int field : grpFields) {
+                            b.add(handler.get(field, row));
+                        }
+
+                        GroupKey grpKey = b.build();
+
+                        AggregateRow<RowT> aggRow = groups.get(grpKey);
+
+                        if (aggRow == null) {
+                            long size = groupSize(row);
+
+                            quota.reserve(size);
+                            reserved += size;
+
+                            aggRow = create();
+                            groups.put(grpKey, aggRow);
+                        }
+
+                        aggRow.update(accs, grpFields, row);
+                    }
+                } finally {
+                    part.close();
+                }
+            }
+        }
+
+        private boolean hasPendingPartitions() {
+            return partitions != null && nextPartition < partitions.size();
+        }
+
+        private long groupSize(RowT row) {
+            return RowSizeEstimator.estimate(context().rowAccessor(), row) + (long) accs.size() * ACCUMULATOR_STATE_SIZE;
+        }
+
         /**
          * Returns up to {@code cnt} rows collected by the given node group by group.
          *
@@ -271,6 +444,10 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
          * @return Actually sent rows number.
          */
         private List<RowT> getRows(int cnt) {
+            if (groups.isEmpty() && hasPendingPartitions()) {
+                loadNextPartition();
+            }
+
             Iterator<Map.Entry<GroupKey, AggregateRow<RowT>>> it = groups.entrySet().iterator();
 
             int rowNum = Math.min(cnt, groups.size());
@@ -299,6 +476,11 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
                 it.remove();
             }
 
+            if (groups.isEmpty()) {
+                context().memoryQuota().release(reserved);
+                reserved = 0;
+            }
+
             return res;
         }
 
@@ -318,7 +500,7 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         }
 
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && !hasPendingPartitions();
         }
     }
 }
@@ -21,15 +21,27 @@ import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryQuota;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SortedRunsMerger;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IgniteMath;
 import org.apache.ignite.internal.util.BoundedPriorityQueue;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ *
+ * <p>An unlimited sort reserves memory for the buffered rows from the {@link ExecutionContext#memoryQuota() memory quota} of
+ * the query. Once the quota is exhausted, the buffered rows are written to disk as a sorted run, and the runs are merged
+ * together when the input is over (external merge sort).
  */
 public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
     /** How many rows are requested by downstream. */
@@ -51,6 +63,20 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
     /** Reverse-ordered rows in case of limited sort. */
     private List<RowT> reversed;
 
+    private final Comparator<RowT> comp;
+
+    /** Factory to restore spilled rows. {@code null} if spilling is disabled. */
+    private final @Nullable RowFactory<RowT> spillRowFactory;
+
+    /** Sorted runs spilled to disk. */
+    private final List<SpillFile<RowT>> runs = new ArrayList<>();
+
+    /** Merged output of the spilled runs and the rows left in memory. */
+    private @Nullable Iterator<RowT> merged;
+
+    /** Amount of memory reserved for the buffered rows. */
+    private long reserved;
+
     /**
      * Constructor.
      *
@@ -63,6 +89,25 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             Comparator<RowT> comp,
             long offset,
             long fetch
+    ) {
+        this(ctx, comp, offset, fetch, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param comp Rows comparator.
+     * @param offset Offset.
+     * @param fetch Limit.
+     * @param rowFactory Factory of the input rows used to restore rows spilled to disk. If {@code null}, or if the sort
+     *         is limited, or if the memory quota of the query is unlimited, then all the rows are kept in memory.
+     */
+    public SortNode(ExecutionContext<RowT> ctx,
+            Comparator<RowT> comp,
+            long offset,
+            long fetch,
+            @Nullable RowFactory<RowT> rowFactory
     ) {
         super(ctx);
 
@@ -78,6 +123,8 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         this.fetch = fetch;
         this.offset = offset;
+        this.comp = comp;
+        this.spillRowFactory = fetch == -1 && !ctx.memoryQuota().unlimited() ? rowFactory : null;
 
         long limit = fetch == -1 ? -1 : IgniteMath.addExact(fetch, offset);
 
@@ -107,6 +154,16 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
         if (reversed != null) {
             reversed.clear();
         }
+
+        releaseSpilled();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        releaseSpilled();
     }
 
     /** {@inheritDoc} */
@@ -154,6 +211,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         waiting--;
 
+        if (spillRowFactory != null) {
+            reserve(row);
+        }
+
         rows.add(row);
 
         if (waiting == 0) {
@@ -169,6 +230,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         waiting = NOT_WAITING;
 
+        if (!runs.isEmpty()) {
+            prepareMerge();
+        }
+
         flush();
     }
 
@@ -178,7 +243,8 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 .app(", requested=").app(requested)
                 .app(", waiting=").app(waiting)
                 .app(", fetch=").app(fetch)
-                .app(", offset=").app(offset);
+                .app(", offset=").app(offset)
+                .app(", spilledRuns=").app(runs.size());
     }
 
     private void flush() throws Exception {
@@ -210,10 +276,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 processed = 0;
             }
 
-            while (requested > 0 && !(reversed == null ? rows.isEmpty() : reversed.isEmpty())) {
+            while (requested > 0 && !isEmpty()) {
                 requested--;
 
-                downstream().push(reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1));
+                downstream().push(nextRow());
 
                 if (++processed >= inBufSize && requested > 0) {
                     // allow others to do their job
@@ -223,7 +289,9 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 }
             }
 
-            if (reversed == null ? rows.isEmpty() : reversed.isEmpty()) {
+            if (isEmpty()) {
+                releaseSpilled();
+
                 if (requested > 0) {
                     downstream().end();
                 }
@@ -234,4 +302,87 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             inLoop = false;
         }
     }
+
+    private boolean isEmpty() {
+        if (merged != null) {
+            return !merged.hasNext();
+        }
+
+        return reversed == null ? rows.isEmpty() : reversed.isEmpty();
+    }
+
+    private RowT nextRow() {
+        if (merged != null) {
+            return merged.next();
+        }
+
+        return reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
+    }
+
+    private void reserve(RowT row) {
+        QueryMemoryQuota quota = context().memoryQuota();
+        long size = RowSizeEstimator.estimate(context().rowAccessor(), row);
+
+        if (!quota.tryReserve(size)) {
+            // Too short runs make the merge phase expensive, so the buffer is spilled only when it's big enough.
+            if (rows.size() >= inBufSize) {
+                spill();
+            }
+
+            quota.reserve(size);
+        }
+
+        reserved += size;
+    }
+
+    /** Writes buffered rows to disk as a sorted run and releases the memory they hold. */
+    private void spill() {
+        SpillFile<RowT> run = context().spillManager().createFile(context().rowAccessor(), spillRowFactory);
+
+        runs.add(run);
+
+        while (!rows.isEmpty()) {
+            run.write(rows.poll());
+        }
+
+        run.finishWrite();
+
+        context().memoryQuota().release(reserved);
+        reserved = 0;
+    }
+
+    private void prepareMerge() {
+        List<Iterator<RowT>> sources = new ArrayList<>(runs.size() + 1);
+
+        for (SpillFile<RowT> run : runs) {
+            sources.add(run.iterator());
+        }
+
+        if (!rows.isEmpty()) {
+            // Rows left in memory are merged as just another sorted run.
+            sources.add(new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return !rows.isEmpty();
+                }
+
+                @Override
+                public RowT next() {
+                    return rows.poll();
+                }
+            });
+        }
+
+        merged = new SortedRunsMerger<>(sources, comp);
+    }
+
+    private void releaseSpilled() {
+        merged = null;
+
+        runs.forEach(Commons::closeQuiet);
+        runs.clear();
+
+        context().memoryQuota().release(reserved);
+        reserved = 0;
+    }
 }
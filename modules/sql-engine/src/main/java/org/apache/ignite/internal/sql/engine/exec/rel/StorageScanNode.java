@@ -17,6 +17,9 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.Flow;
@@ -27,6 +30,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.exp.vector.VectorizedCalc;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -40,6 +44,14 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
 
     private final @Nullable Function<RowT, RowT> rowTransformer;
 
+    private final @Nullable VectorizedCalc<RowT> calc;
+
+    /** Rows processed by {@link #calc}. */
+    private final Deque<RowT> outBuff = new ArrayDeque<>();
+
+    /** Reusable list of the rows to pass to {@link #calc}. */
+    private final List<RowT> batch = new ArrayList<>();
+
     private int requested;
 
     private int waiting;
@@ -67,13 +79,32 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
             ExecutionContext<RowT> ctx,
             @Nullable Predicate<RowT> filters,
             @Nullable Function<RowT, RowT> rowTransformer
+    ) {
+        this(ctx, filters, rowTransformer, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param filters Optional filter to filter out rows.
+     * @param rowTransformer Optional projection function.
+     * @param calc Optional vectorized filter and projection, used instead of {@code filters} and {@code rowTransformer}.
+     */
+    public StorageScanNode(
+            ExecutionContext<RowT> ctx,
+            @Nullable Predicate<RowT> filters,
+            @Nullable Function<RowT, RowT> rowTransformer,
+            @Nullable VectorizedCalc<RowT> calc
     ) {
         super(ctx);
 
         assert ctx.txAttributes() != null : "Transaction not initialized.";
+        assert calc == null || (filters == null && rowTransformer == null);
 
         this.filters = filters;
         this.rowTransformer = rowTransformer;
+        this.calc = calc;
     }
 
     /** {@inheritDoc} */
@@ -110,6 +141,7 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         dataRequested = false;
 
         inBuff = new LinkedBlockingQueue<>(inBufSize);
+        outBuff.clear();
 
         if (activeSubscription != null) {
             activeSubscription.cancel();
@@ -128,11 +160,11 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
     protected abstract Publisher<RowT> scan();
 
     private void push() throws Exception {
-        if (requested > 0 && !inBuff.isEmpty()) {
+        if (requested > 0 && hasBufferedRows()) {
             int processed = 0;
             inLoop = true;
             try {
-                while (requested > 0 && !inBuff.isEmpty()) {
+                while (requested > 0 && hasBufferedRows()) {
                     if (processed++ >= inBufSize) {
                         // Allow others to do their job.
                         execute(this::push);
@@ -140,17 +172,12 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
                         return;
                     }
 
-                    RowT row = inBuff.poll();
+                    RowT row = nextRow();
 
-                    if (filters != null && !filters.test(row)) {
-                        onRowFiltered();
+                    if (row == null) {
                         continue;
                     }
 
-                    if (rowTransformer != null) {
-                        row = rowTransformer.apply(row);
-                    }
-
                     requested--;
                     downstream().push(row);
                 }
@@ -166,7 +193,7 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         }
 
         if (requested > 0 && waiting == NOT_WAITING) {
-            if (inBuff.isEmpty()) {
+            if (!hasBufferedRows()) {
                 requested = 0;
                 downstream().end();
             } else {
@@ -175,6 +202,87 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         }
     }
 
+    /**
+     * Processes a row that passed the filter and the projection.
+     *
+     * <p>Nodes that consume the scanned rows themselves (e.g. compute aggregates over them) override this method.
+     *
+     * @param row Scanned row.
+     * @return Row to push to the downstream, or {@code null} if the row was consumed by the node.
+     */
+    protected @Nullable RowT processRow(RowT row) {
+        return row;
+    }
+
+    /**
+     * Returns the next row produced by the node itself. The method is invoked only when the datasource is exhausted and all the
+     * scanned rows were processed.
+     *
+     * @return Row to push to the downstream, or {@code null} if there are no more rows.
+     */
+    protected @Nullable RowT pendingRow() {
+        return null;
+    }
+
+    /** Returns {@code true} if {@link #pendingRow()} has more rows to return. */
+    protected boolean hasPendingRows() {
+        return false;
+    }
+
+    private boolean hasBufferedRows() {
+        return !inBuff.isEmpty() || !outBuff.isEmpty() || (waiting == NOT_WAITING && hasPendingRows());
+    }
+
+    /**
+     * Returns the next row to push to the downstream, or {@code null} if the row was filtered out.
+     */
+    private @Nullable RowT nextRow() {
+        if (inBuff.isEmpty() && outBuff.isEmpty()) {
+            return pendingRow();
+        }
+
+        if (calc != null) {
+            if (outBuff.isEmpty()) {
+                processBatch(calc);
+            }
+
+            RowT row = outBuff.poll();
+
+            return row == null ? null : processRow(row);
+        }
+
+        RowT row = inBuff.poll();
+
+        if (filters != null && !filters.test(row)) {
+            onRowFiltered();
+
+            return null;
+        }
+
+        if (rowTransformer != null) {
+            row = rowTransformer.apply(row);
+        }
+
+        return processRow(row);
+    }
+
+    /**
+     * Moves all the buffered rows through the vectorized calc.
+     */
+    private void processBatch(VectorizedCalc<RowT> calc) {
+        for (int i = inBuff.size(); i > 0; i--) {
+            batch.add(inBuff.poll());
+        }
+
+        int processed = calc.process(batch, outBuff);
+
+        if (calc.hasFilter()) {
+            filteredRows += batch.size() - processed;
+        }
+
+        batch.clear();
+    }
+
     private void requestNextBatch() {
         if (waiting == NOT_WAITING) {
             return;
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.PartitionProvider;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorsState;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateRow;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Table scan that computes partial (map) aggregates of the scanned rows instead of passing the rows to the downstream.
+ *
+ * <p>The node replaces a pair of a {@link TableScanNode} and a map {@link HashAggregateNode}: group keys and arguments of the
+ * accumulators are read right from the rows produced by the storage, which are views over binary tuples, so only the columns
+ * referenced by the aggregate are ever decoded, and neither projected rows nor extra hop between the nodes are involved.
+ *
+ * <p>Partial aggregation pays off only if it reduces the number of rows significantly. Once the number of groups gets too close to
+ * the number of scanned rows, or exceeds {@link #MAX_GROUPS}, or the memory quota of the query is exhausted, the node switches
+ * to the pass-through mode: every subsequent row is converted to a partial aggregate of its own and is pushed to the downstream
+ * right away. This is safe since the map aggregates are merged by the reduce phase anyway. The groups collected before the switch
+ * are emitted when the scan is over.
+ */
+public class TableScanAggregateNode<RowT> extends TableScanNode<RowT> {
+    /** Number of rows to scan before the reduction ratio of the aggregation is evaluated. */
+    static final int ADAPTIVE_CHECK_ROWS = 10_000;
+
+    /** If the ratio of groups to scanned rows exceeds this threshold, the aggregation is considered to be useless. */
+    static final double HIGH_CARDINALITY_RATIO = 0.5;
+
+    /** Maximal number of groups kept in memory by a single node. */
+    static final int MAX_GROUPS = 1 << 16;
+
+    /** Estimated size of the state of a single accumulator. */
+    private static final int ACCUMULATOR_STATE_SIZE = 32;
+
+    /** Identifier of the only grouping set supported by the node. */
+    private static final byte GROUP_ID = 0;
+
+    private final ImmutableBitSet grpFields;
+
+    private final List<AccumulatorWrapper<RowT>> accs;
+
+    private final RowFactory<RowT> outputRowFactory;
+
+    private final Map<GroupKey, AggregateRow<RowT>> groups = new HashMap<>();
+
+    private @Nullable Iterator<Map.Entry<GroupKey, AggregateRow<RowT>>> groupsIterator;
+
+    private boolean passThrough;
+
+    /** Number of rows aggregated in memory. */
+    private long aggregatedRows;
+
+    /** Amount of memory reserved for the groups kept in memory. */
+    private long reserved;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param rowFactory Factory of the scanned rows.
+     * @param schemaTable Schema table.
+     * @param table Internal table.
+     * @param partitionProvider List of pairs containing the partition number to scan with the corresponding enlistment
+     *         consistency token.
+     * @param filters Optional filter to filter out rows.
+     * @param requiredColumns Optional set of column of interest.
+     * @param grpFields Fields of the scanned row to group the rows by.
+     * @param accumulators Accumulators of the map phase of the aggregation.
+     * @param outputRowFactory Factory of the rows emitted by the node.
+     */
+    public TableScanAggregateNode(
+            ExecutionContext<RowT> ctx,
+            RowFactory<RowT> rowFactory,
+            IgniteTable schemaTable,
+            ScannableTable table,
+            PartitionProvider<RowT> partitionProvider,
+            @Nullable Predicate<RowT> filters,
+            @Nullable ImmutableIntList requiredColumns,
+            ImmutableBitSet grpFields,
+            List<AccumulatorWrapper<RowT>> accumulators,
+            RowFactory<RowT> outputRowFactory
+    ) {
+        super(ctx, rowFactory, schemaTable, table, partitionProvider, filters, null, null, requiredColumns);
+
+        assert accumulators.stream().noneMatch(acc -> acc.isDistinct() || acc.isGrouping());
+
+        this.grpFields = grpFields;
+        this.accs = accumulators;
+        this.outputRowFactory = outputRowFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected @Nullable RowT processRow(RowT row) {
+        if (passThrough) {
+            return toOutputRow(groupKey(row), singleRowGroup(row));
+        }
+
+        GroupKey grpKey = groupKey(row);
+
+        AggregateRow<RowT> aggRow = groups.get(grpKey);
+
+        if (aggRow == null) {
+            if (groups.size() >= MAX_GROUPS || !reserve(row)) {
+                passThrough = true;
+
+                return toOutputRow(grpKey, singleRowGroup(row));
+            }
+
+            aggRow = createGroup();
+            groups.put(grpKey, aggRow);
+        }
+
+        aggRow.update(accs, grpFields, row);
+
+        if (++aggregatedRows == ADAPTIVE_CHECK_ROWS && groups.size() > aggregatedRows * HIGH_CARDINALITY_RATIO) {
+            passThrough = true;
+        }
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected @Nullable RowT pendingRow() {
+        if (groupsIterator == null) {
+            groupsIterator = groups.entrySet().iterator();
+        }
+
+        if (!groupsIterator.hasNext()) {
+            return null;
+        }
+
+        Map.Entry<GroupKey, AggregateRow<RowT>> entry = groupsIterator.next();
+
+        groupsIterator.remove();
+
+        RowT row = toOutputRow(entry.getKey(), entry.getValue());
+
+        if (groups.isEmpty()) {
+            releaseReserved();
+        }
+
+        return row;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean hasPendingRows() {
+        return !groups.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        super.rewindInternal();
+
+        reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void closeInternal() {
+        super.closeInternal();
+
+        reset();
+    }
+
+    @Override
+    protected void dumpMetrics0(IgniteStringBuilder writer) {
+        super.dumpMetrics0(writer);
+        writer.app(", aggregatedRows=").app(aggregatedRows).app(", passThrough=").app(passThrough);
+    }
+
+    /** Returns {@code true} if the node has given up the aggregation and emits a partial aggregate per scanned row. */
+    boolean passThrough() {
+        return passThrough;
+    }
+
+    private void reset() {
+        groups.clear();
+        groupsIterator = null;
+        passThrough = false;
+        aggregatedRows = 0;
+
+        releaseReserved();
+    }
+
+    private boolean reserve(RowT row) {
+        if (context().memoryQuota().unlimited()) {
+            return true;
+        }
+
+        long size = RowSizeEstimator.estimate(context().rowAccessor(), row) + (long) accs.size() * ACCUMULATOR_STATE_SIZE;
+
+        if (!context().memoryQuota().tryReserve(size)) {
+            return false;
+        }
+
+        reserved += size;
+
+        return true;
+    }
+
+    private void releaseReserved() {
+        context().memoryQuota().release(reserved);
+        reserved = 0;
+    }
+
+    private GroupKey groupKey(RowT row) {
+        RowHandler<RowT> handler = context().rowAccessor();
+
+        GroupKey.Builder b = GroupKey.builder(grpFields.cardinality());
+
+        for (int field : grpFields) {
+            b.add(handler.get(field, row));
+        }
+
+        return b.build();
+    }
+
+    private AggregateRow<RowT> createGroup() {
+        return new AggregateRow<>(new AccumulatorsState(accs.size()), Int2ObjectMaps.emptyMap());
+    }
+
+    private AggregateRow<RowT> singleRowGroup(RowT row) {
+        AggregateRow<RowT> aggRow = createGroup();
+
+        aggRow.update(accs, grpFields, row);
+
+        return aggRow;
+    }
+
+    private RowT toOutputRow(GroupKey grpKey, AggregateRow<RowT> aggRow) {
+        Object[] fields = aggRow.createOutput(AggregateType.MAP, accs, grpFields, GROUP_ID);
+
+        for (int i = 0; i < grpKey.fieldsCount(); i++) {
+            fields[i] = grpKey.field(i);
+        }
+
+        aggRow.writeTo(AggregateType.MAP, accs, fields, grpFields.cardinality(), grpFields, GROUP_ID);
+
+        return outputRowFactory.create(fields);
+    }
+}
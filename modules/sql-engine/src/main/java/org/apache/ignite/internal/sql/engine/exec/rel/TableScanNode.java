@@ -29,6 +29,7 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.PartitionProvider;
 import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
+import org.apache.ignite.internal.sql.engine.exec.exp.vector.VectorizedCalc;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.TransformingIterator;
@@ -74,7 +75,35 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
             @Nullable Function<RowT, RowT> rowTransformer,
             @Nullable ImmutableIntList requiredColumns
     ) {
-        super(ctx, filters, rowTransformer);
+        this(ctx, rowFactory, schemaTable, table, partitionProvider, filters, rowTransformer, null, requiredColumns);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param rowFactory Row factory.
+     * @param schemaTable Schema table.
+     * @param table Internal table.
+     * @param partitionProvider List of pairs containing the partition number to scan with the corresponding enlistment
+     *         consistency token.
+     * @param filters Optional filter to filter out rows.
+     * @param rowTransformer Optional projection function.
+     * @param calc Optional vectorized filter and projection, used instead of {@code filters} and {@code rowTransformer}.
+     * @param requiredColumns Optional set of column of interest.
+     */
+    public TableScanNode(
+            ExecutionContext<RowT> ctx,
+            RowFactory<RowT> rowFactory,
+            IgniteTable schemaTable,
+            ScannableTable table,
+            PartitionProvider<RowT> partitionProvider,
+            @Nullable Predicate<RowT> filters,
+            @Nullable Function<RowT, RowT> rowTransformer,
+            @Nullable VectorizedCalc<RowT> calc,
+            @Nullable ImmutableIntList requiredColumns
+    ) {
+        super(ctx, filters, rowTransformer, calc);
 
         this.table = table;
         this.partitionProvider = partitionProvider;
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.exp.vector.VectorizedCalc;
+
+/**
+ * Filter and/or projection node that processes the input rows in batches of {@code inBufSize} rows.
+ *
+ * @see VectorizedCalc
+ */
+public class VectorizedCalcNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    private final VectorizedCalc<RowT> calc;
+
+    /** Rows received from the source that are not processed yet. */
+    private final List<RowT> inBatch = new ArrayList<>(inBufSize);
+
+    /** Processed rows. */
+    private final Deque<RowT> outBuf = new ArrayDeque<>(inBufSize);
+
+    private int requested;
+
+    private int waiting;
+
+    private boolean inLoop;
+
+    // Metrics
+    private long filteredRows;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param calc Vectorized filter and projection.
+     */
+    public VectorizedCalcNode(ExecutionContext<RowT> ctx, VectorizedCalc<RowT> calc) {
+        super(ctx);
+
+        this.calc = calc;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert !nullOrEmpty(sources()) && sources().size() == 1;
+        assert rowsCnt > 0 && requested == 0;
+
+        onRequestReceived();
+
+        requested = rowsCnt;
+
+        if (!inLoop) {
+            this.execute(this::flush);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        onRowReceived();
+
+        waiting--;
+
+        inBatch.add(row);
+
+        if (waiting == 0) {
+            processBatch();
+
+            flush();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void end() throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        waiting = NOT_WAITING;
+
+        processBatch();
+
+        flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        if (idx != 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        requested = 0;
+        waiting = 0;
+        inBatch.clear();
+        outBuf.clear();
+    }
+
+    private void processBatch() {
+        int processed = calc.process(inBatch, outBuf);
+
+        if (calc.hasFilter()) {
+            filteredRows += inBatch.size() - processed;
+        }
+
+        inBatch.clear();
+    }
+
+    private void flush() throws Exception {
+        inLoop = true;
+        try {
+            int processed = 0;
+            while (requested > 0 && !outBuf.isEmpty()) {
+                requested--;
+                downstream().push(outBuf.remove());
+
+                if (processed++ >= inBufSize) {
+                    // Allow others to do their job.
+                    execute(this::flush);
+
+                    break;
+                }
+            }
+        } finally {
+            inLoop = false;
+        }
+
+        if (outBuf.isEmpty() && waiting == 0) {
+            source().request(waiting = inBufSize);
+        }
+
+        if (waiting == NOT_WAITING && requested > 0) {
+            assert outBuf.isEmpty();
+
+            requested = 0;
+            downstream().end();
+        }
+    }
+
+    @Override
+    protected void dumpDebugInfo0(IgniteStringBuilder buf) {
+        buf.app("class=").app(getClass().getSimpleName())
+                .app(", requested=").app(requested)
+                .app(", waiting=").app(waiting);
+    }
+
+    @Override
+    protected void dumpMetrics0(IgniteStringBuilder writer) {
+        super.dumpMetrics0(writer);
+        writer.app(", filteredRows=").app(filteredRows);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Memory quota of a query execution.
+ *
+ * <p>Memory-intensive operators (sort, hash aggregate, hash join) reserve an estimated amount of memory for every row they
+ * keep on the heap. When a reservation can't be granted, the operator is expected to spill its state to disk and to release
+ * the memory it has reserved so far.
+ */
+public class QueryMemoryQuota {
+    /** Quota without a limit. No memory accounting is performed against it. */
+    public static final QueryMemoryQuota UNLIMITED = new QueryMemoryQuota(0);
+
+    private final long limit;
+
+    private final AtomicLong reserved = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param limit Limit in bytes. Non-positive value means the quota is unlimited.
+     */
+    public QueryMemoryQuota(long limit) {
+        this.limit = Math.max(limit, 0);
+    }
+
+    /** Returns {@code true} if the quota has no limit. */
+    public boolean unlimited() {
+        return limit == 0;
+    }
+
+    /** Returns limit of the quota in bytes, or {@code 0} if the quota is unlimited. */
+    public long limit() {
+        return limit;
+    }
+
+    /** Returns amount of memory currently reserved in bytes. */
+    public long reserved() {
+        return reserved.get();
+    }
+
+    /**
+     * Tries to reserve the given amount of memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     * @return {@code true} if memory was reserved, {@code false} if the reservation would exceed the limit.
+     */
+    public boolean tryReserve(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        if (unlimited()) {
+            return true;
+        }
+
+        while (true) {
+            long cur = reserved.get();
+            long upd = cur + bytes;
+
+            if (upd > limit) {
+                return false;
+            }
+
+            if (reserved.compareAndSet(cur, upd)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves the given amount of memory unconditionally, even if the limit gets exceeded.
+     *
+     * <p>Used when an operator has nothing to spill anymore but still has to keep a row in memory to make progress.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void reserve(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        if (unlimited()) {
+            return;
+        }
+
+        reserved.addAndGet(bytes);
+    }
+
+    /**
+     * Releases the given amount of memory previously reserved with {@link #tryReserve(long)}.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void release(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        if (unlimited() || bytes == 0) {
+            return;
+        }
+
+        long res = reserved.addAndGet(-bytes);
+
+        assert res >= 0 : res;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(QueryMemoryQuota.class, this, "reserved", reserved.get());
+    }
+}
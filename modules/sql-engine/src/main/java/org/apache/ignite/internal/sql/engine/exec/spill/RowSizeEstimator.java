@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowAccessor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cheap estimation of the heap footprint of a row.
+ *
+ * <p>The estimation is intentionally rough: it is used only to decide when a memory-intensive operator should spill its
+ * state to disk, so being fast is more important than being precise.
+ */
+public final class RowSizeEstimator {
+    /** Estimated overhead of a row object itself. */
+    private static final int ROW_OVERHEAD = 32;
+
+    /** Estimated overhead of a reference to a field plus the object header of a boxed value. */
+    private static final int FIELD_OVERHEAD = 20;
+
+    private RowSizeEstimator() {
+        // No-op.
+    }
+
+    /**
+     * Estimates the heap footprint of the given row.
+     *
+     * @param accessor Row accessor.
+     * @param row Row.
+     * @param <RowT> Type of the row.
+     * @return Estimated size in bytes.
+     */
+    public static <RowT> long estimate(RowAccessor<RowT> accessor, RowT row) {
+        int cnt = accessor.columnsCount(row);
+
+        long size = ROW_OVERHEAD;
+
+        for (int i = 0; i < cnt; i++) {
+            size += estimate(accessor.get(i, row));
+        }
+
+        return size;
+    }
+
+    /**
+     * Estimates the heap footprint of the given result row.
+     *
+     * @param row Row.
+     * @return Estimated size in bytes.
+     */
+    public static long estimate(InternalSqlRow row) {
+        int cnt = row.fieldCount();
+
+        long size = ROW_OVERHEAD;
+
+        for (int i = 0; i < cnt; i++) {
+            size += estimate(row.get(i));
+        }
+
+        return size;
+    }
+
+    private static long estimate(@Nullable Object val) {
+        if (val == null) {
+            return 8;
+        }
+
+        if (val instanceof String) {
+            return FIELD_OVERHEAD + 24 + ((String) val).length();
+        }
+
+        if (val instanceof byte[]) {
+            return FIELD_OVERHEAD + ((byte[]) val).length;
+        }
+
+        if (val instanceof BigDecimal) {
+            return FIELD_OVERHEAD + 24 + ((BigDecimal) val).unscaledValue().bitLength() / 8;
+        }
+
+        if (val instanceof BigInteger) {
+            return FIELD_OVERHEAD + 16 + ((BigInteger) val).bitLength() / 8;
+        }
+
+        return FIELD_OVERHEAD + 8;
+    }
+}
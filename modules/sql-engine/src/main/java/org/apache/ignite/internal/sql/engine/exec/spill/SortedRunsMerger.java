@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterator that merges several sorted runs into a single sorted sequence.
+ *
+ * <p>Used by the external merge sort: each run is a sorted spill file (or the rest of the in-memory buffer), and only the
+ * head row of every run is kept in memory.
+ *
+ * @param <RowT> Type of the row.
+ */
+public class SortedRunsMerger<RowT> implements Iterator<RowT> {
+    private final PriorityQueue<Run<RowT>> heads;
+
+    /**
+     * Constructor.
+     *
+     * @param runs Sorted runs to merge.
+     * @param comp Comparator the runs are sorted with.
+     */
+    public SortedRunsMerger(List<Iterator<RowT>> runs, Comparator<RowT> comp) {
+        heads = new PriorityQueue<>(Math.max(runs.size(), 1), (r1, r2) -> comp.compare(r1.head, r2.head));
+
+        for (Iterator<RowT> it : runs) {
+            if (it.hasNext()) {
+                heads.add(new Run<>(it));
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowT next() {
+        Run<RowT> run = heads.poll();
+
+        if (run == null) {
+            throw new NoSuchElementException();
+        }
+
+        RowT row = run.head;
+
+        if (run.advance()) {
+            heads.add(run);
+        }
+
+        return row;
+    }
+
+    private static class Run<RowT> {
+        private final Iterator<RowT> it;
+
+        private RowT head;
+
+        private Run(Iterator<RowT> it) {
+            this.it = it;
+            this.head = it.next();
+        }
+
+        private boolean advance() {
+            if (!it.hasNext()) {
+                head = null;
+
+                return false;
+            }
+
+            head = it.next();
+
+            return true;
+        }
+    }
+}
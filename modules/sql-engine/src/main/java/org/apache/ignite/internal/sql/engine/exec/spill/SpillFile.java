@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Temporary file that holds rows spilled to disk by a memory-intensive operator.
+ *
+ * <p>The file is written once and then may be read any number of times. Every row is stored as a length-prefixed binary
+ * tuple. The file is removed from disk when closed.
+ *
+ * <p>The class is not thread-safe, it's expected to be used from the execution thread of the owning fragment only.
+ *
+ * @param <RowT> Type of the row.
+ */
+public class SpillFile<RowT> implements Iterable<RowT>, AutoCloseable {
+    /** Size of the read and write buffers. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    private final Path path;
+
+    private final FileIo io;
+
+    private final RowHandler<RowT> handler;
+
+    private final RowFactory<RowT> factory;
+
+    private final int columnsCount;
+
+    private ByteBuffer writeBuf = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    private long size;
+
+    private long rowsCount;
+
+    private boolean writeFinished;
+
+    private boolean closed;
+
+    SpillFile(Path path, FileIo io, RowHandler<RowT> handler, RowFactory<RowT> factory) {
+        this.path = path;
+        this.io = io;
+        this.handler = handler;
+        this.factory = factory;
+        this.columnsCount = factory.rowSchema().fieldsCount();
+    }
+
+    /**
+     * Appends the row to the file.
+     *
+     * @param row Row to write.
+     */
+    public void write(RowT row) {
+        assert !writeFinished : "Spill file is already finished: " + path;
+
+        ByteBuffer tuple = handler.toByteBuffer(row).duplicate();
+        int len = tuple.remaining();
+
+        try {
+            if (writeBuf.remaining() < LENGTH_SIZE + len) {
+                flushWriteBuffer();
+
+                if (writeBuf.capacity() < LENGTH_SIZE + len) {
+                    writeBuf = ByteBuffer.allocate(LENGTH_SIZE + len).order(ByteOrder.LITTLE_ENDIAN);
+                }
+            }
+
+            writeBuf.putInt(len);
+            writeBuf.put(tuple);
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to write to spill file: " + path, e);
+        }
+
+        rowsCount++;
+    }
+
+    /**
+     * Flushes all buffered rows to disk. No more rows can be written to the file after this call.
+     */
+    public void finishWrite() {
+        if (writeFinished) {
+            return;
+        }
+
+        try {
+            flushWriteBuffer();
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to write to spill file: " + path, e);
+        }
+
+        writeFinished = true;
+        writeBuf = null;
+    }
+
+    /** Returns number of rows written to the file. */
+    public long rowsCount() {
+        return rowsCount;
+    }
+
+    /** Returns size of the file in bytes. Valid only after {@link #finishWrite()} has been called. */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the rows of the file in the order they were written.
+     *
+     * <p>Each iterator holds its own read buffer, thus several iterators over the same file may be used at the same time.
+     */
+    @Override
+    public Iterator<RowT> iterator() {
+        assert writeFinished : "Spill file is not finished yet: " + path;
+
+        return new Reader();
+    }
+
+    /** Closes the file and removes it from disk. */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        writeBuf = null;
+
+        try {
+            io.close();
+        } catch (IOException ignored) {
+            // No-op.
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // No-op.
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(SpillFile.class, this, "path", path);
+    }
+
+    private void flushWriteBuffer() throws IOException {
+        writeBuf.flip();
+
+        if (writeBuf.hasRemaining()) {
+            size += io.writeFully(writeBuf, size);
+        }
+
+        writeBuf.clear();
+    }
+
+    private class Reader implements Iterator<RowT> {
+        private ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN).limit(0);
+
+        private long position;
+
+        private long remainingRows = rowsCount;
+
+        @Override
+        public boolean hasNext() {
+            return remainingRows > 0;
+        }
+
+        @Override
+        public RowT next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                ensureAvailable(LENGTH_SIZE);
+
+                int len = buf.getInt();
+
+                ensureAvailable(len);
+
+                byte[] bytes = new byte[len];
+
+                buf.get(bytes);
+
+                remainingRows--;
+
+                return factory.create(new BinaryTuple(columnsCount, bytes));
+            } catch (IOException e) {
+                throw new IgniteInternalException(INTERNAL_ERR, "Failed to read from spill file: " + path, e);
+            }
+        }
+
+        private void ensureAvailable(int bytes) throws IOException {
+            if (buf.remaining() >= bytes) {
+                return;
+            }
+
+            if (buf.capacity() < bytes) {
+                ByteBuffer newBuf = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+                newBuf.put(buf);
+
+                buf = newBuf;
+            } else {
+                buf.compact();
+            }
+
+            int toRead = (int) Math.min(buf.remaining(), size - position);
+
+            buf.limit(buf.position() + toRead);
+
+            position += io.readFully(buf, position);
+
+            buf.flip();
+
+            if (buf.remaining() < bytes) {
+                throw new IOException("Unexpected end of spill file [expected=" + bytes + ", available=" + buf.remaining() + ']');
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.fileio.FileIoFactory;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Creates temporary {@link SpillFile spill files} for a fragment of a query.
+ *
+ * <p>Files are placed into the spill directory of the node and are named after the query and the fragment, so leftovers of a
+ * crashed node could be easily identified. The directory is cleared on the node start. The owner of a spill file is
+ * responsible for closing it, which removes the file from disk.
+ */
+public class SpillManager {
+    private static final String FILE_SUFFIX = ".spill";
+
+    private final Path directory;
+
+    private final String prefix;
+
+    private final FileIoFactory ioFactory;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param directory Directory to place spill files to. Created on demand.
+     * @param prefix Prefix of the names of spill files.
+     */
+    public SpillManager(Path directory, String prefix) {
+        this(directory, prefix, new RandomAccessFileIoFactory());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param directory Directory to place spill files to. Created on demand.
+     * @param prefix Prefix of the names of spill files.
+     * @param ioFactory File I/O factory.
+     */
+    public SpillManager(Path directory, String prefix, FileIoFactory ioFactory) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.ioFactory = ioFactory;
+    }
+
+    /**
+     * Creates a new empty spill file.
+     *
+     * @param handler Row handler used to serialize rows.
+     * @param factory Row factory used to restore rows. Must match the type of the rows written to the file.
+     * @param <RowT> Type of the row.
+     * @return New spill file.
+     */
+    public <RowT> SpillFile<RowT> createFile(RowHandler<RowT> handler, RowFactory<RowT> factory) {
+        Path path = directory.resolve(prefix + '-' + counter.getAndIncrement() + FILE_SUFFIX);
+
+        try {
+            Files.createDirectories(directory);
+
+            // Never reuse an existing file: it belongs to someone else.
+            FileIo io = ioFactory.create(path, CREATE_NEW, READ, WRITE);
+
+            return new SpillFile<>(path, io, handler, factory);
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to create spill file: " + path, e);
+        }
+    }
+
+    /** Returns directory spill files are placed to. */
+    public Path directory() {
+        return directory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(SpillManager.class, this);
+    }
+}
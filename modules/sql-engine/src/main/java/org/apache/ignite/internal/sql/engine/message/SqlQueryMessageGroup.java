@@ -52,4 +52,10 @@ public final class SqlQueryMessageGroup {
 
     /** See {@link DecimalValueMessage} for the details. */
     public static final short DECIMAL_VALUE_MESSAGE = 9;
+
+    /** See {@link ColumnStatisticsRequest} for the details. */
+    public static final short COLUMN_STATISTICS_REQUEST = 10;
+
+    /** See {@link ColumnStatisticsResponse} for the details. */
+    public static final short COLUMN_STATISTICS_RESPONSE = 11;
 }
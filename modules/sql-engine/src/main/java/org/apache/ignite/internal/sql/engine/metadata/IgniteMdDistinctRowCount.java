@@ -24,11 +24,20 @@ import org.apache.calcite.rel.metadata.BuiltInMetadata;
 import org.apache.calcite.rel.metadata.CyclicMetadataException;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.NumberUtil;
+import org.apache.calcite.util.mapping.Mapping;
+import org.apache.calcite.util.mapping.Mappings;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteStatistic;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -45,6 +54,72 @@ public class IgniteMdDistinctRowCount extends RelMdDistinctRowCount {
         return rel.estimateRowCount(mq);
     }
 
+    /**
+     * Estimates number of distinct values of the given columns of a table scan using collected column statistics, falling back to
+     * the default estimation if there are no statistics for some of the columns.
+     */
+    public @Nullable Double getDistinctRowCount(
+            ProjectableFilterableTableScan rel,
+            RelMetadataQuery mq,
+            ImmutableBitSet groupKey,
+            @Nullable RexNode predicate
+    ) {
+        Double ndv = statisticsDistinctValues(rel, groupKey);
+
+        if (ndv == null) {
+            return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+        }
+
+        Double rowCount = mq.getRowCount(rel);
+
+        if (rowCount == null) {
+            return ndv;
+        }
+
+        if (predicate != null && !predicate.isAlwaysTrue()) {
+            Double selectivity = mq.getSelectivity(rel, predicate);
+
+            rowCount *= selectivity == null ? RelMdUtil.guessSelectivity(predicate) : selectivity;
+        }
+
+        return RelMdUtil.numDistinctVals(ndv, rowCount);
+    }
+
+    /** Returns the product of NDVs of the columns, or {@code null} if it can't be computed from column statistics. */
+    private static @Nullable Double statisticsDistinctValues(ProjectableFilterableTableScan rel, ImmutableBitSet groupKey) {
+        IgniteTable table = rel.getTable().unwrap(IgniteTable.class);
+
+        if (table == null || groupKey.isEmpty() || rel.projects() != null) {
+            return null;
+        }
+
+        Statistic statistic = table.getStatistic();
+
+        if (!(statistic instanceof IgniteStatistic)) {
+            return null;
+        }
+
+        int colCount = table.getRowType(Commons.typeFactory()).getFieldCount();
+        Mapping columnMapping = rel.requiredColumns() == null
+                ? Mappings.createIdentity(colCount)
+                : Commons.projectedMapping(colCount, rel.requiredColumns());
+
+        double ndv = 1.0;
+
+        for (int field : groupKey) {
+            ColumnStatistics stats = ((IgniteStatistic) statistic).columnStatistics(columnMapping.getSource(field));
+
+            if (stats == null) {
+                return null;
+            }
+
+            // Null is a distinct value of its own as far as grouping is concerned.
+            ndv *= stats.distinctValues() + (stats.nullFraction() > 0.0 ? 1 : 0);
+        }
+
+        return ndv;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Double getDistinctRowCount(
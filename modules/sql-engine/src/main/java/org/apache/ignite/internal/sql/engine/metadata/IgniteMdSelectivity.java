@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.metadata;
 
 import static org.apache.calcite.rex.RexUtil.expandSearch;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
@@ -32,11 +33,15 @@ import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexLocalRef;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexVisitor;
 import org.apache.calcite.rex.RexVisitorImpl;
+import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeFamily;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.Util;
 import org.apache.calcite.util.mapping.Mapping;
@@ -44,7 +49,9 @@ import org.apache.calcite.util.mapping.Mappings;
 import org.apache.ignite.internal.sql.engine.rel.IgniteHashIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSortedIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteStatistic;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.RexUtils;
 import org.jetbrains.annotations.Nullable;
@@ -219,13 +226,126 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
                         ? null : (BitSet) primaryKeys.clone(), columnMapping);
                 sel *= processed;
             } else {
-                sel *= computeSelectivity(predicateExpanded, primaryKeys, columnMapping);
+                double processed = computeSelectivity(predicateExpanded, primaryKeys, columnMapping);
+
+                // Zero means the predicate fixes the whole primary key, column statistics can't give anything better.
+                if (processed > 0.0 && table != null) {
+                    Double statisticsSel = statisticsSelectivity(predicateExpanded, table, columnMapping);
+
+                    if (statisticsSel != null) {
+                        processed = statisticsSel;
+                    }
+                }
+
+                sel *= processed;
             }
         }
 
         return sel * artificialSel;
     }
 
+    /**
+     * Estimates selectivity of a simple predicate over a single column using collected column statistics. Supported predicates are
+     * {@code IS [NOT] NULL}, (in)equality with a literal or a dynamic parameter, and range comparisons with a literal.
+     *
+     * @return Selectivity, or {@code null} if the predicate is not supported or there are no statistics for the column.
+     */
+    static @Nullable Double statisticsSelectivity(RexNode predicate, IgniteTable table, Mapping columnMapping) {
+        Statistic statistic = table.getStatistic();
+
+        if (!(statistic instanceof IgniteStatistic) || !(predicate instanceof RexCall)) {
+            return null;
+        }
+
+        RexCall call = (RexCall) predicate;
+        SqlKind kind = call.getKind();
+
+        if (kind == SqlKind.IS_NULL || kind == SqlKind.IS_NOT_NULL) {
+            ColumnStatistics stats = columnStatistics((IgniteStatistic) statistic, call.getOperands().get(0), columnMapping);
+
+            if (stats == null) {
+                return null;
+            }
+
+            return kind == SqlKind.IS_NULL ? stats.nullFraction() : 1.0 - stats.nullFraction();
+        }
+
+        if (!call.isA(SqlKind.COMPARISON) || call.getOperands().size() != 2) {
+            return null;
+        }
+
+        RexNode column = call.getOperands().get(0);
+        RexNode value = call.getOperands().get(1);
+
+        if (column instanceof RexLiteral || column instanceof RexDynamicParam) {
+            column = value;
+            value = call.getOperands().get(0);
+            kind = kind.reverse();
+        }
+
+        if (!(value instanceof RexLiteral || value instanceof RexDynamicParam)
+                || (value instanceof RexLiteral && ((RexLiteral) value).isNull())) {
+            return null;
+        }
+
+        ColumnStatistics stats = columnStatistics((IgniteStatistic) statistic, column, columnMapping);
+
+        if (stats == null) {
+            return null;
+        }
+
+        switch (kind) {
+            case EQUALS:
+                return stats.equalsSelectivity();
+            case NOT_EQUALS:
+                return Math.max(0.0, 1.0 - stats.nullFraction() - stats.equalsSelectivity());
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL: {
+                Comparable<?> bound = value instanceof RexLiteral ? histogramValue((RexLiteral) value) : null;
+
+                if (bound == null) {
+                    return null;
+                }
+
+                boolean lessThan = kind == SqlKind.LESS_THAN || kind == SqlKind.LESS_THAN_OR_EQUAL;
+                boolean inclusive = kind == SqlKind.LESS_THAN_OR_EQUAL || kind == SqlKind.GREATER_THAN_OR_EQUAL;
+
+                return stats.rangeSelectivity(bound, lessThan, inclusive);
+            }
+            default:
+                return null;
+        }
+    }
+
+    private static @Nullable ColumnStatistics columnStatistics(IgniteStatistic statistic, RexNode node, Mapping columnMapping) {
+        if (!(node instanceof RexLocalRef)) {
+            return null;
+        }
+
+        return statistic.columnStatistics(columnMapping.getSource(((RexLocalRef) node).getIndex()));
+    }
+
+    /** Converts a literal to the representation used by histogram bounds, see {@code EquiDepthHistogram#histogramValue}. */
+    private static @Nullable Comparable<?> histogramValue(RexLiteral literal) {
+        SqlTypeFamily family = literal.getTypeName().getFamily();
+
+        if (family == SqlTypeFamily.NUMERIC) {
+            BigDecimal value = literal.getValueAs(BigDecimal.class);
+
+            return value == null ? null : value.doubleValue();
+        } else if (family == SqlTypeFamily.CHARACTER) {
+            return literal.getValueAs(String.class);
+        } else if (family == SqlTypeFamily.DATE) {
+            Integer days = literal.getValueAs(Integer.class);
+
+            return days == null ? null : days.doubleValue();
+        }
+
+        return null;
+    }
+
     private static double guessAndSelectivity(@Nullable RexNode predicate, @Nullable BitSet keyColumns, @Nullable Mapping columnMapping) {
         double sel = 1.0;
         if ((predicate == null) || predicate.isAlwaysTrue()) {
@@ -17,9 +17,12 @@
 
 package org.apache.ignite.internal.sql.engine.schema;
 
+import java.util.function.IntFunction;
 import java.util.function.LongSupplier;
 import org.apache.calcite.schema.Statistic;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Supported table statistics.
@@ -27,12 +30,30 @@ import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 public class IgniteStatistic implements Statistic {
     private final LongSupplier rowCountSupplier;
 
+    private final IntFunction<@Nullable ColumnStatistics> columnStatisticsSupplier;
+
     private final IgniteDistribution distribution;
 
     /** Constructor. */
     public IgniteStatistic(LongSupplier rowCountSupplier, IgniteDistribution distribution) {
+        this(rowCountSupplier, idx -> null, distribution);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rowCountSupplier Supplier of approximate number of rows in the table.
+     * @param columnStatisticsSupplier Supplier of statistics of a column by its index in the table row.
+     * @param distribution Distribution of the table.
+     */
+    public IgniteStatistic(
+            LongSupplier rowCountSupplier,
+            IntFunction<@Nullable ColumnStatistics> columnStatisticsSupplier,
+            IgniteDistribution distribution
+    ) {
         this.distribution = distribution;
         this.rowCountSupplier = rowCountSupplier;
+        this.columnStatisticsSupplier = columnStatisticsSupplier;
     }
 
     /** {@inheritDoc} */
@@ -43,6 +64,13 @@ public class IgniteStatistic implements Statistic {
         return (double) approximateRowCount;
     }
 
+    /**
+     * Returns statistics of a column by its index in the table row, or {@code null} if they have not been collected.
+     */
+    public @Nullable ColumnStatistics columnStatistics(int columnIdx) {
+        return columnStatisticsSupplier.apply(columnIdx);
+    }
+
     /** {@inheritDoc} */
     @Override
     public IgniteDistribution getDistribution() {
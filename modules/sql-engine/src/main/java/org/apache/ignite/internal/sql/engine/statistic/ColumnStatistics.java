@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.Serializable;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistics of a single column, collected from a sample of table rows.
+ */
+public class ColumnStatistics implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    private final String columnName;
+
+    private final long distinctValues;
+
+    private final double nullFraction;
+
+    private final @Nullable EquiDepthHistogram histogram;
+
+    /**
+     * Constructor.
+     *
+     * @param columnName Name of the column.
+     * @param distinctValues Estimated number of distinct non-null values in the table.
+     * @param nullFraction Fraction of rows having null in the column.
+     * @param histogram Histogram of non-null values, or {@code null} if not supported for the type of the column.
+     */
+    public ColumnStatistics(String columnName, long distinctValues, double nullFraction, @Nullable EquiDepthHistogram histogram) {
+        this.columnName = columnName;
+        this.distinctValues = distinctValues;
+        this.nullFraction = nullFraction;
+        this.histogram = histogram;
+    }
+
+    /** Returns name of the column. */
+    public String columnName() {
+        return columnName;
+    }
+
+    /** Returns estimated number of distinct non-null values in the table. */
+    public long distinctValues() {
+        return distinctValues;
+    }
+
+    /** Returns fraction of rows having null in the column. */
+    public double nullFraction() {
+        return nullFraction;
+    }
+
+    /** Returns histogram of non-null values, if any. */
+    public @Nullable EquiDepthHistogram histogram() {
+        return histogram;
+    }
+
+    /** Returns estimated selectivity of {@code column = <value>} predicate. */
+    public double equalsSelectivity() {
+        return (1.0 - nullFraction) / Math.max(distinctValues, 1);
+    }
+
+    /**
+     * Estimates selectivity of a range predicate using the histogram.
+     *
+     * @param value Value converted with {@link EquiDepthHistogram#histogramValue(Object)}.
+     * @param lessThan Whether the predicate is {@code column < value} or {@code column > value}.
+     * @param inclusive Whether the predicate also accepts values equal to the given one.
+     * @return Selectivity, or {@code null} if it can't be estimated.
+     */
+    public @Nullable Double rangeSelectivity(Comparable<?> value, boolean lessThan, boolean inclusive) {
+        if (histogram == null) {
+            return null;
+        }
+
+        // column > value is the complement of column <= value and vice versa.
+        Double below = histogram.fractionBelow(value, lessThan == inclusive);
+
+        if (below == null) {
+            return null;
+        }
+
+        double fraction = lessThan ? below : 1.0 - below;
+
+        return (1.0 - nullFraction) * fraction;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(ColumnStatistics.class, this);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accumulates sampled values of a single column and builds {@link ColumnStatistics} from them.
+ *
+ * <p>Distinct values are counted by a {@link HyperLogLog} sketch over all the sampled values, while histogram is built from a
+ * fixed-size reservoir sample of them.
+ */
+public class ColumnStatisticsCollector {
+    /** Default size of the reservoir the histogram is built from. */
+    public static final int DEFAULT_RESERVOIR_SIZE = 10_000;
+
+    /**
+     * If the ratio of distinct values to sampled values exceeds this threshold, the column is considered to be unique-like and the
+     * number of distinct values is extrapolated to the whole table.
+     */
+    private static final double UNIQUE_RATIO = 0.9;
+
+    private final String columnName;
+
+    private final HyperLogLog sketch = new HyperLogLog();
+
+    private final int reservoirSize;
+
+    private final List<Comparable<?>> reservoir;
+
+    private final Random random;
+
+    private long nonNulls;
+
+    private long nulls;
+
+    /** Number of non-null values offered to the reservoir. */
+    private long histogramCandidates;
+
+    private boolean histogramSupported = true;
+
+    /** Constructor. */
+    public ColumnStatisticsCollector(String columnName) {
+        this(columnName, DEFAULT_RESERVOIR_SIZE, new Random());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param columnName Name of the column.
+     * @param reservoirSize Maximal number of values the histogram is built from.
+     * @param random Source of randomness for reservoir sampling.
+     */
+    public ColumnStatisticsCollector(String columnName, int reservoirSize, Random random) {
+        this.columnName = columnName;
+        this.reservoirSize = reservoirSize;
+        this.reservoir = new ArrayList<>(Math.min(reservoirSize, 1024));
+        this.random = random;
+    }
+
+    /** Adds a sampled value. */
+    public void add(@Nullable Object value) {
+        if (value == null) {
+            nulls++;
+
+            return;
+        }
+
+        nonNulls++;
+        sketch.addValue(value);
+
+        if (!histogramSupported) {
+            return;
+        }
+
+        Comparable<?> histogramValue = EquiDepthHistogram.histogramValue(value);
+
+        if (histogramValue == null) {
+            histogramSupported = false;
+            reservoir.clear();
+
+            return;
+        }
+
+        histogramCandidates++;
+
+        if (reservoir.size() < reservoirSize) {
+            reservoir.add(histogramValue);
+        } else {
+            long idx = (long) (random.nextDouble() * histogramCandidates);
+
+            if (idx < reservoirSize) {
+                reservoir.set((int) idx, histogramValue);
+            }
+        }
+    }
+
+    /**
+     * Builds column statistics.
+     *
+     * @param tableSize Estimated number of rows in the table. Used to extrapolate number of distinct values when only a part of the
+     *         table was sampled.
+     * @return Column statistics.
+     */
+    public ColumnStatistics build(long tableSize) {
+        long sampled = nonNulls + nulls;
+        double nullFraction = sampled == 0 ? 0.0 : (double) nulls / sampled;
+        long distinct = Math.min(sketch.estimate(), nonNulls);
+
+        if (sampled > 0 && tableSize > sampled && distinct > UNIQUE_RATIO * nonNulls) {
+            distinct = Math.round(distinct * ((double) tableSize / sampled));
+        }
+
+        long maxDistinct = Math.round(Math.max(tableSize, sampled) * (1.0 - nullFraction));
+
+        distinct = Math.min(distinct, maxDistinct);
+
+        if (nonNulls > 0) {
+            distinct = Math.max(distinct, 1);
+        }
+
+        EquiDepthHistogram histogram = null;
+
+        if (histogramSupported && !reservoir.isEmpty()) {
+            reservoir.sort(ColumnStatisticsCollector::compare);
+
+            histogram = EquiDepthHistogram.build(reservoir, EquiDepthHistogram.DEFAULT_BUCKETS);
+        }
+
+        return new ColumnStatistics(columnName, distinct, nullFraction, histogram);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Comparable<?> left, Comparable<?> right) {
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.ignite.internal.cluster.management.topology.api.LogicalNode;
+import org.apache.ignite.internal.network.InternalClusterNode;
+import org.apache.ignite.internal.network.MessagingService;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.sql.engine.message.ColumnStatisticsRequest;
+import org.apache.ignite.internal.sql.engine.message.ColumnStatisticsResponse;
+import org.apache.ignite.internal.sql.engine.message.SqlQueryMessageGroup;
+import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shares column statistics between the nodes, so that every table is sampled by a single node of the cluster.
+ *
+ * <p>The collecting node of a table is chosen by the table id among the nodes of the logical topology sorted by name. Other nodes
+ * request the statistics it has collected instead of sampling the table themselves.
+ */
+public class ColumnStatisticsExchange {
+    private static final SqlQueryMessagesFactory FACTORY = new SqlQueryMessagesFactory();
+
+    /** Maximum time to wait for a remote response. */
+    private static final long RESPONSE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
+
+    private final Supplier<String> localNodeName;
+
+    private final Supplier<Set<LogicalNode>> clusterNodes;
+
+    private final MessagingService messagingService;
+
+    private volatile @Nullable IntFunction<@Nullable TableColumnStatistics> localStatistics;
+
+    /**
+     * Constructor.
+     *
+     * @param localNodeName Supplier of the name of the local node.
+     * @param clusterNodes Supplier of the nodes of the logical topology.
+     * @param messagingService Messaging service.
+     */
+    public ColumnStatisticsExchange(
+            Supplier<String> localNodeName,
+            Supplier<Set<LogicalNode>> clusterNodes,
+            MessagingService messagingService
+    ) {
+        this.localNodeName = localNodeName;
+        this.clusterNodes = clusterNodes;
+        this.messagingService = messagingService;
+
+        messagingService.addMessageHandler(SqlQueryMessageGroup.class, this::onMessage);
+    }
+
+    /**
+     * Starts serving requests of the other nodes.
+     *
+     * @param localStatistics Provider of the column statistics collected by the local node.
+     */
+    void start(IntFunction<@Nullable TableColumnStatistics> localStatistics) {
+        this.localStatistics = localStatistics;
+    }
+
+    /**
+     * Returns the name of the node which collects column statistics of the given table, or {@code null} if the topology is unknown.
+     */
+    @Nullable String collectingNode(int tableId) {
+        List<String> nodeNames = clusterNodes.get().stream()
+                .map(LogicalNode::name)
+                .sorted()
+                .collect(Collectors.toList());
+
+        return nodeNames.isEmpty() ? null : nodeNames.get(Math.floorMod(tableId, nodeNames.size()));
+    }
+
+    /** Returns {@code true} if column statistics of the given table are collected by the local node. */
+    boolean collectsLocally(int tableId) {
+        String nodeName = collectingNode(tableId);
+
+        return nodeName == null || nodeName.equals(localNodeName.get());
+    }
+
+    /**
+     * Requests column statistics of the table from the node which collects them.
+     *
+     * @param tableId Table id.
+     * @return Future completed with the statistics, or with {@code null} if they have not been collected yet.
+     */
+    CompletableFuture<@Nullable TableColumnStatistics> fetch(int tableId) {
+        String nodeName = collectingNode(tableId);
+
+        if (nodeName == null) {
+            return nullCompletedFuture();
+        }
+
+        ColumnStatisticsRequest request = FACTORY.columnStatisticsRequest()
+                .tableId(tableId)
+                .build();
+
+        return messagingService.invoke(nodeName, request, RESPONSE_TIMEOUT_MS)
+                .thenApply(response -> ((ColumnStatisticsResponse) response).statistics());
+    }
+
+    @SuppressWarnings("PMD.UnusedFormalParameter")
+    private void onMessage(NetworkMessage message, InternalClusterNode sender, @Nullable Long correlationId) {
+        if (message instanceof ColumnStatisticsRequest) {
+            assert correlationId != null;
+
+            IntFunction<@Nullable TableColumnStatistics> localStatistics0 = localStatistics;
+
+            TableColumnStatistics statistics = localStatistics0 == null
+                    ? null
+                    : localStatistics0.apply(((ColumnStatisticsRequest) message).tableId());
+
+            messagingService.respond(sender, FACTORY.columnStatisticsResponse().statistics(statistics).build(), correlationId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViews;
+import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.jetbrains.annotations.Nullable;
+
+/** Provider that creates system view exposing column statistics collected on a node. */
+public class ColumnStatisticsViewProvider {
+    private static final NativeType TIMESTAMP_TYPE = NativeTypes.timestamp(NativeTypes.MAX_TIME_PRECISION);
+
+    private final Supplier<Collection<TableColumnStatistics>> statisticsSupplier;
+
+    /** Constructor. */
+    public ColumnStatisticsViewProvider(Supplier<Collection<TableColumnStatistics>> statisticsSupplier) {
+        this.statisticsSupplier = statisticsSupplier;
+    }
+
+    /** Returns system view. */
+    public SystemView<?> getView() {
+        Publisher<ColumnStatisticsRow> viewDataPublisher = SubscriptionUtils.fromIterable(() -> rows().iterator());
+
+        return SystemViews.<ColumnStatisticsRow>nodeViewBuilder()
+                .name("SQL_COLUMN_STATISTICS")
+                .nodeNameColumnAlias("NODE_NAME")
+                .<Integer>addColumn("TABLE_ID", NativeTypes.INT32, row -> row.table.tableId())
+                .<String>addColumn("SCHEMA_NAME", NativeTypes.STRING, row -> row.table.schemaName())
+                .<String>addColumn("TABLE_NAME", NativeTypes.STRING, row -> row.table.tableName())
+                .<String>addColumn("COLUMN_NAME", NativeTypes.STRING, row -> row.column.columnName())
+                .<Long>addColumn("DISTINCT_VALUES", NativeTypes.INT64, row -> row.column.distinctValues())
+                .<Double>addColumn("NULL_FRACTION", NativeTypes.DOUBLE, row -> row.column.nullFraction())
+                .<Integer>addColumn("HISTOGRAM_BUCKETS", NativeTypes.INT32, ColumnStatisticsViewProvider::histogramBuckets)
+                .<Long>addColumn("SAMPLED_ROWS", NativeTypes.INT64, row -> row.table.sampledRows())
+                .<Long>addColumn("TABLE_SIZE", NativeTypes.INT64, row -> row.table.tableSize())
+                .<Instant>addColumn("LAST_COLLECTION_TIME", TIMESTAMP_TYPE, row -> row.table.collectedAt())
+                .dataProvider(viewDataPublisher)
+                .build();
+    }
+
+    private List<ColumnStatisticsRow> rows() {
+        List<ColumnStatisticsRow> rows = new ArrayList<>();
+
+        for (TableColumnStatistics table : statisticsSupplier.get()) {
+            for (ColumnStatistics column : table.columns().values()) {
+                rows.add(new ColumnStatisticsRow(table, column));
+            }
+        }
+
+        return rows;
+    }
+
+    private static @Nullable Integer histogramBuckets(ColumnStatisticsRow row) {
+        EquiDepthHistogram histogram = row.column.histogram();
+
+        return histogram == null ? null : histogram.buckets();
+    }
+
+    private static class ColumnStatisticsRow {
+        private final TableColumnStatistics table;
+
+        private final ColumnStatistics column;
+
+        private ColumnStatisticsRow(TableColumnStatistics table, ColumnStatistics column) {
+            this.table = table;
+            this.column = column;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Equi-depth histogram over the non-null values of a column.
+ *
+ * <p>Bucket {@code i} covers values in range {@code (bounds[i], bounds[i + 1]]}, except the first one which also includes
+ * {@code bounds[0]}, the minimal value. Buckets hold roughly the same number of values, but equal values are never split across
+ * buckets, so the actual fraction of every bucket is kept as well.
+ *
+ * <p>Bounds are either {@link Double} or {@link String}, see {@link #histogramValue(Object)}.
+ */
+public class EquiDepthHistogram implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    /** Default number of buckets. */
+    public static final int DEFAULT_BUCKETS = 64;
+
+    private final Comparable<Object>[] bounds;
+
+    /** Cumulative fraction of values which are less than or equal to the upper bound of the bucket. */
+    private final double[] cumulative;
+
+    private EquiDepthHistogram(Comparable<Object>[] bounds, double[] cumulative) {
+        this.bounds = bounds;
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * Builds a histogram.
+     *
+     * @param sortedValues Non-null values in ascending order, converted with {@link #histogramValue(Object)}.
+     * @param maxBuckets Maximal number of buckets.
+     * @return Histogram, or {@code null} if there are no values.
+     */
+    @SuppressWarnings("unchecked")
+    public static @Nullable EquiDepthHistogram build(List<? extends Comparable<?>> sortedValues, int maxBuckets) {
+        assert maxBuckets > 0 : maxBuckets;
+
+        int size = sortedValues.size();
+
+        if (size == 0) {
+            return null;
+        }
+
+        int buckets = Math.min(maxBuckets, size);
+        Comparable<Object>[] bounds = new Comparable[buckets + 1];
+        double[] cumulative = new double[buckets];
+
+        bounds[0] = (Comparable<Object>) sortedValues.get(0);
+
+        int bucket = 0;
+        int pos = 0;
+
+        while (pos < size && bucket < buckets) {
+            // Spread the remaining values evenly, so that a bucket extended by duplicates doesn't make the next ones too small.
+            int end = pos + Math.max(1, (size - pos) / (buckets - bucket)) - 1;
+            Comparable<Object> upper = (Comparable<Object>) sortedValues.get(end);
+
+            // Pull all duplicates of the upper bound into the current bucket.
+            while (end + 1 < size && upper.compareTo(sortedValues.get(end + 1)) == 0) {
+                end++;
+            }
+
+            bounds[bucket + 1] = upper;
+            cumulative[bucket] = (double) (end + 1) / size;
+
+            bucket++;
+            pos = end + 1;
+        }
+
+        if (bucket < buckets) {
+            bounds = Arrays.copyOf(bounds, bucket + 1);
+            cumulative = Arrays.copyOf(cumulative, bucket);
+        }
+
+        return new EquiDepthHistogram(bounds, cumulative);
+    }
+
+    /**
+     * Converts a column value to a representation used as histogram bound.
+     *
+     * <p>Numbers are converted to {@link Double}, dates to number of days since epoch, strings are kept as is.
+     *
+     * @return Converted value, or {@code null} if histograms are not supported for the values of this type.
+     */
+    public static @Nullable Comparable<?> histogramValue(@Nullable Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof String) {
+            return value;
+        } else if (value instanceof LocalDate) {
+            return (double) ((LocalDate) value).toEpochDay();
+        }
+
+        return null;
+    }
+
+    /** Returns number of buckets. */
+    public int buckets() {
+        return cumulative.length;
+    }
+
+    /** Returns minimal value. */
+    public Comparable<?> min() {
+        return bounds[0];
+    }
+
+    /** Returns maximal value. */
+    public Comparable<?> max() {
+        return bounds[bounds.length - 1];
+    }
+
+    /**
+     * Estimates the fraction of values which are less than the given one.
+     *
+     * @param value Value converted with {@link #histogramValue(Object)}.
+     * @param inclusive Whether values equal to the given one should be counted as well.
+     * @return Fraction of values in range {@code [0, 1]}, or {@code null} if the value is not comparable with the bounds.
+     */
+    public @Nullable Double fractionBelow(Comparable<?> value, boolean inclusive) {
+        if (value.getClass() != bounds[0].getClass()) {
+            return null;
+        }
+
+        int cmpMin = bounds[0].compareTo(value);
+
+        if (cmpMin > 0 || (cmpMin == 0 && !inclusive)) {
+            return 0.0;
+        }
+
+        int bucket = Arrays.binarySearch(bounds, 1, bounds.length, value);
+
+        if (bucket >= 0) {
+            // The value is an upper bound of the bucket.
+            int idx = bucket - 1;
+
+            if (inclusive) {
+                return cumulative[idx];
+            }
+
+            double prev = idx == 0 ? 0.0 : cumulative[idx - 1];
+
+            // Assume the values of the bucket are distinct, so only a small part of it equals to the bound.
+            return prev + (cumulative[idx] - prev) * 0.5;
+        }
+
+        int insertion = -bucket - 1;
+
+        if (insertion >= bounds.length) {
+            return 1.0;
+        }
+
+        int idx = insertion - 1;
+        double prev = idx == 0 ? 0.0 : cumulative[idx - 1];
+
+        return prev + (cumulative[idx] - prev) * interpolate(bounds[idx], bounds[idx + 1], value);
+    }
+
+    private static double interpolate(Comparable<?> lower, Comparable<?> upper, Comparable<?> value) {
+        if (lower instanceof Double) {
+            double lo = (Double) lower;
+            double hi = (Double) upper;
+
+            return hi > lo ? Math.min(1.0, Math.max(0.0, ((Double) value - lo) / (hi - lo))) : 0.5;
+        }
+
+        return 0.5;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(EquiDepthHistogram.class, this, "buckets", buckets(), "min", min(), "max", max());
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.sql.engine.statistic;
 
 import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Defined interface to manage SQL statistics.
@@ -29,6 +30,13 @@ public interface SqlStatisticManager extends LifecycleAware {
      */
     long tableSize(int tableId);
 
+    /**
+     * Returns statistics of a table column, or {@code null} if they have not been collected yet.
+     */
+    default @Nullable ColumnStatistics columnStatistics(int tableId, String columnName) {
+        return null;
+    }
+
     @Override
     default void start(){}
 
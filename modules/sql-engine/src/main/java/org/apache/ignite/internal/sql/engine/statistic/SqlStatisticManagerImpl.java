@@ -23,9 +23,11 @@ import static org.apache.ignite.internal.sql.engine.statistic.event.StatisticCha
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,7 +42,10 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.configuration.ConfigurationValue;
 import org.apache.ignite.configuration.notifications.ConfigurationListener;
 import org.apache.ignite.configuration.notifications.ConfigurationNotificationEvent;
+import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogService;
+import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.catalog.events.CatalogEvent;
 import org.apache.ignite.internal.catalog.events.CreateTableEventParameters;
@@ -58,6 +63,7 @@ import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.TableViewInternal;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.util.LongPriorityQueue;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -69,6 +75,15 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
     static final long DEFAULT_TABLE_SIZE = 1L;
     private static final ActualSize DEFAULT_VALUE = new ActualSize(DEFAULT_TABLE_SIZE, Long.MIN_VALUE);
 
+    /** Maximal number of rows read from a table to build column statistics. */
+    static final long SAMPLE_ROWS = 100_000;
+
+    /** Fraction of the table which has to be modified since the last collection to consider column statistics stale. */
+    static final double STALE_ROWS_FRACTION = 0.2;
+
+    /** Minimal number of modifications since the last collection to consider column statistics stale. */
+    static final long MIN_STALE_ROWS = 500;
+
     private final EventListener<ChangeLowWatermarkEventParameters> lwmListener = fromConsumer(this::onLwmChanged);
     private final EventListener<DropTableEventParameters> dropTableEventListener = fromConsumer(this::onTableDrop);
     private final EventListener<CreateTableEventParameters> createTableEventListener = fromConsumer(this::onTableCreate);
@@ -88,6 +103,16 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
     /* Contain dropped tables, can`t update statistic for such a case. */
     final Set<Integer> droppedTables = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
+    /* Column statistics of tables, collected by table sampler. */
+    final ConcurrentMap<Integer, TableColumnStatistics> columnStatisticsMap = new ConcurrentHashMap<>();
+
+    /* Tables column statistics are being collected for at the moment. */
+    private final Set<Integer> collectingTables = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private final @Nullable TableSampler tableSampler;
+
+    private final @Nullable ColumnStatisticsExchange columnStatisticsExchange;
+
     private final ScheduledExecutorService scheduler;
     private final StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> statSupplier;
 
@@ -105,6 +130,43 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
             ScheduledExecutorService scheduler,
             StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> statSupplier,
             ConfigurationValue<Integer> staleRowsCheckIntervalSeconds
+    ) {
+        this(tableManager, catalogService, lowWatermark, scheduler, statSupplier, staleRowsCheckIntervalSeconds, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tableSampler Source of table rows to build column statistics from, or {@code null} to collect table sizes only.
+     */
+    public SqlStatisticManagerImpl(
+            TableManager tableManager,
+            CatalogService catalogService,
+            LowWatermark lowWatermark,
+            ScheduledExecutorService scheduler,
+            StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> statSupplier,
+            ConfigurationValue<Integer> staleRowsCheckIntervalSeconds,
+            @Nullable TableSampler tableSampler
+    ) {
+        this(tableManager, catalogService, lowWatermark, scheduler, statSupplier, staleRowsCheckIntervalSeconds, tableSampler, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tableSampler Source of table rows to build column statistics from, or {@code null} to collect table sizes only.
+     * @param columnStatisticsExchange Exchange of column statistics with the other nodes, or {@code null} to sample every table
+     *         locally.
+     */
+    public SqlStatisticManagerImpl(
+            TableManager tableManager,
+            CatalogService catalogService,
+            LowWatermark lowWatermark,
+            ScheduledExecutorService scheduler,
+            StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> statSupplier,
+            ConfigurationValue<Integer> staleRowsCheckIntervalSeconds,
+            @Nullable TableSampler tableSampler,
+            @Nullable ColumnStatisticsExchange columnStatisticsExchange
     ) {
         this.tableManager = tableManager;
         this.catalogService = catalogService;
@@ -112,6 +174,8 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
         this.scheduler = scheduler;
         this.statSupplier = statSupplier;
         this.staleRowsCheckIntervalSeconds = staleRowsCheckIntervalSeconds;
+        this.tableSampler = tableSampler;
+        this.columnStatisticsExchange = columnStatisticsExchange;
     }
 
     /**
@@ -127,12 +191,35 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
         return tableSizeMap.getOrDefault(tableId, DEFAULT_VALUE).getSize();
     }
 
+    /**
+     * Returns the last known modification counter of a table, or {@link Long#MIN_VALUE} if it is not known yet.
+     */
+    public long modificationCounter(int tableId) {
+        return tableSizeMap.getOrDefault(tableId, DEFAULT_VALUE).modificationCounter();
+    }
+
+    @Override
+    public @Nullable ColumnStatistics columnStatistics(int tableId, String columnName) {
+        TableColumnStatistics statistics = columnStatisticsMap.get(tableId);
+
+        return statistics == null ? null : statistics.column(columnName);
+    }
+
+    /** Returns column statistics of all the tables they have been collected for. */
+    public Collection<TableColumnStatistics> columnStatistics() {
+        return columnStatisticsMap.values();
+    }
+
     @Override
     public void start() {
         catalogService.listen(CatalogEvent.TABLE_CREATE, createTableEventListener);
         catalogService.listen(CatalogEvent.TABLE_DROP, dropTableEventListener);
         lowWatermark.listen(LowWatermarkEvent.LOW_WATERMARK_CHANGED, lwmListener);
 
+        if (columnStatisticsExchange != null) {
+            columnStatisticsExchange.start(columnStatisticsMap::get);
+        }
+
         // Need to have all known tables for all available history of catalog.
         int earliestVersion = catalogService.earliestCatalogVersion();
         int latestVersion = catalogService.latestCatalogVersion();
@@ -225,11 +312,112 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
                 if (updatedSize.modificationCounter() >= currentSize.modificationCounter()) {
                     fireEvent(STATISTIC_CHANGED, new StatisticEventParameters(tableId));
                 }
+
+                maybeCollectColumnStatistics(tableId, tableSizeMap.get(tableId));
             }
             return null;
         });
     }
 
+    /**
+     * Starts collection of column statistics for the table if there are none yet or enough rows were modified since the last
+     * collection. The collection itself runs in background and doesn't delay the update of table sizes.
+     *
+     * <p>Only one node of the cluster samples the table, the others request the statistics it has collected.
+     */
+    private void maybeCollectColumnStatistics(int tableId, @Nullable ActualSize size) {
+        if (tableSampler == null || size == null || size.modificationCounter() <= 0 || droppedTables.contains(tableId)) {
+            return;
+        }
+
+        TableColumnStatistics current = columnStatisticsMap.get(tableId);
+
+        if (current != null) {
+            long modified = size.modificationCounter() - current.modificationCounter();
+            long threshold = Math.max(MIN_STALE_ROWS, (long) (current.tableSize() * STALE_ROWS_FRACTION));
+
+            if (modified < threshold) {
+                return;
+            }
+        }
+
+        if (!collectingTables.add(tableId)) {
+            return;
+        }
+
+        CompletableFuture<TableColumnStatistics> collectFut;
+
+        try {
+            collectFut = columnStatisticsExchange == null || columnStatisticsExchange.collectsLocally(tableId)
+                    ? collectColumnStatistics(tableId, size)
+                    : columnStatisticsExchange.fetch(tableId);
+        } catch (Throwable e) {
+            collectFut = failedFuture(e);
+        }
+
+        collectFut.whenComplete((statistics, e) -> {
+            collectingTables.remove(tableId);
+
+            if (e != null) {
+                LOG.warn("Failed to collect column statistics [tableId={}].", e, tableId);
+            } else if (statistics != null && !droppedTables.contains(tableId) && isNewer(statistics, current)) {
+                columnStatisticsMap.put(tableId, statistics);
+
+                fireEvent(STATISTIC_CHANGED, new StatisticEventParameters(tableId));
+            }
+        });
+    }
+
+    private static boolean isNewer(TableColumnStatistics statistics, @Nullable TableColumnStatistics current) {
+        // The statistics fetched from the collecting node are the same until it samples the table again.
+        return current == null || statistics.modificationCounter() > current.modificationCounter();
+    }
+
+    private CompletableFuture<TableColumnStatistics> collectColumnStatistics(int tableId, ActualSize size) {
+        assert tableSampler != null;
+
+        Catalog catalog = catalogService.latestCatalog();
+        CatalogTableDescriptor table = catalog.table(tableId);
+        CatalogSchemaDescriptor schema = table == null ? null : catalog.schema(table.schemaId());
+
+        if (table == null || schema == null) {
+            return nullCompletedFuture();
+        }
+
+        List<String> columns = new ArrayList<>(table.columns().size());
+        List<ColumnStatisticsCollector> collectors = new ArrayList<>(table.columns().size());
+
+        for (CatalogTableColumnDescriptor column : table.columns()) {
+            columns.add(column.name());
+            collectors.add(new ColumnStatisticsCollector(column.name()));
+        }
+
+        return tableSampler.sample(schema.name(), table.name(), columns, SAMPLE_ROWS, row -> {
+            for (int i = 0; i < collectors.size(); i++) {
+                collectors.get(i).add(row.get(i));
+            }
+        }).thenApply(sampled -> {
+            Map<String, ColumnStatistics> statistics = new HashMap<>();
+
+            for (ColumnStatisticsCollector collector : collectors) {
+                ColumnStatistics columnStatistics = collector.build(size.getSize());
+
+                statistics.put(columnStatistics.columnName(), columnStatistics);
+            }
+
+            return new TableColumnStatistics(
+                    tableId,
+                    schema.name(),
+                    table.name(),
+                    sampled,
+                    size.getSize(),
+                    size.modificationCounter(),
+                    Instant.now(),
+                    statistics
+            );
+        });
+    }
+
     @Override
     public void stop() {
         lowWatermark.removeListener(LowWatermarkEvent.LOW_WATERMARK_CHANGED, lwmListener);
@@ -259,6 +447,7 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
         List<DestroyTableEvent> events = destructionEventsQueue.drainUpTo(earliestVersion);
 
         events.forEach(event -> tableSizeMap.remove(event.tableId()));
+        events.forEach(event -> columnStatisticsMap.remove(event.tableId()));
         events.forEach(event -> droppedTables.remove(event.tableId()));
     }
 
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.apache.ignite.internal.hlc.HybridTimestampTracker;
+import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.QueryProcessor;
+import org.apache.ignite.internal.sql.engine.SqlProperties;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.apache.ignite.lang.util.IgniteNameUtils;
+
+/**
+ * Table sampler which reads rows with an internal read-only query.
+ *
+ * <p>The query scans partitions in parallel and is cut by the limit, so the sample is the set of rows which came first from every
+ * partition rather than a uniform one. This is good enough for NDV and histogram estimation of the tables which are not ordered by
+ * the sampled columns, and doesn't require any support from the storage.
+ */
+public class SqlTableSampler implements TableSampler {
+    private static final int PAGE_SIZE = 1024;
+
+    private final QueryProcessor queryProcessor;
+
+    private final HybridTimestampTracker observableTimeTracker = HybridTimestampTracker.atomicTracker(null);
+
+    /** Constructor. */
+    public SqlTableSampler(QueryProcessor queryProcessor) {
+        this.queryProcessor = queryProcessor;
+    }
+
+    @Override
+    public CompletableFuture<Long> sample(String schemaName, String tableName, List<String> columns, long maxRows,
+            Consumer<InternalSqlRow> consumer) {
+        String projection = columns.stream()
+                .map(IgniteNameUtils::quoteIfNeeded)
+                .collect(Collectors.joining(", "));
+
+        String query = "SELECT " + projection + " FROM " + IgniteNameUtils.canonicalName(schemaName, tableName) + " LIMIT ?";
+
+        SqlProperties properties = new SqlProperties()
+                .allowedQueryTypes(SqlQueryType.SINGLE_STMT_TYPES)
+                .allowMultiStatement(false);
+
+        return queryProcessor.queryAsync(properties, observableTimeTracker, null, null, query, maxRows)
+                .thenCompose(cursor -> fetch(cursor, consumer, 0L)
+                        .whenComplete((r, e) -> cursor.closeAsync()));
+    }
+
+    private static CompletableFuture<Long> fetch(AsyncSqlCursor<InternalSqlRow> cursor, Consumer<InternalSqlRow> consumer, long read) {
+        return cursor.requestNextAsync(PAGE_SIZE).thenCompose(batch -> {
+            List<InternalSqlRow> items = batch.items();
+
+            items.forEach(consumer);
+
+            long total = read + items.size();
+
+            if (!batch.hasMore()) {
+                return CompletableFuture.completedFuture(total);
+            }
+
+            return fetch(cursor, consumer, total);
+        });
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Map;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Column statistics of a table together with the state of the table they were collected at.
+ */
+public class TableColumnStatistics implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    private final int tableId;
+
+    private final String schemaName;
+
+    private final String tableName;
+
+    private final long sampledRows;
+
+    private final long tableSize;
+
+    private final long modificationCounter;
+
+    private final Instant collectedAt;
+
+    private final Map<String, ColumnStatistics> columns;
+
+    /**
+     * Constructor.
+     *
+     * @param tableId Table id.
+     * @param schemaName Name of the schema the table belongs to.
+     * @param tableName Name of the table.
+     * @param sampledRows Number of rows the statistics were built from.
+     * @param tableSize Estimated size of the table at the moment of collection.
+     * @param modificationCounter Modification counter of the table at the moment of collection.
+     * @param collectedAt Time of collection.
+     * @param columns Statistics of the columns by their names.
+     */
+    public TableColumnStatistics(
+            int tableId,
+            String schemaName,
+            String tableName,
+            long sampledRows,
+            long tableSize,
+            long modificationCounter,
+            Instant collectedAt,
+            Map<String, ColumnStatistics> columns
+    ) {
+        this.tableId = tableId;
+        this.schemaName = schemaName;
+        this.tableName = tableName;
+        this.sampledRows = sampledRows;
+        this.tableSize = tableSize;
+        this.modificationCounter = modificationCounter;
+        this.collectedAt = collectedAt;
+        this.columns = Map.copyOf(columns);
+    }
+
+    /** Returns table id. */
+    public int tableId() {
+        return tableId;
+    }
+
+    /** Returns name of the schema the table belongs to. */
+    public String schemaName() {
+        return schemaName;
+    }
+
+    /** Returns name of the table. */
+    public String tableName() {
+        return tableName;
+    }
+
+    /** Returns number of rows the statistics were built from. */
+    public long sampledRows() {
+        return sampledRows;
+    }
+
+    /** Returns estimated size of the table at the moment of collection. */
+    public long tableSize() {
+        return tableSize;
+    }
+
+    /** Returns modification counter of the table at the moment of collection. */
+    public long modificationCounter() {
+        return modificationCounter;
+    }
+
+    /** Returns time of collection. */
+    public Instant collectedAt() {
+        return collectedAt;
+    }
+
+    /** Returns statistics of all the collected columns. */
+    public Map<String, ColumnStatistics> columns() {
+        return columns;
+    }
+
+    /** Returns statistics of the given column, if collected. */
+    public @Nullable ColumnStatistics column(String columnName) {
+        return columns.get(columnName);
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(TableColumnStatistics.class, this);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+
+/**
+ * Source of sampled rows of a table for statistics collection.
+ */
+@FunctionalInterface
+public interface TableSampler {
+    /**
+     * Reads up to {@code maxRows} rows of a table.
+     *
+     * @param schemaName Name of the schema the table belongs to.
+     * @param tableName Name of the table.
+     * @param columns Names of the columns to read.
+     * @param maxRows Maximal number of rows to read.
+     * @param consumer Consumer of the rows, values are in the order of the requested columns.
+     * @return Future completed with the number of rows read.
+     */
+    CompletableFuture<Long> sample(String schemaName, String tableName, List<String> columns, long maxRows,
+            Consumer<InternalSqlRow> consumer);
+}
@@ -37,6 +37,9 @@ public interface QueryTransactionContext {
     /** Updates tracker of latest time observed by client. */
     void updateObservableTime(HybridTimestamp time);
 
+    /** Returns latest time observed by client, or {@code null} if nothing has been observed yet. */
+    @Nullable HybridTimestamp observableTime();
+
     /** Returns explicit transaction if one was provided by user. */
     @Nullable QueryTransactionWrapper explicitTx();
 }
@@ -77,6 +77,11 @@ public class QueryTransactionContextImpl implements QueryTransactionContext {
         observableTimeTracker.update(time);
     }
 
+    @Override
+    public @Nullable HybridTimestamp observableTime() {
+        return observableTimeTracker.get();
+    }
+
     /** Returns the external transaction if one has been started. */
     @Override
     public @Nullable QueryTransactionWrapper explicitTx() {
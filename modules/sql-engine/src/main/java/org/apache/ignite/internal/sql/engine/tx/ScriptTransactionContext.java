@@ -77,6 +77,11 @@ public class ScriptTransactionContext implements QueryTransactionContext {
         txContext.updateObservableTime(time);
     }
 
+    @Override
+    public @Nullable HybridTimestamp observableTime() {
+        return txContext.observableTime();
+    }
+
     @Override
     public @Nullable QueryTransactionWrapper explicitTx() {
         QueryTransactionWrapper tx = wrapper;
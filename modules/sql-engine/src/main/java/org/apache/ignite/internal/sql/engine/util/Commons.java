@@ -30,6 +30,7 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import java.io.StringReader;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -131,6 +132,29 @@ public final class Commons {
     public static final int IO_BATCH_SIZE = 256;
     public static final int IO_BATCH_COUNT = 4;
 
+    /** Name of the system property that enables the vectorized execution of filters and projections. */
+    public static final String VECTORIZED_EXECUTION_ENABLED = "SQL_VECTORIZED_EXECUTION_ENABLED";
+
+    /**
+     * Name of the system property that defines the memory quota (in bytes) of a query fragment. Non-positive value means no limit.
+     *
+     * <p>The quota is enforced for every fragment separately, so all fragments of a query running on a node may use up to the quota
+     * multiplied by the number of the fragments.
+     */
+    public static final String QUERY_MEMORY_QUOTA = "SQL_QUERY_MEMORY_QUOTA";
+
+    /**
+     * Name of the system property that defines the root directory to place temporary files of spilled operators to. Every node uses its
+     * own subdirectory of the root.
+     */
+    public static final String SPILL_DIRECTORY = "SQL_SPILL_DIRECTORY";
+
+    /** Name of the system property that defines the memory limit (in bytes) of the query result cache. Non-positive value disables it. */
+    public static final String RESULT_CACHE_SIZE = "SQL_RESULT_CACHE_SIZE";
+
+    /** Name of the system property that enables computation of partial aggregates right in the table scan. */
+    public static final String SCAN_AGGREGATION_ENABLED = "SQL_SCAN_AGGREGATION_ENABLED";
+
     private static final EnumSet<SqlKind> SUPPORTED_DDL = EnumSet.of(
             SqlKind.CREATE_SCHEMA, SqlKind.DROP_SCHEMA,
             SqlKind.CREATE_TABLE, SqlKind.ALTER_TABLE, SqlKind.DROP_TABLE,
@@ -621,6 +645,62 @@ public final class Commons {
         return IgniteSystemProperties.getBoolean("IMPLICIT_PK_ENABLED", false);
     }
 
+    /**
+     * Checks whether the vectorized execution of filters and projections is enabled or not.
+     *
+     * @return A {@code true} if the vectorized execution is enabled, {@code false} otherwise.
+     * @see org.apache.ignite.internal.sql.engine.exec.exp.vector.VectorizedCalc
+     */
+    public static boolean vectorizedExecutionEnabled() {
+        return IgniteSystemProperties.getBoolean(VECTORIZED_EXECUTION_ENABLED, false);
+    }
+
+    /**
+     * Returns the memory quota of a query fragment. When the quota is exceeded, memory-intensive operators spill their state to disk.
+     *
+     * @return Quota in bytes, or {@code 0} if the memory consumption is not limited.
+     * @see org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryQuota
+     */
+    public static long queryMemoryQuota() {
+        return Math.max(IgniteSystemProperties.getLong(QUERY_MEMORY_QUOTA, 0L), 0L);
+    }
+
+    /**
+     * Returns the directory to place temporary files of spilled operators of the given node to.
+     *
+     * <p>Every node has its own directory, so the nodes sharing a host and the spill root never touch the files of each other.
+     *
+     * @param nodeName Name of the node.
+     * @return Spill directory.
+     */
+    public static Path spillDirectory(String nodeName) {
+        String dir = IgniteSystemProperties.getString(SPILL_DIRECTORY);
+
+        Path root = dir == null ? Path.of(System.getProperty("java.io.tmpdir"), "ignite-sql-spill") : Path.of(dir);
+
+        return root.resolve(nodeName);
+    }
+
+    /**
+     * Returns the memory limit of the cache of read-only query results.
+     *
+     * @return Limit in bytes, or {@code 0} if the result cache is disabled.
+     * @see org.apache.ignite.internal.sql.engine.exec.cache.QueryResultCache
+     */
+    public static long resultCacheSize() {
+        return Math.max(IgniteSystemProperties.getLong(RESULT_CACHE_SIZE, 0L), 0L);
+    }
+
+    /**
+     * Checks whether simple map aggregates placed right on top of a table scan are computed by the scan itself.
+     *
+     * @return A {@code true} if the aggregation pushdown is enabled, {@code false} otherwise.
+     * @see org.apache.ignite.internal.sql.engine.exec.rel.TableScanAggregateNode
+     */
+    public static boolean scanAggregationEnabled() {
+        return IgniteSystemProperties.getBoolean(SCAN_AGGREGATION_ENABLED, true);
+    }
+
     /**
      * Checks whether a fast path optimizations are enabled or not.
      *
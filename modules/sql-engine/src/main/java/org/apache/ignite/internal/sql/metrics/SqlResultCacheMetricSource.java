@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.metrics;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/** Metric source, which provides SQL query result cache metrics. */
+public class SqlResultCacheMetricSource extends AbstractMetricSource<SqlResultCacheMetricSource.Holder> {
+    public static final String NAME = "sql.result.cache";
+
+    /** Constructor. */
+    public SqlResultCacheMetricSource() {
+        super(NAME);
+    }
+
+    /** Records a lookup which found a valid result. */
+    public void recordHit() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.hits.increment();
+        }
+    }
+
+    /** Records a lookup which found no valid result. */
+    public void recordMiss() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.misses.increment();
+        }
+    }
+
+    /** Records removal of a result which is no longer valid. */
+    public void recordInvalidation() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.invalidations.increment();
+        }
+    }
+
+    /** Records removal of a valid result to free memory for a new one. */
+    public void recordEviction() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.evictions.increment();
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final AtomicLongMetric hits = new AtomicLongMetric("Hits", "Result cache hits");
+        private final AtomicLongMetric misses = new AtomicLongMetric("Misses", "Result cache misses");
+        private final AtomicLongMetric invalidations = new AtomicLongMetric("Invalidations",
+                "Number of cached results removed because the underlying tables were modified or the low watermark was moved");
+        private final AtomicLongMetric evictions = new AtomicLongMetric("Evictions",
+                "Number of cached results removed because the memory limit was reached");
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(hits, misses, invalidations, evictions);
+        }
+    }
+}
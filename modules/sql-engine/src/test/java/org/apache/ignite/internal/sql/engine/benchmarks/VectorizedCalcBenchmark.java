@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.benchmarks;
+
+import static java.util.UUID.randomUUID;
+import static org.apache.ignite.internal.sql.engine.util.Commons.IN_BUFFER_SIZE;
+import static org.apache.ignite.internal.sql.engine.util.TypeUtils.convertStructuredType;
+import static org.mockito.Mockito.mock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory.Builder;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.network.ClusterNodeImpl;
+import org.apache.ignite.internal.network.InternalClusterNode;
+import org.apache.ignite.internal.sql.SqlCommon;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionId;
+import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
+import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler;
+import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler.RowWrapper;
+import org.apache.ignite.internal.sql.engine.exec.TxAttributes;
+import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactoryImpl;
+import org.apache.ignite.internal.sql.engine.exec.exp.SqlPredicate;
+import org.apache.ignite.internal.sql.engine.exec.exp.SqlProjection;
+import org.apache.ignite.internal.sql.engine.exec.exp.vector.VectorizedCalc;
+import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
+import org.apache.ignite.internal.sql.engine.framework.NoOpTransaction;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
+import org.apache.ignite.network.NetworkAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark that compares the vectorized evaluation of a filter and a projection with the row mode evaluation.
+ *
+ * <p>Input rows are binary tuples, as they come from a table scan.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VectorizedCalcBenchmark {
+    private static final int ROWS = 16 * IN_BUFFER_SIZE;
+
+    private final IgniteTypeFactory typeFactory = Commons.typeFactory();
+
+    private final RexBuilder rexBuilder = Commons.rexBuilder();
+
+    /** Row type: A INTEGER NOT NULL, B BIGINT, C DOUBLE. */
+    private final RelDataType rowType = new Builder(typeFactory)
+            .add("A", SqlTypeName.INTEGER)
+            .add("B", SqlTypeName.BIGINT).nullable(true)
+            .add("C", SqlTypeName.DOUBLE).nullable(true)
+            .build();
+
+    /** Whether the calc has a projection in addition to the filter. */
+    @Param({"false", "true"})
+    private boolean project;
+
+    private List<List<RowWrapper>> batches;
+
+    private ExecutionContext<RowWrapper> ctx;
+
+    private SqlPredicate predicate;
+
+    private SqlProjection projection;
+
+    private VectorizedCalc<RowWrapper> calc;
+
+    /** Prepares the input rows and compiles the expressions. */
+    @Setup
+    public void setUp() {
+        SqlRowHandler handler = SqlRowHandler.INSTANCE;
+        RowFactory<RowWrapper> inputFactory = handler.create(convertStructuredType(rowType));
+
+        batches = new ArrayList<>();
+
+        for (int i = 0; i < ROWS; i += IN_BUFFER_SIZE) {
+            List<RowWrapper> batch = new ArrayList<>(IN_BUFFER_SIZE);
+
+            for (int j = i; j < i + IN_BUFFER_SIZE; j++) {
+                RowWrapper row = inputFactory.create(j, j % 10 == 0 ? null : 2L * j, 0.5d * j);
+
+                batch.add(inputFactory.create(handler.toBinaryTuple(row)));
+            }
+
+            batches.add(batch);
+        }
+
+        InternalClusterNode node = new ClusterNodeImpl(randomUUID(), "fake-node", NetworkAddress.from("127.0.0.1:1111"));
+
+        ctx = new ExecutionContext<>(
+                new SqlExpressionFactoryImpl(typeFactory, 1024, CaffeineCacheFactory.INSTANCE),
+                mock(QueryTaskExecutor.class),
+                new ExecutionId(randomUUID(), 0),
+                node,
+                node.name(),
+                node.id(),
+                new FragmentDescription(0, true, Long2ObjectMaps.emptyMap(), null, null, null),
+                handler,
+                handler,
+                Map.of(),
+                TxAttributes.fromTx(new NoOpTransaction(node.name(), false)),
+                SqlCommon.DEFAULT_TIME_ZONE_ID,
+                IN_BUFFER_SIZE,
+                Clock.systemUTC(),
+                null,
+                1L
+        );
+
+        // A > 10 AND B IS NOT NULL
+        RexNode condition = rexBuilder.makeCall(SqlStdOperatorTable.AND,
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, ref(0), literal(10)),
+                rexBuilder.makeCall(SqlStdOperatorTable.IS_NOT_NULL, ref(1)));
+
+        // A + B, C * C, B > 100
+        List<RexNode> projects = project ? List.of(
+                rexBuilder.makeCall(SqlStdOperatorTable.PLUS, ref(0), ref(1)),
+                rexBuilder.makeCall(SqlStdOperatorTable.MULTIPLY, ref(2), ref(2)),
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, ref(1), literal(100))
+        ) : null;
+
+        predicate = ctx.expressionFactory().predicate(condition, rowType);
+
+        RowFactory<RowWrapper> outputFactory = null;
+
+        if (projects != null) {
+            projection = ctx.expressionFactory().project(projects, rowType);
+
+            RelDataType outType = typeFactory.createStructType(
+                    projects.stream().map(RexNode::getType).collect(Collectors.toList()),
+                    IntStream.range(0, projects.size()).mapToObj(i -> "F" + i).collect(Collectors.toList())
+            );
+
+            outputFactory = handler.create(convertStructuredType(outType));
+        }
+
+        calc = VectorizedCalc.create(handler, rowType, condition, projects, outputFactory, row -> projection.project(ctx, row),
+                IN_BUFFER_SIZE);
+
+        assert calc != null;
+    }
+
+    /** Evaluates the expressions row by row, as the filter and project nodes do. */
+    @Benchmark
+    public void rowMode(Blackhole bh) {
+        List<RowWrapper> out = new ArrayList<>(IN_BUFFER_SIZE);
+
+        for (List<RowWrapper> batch : batches) {
+            for (RowWrapper row : batch) {
+                if (predicate.test(ctx, row)) {
+                    out.add(projection == null ? row : projection.project(ctx, row));
+                }
+            }
+
+            bh.consume(out);
+
+            out.clear();
+        }
+    }
+
+    /** Evaluates the expressions for a batch of rows at once. */
+    @Benchmark
+    public void vectorized(Blackhole bh) {
+        List<RowWrapper> out = new ArrayList<>(IN_BUFFER_SIZE);
+
+        for (List<RowWrapper> batch : batches) {
+            calc.process(batch, out);
+
+            bh.consume(out);
+
+            out.clear();
+        }
+    }
+
+    private RexNode ref(int idx) {
+        return rexBuilder.makeInputRef(rowType.getFieldList().get(idx).getType(), idx);
+    }
+
+    private RexNode literal(int val) {
+        return rexBuilder.makeExactLiteral(BigDecimal.valueOf(val));
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options build = new OptionsBuilder()
+                // .addProfiler("gc")
+                .include(VectorizedCalcBenchmark.class.getName())
+                .build();
+
+        new Runner(build).run();
+    }
+}
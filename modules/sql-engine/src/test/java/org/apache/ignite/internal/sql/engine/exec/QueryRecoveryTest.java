@@ -332,6 +332,11 @@ public class QueryRecoveryTest extends BaseIgniteAbstractTest {
             // NO-OP
         }
 
+        @Override
+        public @Nullable HybridTimestamp observableTime() {
+            return null;
+        }
+
         @Override
         public @Nullable QueryTransactionWrapper explicitTx() {
             return txWrapper.implicit() ? null : txWrapper;
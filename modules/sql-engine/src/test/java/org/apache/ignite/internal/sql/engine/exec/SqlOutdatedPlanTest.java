@@ -263,6 +263,11 @@ public class SqlOutdatedPlanTest extends BaseIgniteAbstractTest {
             // NO-OP
         }
 
+        @Override
+        public @Nullable HybridTimestamp observableTime() {
+            return null;
+        }
+
         @Override
         public @Nullable QueryTransactionWrapper explicitTx() {
             return null;
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.exec.AsyncDataCursor;
+import org.apache.ignite.internal.sql.engine.prepare.PlanId;
+import org.apache.ignite.internal.sql.engine.util.IteratorToDataCursorAdapter;
+import org.apache.ignite.internal.sql.engine.util.ListToInternalSqlRowAdapter;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.AsyncCursor.BatchedResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link QueryResultCache} and {@link CachingDataCursor}.
+ */
+class QueryResultCacheTest extends BaseIgniteAbstractTest {
+    private static final int TABLE_ID = 1;
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    private final Int2LongMap counters = new Int2LongOpenHashMap();
+
+    private final AtomicReference<HybridTimestamp> lowWatermark = new AtomicReference<>();
+
+    private final UUID prepareServiceId = UUID.randomUUID();
+
+    private SqlResultCacheMetricSource metricSource;
+
+    private MetricSet metrics;
+
+    private QueryResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        counters.defaultReturnValue(QueryResultCache.UNKNOWN_COUNTER);
+        counters.put(TABLE_ID, 10L);
+
+        metricSource = new SqlResultCacheMetricSource();
+        metrics = metricSource.enable();
+
+        cache = new QueryResultCache(10_000, counters::get, lowWatermark::get, metricSource);
+    }
+
+    @Test
+    void returnsCachedResult() {
+        ResultCacheKey key = key(1, 42);
+        List<InternalSqlRow> rows = rows(10);
+
+        assertNull(cache.get(key, null));
+
+        put(key, rows, 100);
+
+        assertSame(rows, cache.get(key, null));
+        assertNull(cache.get(key(1, 43), null));
+        assertNull(cache.get(key(2, 42), null));
+
+        assertEquals(1, metric("Hits"));
+        assertEquals(3, metric("Misses"));
+    }
+
+    @Test
+    void keyComparesParametersDeeply() {
+        ResultCacheKey key = new ResultCacheKey(new PlanId(prepareServiceId, 1), 1, new Object[]{new byte[]{1, 2}}, ZONE);
+        ResultCacheKey same = new ResultCacheKey(new PlanId(prepareServiceId, 1), 1, new Object[]{new byte[]{1, 2}}, ZONE);
+        ResultCacheKey otherZone = new ResultCacheKey(new PlanId(prepareServiceId, 1), 1, new Object[]{new byte[]{1, 2}},
+                ZoneId.of("Europe/Paris"));
+        ResultCacheKey otherVersion = new ResultCacheKey(new PlanId(prepareServiceId, 1), 2, new Object[]{new byte[]{1, 2}}, ZONE);
+
+        assertEquals(key, same);
+        assertEquals(key.hashCode(), same.hashCode());
+        assertFalse(key.equals(otherZone));
+        assertFalse(key.equals(otherVersion));
+    }
+
+    @Test
+    void invalidatesResultWhenTableIsModified() {
+        ResultCacheKey key = key(1, 42);
+
+        put(key, rows(1), 100);
+
+        counters.put(TABLE_ID, 11L);
+
+        assertNull(cache.get(key, null));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.usedBytes());
+        assertEquals(1, metric("Invalidations"));
+    }
+
+    @Test
+    void invalidatesResultWhenTableIsModifiedLocally() {
+        ResultCacheKey key = key(1, 42);
+        ResultCacheKey otherTableKey = key(2, 42);
+
+        counters.put(TABLE_ID + 1, 10L);
+
+        put(key, rows(1), 100);
+
+        int[] otherTable = {TABLE_ID + 1};
+        long[] otherTableSnapshot = cache.modificationCounters(otherTable);
+
+        assertNotNull(otherTableSnapshot);
+
+        cache.put(otherTableKey, rows(1), 100, otherTable, otherTableSnapshot, HybridTimestamp.hybridTimestamp(100));
+
+        // The statistics don't know about the modification yet.
+        cache.invalidate(new int[]{TABLE_ID});
+
+        assertNull(cache.get(key, null));
+        assertNotNull(cache.get(otherTableKey, null));
+        assertEquals(1, metric("Invalidations"));
+
+        // The counters taken before the invalidation are stale, and those taken after it are not.
+        long[] snapshot = cache.modificationCounters(new int[]{TABLE_ID});
+
+        assertNotNull(snapshot);
+
+        cache.invalidate(new int[]{TABLE_ID});
+
+        cache.put(key, rows(1), 100, new int[]{TABLE_ID}, snapshot, HybridTimestamp.hybridTimestamp(100));
+
+        assertNull(cache.get(key, null));
+
+        put(key, rows(1), 100);
+
+        assertNotNull(cache.get(key, null));
+    }
+
+    @Test
+    void doesNotReturnResultReadBeforeObservableTime() {
+        ResultCacheKey key = key(1, 42);
+
+        put(key, rows(1), 100);
+
+        assertNotNull(cache.get(key, HybridTimestamp.hybridTimestamp(99)));
+        assertNotNull(cache.get(key, HybridTimestamp.hybridTimestamp(100)));
+
+        // The session has observed a later time, for example its own write, which the result might not reflect.
+        assertNull(cache.get(key, HybridTimestamp.hybridTimestamp(101)));
+
+        // The result is still valid for the other sessions.
+        assertNotNull(cache.get(key, null));
+        assertEquals(1, cache.size());
+        assertEquals(0, metric("Invalidations"));
+        assertEquals(1, metric("Misses"));
+    }
+
+    @Test
+    void doesNotCacheResultWhenTableIsModifiedDuringExecution() {
+        ResultCacheKey key = key(1, 42);
+
+        long[] snapshot = cache.modificationCounters(new int[]{TABLE_ID});
+
+        assertNotNull(snapshot);
+
+        counters.put(TABLE_ID, 11L);
+
+        cache.put(key, rows(1), 100, new int[]{TABLE_ID}, snapshot, HybridTimestamp.hybridTimestamp(100));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void doesNotCacheResultOfTableWithUnknownCounter() {
+        assertNull(cache.modificationCounters(new int[]{TABLE_ID, TABLE_ID + 1}));
+    }
+
+    @Test
+    void invalidatesResultBelowLowWatermark() {
+        ResultCacheKey key = key(1, 42);
+
+        put(key, rows(1), 100);
+
+        lowWatermark.set(HybridTimestamp.hybridTimestamp(50));
+
+        assertNotNull(cache.get(key, null));
+
+        lowWatermark.set(HybridTimestamp.hybridTimestamp(100));
+
+        assertNull(cache.get(key, null));
+        assertEquals(1, metric("Invalidations"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedResults() {
+        ResultCacheKey first = key(1, 1);
+        ResultCacheKey second = key(1, 2);
+        ResultCacheKey third = key(1, 3);
+
+        put(first, rows(1), 600);
+        put(second, rows(1), 600);
+
+        for (int i = 4; i < 20; i++) {
+            // The most recently accessed result must survive, while the rest are evicted in the insertion order.
+            assertNotNull(cache.get(first, null));
+
+            put(key(1, i), rows(1), 1_000);
+        }
+
+        assertNotNull(cache.get(first, null));
+        assertNull(cache.get(second, null));
+        assertNull(cache.get(third, null));
+
+        assertTrue(cache.usedBytes() <= 10_000, "usedBytes=" + cache.usedBytes());
+        assertTrue(metric("Evictions") > 0);
+    }
+
+    @Test
+    void doesNotCacheTooLargeResult() {
+        ResultCacheKey key = key(1, 42);
+
+        put(key, rows(1), cache.maxEntryBytes() + 1);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void cursorPassesCompleteResult() {
+        List<InternalSqlRow> rows = rows(10);
+        List<List<InternalSqlRow>> results = new ArrayList<>();
+
+        CachingDataCursor cursor = new CachingDataCursor(source(rows), 10_000, (result, size) -> results.add(result));
+
+        BatchedResult<InternalSqlRow> batch = cursor.requestNextAsync(4).join();
+
+        assertEquals(4, batch.items().size());
+        assertTrue(results.isEmpty());
+
+        cursor.requestNextAsync(4).join();
+        batch = cursor.requestNextAsync(4).join();
+
+        assertFalse(batch.hasMore());
+        assertEquals(1, results.size());
+        assertEquals(rows, results.get(0));
+    }
+
+    @Test
+    void cursorSkipsResultWhenClosedEarly() {
+        List<List<InternalSqlRow>> results = new ArrayList<>();
+
+        CachingDataCursor cursor = new CachingDataCursor(source(rows(10)), 10_000, (result, size) -> results.add(result));
+
+        cursor.requestNextAsync(4).join();
+        cursor.closeAsync().join();
+
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    void cursorSkipsTooLargeResult() {
+        List<List<InternalSqlRow>> results = new ArrayList<>();
+
+        CachingDataCursor cursor = new CachingDataCursor(source(rows(100)), 100, (result, size) -> results.add(result));
+
+        BatchedResult<InternalSqlRow> batch = cursor.requestNextAsync(1_000).join();
+
+        assertEquals(100, batch.items().size());
+        assertFalse(batch.hasMore());
+        assertTrue(results.isEmpty());
+    }
+
+    private void put(ResultCacheKey key, List<InternalSqlRow> rows, long size) {
+        int[] tables = {TABLE_ID};
+        long[] snapshot = cache.modificationCounters(tables);
+
+        assertNotNull(snapshot);
+
+        cache.put(key, rows, size, tables, snapshot, HybridTimestamp.hybridTimestamp(100));
+    }
+
+    private ResultCacheKey key(long planNumber, int param) {
+        return new ResultCacheKey(new PlanId(prepareServiceId, planNumber), 1, new Object[]{param}, ZONE);
+    }
+
+    private long metric(String name) {
+        return metrics.<LongMetric>get(name).value();
+    }
+
+    private static List<InternalSqlRow> rows(int count) {
+        List<InternalSqlRow> rows = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            rows.add(new ListToInternalSqlRowAdapter(List.of(i, "row" + i)));
+        }
+
+        return rows;
+    }
+
+    private static AsyncDataCursor<InternalSqlRow> source(List<InternalSqlRow> rows) {
+        return new IteratorToDataCursorAdapter<>(CompletableFuture.completedFuture(rows.iterator()), Runnable::run);
+    }
+}
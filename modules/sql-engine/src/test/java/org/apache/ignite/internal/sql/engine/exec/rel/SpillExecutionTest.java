@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.SINGLE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.testframework.WithSystemProperty;
+import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.type.StructNativeType;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests of the execution nodes which spill their state to disk when the memory quota of the query is exhausted.
+ */
+@WithSystemProperty(key = Commons.QUERY_MEMORY_QUOTA, value = "4096")
+public class SpillExecutionTest extends AbstractExecutionTest<Object[]> {
+    private static final int BUFFER_SIZE = 8;
+
+    @Test
+    public void externalSort() throws IOException {
+        ExecutionContext<Object[]> ctx = executionContext(BUFFER_SIZE);
+        RelDataType rowType = rowType(ctx, NativeTypes.INT32, NativeTypes.STRING);
+
+        Random rnd = new Random();
+        List<Object[]> data = IntStream.range(0, 2_000)
+                .mapToObj(i -> row(rnd.nextInt(500), "val" + i))
+                .collect(Collectors.toList());
+
+        SortNode<Object[]> sort = new SortNode<>(
+                ctx,
+                Comparator.comparingInt((Object[] r) -> (Integer) r[0]),
+                0,
+                -1,
+                ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(rowType))
+        );
+
+        sort.register(new ScanNode<>(ctx, data));
+
+        List<Object[]> res = execute(ctx, sort);
+
+        assertEquals(data.size(), res.size());
+
+        for (int i = 1; i < res.size(); i++) {
+            assertTrue((Integer) res.get(i - 1)[0] <= (Integer) res.get(i)[0]);
+        }
+
+        assertEquals(toStrings(data), toStrings(res));
+
+        assertResourcesReleased(ctx);
+    }
+
+    @Test
+    public void partitionedHashAggregate() throws IOException {
+        ExecutionContext<Object[]> ctx = executionContext(BUFFER_SIZE);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = rowType(ctx, NativeTypes.INT32, NativeTypes.INT32);
+
+        int groups = 1_000;
+        int rowsPerGroup = 3;
+
+        List<Object[]> data = IntStream.range(0, groups * rowsPerGroup)
+                .mapToObj(i -> row(i % groups, i))
+                .collect(Collectors.toList());
+
+        AggregateCall call = AggregateCall.create(
+                SqlStdOperatorTable.COUNT,
+                false,
+                false,
+                false,
+                List.of(),
+                List.of(),
+                -1,
+                null,
+                RelCollations.EMPTY,
+                tf.createSqlType(SqlTypeName.BIGINT),
+                null
+        );
+
+        StructNativeType outputSchema = NativeTypes.structBuilder()
+                .addField("F0", NativeTypes.INT32, true)
+                .addField("R0", NativeTypes.INT64, false)
+                .build();
+
+        HashAggregateNode<Object[]> agg = new HashAggregateNode<>(
+                ctx,
+                SINGLE,
+                List.of(ImmutableBitSet.of(0)),
+                ctx.expressionFactory().<Object[]>accumulatorsFactory(SINGLE, List.of(call), rowType).get(ctx),
+                ctx.rowFactoryFactory().create(outputSchema),
+                ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(rowType))
+        );
+
+        agg.register(new ScanNode<>(ctx, data));
+
+        List<Object[]> res = execute(ctx, agg);
+
+        assertEquals(groups, res.size());
+        assertEquals(groups, res.stream().map(r -> r[0]).distinct().count());
+
+        for (Object[] row : res) {
+            assertEquals(rowsPerGroup, ((Number) row[1]).longValue(), Arrays.toString(row));
+        }
+
+        assertResourcesReleased(ctx);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = JoinRelType.class, names = {"INNER", "LEFT", "RIGHT", "FULL", "SEMI", "ANTI"})
+    public void graceHashJoin(JoinRelType joinType) throws IOException {
+        ExecutionContext<Object[]> ctx = executionContext(BUFFER_SIZE);
+
+        RelDataType leftType = rowType(ctx, NativeTypes.INT32, NativeTypes.STRING, NativeTypes.INT32);
+        RelDataType rightType = rowType(ctx, NativeTypes.INT32, NativeTypes.STRING);
+        JoinInfo joinInfo = JoinInfo.of(ImmutableIntList.of(2), ImmutableIntList.of(0));
+
+        List<Object[]> left = IntStream.range(0, 2_000)
+                .mapToObj(i -> row(i, "emp" + i, i % 97 == 0 ? null : i % 600))
+                .collect(Collectors.toList());
+
+        List<Object[]> right = Stream.concat(
+                IntStream.range(0, 500).mapToObj(i -> row(i, "dep" + i)),
+                Stream.of(row(7, "dup7"), row(42, "dup42"), row(null, "nobody"))
+        ).collect(Collectors.toList());
+
+        GraceHashJoinNode<Object[]> graceJoin = new GraceHashJoinNode<>(
+                ctx,
+                () -> HashJoinNode.create(ctx, createIdentityProjectionIfNeeded(joinType), leftType, rightType, joinType, joinInfo, null),
+                joinInfo,
+                ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(leftType)),
+                ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(rightType))
+        );
+
+        graceJoin.register(List.of(new ScanNode<>(ctx, left), new ScanNode<>(ctx, right)));
+
+        List<Object[]> res = execute(ctx, graceJoin);
+
+        ExecutionContext<Object[]> expCtx = executionContext(BUFFER_SIZE);
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(
+                expCtx, createIdentityProjectionIfNeeded(joinType), leftType, rightType, joinType, joinInfo, null
+        );
+
+        join.register(List.of(new ScanNode<>(expCtx, left), new ScanNode<>(expCtx, right)));
+
+        List<Object[]> expected = execute(expCtx, join);
+
+        assertFalse(expected.isEmpty());
+        assertEquals(toStrings(expected), toStrings(res));
+
+        assertResourcesReleased(ctx);
+    }
+
+    private static RelDataType rowType(ExecutionContext<Object[]> ctx, NativeType... types) {
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+
+        return TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, types));
+    }
+
+    private static List<Object[]> execute(ExecutionContext<Object[]> ctx, Node<Object[]> node) {
+        RootNode<Object[]> root = new RootNode<>(ctx);
+
+        root.register(node);
+
+        List<Object[]> res = new ArrayList<>();
+
+        StreamSupport.stream(Spliterators.spliteratorUnknownSize(root, Spliterator.ORDERED), false).forEach(res::add);
+
+        root.close();
+
+        return res;
+    }
+
+    private static List<String> toStrings(List<Object[]> rows) {
+        return rows.stream().map(Arrays::toString).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    public void nodesUseSeparateSpillDirectories() {
+        assertNotEquals(Commons.spillDirectory("node1"), Commons.spillDirectory("node2"));
+    }
+
+    @Test
+    public void existingSpillFileIsNotReused() throws IOException {
+        ExecutionContext<Object[]> ctx = executionContext(BUFFER_SIZE);
+        RowFactory<Object[]> factory = ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(rowType(ctx, NativeTypes.INT32)));
+
+        Path dir = Files.createTempDirectory("spill");
+
+        try {
+            // Managers with the same prefix produce the same file names.
+            SpillManager manager1 = new SpillManager(dir, "query-0");
+            SpillManager manager2 = new SpillManager(dir, "query-0");
+
+            try (SpillFile<Object[]> ignored = manager1.createFile(ctx.rowAccessor(), factory)) {
+                assertThrows(IgniteInternalException.class, () -> manager2.createFile(ctx.rowAccessor(), factory));
+            }
+        } finally {
+            IgniteUtils.deleteIfExists(dir);
+        }
+    }
+
+    private static void assertResourcesReleased(ExecutionContext<Object[]> ctx) throws IOException {
+        assertEquals(0, ctx.memoryQuota().reserved());
+
+        Path dir = ctx.spillManager().directory();
+
+        if (Files.exists(dir)) {
+            String prefix = ctx.queryId() + "-" + ctx.fragmentId() + "-";
+
+            try (Stream<Path> files = Files.list(dir)) {
+                assertEquals(List.of(), files.filter(f -> f.getFileName().toString().startsWith(prefix)).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+
+    @Override
+    protected RowFactoryFactory<Object[]> rowFactoryFactory() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
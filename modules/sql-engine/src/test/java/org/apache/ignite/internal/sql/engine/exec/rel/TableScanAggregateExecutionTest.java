@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.MAP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.framework.DataProvider;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.PlanUtils;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests execution flow of TableScanAggregateNode.
+ */
+public class TableScanAggregateExecutionTest extends AbstractExecutionTest<Object[]> {
+    @Test
+    public void lowCardinalityGroupsAreAggregated() {
+        int rows = 3 * TableScanAggregateNode.ADAPTIVE_CHECK_ROWS;
+        int groups = 7;
+
+        TableScanAggregateNode<Object[]> node = createNode(rows, groups);
+
+        List<Object[]> result = execute(node);
+
+        assertFalse(node.passThrough());
+        assertEquals(groups, result.size());
+
+        checkTotals(result, rows, groups);
+    }
+
+    @Test
+    public void highCardinalityGroupsArePassedThrough() {
+        int rows = 3 * TableScanAggregateNode.ADAPTIVE_CHECK_ROWS;
+
+        TableScanAggregateNode<Object[]> node = createNode(rows, rows);
+
+        List<Object[]> result = execute(node);
+
+        assertTrue(node.passThrough());
+        assertEquals(rows, result.size());
+
+        checkTotals(result, rows, rows);
+    }
+
+    @Test
+    public void emptyTable() {
+        TableScanAggregateNode<Object[]> node = createNode(0, 1);
+
+        assertTrue(execute(node).isEmpty());
+    }
+
+    /**
+     * Creates a node computing {@code COUNT(*), SUM(val) GROUP BY grp} over the rows {@code (i % groups, i)}.
+     */
+    private TableScanAggregateNode<Object[]> createNode(int rows, int groups) {
+        ExecutionContext<Object[]> ctx = executionContext();
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+
+        RelDataType rowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.INT64));
+
+        List<Object[]> data = new ArrayList<>(rows);
+
+        for (int i = 0; i < rows; i++) {
+            data.add(row(i % groups, (long) i));
+        }
+
+        List<AggregateCall> calls = List.of(
+                createAggregateCall(SqlStdOperatorTable.COUNT, List.of(), tf.createSqlType(SqlTypeName.BIGINT)),
+                createAggregateCall(SqlStdOperatorTable.SUM, List.of(1), tf.createSqlType(SqlTypeName.BIGINT))
+        );
+
+        List<ImmutableBitSet> grpSets = List.of(ImmutableBitSet.of(0));
+
+        RelDataType mapRowType = PlanUtils.createHashAggRowType(grpSets, tf, rowType, calls);
+
+        RowFactory<Object[]> rowFactory = ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(rowType));
+        RowFactory<Object[]> mapRowFactory = ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(mapRowType));
+
+        List<PartitionWithConsistencyToken> partitions = List.of(new PartitionWithConsistencyToken(1, 42L));
+
+        return new TableScanAggregateNode<>(
+                ctx,
+                rowFactory,
+                mock(IgniteTable.class),
+                TestBuilders.tableScan(DataProvider.fromCollection(data)),
+                c -> partitions,
+                null,
+                null,
+                grpSets.get(0),
+                ctx.expressionFactory().<Object[]>accumulatorsFactory(MAP, calls, rowType).get(ctx),
+                mapRowFactory
+        );
+    }
+
+    private static List<Object[]> execute(TableScanAggregateNode<Object[]> node) {
+        RootNode<Object[]> root = new RootNode<>(node.context());
+
+        root.register(node);
+
+        List<Object[]> result = new ArrayList<>();
+
+        while (root.hasNext()) {
+            result.add(root.next());
+        }
+
+        return result;
+    }
+
+    /** Merges partial aggregates emitted by the node and checks them against the expected values. */
+    private static void checkTotals(List<Object[]> result, int rows, int groups) {
+        Map<Integer, long[]> totals = new HashMap<>();
+
+        for (Object[] row : result) {
+            long[] total = totals.computeIfAbsent((Integer) row[0], k -> new long[2]);
+
+            total[0] += ((Number) row[1]).longValue();
+            total[1] += ((Number) row[2]).longValue();
+        }
+
+        assertEquals(groups, totals.size());
+
+        for (int grp = 0; grp < groups; grp++) {
+            long expCnt = 0;
+            long expSum = 0;
+
+            for (int i = grp; i < rows; i += groups) {
+                expCnt++;
+                expSum += i;
+            }
+
+            long[] total = totals.get(grp);
+
+            assertEquals(expCnt, total[0], "grp=" + grp);
+            assertEquals(expSum, total[1], "grp=" + grp);
+        }
+    }
+
+    private static AggregateCall createAggregateCall(SqlAggFunction func, List<Integer> args, RelDataType resultType) {
+        return AggregateCall.create(
+                func,
+                false,
+                false,
+                false,
+                List.of(),
+                args,
+                -1,
+                null,
+                RelCollations.EMPTY,
+                resultType,
+                null
+        );
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+
+    @Override
+    protected RowFactoryFactory<Object[]> rowFactoryFactory() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
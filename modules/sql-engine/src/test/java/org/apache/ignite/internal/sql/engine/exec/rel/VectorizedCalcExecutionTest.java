@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.sql.engine.util.Commons.IN_BUFFER_SIZE;
+import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.assertThrowsSqlException;
+import static org.apache.ignite.internal.sql.engine.util.TypeUtils.convertStructuredType;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory.Builder;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.exp.vector.VectorizedCalc;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.lang.ErrorGroups.Sql;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test VectorizedCalcNode execution.
+ */
+public class VectorizedCalcExecutionTest extends AbstractExecutionTest<Object[]> {
+    private final IgniteTypeFactory typeFactory = Commons.typeFactory();
+
+    private final RexBuilder rexBuilder = Commons.rexBuilder();
+
+    /** Row type: A INTEGER NOT NULL, B BIGINT, C VARCHAR. */
+    private final RelDataType rowType = new Builder(typeFactory)
+            .add("A", SqlTypeName.INTEGER)
+            .add("B", SqlTypeName.BIGINT).nullable(true)
+            .add("C", SqlTypeName.VARCHAR).nullable(true)
+            .build();
+
+    @Test
+    public void testFilter() {
+        // A > 10 AND B IS NOT NULL
+        RexNode condition = rexBuilder.makeCall(SqlStdOperatorTable.AND,
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, ref(0), literal(10)),
+                rexBuilder.makeCall(SqlStdOperatorTable.IS_NOT_NULL, ref(1)));
+
+        for (int bufSize : new int[]{1, 10, IN_BUFFER_SIZE}) {
+            for (int dataSize : new int[]{0, 1, bufSize - 1, bufSize, bufSize + 1, 3 * bufSize + 7}) {
+                List<Object[]> res = execute(bufSize, dataSize, condition, null);
+
+                int[] expected = IntStream.range(0, dataSize).filter(i -> i > 10 && i % 3 != 0).toArray();
+
+                assertArrayEquals(expected, res.stream().mapToInt(r -> (int) r[0]).toArray());
+            }
+        }
+    }
+
+    @Test
+    public void testProjection() {
+        // C, A + B, B > 100
+        List<RexNode> projects = List.of(
+                ref(2),
+                rexBuilder.makeCall(SqlStdOperatorTable.PLUS, ref(0), ref(1)),
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, ref(1), literal(100))
+        );
+
+        int dataSize = 2 * IN_BUFFER_SIZE + 1;
+
+        List<Object[]> res = execute(IN_BUFFER_SIZE, dataSize, null, projects);
+
+        assertEquals(dataSize, res.size());
+
+        for (int i = 0; i < dataSize; i++) {
+            Object[] row = res.get(i);
+
+            assertEquals("v" + i, row[0]);
+
+            if (i % 3 == 0) {
+                assertNull(row[1]);
+                assertNull(row[2]);
+            } else {
+                assertEquals(3L * i, row[1]);
+                assertEquals(2L * i > 100, row[2]);
+            }
+        }
+    }
+
+    @Test
+    public void testRightOperandIsNotEvaluatedForDecidedRows() {
+        // A < 100 AND B * B > 0
+        RexNode condition = rexBuilder.makeCall(SqlStdOperatorTable.AND,
+                rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, ref(0), literal(100)),
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN,
+                        rexBuilder.makeCall(SqlStdOperatorTable.MULTIPLY, ref(1), ref(1)), literal(0)));
+
+        VectorizedCalc<Object[]> calc = calc(condition, null);
+
+        List<Object[]> res = new ArrayList<>();
+
+        // B * B overflows for the first row, but it is filtered out by the left operand.
+        calc.process(List.of(new Object[]{1000, Long.MAX_VALUE, "a"}, new Object[]{1, 2L, "b"}), res);
+
+        assertEquals(1, res.size());
+        assertEquals("b", res.get(0)[2]);
+
+        assertThrowsSqlException(
+                Sql.RUNTIME_ERR,
+                "BIGINT out of range",
+                () -> calc.process(List.<Object[]>of(new Object[]{1, Long.MAX_VALUE, "a"}), new ArrayList<>())
+        );
+    }
+
+    @Test
+    public void testFallbackToRowMode() {
+        // Numeric columns are supported, but character ones are not.
+        assertNotNull(calc(rexBuilder.makeCall(SqlStdOperatorTable.IS_NULL, ref(1)), null));
+        assertNull(calc(rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, ref(2), rexBuilder.makeLiteral("a")), null));
+
+        // Projection that doesn't compute anything.
+        assertNull(calc(null, List.of(ref(2), ref(0))));
+    }
+
+    private List<Object[]> execute(int bufSize, int dataSize, RexNode condition, List<RexNode> projects) {
+        ExecutionContext<Object[]> ctx = executionContext(bufSize);
+
+        ScanNode<Object[]> srcNode = new ScanNode<>(ctx, () -> IntStream.range(0, dataSize).mapToObj(this::row).iterator());
+        VectorizedCalcNode<Object[]> calcNode = new VectorizedCalcNode<>(ctx, calc(condition, projects));
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+
+        calcNode.register(srcNode);
+        rootNode.register(calcNode);
+
+        List<Object[]> res = new ArrayList<>();
+
+        StreamSupport.stream(Spliterators.spliteratorUnknownSize(rootNode, Spliterator.ORDERED), false).forEach(res::add);
+
+        return res;
+    }
+
+    private VectorizedCalc<Object[]> calc(RexNode condition, List<RexNode> projects) {
+        RowFactory<Object[]> rowFactory = null;
+
+        if (projects != null) {
+            RelDataType outType = typeFactory.createStructType(
+                    projects.stream().map(RexNode::getType).collect(Collectors.toList()),
+                    IntStream.range(0, projects.size()).mapToObj(i -> "F" + i).collect(Collectors.toList())
+            );
+
+            rowFactory = rowFactoryFactory().create(convertStructuredType(outType));
+        }
+
+        return VectorizedCalc.create(rowHandler(), rowType, condition, projects, rowFactory, row -> row, IN_BUFFER_SIZE);
+    }
+
+    private Object[] row(int i) {
+        return new Object[]{i, i % 3 == 0 ? null : 2L * i, "v" + i};
+    }
+
+    private RexNode ref(int idx) {
+        return rexBuilder.makeInputRef(rowType.getFieldList().get(idx).getType(), idx);
+    }
+
+    private RexNode literal(int val) {
+        return rexBuilder.makeExactLiteral(BigDecimal.valueOf(val));
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+
+    @Override
+    protected RowFactoryFactory<Object[]> rowFactoryFactory() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
@@ -135,6 +135,34 @@ public class SqlRowHandlerTest extends IgniteAbstractTest {
         }
     }
 
+    @Test
+    public void testPrimitiveGetters() {
+        StructNativeType schema = NativeTypes.structBuilder()
+                .addField("C1", NativeTypes.INT8, false)
+                .addField("C2", NativeTypes.INT16, false)
+                .addField("C3", NativeTypes.INT32, false)
+                .addField("C4", NativeTypes.INT64, false)
+                .addField("C5", NativeTypes.FLOAT, false)
+                .addField("C6", NativeTypes.DOUBLE, false)
+                .addField("C7", NativeTypes.BOOLEAN, false)
+                .build();
+
+        RowFactory<RowWrapper> factory = handler.create(schema);
+
+        RowWrapper row = factory.create((byte) 1, (short) 2, 3, 4L, 5.5f, 6.5d, true);
+        RowWrapper binRow = factory.create(handler.toBinaryTuple(row));
+
+        for (RowWrapper r : List.of(row, binRow)) {
+            assertEquals(1L, handler.getLong(0, r));
+            assertEquals(2L, handler.getLong(1, r));
+            assertEquals(3L, handler.getLong(2, r));
+            assertEquals(4L, handler.getLong(3, r));
+            assertEquals(5.5d, handler.getDouble(4, r));
+            assertEquals(6.5d, handler.getDouble(5, r));
+            assertTrue(handler.getBoolean(6, r));
+        }
+    }
+
     @Test
     public void testUpdateRowSchemaOnMapping() {
         SqlRowHandler handler = SqlRowHandler.INSTANCE;
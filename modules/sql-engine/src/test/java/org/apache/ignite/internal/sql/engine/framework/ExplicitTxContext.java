@@ -54,4 +54,9 @@ public class ExplicitTxContext implements QueryTransactionContext {
     public void updateObservableTime(HybridTimestamp time) {
         observableTimeTracker.update(time);
     }
+
+    @Override
+    public @Nullable HybridTimestamp observableTime() {
+        return observableTimeTracker.get();
+    }
 }
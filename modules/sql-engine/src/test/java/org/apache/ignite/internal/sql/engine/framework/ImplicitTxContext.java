@@ -49,6 +49,7 @@ public class ImplicitTxContext implements QueryTransactionContext {
         observableTimeTracker.update(time);
     }
 
+    @Override
     public @Nullable HybridTimestamp observableTime() {
         return observableTimeTracker.get();
     }
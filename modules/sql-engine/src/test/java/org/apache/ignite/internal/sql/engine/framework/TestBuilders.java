@@ -136,6 +136,7 @@ import org.apache.ignite.internal.sql.engine.schema.TableDescriptor;
 import org.apache.ignite.internal.sql.engine.schema.TableDescriptorImpl;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManager;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
@@ -688,7 +689,8 @@ public class TestBuilders {
             var parserService = new ParserServiceImpl();
 
             ConcurrentMap<String, Long> tablesSize = new ConcurrentHashMap<>();
-            var schemaManager = createSqlSchemaManager(catalogManager, tablesSize);
+            ConcurrentMap<String, Map<String, ColumnStatistics>> columnStatistics = new ConcurrentHashMap<>();
+            var schemaManager = createSqlSchemaManager(catalogManager, tablesSize, columnStatistics);
 
             ClockServiceImpl clockService = mock(ClockServiceImpl.class);
 
@@ -823,6 +825,7 @@ public class TestBuilders {
 
             return new TestCluster(
                     tablesSize,
+                    columnStatistics,
                     dataProvidersByTableName,
                     updatableTablesByName,
                     assignmentsProviderByTableName,
@@ -884,16 +887,34 @@ public class TestBuilders {
         catalogManager.listen(CatalogEvent.INDEX_CREATE, EventListener.fromConsumer(createIndexHandler));
     }
 
-    private static SqlSchemaManagerImpl createSqlSchemaManager(CatalogManager catalogManager, ConcurrentMap<String, Long> tablesSize) {
-        SqlStatisticManager sqlStatisticManager = tableId -> {
-            CatalogTableDescriptor descriptor = catalogManager.activeCatalog(Long.MAX_VALUE).table(tableId);
-            long fallbackSize = 10_000;
+    private static SqlSchemaManagerImpl createSqlSchemaManager(
+            CatalogManager catalogManager,
+            ConcurrentMap<String, Long> tablesSize,
+            ConcurrentMap<String, Map<String, ColumnStatistics>> columnStatistics
+    ) {
+        SqlStatisticManager sqlStatisticManager = new SqlStatisticManager() {
+            @Override
+            public long tableSize(int tableId) {
+                CatalogTableDescriptor descriptor = catalogManager.activeCatalog(Long.MAX_VALUE).table(tableId);
+                long fallbackSize = 10_000;
 
-            if (descriptor == null) {
-                return fallbackSize;
+                if (descriptor == null) {
+                    return fallbackSize;
+                }
+
+                return tablesSize.getOrDefault(descriptor.name(), 10_000L);
             }
 
-            return tablesSize.getOrDefault(descriptor.name(), 10_000L);
+            @Override
+            public @Nullable ColumnStatistics columnStatistics(int tableId, String columnName) {
+                CatalogTableDescriptor descriptor = catalogManager.activeCatalog(Long.MAX_VALUE).table(tableId);
+
+                if (descriptor == null) {
+                    return null;
+                }
+
+                return columnStatistics.getOrDefault(descriptor.name(), Map.of()).get(columnName);
+            }
         };
 
         return new SqlSchemaManagerImpl(
@@ -23,6 +23,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,6 +37,7 @@ import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
 import org.apache.ignite.internal.sql.engine.exec.UpdatableTable;
 import org.apache.ignite.internal.sql.engine.framework.TestBuilders.AssignmentsProvider;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
 import org.apache.ignite.internal.util.IgniteUtils;
 
 /**
@@ -56,9 +58,11 @@ public class TestCluster implements LifecycleAware {
     private final ConcurrentMap<String, UpdatableTable> updatableTablesByName;
     private final ConcurrentMap<String, AssignmentsProvider> assignmentsProvidersByTableName;
     private final ConcurrentMap<String, Long> tablesSize;
+    private final ConcurrentMap<String, Map<String, ColumnStatistics>> columnStatistics;
 
     TestCluster(
             ConcurrentMap<String, Long> tablesSize,
+            ConcurrentMap<String, Map<String, ColumnStatistics>> columnStatistics,
             ConcurrentMap<String, ScannableTable> dataProvidersByTableName,
             ConcurrentMap<String, UpdatableTable> updatableTablesByName,
             ConcurrentMap<String, AssignmentsProvider> assignmentsProvidersByTableName,
@@ -70,6 +74,7 @@ public class TestCluster implements LifecycleAware {
             RunnableX stopClosure
     ) {
         this.tablesSize = tablesSize;
+        this.columnStatistics = columnStatistics;
         this.dataProvidersByTableName = dataProvidersByTableName;
         this.updatableTablesByName = updatableTablesByName;
         this.assignmentsProvidersByTableName = assignmentsProvidersByTableName;
@@ -146,6 +151,11 @@ public class TestCluster implements LifecycleAware {
         tablesSize.put(name, size);
     }
 
+    /** Sets statistics of a table column, as if they were collected from the table. */
+    public void setColumnStatistics(String tableName, ColumnStatistics statistics) {
+        columnStatistics.computeIfAbsent(tableName, k -> new ConcurrentHashMap<>()).put(statistics.columnName(), statistics);
+    }
+
     private static class ComponentToLifecycleAwareAdaptor implements LifecycleAware {
         private final IgniteComponent component;
 
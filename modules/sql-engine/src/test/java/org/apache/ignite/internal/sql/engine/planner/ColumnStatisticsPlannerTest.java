@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.apache.ignite.internal.sql.engine.framework.DataProvider.fromCollection;
+import static org.apache.ignite.internal.sql.engine.framework.TestBuilders.tableScan;
+import static org.apache.ignite.internal.sql.engine.metadata.IgniteMdSelectivity.COMPARISON_SELECTIVITY;
+import static org.apache.ignite.internal.sql.engine.metadata.IgniteMdSelectivity.EQ_SELECTIVITY;
+import static org.apache.ignite.internal.sql.engine.util.QueryChecker.containsIndexScanIgnoreBounds;
+import static org.apache.ignite.internal.sql.engine.util.QueryChecker.containsTableScan;
+import static org.apache.ignite.internal.sql.engine.util.QueryChecker.nodeRowCount;
+import static org.hamcrest.Matchers.not;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
+import org.apache.ignite.internal.sql.engine.framework.TestCluster;
+import org.apache.ignite.internal.sql.engine.framework.TestNode;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatisticsCollector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests to check that collected column statistics are used by the planner for row count estimation and plan selection.
+ */
+public class ColumnStatisticsPlannerTest extends BaseRowsProcessedEstimationTest {
+    private static final int TABLE_SIZE = 100_000;
+
+    private static final TestCluster CLUSTER = TestBuilders.cluster()
+            .nodes("N1")
+            .defaultAssignmentsProvider(tableName -> (partNum, includeBackups) -> IntStream.range(0, partNum)
+                    .mapToObj(part -> List.of("N1"))
+                    .collect(Collectors.toList())
+            )
+            .defaultDataProvider(tableName -> tableScan(fromCollection(List.of())))
+            .build();
+
+    private static final TestNode NODE = CLUSTER.node("N1");
+
+    /** Statistics of column VAL: 10% of nulls, the rest are evenly distributed over 100 values from 1000 to 1099. */
+    private static final ColumnStatistics VAL_STATISTICS = valStatistics();
+
+    @BeforeAll
+    static void startCluster() {
+        CLUSTER.start();
+
+        NODE.initSchema("CREATE TABLE t_stats (id INT PRIMARY KEY, val INT);"
+                + "CREATE INDEX t_stats_val_idx ON t_stats (val);"
+                + "CREATE TABLE t_no_stats (id INT PRIMARY KEY, val INT);"
+                + "CREATE INDEX t_no_stats_val_idx ON t_no_stats (val)");
+
+        CLUSTER.setTableSize("T_STATS", TABLE_SIZE);
+        CLUSTER.setTableSize("T_NO_STATS", TABLE_SIZE);
+
+        CLUSTER.setColumnStatistics("T_STATS", VAL_STATISTICS);
+    }
+
+    @AfterAll
+    static void stopCluster() throws Exception {
+        CLUSTER.stop();
+    }
+
+    @Test
+    void equalsSelectivity() {
+        assertQuery(NODE, "SELECT * FROM t_stats WHERE val = 1050")
+                .matches(nodeRowCount("TableScan", approximatelyEqual(TABLE_SIZE * VAL_STATISTICS.equalsSelectivity())))
+                .disableRules("LogicalIndexScanConverterRule")
+                .check();
+
+        assertQuery(NODE, "SELECT * FROM t_no_stats WHERE val = 1050")
+                .matches(nodeRowCount("TableScan", approximatelyEqual(TABLE_SIZE * EQ_SELECTIVITY)))
+                .disableRules("LogicalIndexScanConverterRule")
+                .check();
+    }
+
+    @Test
+    void rangeSelectivity() {
+        // All non-null values are within the range.
+        assertQuery(NODE, "SELECT * FROM t_stats WHERE val >= 1000")
+                .matches(nodeRowCount("TableScan", approximatelyEqual(TABLE_SIZE * (1.0 - VAL_STATISTICS.nullFraction()))))
+                .disableRules("LogicalIndexScanConverterRule")
+                .check();
+
+        assertQuery(NODE, "SELECT * FROM t_no_stats WHERE val >= 1000")
+                .matches(nodeRowCount("TableScan", approximatelyEqual(TABLE_SIZE * COMPARISON_SELECTIVITY)))
+                .disableRules("LogicalIndexScanConverterRule")
+                .check();
+    }
+
+    @Test
+    void nullSelectivity() {
+        assertQuery(NODE, "SELECT * FROM t_stats WHERE val IS NULL")
+                .matches(nodeRowCount("TableScan", approximatelyEqual(TABLE_SIZE * VAL_STATISTICS.nullFraction())))
+                .disableRules("LogicalIndexScanConverterRule")
+                .check();
+    }
+
+    @Test
+    void distinctRowCount() {
+        // Null forms a group of its own.
+        double groups = VAL_STATISTICS.distinctValues() + 1;
+
+        assertQuery(NODE, "SELECT DISTINCT val FROM t_stats")
+                .matches(nodeRowCount("Aggregate", approximatelyEqual(groups)))
+                .disableRules("LogicalIndexScanConverterRule")
+                .check();
+
+        assertQuery(NODE, "SELECT DISTINCT val FROM t_no_stats")
+                .matches(nodeRowCount("Aggregate", not(approximatelyEqual(groups))))
+                .disableRules("LogicalIndexScanConverterRule")
+                .check();
+    }
+
+    @Test
+    void statisticsDriveAccessPath() {
+        // Almost every row matches, reading the table is cheaper than looking up every row through the index.
+        assertQuery(NODE, "SELECT * FROM t_stats WHERE val >= 1000")
+                .matches(containsTableScan("PUBLIC", "T_STATS"))
+                .check();
+
+        // Only the rows with the largest value match, the index is cheaper.
+        assertQuery(NODE, "SELECT * FROM t_stats WHERE val > 1098")
+                .matches(containsIndexScanIgnoreBounds("PUBLIC", "T_STATS", "T_STATS_VAL_IDX"))
+                .check();
+    }
+
+    private static ColumnStatistics valStatistics() {
+        ColumnStatisticsCollector collector = new ColumnStatisticsCollector("VAL");
+
+        for (int i = 0; i < 10_000; i++) {
+            collector.add(i < 1_000 ? null : 1_000 + i % 100);
+        }
+
+        return collector.build(TABLE_SIZE);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests of column statistics building blocks: {@link HyperLogLog}, {@link EquiDepthHistogram} and {@link ColumnStatisticsCollector}.
+ */
+class ColumnStatisticsTest extends BaseIgniteAbstractTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 1_000, 100_000, 1_000_000})
+    void hyperLogLogEstimate(int distinct) {
+        HyperLogLog sketch = new HyperLogLog();
+
+        // Every value is added twice to make sure duplicates do not affect the estimation.
+        for (int i = 0; i < distinct; i++) {
+            sketch.addValue((long) i);
+            sketch.addValue((long) i);
+        }
+
+        assertEquals(distinct, sketch.estimate(), Math.max(1, distinct * 0.05));
+    }
+
+    @Test
+    void hyperLogLogMerge() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+
+        for (int i = 0; i < 50_000; i++) {
+            left.addValue("val" + i);
+            right.addValue("val" + (i + 25_000));
+        }
+
+        left.merge(right);
+
+        assertEquals(75_000, left.estimate(), 75_000 * 0.05);
+    }
+
+    @Test
+    void histogramOfUniformValues() {
+        List<Double> values = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            values.add((double) i);
+        }
+
+        EquiDepthHistogram histogram = EquiDepthHistogram.build(values, 10);
+
+        assertNotNull(histogram);
+        assertEquals(10, histogram.buckets());
+        assertEquals(0.0, histogram.min());
+        assertEquals(9_999.0, histogram.max());
+
+        assertEquals(0.0, histogram.fractionBelow(-1.0, true));
+        assertEquals(0.0, histogram.fractionBelow(0.0, false));
+        assertEquals(1.0, histogram.fractionBelow(10_000.0, false));
+        assertEquals(0.25, histogram.fractionBelow(2_500.0, false), 0.01);
+        assertEquals(0.5, histogram.fractionBelow(4_999.0, true), 0.01);
+        assertEquals(0.73, histogram.fractionBelow(7_300.0, true), 0.01);
+
+        assertNull(histogram.fractionBelow("abc", true));
+    }
+
+    @Test
+    void histogramDoesNotSplitDuplicates() {
+        List<String> values = new ArrayList<>();
+
+        for (int i = 0; i < 900; i++) {
+            values.add("a");
+        }
+
+        for (int i = 0; i < 100; i++) {
+            values.add("b" + i);
+        }
+
+        Collections.sort(values);
+
+        EquiDepthHistogram histogram = EquiDepthHistogram.build(values, 10);
+
+        assertNotNull(histogram);
+        assertEquals(10, histogram.buckets());
+        assertEquals(0.9, histogram.fractionBelow("a", true), 1e-9);
+        assertEquals(0.0, histogram.fractionBelow("a", false));
+        assertEquals(1.0, histogram.fractionBelow("c", true));
+    }
+
+    @Test
+    void histogramOfSingleValue() {
+        EquiDepthHistogram histogram = EquiDepthHistogram.build(Collections.nCopies(100, 1.0), 10);
+
+        assertNotNull(histogram);
+        assertEquals(1, histogram.buckets());
+        assertEquals(1.0, histogram.fractionBelow(1.0, true));
+        assertEquals(0.0, histogram.fractionBelow(1.0, false));
+    }
+
+    @Test
+    void histogramOfNoValues() {
+        assertNull(EquiDepthHistogram.build(List.of(), 10));
+    }
+
+    @Test
+    void collectorBuildsStatistics() {
+        ColumnStatisticsCollector collector = new ColumnStatisticsCollector("C", 1_000, new Random(0));
+
+        for (int i = 0; i < 10_000; i++) {
+            collector.add(i % 4 == 0 ? null : i % 100);
+        }
+
+        ColumnStatistics stats = collector.build(10_000);
+
+        assertEquals("C", stats.columnName());
+        assertEquals(0.25, stats.nullFraction(), 1e-9);
+        // Every 4th value is null, so only odd values and multiples of 2 which are not multiples of 4 remain.
+        assertEquals(75, stats.distinctValues(), 3);
+        assertEquals(0.75 / 75, stats.equalsSelectivity(), 0.001);
+
+        Double lessThanHalf = stats.rangeSelectivity(50.0, true, false);
+
+        assertNotNull(lessThanHalf);
+        assertEquals(0.75 * 0.5, lessThanHalf, 0.05);
+
+        Double greaterThanMax = stats.rangeSelectivity(99.0, false, false);
+
+        assertNotNull(greaterThanMax);
+        assertEquals(0.0, greaterThanMax, 1e-9);
+    }
+
+    @Test
+    void collectorExtrapolatesUniqueColumns() {
+        ColumnStatisticsCollector collector = new ColumnStatisticsCollector("ID");
+
+        for (int i = 0; i < 10_000; i++) {
+            collector.add((long) i);
+        }
+
+        ColumnStatistics stats = collector.build(1_000_000);
+
+        assertEquals(1_000_000, stats.distinctValues(), 1_000_000 * 0.05);
+        assertEquals(0.0, stats.nullFraction());
+    }
+
+    @Test
+    void collectorDoesNotBuildHistogramForUnsupportedTypes() {
+        ColumnStatisticsCollector collector = new ColumnStatisticsCollector("B");
+
+        for (int i = 0; i < 100; i++) {
+            collector.add(new byte[] {(byte) i});
+        }
+
+        ColumnStatistics stats = collector.build(100);
+
+        assertEquals(100, stats.distinctValues(), 2);
+        assertNull(stats.histogram());
+        assertNull(stats.rangeSelectivity(1.0, true, true));
+    }
+
+    @Test
+    void collectorBuildsHistogramForDates() {
+        ColumnStatisticsCollector collector = new ColumnStatisticsCollector("D");
+        LocalDate start = LocalDate.of(2020, 1, 1);
+
+        for (int i = 0; i < 1_000; i++) {
+            collector.add(start.plusDays(i));
+        }
+
+        ColumnStatistics stats = collector.build(1_000);
+        Double selectivity = stats.rangeSelectivity((double) start.plusDays(100).toEpochDay(), true, false);
+
+        assertNotNull(selectivity);
+        assertEquals(0.1, selectivity, 0.02);
+    }
+}
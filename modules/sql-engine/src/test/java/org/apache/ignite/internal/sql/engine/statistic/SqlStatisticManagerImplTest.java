@@ -19,7 +19,10 @@ package org.apache.ignite.internal.sql.engine.statistic;
 
 import static it.unimi.dsi.fastutil.ints.Int2ObjectMap.entry;
 import static org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl.DEFAULT_TABLE_SIZE;
+import static org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl.MIN_STALE_ROWS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -28,6 +31,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,23 +40,30 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import org.apache.ignite.configuration.ConfigurationValue;
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogManager;
+import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.catalog.events.CatalogEvent;
 import org.apache.ignite.internal.catalog.events.CreateTableEventParameters;
 import org.apache.ignite.internal.catalog.events.DropTableEventParameters;
+import org.apache.ignite.internal.cluster.management.topology.api.LogicalNode;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.event.EventListener;
@@ -60,12 +71,17 @@ import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lowwatermark.LowWatermark;
 import org.apache.ignite.internal.lowwatermark.event.ChangeLowWatermarkEventParameters;
 import org.apache.ignite.internal.lowwatermark.event.LowWatermarkEvent;
+import org.apache.ignite.internal.network.MessagingService;
 import org.apache.ignite.internal.sql.configuration.distributed.StatisticsConfiguration;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.InternalSqlRowSingleString;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.TableViewInternal;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.sql.ColumnType;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -517,6 +533,108 @@ class SqlStatisticManagerImplTest extends BaseIgniteAbstractTest {
         assertEquals(tableSize, sqlStatisticManager.tableSize(tableId));
     }
 
+    @Test
+    public void columnStatisticsAreCollectedAgainWhenEnoughRowsModified() {
+        int tableId = ThreadLocalRandom.current().nextInt();
+        // Preparing:
+        prepareCatalogWithSampledTable(tableId);
+        prepareTaskScheduler();
+
+        when(tableManager.cachedTable(tableId)).thenReturn(tableViewInternal);
+        when(tableViewInternal.internalTable()).thenReturn(internalTable);
+        when(statAggregator.estimatedSizeWithLastUpdate(List.of(internalTable)))
+                .thenReturn(
+                        CompletableFuture.completedFuture(Int2ObjectMap.ofEntries(
+                                entry(tableId, new PartitionModificationInfo(1_000, 1_000)))),
+                        // Less than MIN_STALE_ROWS modifications, the statistics are still good.
+                        CompletableFuture.completedFuture(Int2ObjectMap.ofEntries(
+                                entry(tableId, new PartitionModificationInfo(1_000, 1_000 + MIN_STALE_ROWS - 1)))),
+                        CompletableFuture.completedFuture(Int2ObjectMap.ofEntries(
+                                entry(tableId, new PartitionModificationInfo(1_000, 1_000 + MIN_STALE_ROWS))))
+                );
+
+        TableSampler sampler = newTableSampler();
+
+        SqlStatisticManagerImpl sqlStatisticManager = newSqlStatisticsManager(sampler, null);
+        sqlStatisticManager.start();
+
+        // Test:
+        runScheduledTasks();
+
+        verify(sampler, times(1)).sample(eq("PUBLIC"), eq(""), eq(List.of(pkCol.name())), anyLong(), any());
+        assertEquals(1_000, sqlStatisticManager.columnStatisticsMap.get(tableId).modificationCounter());
+
+        sqlStatisticManager.forceUpdateAll();
+
+        verify(sampler, times(1)).sample(any(), any(), any(), anyLong(), any());
+
+        sqlStatisticManager.forceUpdateAll();
+
+        verify(sampler, times(2)).sample(any(), any(), any(), anyLong(), any());
+        assertEquals(1_000 + MIN_STALE_ROWS, sqlStatisticManager.columnStatisticsMap.get(tableId).modificationCounter());
+    }
+
+    @Test
+    public void columnStatisticsAreFetchedFromCollectingNode() {
+        int tableId = ThreadLocalRandom.current().nextInt();
+        // Preparing:
+        prepareCatalogWithTable(tableId);
+        prepareTaskScheduler();
+
+        when(tableManager.cachedTable(tableId)).thenReturn(tableViewInternal);
+        when(tableViewInternal.internalTable()).thenReturn(internalTable);
+        when(statAggregator.estimatedSizeWithLastUpdate(List.of(internalTable)))
+                .thenReturn(CompletableFuture.completedFuture(Int2ObjectMap.ofEntries(
+                        entry(tableId, new PartitionModificationInfo(1_000, 1_000)))));
+
+        TableColumnStatistics remoteStatistics = new TableColumnStatistics(
+                tableId, "PUBLIC", "T", 1_000, 1_000, 1_000, Instant.now(), Map.of());
+
+        ColumnStatisticsExchange exchange = mock(ColumnStatisticsExchange.class);
+        when(exchange.collectsLocally(tableId)).thenReturn(false);
+        when(exchange.fetch(tableId)).thenReturn(CompletableFuture.completedFuture(remoteStatistics));
+
+        TableSampler sampler = mock(TableSampler.class);
+
+        SqlStatisticManagerImpl sqlStatisticManager = newSqlStatisticsManager(sampler, exchange);
+        sqlStatisticManager.start();
+
+        // Test:
+        runScheduledTasks();
+
+        verify(sampler, never()).sample(any(), any(), any(), anyLong(), any());
+        assertSame(remoteStatistics, sqlStatisticManager.columnStatisticsMap.get(tableId));
+    }
+
+    @Test
+    public void columnStatisticsOfTableAreCollectedBySingleNode() {
+        Set<LogicalNode> nodes = Set.of(
+                new LogicalNode(new UUID(0, 1), "node1", new NetworkAddress("localhost", 123)),
+                new LogicalNode(new UUID(0, 2), "node2", new NetworkAddress("localhost", 124)),
+                new LogicalNode(new UUID(0, 3), "node3", new NetworkAddress("localhost", 125))
+        );
+
+        List<ColumnStatisticsExchange> exchanges = new ArrayList<>();
+
+        for (LogicalNode node : nodes) {
+            exchanges.add(new ColumnStatisticsExchange(node::name, () -> nodes, mock(MessagingService.class)));
+        }
+
+        for (int tableId = -10; tableId < 10; tableId++) {
+            int collecting = 0;
+
+            for (ColumnStatisticsExchange exchange : exchanges) {
+                assertNotNull(exchange.collectingNode(tableId));
+
+                if (exchange.collectsLocally(tableId)) {
+                    collecting++;
+                }
+            }
+
+            assertEquals(1, collecting, "tableId=" + tableId);
+        }
+    }
+
     private SqlStatisticManagerImpl newSqlStatisticsManager() {
         return newSqlStatisticsManager(UPDATE_INTERVAL_SECONDS);
     }
@@ -535,7 +653,39 @@ class SqlStatisticManagerImplTest extends BaseIgniteAbstractTest {
         );
     }
 
-    private void prepareCatalogWithTable(int tableId) {
+    private SqlStatisticManagerImpl newSqlStatisticsManager(TableSampler sampler, @Nullable ColumnStatisticsExchange exchange) {
+        ConfigurationValue<Integer> checkInterval = statisticsConfiguration.autoRefresh().staleRowsCheckIntervalSeconds();
+        checkInterval.update(UPDATE_INTERVAL_SECONDS).join();
+
+        return new SqlStatisticManagerImpl(
+                tableManager,
+                catalogManager,
+                lowWatermark,
+                scheduledExecutorService,
+                statAggregator,
+                checkInterval,
+                sampler,
+                exchange
+        );
+    }
+
+    private static TableSampler newTableSampler() {
+        TableSampler sampler = mock(TableSampler.class);
+
+        doAnswer(invocation -> {
+            Consumer<InternalSqlRow> consumer = invocation.getArgument(4);
+
+            for (int i = 0; i < 10; i++) {
+                consumer.accept(new InternalSqlRowSingleString("val" + i));
+            }
+
+            return CompletableFuture.completedFuture(10L);
+        }).when(sampler).sample(any(), any(), any(), anyLong(), any());
+
+        return sampler;
+    }
+
+    private Catalog prepareCatalogWithTable(int tableId) {
         when(catalogManager.earliestCatalogVersion()).thenReturn(1);
         when(catalogManager.latestCatalogVersion()).thenReturn(1);
         Catalog catalog = mock(Catalog.class);
@@ -551,6 +701,19 @@ class SqlStatisticManagerImplTest extends BaseIgniteAbstractTest {
                 .storageProfile("")
                 .build();
         when(catalog.tables()).thenReturn(List.of(catalogDescriptor));
+
+        return catalog;
+    }
+
+    private void prepareCatalogWithSampledTable(int tableId) {
+        Catalog catalog = prepareCatalogWithTable(tableId);
+        CatalogTableDescriptor table = catalog.tables().iterator().next();
+        CatalogSchemaDescriptor schema = mock(CatalogSchemaDescriptor.class);
+
+        when(schema.name()).thenReturn("PUBLIC");
+        when(catalogManager.latestCatalog()).thenReturn(catalog);
+        when(catalog.table(tableId)).thenReturn(table);
+        when(catalog.schema(table.schemaId())).thenReturn(schema);
     }
 
     private void prepareEmptyCatalog() {
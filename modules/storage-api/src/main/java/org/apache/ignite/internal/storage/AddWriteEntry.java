@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import java.util.UUID;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.tostring.IgniteToStringExclude;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Single write intent of a {@link MvPartitionStorage#addWriteAll batch}. Fields have the same meaning as the arguments of
+ * {@link MvPartitionStorage#addWrite}.
+ */
+public class AddWriteEntry {
+    private final RowId rowId;
+
+    @IgniteToStringExclude
+    private final @Nullable BinaryRow row;
+
+    private final UUID txId;
+
+    private final int commitZoneId;
+
+    private final int commitPartitionId;
+
+    /**
+     * Constructor.
+     *
+     * @param rowId Row ID.
+     * @param row Table row to update. {@code null} means value removal.
+     * @param txId Transaction ID.
+     * @param commitZoneId Commit zone ID.
+     * @param commitPartitionId Commit partition ID.
+     */
+    public AddWriteEntry(RowId rowId, @Nullable BinaryRow row, UUID txId, int commitZoneId, int commitPartitionId) {
+        this.rowId = rowId;
+        this.row = row;
+        this.txId = txId;
+        this.commitZoneId = commitZoneId;
+        this.commitPartitionId = commitPartitionId;
+    }
+
+    /** Returns the row ID. */
+    public RowId rowId() {
+        return rowId;
+    }
+
+    /** Returns the table row to update, {@code null} means value removal. */
+    public @Nullable BinaryRow row() {
+        return row;
+    }
+
+    /** Returns the transaction ID. */
+    public UUID txId() {
+        return txId;
+    }
+
+    /** Returns the commit zone ID. */
+    public int commitZoneId() {
+        return commitZoneId;
+    }
+
+    /** Returns the commit partition ID. */
+    public int commitPartitionId() {
+        return commitPartitionId;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(this);
+    }
+}
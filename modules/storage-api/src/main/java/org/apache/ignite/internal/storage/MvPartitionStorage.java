@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -213,6 +214,33 @@ public interface MvPartitionStorage extends ManuallyCloseable {
             int commitPartitionId
     ) throws StorageException;
 
+    /**
+     * Creates (or replaces) uncommitted versions for a batch of rows, see {@link #addWrite} for the semantics of a single entry.
+     *
+     * <p>Unlike {@link #addWrite}, this method does not need to be called inside of a {@link WriteClosure} and does not require row IDs to
+     * be locked in advance: the whole batch is applied in a single {@link #runConsistently consistency closure}, row IDs are locked by
+     * the method itself. Entries must be sorted by {@link RowId} and must not contain duplicate row IDs, this way row IDs are always
+     * locked in the same order and storages may process the batch in a single ordered pass over their data structures. If called inside
+     * of a {@link WriteClosure}, the batch joins it, and row IDs that are already locked by the closure are simply re-entered.
+     *
+     * @param entries Write intents sorted by row ID.
+     * @return Results of adding the write intents, in the same order as the entries.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    default List<AddWriteResult> addWriteAll(List<AddWriteEntry> entries) throws StorageException {
+        return runConsistently(locker -> {
+            var results = new ArrayList<AddWriteResult>(entries.size());
+
+            for (AddWriteEntry entry : entries) {
+                locker.lock(entry.rowId());
+
+                results.add(addWrite(entry.rowId(), entry.row(), entry.txId(), entry.commitZoneId(), entry.commitPartitionId()));
+            }
+
+            return results;
+        });
+    }
+
     /**
      * Aborts a pending update of the ongoing uncommitted transaction. Invoked during rollback.
      *
@@ -105,6 +105,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage, Wr
         return partitionStorage.addWrite(rowId, row, txId, commitZoneId, commitPartitionId);
     }
 
+    @Override
+    public List<AddWriteResult> addWriteAll(List<AddWriteEntry> entries) throws StorageException {
+        assertThreadAllowsToWrite();
+
+        return partitionStorage.addWriteAll(entries);
+    }
+
     @Override
     public AbortResult abortWrite(RowId rowId, UUID txId) throws StorageException {
         assertThreadAllowsToWrite();
@@ -44,6 +44,11 @@ public class LocalLocker implements Locker {
 
     @Override
     public void lock(RowId rowId) {
+        // Locks are only released all at once by "unlockAll", so re-entries don't need to go through the shared instance.
+        if (isLocked(rowId)) {
+            return;
+        }
+
         locks.lock(rowId);
 
         markAsLocked(rowId);
@@ -51,7 +56,7 @@ public class LocalLocker implements Locker {
 
     @Override
     public boolean tryLock(RowId rowId) {
-        if (locks.tryLock(rowId)) {
+        if (isLocked(rowId) || locks.tryLock(rowId)) {
             markAsLocked(rowId);
 
             return true;
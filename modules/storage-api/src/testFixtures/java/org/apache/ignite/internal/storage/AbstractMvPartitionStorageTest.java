@@ -223,6 +223,61 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         );
     }
 
+    /**
+     * Tests that {@link MvPartitionStorage#addWriteAll} returns the same results as a sequence of
+     * {@link MvPartitionStorage#addWrite} calls.
+     */
+    @Test
+    void testAddWriteAll() {
+        RowId replacedRowId = insert(binaryRow, txId);
+        RowId mismatchedRowId = insert(binaryRow, newTransactionId());
+        RowId newRowId = new RowId(PARTITION_ID);
+
+        List<RowId> rowIds = new ArrayList<>(List.of(replacedRowId, mismatchedRowId, newRowId));
+        rowIds.sort(Comparator.naturalOrder());
+
+        List<AddWriteEntry> entries = rowIds.stream()
+                .map(rowId -> new AddWriteEntry(rowId, binaryRow2, txId, COMMIT_ZONE_ID, PARTITION_ID))
+                .collect(toList());
+
+        List<AddWriteResult> results = storage.addWriteAll(entries);
+
+        assertEquals(rowIds.size(), results.size());
+
+        for (int i = 0; i < rowIds.size(); i++) {
+            RowId rowId = rowIds.get(i);
+
+            if (rowId.equals(replacedRowId)) {
+                assertThat(results.get(i), equalsToAddWriteResult(AddWriteResult.success(binaryRow)));
+                assertThat(read(rowId, HybridTimestamp.MAX_VALUE), isRow(binaryRow2));
+            } else if (rowId.equals(mismatchedRowId)) {
+                assertEquals(AddWriteResultStatus.TX_MISMATCH, results.get(i).status());
+                assertThat(read(rowId, HybridTimestamp.MAX_VALUE), isRow(binaryRow));
+            } else {
+                assertThat(results.get(i), equalsToAddWriteResult(AddWriteResult.success(null)));
+                assertThat(read(rowId, HybridTimestamp.MAX_VALUE), isRow(binaryRow2));
+            }
+        }
+    }
+
+    @Test
+    void testAddWriteAllInsideOfWriteClosure() {
+        RowId rowId0 = new RowId(PARTITION_ID, 0, 0);
+        RowId rowId1 = new RowId(PARTITION_ID, 0, 1);
+
+        storage.runConsistently(locker -> storage.addWriteAll(List.of(
+                new AddWriteEntry(rowId0, binaryRow, txId, COMMIT_ZONE_ID, PARTITION_ID),
+                new AddWriteEntry(rowId1, null, txId, COMMIT_ZONE_ID, PARTITION_ID)
+        )));
+
+        assertThat(read(rowId0, HybridTimestamp.MAX_VALUE), isRow(binaryRow));
+        assertNull(read(rowId1, HybridTimestamp.MAX_VALUE));
+
+        commitWrite(rowId0, clock.now(), txId);
+
+        assertThat(read(rowId0, HybridTimestamp.MAX_VALUE), isRow(binaryRow));
+    }
+
     @Test
     void testAddWriteCommittedForEmptyVersionChain() {
         assertThat(
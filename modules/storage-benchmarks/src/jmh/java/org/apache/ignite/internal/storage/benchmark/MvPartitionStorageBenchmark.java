@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.benchmark;
+
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.GREATER_OR_EQUAL;
+import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
+import static org.apache.ignite.internal.util.IgniteUtils.deleteIfExists;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.hlc.HybridClock;
+import org.apache.ignite.internal.hlc.HybridClockImpl;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowImpl;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTuplePrefix;
+import org.apache.ignite.internal.storage.AddWriteEntry;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.benchmark.StorageEngineFixture.EngineType;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.gc.GcEntry;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.index.IndexRowImpl;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.storage.index.StorageSortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.StorageSortedIndexDescriptor.StorageSortedIndexColumnDescriptor;
+import org.apache.ignite.internal.tx.TransactionIds;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.Cursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark that runs the same set of workloads against every {@link MvPartitionStorage} implementation.
+ *
+ * <p>Every workload is parameterized by the storage engine, the size of a row and the depth of version chains of pre-loaded rows. Thread
+ * count is not a JMH parameter, so {@link #main} runs the whole suite for several thread counts. Allocation rate is reported by the
+ * {@link GCProfiler}, which is enabled in {@link #main}.
+ *
+ * <p>Read, scan and GC workloads use a partition that is pre-loaded in the trial setup. Write workloads use a separate partition, which
+ * is cleared after every iteration, so that the size of the data set does not depend on the throughput of the storage.
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MvPartitionStorageBenchmark {
+    private static final int TABLE_ID = 1;
+
+    private static final int INDEX_ID = 2;
+
+    /** Partition that is pre-loaded with data and is used by the read, scan and GC workloads. */
+    private static final int READ_PARTITION_ID = 0;
+
+    /** Partition that is used by the write workloads, it is cleared after every iteration. */
+    private static final int WRITE_PARTITION_ID = 1;
+
+    private static final int PRELOADED_ROWS = 10_000;
+
+    /** Number of rows that are written in a single {@link MvPartitionStorage#runConsistently} closure during pre-loading. */
+    private static final int PRELOAD_BATCH_SIZE = 1_000;
+
+    /** Number of rows that are written by a single {@link MvPartitionStorage#addWriteAll} call. */
+    private static final int WRITE_BATCH_SIZE = 100;
+
+    /** Number of index rows that are read by a single range scan. */
+    private static final int SCAN_LENGTH = 100;
+
+    private static final HybridClock CLOCK = new HybridClockImpl();
+
+    /** Storage engine to run the workloads against. */
+    @Param
+    public EngineType engineType;
+
+    /** Size of a row in bytes. */
+    @Param({"64", "1024", "8192"})
+    public int rowSize;
+
+    /** Number of committed versions of every pre-loaded row. */
+    @Param({"1", "10"})
+    public int versionChainDepth;
+
+    private Path workDir;
+
+    private StorageEngineFixture engineFixture;
+
+    private MvTableStorage tableStorage;
+
+    private MvPartitionStorage readPartition;
+
+    private MvPartitionStorage writePartition;
+
+    private SortedIndexStorage readIndex;
+
+    private SortedIndexStorage writeIndex;
+
+    /** IDs of pre-loaded rows, the {@code i}-th row is indexed by the key {@code i}. */
+    private RowId[] rowIds;
+
+    /** Commit timestamps of pre-loaded versions, the {@code i}-th element is the commit timestamp of the {@code i}-th version. */
+    private HybridTimestamp[] versionTimestamps;
+
+    /** Starts the storage engine and pre-loads the data. */
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory(MvPartitionStorageBenchmark.class.getSimpleName());
+
+        engineFixture = new StorageEngineFixture(engineType, workDir);
+
+        var indexDescriptor = new StorageSortedIndexDescriptor(
+                INDEX_ID,
+                List.of(new StorageSortedIndexColumnDescriptor("key", NativeTypes.INT64, false, true, false)),
+                false
+        );
+
+        tableStorage = engineFixture.engine().createMvTable(
+                new StorageTableDescriptor(TABLE_ID, 2, engineType.engineName()),
+                indexId -> indexId == INDEX_ID ? indexDescriptor : null
+        );
+
+        readPartition = tableStorage.createMvPartition(READ_PARTITION_ID).get(10, TimeUnit.SECONDS);
+        writePartition = tableStorage.createMvPartition(WRITE_PARTITION_ID).get(10, TimeUnit.SECONDS);
+
+        tableStorage.createSortedIndex(READ_PARTITION_ID, indexDescriptor);
+        tableStorage.createSortedIndex(WRITE_PARTITION_ID, indexDescriptor);
+
+        readIndex = (SortedIndexStorage) tableStorage.getIndex(READ_PARTITION_ID, INDEX_ID);
+        writeIndex = (SortedIndexStorage) tableStorage.getIndex(WRITE_PARTITION_ID, INDEX_ID);
+
+        preload();
+    }
+
+    private void preload() {
+        rowIds = new RowId[PRELOADED_ROWS];
+
+        for (int i = 0; i < PRELOADED_ROWS; i++) {
+            rowIds[i] = new RowId(READ_PARTITION_ID);
+        }
+
+        Arrays.sort(rowIds);
+
+        versionTimestamps = new HybridTimestamp[versionChainDepth];
+
+        for (int version = 0; version < versionChainDepth; version++) {
+            HybridTimestamp commitTs = CLOCK.now();
+
+            versionTimestamps[version] = commitTs;
+
+            boolean updateIndex = version == 0;
+
+            for (int batchStart = 0; batchStart < PRELOADED_ROWS; batchStart += PRELOAD_BATCH_SIZE) {
+                int from = batchStart;
+                int to = Math.min(batchStart + PRELOAD_BATCH_SIZE, PRELOADED_ROWS);
+
+                readPartition.runConsistently(locker -> {
+                    for (int i = from; i < to; i++) {
+                        locker.lock(rowIds[i]);
+
+                        readPartition.addWriteCommitted(rowIds[i], randomRow(rowSize), commitTs);
+
+                        if (updateIndex) {
+                            readIndex.put(new IndexRowImpl(indexKey(i), rowIds[i]));
+                        }
+                    }
+
+                    return null;
+                });
+            }
+        }
+    }
+
+    /** Stops the storage engine and removes its data. */
+    @TearDown
+    public void tearDown() throws Exception {
+        closeAll(
+                tableStorage == null ? null : () -> tableStorage.destroy().get(10, TimeUnit.SECONDS),
+                engineFixture,
+                workDir == null ? null : () -> deleteIfExists(workDir)
+        );
+    }
+
+    /** Clears the write partition, so that every iteration starts with the same data set. */
+    @TearDown(Level.Iteration)
+    public void clearWritePartition() throws Exception {
+        tableStorage.clearPartition(WRITE_PARTITION_ID).get(10, TimeUnit.SECONDS);
+    }
+
+    /** Per-thread state of the benchmark. */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        /** Row that is written by the thread. Storages copy rows, so it can be reused. */
+        BinaryRow row;
+
+        /** Initializes the state. */
+        @Setup
+        public void setUp(MvPartitionStorageBenchmark benchmark) {
+            row = randomRow(benchmark.rowSize);
+        }
+    }
+
+    /** Benchmark for a combination of {@link MvPartitionStorage#addWrite} and {@link MvPartitionStorage#commitWrite} of a new row. */
+    @Benchmark
+    public void addWriteCommitWrite(ThreadState state) {
+        var rowId = new RowId(WRITE_PARTITION_ID);
+
+        UUID txId = TransactionIds.transactionId(CLOCK.now(), 0);
+
+        writePartition.runConsistently(locker -> {
+            locker.lock(rowId);
+
+            writePartition.addWrite(rowId, state.row, txId, TABLE_ID, WRITE_PARTITION_ID);
+            writePartition.commitWrite(rowId, CLOCK.now(), txId);
+
+            return null;
+        });
+    }
+
+    /** Benchmark for {@link MvPartitionStorage#addWriteAll} of a batch of {@link #WRITE_BATCH_SIZE} new rows. */
+    @Benchmark
+    @OperationsPerInvocation(WRITE_BATCH_SIZE)
+    public void addWriteAll(ThreadState state) {
+        UUID txId = TransactionIds.transactionId(CLOCK.now(), 0);
+
+        var rowIds = new RowId[WRITE_BATCH_SIZE];
+
+        for (int i = 0; i < WRITE_BATCH_SIZE; i++) {
+            rowIds[i] = new RowId(WRITE_PARTITION_ID);
+        }
+
+        Arrays.sort(rowIds);
+
+        var entries = new ArrayList<AddWriteEntry>(WRITE_BATCH_SIZE);
+
+        for (RowId rowId : rowIds) {
+            entries.add(new AddWriteEntry(rowId, state.row, txId, TABLE_ID, WRITE_PARTITION_ID));
+        }
+
+        writePartition.addWriteAll(entries);
+    }
+
+    /** Benchmark for {@link MvPartitionStorage#read} of a random row at a random version timestamp. */
+    @Benchmark
+    public ReadResult readAtTimestamp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        RowId rowId = rowIds[random.nextInt(PRELOADED_ROWS)];
+        HybridTimestamp timestamp = versionTimestamps[random.nextInt(versionChainDepth)];
+
+        return readPartition.read(rowId, timestamp);
+    }
+
+    /** Benchmark for {@link MvPartitionStorage#scanVersions} of a random row. */
+    @Benchmark
+    public void scanVersions(Blackhole blackhole) {
+        RowId rowId = rowIds[ThreadLocalRandom.current().nextInt(PRELOADED_ROWS)];
+
+        try (Cursor<ReadResult> cursor = readPartition.scanVersions(rowId)) {
+            for (ReadResult readResult : cursor) {
+                blackhole.consume(readResult);
+            }
+        }
+    }
+
+    /**
+     * Benchmark for garbage collection: adds a new committed version to a random row and vacuums the oldest garbage entry, so that the
+     * amount of garbage in the partition stays stable. Uses the same locking protocol as the GC of the table module.
+     */
+    @Benchmark
+    public void addWriteCommittedAndVacuum(ThreadState state, Blackhole blackhole) {
+        RowId rowId = rowIds[ThreadLocalRandom.current().nextInt(PRELOADED_ROWS)];
+
+        readPartition.runConsistently(locker -> {
+            locker.lock(rowId);
+
+            HybridTimestamp commitTs = CLOCK.now();
+
+            readPartition.addWriteCommitted(rowId, state.row, commitTs);
+
+            List<GcEntry> gcEntries = readPartition.peek(commitTs, 1);
+
+            if (!gcEntries.isEmpty()) {
+                GcEntry gcEntry = gcEntries.get(0);
+
+                // Another row may be locked by a concurrent thread, "tryLock" prevents deadlocks.
+                if (gcEntry.getRowId().equals(rowId) || locker.tryLock(gcEntry.getRowId())) {
+                    blackhole.consume(readPartition.vacuum(gcEntry));
+                }
+            }
+
+            return null;
+        });
+    }
+
+    /** Benchmark for {@link SortedIndexStorage#put} of a random key. */
+    @Benchmark
+    public void indexPut() {
+        var indexRow = new IndexRowImpl(indexKey(ThreadLocalRandom.current().nextLong()), new RowId(WRITE_PARTITION_ID));
+
+        writePartition.runConsistently(locker -> {
+            writeIndex.put(indexRow);
+
+            return null;
+        });
+    }
+
+    /** Benchmark for a {@link SortedIndexStorage#readOnlyScan} of {@link #SCAN_LENGTH} rows, starting from a random key. */
+    @Benchmark
+    public void indexScan(Blackhole blackhole) {
+        int lowerKey = ThreadLocalRandom.current().nextInt(PRELOADED_ROWS - SCAN_LENGTH);
+
+        BinaryTuplePrefix lowerBound = BinaryTuplePrefix.fromBinaryTuple(indexKey(lowerKey));
+
+        try (Cursor<IndexRow> cursor = readIndex.readOnlyScan(lowerBound, null, GREATER_OR_EQUAL)) {
+            for (int i = 0; i < SCAN_LENGTH && cursor.hasNext(); i++) {
+                blackhole.consume(cursor.next());
+            }
+        }
+    }
+
+    private static BinaryRow randomRow(int rowSize) {
+        ByteBuffer buffer = ByteBuffer.allocate(rowSize);
+
+        ThreadLocalRandom.current().nextBytes(buffer.array());
+
+        return new BinaryRowImpl(0, buffer);
+    }
+
+    private static BinaryTuple indexKey(long key) {
+        return new BinaryTuple(1, new BinaryTupleBuilder(1).appendLong(key).build());
+    }
+
+    /**
+     * Runs the benchmark for several thread counts with the GC profiler enabled.
+     *
+     * @param args args
+     * @throws RunnerException If something goes wrong.
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] {1, 4, 16}) {
+            Options opt = new OptionsBuilder()
+                    .include(MvPartitionStorageBenchmark.class.getSimpleName())
+                    .addProfiler(GCProfiler.class)
+                    .threads(threads)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+}
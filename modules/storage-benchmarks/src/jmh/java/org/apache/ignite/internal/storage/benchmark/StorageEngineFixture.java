@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.benchmark;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static org.apache.ignite.configuration.annotation.ConfigurationType.LOCAL;
+import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
+import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.ignite.internal.components.NoOpLogSyncer;
+import org.apache.ignite.internal.configuration.ConfigurationRegistry;
+import org.apache.ignite.internal.configuration.ConfigurationTreeGenerator;
+import org.apache.ignite.internal.configuration.NodeConfiguration;
+import org.apache.ignite.internal.configuration.SystemLocalExtensionConfigurationSchema;
+import org.apache.ignite.internal.configuration.storage.TestConfigurationStorage;
+import org.apache.ignite.internal.configuration.validation.TestConfigurationValidator;
+import org.apache.ignite.internal.failure.NoOpFailureManager;
+import org.apache.ignite.internal.hlc.HybridClock;
+import org.apache.ignite.internal.hlc.HybridClockImpl;
+import org.apache.ignite.internal.manager.ComponentContext;
+import org.apache.ignite.internal.metrics.NoOpMetricManager;
+import org.apache.ignite.internal.storage.DataStorageModule;
+import org.apache.ignite.internal.storage.configurations.StorageExtensionConfiguration;
+import org.apache.ignite.internal.storage.configurations.StorageExtensionConfigurationSchema;
+import org.apache.ignite.internal.storage.configurations.StorageProfileChange;
+import org.apache.ignite.internal.storage.engine.StorageEngine;
+import org.apache.ignite.internal.storage.pagememory.PersistentPageMemoryStorageEngine;
+import org.apache.ignite.internal.storage.pagememory.VolatilePageMemoryStorageEngine;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.PersistentPageMemoryProfileChange;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.PersistentPageMemoryProfileConfigurationSchema;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.PersistentPageMemoryStorageEngineExtensionConfigurationSchema;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.VolatilePageMemoryProfileChange;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.VolatilePageMemoryProfileConfigurationSchema;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.VolatilePageMemoryStorageEngineExtensionConfigurationSchema;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileChange;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbProfileConfigurationSchema;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineExtensionConfigurationSchema;
+
+/**
+ * Starts a single {@link StorageEngine} outside of a node, the same way the node does it: through the engine's {@link DataStorageModule}
+ * and a local configuration registry. The registry contains one storage profile, which is named after the engine.
+ */
+public class StorageEngineFixture implements AutoCloseable {
+    /** Storage engines that the benchmarks can be run against. */
+    public enum EngineType {
+        /** Persistent page memory, see {@link PersistentPageMemoryStorageEngine}. */
+        AIPERSIST(PersistentPageMemoryStorageEngine.ENGINE_NAME, profile -> profile.convert(PersistentPageMemoryProfileChange.class)),
+
+        /** Volatile page memory, see {@link VolatilePageMemoryStorageEngine}. */
+        AIMEM(VolatilePageMemoryStorageEngine.ENGINE_NAME, profile -> profile.convert(VolatilePageMemoryProfileChange.class)),
+
+        /** RocksDB, see {@link RocksDbStorageEngine}. */
+        ROCKSDB(RocksDbStorageEngine.ENGINE_NAME, profile -> profile.convert(RocksDbProfileChange.class));
+
+        private final String engineName;
+
+        private final Consumer<StorageProfileChange> profileInitializer;
+
+        EngineType(String engineName, Consumer<StorageProfileChange> profileInitializer) {
+            this.engineName = engineName;
+            this.profileInitializer = profileInitializer;
+        }
+
+        /** Returns the name of the engine, which is also used as the name of its storage profile. */
+        public String engineName() {
+            return engineName;
+        }
+    }
+
+    private final ConfigurationRegistry configRegistry;
+
+    private final ScheduledExecutorService scheduler = newSingleThreadScheduledExecutor();
+
+    private final StorageEngine engine;
+
+    /**
+     * Creates and starts a storage engine of a given type.
+     *
+     * @param engineType Type of the storage engine.
+     * @param workDir Directory to store the data of persistent engines in.
+     */
+    public StorageEngineFixture(EngineType engineType, Path workDir) {
+        var generator = new ConfigurationTreeGenerator(
+                List.of(NodeConfiguration.KEY),
+                List.of(
+                        StorageExtensionConfigurationSchema.class,
+                        PersistentPageMemoryStorageEngineExtensionConfigurationSchema.class,
+                        VolatilePageMemoryStorageEngineExtensionConfigurationSchema.class,
+                        RocksDbStorageEngineExtensionConfigurationSchema.class,
+                        SystemLocalExtensionConfigurationSchema.class
+                ),
+                List.of(
+                        PersistentPageMemoryProfileConfigurationSchema.class,
+                        VolatilePageMemoryProfileConfigurationSchema.class,
+                        RocksDbProfileConfigurationSchema.class
+                )
+        );
+
+        configRegistry = new ConfigurationRegistry(
+                List.of(NodeConfiguration.KEY),
+                new TestConfigurationStorage(LOCAL),
+                generator,
+                new TestConfigurationValidator()
+        );
+
+        configRegistry.startAsync(new ComponentContext()).join();
+
+        configRegistry.getConfiguration(StorageExtensionConfiguration.KEY).storage().profiles()
+                .change(profiles -> profiles.create(engineType.engineName(), engineType.profileInitializer))
+                .join();
+
+        HybridClock clock = new HybridClockImpl();
+
+        engine = dataStorageModule(engineType.engineName()).createEngine(
+                "benchmark",
+                new NoOpMetricManager(),
+                configRegistry,
+                workDir,
+                null,
+                new NoOpFailureManager(),
+                new NoOpLogSyncer(),
+                clock,
+                scheduler
+        );
+
+        engine.start();
+    }
+
+    /** Returns the started storage engine. */
+    public StorageEngine engine() {
+        return engine;
+    }
+
+    @Override
+    public void close() throws Exception {
+        closeAll(
+                engine::stop,
+                () -> configRegistry.stopAsync(new ComponentContext()).join(),
+                () -> shutdownAndAwaitTermination(scheduler, 10, TimeUnit.SECONDS)
+        );
+    }
+
+    private static DataStorageModule dataStorageModule(String engineName) {
+        return ServiceLoader.load(DataStorageModule.class).stream()
+                .map(Provider::get)
+                .filter(module -> module.name().equals(engineName))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException("Storage engine is not found: " + engineName));
+    }
+}
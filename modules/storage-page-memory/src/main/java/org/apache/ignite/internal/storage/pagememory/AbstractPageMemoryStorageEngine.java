@@ -47,12 +47,17 @@ import org.jetbrains.annotations.VisibleForTesting;
 public abstract class AbstractPageMemoryStorageEngine implements StorageEngine {
     public static final String LEGACY_PAGE_MEMORY_SORTED_INDEX_COMPARATOR_PROPERTY = "legacyPageMemorySortedIndexComparator";
 
+    /** System property that enables prefix compression of leaf pages for newly created sorted indexes. */
+    public static final String PAGE_MEMORY_SORTED_INDEX_PREFIX_COMPRESSION_PROPERTY = "pageMemorySortedIndexPrefixCompression";
+
     protected final SystemLocalConfiguration systemLocalConfig;
 
     private final HybridClock clock;
 
     private boolean useLegacySortedIndexComparator = false;
 
+    private boolean useSortedIndexPrefixCompression = false;
+
     /**
      * This map is used to reuse comparators for sorted indexes with the same set of columns and their collations. It is beneficial to reuse
      * comparators because otherwise every comparator will use its own generated class, which bloats metaspace and doesn't allow JVM's JIT
@@ -86,6 +91,30 @@ public abstract class AbstractPageMemoryStorageEngine implements StorageEngine {
         if (legacyComparator != null && "true".equalsIgnoreCase(legacyComparator.propertyValue())) {
             useLegacySortedIndexComparator = true;
         }
+
+        SystemPropertyView prefixCompression = systemLocalConfig.value().properties()
+                .get(PAGE_MEMORY_SORTED_INDEX_PREFIX_COMPRESSION_PROPERTY);
+
+        if (prefixCompression != null && "true".equalsIgnoreCase(prefixCompression.propertyValue())) {
+            useSortedIndexPrefixCompression = true;
+        }
+    }
+
+    /**
+     * Returns {@code true} if a new sorted index tree for the given descriptor should use prefix compressed leaf pages. Compression is
+     * only worth it for keys that have something to share: composite keys or variable length columns. The chosen format is recorded in
+     * the index meta, so existing indexes keep their format regardless of this setting.
+     *
+     * @param indexDescriptor Sorted index descriptor.
+     */
+    public boolean useSortedIndexPrefixCompression(StorageSortedIndexDescriptor indexDescriptor) {
+        if (!useSortedIndexPrefixCompression) {
+            return false;
+        }
+
+        List<StorageSortedIndexColumnDescriptor> columns = indexDescriptor.columns();
+
+        return columns.size() > 1 || columns.stream().anyMatch(column -> !column.type().fixedLength());
     }
 
     /**
@@ -33,6 +33,7 @@ import org.apache.ignite.internal.storage.pagememory.index.meta.io.IndexMetaTree
 import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeInnerIo;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeLeafIo;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeMetaIo;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreePrefixLeafIo;
 
 /**
  * {@link PageIoModule} related to {@link PageMemory} based indexes.
@@ -58,6 +59,7 @@ public class IndexPageIoModule implements PageIoModule {
         ioVersions.add(SortedIndexTreeMetaIo.VERSIONS);
         ioVersions.addAll(SortedIndexTreeInnerIo.VERSIONS);
         ioVersions.addAll(SortedIndexTreeLeafIo.VERSIONS);
+        ioVersions.addAll(SortedIndexTreePrefixLeafIo.VERSIONS);
 
         return ioVersions;
     }
@@ -47,4 +47,7 @@ public interface IndexPageTypes {
 
     /** Starting sorted index tree leaf IO type. No more than the {@link InlineUtils#MAX_BINARY_TUPLE_INLINE_SIZE}. */
     short T_SORTED_INDEX_LEAF_IO_START = 25_000;
+
+    /** Starting prefix compressed sorted index tree leaf IO type. No more than the {@link InlineUtils#MAX_BINARY_TUPLE_INLINE_SIZE}. */
+    short T_SORTED_INDEX_PREFIX_LEAF_IO_START = 28_000;
 }
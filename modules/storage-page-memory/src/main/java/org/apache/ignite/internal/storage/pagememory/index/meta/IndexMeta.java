@@ -63,6 +63,8 @@ public class IndexMeta extends IndexMetaKey {
 
     private final @Nullable UUID nextRowIdUuidToBuild;
 
+    private final boolean prefixCompression;
+
     /**
      * Constructor.
      *
@@ -72,11 +74,27 @@ public class IndexMeta extends IndexMetaKey {
      *      completed.
      */
     public IndexMeta(int id, IndexType indexType, long metaPageId, @Nullable UUID nextRowIdUuidToBuild) {
+        this(id, indexType, metaPageId, nextRowIdUuidToBuild, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param id Index ID.
+     * @param metaPageId Index tree meta page ID.
+     * @param nextRowIdUuidToBuild Row ID uuid for which the index needs to be built, {@code null} means that the index building has
+     *      completed.
+     * @param prefixCompression Whether the leaf pages of a sorted index tree are prefix compressed.
+     */
+    public IndexMeta(int id, IndexType indexType, long metaPageId, @Nullable UUID nextRowIdUuidToBuild, boolean prefixCompression) {
         super(id);
 
+        assert !prefixCompression || indexType == IndexType.SORTED : indexType;
+
         this.indexType = indexType;
         this.metaPageId = metaPageId;
         this.nextRowIdUuidToBuild = nextRowIdUuidToBuild;
+        this.prefixCompression = prefixCompression;
     }
 
     public IndexType indexType() {
@@ -97,6 +115,13 @@ public class IndexMeta extends IndexMetaKey {
         return nextRowIdUuidToBuild;
     }
 
+    /**
+     * Returns {@code true} if the leaf pages of a sorted index tree are prefix compressed.
+     */
+    public boolean prefixCompression() {
+        return prefixCompression;
+    }
+
     @Override
     public String toString() {
         return S.toString(IndexMeta.class, this, "indexId=", indexId(), "metaPageId", StringUtils.hexLong(metaPageId));
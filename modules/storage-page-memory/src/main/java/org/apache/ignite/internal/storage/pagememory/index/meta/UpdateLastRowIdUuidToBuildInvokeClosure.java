@@ -45,7 +45,13 @@ public class UpdateLastRowIdUuidToBuildInvokeClosure implements InvokeClosure<In
     public void call(@Nullable IndexMeta oldRow) throws IgniteInternalCheckedException {
         assert oldRow != null;
 
-        newRow = new IndexMeta(oldRow.indexId(), oldRow.indexType(), oldRow.metaPageId(), newLastRowIdUuidToBuilt);
+        newRow = new IndexMeta(
+                oldRow.indexId(),
+                oldRow.indexType(),
+                oldRow.metaPageId(),
+                newLastRowIdUuidToBuilt,
+                oldRow.prefixCompression()
+        );
     }
 
     @Override
@@ -37,6 +37,7 @@ import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaKey;
  * <p>Defines a following data layout:
  * <ul>
  *     <li>Index ID - int (4 bytes);</li>
+ *     <li>Index type - byte (1 byte), the highest bit is set if the leaf pages of a sorted index tree are prefix compressed;</li>
  *     <li>Index root page ID - long (8 bytes);</li>
  *     <li>Row ID uuid for which the index needs to be built - {@link UUID} (16 bytes).</li>
  * </ul>
@@ -48,6 +49,9 @@ public interface IndexMetaIo {
     /** Offset of the Index Type (1 byte). */
     int INDEX_TYPE_OFFSET = INDEX_ID_OFFSET + Integer.BYTES;
 
+    /** Flag of the index type byte that is set if the leaf pages of a sorted index tree are prefix compressed. */
+    byte PREFIX_COMPRESSION_FLAG = (byte) 0x80;
+
     /** Index tree meta page id offset - long (8 bytes). */
     int INDEX_TREE_META_PAGE_ID_OFFSET = INDEX_TYPE_OFFSET + Byte.BYTES;
 
@@ -104,7 +108,11 @@ public interface IndexMetaIo {
 
         int indexId = getInt(pageAddr, elementOffset + INDEX_ID_OFFSET);
 
-        IndexType indexType = IndexType.deserialize(getByte(pageAddr, elementOffset + INDEX_TYPE_OFFSET));
+        byte indexTypeByte = getByte(pageAddr, elementOffset + INDEX_TYPE_OFFSET);
+
+        IndexType indexType = IndexType.deserialize((byte) (indexTypeByte & ~PREFIX_COMPRESSION_FLAG));
+
+        boolean prefixCompression = (indexTypeByte & PREFIX_COMPRESSION_FLAG) != 0;
 
         long indexTreeMetaPageId = getLong(pageAddr, elementOffset + INDEX_TREE_META_PAGE_ID_OFFSET);
 
@@ -115,7 +123,7 @@ public interface IndexMetaIo {
                 ? null
                 : new UUID(nextRowIdUuidToBuiltMsb, nextRowIdUuidToBuiltLsb);
 
-        return new IndexMeta(indexId, indexType, indexTreeMetaPageId, nextRowIdUuid);
+        return new IndexMeta(indexId, indexType, indexTreeMetaPageId, nextRowIdUuid, prefixCompression);
     }
 
     /**
@@ -142,7 +150,13 @@ public interface IndexMetaIo {
 
         putInt(pageAddr, off + INDEX_ID_OFFSET, row.indexId());
 
-        putByte(pageAddr, off + INDEX_TYPE_OFFSET, row.indexType().serialize());
+        byte indexTypeByte = row.indexType().serialize();
+
+        if (row.prefixCompression()) {
+            indexTypeByte |= PREFIX_COMPRESSION_FLAG;
+        }
+
+        putByte(pageAddr, off + INDEX_TYPE_OFFSET, indexTypeByte);
 
         putLong(pageAddr, off + INDEX_TREE_META_PAGE_ID_OFFSET, row.metaPageId());
 
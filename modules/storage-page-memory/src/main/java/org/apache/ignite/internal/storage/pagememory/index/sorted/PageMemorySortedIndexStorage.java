@@ -42,6 +42,7 @@ import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMeta;
 import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaTree;
 import org.apache.ignite.internal.util.Cursor;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 
 /**
  * Implementation of Sorted index storage using Page Memory.
@@ -85,6 +86,18 @@ public class PageMemorySortedIndexStorage extends AbstractPageMemoryIndexStorage
         return descriptor;
     }
 
+    /**
+     * Returns {@code true} if the leaf pages of the index tree are prefix compressed.
+     */
+    public boolean prefixCompression() {
+        return indexTree.prefixCompression();
+    }
+
+    @TestOnly
+    SortedIndexTree indexTree() {
+        return indexTree;
+    }
+
     @Override
     public Cursor<RowId> get(BinaryTuple key) throws StorageException {
         return busyDataRead(() -> {
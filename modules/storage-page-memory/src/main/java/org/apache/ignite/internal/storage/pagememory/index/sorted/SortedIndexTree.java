@@ -36,6 +36,7 @@ import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndex
 import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeIo;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeLeafIo;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeMetaIo;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreePrefixLeafIo;
 import org.apache.ignite.internal.storage.util.StorageUtils;
 import org.jetbrains.annotations.Nullable;
 
@@ -63,6 +64,9 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
     /** Inline size in bytes. */
     private final int inlineSize;
 
+    /** Whether the leaf pages use {@link SortedIndexTreePrefixLeafIo}. */
+    private final boolean prefixCompression;
+
     /**
      * Constructor used to create a new tree or restore an existing one.
      *
@@ -77,6 +81,8 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
      * @param indexDescriptor Index descriptor.
      * @param jitComparator Optional optimized binary tuple comparator to be used by the tree. {@code null} if {@link BinaryTupleComparator}
      *      derived from {@code indexDescriptor} should be used instead.
+     * @param prefixCompression Whether the leaf pages use {@link SortedIndexTreePrefixLeafIo}, for a new tree the format is only used
+     *      if it supports the page size.
      * @param initNew {@code True} if need to create and fill in special pages for working with a tree (for example, when creating
      *         it for the first time), {@code false} if not necessary (for example, when restoring a tree).
      * @throws IgniteInternalCheckedException If failed.
@@ -91,6 +97,7 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
             @Nullable ReuseList reuseList,
             StorageSortedIndexDescriptor indexDescriptor,
             @Nullable JitComparator jitComparator,
+            boolean prefixCompression,
             boolean initNew
     ) throws IgniteInternalCheckedException {
         super("SortedIndexTree", grpId, grpName, partId, pageMem, globalRmvId, metaPageId, reuseList);
@@ -98,6 +105,9 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
         this.inlineSize = initNew
                 ? binaryTupleInlineSize(pageSize(), ITEM_SIZE_WITHOUT_COLUMNS, indexDescriptor)
                 : readInlineSizeFromMetaIo();
+        this.prefixCompression = initNew
+                ? prefixCompression && SortedIndexTreePrefixLeafIo.VERSIONS.get(inlineSize).latest().supportsPageSize(pageSize())
+                : prefixCompression;
         this.dataPageReader = new DataPageReader(pageMem, grpId);
         this.binaryTupleComparator = StorageUtils.binaryTupleComparator(indexDescriptor.columns());
         this.partialBinaryTupleMatcher = StorageUtils.partialBinaryTupleComparator(indexDescriptor.columns());
@@ -117,6 +127,7 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
      *      must be greater than or equal to the previous value.
      * @param metaPageId Meta page ID.
      * @param reuseList Reuse list.
+     * @param prefixCompression Whether the leaf pages use {@link SortedIndexTreePrefixLeafIo}.
      * @throws IgniteInternalCheckedException If failed.
      */
     private SortedIndexTree(
@@ -126,11 +137,13 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
             PageMemory pageMem,
             AtomicLong globalRmvId,
             long metaPageId,
-            @Nullable ReuseList reuseList
+            @Nullable ReuseList reuseList,
+            boolean prefixCompression
     ) throws IgniteInternalCheckedException {
         super("SortedIndexTree", grpId, grpName, partId, pageMem, globalRmvId, metaPageId, reuseList);
 
         this.inlineSize = readInlineSizeFromMetaIo();
+        this.prefixCompression = prefixCompression;
         this.dataPageReader = new DataPageReader(pageMem, grpId);
         this.binaryTupleComparator = null;
         this.partialBinaryTupleMatcher = null;
@@ -152,9 +165,30 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
             @Nullable ReuseList reuseList,
             StorageSortedIndexDescriptor indexDescriptor,
             @Nullable JitComparator jitComparator
+    ) throws IgniteInternalCheckedException {
+        return createNew(grpId, grpName, partId, pageMem, globalRmvId, metaPageId, reuseList, indexDescriptor, jitComparator, false);
+    }
+
+    /**
+     * Creates a new Sorted Index tree, optionally with prefix compressed leaf pages. The format that is actually used is returned by
+     * {@link #prefixCompression()} and must be passed when the tree is restored.
+     *
+     * @see SortedIndexTreePrefixLeafIo
+     */
+    public static SortedIndexTree createNew(
+            int grpId,
+            String grpName,
+            int partId,
+            PageMemory pageMem,
+            AtomicLong globalRmvId,
+            long metaPageId,
+            @Nullable ReuseList reuseList,
+            StorageSortedIndexDescriptor indexDescriptor,
+            @Nullable JitComparator jitComparator,
+            boolean prefixCompression
     ) throws IgniteInternalCheckedException {
         return new SortedIndexTree(
-                grpId, grpName, partId, pageMem, globalRmvId, metaPageId, reuseList, indexDescriptor, jitComparator, true
+                grpId, grpName, partId, pageMem, globalRmvId, metaPageId, reuseList, indexDescriptor, jitComparator, prefixCompression, true
         );
     }
 
@@ -170,10 +204,21 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
             long metaPageId,
             @Nullable ReuseList reuseList,
             StorageSortedIndexDescriptor indexDescriptor,
-            @Nullable JitComparator jitComparator
+            @Nullable JitComparator jitComparator,
+            boolean prefixCompression
     ) throws IgniteInternalCheckedException {
         return new SortedIndexTree(
-                grpId, grpName, partId, pageMem, globalRmvId, metaPageId, reuseList, indexDescriptor, jitComparator, false
+                grpId,
+                grpName,
+                partId,
+                pageMem,
+                globalRmvId,
+                metaPageId,
+                reuseList,
+                indexDescriptor,
+                jitComparator,
+                prefixCompression,
+                false
         );
     }
 
@@ -187,15 +232,16 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
             PageMemory pageMem,
             AtomicLong globalRmvId,
             long metaPageId,
-            @Nullable ReuseList reuseList
+            @Nullable ReuseList reuseList,
+            boolean prefixCompression
     ) throws IgniteInternalCheckedException {
-        return new SortedIndexTree(grpId, grpName, partId, pageMem, globalRmvId, metaPageId, reuseList);
+        return new SortedIndexTree(grpId, grpName, partId, pageMem, globalRmvId, metaPageId, reuseList, prefixCompression);
     }
 
     private void init(boolean initNew) throws IgniteInternalCheckedException {
         setIos(
                 SortedIndexTreeInnerIo.VERSIONS.get(inlineSize),
-                SortedIndexTreeLeafIo.VERSIONS.get(inlineSize),
+                prefixCompression ? SortedIndexTreePrefixLeafIo.VERSIONS.get(inlineSize) : SortedIndexTreeLeafIo.VERSIONS.get(inlineSize),
                 SortedIndexTreeMetaIo.VERSIONS
         );
 
@@ -261,6 +307,13 @@ public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow
         return inlineSize;
     }
 
+    /**
+     * Returns {@code true} if the leaf pages use {@link SortedIndexTreePrefixLeafIo}.
+     */
+    public boolean prefixCompression() {
+        return prefixCompression;
+    }
+
     private int readInlineSizeFromMetaIo() throws IgniteInternalCheckedException {
         Integer inlineSize = read(
                 metaPageId,
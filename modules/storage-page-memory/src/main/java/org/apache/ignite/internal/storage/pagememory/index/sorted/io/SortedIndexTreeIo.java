@@ -113,6 +113,12 @@ public interface SortedIndexTreeIo {
      * @see BplusIo#store(long, int, BplusIo, long, int)
      */
     default void store(long dstPageAddr, int dstIdx, BplusIo<SortedIndexRowKey> srcIo, long srcPageAddr, int srcIdx) {
+        if (srcIo instanceof SortedIndexTreePrefixLeafIo) {
+            ((SortedIndexTreePrefixLeafIo) srcIo).storeUncompressed(srcPageAddr, srcIdx, this, dstPageAddr, dstIdx);
+
+            return;
+        }
+
         int dstOffset = offset(dstIdx);
         int srcOffset = srcIo.offset(srcIdx);
 
@@ -278,7 +284,15 @@ public interface SortedIndexTreeIo {
         return compareRowId(pageAddr, rowKey, off);
     }
 
-    private int compareRowId(long pageAddr, SortedIndexRowKey rowKey, int off) {
+    /**
+     * Compares the row ID of the item from the page with the row ID of the passed {@link SortedIndexRow}.
+     *
+     * @param pageAddr Page address.
+     * @param rowKey Lookup index row key, must be a {@link SortedIndexRow}.
+     * @param off Item offset.
+     * @return Comparison result.
+     */
+    default int compareRowId(long pageAddr, SortedIndexRowKey rowKey, int off) {
         assert rowKey instanceof SortedIndexRow : "Comparison with a binary tuple prefix returned 0. [rowKey=" + rowKey.getClass() + "]";
 
         SortedIndexRow row = (SortedIndexRow) rowKey;
@@ -0,0 +1,1052 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted.io;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.util.stream.Collectors.toUnmodifiableList;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.HEADER_SIZE;
+import static org.apache.ignite.internal.binarytuple.BinaryTupleCommon.flagsToEntrySize;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.copyMemory;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getByte;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getBytes;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getShort;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getUnsignedByte;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putBytes;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putShort;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putUnsignedByte;
+import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.PARTITIONLESS_LINK_SIZE_BYTES;
+import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.readPartitionless;
+import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.writePartitionless;
+import static org.apache.ignite.internal.storage.pagememory.index.IndexPageTypes.T_SORTED_INDEX_PREFIX_LEAF_IO_START;
+import static org.apache.ignite.internal.storage.pagememory.index.InlineUtils.MAX_BINARY_TUPLE_INLINE_SIZE;
+import static org.apache.ignite.internal.storage.pagememory.index.InlineUtils.canFullyInline;
+import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.pagememory.datapage.DataPageReader;
+import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.pagememory.tree.BplusTree;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusLeafIo;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.PartialBinaryTupleMatcher;
+import org.apache.ignite.internal.schema.UnsafeByteBufferAccessor;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.pagememory.index.InlineUtils;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumns;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.ReadIndexColumnsValue;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexRow;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexRowKey;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexTree;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.comparator.JitComparator;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+/**
+ * {@link BplusLeafIo} implementation for {@link SortedIndexTree} with prefix compression of the index columns.
+ *
+ * <p>Unlike {@link SortedIndexTreeLeafIo}, items have variable size. The B+Tree item of this IO is a slot with the offset of an item
+ * record, records are placed from the end of the page towards the slots and are kept contiguous: when a record is removed, the records
+ * below it are moved up.
+ *
+ * <p>Each page keeps an anchor: a prefix of the values area of a {@link BinaryTuple}, taken from the first row that is stored into an
+ * empty page or moved into a new page on split. A record stores the tuple header and offset table, followed by the values area without
+ * the bytes shared with the anchor, so composite keys with repeating leading columns take less space and more of them fit into a page.
+ * A record of a tuple that is not completely inline keeps no more than the inline size of stored bytes, but the bytes taken from the
+ * anchor come on top of that, so such tuples are restored from the page without reading the FreeList more often.
+ *
+ * <p>Defines a following page layout after the common header:
+ * <ul>
+ *     <li>Offset of the topmost record - short (2 bytes);</li>
+ *     <li>Anchor size - unsigned byte, {@code 0} if the anchor is not set;</li>
+ *     <li>Anchor bytes (no more than {@link #MAX_ANCHOR_SIZE} and the inline size);</li>
+ *     <li>Slots: record offsets - short (2 bytes) each;</li>
+ *     <li>Free space;</li>
+ *     <li>Records.</li>
+ * </ul>
+ *
+ * <p>Defines a following record layout:
+ * <ul>
+ *     <li>Index columns size - short (2 bytes);</li>
+ *     <li>Size of the tuple header and offset table - unsigned byte, {@code 0} if unknown;</li>
+ *     <li>Number of values area bytes that are taken from the anchor - unsigned byte;</li>
+ *     <li>Row ID - {@link UUID} (16 bytes);</li>
+ *     <li>Index columns link - long (6 bytes), only if the tuple can't be fully inlined and thus is in the FreeList;</li>
+ *     <li>Stored index columns bytes: the tuple header and offset table, followed by the rest of the values area, no more than the inline
+ *     size if the tuple is in the FreeList.</li>
+ * </ul>
+ */
+public class SortedIndexTreePrefixLeafIo extends BplusLeafIo<SortedIndexRowKey> implements SortedIndexTreeIo {
+    /** I/O versions for each {@link BinaryTuple} inline size up to the {@link InlineUtils#MAX_BINARY_TUPLE_INLINE_SIZE}. */
+    public static final List<IoVersions<SortedIndexTreePrefixLeafIo>> VERSIONS = IntStream.rangeClosed(0, MAX_BINARY_TUPLE_INLINE_SIZE)
+            .mapToObj(inlineSize -> new IoVersions<>(new SortedIndexTreePrefixLeafIo(1, inlineSize)))
+            .collect(toUnmodifiableList());
+
+    /** Maximum anchor size in bytes. */
+    static final int MAX_ANCHOR_SIZE = 64;
+
+    /** Size of a slot in bytes. */
+    private static final int SLOT_SIZE = Short.BYTES;
+
+    /** Offset of the topmost record offset (2 bytes). */
+    private static final int HEAP_TOP_OFF = ITEMS_OFF;
+
+    /** Offset of the anchor size (1 byte). */
+    private static final int ANCHOR_SIZE_OFF = HEAP_TOP_OFF + Short.BYTES;
+
+    /** Offset of the anchor bytes. */
+    private static final int ANCHOR_OFF = ANCHOR_SIZE_OFF + 1;
+
+    /** Offset of the size of the tuple header and offset table in a record (1 byte). */
+    private static final int HEADER_SIZE_OFFSET = SIZE_OFFSET + Short.BYTES;
+
+    /** Offset of the number of values area bytes that are taken from the anchor in a record (1 byte). */
+    private static final int SHARED_SIZE_OFFSET = HEADER_SIZE_OFFSET + 1;
+
+    /** Offset of the row ID in a record (16 bytes). */
+    private static final int ROW_ID_OFFSET = SHARED_SIZE_OFFSET + 1;
+
+    /** Offset of the index columns link in a record (6 bytes). */
+    private static final int RECORD_LINK_OFFSET = ROW_ID_OFFSET + 2 * Long.BYTES;
+
+    /**
+     * Minimum number of the largest items that a page must be able to hold: after a split both pages must have space for one more item,
+     * so a page of the largest items must be split into two parts that are no larger than a page without one item.
+     */
+    private static final int MIN_MAX_RECORD_COUNT = 3;
+
+    /** Inline size in bytes. */
+    private final int inlineSize;
+
+    /** Maximum anchor size for this inline size. */
+    private final int anchorCapacity;
+
+    /** Maximum record size in bytes. */
+    private final int maxRecordSize;
+
+    /**
+     * Constructor.
+     *
+     * @param ver Page format version.
+     * @param inlineSize Inline size in bytes.
+     */
+    private SortedIndexTreePrefixLeafIo(int ver, int inlineSize) {
+        super(
+                T_SORTED_INDEX_PREFIX_LEAF_IO_START + inlineSize,
+                ver,
+                SLOT_SIZE,
+                Short.BYTES + 1 + Math.min(MAX_ANCHOR_SIZE, inlineSize)
+        );
+
+        this.inlineSize = inlineSize;
+        this.anchorCapacity = Math.min(MAX_ANCHOR_SIZE, inlineSize);
+        this.maxRecordSize = RECORD_LINK_OFFSET + PARTITIONLESS_LINK_SIZE_BYTES + inlineSize;
+    }
+
+    /**
+     * Returns {@code true} if pages of the given size can be used with this IO: they must hold at least {@link #MIN_MAX_RECORD_COUNT}
+     * items of the maximum size.
+     *
+     * @param pageSize Page size without encryption overhead.
+     */
+    public boolean supportsPageSize(int pageSize) {
+        return pageSize - offset(0) >= MIN_MAX_RECORD_COUNT * (maxRecordSize + SLOT_SIZE);
+    }
+
+    @Override
+    public int indexColumnsInlineSize() {
+        return inlineSize;
+    }
+
+    @Override
+    public int linkOffset() {
+        return RECORD_LINK_OFFSET;
+    }
+
+    @Override
+    public int rowIdMsbOffset() {
+        return ROW_ID_OFFSET;
+    }
+
+    @Override
+    public int rowIdLsbOffset() {
+        return ROW_ID_OFFSET + Long.BYTES;
+    }
+
+    @Override
+    public void initNewPage(long pageAddr, long pageId, int pageSize) {
+        super.initNewPage(pageAddr, pageId, pageSize);
+
+        setHeapTop(pageAddr, pageSize);
+        putUnsignedByte(pageAddr, ANCHOR_SIZE_OFF, 0);
+    }
+
+    @Override
+    public int getMaxCount(int pageSize) {
+        // Upper bound, the actual number of items depends on their size.
+        return (pageSize - offset(0)) / (SLOT_SIZE + RECORD_LINK_OFFSET);
+    }
+
+    @Override
+    public int getMaxCount(long pageAddr, int pageSize) {
+        int cnt = getCount(pageAddr);
+
+        return cnt + freeSpace(pageAddr, cnt) / (maxRecordSize + SLOT_SIZE);
+    }
+
+    @Override
+    public byte @Nullable [] insert(
+            long pageAddr,
+            int idx,
+            @Nullable SortedIndexRowKey row,
+            byte @Nullable [] rowBytes,
+            long rightId,
+            boolean needRowBytes
+    ) throws IgniteInternalCheckedException {
+        assert rowBytes == null && !needRowBytes : "Leaf items can't be stored as bytes";
+
+        int cnt = getCount(pageAddr);
+
+        copyItems(pageAddr, pageAddr, idx, idx + 1, cnt - idx, false);
+
+        setCount(pageAddr, cnt + 1);
+
+        // The slot has no record yet, it must not be taken for a replaced item.
+        setRecordOffset(pageAddr, idx, 0);
+
+        return store(pageAddr, idx, row, null, false);
+    }
+
+    @Override
+    public void remove(long pageAddr, int idx, int cnt) throws IgniteInternalCheckedException {
+        freeRecord(pageAddr, idx, cnt);
+
+        super.remove(pageAddr, idx, cnt);
+    }
+
+    @Override
+    public void splitForwardPage(
+            long pageAddr,
+            long fwdId,
+            long fwdPageAddr,
+            int mid,
+            int cnt,
+            int pageSize,
+            int partId
+    ) throws IgniteInternalCheckedException {
+        super.splitForwardPage(pageAddr, fwdId, fwdPageAddr, splitIndex(pageAddr, mid, cnt), cnt, pageSize, partId);
+    }
+
+    @Override
+    public void splitExistingPage(long pageAddr, int mid, long fwdId) {
+        int cnt = getCount(pageAddr);
+
+        // The page is not modified by splitForwardPage, so the split index is the same.
+        int splitIdx = splitIndex(pageAddr, mid, cnt);
+
+        compact(pageAddr, splitIdx, cnt);
+
+        super.splitExistingPage(pageAddr, splitIdx, fwdId);
+    }
+
+    @Override
+    public boolean merge(
+            BplusIo<SortedIndexRowKey> parentIo,
+            long parentPageAddr,
+            int parentIdx,
+            long leftPageAddr,
+            long rightPageAddr,
+            boolean emptyBranch,
+            int pageSize
+    ) throws IgniteInternalCheckedException {
+        int leftCnt = getCount(leftPageAddr);
+        int rightCnt = getCount(rightPageAddr);
+
+        if (leftCnt > 0 && rightCnt > 0) {
+            boolean sameAnchors = sameAnchors(leftPageAddr, rightPageAddr);
+
+            int mergedSize = 0;
+
+            for (int i = 0; i < rightCnt; i++) {
+                int recordOff = recordOffset(rightPageAddr, i);
+
+                mergedSize += sameAnchors ? recordLength(rightPageAddr, recordOff) : encodedLength(rightPageAddr, recordOff, leftPageAddr);
+            }
+
+            if (mergedSize > freeSpace(leftPageAddr, leftCnt + rightCnt)) {
+                assert !emptyBranch;
+
+                return false;
+            }
+        }
+
+        return super.merge(parentIo, parentPageAddr, parentIdx, leftPageAddr, rightPageAddr, emptyBranch, pageSize);
+    }
+
+    @Override
+    public void copyItems(long srcPageAddr, long dstPageAddr, int srcIdx, int dstIdx, int cnt, boolean cpLeft) {
+        if (srcPageAddr == dstPageAddr) {
+            // Only the slots are moved, the records stay in place.
+            super.copyItems(srcPageAddr, dstPageAddr, srcIdx, dstIdx, cnt, cpLeft);
+
+            return;
+        }
+
+        if (cnt == 0) {
+            return;
+        }
+
+        if (dstIdx == 0) {
+            // Items are moved into an empty page on split or merge, so the anchor can be chosen.
+            chooseAnchor(srcPageAddr, srcIdx, cnt, dstPageAddr);
+        }
+
+        boolean sameAnchors = sameAnchors(srcPageAddr, dstPageAddr);
+
+        for (int i = 0; i < cnt; i++) {
+            if (sameAnchors) {
+                copyRecordAsIs(srcPageAddr, srcIdx + i, dstPageAddr, dstIdx + i);
+            } else {
+                copyRecord(srcPageAddr, srcIdx + i, dstPageAddr, dstIdx + i);
+            }
+        }
+    }
+
+    @Override
+    public void store(long dstPageAddr, int dstIdx, BplusIo<SortedIndexRowKey> srcIo, long srcPageAddr, int srcIdx) {
+        assert srcIo == this : srcIo;
+
+        if (recordOffset(dstPageAddr, dstIdx) != 0) {
+            freeRecord(dstPageAddr, dstIdx, getCount(dstPageAddr));
+        }
+
+        copyRecord(srcPageAddr, srcIdx, dstPageAddr, dstIdx);
+    }
+
+    @Override
+    public void storeByOffset(long pageAddr, int off, SortedIndexRowKey rowKey) {
+        assert rowKey instanceof SortedIndexRow;
+
+        SortedIndexRow row = (SortedIndexRow) rowKey;
+
+        int idx = (off - offset(0)) / SLOT_SIZE;
+
+        if (recordOffset(pageAddr, idx) != 0) {
+            // The item is replaced.
+            freeRecord(pageAddr, idx, getCount(pageAddr));
+        }
+
+        IndexColumns indexColumns = row.indexColumns();
+
+        int size = indexColumns.valueSize();
+
+        byte[] bytes = new byte[size];
+
+        indexColumns.valueBuffer().duplicate().position(0).get(bytes);
+
+        int headerSize = tupleHeaderSize(bytes, size);
+
+        if (getCount(pageAddr) == 1 || anchorSize(pageAddr) == 0) {
+            // Either the only item on the page is being written, or the page has no compressed items.
+            setAnchor(pageAddr, bytes, headerSize, size);
+        }
+
+        int recordOff = writeRecord(pageAddr, idx, bytes, size, size, headerSize);
+
+        if (canFullyInline(size, inlineSize)) {
+            assert indexColumns.link() == NULL_LINK : "Index columns are completely inline, they should not be in FreeList";
+        } else {
+            writePartitionless(pageAddr + recordOff + RECORD_LINK_OFFSET, indexColumns.link());
+        }
+
+        RowId rowId = row.rowId();
+
+        putLong(pageAddr + recordOff, rowIdMsbOffset(), rowId.mostSignificantBits());
+        putLong(pageAddr + recordOff, rowIdLsbOffset(), rowId.leastSignificantBits());
+    }
+
+    @Override
+    public int compare(
+            DataPageReader dataPageReader,
+            Comparator<ByteBuffer> binaryTupleComparator,
+            PartialBinaryTupleMatcher partialBinaryTupleComparator,
+            int partitionId,
+            long pageAddr,
+            int idx,
+            SortedIndexRowKey rowKey
+    ) throws IgniteInternalCheckedException {
+        int recordOff = recordOffset(pageAddr, idx);
+
+        int indexColumnsSize = indexColumnsSize(pageAddr, recordOff);
+        int restorableSize = restorableSize(pageAddr, recordOff);
+
+        ByteBuffer firstBinaryTupleBuffer;
+
+        ByteBuffer secondBinaryTupleBuffer = rowKey.indexColumns().valueBuffer();
+
+        if (restorableSize < indexColumnsSize) {
+            ByteBuffer partialFirstBinaryTupleBuffer = restoreBuffer(pageAddr, recordOff, restorableSize);
+
+            int firstCmp = partialBinaryTupleComparator.match(
+                    partialFirstBinaryTupleBuffer.order(LITTLE_ENDIAN),
+                    secondBinaryTupleBuffer
+            );
+
+            if (firstCmp != 0) {
+                return firstCmp;
+            }
+
+            firstBinaryTupleBuffer = ByteBuffer.wrap(readFromFreeList(dataPageReader, partitionId, pageAddr, recordOff));
+        } else {
+            firstBinaryTupleBuffer = restoreBuffer(pageAddr, recordOff, indexColumnsSize);
+        }
+
+        int cmp = binaryTupleComparator.compare(firstBinaryTupleBuffer.order(LITTLE_ENDIAN), secondBinaryTupleBuffer);
+
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        return compareRowId(pageAddr, rowKey, recordOff);
+    }
+
+    @Override
+    public int compare(
+            DataPageReader dataPageReader,
+            JitComparator comparator,
+            int partitionId,
+            long pageAddr,
+            int idx,
+            SortedIndexRowKey rowKey
+    ) throws IgniteInternalCheckedException {
+        int recordOff = recordOffset(pageAddr, idx);
+
+        int indexColumnsSize = indexColumnsSize(pageAddr, recordOff);
+        int restorableSize = restorableSize(pageAddr, recordOff);
+
+        UnsafeByteBufferAccessor outerAccessor = rowKey.myAccessor;
+        UnsafeByteBufferAccessor innerAccessor = rowKey.otherAccessor;
+        int innerSize;
+
+        if (restorableSize < indexColumnsSize) {
+            innerSize = restorableSize;
+            reinitAccessor(innerAccessor, pageAddr, recordOff, innerSize);
+
+            int cmp = comparator.compare(outerAccessor, outerAccessor.capacity(), innerAccessor, innerSize);
+
+            if (cmp != 0) {
+                return -cmp;
+            }
+
+            byte[] innerBytes = readFromFreeList(dataPageReader, partitionId, pageAddr, recordOff);
+            innerSize = innerBytes.length;
+            innerAccessor.reinit(innerBytes, 0, innerBytes.length);
+        } else {
+            innerSize = indexColumnsSize;
+            reinitAccessor(innerAccessor, pageAddr, recordOff, innerSize);
+        }
+
+        int cmp = comparator.compare(outerAccessor, outerAccessor.capacity(), innerAccessor, innerSize);
+
+        if (cmp != 0) {
+            return -cmp;
+        }
+
+        return compareRowId(pageAddr, rowKey, recordOff);
+    }
+
+    @Override
+    public SortedIndexRow getRow(DataPageReader dataPageReader, int partitionId, long pageAddr, int idx)
+            throws IgniteInternalCheckedException {
+        int recordOff = recordOffset(pageAddr, idx);
+
+        int indexColumnsSize = indexColumnsSize(pageAddr, recordOff);
+
+        byte[] indexColumnsBytes;
+
+        if (restorableSize(pageAddr, recordOff) < indexColumnsSize) {
+            indexColumnsBytes = readFromFreeList(dataPageReader, partitionId, pageAddr, recordOff);
+        } else {
+            indexColumnsBytes = restore(pageAddr, recordOff, indexColumnsSize);
+        }
+
+        // Unlike the uncompressed format, the tuple can be restored from the page and still have a copy in the FreeList.
+        long link = hasLink(indexColumnsSize) ? readPartitionless(partitionId, pageAddr + recordOff, RECORD_LINK_OFFSET) : NULL_LINK;
+
+        IndexColumns indexColumns = new IndexColumns(partitionId, link, ByteBuffer.wrap(indexColumnsBytes).order(LITTLE_ENDIAN));
+
+        long rowIdMsb = getLong(pageAddr + recordOff, rowIdMsbOffset());
+        long rowIdLsb = getLong(pageAddr + recordOff, rowIdLsbOffset());
+
+        RowId rowId = new RowId(partitionId, rowIdMsb, rowIdLsb);
+
+        return new SortedIndexRow(indexColumns, rowId);
+    }
+
+    @Override
+    public SortedIndexRowKey getLookupRow(BplusTree<SortedIndexRowKey, ?> tree, long pageAddr, int idx)
+            throws IgniteInternalCheckedException {
+        SortedIndexTree sortedIndexTree = (SortedIndexTree) tree;
+
+        return getRow(sortedIndexTree.dataPageReader(), sortedIndexTree.partitionId(), pageAddr, idx);
+    }
+
+    @Override
+    public void visit(BplusTree<SortedIndexRowKey, ?> tree, long pageAddr, Consumer<SortedIndexRowKey> c) {
+        SortedIndexTree sortedIndexTree = (SortedIndexTree) tree;
+
+        int count = getCount(pageAddr);
+
+        for (int i = 0; i < count; i++) {
+            SortedIndexRow indexRow;
+            try {
+                indexRow = getRow(sortedIndexTree.dataPageReader(), sortedIndexTree.partitionId(), pageAddr, i);
+            } catch (IgniteInternalCheckedException e) {
+                throw new IgniteInternalException(e);
+            }
+
+            c.accept(indexRow);
+        }
+    }
+
+    /**
+     * Stores an item of this page in the uncompressed {@link SortedIndexTreeIo} format, used when a separator key is copied from a leaf
+     * into an inner page.
+     *
+     * @param srcPageAddr Source page address.
+     * @param srcIdx Source item index.
+     * @param dstIo Destination IO, must have the same inline size.
+     * @param dstPageAddr Destination page address.
+     * @param dstIdx Destination item index.
+     */
+    void storeUncompressed(long srcPageAddr, int srcIdx, SortedIndexTreeIo dstIo, long dstPageAddr, int dstIdx) {
+        assert dstIo.indexColumnsInlineSize() == inlineSize : "Inline size mismatch [src=" + inlineSize
+                + ", dst=" + dstIo.indexColumnsInlineSize() + ']';
+
+        int srcOff = recordOffset(srcPageAddr, srcIdx);
+        int dstOff = dstIo.offset(dstIdx);
+
+        int size = indexColumnsSize(srcPageAddr, srcOff);
+
+        if (hasLink(size)) {
+            putShort(dstPageAddr + dstOff, SIZE_OFFSET, NOT_FULLY_INLINE);
+            putBytes(dstPageAddr + dstOff, TUPLE_OFFSET, restore(srcPageAddr, srcOff, inlineSize));
+
+            copyMemory(srcPageAddr, srcOff + RECORD_LINK_OFFSET, dstPageAddr, dstOff + dstIo.linkOffset(), PARTITIONLESS_LINK_SIZE_BYTES);
+        } else {
+            putShort(dstPageAddr + dstOff, SIZE_OFFSET, (short) size);
+            putBytes(dstPageAddr + dstOff, TUPLE_OFFSET, restore(srcPageAddr, srcOff, size));
+        }
+
+        copyMemory(srcPageAddr, srcOff + ROW_ID_OFFSET, dstPageAddr, dstOff + dstIo.rowIdMsbOffset(), 2 * Long.BYTES);
+    }
+
+    /**
+     * Returns the number of values area bytes of an item that are taken from the page anchor.
+     *
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     */
+    @TestOnly
+    int sharedBytes(long pageAddr, int idx) {
+        return sharedSize(pageAddr, recordOffset(pageAddr, idx));
+    }
+
+    /**
+     * Writes a record for the slot, cutting out the values area bytes that are shared with the page anchor. The row ID and the link are
+     * left to the caller.
+     *
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @param bytes Index columns bytes: the whole tuple or its prefix.
+     * @param len Number of valid bytes in {@code bytes}.
+     * @param size Tuple size.
+     * @param headerSize Size of the tuple header and offset table, {@code 0} if unknown.
+     * @return Record offset.
+     */
+    private int writeRecord(long pageAddr, int idx, byte[] bytes, int len, int size, int headerSize) {
+        int sharedSize = sharedSize(pageAddr, bytes, len, size, headerSize);
+        int storedSize = storedSize(size, sharedSize);
+
+        int recordOff = heapTop(pageAddr) - storedOffset(size) - storedSize;
+
+        assert recordOff >= offset(Math.max(getCount(pageAddr), idx + 1)) : "Not enough space [idx=" + idx + ", size=" + size + ']';
+
+        putShort(pageAddr + recordOff, SIZE_OFFSET, (short) size);
+        putUnsignedByte(pageAddr + recordOff, HEADER_SIZE_OFFSET, headerSize);
+        putUnsignedByte(pageAddr + recordOff, SHARED_SIZE_OFFSET, sharedSize);
+
+        int storedOff = recordOff + storedOffset(size);
+
+        if (headerSize > 0) {
+            putBytes(pageAddr, storedOff, bytes, 0, headerSize);
+        }
+
+        if (storedSize > headerSize) {
+            putBytes(pageAddr, storedOff + headerSize, bytes, headerSize + sharedSize, storedSize - headerSize);
+        }
+
+        setHeapTop(pageAddr, recordOff);
+        setRecordOffset(pageAddr, idx, recordOff);
+
+        return recordOff;
+    }
+
+    /**
+     * Copies an item to another page, re-encoding it against the anchor of that page.
+     */
+    private void copyRecord(long srcPageAddr, int srcIdx, long dstPageAddr, int dstIdx) {
+        int srcOff = recordOffset(srcPageAddr, srcIdx);
+
+        int size = indexColumnsSize(srcPageAddr, srcOff);
+        int len = restorableSize(srcPageAddr, srcOff);
+
+        int dstOff = writeRecord(dstPageAddr, dstIdx, restore(srcPageAddr, srcOff, len), len, size, headerSize(srcPageAddr, srcOff));
+
+        // Row ID and the link.
+        copyMemory(srcPageAddr, srcOff + ROW_ID_OFFSET, dstPageAddr, dstOff + ROW_ID_OFFSET, storedOffset(size) - ROW_ID_OFFSET);
+    }
+
+    /**
+     * Copies an item to another page with the same anchor.
+     */
+    private void copyRecordAsIs(long srcPageAddr, int srcIdx, long dstPageAddr, int dstIdx) {
+        int srcOff = recordOffset(srcPageAddr, srcIdx);
+        int len = recordLength(srcPageAddr, srcOff);
+
+        int dstOff = heapTop(dstPageAddr) - len;
+
+        assert dstOff >= offset(Math.max(getCount(dstPageAddr), dstIdx + 1)) : "Not enough space [idx=" + dstIdx + ']';
+
+        copyMemory(srcPageAddr, srcOff, dstPageAddr, dstOff, len);
+
+        setHeapTop(dstPageAddr, dstOff);
+        setRecordOffset(dstPageAddr, dstIdx, dstOff);
+    }
+
+    /**
+     * Removes the record of an item, the records below it are moved up to keep the records contiguous.
+     *
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @param cnt Number of items on the page.
+     */
+    private void freeRecord(long pageAddr, int idx, int cnt) {
+        int recordOff = recordOffset(pageAddr, idx);
+        int len = recordLength(pageAddr, recordOff);
+
+        int heapTop = heapTop(pageAddr);
+
+        copyMemory(pageAddr, heapTop, pageAddr, heapTop + len, recordOff - heapTop);
+
+        for (int i = 0; i < cnt; i++) {
+            int off = recordOffset(pageAddr, i);
+
+            // Zero is an offset of a slot that has no record yet.
+            if (off != 0 && off < recordOff) {
+                setRecordOffset(pageAddr, i, off + len);
+            }
+        }
+
+        setRecordOffset(pageAddr, idx, 0);
+        setHeapTop(pageAddr, heapTop + len);
+    }
+
+    /**
+     * Drops the records of the items starting from {@code keepCnt} and moves the remaining records to the end of the page.
+     *
+     * @param pageAddr Page address.
+     * @param keepCnt Number of items to keep.
+     * @param cnt Number of items on the page.
+     */
+    private void compact(long pageAddr, int keepCnt, int cnt) {
+        int heapTop = heapEnd(pageAddr, cnt);
+
+        // Record offsets with the item indexes, sorted by the record offset.
+        int[] records = new int[keepCnt];
+
+        for (int i = 0; i < keepCnt; i++) {
+            records[i] = recordOffset(pageAddr, i) << 16 | i;
+        }
+
+        Arrays.sort(records);
+
+        // Records are moved starting from the lowest one, so that a record never overwrites one that is not moved yet.
+        for (int i = keepCnt - 1; i >= 0; i--) {
+            int recordOff = records[i] >>> 16;
+            int len = recordLength(pageAddr, recordOff);
+
+            heapTop -= len;
+
+            if (heapTop != recordOff) {
+                copyMemory(pageAddr, recordOff, pageAddr, heapTop, len);
+
+                setRecordOffset(pageAddr, records[i] & 0xFFFF, heapTop);
+            }
+        }
+
+        setHeapTop(pageAddr, heapTop);
+    }
+
+    /**
+     * Returns the split index closest to the {@code mid} such that both pages keep space for one more item.
+     *
+     * @param pageAddr Page address.
+     * @param mid Split index chosen by the tree.
+     * @param cnt Number of items on the page.
+     */
+    private int splitIndex(long pageAddr, int mid, int cnt) {
+        int capacity = heapEnd(pageAddr, cnt) - offset(0) - maxRecordSize - SLOT_SIZE;
+
+        // Space taken by the items before each index.
+        int[] used = new int[cnt + 1];
+
+        for (int i = 0; i < cnt; i++) {
+            used[i + 1] = used[i] + SLOT_SIZE + recordLength(pageAddr, recordOffset(pageAddr, i));
+        }
+
+        int splitIdx = -1;
+
+        for (int i = 1; i < cnt; i++) {
+            if (used[i] <= capacity && used[cnt] - used[i] <= capacity
+                    && (splitIdx == -1 || Math.abs(i - mid) < Math.abs(splitIdx - mid))) {
+                splitIdx = i;
+            }
+        }
+
+        assert splitIdx != -1 : "Failed to split [cnt=" + cnt + ", capacity=" + capacity + ']';
+
+        return splitIdx;
+    }
+
+    /**
+     * Sets the anchor of an empty page: the items that are moved into it are re-encoded against the values of the first of them if this
+     * takes less space, otherwise the anchor of the source page is kept.
+     */
+    private void chooseAnchor(long srcPageAddr, int srcIdx, int cnt, long dstPageAddr) {
+        int firstOff = recordOffset(srcPageAddr, srcIdx);
+        int firstLen = restorableSize(srcPageAddr, firstOff);
+
+        setAnchor(dstPageAddr, restore(srcPageAddr, firstOff, firstLen), headerSize(srcPageAddr, firstOff), firstLen);
+
+        if (anchorSize(dstPageAddr) > 0 && !sameAnchors(srcPageAddr, dstPageAddr)) {
+            int size = 0;
+            int encodedSize = 0;
+
+            for (int i = 0; i < cnt; i++) {
+                int recordOff = recordOffset(srcPageAddr, srcIdx + i);
+
+                size += recordLength(srcPageAddr, recordOff);
+                encodedSize += encodedLength(srcPageAddr, recordOff, dstPageAddr);
+            }
+
+            if (encodedSize < size) {
+                return;
+            }
+        }
+
+        int anchorSize = anchorSize(srcPageAddr);
+
+        putUnsignedByte(dstPageAddr, ANCHOR_SIZE_OFF, anchorSize);
+        copyMemory(srcPageAddr, ANCHOR_OFF, dstPageAddr, ANCHOR_OFF, anchorSize);
+    }
+
+    /**
+     * Returns the number of values area bytes of a tuple that can be taken from the page anchor.
+     *
+     * @param pageAddr Page address.
+     * @param bytes Index columns bytes: the whole tuple or its prefix.
+     * @param len Number of valid bytes in {@code bytes}.
+     * @param size Tuple size.
+     * @param headerSize Size of the tuple header and offset table, {@code 0} if unknown.
+     */
+    private int sharedSize(long pageAddr, byte[] bytes, int len, int size, int headerSize) {
+        if (headerSize == 0) {
+            return 0;
+        }
+
+        int maxSharedSize = Math.min(anchorSize(pageAddr), len - headerSize);
+
+        if (len < size) {
+            // Only a prefix of the tuple is known, the inline size of stored bytes must not go beyond it.
+            assert len >= inlineSize : "len=" + len + ", inlineSize=" + inlineSize;
+
+            maxSharedSize = Math.min(maxSharedSize, len - inlineSize);
+        }
+
+        int sharedSize = 0;
+
+        while (sharedSize < maxSharedSize && bytes[headerSize + sharedSize] == getByte(pageAddr, ANCHOR_OFF + sharedSize)) {
+            sharedSize++;
+        }
+
+        return sharedSize;
+    }
+
+    /**
+     * Returns the size of a record of another page after it is re-encoded against the anchor of the given page.
+     */
+    private int encodedLength(long srcPageAddr, int srcOff, long dstPageAddr) {
+        int size = indexColumnsSize(srcPageAddr, srcOff);
+        int len = restorableSize(srcPageAddr, srcOff);
+
+        byte[] bytes = restore(srcPageAddr, srcOff, len);
+
+        return recordLength(size, sharedSize(dstPageAddr, bytes, len, size, headerSize(srcPageAddr, srcOff)));
+    }
+
+    /**
+     * Restores a prefix of the index columns of an item.
+     *
+     * @param pageAddr Page address.
+     * @param recordOff Record offset.
+     * @param len Number of bytes to restore, no more than {@link #restorableSize}.
+     * @return Restored bytes.
+     */
+    private byte[] restore(long pageAddr, int recordOff, int len) {
+        byte[] bytes = new byte[len];
+
+        int storedOff = recordOff + storedOffset(indexColumnsSize(pageAddr, recordOff));
+        int sharedSize = sharedSize(pageAddr, recordOff);
+
+        if (sharedSize == 0) {
+            getBytes(pageAddr, storedOff, bytes, 0, len);
+
+            return bytes;
+        }
+
+        int headSize = Math.min(headerSize(pageAddr, recordOff), len);
+
+        getBytes(pageAddr, storedOff, bytes, 0, headSize);
+
+        if (headSize < len) {
+            int fromAnchor = Math.min(sharedSize, len - headSize);
+
+            getBytes(pageAddr, ANCHOR_OFF, bytes, headSize, fromAnchor);
+            getBytes(pageAddr, storedOff + headSize, bytes, headSize + fromAnchor, len - headSize - fromAnchor);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns a buffer with a prefix of the index columns of an item, pointing directly to the page if nothing is taken from the anchor.
+     */
+    private ByteBuffer restoreBuffer(long pageAddr, int recordOff, int len) {
+        if (sharedSize(pageAddr, recordOff) == 0) {
+            return wrapPointer(pageAddr + recordOff + storedOffset(indexColumnsSize(pageAddr, recordOff)), len);
+        }
+
+        return ByteBuffer.wrap(restore(pageAddr, recordOff, len));
+    }
+
+    /**
+     * Points the accessor to a prefix of the index columns of an item, directly to the page if nothing is taken from the anchor.
+     */
+    private void reinitAccessor(UnsafeByteBufferAccessor accessor, long pageAddr, int recordOff, int len) {
+        if (sharedSize(pageAddr, recordOff) == 0) {
+            accessor.reinit(pageAddr + recordOff + storedOffset(indexColumnsSize(pageAddr, recordOff)), len);
+        } else {
+            accessor.reinit(restore(pageAddr, recordOff, len), 0, len);
+        }
+    }
+
+    private byte[] readFromFreeList(DataPageReader dataPageReader, int partitionId, long pageAddr, int recordOff)
+            throws IgniteInternalCheckedException {
+        long link = readPartitionless(partitionId, pageAddr + recordOff, RECORD_LINK_OFFSET);
+
+        ReadIndexColumnsValue indexColumnsTraversal = new ReadIndexColumnsValue();
+
+        dataPageReader.traverse(link, indexColumnsTraversal, null);
+
+        return indexColumnsTraversal.result();
+    }
+
+    /**
+     * Returns the number of index columns bytes of an item that can be restored without reading the FreeList.
+     */
+    private int restorableSize(long pageAddr, int recordOff) {
+        int sharedSize = sharedSize(pageAddr, recordOff);
+
+        return sharedSize + storedSize(indexColumnsSize(pageAddr, recordOff), sharedSize);
+    }
+
+    private int recordLength(long pageAddr, int recordOff) {
+        return recordLength(indexColumnsSize(pageAddr, recordOff), sharedSize(pageAddr, recordOff));
+    }
+
+    private int recordLength(int size, int sharedSize) {
+        return storedOffset(size) + storedSize(size, sharedSize);
+    }
+
+    /**
+     * Returns the number of stored index columns bytes of a record.
+     */
+    private int storedSize(int size, int sharedSize) {
+        return hasLink(size) ? Math.min(size - sharedSize, inlineSize) : size - sharedSize;
+    }
+
+    /**
+     * Returns the offset of the stored index columns bytes in a record.
+     */
+    private int storedOffset(int size) {
+        return hasLink(size) ? RECORD_LINK_OFFSET + PARTITIONLESS_LINK_SIZE_BYTES : RECORD_LINK_OFFSET;
+    }
+
+    /**
+     * Returns {@code true} if the tuple of the given size is in the FreeList.
+     */
+    private boolean hasLink(int size) {
+        return !canFullyInline(size, inlineSize);
+    }
+
+    private static int indexColumnsSize(long pageAddr, int recordOff) {
+        return getShort(pageAddr + recordOff, SIZE_OFFSET);
+    }
+
+    private static int headerSize(long pageAddr, int recordOff) {
+        return getUnsignedByte(pageAddr + recordOff, HEADER_SIZE_OFFSET);
+    }
+
+    private static int sharedSize(long pageAddr, int recordOff) {
+        return getUnsignedByte(pageAddr + recordOff, SHARED_SIZE_OFFSET);
+    }
+
+    private int recordOffset(long pageAddr, int idx) {
+        return getShort(pageAddr, offset(idx));
+    }
+
+    private void setRecordOffset(long pageAddr, int idx, int recordOff) {
+        putShort(pageAddr, offset(idx), (short) recordOff);
+    }
+
+    private static int heapTop(long pageAddr) {
+        return getShort(pageAddr, HEAP_TOP_OFF);
+    }
+
+    private static void setHeapTop(long pageAddr, int heapTop) {
+        putShort(pageAddr, HEAP_TOP_OFF, (short) heapTop);
+    }
+
+    /**
+     * Returns the offset right after the last record, which is the page size.
+     */
+    private int heapEnd(long pageAddr, int cnt) {
+        int heapEnd = heapTop(pageAddr);
+
+        for (int i = 0; i < cnt; i++) {
+            heapEnd += recordLength(pageAddr, recordOffset(pageAddr, i));
+        }
+
+        return heapEnd;
+    }
+
+    /**
+     * Returns the number of bytes between the slots and the records.
+     *
+     * @param pageAddr Page address.
+     * @param cnt Number of slots.
+     */
+    private int freeSpace(long pageAddr, int cnt) {
+        return heapTop(pageAddr) - offset(cnt);
+    }
+
+    private static int anchorSize(long pageAddr) {
+        return getUnsignedByte(pageAddr, ANCHOR_SIZE_OFF);
+    }
+
+    /**
+     * Sets the page anchor to a prefix of the values area of the tuple, clears it if the values area can't be located.
+     *
+     * @param pageAddr Page address.
+     * @param bytes Index columns bytes: the whole tuple or its prefix.
+     * @param headerSize Size of the tuple header and offset table, {@code 0} if unknown.
+     * @param len Number of valid bytes in {@code bytes}.
+     */
+    private void setAnchor(long pageAddr, byte[] bytes, int headerSize, int len) {
+        int anchorSize = headerSize == 0 ? 0 : Math.min(anchorCapacity, len - headerSize);
+
+        putUnsignedByte(pageAddr, ANCHOR_SIZE_OFF, anchorSize);
+
+        if (anchorSize > 0) {
+            putBytes(pageAddr, ANCHOR_OFF, bytes, headerSize, anchorSize);
+        }
+    }
+
+    private static boolean sameAnchors(long pageAddr0, long pageAddr1) {
+        int anchorSize = anchorSize(pageAddr0);
+
+        if (anchorSize != anchorSize(pageAddr1)) {
+            return false;
+        }
+
+        for (int i = 0; i < anchorSize; i++) {
+            if (getByte(pageAddr0, ANCHOR_OFF + i) != getByte(pageAddr1, ANCHOR_OFF + i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the size of the tuple header and offset table, if it is small enough to be stored in a record, {@code 0} otherwise.
+     *
+     * <p>The number of elements is not stored in a {@link BinaryTuple}, but it can be found from the tuple size: the last offset table
+     * entry is equal to the values area size, while all the previous entries are not greater than it, and thus are less than the number
+     * of bytes that follow them.
+     */
+    private int tupleHeaderSize(byte[] bytes, int size) {
+        if (size <= HEADER_SIZE) {
+            return 0;
+        }
+
+        int entrySize = flagsToEntrySize(bytes[0]);
+
+        int maxHeaderSize = Math.min(Math.min(inlineSize, size), 0xFF);
+
+        for (int headerSize = HEADER_SIZE + entrySize; headerSize <= maxHeaderSize; headerSize += entrySize) {
+            if (readOffsetTableEntry(bytes, headerSize - entrySize, entrySize) == size - headerSize) {
+                return headerSize;
+            }
+        }
+
+        return 0;
+    }
+
+    private static long readOffsetTableEntry(byte[] bytes, int off, int entrySize) {
+        long entry = 0;
+
+        for (int i = 0; i < entrySize; i++) {
+            entry |= (bytes[off + i] & 0xFFL) << (8 * i);
+        }
+
+        return entry;
+    }
+}
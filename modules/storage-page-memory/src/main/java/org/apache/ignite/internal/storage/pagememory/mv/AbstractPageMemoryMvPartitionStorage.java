@@ -46,6 +46,7 @@ import org.apache.ignite.internal.pagememory.util.GradualTaskExecutor;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.AbortResult;
 import org.apache.ignite.internal.storage.AddWriteCommittedResult;
+import org.apache.ignite.internal.storage.AddWriteEntry;
 import org.apache.ignite.internal.storage.AddWriteResult;
 import org.apache.ignite.internal.storage.CommitResult;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
@@ -434,28 +435,67 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
 
             assert rowIsLocked(rowId) : addWriteInfo(rowId, row, txId, commitZoneId, commitPartitionId);
 
-            try {
-                AddWriteInvokeClosure addWrite = newAddWriteInvokeClosure(rowId, row, txId, commitZoneId, commitPartitionId);
+            return addWriteToTree(rowId, row, txId, commitZoneId, commitPartitionId);
+        });
+    }
 
-                renewableState.versionChainTree().invoke(new VersionChainKey(rowId), null, addWrite);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The whole batch is applied under a single checkpoint read lock and a single busy lock section. Since entries are sorted, version
+     * chain tree is traversed in the key order, which keeps the recently accessed inner pages hot.
+     */
+    @Override
+    public List<AddWriteResult> addWriteAll(List<AddWriteEntry> entries) throws StorageException {
+        return runConsistently(locker -> busy(() -> {
+            throwExceptionIfStorageNotInRunnableOrRebalanceState(state.get(), this::createStorageInfo);
 
-                addWrite.afterCompletion();
+            var results = new ArrayList<AddWriteResult>(entries.size());
 
-                AddWriteResult addWriteResult = addWrite.result();
+            for (AddWriteEntry entry : entries) {
+                RowId rowId = entry.rowId();
 
-                assert addWriteResult != null : addWriteInfo(rowId, row, txId, commitZoneId, commitPartitionId);
+                assert rowId.partitionId() == partitionId : addWriteInfo(
+                        rowId, entry.row(), entry.txId(), entry.commitZoneId(), entry.commitPartitionId()
+                );
 
-                return addWriteResult;
-            } catch (IgniteInternalCheckedException e) {
-                throwStorageExceptionIfItCause(e);
+                locker.lock(rowId);
 
-                throw new StorageException(
-                        "Error while executing addWrite: [{}]",
-                        e,
-                        addWriteInfo(rowId, row, txId, commitZoneId, commitPartitionId)
-                );
+                results.add(addWriteToTree(rowId, entry.row(), entry.txId(), entry.commitZoneId(), entry.commitPartitionId()));
             }
-        });
+
+            return results;
+        }));
+    }
+
+    private AddWriteResult addWriteToTree(
+            RowId rowId,
+            @Nullable BinaryRow row,
+            UUID txId,
+            int commitZoneId,
+            int commitPartitionId
+    ) {
+        try {
+            AddWriteInvokeClosure addWrite = newAddWriteInvokeClosure(rowId, row, txId, commitZoneId, commitPartitionId);
+
+            renewableState.versionChainTree().invoke(new VersionChainKey(rowId), null, addWrite);
+
+            addWrite.afterCompletion();
+
+            AddWriteResult addWriteResult = addWrite.result();
+
+            assert addWriteResult != null : addWriteInfo(rowId, row, txId, commitZoneId, commitPartitionId);
+
+            return addWriteResult;
+        } catch (IgniteInternalCheckedException e) {
+            throwStorageExceptionIfItCause(e);
+
+            throw new StorageException(
+                    "Error while executing addWrite: [{}]",
+                    e,
+                    addWriteInfo(rowId, row, txId, commitZoneId, commitPartitionId)
+            );
+        }
     }
 
     abstract AddWriteInvokeClosure newAddWriteInvokeClosure(
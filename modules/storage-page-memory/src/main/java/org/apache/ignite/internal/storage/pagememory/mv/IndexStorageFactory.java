@@ -156,7 +156,10 @@ class IndexStorageFactory {
      * Creates a new Page Memory-based Sorted Index storage.
      */
     PageMemorySortedIndexStorage createSortedIndexStorage(StorageSortedIndexDescriptor indexDescriptor) {
-        IndexTreeAndMeta<SortedIndexTree> treeAndMeta = createSortedIndexTreeAndMeta(indexDescriptor);
+        IndexTreeAndMeta<SortedIndexTree> treeAndMeta = createSortedIndexTreeAndMeta(
+                indexDescriptor,
+                tableStorage.engine().useSortedIndexPrefixCompression(indexDescriptor)
+        );
 
         return new PageMemorySortedIndexStorage(
                 treeAndMeta.indexMeta,
@@ -203,7 +206,10 @@ class IndexStorageFactory {
         tableStorage.engine().disposeSortedIndexComparator(indexDescriptor);
     }
 
-    private IndexTreeAndMeta<SortedIndexTree> createSortedIndexTreeAndMeta(StorageSortedIndexDescriptor indexDescriptor) {
+    private IndexTreeAndMeta<SortedIndexTree> createSortedIndexTreeAndMeta(
+            StorageSortedIndexDescriptor indexDescriptor,
+            boolean prefixCompression
+    ) {
         return createIndexTree(
                 indexDescriptor,
                 metaPageId -> SortedIndexTree.createNew(
@@ -215,7 +221,8 @@ class IndexStorageFactory {
                         metaPageId,
                         freeList,
                         indexDescriptor,
-                        tableStorage.engine().createSortedIndexComparator(indexDescriptor)
+                        tableStorage.engine().createSortedIndexComparator(indexDescriptor),
+                        prefixCompression
                 )
         );
     }
@@ -231,7 +238,8 @@ class IndexStorageFactory {
                     indexMeta.metaPageId(),
                     freeList,
                     indexDescriptor,
-                    tableStorage.engine().createSortedIndexComparator(indexDescriptor)
+                    tableStorage.engine().createSortedIndexComparator(indexDescriptor),
+                    indexMeta.prefixCompression()
             );
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException(e);
@@ -247,7 +255,8 @@ class IndexStorageFactory {
                     tableStorage.dataRegion().pageMemory(),
                     tableStorage.engine().generateGlobalRemoveId(),
                     indexMeta.metaPageId(),
-                    freeList
+                    freeList,
+                    indexMeta.prefixCompression()
             );
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException(e);
@@ -264,10 +273,13 @@ class IndexStorageFactory {
     }
 
     /**
-     * Creates a new B-Tree for the given {@code indexStorage}.
+     * Creates a new B-Tree for the given {@code indexStorage}, the leaf page format of the index is kept.
      */
     void updateDataStructuresIn(PageMemorySortedIndexStorage indexStorage) {
-        SortedIndexTree indexTree = createSortedIndexTreeAndMeta(indexStorage.indexDescriptor()).indexTree;
+        SortedIndexTree indexTree = createSortedIndexTreeAndMeta(
+                indexStorage.indexDescriptor(),
+                indexStorage.prefixCompression()
+        ).indexTree;
 
         indexStorage.updateDataStructures(indexMetaTree, freeList, indexTree);
     }
@@ -284,7 +296,10 @@ class IndexStorageFactory {
 
             UUID nextRowIdUuidToBuild = descriptor.mustBeBuilt() ? initialRowIdToBuild(partitionId).uuid() : null;
 
-            var indexMeta = new IndexMeta(descriptor.id(), indexType, metaPageId, nextRowIdUuidToBuild);
+            // The format is recorded as it was chosen by the tree, new trees may fall back to the regular leaf pages.
+            boolean prefixCompression = tree instanceof SortedIndexTree && ((SortedIndexTree) tree).prefixCompression();
+
+            var indexMeta = new IndexMeta(descriptor.id(), indexType, metaPageId, nextRowIdUuidToBuild, prefixCompression);
 
             boolean replaced = indexMetaTree.putx(indexMeta);
 
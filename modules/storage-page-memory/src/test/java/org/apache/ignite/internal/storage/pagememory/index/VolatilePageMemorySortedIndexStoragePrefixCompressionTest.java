@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index;
+
+import static org.apache.ignite.internal.storage.pagememory.AbstractPageMemoryStorageEngine.PAGE_MEMORY_SORTED_INDEX_PREFIX_COMPRESSION_PROPERTY;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Same as {@link VolatilePageMemorySortedIndexStorageTest} but with prefix compressed leaf pages.
+ */
+public class VolatilePageMemorySortedIndexStoragePrefixCompressionTest extends VolatilePageMemorySortedIndexStorageTest {
+    @BeforeEach
+    @Override
+    void setUp(@InjectConfiguration("mock.profiles.default = {engine = aimem}") StorageConfiguration storageConfig) {
+        CompletableFuture<Void> changeFuture = systemConfig.properties().change(props -> props
+                .create(PAGE_MEMORY_SORTED_INDEX_PREFIX_COMPRESSION_PROPERTY, val -> val.changePropertyValue("true"))
+        );
+
+        assertThat(changeFuture, willCompleteSuccessfully());
+
+        super.setUp(storageConfig);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted;
+
+import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_STORAGE_PROFILE;
+import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
+import static org.apache.ignite.internal.storage.BaseMvStoragesTest.getOrCreateMvPartition;
+import static org.apache.ignite.internal.storage.pagememory.AbstractPageMemoryStorageEngine.PAGE_MEMORY_SORTED_INDEX_PREFIX_COMPRESSION_PROPERTY;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.apache.ignite.internal.components.LogSyncer;
+import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.failure.FailureManager;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.configurations.StorageConfiguration;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.index.AbstractSortedIndexStorageTest;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.storage.index.StorageIndexDescriptor;
+import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
+import org.apache.ignite.internal.storage.index.impl.BinaryTupleRowSerializer;
+import org.apache.ignite.internal.storage.pagememory.PersistentPageMemoryStorageEngine;
+import org.apache.ignite.internal.testframework.ExecutorServiceExtension;
+import org.apache.ignite.internal.testframework.InjectExecutorService;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.sql.ColumnType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Sorted index test implementation for persistent page memory storage with prefix compressed leaf pages.
+ */
+@ExtendWith({ConfigurationExtension.class, WorkDirectoryExtension.class, ExecutorServiceExtension.class})
+class PersistentPageMemorySortedIndexStoragePrefixCompressionTest extends AbstractSortedIndexStorageTest {
+    private static final StorageTableDescriptor TABLE_DESCRIPTOR = new StorageTableDescriptor(
+            1,
+            DEFAULT_PARTITION_COUNT,
+            DEFAULT_STORAGE_PROFILE
+    );
+
+    @InjectConfiguration("mock.profiles.default = {engine = aipersist}")
+    private StorageConfiguration storageConfig;
+
+    @InjectConfiguration
+    private SystemLocalConfiguration systemConfig;
+
+    @InjectExecutorService
+    private ExecutorService executorService;
+
+    @WorkDirectory
+    private Path workDir;
+
+    private PersistentPageMemoryStorageEngine engine;
+
+    private final StorageIndexDescriptorSupplier indexDescriptorSupplier = indexId -> {
+        CatalogIndexDescriptor indexDescriptor = catalog.index(indexId);
+
+        if (indexDescriptor == null) {
+            return null;
+        }
+
+        CatalogTableDescriptor tableDescriptor = catalog.table(indexDescriptor.tableId());
+
+        return StorageIndexDescriptor.create(tableDescriptor, indexDescriptor);
+    };
+
+    @BeforeEach
+    void setUpStorage() {
+        setPrefixCompression(true);
+
+        startEngine();
+
+        initialize(tableStorage);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeAll(
+                tableStorage == null ? null : tableStorage::close,
+                engine == null ? null : engine::stop
+        );
+    }
+
+    @Test
+    void testPrefixCompressedIndexIsRestoredAfterRestart() throws Exception {
+        SortedIndexStorage index = createIndexStorage(INDEX_NAME, ColumnType.STRING, ColumnType.INT32);
+
+        int indexId = index.indexDescriptor().id();
+
+        assertTrue(((PageMemorySortedIndexStorage) index).indexTree().prefixCompression());
+
+        var serializer = new BinaryTupleRowSerializer(index.indexDescriptor());
+
+        // Enough rows with long common prefixes to split the leaf pages many times.
+        List<RowId> rowIds = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            String tenant = String.format("org.apache.ignite.tenant-%04d", i / 200);
+
+            IndexRow row = serializer.serializeRow(new Object[]{tenant, i}, new RowId(TEST_PARTITION));
+
+            put(index, row);
+
+            rowIds.add(row.rowId());
+        }
+
+        assertThat(
+                engine.checkpointManager().forceCheckpoint("before_stop_engine").futureFor(FINISHED),
+                willCompleteSuccessfully()
+        );
+
+        tearDown();
+
+        // The leaf page format of an existing index is recorded in the index meta, not taken from the current setting.
+        setPrefixCompression(false);
+
+        startEngine();
+
+        partitionStorage = getOrCreateMvPartition(tableStorage, TEST_PARTITION);
+
+        index = (SortedIndexStorage) tableStorage.getIndex(TEST_PARTITION, indexId);
+
+        assertTrue(((PageMemorySortedIndexStorage) index).indexTree().prefixCompression());
+
+        assertThat(scanRowIds(index), is(rowIds));
+
+        for (int i = 0; i < rowIds.size(); i += 100) {
+            String tenant = String.format("org.apache.ignite.tenant-%04d", i / 200);
+
+            IndexRow row = serializer.serializeRow(new Object[]{tenant, i}, rowIds.get(i));
+
+            assertThat(get(index, row.indexColumns()), contains(rowIds.get(i)));
+        }
+
+        // The tree that is recreated on rebalance keeps the format of the index.
+        assertThat(tableStorage.startRebalancePartition(TEST_PARTITION), willCompleteSuccessfully());
+
+        assertTrue(((PageMemorySortedIndexStorage) index).indexTree().prefixCompression());
+
+        assertThat(tableStorage.abortRebalancePartition(TEST_PARTITION), willCompleteSuccessfully());
+
+        assertTrue(((PageMemorySortedIndexStorage) index).indexTree().prefixCompression());
+    }
+
+    private void setPrefixCompression(boolean enabled) {
+        assertThat(
+                systemConfig.properties().change(props -> props.createOrUpdate(
+                        PAGE_MEMORY_SORTED_INDEX_PREFIX_COMPRESSION_PROPERTY,
+                        val -> val.changePropertyValue(String.valueOf(enabled))
+                )),
+                willCompleteSuccessfully()
+        );
+    }
+
+    private void startEngine() {
+        PageIoRegistry ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        engine = new PersistentPageMemoryStorageEngine(
+                "test",
+                mock(MetricManager.class),
+                storageConfig,
+                systemConfig,
+                ioRegistry,
+                workDir,
+                null,
+                mock(FailureManager.class),
+                mock(LogSyncer.class),
+                executorService,
+                clock
+        );
+
+        engine.start();
+
+        tableStorage = engine.createMvTable(TABLE_DESCRIPTOR, indexDescriptorSupplier);
+    }
+
+    private static List<RowId> scanRowIds(SortedIndexStorage index) {
+        List<RowId> rowIds = new ArrayList<>();
+
+        try (Cursor<IndexRow> cursor = index.readOnlyScan(null, null, 0)) {
+            cursor.forEach(row -> rowIds.add(row.rowId()));
+        }
+
+        return rowIds;
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted.io;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.link;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.storage.pagememory.index.InlineUtils.canFullyInline;
+import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumns;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexRow;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link SortedIndexTreePrefixLeafIo} testing.
+ */
+public class SortedIndexTreePrefixLeafIoTest extends BaseIgniteAbstractTest {
+    private static final int PAGE_SIZE = 4096;
+
+    private static final int INLINE_SIZE = 32;
+
+    private static final int PARTITION_ID = 1;
+
+    /** Tenant names of the composite {@code (tenant VARCHAR, id INT)} keys, that have nothing in common. */
+    private static final String ALPHA = "alpha-tenant-00000000000000001";
+
+    private static final String BRAVO = "bravo-tenant-00000000000000002";
+
+    private final SortedIndexTreePrefixLeafIo io = SortedIndexTreePrefixLeafIo.VERSIONS.get(INLINE_SIZE).latest();
+
+    /** Allocated pages, referenced to not be freed while in use. */
+    private final List<ByteBuffer> pages = new ArrayList<>();
+
+    @Test
+    void holdsMoreItemsThanUncompressedPage() throws Exception {
+        long pageAddr = newPage(1);
+
+        List<SortedIndexRow> rows = fill(pageAddr, i -> row(ALPHA, i));
+
+        int uncompressedItemsPerPage = SortedIndexTreeLeafIo.VERSIONS.get(INLINE_SIZE).latest().getMaxCount(PAGE_SIZE);
+
+        // The tenant name is taken from the anchor, so an item takes less than a half of an uncompressed one.
+        assertThat(rows.size(), greaterThan(2 * uncompressedItemsPerPage));
+
+        assertRows(pageAddr, rows);
+    }
+
+    @Test
+    void reclaimsSpaceOfRemovedItems() throws Exception {
+        long pageAddr = newPage(1);
+
+        List<SortedIndexRow> rows = fill(pageAddr, i -> row(i % 2 == 0 ? ALPHA : BRAVO, i));
+
+        int itemsPerPage = rows.size();
+
+        for (int i = itemsPerPage - 1; i >= 0; i -= 3) {
+            io.remove(pageAddr, i, io.getCount(pageAddr));
+
+            rows.remove(i);
+        }
+
+        assertRows(pageAddr, rows);
+
+        rows.addAll(fill(pageAddr, i -> row(ALPHA, itemsPerPage + i)));
+
+        assertThat(rows.size(), greaterThanOrEqualTo(itemsPerPage));
+
+        assertRows(pageAddr, rows);
+    }
+
+    @Test
+    void replacesItems() throws Exception {
+        long pageAddr = newPage(1);
+
+        List<SortedIndexRow> rows = fill(pageAddr, i -> row(ALPHA, i));
+
+        for (int i = 0; i < rows.size(); i += 5) {
+            SortedIndexRow row = row(ALPHA, i);
+
+            io.store(pageAddr, i, row, null, false);
+
+            rows.set(i, row);
+        }
+
+        assertRows(pageAddr, rows);
+    }
+
+    @Test
+    void splitLeavesSpaceForInsertion() throws Exception {
+        long pageAddr = newPage(1);
+        long fwdPageAddr = newPage(2);
+
+        // Small compressed items followed by the largest ones, that have nothing in common with the anchor.
+        List<SortedIndexRow> rows = fill(pageAddr, i -> i < 50 ? row(ALPHA, i) : row(String.format("%04d-tenant-%040d", i, i), i));
+
+        int cnt = rows.size();
+
+        // Moving all the items but the first one would leave no space in the forward page, so the split index is moved.
+        io.splitForwardPage(pageAddr, 2, fwdPageAddr, 1, cnt, PAGE_SIZE, PARTITION_ID);
+        io.splitExistingPage(pageAddr, 1, 2);
+
+        int splitIdx = io.getCount(pageAddr);
+
+        assertThat(splitIdx, greaterThan(1));
+
+        assertThat(io.getMaxCount(pageAddr, PAGE_SIZE), greaterThan(splitIdx));
+        assertThat(io.getMaxCount(fwdPageAddr, PAGE_SIZE), greaterThan(io.getCount(fwdPageAddr)));
+
+        assertThat(splitIdx + io.getCount(fwdPageAddr), is(cnt));
+
+        assertRows(pageAddr, rows.subList(0, splitIdx));
+        assertRows(fwdPageAddr, rows.subList(splitIdx, cnt));
+    }
+
+    @Test
+    void elidesPrefixSharedWithAnchor() throws Exception {
+        long pageAddr = newPage(1);
+
+        List<SortedIndexRow> rows = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            rows.add(row(ALPHA, i));
+        }
+
+        rows.add(row(BRAVO, 0));
+
+        insertAll(pageAddr, rows);
+
+        for (int i = 0; i < 20; i++) {
+            // The whole tenant name is taken from the anchor.
+            assertThat(io.sharedBytes(pageAddr, i), greaterThanOrEqualTo(ALPHA.length()));
+        }
+
+        assertThat(io.sharedBytes(pageAddr, 20), is(0));
+
+        assertRows(pageAddr, rows);
+    }
+
+    @Test
+    void restoresKeysLongerThanInlineSize() throws Exception {
+        String tenant = "charlie-tenant-0000000000000000000000000000000003";
+
+        SortedIndexRow row0 = row(tenant, 0);
+        SortedIndexRow row1 = row(tenant, 1);
+
+        // Without compression, these keys would only be partially inlined, and reading them would require the free list.
+        assertFalse(canFullyInline(row0.indexColumns().valueSize(), INLINE_SIZE));
+
+        long pageAddr = newPage(1);
+
+        insertAll(pageAddr, List.of(row0, row1));
+
+        // The anchor takes no more than the inline size, and all of it is shared.
+        assertThat(io.sharedBytes(pageAddr, 1), is(INLINE_SIZE));
+
+        // The rows are restored from the page only: there's no data page reader.
+        assertRows(pageAddr, List.of(row0, row1));
+    }
+
+    @Test
+    void reanchorsForwardPageOnSplit() throws Exception {
+        long pageAddr = newPage(1);
+        long fwdPageAddr = newPage(2);
+
+        List<SortedIndexRow> rows = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            rows.add(row(ALPHA, i));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            rows.add(row(BRAVO, i));
+        }
+
+        insertAll(pageAddr, rows);
+
+        for (int i = 10; i < 20; i++) {
+            assertThat(io.sharedBytes(pageAddr, i), is(0));
+        }
+
+        io.splitForwardPage(pageAddr, 2, fwdPageAddr, 10, 20, PAGE_SIZE, PARTITION_ID);
+        io.splitExistingPage(pageAddr, 10, 2);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(io.sharedBytes(pageAddr, i), greaterThanOrEqualTo(ALPHA.length()));
+            assertThat(io.sharedBytes(fwdPageAddr, i), greaterThanOrEqualTo(BRAVO.length()));
+        }
+
+        assertRows(pageAddr, rows.subList(0, 10));
+        assertRows(fwdPageAddr, rows.subList(10, 20));
+    }
+
+    @Test
+    void reencodesItemsOnMerge() throws Exception {
+        long leftPageAddr = newPage(1);
+        long rightPageAddr = newPage(2);
+
+        List<SortedIndexRow> rows = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            rows.add(row(ALPHA, i));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            rows.add(row(BRAVO, i));
+        }
+
+        insertAll(leftPageAddr, rows.subList(0, 10));
+        insertAll(rightPageAddr, rows.subList(10, 20));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(io.sharedBytes(rightPageAddr, i), greaterThanOrEqualTo(BRAVO.length()));
+        }
+
+        SortedIndexTreeInnerIo parentIo = SortedIndexTreeInnerIo.VERSIONS.get(INLINE_SIZE).latest();
+
+        long parentPageAddr = allocatePage();
+
+        parentIo.initNewPage(parentPageAddr, 3, PAGE_SIZE);
+
+        assertTrue(io.merge(parentIo, parentPageAddr, 0, leftPageAddr, rightPageAddr, false, PAGE_SIZE));
+
+        for (int i = 10; i < 20; i++) {
+            // The items taken from the right page can't use the anchor of the left one.
+            assertThat(io.sharedBytes(leftPageAddr, i), is(0));
+        }
+
+        assertRows(leftPageAddr, rows);
+    }
+
+    @Test
+    void doesNotMergeIfItemsDoNotFit() throws Exception {
+        long leftPageAddr = newPage(1);
+        long rightPageAddr = newPage(2);
+
+        List<SortedIndexRow> leftRows = fill(leftPageAddr, i -> row(ALPHA, i));
+        List<SortedIndexRow> rightRows = List.of(row(BRAVO, 0), row(BRAVO, 1));
+
+        insertAll(rightPageAddr, rightRows);
+
+        // The number of items is far below the upper bound, but the right items are not compressed on the left page.
+        assertThat(leftRows.size() + rightRows.size(), lessThan(io.getMaxCount(PAGE_SIZE)));
+
+        SortedIndexTreeInnerIo parentIo = SortedIndexTreeInnerIo.VERSIONS.get(INLINE_SIZE).latest();
+
+        long parentPageAddr = allocatePage();
+
+        parentIo.initNewPage(parentPageAddr, 3, PAGE_SIZE);
+
+        assertFalse(io.merge(parentIo, parentPageAddr, 0, leftPageAddr, rightPageAddr, false, PAGE_SIZE));
+
+        assertRows(leftPageAddr, leftRows);
+        assertRows(rightPageAddr, rightRows);
+    }
+
+    @Test
+    void storesSeparatorUncompressed() throws Exception {
+        long pageAddr = newPage(1);
+
+        List<SortedIndexRow> rows = List.of(row(ALPHA, 0), row(ALPHA, 1), row(BRAVO, 0));
+
+        insertAll(pageAddr, rows);
+
+        assertThat(io.sharedBytes(pageAddr, 1), greaterThanOrEqualTo(ALPHA.length()));
+
+        SortedIndexTreeInnerIo innerIo = SortedIndexTreeInnerIo.VERSIONS.get(INLINE_SIZE).latest();
+
+        long innerPageAddr = allocatePage();
+
+        innerIo.initNewPage(innerPageAddr, 3, PAGE_SIZE);
+        innerIo.setCount(innerPageAddr, rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            innerIo.store(innerPageAddr, i, io, pageAddr, i);
+
+            assertRow(innerIo.getRow(null, PARTITION_ID, innerPageAddr, i), rows.get(i));
+        }
+    }
+
+    private long newPage(long pageId) {
+        long pageAddr = allocatePage();
+
+        io.initNewPage(pageAddr, pageId, PAGE_SIZE);
+
+        return pageAddr;
+    }
+
+    private long allocatePage() {
+        ByteBuffer page = ByteBuffer.allocateDirect(PAGE_SIZE);
+
+        pages.add(page);
+
+        return bufferAddress(page);
+    }
+
+    /**
+     * Appends rows to the page until it is full.
+     *
+     * @param pageAddr Page address.
+     * @param rowFactory Factory of the rows by their number.
+     * @return Appended rows.
+     */
+    private List<SortedIndexRow> fill(long pageAddr, IntFunction<SortedIndexRow> rowFactory) throws IgniteInternalCheckedException {
+        List<SortedIndexRow> rows = new ArrayList<>();
+
+        while (io.getCount(pageAddr) < io.getMaxCount(pageAddr, PAGE_SIZE)) {
+            SortedIndexRow row = rowFactory.apply(rows.size());
+
+            io.insert(pageAddr, io.getCount(pageAddr), row, null, 0, false);
+
+            rows.add(row);
+        }
+
+        return rows;
+    }
+
+    private void insertAll(long pageAddr, List<SortedIndexRow> rows) throws IgniteInternalCheckedException {
+        for (SortedIndexRow row : rows) {
+            io.insert(pageAddr, io.getCount(pageAddr), row, null, 0, false);
+        }
+    }
+
+    private void assertRows(long pageAddr, List<SortedIndexRow> expected) throws IgniteInternalCheckedException {
+        assertThat(io.getCount(pageAddr), is(expected.size()));
+
+        for (int i = 0; i < expected.size(); i++) {
+            // No data page reader: all the rows must be restored from the page.
+            assertRow(io.getRow(null, PARTITION_ID, pageAddr, i), expected.get(i));
+        }
+    }
+
+    private static void assertRow(SortedIndexRow actual, SortedIndexRow expected) {
+        assertThat(actual.rowId(), is(expected.rowId()));
+        assertThat(actual.indexColumns().valueBuffer().rewind(), is(expected.indexColumns().valueBuffer().rewind()));
+        assertThat(actual.indexColumns().link(), is(expected.indexColumns().link()));
+    }
+
+    private static SortedIndexRow row(String tenant, int id) {
+        ByteBuffer indexColumns = new BinaryTupleBuilder(2).appendString(tenant).appendInt(id).build();
+
+        // Tuples that are not fully inline have a copy in the free list, its link is kept in the item.
+        long link = canFullyInline(indexColumns.limit(), INLINE_SIZE) ? NULL_LINK : link(pageId(PARTITION_ID, FLAG_DATA, 1), id);
+
+        return new SortedIndexRow(new IndexColumns(PARTITION_ID, link, indexColumns), new RowId(PARTITION_ID, tenant.hashCode(), id));
+    }
+}
@@ -69,6 +69,7 @@ import org.apache.ignite.internal.rocksdb.RocksUtils;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.AbortResult;
 import org.apache.ignite.internal.storage.AddWriteCommittedResult;
+import org.apache.ignite.internal.storage.AddWriteEntry;
 import org.apache.ignite.internal.storage.AddWriteResult;
 import org.apache.ignite.internal.storage.CommitResult;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
@@ -460,71 +461,111 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
             assert rowIsLocked(rowId) : addWriteInfo(rowId, row, txId, commitZoneId, commitPartitionId);
 
-            try {
-                // Check concurrent transaction data.
-                byte[] uncommittedDataIdKey = createUncommittedDataIdKey(rowId);
+            return addWriteToBatch(writeBatch, rowId, row, txId, commitZoneId, commitPartitionId);
+        });
+    }
 
-                byte[] previousTxState = writeBatch.getFromBatchAndDB(db, helper.partCf, readOpts, uncommittedDataIdKey);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>All write intents of the batch are accumulated in the write batch of a single {@link #runConsistently} closure and are written to
+     * RocksDB at once.
+     */
+    @Override
+    public List<AddWriteResult> addWriteAll(List<AddWriteEntry> entries) throws StorageException {
+        return runConsistently(locker -> busy(() -> {
+            @SuppressWarnings("resource") WriteBatchWithIndex writeBatch = requireWriteBatch();
 
-                // Previous value must belong to the same transaction.
-                if (previousTxState != null) {
-                    ByteBuffer previousTxStateBuffer = ByteBuffer.wrap(previousTxState);
+            var results = new ArrayList<AddWriteResult>(entries.size());
 
-                    UUID previousTxId = txId(previousTxStateBuffer);
+            for (AddWriteEntry entry : entries) {
+                RowId rowId = entry.rowId();
 
-                    if (!txId.equals(previousTxId)) {
-                        return AddWriteResult.txMismatch(previousTxId, latestCommitTimestamp(writeBatch, rowId));
-                    }
+                assert rowId.partitionId() == partitionId : addWriteInfo(
+                        rowId, entry.row(), entry.txId(), entry.commitZoneId(), entry.commitPartitionId()
+                );
 
-                    ByteBuffer dataId = readDataIdFromTxState(previousTxStateBuffer);
+                locker.lock(rowId);
 
-                    byte[] payloadKey = helper.createPayloadKey(dataId);
+                results.add(addWriteToBatch(writeBatch, rowId, entry.row(), entry.txId(), entry.commitZoneId(), entry.commitPartitionId()));
+            }
 
-                    BinaryRow previousRow = null;
+            return results;
+        }));
+    }
 
-                    boolean isOldValueTombstone = isTombstone(dataId);
+    private AddWriteResult addWriteToBatch(
+            WriteBatchWithIndex writeBatch,
+            RowId rowId,
+            @Nullable BinaryRow row,
+            UUID txId,
+            int commitZoneId,
+            int commitPartitionId
+    ) {
+        try {
+            // Check concurrent transaction data.
+            byte[] uncommittedDataIdKey = createUncommittedDataIdKey(rowId);
 
-                    if (!isOldValueTombstone) {
-                        byte[] previousRowBytes = writeBatch.getFromBatchAndDB(db, helper.dataCf, readOpts, payloadKey);
+            byte[] previousTxState = writeBatch.getFromBatchAndDB(db, helper.partCf, readOpts, uncommittedDataIdKey);
 
-                        previousRow = deserializeRow(previousRowBytes);
-                    }
+            // Previous value must belong to the same transaction.
+            if (previousTxState != null) {
+                ByteBuffer previousTxStateBuffer = ByteBuffer.wrap(previousTxState);
 
-                    // We need to flip the tombstone bit in case we are overwriting a previous Write Intent with a different
-                    // tombstone bit.
-                    if (isOldValueTombstone ^ (row == null)) {
-                        setFirstBit(previousTxState, DATA_ID_SIZE - 1, row == null);
+                UUID previousTxId = txId(previousTxStateBuffer);
 
-                        writeBatch.put(helper.partCf, uncommittedDataIdKey, previousTxState);
-                    }
+                if (!txId.equals(previousTxId)) {
+                    return AddWriteResult.txMismatch(previousTxId, latestCommitTimestamp(writeBatch, rowId));
+                }
 
-                    // No need to update the Data ID key because it should be the same as already in the storage.
-                    if (row != null) {
-                        writeBatch.put(helper.dataCf, payloadKey, serializeBinaryRow(row));
-                    }
+                ByteBuffer dataId = readDataIdFromTxState(previousTxStateBuffer);
 
-                    return AddWriteResult.success(previousRow);
-                } else {
-                    ByteBuffer txState = createTxState(rowId, txId, commitZoneId, commitPartitionId, row == null);
+                byte[] payloadKey = helper.createPayloadKey(dataId);
 
-                    ByteBuffer dataId = readDataIdFromTxState(txState);
+                BinaryRow previousRow = null;
 
-                    writeBatch.put(helper.partCf, uncommittedDataIdKey, txState.array());
+                boolean isOldValueTombstone = isTombstone(dataId);
 
-                    if (row != null) {
-                        writeBatch.put(helper.dataCf, helper.createPayloadKey(dataId), serializeBinaryRow(row));
-                    }
+                if (!isOldValueTombstone) {
+                    byte[] previousRowBytes = writeBatch.getFromBatchAndDB(db, helper.dataCf, readOpts, payloadKey);
 
-                    return AddWriteResult.success(null);
+                    previousRow = deserializeRow(previousRowBytes);
                 }
-            } catch (RocksDBException e) {
-                throw new IgniteRocksDbException(
-                        "Failed to update a row in storage: [{}]",
-                        e,
-                        addWriteInfo(rowId, row, txId, commitZoneId, commitPartitionId)
-                );
+
+                // We need to flip the tombstone bit in case we are overwriting a previous Write Intent with a different
+                // tombstone bit.
+                if (isOldValueTombstone ^ (row == null)) {
+                    setFirstBit(previousTxState, DATA_ID_SIZE - 1, row == null);
+
+                    writeBatch.put(helper.partCf, uncommittedDataIdKey, previousTxState);
+                }
+
+                // No need to update the Data ID key because it should be the same as already in the storage.
+                if (row != null) {
+                    writeBatch.put(helper.dataCf, payloadKey, serializeBinaryRow(row));
+                }
+
+                return AddWriteResult.success(previousRow);
+            } else {
+                ByteBuffer txState = createTxState(rowId, txId, commitZoneId, commitPartitionId, row == null);
+
+                ByteBuffer dataId = readDataIdFromTxState(txState);
+
+                writeBatch.put(helper.partCf, uncommittedDataIdKey, txState.array());
+
+                if (row != null) {
+                    writeBatch.put(helper.dataCf, helper.createPayloadKey(dataId), serializeBinaryRow(row));
+                }
+
+                return AddWriteResult.success(null);
             }
-        });
+        } catch (RocksDBException e) {
+            throw new IgniteRocksDbException(
+                    "Failed to update a row in storage: [{}]",
+                    e,
+                    addWriteInfo(rowId, row, txId, commitZoneId, commitPartitionId)
+            );
+        }
     }
 
     private static ByteBuffer createDataId(RowId rowId, HybridTimestamp txTimestamp, boolean isTombstone) {
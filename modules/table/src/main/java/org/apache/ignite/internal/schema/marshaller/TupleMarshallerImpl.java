@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.schema.marshaller.MarshallerUtil.getVal
 import static org.apache.ignite.internal.util.IgniteUtils.newHashMap;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,7 @@ import java.util.Set;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.binarytuple.BinaryTupleCommon;
 import org.apache.ignite.internal.binarytuple.BinaryTupleContainer;
+import org.apache.ignite.internal.binarytuple.BinaryTupleFormatException;
 import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
 import org.apache.ignite.internal.schema.BinaryRowImpl;
 import org.apache.ignite.internal.schema.Column;
@@ -41,6 +43,7 @@ import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.row.RowAssembler;
 import org.apache.ignite.internal.type.DecimalNativeType;
 import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.VarlenNativeType;
 import org.apache.ignite.lang.MarshallerException;
 import org.apache.ignite.sql.ColumnType;
 import org.apache.ignite.table.QualifiedName;
@@ -115,10 +118,12 @@ public class TupleMarshallerImpl implements TupleMarshaller {
                     }
 
                     if (!binaryTupleRebuildRequired(schema)) {
-                        validateTuple(tuple, schema);
+                        ByteBuffer tupleBuffer = tupleReader.byteBuffer();
+
+                        validateBinaryTuple(tupleReader, tupleBuffer.remaining(), tuple, schema);
 
                         // BinaryTuple from client has matching schema version, and all values are valid. Use buffer as is.
-                        var binaryRow = new BinaryRowImpl(schema.version(), tupleReader.byteBuffer());
+                        var binaryRow = new BinaryRowImpl(schema.version(), tupleBuffer);
                         return Row.wrapBinaryRow(schema, binaryRow);
                     }
                 }
@@ -346,17 +351,70 @@ public class TupleMarshallerImpl implements TupleMarshaller {
     }
 
     /**
-     * Validates tuple against schema.
+     * Validates binary tuple against schema.
+     *
+     * <p>Values are decoded only when their validity can't be established from the encoded length: numbers, booleans and UUIDs with one
+     * of the lengths accepted by {@link BinaryTupleReader} and strings and byte arrays that fit the column length in bytes (a char takes
+     * at least one byte in UTF-8) are valid as they are, because the tuple has been built for the same schema version. Values of any other
+     * length are decoded, which rejects malformed elements with {@link BinaryTupleFormatException}.
      *
+     * @param reader Binary tuple reader.
+     * @param tupleSize Binary tuple buffer size.
      * @param tuple Tuple.
      * @param schema Schema.
      */
-    private static void validateTuple(Tuple tuple, SchemaDescriptor schema) {
+    private static void validateBinaryTuple(BinaryTupleReader reader, int tupleSize, Tuple tuple, SchemaDescriptor schema) {
         for (int i = 0; i < schema.length(); i++) {
             Column col = schema.column(i);
-            Object val = tuple.value(i);
 
-            col.validate(val);
+            reader.seek(i);
+
+            if (reader.end() > tupleSize) {
+                throw new BinaryTupleFormatException("Tuple element is out of bounds: " + col.name());
+            }
+
+            int len = reader.end() - reader.begin();
+
+            if (len == 0) {
+                col.validate(null);
+            } else if (!validByLength(col.type(), len)) {
+                col.validate(tuple.value(i));
+            }
+        }
+    }
+
+    private static boolean validByLength(NativeType type, int len) {
+        switch (type.spec()) {
+            case STRING:
+            case BYTE_ARRAY:
+                return len <= ((VarlenNativeType) type).length();
+
+            // Integers are stored in the shortest form that fits the value, see BinaryTupleParser.
+            case BOOLEAN:
+            case INT8:
+                return len == Byte.BYTES;
+
+            case INT16:
+                return len == Byte.BYTES || len == Short.BYTES;
+
+            case INT32:
+                return len == Byte.BYTES || len == Short.BYTES || len == Integer.BYTES;
+
+            case INT64:
+                return len == Byte.BYTES || len == Short.BYTES || len == Integer.BYTES || len == Long.BYTES;
+
+            case FLOAT:
+                return len == Float.BYTES;
+
+            case DOUBLE:
+                return len == Float.BYTES || len == Double.BYTES;
+
+            case UUID:
+                return len == 2 * Long.BYTES;
+
+            default:
+                // Other types (decimals, temporal types) are validated by decoding.
+                return false;
         }
     }
 
@@ -101,6 +101,11 @@ class DataStreamer {
             public int autoFlushInterval() {
                 return options0.autoFlushInterval();
             }
+
+            @Override
+            public boolean adaptiveBatching() {
+                return options0.adaptiveBatching();
+            }
         };
     }
 }
@@ -210,6 +210,21 @@ public interface InternalTable extends ManuallyCloseable {
      */
     CompletableFuture<Void> updateAll(Collection<BinaryRowEx> rows, @Nullable BitSet deleted, int partition);
 
+    /**
+     * Asynchronously updates records in the table (insert, update, delete).
+     *
+     * <p>In the bulk load mode, the partition of the table is locked exclusively for the duration of the update instead of locking
+     * every row and index key, so concurrent transactions touching the partition are blocked until the update is finished. This mode
+     * is intended for initial loads into tables that are not accessed by other transactions yet.
+     *
+     * @param rows Rows to update.
+     * @param deleted Bit set indicating deleted rows (one bit per item in {@param rows}). When null, no rows are deleted.
+     * @param partition Partition that the rows belong to.
+     * @param bulkLoad Whether the update is a part of a bulk load.
+     * @return Future representing pending completion of the operation.
+     */
+    CompletableFuture<Void> updateAll(Collection<BinaryRowEx> rows, @Nullable BitSet deleted, int partition, boolean bulkLoad);
+
     /**
      * Asynchronously inserts a row into the table or replaces if exists and return replaced previous row.
      *
@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.tx.TransactionLogUtils.formatTxInfo;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,7 @@ import org.apache.ignite.internal.storage.AbortResult;
 import org.apache.ignite.internal.storage.AbortResultStatus;
 import org.apache.ignite.internal.storage.AddWriteCommittedResult;
 import org.apache.ignite.internal.storage.AddWriteCommittedResultStatus;
+import org.apache.ignite.internal.storage.AddWriteEntry;
 import org.apache.ignite.internal.storage.AddWriteResult;
 import org.apache.ignite.internal.storage.AddWriteResultStatus;
 import org.apache.ignite.internal.storage.MvPartitionStorage.Locker;
@@ -242,12 +244,8 @@ public class StorageUpdateHandler {
             boolean useTryLock,
             @Nullable List<Integer> indexIds
     ) {
-        if (useTryLock) {
-            if (!locker.tryLock(rowId)) {
-                return false;
-            }
-        } else {
-            locker.lock(rowId);
+        if (!lockRow(locker, rowId, useTryLock)) {
+            return false;
         }
 
         if (commitTs != null) {
@@ -261,6 +259,16 @@ public class StorageUpdateHandler {
         return true;
     }
 
+    private static boolean lockRow(Locker locker, RowId rowId, boolean useTryLock) {
+        if (useTryLock) {
+            return locker.tryLock(rowId);
+        }
+
+        locker.lock(rowId);
+
+        return true;
+    }
+
     /**
      * Handle multiple updates.
      *
@@ -318,6 +326,7 @@ public class StorageUpdateHandler {
     ) {
         return storage.runConsistently(locker -> {
             List<RowId> processedRowIds = new ArrayList<>();
+            List<RowUpdate> rowUpdates = new ArrayList<>();
             int batchLength = 0;
             Entry<UUID, TimedBinaryRow> entryToProcess = lastUnprocessedEntry;
             while (entryToProcess != null) {
@@ -332,26 +341,30 @@ public class StorageUpdateHandler {
                     break;
                 }
 
-                boolean rowProcessed = tryProcessRow(
-                        locker,
-                        commitPartitionId,
-                        rowId,
-                        txId,
-                        row,
-                        entryToProcess.getValue() == null ? null : entryToProcess.getValue().commitTimestamp(),
-                        commitTs,
-                        !processedRowIds.isEmpty(),
-                        indexIds
-                );
-
-                if (!rowProcessed) {
+                if (!lockRow(locker, rowId, !processedRowIds.isEmpty())) {
                     break;
                 }
 
+                HybridTimestamp lastCommitTs = entryToProcess.getValue() == null ? null : entryToProcess.getValue().commitTimestamp();
+
+                rowUpdates.add(new RowUpdate(rowId, row, lastCommitTs));
+
                 entryToProcess = it.hasNext() ? it.next() : null;
                 processedRowIds.add(rowId);
             }
 
+            if (commitTs != null) {
+                for (RowUpdate update : rowUpdates) {
+                    performAddWriteCommittedWithCleanup(update.rowId, update.row, commitTs, txId, update.lastCommitTs, indexIds);
+                }
+            } else {
+                performAddWriteAllWithCleanup(rowUpdates, txId, commitPartitionId, indexIds);
+            }
+
+            for (RowUpdate update : rowUpdates) {
+                indexUpdateHandler.addToIndexes(update.row, update.rowId, indexIds);
+            }
+
             if (trackWriteIntent) {
                 pendingRows.addPendingRowIds(txId, processedRowIds);
             } else {
@@ -587,24 +600,81 @@ public class StorageUpdateHandler {
         AddWriteResult result = performAddWrite(rowId, row, txId, commitPartitionId, indexIds);
 
         if (result.status() == AddWriteResultStatus.TX_MISMATCH) {
-            UUID wiTxId = result.currentWriteIntentTxId();
+            retryAddWriteAfterCleanup(rowId, row, txId, commitPartitionId, lastCommitTs, result, indexIds);
+        }
+    }
 
-            if (lastCommitTs == null) {
+    /**
+     * Batch version of {@link #performAddWriteWithCleanup}: all write intents are added with a single
+     * {@link PartitionDataStorage#addWriteAll} call, only the rows with a write intent of another transaction are retried one by one.
+     *
+     * <p>Row IDs must already be locked by the current consistency closure, so {@link PartitionDataStorage#addWriteAll} only re-enters
+     * these locks. The storage requires the batch to be sorted by row ID, which is not the order of the update request: rows are sorted
+     * here, after locking, so this order does not affect the order in which locks are acquired.
+     */
+    private void performAddWriteAllWithCleanup(
+            List<RowUpdate> rowUpdates,
+            UUID txId,
+            PartitionGroupId commitPartitionId,
+            @Nullable List<Integer> indexIds
+    ) {
+        List<RowUpdate> sortedUpdates = new ArrayList<>(rowUpdates);
 
-                String formattedMessage = txManager != null ? format(
-                        "Mismatched transaction id [expectedTxId={}, conflictingTxId={}]",
-                        formatTxInfo(wiTxId, txManager),
-                        formatTxInfo(txId, txManager)) : null;
+        sortedUpdates.sort(Comparator.comparing(update -> update.rowId));
 
-                throw new TxIdMismatchException(wiTxId, txId, formattedMessage);
+        var entries = new ArrayList<AddWriteEntry>(sortedUpdates.size());
+
+        for (RowUpdate update : sortedUpdates) {
+            assert entries.isEmpty() || entries.get(entries.size() - 1).rowId().compareTo(update.rowId) < 0
+                    : "Duplicate row ID in a batch: " + update.rowId;
+
+            entries.add(new AddWriteEntry(update.rowId, update.row, txId, commitPartitionId.objectId(), commitPartitionId.partitionId()));
+        }
+
+        List<AddWriteResult> results = storage.addWriteAll(entries);
+
+        for (int i = 0; i < sortedUpdates.size(); i++) {
+            RowUpdate update = sortedUpdates.get(i);
+            AddWriteResult result = results.get(i);
+
+            if (result.status() == AddWriteResultStatus.TX_MISMATCH) {
+                retryAddWriteAfterCleanup(update.rowId, update.row, txId, commitPartitionId, update.lastCommitTs, result, indexIds);
+            } else if (result.status() == AddWriteResultStatus.SUCCESS && result.previousWriteIntent() != null) {
+                tryRemovePreviousWritesIndex(update.rowId, result.previousWriteIntent(), indexIds);
             }
+        }
+    }
 
-            performWriteIntentCleanup(rowId, txId, wiTxId, lastCommitTs, result.latestCommitTimestamp(), indexIds);
+    /**
+     * Handles a write intent of another transaction, detected by the first attempt to add a write intent: if {@code lastCommitTs} is not
+     * {@code null}, the write intent is cleared and the write is retried. Otherwise, {@link TxIdMismatchException} is thrown.
+     */
+    private void retryAddWriteAfterCleanup(
+            RowId rowId,
+            @Nullable BinaryRow row,
+            UUID txId,
+            PartitionGroupId commitPartitionId,
+            @Nullable HybridTimestamp lastCommitTs,
+            AddWriteResult mismatchResult,
+            @Nullable List<Integer> indexIds
+    ) {
+        UUID wiTxId = mismatchResult.currentWriteIntentTxId();
+
+        if (lastCommitTs == null) {
 
-            result = performAddWrite(rowId, row, txId, commitPartitionId, indexIds);
+            String formattedMessage = txManager != null ? format(
+                    "Mismatched transaction id [expectedTxId={}, conflictingTxId={}]",
+                    formatTxInfo(wiTxId, txManager),
+                    formatTxInfo(txId, txManager)) : null;
 
-            assert result.status() == AddWriteResultStatus.SUCCESS : "rowId=" + rowId + ", result=" + result;
+            throw new TxIdMismatchException(wiTxId, txId, formattedMessage);
         }
+
+        performWriteIntentCleanup(rowId, txId, wiTxId, lastCommitTs, mismatchResult.latestCommitTimestamp(), indexIds);
+
+        AddWriteResult result = performAddWrite(rowId, row, txId, commitPartitionId, indexIds);
+
+        assert result.status() == AddWriteResultStatus.SUCCESS : "rowId=" + rowId + ", result=" + result;
     }
 
     /** Performs add write intent, if successful and there is a previous intent (for same transaction) will clear the indexes from it. */
@@ -674,4 +744,19 @@ public class StorageUpdateHandler {
     public void eraseVolatileState(UUID txId) {
         this.pendingRows.removePendingRowIds(txId);
     }
+
+    /** Single row of a {@link #handleUpdateAll} batch, locked and waiting to be written. */
+    private static class RowUpdate {
+        final RowId rowId;
+
+        final @Nullable BinaryRow row;
+
+        final @Nullable HybridTimestamp lastCommitTs;
+
+        RowUpdate(RowId rowId, @Nullable BinaryRow row, @Nullable HybridTimestamp lastCommitTs) {
+            this.rowId = rowId;
+            this.row = row;
+            this.lastCommitTs = lastCommitTs;
+        }
+    }
 }
@@ -32,6 +32,7 @@ import org.apache.ignite.internal.raft.RaftGroupConfigurationConverter;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.AbortResult;
 import org.apache.ignite.internal.storage.AddWriteCommittedResult;
+import org.apache.ignite.internal.storage.AddWriteEntry;
 import org.apache.ignite.internal.storage.AddWriteResult;
 import org.apache.ignite.internal.storage.CommitResult;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
@@ -135,6 +136,15 @@ public class SnapshotAwarePartitionDataStorage implements PartitionDataStorage {
         return partitionStorage.addWrite(rowId, row, txId, commitZoneId, commitPartitionId);
     }
 
+    @Override
+    public List<AddWriteResult> addWriteAll(List<AddWriteEntry> entries) throws StorageException {
+        for (AddWriteEntry entry : entries) {
+            handleSnapshotInterference(entry.rowId());
+        }
+
+        return partitionStorage.addWriteAll(entries);
+    }
+
     @Override
     public AddWriteCommittedResult addWriteCommitted(
             RowId rowId,
@@ -1085,7 +1085,8 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
 
         BinaryTuple exactKey = request.exactKey().asBinaryTuple();
 
-        return lockManager.acquire(txId, new LockKey(indexId, exactKey.byteBuffer()), LockMode.S)
+        return takeTableLockForRead(txId)
+                .thenCompose(tblLock -> lockManager.acquire(txId, new LockKey(indexId, exactKey.byteBuffer()), LockMode.S))
                 .thenCompose(indRowLock -> { // Hash index bucket S lock
                     Cursor<RowId> cursor = remotelyTriggeredResourceRegistry.<CursorResource>register(cursorId, txCoordinatorId,
                             () -> new CursorResource(indexStorage.get(exactKey))).cursor();
@@ -1168,7 +1169,7 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
 
         var result = new ArrayList<BinaryRow>(batchCount);
 
-        return continueIndexScan(
+        return takeTableLockForRead(txId).thenCompose(tblLock -> continueIndexScan(
                 txId,
                 schemaAwareIndexStorage,
                 indexLocker,
@@ -1177,7 +1178,7 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                 result,
                 isUpperBoundAchieved,
                 tableVersionByTs(beginTimestamp(txId))
-        ).thenApply(ignore -> {
+        )).thenApply(ignore -> {
             closeCursorIfBatchNotFull(result, batchCount, cursorId);
 
             return result;
@@ -1497,7 +1498,8 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
 
         assert pkLocker != null;
 
-        CompletableFuture<Void> lockFut = pkLocker.locksForLookupByKey(txId, pk);
+        CompletableFuture<Void> lockFut = takeTableLockForRead(txId)
+                .thenCompose(tblLock -> pkLocker.locksForLookupByKey(txId, pk));
 
         Supplier<CompletableFuture<T>> sup = () -> {
             boolean cursorClosureSetUp = false;
@@ -1952,6 +1954,13 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                 Map<UUID, HybridTimestamp> lastCommitTimes = new ConcurrentHashMap<>();
                 BitSet deleted = request.deleted();
 
+                // A bulk load locks the table partition exclusively once, which covers all rows and index keys of the batch.
+                boolean bulkLoad = request.bulkLoad() && request.full();
+
+                CompletableFuture<?> tableLockFut = bulkLoad
+                        ? lockManager.acquire(txId, new LockKey(tableLockKey), LockMode.X)
+                        : nullCompletedFuture();
+
                 // When the same key is updated multiple times within the same batch, we need to maintain operation order and apply
                 // only the last update. This map stores the previous searchRows index for each key.
                 Map<ByteBuffer, Integer> prevRowIdx = new HashMap<>();
@@ -1983,7 +1992,9 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                     BinaryRow searchRow = searchRows.get(i);
                     boolean isDelete = deleted != null && deleted.get(i);
 
-                    rowIdFuts[i] = resolveRowByPk(pks[i], txId, (rowId, row, lastCommitTime) -> {
+                    BinaryTuple pk = pks[i];
+
+                    rowIdFuts[i] = tableLockFut.thenCompose(unused -> resolveRowByPk(pk, txId, (rowId, row, lastCommitTime) -> {
                         if (isDelete && rowId == null) {
                             return nullCompletedFuture();
                         }
@@ -1996,6 +2007,10 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                         if (isDelete) {
                             assert row != null;
 
+                            if (bulkLoad) {
+                                return completedFuture(new IgniteBiTuple<>(rowId, null));
+                            }
+
                             return takeLocksForDelete(row, rowId, txId)
                                     .thenApply(id -> new IgniteBiTuple<>(id, null));
                         }
@@ -2003,10 +2018,14 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                         boolean insert = rowId == null;
                         RowId rowId0 = insert ? new RowId(partId(), RowIdGenerator.next()) : rowId;
 
+                        if (bulkLoad) {
+                            return completedFuture(new IgniteBiTuple<>(rowId0, null));
+                        }
+
                         return insert
                                 ? takeLocksForInsert(searchRow, rowId0, txId)
                                 : takeLocksForUpdate(searchRow, rowId0, txId);
-                    });
+                    }));
                 }
 
                 int uniqueKeysCountFinal = uniqueKeysCount;
@@ -3238,6 +3257,18 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                 .thenApply(ignored -> rowId);
     }
 
+    /**
+     * Takes IS lock on the table partition. Every read in an RW transaction takes it before its row or index locks, so that a bulk load,
+     * which locks the partition in X mode instead of locking the rows it writes, conflicts with the transactions that have read the
+     * partition.
+     *
+     * @param txId Transaction id.
+     * @return Future completes with the lock.
+     */
+    private CompletableFuture<Lock> takeTableLockForRead(UUID txId) {
+        return lockManager.acquire(txId, new LockKey(tableLockKey), LockMode.IS);
+    }
+
     /**
      * Takes all required locks on a key, before getting the value.
      *
@@ -1169,7 +1169,13 @@ public class InternalTableImpl implements InternalTable {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> updateAll(Collection<BinaryRowEx> rows, @Nullable BitSet deleted, int partition) {
-        return updateAllWithRetry(rows, deleted, partition, null);
+        return updateAll(rows, deleted, partition, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> updateAll(Collection<BinaryRowEx> rows, @Nullable BitSet deleted, int partition, boolean bulkLoad) {
+        return updateAllWithRetry(rows, deleted, partition, bulkLoad, null);
     }
 
     /**
@@ -1178,6 +1184,7 @@ public class InternalTableImpl implements InternalTable {
      * @param rows Rows.
      * @param deleted Deleted.
      * @param partition The partition.
+     * @param bulkLoad Whether the update is a part of a bulk load.
      * @param txStartTs Start timestamp.
      * @return The future.
      */
@@ -1185,6 +1192,7 @@ public class InternalTableImpl implements InternalTable {
             Collection<BinaryRowEx> rows,
             @Nullable BitSet deleted,
             int partition,
+            boolean bulkLoad,
             @Nullable Long txStartTs
     ) {
         InternalTransaction tx = txManager.beginImplicitRw(observableTimestampTracker);
@@ -1196,7 +1204,7 @@ public class InternalTableImpl implements InternalTable {
                 tx,
                 partition,
                 enlistmentConsistencyToken ->
-                        upsertAllInternal(rows, deleted, tx, replicationGroupId, enlistmentConsistencyToken, true),
+                        updateAllInternal(rows, deleted, tx, replicationGroupId, enlistmentConsistencyToken, bulkLoad),
                 true,
                 null
         );
@@ -1209,7 +1217,7 @@ public class InternalTableImpl implements InternalTable {
                 long ts = (txStartTs == null) ? tx.schemaTimestamp().getPhysical() : txStartTs;
 
                 if (canRetry(e, ts, timeout)) {
-                    return updateAllWithRetry(rows, deleted, partition, ts);
+                    return updateAllWithRetry(rows, deleted, partition, bulkLoad, ts);
                 }
 
                 sneakyThrow(e);
@@ -1308,6 +1316,19 @@ public class InternalTableImpl implements InternalTable {
             ZonePartitionId groupId,
             Long enlistmentConsistencyToken,
             boolean full
+    ) {
+        return readWriteMultiRowReplicaRequest(requestType, rows, deleted, tx, groupId, enlistmentConsistencyToken, full, false);
+    }
+
+    private ReadWriteMultiRowReplicaRequest readWriteMultiRowReplicaRequest(
+            RequestType requestType,
+            Collection<? extends BinaryRow> rows,
+            @Nullable BitSet deleted,
+            InternalTransaction tx,
+            ZonePartitionId groupId,
+            Long enlistmentConsistencyToken,
+            boolean full,
+            boolean bulkLoad
     ) {
         assert allSchemaVersionsSame(rows) : "Different schema versions encountered: " + uniqueSchemaVersions(rows);
 
@@ -1323,6 +1344,7 @@ public class InternalTableImpl implements InternalTable {
                 .requestType(requestType)
                 .timestamp(tx.schemaTimestamp())
                 .full(full)
+                .bulkLoad(bulkLoad)
                 .coordinatorId(tx.coordinatorId())
                 .delayedAckProcessor(tx.remote() ? tx::processDelayedAck : null)
                 .txLabel(txLabel(tx))
@@ -2299,16 +2321,16 @@ public class InternalTableImpl implements InternalTable {
         return readWriteMultiRowReplicaRequest(RW_UPSERT_ALL, keyRows0, null, txo, groupId, enlistmentConsistencyToken, full);
     }
 
-    private ReplicaRequest upsertAllInternal(
+    private ReplicaRequest updateAllInternal(
             Collection<? extends BinaryRow> keyRows0,
             @Nullable BitSet deleted,
             InternalTransaction txo,
             ZonePartitionId groupId,
             Long enlistmentConsistencyToken,
-            boolean full
+            boolean bulkLoad
     ) {
         return readWriteMultiRowReplicaRequest(
-                RW_UPSERT_ALL, keyRows0, deleted, txo, groupId, enlistmentConsistencyToken, full);
+                RW_UPSERT_ALL, keyRows0, deleted, txo, groupId, enlistmentConsistencyToken, true, bulkLoad);
     }
 
     /**
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.schema.marshaller;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrows;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.ByteBuffer;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.schema.BinaryRowImpl;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.table.KeyValueTestUtils;
+import org.apache.ignite.internal.table.TableRow;
+import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.lang.MarshallerException;
+import org.apache.ignite.table.Tuple;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link TupleMarshallerImpl} with tuples that already contain a binary tuple of the same schema version.
+ */
+public class TupleMarshallerBinaryTupleTest {
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(1,
+            new Column[]{new Column("KEY", NativeTypes.INT64, false)},
+            new Column[]{
+                    new Column("STR", NativeTypes.stringOf(4), true),
+                    new Column("BYTES", NativeTypes.blobOf(4), true),
+                    new Column("NOT_NULL", NativeTypes.INT32, false)
+            });
+
+    private final TupleMarshallerImpl marshaller = KeyValueTestUtils.createMarshaller(SCHEMA);
+
+    @Test
+    public void usesBinaryTupleAsIs() throws Exception {
+        ByteBuffer tupleBuffer = binaryTuple("abcd", new byte[]{1, 2, 3, 4}, 1);
+
+        Row row = marshaller.marshal(tuple(tupleBuffer));
+
+        assertThat(row.tupleSlice().array(), is(sameInstance(tupleBuffer.array())));
+        assertThat(row.stringValue(1), is("abcd"));
+    }
+
+    @Test
+    public void acceptsMultiByteCharsWithinLength() throws Exception {
+        // 4 chars, 8 bytes in UTF-8: does not fit the column length in bytes, so the value is decoded and validated.
+        String str = "\u00e9\u00e9\u00e9\u00e9";
+
+        Row row = marshaller.marshal(tuple(binaryTuple(str, null, 1)));
+
+        assertThat(row.stringValue(1), is(str));
+    }
+
+    @Test
+    public void rejectsTooLongString() {
+        assertThrows(MarshallerException.class, () -> marshaller.marshal(tuple(binaryTuple("abcde", null, 1))), "Value too long");
+    }
+
+    @Test
+    public void rejectsTooLongBytes() {
+        assertThrows(
+                MarshallerException.class,
+                () -> marshaller.marshal(tuple(binaryTuple(null, new byte[]{1, 2, 3, 4, 5}, 1))),
+                "Value too long"
+        );
+    }
+
+    @Test
+    public void rejectsNullInNotNullColumn() {
+        assertThrows(
+                MarshallerException.class,
+                () -> marshaller.marshal(tuple(binaryTuple(null, null, null))),
+                "Column 'NOT_NULL' does not allow NULLs"
+        );
+    }
+
+    @Test
+    public void rejectsTruncatedTuple() {
+        ByteBuffer tupleBuffer = binaryTuple(null, null, 1);
+        ByteBuffer truncated = ByteBuffer.allocate(tupleBuffer.remaining() - 1).order(tupleBuffer.order());
+        truncated.put(tupleBuffer.limit(tupleBuffer.limit() - 1)).flip();
+
+        assertThrows(MarshallerException.class, () -> marshaller.marshal(tuple(truncated)), "Tuple element is out of bounds");
+    }
+
+    @ParameterizedTest
+    @MethodSource("wrongLengthElements")
+    public void rejectsWrongLengthElement(NativeType type, int len) {
+        SchemaDescriptor schema = new SchemaDescriptor(1,
+                new Column[]{new Column("KEY", NativeTypes.INT64, false)},
+                new Column[]{new Column("VAL", type, true)});
+
+        ByteBuffer tupleBuffer = new BinaryTupleBuilder(schema.length())
+                .appendLong(1L)
+                .appendElementBytes(ByteBuffer.wrap(new byte[len]), 0, len)
+                .build();
+
+        assertThrows(
+                MarshallerException.class,
+                () -> KeyValueTestUtils.createMarshaller(schema).marshal(tuple(schema, tupleBuffer)),
+                "Invalid length for a tuple element: " + len
+        );
+    }
+
+    private static Stream<Arguments> wrongLengthElements() {
+        return Stream.of(
+                Arguments.of(NativeTypes.BOOLEAN, 2),
+                Arguments.of(NativeTypes.INT8, 2),
+                Arguments.of(NativeTypes.INT16, 3),
+                Arguments.of(NativeTypes.INT32, 3),
+                Arguments.of(NativeTypes.INT32, 8),
+                Arguments.of(NativeTypes.INT64, 3),
+                Arguments.of(NativeTypes.INT64, 5),
+                Arguments.of(NativeTypes.INT64, 6),
+                Arguments.of(NativeTypes.INT64, 7),
+                Arguments.of(NativeTypes.FLOAT, 2),
+                Arguments.of(NativeTypes.DOUBLE, 2),
+                Arguments.of(NativeTypes.DOUBLE, 5),
+                Arguments.of(NativeTypes.DOUBLE, 7),
+                Arguments.of(NativeTypes.UUID, 8),
+                Arguments.of(NativeTypes.UUID, 15)
+        );
+    }
+
+    private static ByteBuffer binaryTuple(@Nullable String str, byte @Nullable [] bytes, @Nullable Integer notNull) {
+        return new BinaryTupleBuilder(SCHEMA.length())
+                .appendLong(1L)
+                .appendString(str)
+                .appendBytes(bytes)
+                .appendInt(notNull)
+                .build();
+    }
+
+    private static Tuple tuple(ByteBuffer tupleBuffer) {
+        return tuple(SCHEMA, tupleBuffer);
+    }
+
+    private static Tuple tuple(SchemaDescriptor schema, ByteBuffer tupleBuffer) {
+        return TableRow.tuple(Row.wrapBinaryRow(schema, new BinaryRowImpl(schema.version(), tupleBuffer.duplicate())));
+    }
+}
@@ -19,9 +19,11 @@ package org.apache.ignite.internal.table.distributed;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
@@ -48,6 +50,7 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowConverter;
 import org.apache.ignite.internal.schema.BinaryTupleSchema;
 import org.apache.ignite.internal.schema.ColumnsExtractor;
+import org.apache.ignite.internal.storage.AddWriteEntry;
 import org.apache.ignite.internal.storage.BaseMvStoragesTest;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
@@ -236,6 +239,36 @@ public class StorageUpdateHandlerTest extends BaseMvStoragesTest {
         assertEquals(row3, result3.binaryRow());
     }
 
+    /** Tests that {@link StorageUpdateHandler#handleUpdateAll} adds the write intents of a batch with a single sorted call. */
+    @Test
+    void testUpdateAllUsesSortedAddWriteAll() {
+        UUID txUuid = UUID.randomUUID();
+        TablePartitionId partitionId = new TablePartitionId(333, PARTITION_ID);
+
+        Map<UUID, TimedBinaryRow> rowsToUpdate = Map.of(
+                UUID.randomUUID(), new TimedBinaryRow(binaryRow(new TestKey(1, "foo1"), new TestValue(2, "bar")), null),
+                UUID.randomUUID(), new TimedBinaryRow(binaryRow(new TestKey(3, "foo3"), new TestValue(4, "baz")), null),
+                UUID.randomUUID(), new TimedBinaryRow(binaryRow(new TestKey(5, "foo5"), new TestValue(7, "zzu")), null)
+        );
+
+        storageUpdateHandler.handleUpdateAll(txUuid, rowsToUpdate, partitionId, true, null, null, null);
+
+        List<RowId> expectedRowIds = rowsToUpdate.keySet().stream()
+                .map(uuid -> new RowId(PARTITION_ID, uuid))
+                .sorted()
+                .collect(Collectors.toList());
+
+        verify(storage).addWriteAll(argThat(entries -> entries.stream().map(AddWriteEntry::rowId).collect(Collectors.toList())
+                .equals(expectedRowIds)));
+
+        for (RowId rowId : expectedRowIds) {
+            ReadResult result = storage.read(rowId, HybridTimestamp.MAX_VALUE);
+
+            assertThat(result.isWriteIntent(), is(true));
+            assertEquals(rowsToUpdate.get(rowId.uuid()).binaryRow(), result.binaryRow());
+        }
+    }
+
     /**
      * Tests that {@link StorageUpdateHandler#handleUpdateAll} respects {@code shouldRelease()} from the storage engine.
      *
@@ -29,6 +29,7 @@ import static org.apache.ignite.internal.partition.replicator.network.replicatio
 import static org.apache.ignite.internal.partition.replicator.network.replication.RequestType.RW_DELETE_ALL;
 import static org.apache.ignite.internal.partition.replicator.network.replication.RequestType.RW_DELETE_EXACT;
 import static org.apache.ignite.internal.partition.replicator.network.replication.RequestType.RW_DELETE_EXACT_ALL;
+import static org.apache.ignite.internal.partition.replicator.network.replication.RequestType.RW_GET;
 import static org.apache.ignite.internal.partition.replicator.network.replication.RequestType.RW_GET_ALL;
 import static org.apache.ignite.internal.partition.replicator.network.replication.RequestType.RW_GET_AND_DELETE;
 import static org.apache.ignite.internal.partition.replicator.network.replication.RequestType.RW_GET_AND_REPLACE;
@@ -174,6 +175,7 @@ import org.apache.ignite.internal.raft.service.LeaderWithTerm;
 import org.apache.ignite.internal.raft.service.RaftGroupService;
 import org.apache.ignite.internal.replicator.ReplicaResult;
 import org.apache.ignite.internal.replicator.ReplicaService;
+import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.replicator.ZonePartitionId;
 import org.apache.ignite.internal.replicator.configuration.ReplicationConfiguration;
 import org.apache.ignite.internal.replicator.exception.PrimaryReplicaMissException;
@@ -226,7 +228,10 @@ import org.apache.ignite.internal.table.metrics.TableMetricSource;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.internal.tostring.IgniteToStringInclude;
 import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.tx.LockException;
+import org.apache.ignite.internal.tx.LockKey;
 import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.LockMode;
 import org.apache.ignite.internal.tx.OutdatedReadOnlyTransactionInternalException;
 import org.apache.ignite.internal.tx.TransactionMeta;
 import org.apache.ignite.internal.tx.TransactionResult;
@@ -1424,6 +1429,86 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
         return toZonePartitionIdMessage(REPLICA_MESSAGES_FACTORY, zonePartitionId);
     }
 
+    @Test
+    public void bulkLoadLocksTablePartitionExclusively() {
+        UUID concurrentTxId = newTxId();
+
+        var tableLockKey = new LockKey(new TablePartitionId(TABLE_ID, PART_ID));
+
+        assertThat(lockManager.acquire(concurrentTxId, tableLockKey, LockMode.IX), willCompleteSuccessfully());
+
+        BinaryRow row0 = binaryRow(0);
+        BinaryRow row1 = binaryRow(1);
+
+        // A younger bulk load must not be able to lock the table partition while another transaction holds an intention lock on it.
+        assertThat(doMultiRowRequest(newTxId(), asList(row0, row1), RW_UPSERT_ALL, true, null, true), willThrow(LockException.class));
+
+        lockManager.releaseAll(concurrentTxId);
+
+        UUID txId = newTxId();
+
+        assertThat(doMultiRowRequest(txId, asList(row0, row1), RW_UPSERT_ALL, true, null, true), willCompleteSuccessfully());
+
+        checkRowInMvStorage(row0, true);
+        checkRowInMvStorage(row1, true);
+
+        assertFalse(lockManager.locks(txId).hasNext());
+    }
+
+    @Test
+    public void bulkLoadConflictsWithConcurrentPointRead() {
+        BinaryRow row0 = binaryRow(0);
+        BinaryRow row1 = binaryRow(1);
+
+        UUID readerTxId = newTxId();
+
+        // The reader has seen that the key is absent, a bulk load must not insert a phantom under it.
+        assertThat(doSingleRowPkRequest(readerTxId, row0, RW_GET), willCompleteSuccessfully());
+
+        assertThat(doMultiRowRequest(newTxId(), asList(row0, row1), RW_UPSERT_ALL, true, null, true), willThrow(LockException.class));
+
+        checkRowInMvStorage(row0, false);
+
+        lockManager.releaseAll(readerTxId);
+
+        assertThat(doMultiRowRequest(newTxId(), asList(row0, row1), RW_UPSERT_ALL, true, null, true), willCompleteSuccessfully());
+
+        checkRowInMvStorage(row0, true);
+    }
+
+    @Test
+    public void bulkLoadConflictsWithConcurrentIndexScan() {
+        UUID readerTxId = newTxId();
+
+        CompletableFuture<ReplicaResult> scanFut = processWithPrimacy(
+                TABLE_MESSAGES_FACTORY.readWriteScanRetrieveBatchReplicaRequest()
+                        .groupId(zonePartitionIdMessage(grpId))
+                        .tableId(TABLE_ID)
+                        .transactionId(readerTxId)
+                        .timestamp(clock.now())
+                        .enlistmentConsistencyToken(ANY_ENLISTMENT_CONSISTENCY_TOKEN)
+                        .scanId(1L)
+                        .indexToUse(sortedIndexStorage.id())
+                        .batchSize(4)
+                        .commitPartitionId(commitPartitionId())
+                        .coordinatorId(localNode.id())
+                        .build());
+
+        assertThat(scanFut, willCompleteSuccessfully());
+
+        BinaryRow row = binaryRow(0);
+
+        assertThat(doMultiRowRequest(newTxId(), List.of(row), RW_UPSERT_ALL, true, null, true), willThrow(LockException.class));
+
+        checkRowInMvStorage(row, false);
+
+        lockManager.releaseAll(readerTxId);
+
+        assertThat(doMultiRowRequest(newTxId(), List.of(row), RW_UPSERT_ALL, true, null, true), willCompleteSuccessfully());
+
+        checkRowInMvStorage(row, true);
+    }
+
     private CompletableFuture<?> doMultiRowRequest(UUID txId, Collection<BinaryRow> binaryRows, RequestType requestType) {
         return doMultiRowRequest(txId, binaryRows, requestType, false);
     }
@@ -1438,6 +1523,17 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
             RequestType requestType,
             boolean full,
             @Nullable String txLabel
+    ) {
+        return doMultiRowRequest(txId, binaryRows, requestType, full, txLabel, false);
+    }
+
+    private CompletableFuture<?> doMultiRowRequest(
+            UUID txId,
+            Collection<BinaryRow> binaryRows,
+            RequestType requestType,
+            boolean full,
+            @Nullable String txLabel,
+            boolean bulkLoad
     ) {
         return processWithPrimacy(TABLE_MESSAGES_FACTORY.readWriteMultiRowReplicaRequest()
                         .groupId(zonePartitionIdMessage(grpId))
@@ -1450,6 +1546,7 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
                         .commitPartitionId(commitPartitionId())
                         .coordinatorId(localNode.id())
                         .full(full)
+                        .bulkLoad(bulkLoad)
                         .timestamp(clock.now())
                         .txLabel(txLabel)
                         .build()
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
+import org.apache.ignite.internal.configuration.SystemPropertyView;
+import org.apache.ignite.internal.tx.LockManager;
+
+/**
+ * Creates {@link LockManager} instances of the type that is chosen by the {@link #LOCK_MANAGER_TYPE_PROPERTY_NAME} system property.
+ */
+public final class LockManagers {
+    /** Name of the system property that chooses the lock manager implementation, either {@code heap} or {@code striped}. */
+    public static final String LOCK_MANAGER_TYPE_PROPERTY_NAME = "lockManagerType";
+
+    /** {@link HeapLockManager}, the default one. */
+    public static final String HEAP_TYPE = "heap";
+
+    /** {@link StripedLockManager}. */
+    public static final String STRIPED_TYPE = "striped";
+
+    private LockManagers() {
+    }
+
+    /**
+     * Creates a lock manager.
+     *
+     * @param systemProperties System local configuration.
+     * @param txStateVolatileStorage Tx state required to present tx labels in logs and exceptions.
+     * @return Lock manager.
+     */
+    public static LockManager create(SystemLocalConfiguration systemProperties, VolatileTxStateMetaStorage txStateVolatileStorage) {
+        SystemPropertyView property = systemProperties.properties().value().get(LOCK_MANAGER_TYPE_PROPERTY_NAME);
+
+        String type = property == null ? HEAP_TYPE : property.propertyValue();
+
+        switch (type) {
+            case HEAP_TYPE:
+                return new HeapLockManager(systemProperties, txStateVolatileStorage);
+            case STRIPED_TYPE:
+                return new StripedLockManager(systemProperties, txStateVolatileStorage);
+            default:
+                throw new IllegalArgumentException("Unknown lock manager type [property=" + LOCK_MANAGER_TYPE_PROPERTY_NAME
+                        + ", value=" + type + ']');
+        }
+    }
+}
@@ -0,0 +1,1156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.internal.tx.event.LockEvent.LOCK_CONFLICT;
+import static org.apache.ignite.internal.tx.impl.HeapLockManager.DEFAULT_SLOTS;
+import static org.apache.ignite.internal.tx.impl.HeapLockManager.LOCK_MAP_SIZE_PROPERTY_NAME;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
+import org.apache.ignite.internal.configuration.SystemPropertyView;
+import org.apache.ignite.internal.event.AbstractEventProducer;
+import org.apache.ignite.internal.tostring.IgniteToStringExclude;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.tx.AcquireLockTimeoutException;
+import org.apache.ignite.internal.tx.DeadlockPreventionPolicy;
+import org.apache.ignite.internal.tx.Lock;
+import org.apache.ignite.internal.tx.LockKey;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.LockMode;
+import org.apache.ignite.internal.tx.LockTableOverflowException;
+import org.apache.ignite.internal.tx.PossibleDeadlockOnLockAcquireException;
+import org.apache.ignite.internal.tx.Waiter;
+import org.apache.ignite.internal.tx.event.LockEvent;
+import org.apache.ignite.internal.tx.event.LockEventParameters;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link LockManager} implementation with a lock-striped lock table that produces little garbage under contention.
+ *
+ * <p>Lock semantics are the same as in {@link HeapLockManager}, the difference is in the data structures:
+ * <ul>
+ *     <li>Keys are spread over a fixed number of stripes, each guarded by its own latch. A stripe is an open addressing hash table with
+ *     primitive hashes, so lookups and removals don't allocate map nodes.</li>
+ *     <li>Key lock states are pooled per stripe and reused after all their waiters are gone.</li>
+ *     <li>Waiters of a key are kept in a sorted array instead of a {@link java.util.TreeMap}. A waiter is a compact record with lock
+ *     modes packed into bit masks, it is updated in place on reenter and upgrade instead of being replaced with a new one.</li>
+ * </ul>
+ *
+ * <p>Coarse (hierarchy) locks, i.e. locks with a {@code null} context ID, are rare and are delegated to a {@link HeapLockManager}.
+ *
+ * <p>Additionally limits the lock table size.
+ */
+public class StripedLockManager extends AbstractEventProducer<LockEvent, LockEventParameters> implements LockManager {
+    /** Number of stripes, a power of two. */
+    private static final int STRIPES = ceilPow2(Runtime.getRuntime().availableProcessors() * 16);
+
+    /** Initial capacity of a stripe hash table, a power of two. */
+    private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    /** Maximum number of unused key lock states kept by a stripe for reuse. */
+    private static final int MAX_POOLED_STATES = 64;
+
+    /** All lock modes. */
+    private static final LockMode[] LOCK_MODES = LockMode.values();
+
+    /** Number of keys in the lock table, never exceeds {@link #lockMapSize}. */
+    private final AtomicInteger lockTableSize = new AtomicInteger();
+
+    /** Lock table size. */
+    private final int lockMapSize;
+
+    /** Lock table stripes. */
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /** Lock table keys by transaction. */
+    private final ConcurrentHashMap<UUID, TxLockKeys> txMap = new ConcurrentHashMap<>(1024);
+
+    /** Lock manager for coarse locks. */
+    private final HeapLockManager coarseLockManager;
+
+    /** Tx state required to present tx labels in logs and exceptions. */
+    private final VolatileTxStateMetaStorage txStateVolatileStorage;
+
+    /** The policy. */
+    private DeadlockPreventionPolicy deadlockPreventionPolicy;
+
+    /** Order of waiters in a key queue. */
+    private Comparator<UUID> txComparator;
+
+    /** Executor that is used to fail waiters after timeout. */
+    private Executor delayedExecutor;
+
+    /** Constructor. */
+    public StripedLockManager(SystemLocalConfiguration systemProperties, VolatileTxStateMetaStorage txStateVolatileStorage) {
+        this(intProperty(systemProperties, LOCK_MAP_SIZE_PROPERTY_NAME, DEFAULT_SLOTS), txStateVolatileStorage);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param lockMapSize Lock table size.
+     */
+    public StripedLockManager(int lockMapSize, VolatileTxStateMetaStorage txStateVolatileStorage) {
+        this.lockMapSize = lockMapSize;
+        this.txStateVolatileStorage = txStateVolatileStorage;
+        // Coarse locks don't use the lock table of the delegate.
+        this.coarseLockManager = new HeapLockManager(1, txStateVolatileStorage);
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private static int intProperty(SystemLocalConfiguration systemProperties, String name, int defaultValue) {
+        SystemPropertyView property = systemProperties.properties().value().get(name);
+
+        return property == null ? defaultValue : Integer.parseInt(property.propertyValue());
+    }
+
+    @Override
+    public void start(DeadlockPreventionPolicy deadlockPreventionPolicy) {
+        this.deadlockPreventionPolicy = deadlockPreventionPolicy;
+
+        this.txComparator = deadlockPreventionPolicy.txIdComparator() != null ? deadlockPreventionPolicy.txIdComparator() : UUID::compareTo;
+
+        this.delayedExecutor = deadlockPreventionPolicy.waitTimeout() > 0
+                ? CompletableFuture.delayedExecutor(deadlockPreventionPolicy.waitTimeout(), TimeUnit.MILLISECONDS)
+                : null;
+
+        coarseLockManager.start(deadlockPreventionPolicy);
+
+        coarseLockManager.listen(LOCK_CONFLICT, params -> fireEvent(LOCK_CONFLICT, params).thenApply(v -> false));
+    }
+
+    @Override
+    public CompletableFuture<Lock> acquire(UUID txId, LockKey lockKey, LockMode lockMode) {
+        assert lockMode != null : "Lock mode is null";
+
+        if (lockKey.contextId() == null) { // Treat this lock as a hierarchy(coarse) lock.
+            return coarseLockManager.acquire(txId, lockKey, lockMode);
+        }
+
+        int hash = spread(lockKey.hashCode());
+        Stripe stripe = stripe(hash);
+
+        CompletableFuture<Void> fut;
+        LockMode resultLockMode;
+        WaiterRecord toNotify = null;
+
+        synchronized (stripe) {
+            KeyLockState state = stripe.get(lockKey, slotHash(hash));
+
+            if (state == null) {
+                if (!tryIncrementLockTableSize()) {
+                    return failedFuture(new LockTableOverflowException(txId, lockMapSize, txStateVolatileStorage));
+                }
+
+                state = stripe.pooledState();
+
+                if (state == null) {
+                    state = new KeyLockState();
+                }
+
+                state.key = lockKey;
+
+                stripe.put(lockKey, slotHash(hash), state);
+            }
+
+            int idx = state.indexOf(txId);
+
+            WaiterRecord waiter;
+
+            if (idx >= 0) {
+                waiter = state.waiters[idx];
+
+                LockMode prevLockMode = waiter.lockMode();
+
+                // Reenter.
+                if (waiter.locked() && prevLockMode.allowReenter(lockMode)) {
+                    waiter.reenter(lockMode);
+
+                    return completedFuture(new Lock(lockKey, prevLockMode, txId));
+                }
+
+                waiter.upgrade(lockMode);
+
+                assert prevLockMode == waiter.lockMode() :
+                        "Lock modes are incorrect [prev=" + prevLockMode + ", new=" + waiter.lockMode() + ']';
+            } else {
+                waiter = new WaiterRecord(txId, lockMode);
+
+                state.insert(-idx - 1, waiter);
+            }
+
+            fut = waiter.fut;
+
+            if (!state.isWaiterReadyToNotify(waiter, false)) {
+                if (deadlockPreventionPolicy.waitTimeout() > 0) {
+                    setWaiterTimeout(waiter);
+                }
+
+                // Put to wait queue, track.
+                if (idx < 0) {
+                    track(txId, lockKey);
+                }
+
+                resultLockMode = waiter.lockMode();
+            } else {
+                if (!waiter.locked()) {
+                    state.remove(state.indexOf(txId));
+
+                    if (state.size == 0) {
+                        removeState(stripe, state, slotHash(hash));
+                    }
+                } else if (waiter.hasLockIntent()) {
+                    waiter.refuseIntent(); // Restore old lock.
+                } else {
+                    // Lock granted, track.
+                    if (idx < 0) {
+                        track(txId, lockKey);
+                    }
+                }
+
+                resultLockMode = waiter.lockMode();
+
+                toNotify = waiter;
+            }
+        }
+
+        // Notify outside the latch.
+        if (toNotify != null) {
+            toNotify.notifyLocked();
+        }
+
+        return fut.thenApply(res -> new Lock(lockKey, resultLockMode, txId));
+    }
+
+    @Override
+    public void release(Lock lock) {
+        if (lock.lockKey().contextId() == null) {
+            coarseLockManager.release(lock);
+
+            return;
+        }
+
+        release(lock.txId(), lock.lockKey());
+    }
+
+    @Override
+    public void release(UUID txId, LockKey lockKey, LockMode lockMode) {
+        assert lockMode != null : "Lock mode is null";
+
+        if (lockKey.contextId() == null) {
+            throw new IllegalArgumentException("Coarse locks don't support downgrading");
+        }
+
+        int hash = spread(lockKey.hashCode());
+        Stripe stripe = stripe(hash);
+
+        List<WaiterRecord> toNotify = emptyList();
+
+        synchronized (stripe) {
+            KeyLockState state = stripe.get(lockKey, slotHash(hash));
+
+            int idx = state == null ? -1 : state.indexOf(txId);
+
+            if (idx >= 0) {
+                WaiterRecord waiter = state.waiters[idx];
+
+                assert LockMode.supremum(lockMode, waiter.lockMode()) == waiter.lockMode() :
+                        "The lock is not locked in specified mode [mode=" + lockMode + ", locked=" + waiter.lockMode() + ']';
+
+                LockMode modeFromDowngrade = waiter.recalculateMode(lockMode);
+
+                if (!waiter.locked() && !waiter.hasLockIntent()) {
+                    // All locks are revoked - dequeue waiter.
+                    state.remove(idx);
+
+                    if (state.size != 0) {
+                        toNotify = state.unlockCompatibleWaiters();
+                    }
+                } else if (modeFromDowngrade != waiter.lockMode()) {
+                    toNotify = state.unlockCompatibleWaiters();
+                }
+
+                if (state.size == 0) {
+                    removeState(stripe, state, slotHash(hash));
+                }
+            }
+        }
+
+        // Notify outside the latch.
+        for (WaiterRecord waiter : toNotify) {
+            waiter.notifyLocked();
+        }
+    }
+
+    @Override
+    public void releaseAll(UUID txId) {
+        TxLockKeys lockKeys = txMap.remove(txId);
+
+        if (lockKeys != null) {
+            for (LockKey lockKey : lockKeys.keys()) {
+                release(txId, lockKey);
+            }
+        }
+
+        // Unlock coarse locks after all.
+        coarseLockManager.releaseAll(txId);
+    }
+
+    @Override
+    public void failAllWaiters(UUID txId, Exception cause) {
+        TxLockKeys lockKeys = txMap.get(txId);
+
+        if (lockKeys != null) {
+            for (LockKey lockKey : lockKeys.keys()) {
+                int hash = spread(lockKey.hashCode());
+                Stripe stripe = stripe(hash);
+
+                WaiterRecord toNotify = null;
+
+                synchronized (stripe) {
+                    KeyLockState state = stripe.get(lockKey, slotHash(hash));
+
+                    int idx = state == null ? -1 : state.indexOf(txId);
+
+                    // Waiter can be absent if it was invalidated by order conflict resolution logic.
+                    if (idx >= 0 && state.waiters[idx].hasLockIntent()) {
+                        toNotify = state.waiters[idx];
+
+                        toNotify.fail(cause);
+                    }
+                }
+
+                if (toNotify != null) {
+                    toNotify.notifyLocked();
+                }
+            }
+        }
+
+        coarseLockManager.failAllWaiters(txId, cause);
+    }
+
+    @Override
+    public Iterator<Lock> locks() {
+        List<Lock> result = new ArrayList<>();
+
+        txMap.forEach((txId, lockKeys) -> collectLocks(txId, lockKeys, result));
+
+        coarseLockManager.locks().forEachRemaining(result::add);
+
+        return result.iterator();
+    }
+
+    @Override
+    public Iterator<Lock> locks(UUID txId) {
+        List<Lock> result = new ArrayList<>();
+
+        collectLocks(txId, txMap.get(txId), result);
+
+        coarseLockManager.locks(txId).forEachRemaining(result::add);
+
+        return result.iterator();
+    }
+
+    @Override
+    public Collection<UUID> queue(LockKey key) {
+        int hash = spread(key.hashCode());
+        Stripe stripe = stripe(hash);
+
+        synchronized (stripe) {
+            KeyLockState state = stripe.get(key, slotHash(hash));
+
+            if (state == null) {
+                return emptyList();
+            }
+
+            List<UUID> queue = new ArrayList<>(state.size);
+
+            for (int i = 0; i < state.size; i++) {
+                queue.add(state.waiters[i].txId);
+            }
+
+            return queue;
+        }
+    }
+
+    @Override
+    public @Nullable Waiter waiter(LockKey key, UUID txId) {
+        int hash = spread(key.hashCode());
+        Stripe stripe = stripe(hash);
+
+        synchronized (stripe) {
+            KeyLockState state = stripe.get(key, slotHash(hash));
+
+            int idx = state == null ? -1 : state.indexOf(txId);
+
+            return idx >= 0 ? state.waiters[idx] : null;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lockTableSize.get() == 0 && coarseLockManager.isEmpty();
+    }
+
+    /**
+     * Returns the number of keys that can still be locked before the lock table overflows.
+     */
+    public int available() {
+        return Math.max(lockMapSize - lockTableSize.get(), 0);
+    }
+
+    /**
+     * Releases all locks of the transaction on the key.
+     *
+     * @param txId Transaction ID.
+     * @param lockKey Lock key.
+     */
+    private void release(UUID txId, LockKey lockKey) {
+        int hash = spread(lockKey.hashCode());
+        Stripe stripe = stripe(hash);
+
+        List<WaiterRecord> toNotify = emptyList();
+
+        synchronized (stripe) {
+            KeyLockState state = stripe.get(lockKey, slotHash(hash));
+
+            int idx = state == null ? -1 : state.indexOf(txId);
+
+            if (idx >= 0) {
+                WaiterRecord removed = state.remove(idx);
+
+                // Removing incomplete waiter doesn't affect lock state.
+                if (state.size != 0 && removed.locked()) {
+                    toNotify = state.unlockCompatibleWaiters();
+                }
+
+                if (state.size == 0) {
+                    removeState(stripe, state, slotHash(hash));
+                }
+            }
+        }
+
+        // Notify outside the latch.
+        for (WaiterRecord waiter : toNotify) {
+            waiter.notifyLocked();
+        }
+    }
+
+    private void collectLocks(UUID txId, @Nullable TxLockKeys lockKeys, List<Lock> result) {
+        if (lockKeys == null) {
+            return;
+        }
+
+        for (LockKey lockKey : lockKeys.keys()) {
+            Waiter waiter = waiter(lockKey, txId);
+
+            if (waiter != null && waiter.lockMode() != null) {
+                result.add(new Lock(lockKey, waiter.lockMode(), txId));
+            }
+        }
+    }
+
+    /**
+     * Removes a key lock state without waiters from the stripe, must be called under the stripe latch.
+     */
+    private void removeState(Stripe stripe, KeyLockState state, int slotHash) {
+        stripe.remove(state.key, slotHash);
+
+        lockTableSize.decrementAndGet();
+
+        state.key = null;
+
+        stripe.release(state);
+    }
+
+    /**
+     * Reserves a place for a new key in the lock table. Stripes are latched independently, so the bound is checked and updated
+     * atomically to not let concurrent acquisitions overflow the table.
+     *
+     * @return {@code false} if the lock table is full.
+     */
+    private boolean tryIncrementLockTableSize() {
+        while (true) {
+            int size = lockTableSize.get();
+
+            if (size >= lockMapSize) {
+                return false;
+            }
+
+            if (lockTableSize.compareAndSet(size, size + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void track(UUID txId, LockKey lockKey) {
+        txMap.computeIfAbsent(txId, k -> new TxLockKeys()).add(lockKey);
+    }
+
+    /**
+     * Makes the waiter fail after specified timeout (in milliseconds), if intended lock was not acquired within this timeout.
+     *
+     * @param waiter Waiter.
+     */
+    private void setWaiterTimeout(WaiterRecord waiter) {
+        // The waiter is updated in place, so the future is captured to not fail a later lock request.
+        CompletableFuture<Void> fut = waiter.fut;
+
+        delayedExecutor.execute(() -> {
+            if (!fut.isDone()) {
+                fut.completeExceptionally(
+                        new AcquireLockTimeoutException(waiter, deadlockPreventionPolicy.waitTimeout(), txStateVolatileStorage));
+            }
+        });
+    }
+
+    private Stripe stripe(int hash) {
+        return stripes[hash & (STRIPES - 1)];
+    }
+
+    /**
+     * Returns the part of the hash that is not used to choose a stripe.
+     */
+    private static int slotHash(int hash) {
+        return hash >>> Integer.numberOfTrailingZeros(STRIPES);
+    }
+
+    private static int spread(int h) {
+        return (h ^ (h >>> 16)) & 0x7fffffff;
+    }
+
+    private static int ceilPow2(int v) {
+        return v <= 1 ? 1 : Integer.highestOneBit(v - 1) << 1;
+    }
+
+    /**
+     * Stripe of the lock table: an open addressing hash table with linear probing and a pool of unused key lock states. All the methods
+     * must be called under the stripe latch, i.e. the stripe monitor.
+     */
+    private static class Stripe {
+        private int[] hashes = new int[INITIAL_STRIPE_CAPACITY];
+
+        private LockKey[] keys = new LockKey[INITIAL_STRIPE_CAPACITY];
+
+        private KeyLockState[] states = new KeyLockState[INITIAL_STRIPE_CAPACITY];
+
+        private int size;
+
+        /** Head of the list of unused key lock states. */
+        private @Nullable KeyLockState pool;
+
+        private int poolSize;
+
+        @Nullable KeyLockState get(LockKey key, int slotHash) {
+            int mask = keys.length - 1;
+
+            for (int i = slotHash & mask; keys[i] != null; i = (i + 1) & mask) {
+                if (hashes[i] == slotHash && keys[i].equals(key)) {
+                    return states[i];
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Puts a state for a key that is not present in the table.
+         */
+        void put(LockKey key, int slotHash, KeyLockState state) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+
+            int mask = keys.length - 1;
+
+            int i = slotHash & mask;
+
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+
+            hashes[i] = slotHash;
+            keys[i] = key;
+            states[i] = state;
+
+            size++;
+        }
+
+        void remove(LockKey key, int slotHash) {
+            int mask = keys.length - 1;
+
+            int i = slotHash & mask;
+
+            while (!(hashes[i] == slotHash && key.equals(keys[i]))) {
+                assert keys[i] != null : key;
+
+                i = (i + 1) & mask;
+            }
+
+            // Backward shift deletion: move the following entries of the cluster to the hole, unless they are already in place.
+            for (int j = (i + 1) & mask; keys[j] != null; j = (j + 1) & mask) {
+                int home = hashes[j] & mask;
+
+                boolean inPlace = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+
+                if (!inPlace) {
+                    hashes[i] = hashes[j];
+                    keys[i] = keys[j];
+                    states[i] = states[j];
+
+                    i = j;
+                }
+            }
+
+            hashes[i] = 0;
+            keys[i] = null;
+            states[i] = null;
+
+            size--;
+
+            // Shrink a table that has drained after a burst of keys, the margin to the growth threshold avoids resizing back and forth.
+            if (keys.length > INITIAL_STRIPE_CAPACITY && size * 8 < keys.length) {
+                resize(keys.length / 2);
+            }
+        }
+
+        @Nullable KeyLockState pooledState() {
+            KeyLockState state = pool;
+
+            if (state != null) {
+                pool = state.nextPooled;
+                state.nextPooled = null;
+
+                poolSize--;
+            }
+
+            return state;
+        }
+
+        void release(KeyLockState state) {
+            if (poolSize < MAX_POOLED_STATES) {
+                state.nextPooled = pool;
+                pool = state;
+
+                poolSize++;
+            }
+        }
+
+        private void resize(int capacity) {
+            int[] oldHashes = hashes;
+            LockKey[] oldKeys = keys;
+            KeyLockState[] oldStates = states;
+
+            hashes = new int[capacity];
+            keys = new LockKey[capacity];
+            states = new KeyLockState[capacity];
+            size = 0;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    put(oldKeys[i], oldHashes[i], oldStates[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lock keys of a transaction. A key is kept once, even if the transaction releases it with a downgrade and locks it again.
+     */
+    private static class TxLockKeys {
+        private final Set<LockKey> keys = new HashSet<>();
+
+        synchronized void add(LockKey key) {
+            keys.add(key);
+        }
+
+        synchronized List<LockKey> keys() {
+            return new ArrayList<>(keys);
+        }
+    }
+
+    /**
+     * Key lock, all the methods must be called under the latch of the stripe that contains the key.
+     */
+    private class KeyLockState {
+        /** Waiters, ordered by {@link #txComparator}. */
+        private WaiterRecord[] waiters = new WaiterRecord[2];
+
+        private int size;
+
+        /** Lock key, {@code null} if the state is not in use. */
+        private @Nullable LockKey key;
+
+        /** Next state in the pool of unused states. */
+        private @Nullable KeyLockState nextPooled;
+
+        /**
+         * Returns the index of the transaction waiter, or {@code -(insertion point) - 1} if there is no such waiter.
+         */
+        int indexOf(UUID txId) {
+            int low = 0;
+            int high = size - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+
+                int cmp = txComparator.compare(waiters[mid].txId, txId);
+
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -(low + 1);
+        }
+
+        void insert(int idx, WaiterRecord waiter) {
+            if (size == waiters.length) {
+                waiters = Arrays.copyOf(waiters, size * 2);
+            }
+
+            System.arraycopy(waiters, idx, waiters, idx + 1, size - idx);
+
+            waiters[idx] = waiter;
+
+            size++;
+        }
+
+        WaiterRecord remove(int idx) {
+            WaiterRecord removed = waiters[idx];
+
+            System.arraycopy(waiters, idx + 1, waiters, idx, size - idx - 1);
+
+            waiters[--size] = null;
+
+            return removed;
+        }
+
+        /**
+         * Checks current waiter. It can change the internal state of the waiter.
+         *
+         * @param waiter Checked waiter.
+         * @return True if current waiter ready to notify, false otherwise.
+         */
+        boolean isWaiterReadyToNotify(WaiterRecord waiter, boolean skipFail) {
+            LockMode intendedLockMode = waiter.intendedLockMode();
+
+            assert intendedLockMode != null : "Intended lock mode is null";
+
+            int idx = indexOf(waiter.txId);
+
+            for (int i = idx + 1; i < size; i++) {
+                WaiterRecord tmp = waiters[i];
+                LockMode currentlyAcquiredLockMode = tmp.lockMode;
+
+                if (currentlyAcquiredLockMode != null && !currentlyAcquiredLockMode.isCompatible(intendedLockMode)) {
+                    if (conflictFound(waiter.txId)) {
+                        // We treat the current lock as the abandoned one.
+                        waiter.fail(deadlockException(waiter, tmp, true));
+
+                        return true;
+                    } else if (!deadlockPreventionPolicy.usePriority() && deadlockPreventionPolicy.waitTimeout() == 0) {
+                        waiter.fail(deadlockException(waiter, tmp, false));
+
+                        return true;
+                    }
+
+                    return false;
+                }
+            }
+
+            for (int i = 0; i < idx; i++) {
+                WaiterRecord tmp = waiters[i];
+                LockMode currentlyAcquiredLockMode = tmp.lockMode;
+
+                if (currentlyAcquiredLockMode != null && !currentlyAcquiredLockMode.isCompatible(intendedLockMode)) {
+                    if (skipFail) {
+                        return false;
+                    } else if (conflictFound(waiter.txId)) {
+                        // We treat the current lock as the abandoned one.
+                        waiter.fail(deadlockException(waiter, tmp, true));
+
+                        return true;
+                    } else if (deadlockPreventionPolicy.waitTimeout() == 0) {
+                        waiter.fail(deadlockException(waiter, tmp, false));
+
+                        return true;
+                    } else {
+                        return false;
+                    }
+                }
+            }
+
+            waiter.lock();
+
+            return true;
+        }
+
+        /**
+         * Unlock compatible waiters.
+         *
+         * @return List of waiters to notify.
+         */
+        List<WaiterRecord> unlockCompatibleWaiters() {
+            if (!deadlockPreventionPolicy.usePriority() && deadlockPreventionPolicy.waitTimeout() == 0) {
+                return emptyList();
+            }
+
+            List<WaiterRecord> toNotify = new ArrayList<>();
+
+            for (int i = 0; i < size; i++) {
+                WaiterRecord tmp = waiters[i];
+
+                if (tmp.hasLockIntent() && isWaiterReadyToNotify(tmp, true)) {
+                    assert !tmp.hasLockIntent() : "This waiter in not locked for notification [waiter=" + tmp + ']';
+
+                    toNotify.add(tmp);
+                }
+            }
+
+            if (deadlockPreventionPolicy.usePriority() && deadlockPreventionPolicy.waitTimeout() >= 0) {
+                List<WaiterRecord> toFail = new ArrayList<>();
+
+                for (int i = 0; i < size; i++) {
+                    WaiterRecord tmp = waiters[i];
+
+                    if (tmp.hasLockIntent() && isWaiterReadyToNotify(tmp, false)) {
+                        assert tmp.hasLockIntent() : "Only failed waiter can be notified here [waiter=" + tmp + ']';
+
+                        toNotify.add(tmp);
+                        toFail.add(tmp);
+                    }
+                }
+
+                for (WaiterRecord failed : toFail) {
+                    if (failed.locked()) {
+                        failed.refuseIntent();
+                    } else {
+                        remove(indexOf(failed.txId));
+                    }
+                }
+            }
+
+            return toNotify;
+        }
+
+        private PossibleDeadlockOnLockAcquireException deadlockException(WaiterRecord waiter, WaiterRecord holder, boolean abandoned) {
+            return new PossibleDeadlockOnLockAcquireException(
+                    waiter.txId,
+                    holder.txId,
+                    waiter.intendedLockMode(),
+                    holder.lockMode,
+                    abandoned,
+                    txStateVolatileStorage
+            );
+        }
+
+        /**
+         * Notifies about the lock conflict found between transactions.
+         *
+         * @param acquirerTx Transaction which tries to acquire the lock.
+         * @return True if the conflict connected with an abandoned transaction, false in the other case.
+         */
+        private boolean conflictFound(UUID acquirerTx) {
+            Set<UUID> lockHolderTxs = new HashSet<>();
+
+            for (int i = 0; i < size; i++) {
+                lockHolderTxs.add(waiters[i].txId);
+            }
+
+            CompletableFuture<Void> eventResult = fireEvent(LOCK_CONFLICT, new LockEventParameters(acquirerTx, lockHolderTxs));
+            // No async handling is expected.
+            // TODO: https://issues.apache.org/jira/browse/IGNITE-21153
+            assert eventResult.isDone() : "Async lock conflict handling is not supported";
+
+            return eventResult.isCompletedExceptionally();
+        }
+    }
+
+    /**
+     * A compact waiter record. Lock modes are kept as bit masks by {@link LockMode#ordinal()}, lock counters are only allocated when a
+     * lock mode is reentered.
+     */
+    private static class WaiterRecord implements Waiter {
+        /** Waiter transaction id. */
+        private final UUID txId;
+
+        /** Lock modes with non-zero counters. */
+        private int lockMask;
+
+        /** Lock counters by lock mode, {@code null} if every lock mode from {@link #lockMask} is held once. */
+        private int @Nullable [] counters;
+
+        /** Lock modes that are marked as intended, but have not been taken yet. */
+        private int intendedMask;
+
+        /** Locked future. */
+        @IgniteToStringExclude
+        private CompletableFuture<Void> fut;
+
+        /** The lock mode to intend to hold. This is NOT specific to intention lock modes, such as IS and IX. */
+        private @Nullable LockMode intendedLockMode;
+
+        /** The lock mode. */
+        private @Nullable LockMode lockMode;
+
+        /** This field has a value when the waiter couldn't lock a key. */
+        private @Nullable Exception ex;
+
+        WaiterRecord(UUID txId, LockMode lockMode) {
+            this.fut = new CompletableFuture<>();
+            this.txId = txId;
+            this.intendedLockMode = lockMode;
+
+            lockMask = bit(lockMode);
+            intendedMask = bit(lockMode);
+        }
+
+        /**
+         * Takes the lock mode once more, the waiter must already hold a lock that allows to reenter this mode.
+         *
+         * @param mode Lock mode.
+         */
+        void reenter(LockMode mode) {
+            ex = null;
+
+            addLock(mode);
+
+            recalculate();
+        }
+
+        /**
+         * Adds an intention to take the lock mode.
+         *
+         * @param mode Lock mode.
+         */
+        void upgrade(LockMode mode) {
+            if (!hasLockIntent()) {
+                fut = new CompletableFuture<>();
+            }
+
+            ex = null;
+
+            addLock(mode);
+
+            intendedMask |= bit(mode);
+
+            recalculate();
+        }
+
+        /**
+         * Removes a lock mode and recalculates the lock supremums.
+         *
+         * @param modeToRemove Mode without which, the recalculation will happen.
+         * @return Previous lock mode.
+         */
+        @Nullable LockMode recalculateMode(LockMode modeToRemove) {
+            if (!removeLock(modeToRemove)) {
+                return lockMode;
+            }
+
+            return recalculate();
+        }
+
+        /**
+         * Removes all locks that were intended to hold.
+         */
+        void refuseIntent() {
+            lockMask &= ~intendedMask;
+
+            if (counters != null) {
+                for (int i = 0; i < LOCK_MODES.length; i++) {
+                    if ((intendedMask & (1 << i)) != 0) {
+                        counters[i] = 0;
+                    }
+                }
+            }
+
+            intendedMask = 0;
+            intendedLockMode = null;
+        }
+
+        private void addLock(LockMode mode) {
+            int ordinal = mode.ordinal();
+
+            if ((lockMask & bit(mode)) == 0) {
+                lockMask |= bit(mode);
+
+                if (counters != null) {
+                    counters[ordinal] = 1;
+                }
+            } else {
+                if (counters == null) {
+                    counters = new int[LOCK_MODES.length];
+
+                    for (int i = 0; i < LOCK_MODES.length; i++) {
+                        counters[i] = (lockMask >>> i) & 1;
+                    }
+                }
+
+                counters[ordinal]++;
+            }
+        }
+
+        /**
+         * Removes a lock mode.
+         *
+         * @return True if the lock is not locked in the passed mode, false otherwise.
+         */
+        private boolean removeLock(LockMode mode) {
+            int ordinal = mode.ordinal();
+
+            if (counters == null || counters[ordinal] < 2) {
+                lockMask &= ~bit(mode);
+
+                if (counters != null) {
+                    counters[ordinal] = 0;
+                }
+
+                return true;
+            } else {
+                counters[ordinal]--;
+
+                return false;
+            }
+        }
+
+        /**
+         * Recalculates lock supremums.
+         *
+         * @return Previous lock mode.
+         */
+        private @Nullable LockMode recalculate() {
+            LockMode newIntendedLockMode = null;
+            LockMode newLockMode = null;
+
+            for (LockMode mode : LOCK_MODES) {
+                if ((lockMask & bit(mode)) == 0) {
+                    continue;
+                }
+
+                if ((intendedMask & bit(mode)) != 0) {
+                    newIntendedLockMode = newIntendedLockMode == null ? mode : LockMode.supremum(newIntendedLockMode, mode);
+                } else {
+                    newLockMode = newLockMode == null ? mode : LockMode.supremum(newLockMode, mode);
+                }
+            }
+
+            LockMode mode = lockMode;
+
+            lockMode = newLockMode;
+            intendedLockMode = newLockMode != null && newIntendedLockMode != null ? LockMode.supremum(newLockMode, newIntendedLockMode)
+                    : newIntendedLockMode;
+
+            return mode;
+        }
+
+        /** Grant a lock. */
+        private void lock() {
+            assert intendedLockMode != null : "Intended lock mode is null";
+
+            lockMode = intendedLockMode;
+
+            intendedLockMode = null;
+
+            intendedMask = 0;
+        }
+
+        /**
+         * Fail the waiter with the exception.
+         *
+         * @param e Exception.
+         */
+        private void fail(Exception e) {
+            ex = e;
+        }
+
+        /** Notifies a future listeners. */
+        private void notifyLocked() {
+            if (ex != null) {
+                fut.completeExceptionally(ex);
+            } else {
+                assert lockMode != null : "Lock mode is null";
+
+                fut.complete(null);
+            }
+        }
+
+        /**
+         * Checks is the waiter has any intended to lock a key.
+         *
+         * @return True if the waiter has an intended lock, false otherwise.
+         */
+        boolean hasLockIntent() {
+            return intendedLockMode != null;
+        }
+
+        @Override
+        public UUID txId() {
+            return txId;
+        }
+
+        @Override
+        public boolean locked() {
+            return lockMode != null;
+        }
+
+        @Override
+        public @Nullable LockMode lockMode() {
+            return lockMode;
+        }
+
+        @Override
+        public @Nullable LockMode intendedLockMode() {
+            return intendedLockMode;
+        }
+
+        @Override
+        public String toString() {
+            return S.toString(WaiterRecord.class, this, "granted", fut.isDone() && !fut.isCompletedExceptionally());
+        }
+
+        private static int bit(LockMode mode) {
+            return 1 << mode.ordinal();
+        }
+    }
+}
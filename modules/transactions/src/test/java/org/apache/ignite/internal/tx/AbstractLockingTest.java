@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.tx;
 
 import static org.apache.ignite.internal.tx.LockMode.S;
+import static org.apache.ignite.internal.tx.impl.LockManagers.HEAP_TYPE;
+import static org.apache.ignite.internal.tx.impl.LockManagers.STRIPED_TYPE;
 import static org.apache.ignite.internal.tx.LockMode.X;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -34,19 +36,29 @@ import org.apache.ignite.internal.configuration.testframework.InjectConfiguratio
 import org.apache.ignite.internal.lang.IgniteBiTuple;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
 import org.apache.ignite.internal.tx.impl.VolatileTxStateMetaStorage;
 import org.apache.ignite.internal.tx.test.TestTransactionIds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
- * Abstract class making lock manager tests more simple.
+ * Abstract class making lock manager tests more simple. Every test is run against all the lock manager implementations.
  */
 @ExtendWith(ConfigurationExtension.class)
+@ParameterizedClass(name = "lockManagerType = {0}")
+@ValueSource(strings = {HEAP_TYPE, STRIPED_TYPE})
 public abstract class AbstractLockingTest extends BaseIgniteAbstractTest {
     @InjectConfiguration
     private SystemLocalConfiguration systemLocalConfiguration;
 
+    /** Type of the tested lock manager, see {@link org.apache.ignite.internal.tx.impl.LockManagers}. */
+    @Parameter
+    private String lockManagerType;
+
     protected LockManager lockManager;
     protected VolatileTxStateMetaStorage txStateVolatileStorage;
     private final Map<UUID, Map<IgniteBiTuple<LockKey, LockMode>, CompletableFuture<Lock>>> locks = new HashMap<>();
@@ -60,11 +72,26 @@ public abstract class AbstractLockingTest extends BaseIgniteAbstractTest {
 
     protected LockManager lockManager(DeadlockPreventionPolicy deadlockPreventionPolicy) {
         txStateVolatileStorage = VolatileTxStateMetaStorage.createStarted();
-        HeapLockManager lockManager = new HeapLockManager(systemLocalConfiguration, txStateVolatileStorage);
+        LockManager lockManager = newLockManager(lockManagerType, systemLocalConfiguration, txStateVolatileStorage);
         lockManager.start(deadlockPreventionPolicy);
         return lockManager;
     }
 
+    static LockManager newLockManager(
+            String type,
+            SystemLocalConfiguration systemLocalConfiguration,
+            VolatileTxStateMetaStorage txStateVolatileStorage
+    ) {
+        switch (type) {
+            case HEAP_TYPE:
+                return new HeapLockManager(systemLocalConfiguration, txStateVolatileStorage);
+            case STRIPED_TYPE:
+                return new StripedLockManager(systemLocalConfiguration, txStateVolatileStorage);
+            default:
+                throw new IllegalArgumentException("Unknown lock manager type: " + type);
+        }
+    }
+
     protected UUID beginTx() {
         return TestTransactionIds.newTransactionId();
     }
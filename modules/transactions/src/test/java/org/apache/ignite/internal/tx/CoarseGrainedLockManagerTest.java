@@ -19,38 +19,85 @@ package org.apache.ignite.internal.tx;
 
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrowWithCauseOrSuppressed;
+import static org.apache.ignite.internal.tx.AbstractLockingTest.newLockManager;
+import static org.apache.ignite.internal.tx.impl.LockManagers.HEAP_TYPE;
+import static org.apache.ignite.internal.tx.impl.LockManagers.STRIPED_TYPE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
-import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.DeadlockPreventionPolicyImpl;
+import org.apache.ignite.internal.tx.impl.DeadlockPreventionPolicyImpl.TxIdComparators;
 import org.apache.ignite.internal.tx.impl.VolatileTxStateMetaStorage;
 import org.apache.ignite.internal.tx.impl.WaitDieDeadlockPreventionPolicy;
 import org.apache.ignite.internal.tx.test.TestTransactionIds;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Named;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.Parameter;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 /**
  * Tests coarse lock modes. It allows IX, S locks and upgrade from S to SIX (S, then IX).
+ *
+ * <p>Tests are run against all the lock manager implementations and deadlock prevention policies. Coarse locks only use the transaction
+ * comparator of a policy: older transactions are allowed to wait for the younger ones, and if the policy has a comparator, younger
+ * transactions are not allowed to wait for the older ones.
  */
 @ExtendWith(ConfigurationExtension.class)
+@ParameterizedClass(name = "lockManagerType = {0}, deadlockPreventionPolicy = {1}")
+@MethodSource("parameters")
 public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
     @InjectConfiguration
     private SystemLocalConfiguration systemLocalConfiguration;
 
-    private HeapLockManager lockManager;
+    @Parameter(0)
+    private String lockManagerType;
+
+    @Parameter(1)
+    private DeadlockPreventionPolicy deadlockPreventionPolicy;
+
+    private LockManager lockManager;
+
+    /** Whether the tested policy considers transactions with greater IDs to be older. */
+    private boolean reversedTxOrder;
+
+    private static Stream<Arguments> parameters() {
+        List<Named<DeadlockPreventionPolicy>> policies = List.of(
+                Named.of("wait-die", new WaitDieDeadlockPreventionPolicy()),
+                Named.of("reversed", new DeadlockPreventionPolicyImpl(TxIdComparators.REVERSED, 0)),
+                Named.of("no-wait", new DeadlockPreventionPolicyImpl(TxIdComparators.NONE, 0)),
+                Named.of("timeout", new DeadlockPreventionPolicyImpl(TxIdComparators.NONE, 200)),
+                Named.of("none", DeadlockPreventionPolicy.NO_OP)
+        );
+
+        return Stream.of(HEAP_TYPE, STRIPED_TYPE)
+                .flatMap(type -> policies.stream().map(policy -> Arguments.of(type, policy)));
+    }
 
     @BeforeEach
     void setUp() {
         lockManager = lockManager();
+
+        Comparator<UUID> txIdComparator = deadlockPreventionPolicy.txIdComparator();
+
+        UUID first = TestTransactionIds.newTransactionId();
+        UUID second = TestTransactionIds.newTransactionId();
+
+        reversedTxOrder = txIdComparator != null && txIdComparator.compare(first, second) > 0;
     }
 
     @AfterEach
@@ -58,17 +105,25 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
         assertTrue(lockManager.isEmpty());
     }
 
-    private HeapLockManager lockManager() {
+    private LockManager lockManager() {
         VolatileTxStateMetaStorage txStateVolatileStorage = VolatileTxStateMetaStorage.createStarted();
-        HeapLockManager lockManager = new HeapLockManager(systemLocalConfiguration, txStateVolatileStorage);
-        lockManager.start(new WaitDieDeadlockPreventionPolicy());
+        LockManager lockManager = newLockManager(lockManagerType, systemLocalConfiguration, txStateVolatileStorage);
+        lockManager.start(deadlockPreventionPolicy);
         return lockManager;
     }
 
+    /** Returns a new transaction ID, that is younger than all the previous ones from the point of view of the tested policy. */
+    private UUID newTx() {
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        // Negating the begin timestamp reverses the order of IDs and keeps the priority.
+        return reversedTxOrder ? new UUID(-txId.getMostSignificantBits(), txId.getLeastSignificantBits()) : txId;
+    }
+
     @Test
     public void testSimple() {
-        UUID older = TestTransactionIds.newTransactionId();
-        UUID newer = TestTransactionIds.newTransactionId();
+        UUID older = newTx();
+        UUID newer = newTx();
 
         CompletableFuture<Lock> fut1 = lockManager.acquire(newer, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
@@ -84,11 +139,11 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testSimpleInverse() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.S);
         assertTrue(fut1.isDone());
 
-        UUID txId2 = TestTransactionIds.newTransactionId();
+        UUID txId2 = newTx();
         CompletableFuture<Lock> fut2 = lockManager.acquire(txId2, lockKey(), LockMode.IX);
 
         assertThrowsWithCause(fut2::join, LockException.class);
@@ -104,12 +159,12 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
     @Test
     public void testComplex() {
         // Older.
-        UUID txId4 = TestTransactionIds.newTransactionId();
-        UUID txId5 = TestTransactionIds.newTransactionId();
+        UUID txId4 = newTx();
+        UUID txId5 = newTx();
         // Newer.
-        UUID txId1 = TestTransactionIds.newTransactionId();
-        UUID txId2 = TestTransactionIds.newTransactionId();
-        UUID txId3 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
+        UUID txId2 = newTx();
+        UUID txId3 = newTx();
 
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
@@ -144,23 +199,23 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testComplexInverse() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.S);
         assertTrue(fut1.isDone());
 
-        UUID txId2 = TestTransactionIds.newTransactionId();
+        UUID txId2 = newTx();
         CompletableFuture<Lock> fut2 = lockManager.acquire(txId2, lockKey(), LockMode.S);
         assertTrue(fut2.isDone());
 
-        UUID txId3 = TestTransactionIds.newTransactionId();
+        UUID txId3 = newTx();
         CompletableFuture<Lock> fut3 = lockManager.acquire(txId3, lockKey(), LockMode.S);
         assertTrue(fut3.isDone());
 
-        UUID txId4 = TestTransactionIds.newTransactionId();
+        UUID txId4 = newTx();
         CompletableFuture<Lock> fut4 = lockManager.acquire(txId4, lockKey(), LockMode.IX);
         assertThrowsWithCause(fut4::join, LockException.class);
 
-        UUID txId5 = TestTransactionIds.newTransactionId();
+        UUID txId5 = newTx();
         CompletableFuture<Lock> fut5 = lockManager.acquire(txId5, lockKey(), LockMode.IX);
         assertThrowsWithCause(fut5::join, LockException.class);
 
@@ -180,7 +235,7 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testUpgrade() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
 
@@ -192,7 +247,7 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testUpgradeReverse() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.S);
         assertTrue(fut1.isDone());
 
@@ -204,11 +259,11 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testUpgradeMulti() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
 
-        UUID txId2 = TestTransactionIds.newTransactionId();
+        UUID txId2 = newTx();
         CompletableFuture<Lock> fut2 = lockManager.acquire(txId2, lockKey(), LockMode.IX);
         assertTrue(fut2.isDone());
 
@@ -221,11 +276,11 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testUpgradeReverseMulti() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.S);
         assertTrue(fut1.isDone());
 
-        UUID txId2 = TestTransactionIds.newTransactionId();
+        UUID txId2 = newTx();
         CompletableFuture<Lock> fut2 = lockManager.acquire(txId2, lockKey(), LockMode.S);
         assertTrue(fut2.isDone());
 
@@ -238,7 +293,7 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testReenter() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
 
@@ -250,7 +305,7 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testReenter2() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.S);
         assertTrue(fut1.isDone());
 
@@ -262,8 +317,8 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testUpgradeAndLockRequest() {
-        UUID older = TestTransactionIds.newTransactionId();
-        UUID newer = TestTransactionIds.newTransactionId();
+        UUID older = newTx();
+        UUID newer = newTx();
 
         CompletableFuture<Lock> fut1 = lockManager.acquire(newer, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
@@ -283,8 +338,8 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testUpgradeAndLockRequestReverse() {
-        UUID older = TestTransactionIds.newTransactionId();
-        UUID newer = TestTransactionIds.newTransactionId();
+        UUID older = newTx();
+        UUID newer = newTx();
 
         CompletableFuture<Lock> fut1 = lockManager.acquire(newer, lockKey(), LockMode.S);
         assertTrue(fut1.isDone());
@@ -304,14 +359,14 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testUpgradeAndLockRequest2() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
 
         CompletableFuture<Lock> fut2 = lockManager.acquire(txId1, lockKey(), LockMode.S);
         assertTrue(fut2.isDone());
 
-        UUID txId2 = TestTransactionIds.newTransactionId();
+        UUID txId2 = newTx();
         CompletableFuture<Lock> fut3 = lockManager.acquire(txId2, lockKey(), LockMode.IX);
         assertThrowsWithCause(fut3::join, LockException.class);
 
@@ -320,14 +375,14 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testUpgradeAndLockRequestReverse2() {
-        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId1 = newTx();
         CompletableFuture<Lock> fut1 = lockManager.acquire(txId1, lockKey(), LockMode.S);
         assertTrue(fut1.isDone());
 
         CompletableFuture<Lock> fut2 = lockManager.acquire(txId1, lockKey(), LockMode.IX);
         assertTrue(fut2.isDone());
 
-        UUID txId2 = TestTransactionIds.newTransactionId();
+        UUID txId2 = newTx();
         CompletableFuture<Lock> fut3 = lockManager.acquire(txId2, lockKey(), LockMode.IX);
         assertThrowsWithCause(fut3::join, LockException.class);
 
@@ -336,8 +391,8 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testDeadlockAvoidance() {
-        UUID older = TestTransactionIds.newTransactionId();
-        UUID newer = TestTransactionIds.newTransactionId();
+        UUID older = newTx();
+        UUID newer = newTx();
 
         CompletableFuture<Lock> fut1 = lockManager.acquire(newer, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
@@ -346,7 +401,13 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
         assertTrue(fut2.isDone());
 
         CompletableFuture<Lock> fut3 = lockManager.acquire(newer, lockKey2(), LockMode.S);
-        assertThrowsWithCause(fut3::join, LockException.class);
+
+        if (deadlockPreventionPolicy.usePriority()) {
+            assertThrowsWithCause(fut3::join, LockException.class);
+        } else {
+            // Without a comparator, the younger transaction is allowed to wait too.
+            assertFalse(fut3.isDone());
+        }
 
         CompletableFuture<Lock> fut4 = lockManager.acquire(older, lockKey(), LockMode.S);
         assertFalse(fut4.isDone());
@@ -360,8 +421,8 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testReleaseWaitingTx() {
-        UUID older = TestTransactionIds.newTransactionId();
-        UUID newer = TestTransactionIds.newTransactionId();
+        UUID older = newTx();
+        UUID newer = newTx();
 
         CompletableFuture<Lock> fut1 = lockManager.acquire(newer, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
@@ -378,8 +439,8 @@ public class CoarseGrainedLockManagerTest extends BaseIgniteAbstractTest {
 
     @Test
     public void testFailWaiter() {
-        UUID older = TestTransactionIds.newTransactionId();
-        UUID newer = TestTransactionIds.newTransactionId();
+        UUID older = newTx();
+        UUID newer = newTx();
 
         CompletableFuture<Lock> fut1 = lockManager.acquire(newer, lockKey(), LockMode.IX);
         assertTrue(fut1.isDone());
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runMultiThreaded;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrowWithCauseOrSuppressed;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.apache.ignite.internal.tx.impl.HeapLockManager.DEFAULT_SLOTS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.configuration.SystemLocalConfiguration;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.configuration.utils.SystemConfigurationPropertyCompatibilityChecker;
+import org.apache.ignite.internal.tx.impl.LockManagers;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
+import org.apache.ignite.internal.tx.impl.VolatileTxStateMetaStorage;
+import org.apache.ignite.internal.tx.impl.WaitDieDeadlockPreventionPolicy;
+import org.apache.ignite.internal.tx.test.TestTransactionIds;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link StripedLockManager}.
+ */
+public class StripedLockManagerTest extends AbstractLockManagerTest {
+    @Override
+    protected LockManager newInstance(SystemLocalConfiguration systemLocalConfiguration) {
+        VolatileTxStateMetaStorage txStateVolatileStorage = VolatileTxStateMetaStorage.createStarted();
+        StripedLockManager lockManager = new StripedLockManager(systemLocalConfiguration, txStateVolatileStorage);
+        lockManager.start(new WaitDieDeadlockPreventionPolicy());
+        return lockManager;
+    }
+
+    @Override
+    protected LockKey lockKey() {
+        return new LockKey(0, "test");
+    }
+
+    @Test
+    public void testLockTableOverflow() throws Exception {
+        int maxSlots = 16;
+
+        VolatileTxStateMetaStorage txStateVolatileStorage = VolatileTxStateMetaStorage.createStarted();
+        StripedLockManager lockManager = new StripedLockManager(maxSlots, txStateVolatileStorage);
+        lockManager.start(new WaitDieDeadlockPreventionPolicy());
+
+        UUID[] txs = new UUID[maxSlots];
+
+        for (int i = 0; i < maxSlots; i++) {
+            txs[i] = TestTransactionIds.newTransactionId();
+            lockManager.acquire(txs[i], new LockKey(txs[i], txs[i]), LockMode.S).get();
+        }
+
+        UUID overflowTx = TestTransactionIds.newTransactionId();
+
+        CompletableFuture<Lock> overflowLockFut = lockManager.acquire(overflowTx, new LockKey(overflowTx, overflowTx), LockMode.S);
+
+        assertThat(overflowLockFut, willThrowWithCauseOrSuppressed(
+                LockTableOverflowException.class,
+                "Failed to acquire a lock due to lock table overflow"
+        ));
+
+        for (int i = 0; i < maxSlots; i++) {
+            lockManager.releaseAll(txs[i]);
+        }
+
+        overflowLockFut = lockManager.acquire(overflowTx, new LockKey(overflowTx, overflowTx), LockMode.S);
+
+        assertThat(overflowLockFut, willCompleteSuccessfully());
+
+        lockManager.releaseAll(overflowTx);
+
+        assertTrue(lockManager.isEmpty());
+    }
+
+    @Test
+    public void testLockTableOverflowUnderContention() throws Exception {
+        int maxSlots = 64;
+
+        VolatileTxStateMetaStorage txStateVolatileStorage = VolatileTxStateMetaStorage.createStarted();
+        StripedLockManager lockManager = new StripedLockManager(maxSlots, txStateVolatileStorage);
+        lockManager.start(new WaitDieDeadlockPreventionPolicy());
+
+        AtomicInteger acquired = new AtomicInteger();
+
+        runMultiThreaded(() -> {
+            UUID txId = TestTransactionIds.newTransactionId();
+
+            for (int i = 0; i < maxSlots; i++) {
+                if (!lockManager.acquire(txId, new LockKey(txId, i), LockMode.S).isCompletedExceptionally()) {
+                    acquired.incrementAndGet();
+                }
+            }
+
+            return null;
+        }, 8, "lock-acquirer");
+
+        assertThat(acquired.get(), is(maxSlots));
+        assertThat(lockManager.available(), is(0));
+    }
+
+    @Test
+    public void testKeyIsTrackedOnceAfterDowngradeAndReacquire() {
+        UUID txId = TestTransactionIds.newTransactionId();
+        LockKey key = lockKey();
+
+        assertThat(lockManager.acquire(txId, key, LockMode.S), willCompleteSuccessfully());
+
+        // Releases the only lock mode, the transaction no longer waits for the key.
+        lockManager.release(txId, key, LockMode.S);
+
+        assertThat(lockManager.acquire(txId, key, LockMode.S), willCompleteSuccessfully());
+
+        List<Lock> locks = new ArrayList<>();
+        lockManager.locks(txId).forEachRemaining(locks::add);
+
+        assertThat(locks, hasSize(1));
+
+        lockManager.releaseAll(txId);
+
+        assertTrue(lockManager.isEmpty());
+    }
+
+    @Test
+    public void testManyKeysInTx() throws Exception {
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        int keys = 10_000;
+
+        for (int i = 0; i < keys; i++) {
+            lockManager.acquire(txId, new LockKey(i, i), LockMode.X).get();
+        }
+
+        assertThat(((StripedLockManager) lockManager).available(), is(DEFAULT_SLOTS - keys));
+
+        for (int i = 0; i < keys; i++) {
+            assertTrue(lockManager.waiter(new LockKey(i, i), txId).locked());
+        }
+
+        lockManager.releaseAll(txId);
+
+        assertTrue(lockManager.isEmpty());
+        assertThat(((StripedLockManager) lockManager).available(), is(DEFAULT_SLOTS));
+    }
+
+    @Test
+    public void testNonDefaultConfiguration(
+            @InjectConfiguration("mock.properties: { lockMapSize: \"42\" }")
+            SystemLocalConfiguration systemLocalConfiguration
+    ) {
+        VolatileTxStateMetaStorage txStateVolatileStorage = VolatileTxStateMetaStorage.createStarted();
+
+        var lockManager = new StripedLockManager(systemLocalConfiguration, txStateVolatileStorage);
+
+        lockManager.start(DeadlockPreventionPolicy.NO_OP);
+
+        assertThat(lockManager.available(), is(42));
+    }
+
+    @Test
+    public void testSelectedByConfiguration(
+            @InjectConfiguration("mock.properties: { lockManagerType: \"striped\" }")
+            SystemLocalConfiguration systemLocalConfiguration
+    ) {
+        LockManager lockManager = LockManagers.create(systemLocalConfiguration, VolatileTxStateMetaStorage.createStarted());
+
+        assertThat(lockManager, instanceOf(StripedLockManager.class));
+    }
+
+    @Test
+    public void testCompatibilityLockManagerTypePropertyNameWasNotChanged() {
+        SystemConfigurationPropertyCompatibilityChecker.checkSystemConfigurationPropertyNameWasNotChanged(
+                "LOCK_MANAGER_TYPE_PROPERTY_NAME",
+                "lockManagerType",
+                LockManagers.LOCK_MANAGER_TYPE_PROPERTY_NAME
+        );
+    }
+}
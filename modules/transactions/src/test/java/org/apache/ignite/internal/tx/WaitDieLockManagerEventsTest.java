@@ -17,13 +17,12 @@
 
 package org.apache.ignite.internal.tx;
 
-import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.WaitDieDeadlockPreventionPolicy;
 
 /**
- * Class that contains the tests for lock manager events producing for {@link HeapLockManager}.
+ * Class that contains the tests for lock manager events producing with {@link WaitDieDeadlockPreventionPolicy}.
  */
-public class HeapLockManagerEventsTest extends AbstractLockManagerEventsTest {
+public class WaitDieLockManagerEventsTest extends AbstractLockManagerEventsTest {
     @Override
     protected LockManager lockManager() {
         return lockManager(new WaitDieDeadlockPreventionPolicy());